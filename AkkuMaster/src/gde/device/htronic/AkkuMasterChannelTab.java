@@ -612,7 +612,7 @@ public class AkkuMasterChannelTab {
 														AkkuMasterChannelTab.this.recordSet.addPoints(points);
 
 														if (AkkuMasterChannelTab.this.recordSet.isChildOfActiveChannel() && AkkuMasterChannelTab.this.recordSet.equals(AkkuMasterChannelTab.this.channels.getActiveChannel().getActiveRecordSet())) {
-															AkkuMasterChannelTab.this.application.updateAllTabs(false);														}
+															AkkuMasterChannelTab.this.application.updateLiveTabs();														}
 													}
 													else {
 														// enable switching records sets
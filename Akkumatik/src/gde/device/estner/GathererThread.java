@@ -166,7 +166,7 @@ public class GathererThread extends Thread {
 							lastCycleTime1 = timeStep1;
 						}
 						if (recordSet1 != null && recordSet1.size() > 0 && recordSet1.isChildOfActiveChannel() && recordSet1.equals(this.channels.getActiveChannel().getActiveRecordSet())) {
-							GathererThread.this.application.updateAllTabs(false);
+							GathererThread.this.application.updateLiveTabs();
 						}
 						if (recordSet1 != null && recordSet1.get(0).realSize() < 3 || recordSet1 != null && recordSet1.get(0).realSize() % 10 == 0) {
 							this.device.updateVisibilityStatus(recordSet1, true);
@@ -224,7 +224,7 @@ public class GathererThread extends Thread {
 						}
 
 						if (recordSet2 != null && recordSet2.size() > 0 && recordSet2.isChildOfActiveChannel() && recordSet2.equals(this.channels.getActiveChannel().getActiveRecordSet())) {
-							GathererThread.this.application.updateAllTabs(false);
+							GathererThread.this.application.updateLiveTabs();
 						}
 						if (recordSet2 != null && recordSet2.get(0).realSize() < 3 || recordSet2 != null && recordSet2.get(0).realSize() % 10 == 0) {
 							this.device.updateVisibilityStatus(recordSet2, true);
@@ -19,7 +19,10 @@
 package gde.device.ardupilot;
 
 import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javax.xml.bind.JAXBException;
@@ -42,6 +45,7 @@ import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
 import gde.device.IDevice;
 import gde.exception.DataInconsitsentException;
+import gde.histo.utils.PathUtils;
 import gde.io.FileHandler;
 import gde.log.Level;
 import gde.messages.Messages;
@@ -1633,6 +1637,27 @@ public class ArduPilot extends DeviceConfiguration implements IDevice {
 		reader.start();
 	}
 
+	/**
+	 * @return the *.log extention
+	 */
+	@Override
+	public List<String> getReadableImportExtentions() {
+		return Arrays.asList(GDE.FILE_ENDING_DOT_LOG);
+	}
+
+	/**
+	 * read an ArduPilot *.log data file into the channels without any user interaction
+	 * @param filePath
+	 */
+	@Override
+	public void readImportFile(Path filePath) throws Exception {
+		if (!getReadableImportExtentions().contains(PathUtils.getFileExtention(filePath))) throw new UnsupportedOperationException(filePath.toString());
+
+		RecordSet activeRecordSet = ArduPilotLogReader.read(this.getDataBlockSeparator().value().charAt(0), filePath.toString(), this.getRecordSetStemNameReplacement());
+		this.updateVisibilityStatus(activeRecordSet, true);
+		activeRecordSet.descriptionAppendFilename(filePath.toString());
+	}
+
 	/**
 	 * @param record
 	 * @return true if if the given record is longitude or latitude of GPS data, such data needs translation for display as graph
@@ -18,12 +18,10 @@
 ****************************************************************************************/
 package gde.device.ardupilot;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -39,7 +37,6 @@ import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DataTypes;
 import gde.device.IDevice;
-import gde.device.InputTypes;
 import gde.device.MeasurementType;
 import gde.device.PropertyType;
 import gde.device.StatisticsType;
@@ -47,6 +44,7 @@ import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.exception.MissMatchDeviceException;
 import gde.exception.NotSupportedFileFormatException;
+import gde.io.CSVTokenizer;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -76,8 +74,7 @@ public class ArduPilotLogReader {
 	 * @throws IOException
 	 */
 	public static HashMap<String, String> getHeader(char separator, String filePath) throws NotSupportedFileFormatException, IOException {
-		String line = GDE.STRING_STAR;
-		BufferedReader reader = null; // to read the data
+		CSVTokenizer reader = null; // to read the data
 		HashMap<String, String> header = new HashMap<String, String>();
 		
 //    # output header info
@@ -102,17 +99,18 @@ public class ArduPilotLogReader {
 		
 		
 		try {
-			reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
+			reader = new CSVTokenizer(new FileInputStream(filePath), separator);
 			int lineCount = 0;
-			while (((line = reader.readLine()) != null)) {
+			while (reader.nextLine()) {
 				++lineCount;
 				
-				if (line.startsWith("Ardu")) { 
+				if (reader.startsWith("Ardu")) { 
+					String line = reader.getLine();
 					header.put("vehicletype", line.split(" ")[0]);	
 					header.put("firmwareversion", line.split(" ")[1]);	
 				}
-				else if (line.startsWith("Free")) {
-					header.put("freemem", line.split(" ")[2]);	
+				else if (reader.startsWith("Free")) {
+					header.put("freemem", reader.getLine().split(" ")[2]);	
 				}
 			}
 			header.put("sizelines", "" + lineCount);
@@ -146,8 +144,7 @@ public class ArduPilotLogReader {
 	 * @throws IOException
 	 */
 	public static LinkedHashMap<String, LogFMT> getSensorsMeasurements(String separator, String filePath) throws NotSupportedFileFormatException, IOException {
-		String line = GDE.STRING_STAR;
-		BufferedReader reader = null; // to read the data
+		CSVTokenizer reader = null; // to read the data
 		LinkedHashMap<String, LogFMT> logFmts = new LinkedHashMap<String, LogFMT>();
 		
 		//FMT, 128, 89, FMT, BBnNZ, Type,Length,Name,Format
@@ -159,9 +156,10 @@ public class ArduPilotLogReader {
 	  //	#define GPS_UNITS  "s---SmDUmnhn-"
 	  //	#define GPS_MULTS  "F---0BGGB000-"
 		try {
-			reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-			while (((line = reader.readLine()) != null)) {				
-				if (line.startsWith("FMT")) { //formating specification
+			reader = new CSVTokenizer(new FileInputStream(filePath), separator.charAt(0));
+			while (reader.nextLine()) {
+				if (reader.startsWith("FMT")) { //formating specification
+					String line = reader.getLine();
 					String[] tmpFMT = line.split(", ");
 					switch (ArduPilot.LogEntry.getLogEntry(tmpFMT[3])) { // make sure only enumerated member of LogEntry get used
 					case ACC:
@@ -215,11 +213,9 @@ public class ArduPilotLogReader {
 	 */
 	public static RecordSet read(char separator, String filePath, String recordSetNameExtend) throws NotSupportedFileFormatException, MissMatchDeviceException, IOException, DataInconsitsentException,
 			DataTypeException {
-		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
 		long inputFileSize = new File(filePath).length();
-		int progressLineLength = Math.abs(ArduPilotLogReader.application.getActiveDevice().getDataBlockSize(InputTypes.FILE_IO));
-		BufferedReader reader = null; // to read the data
+		CSVTokenizer reader = null; // to read the data
 		
 		Channel activeChannel = null;
 		ArduPilotLogReader.realUsedMeasurementCount = 0;
@@ -241,8 +237,8 @@ public class ArduPilotLogReader {
 					throw e;
 				}
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				while (((line = reader.readLine()) != null) && line.matches(ArduPilotLogReader.pattern)) {
+				reader = new CSVTokenizer(new FileInputStream(filePath), separator);
+				while (reader.nextLine() && reader.getLineLength() == 2 && reader.getLine().matches(ArduPilotLogReader.pattern)) {
 					// read until line does not starts with numbers
 				}
 
@@ -339,11 +335,24 @@ public class ArduPilotLogReader {
 					throw new DataInconsitsentException(String.format("mismatch recordSet size to detected point size\n%s \n%s", StringHelper.arrayToString(recordSet.getRecordNames()), StringHelper.arrayToString(updateRecordNames)));
 				}
 				
+				// map the log entry columns to the record ordinals once, instead of searching the records for each line
+				List<LogEntryColumns> logEntryColumns = new ArrayList<>();
+				for (LogFMT logEntryFormat : logEntries.values()) {
+					if (ArduPilot.LogEntry.getLogEntry(logEntryFormat.name) != ArduPilot.LogEntry.UNKNOWN) logEntryColumns.add(new LogEntryColumns(logEntryFormat, recordSet));
+				}
+
 				boolean isNewTimeStamp = false;
 				int lineNumber = 0;
-				while ((line = reader.readLine()) != null) {
+				while (reader.nextLine()) {
 					++lineNumber;
-					switch (ArduPilot.LogEntry.getLogEntry(line.split(", ")[0])) { // make sure only enumerated member of LogEntry get used
+					LogEntryColumns columns = null;
+					for (LogEntryColumns tmpColumns : logEntryColumns) {
+						if (reader.isEqual(0, tmpColumns.name)) {
+							columns = tmpColumns;
+							break;
+						}
+					}
+					switch (columns != null ? columns.logEntry : ArduPilot.LogEntry.UNKNOWN) { // make sure only enumerated member of LogEntry get used
 					case ACC:
 					case ARSP:
 					case BARO:
@@ -360,17 +369,13 @@ public class ArduPilotLogReader {
 					case PID:
 					case QUAT:
 					case GPS: //GPS, 3, 594438201, 6, 4.68, 44.0290459, -77.7367640, 3.13, 91.56, 0.00, 0.00				
-						log.log(Level.FINE, line);
-						String sensor = line.split(", ")[0];
-						LogFMT logEntry = logEntries.get(sensor);
-						int index = 0;
-						for (String name : logEntry.getMeasurementNames()) {
-							int entryOrdinal = recordSet.get(name).getOrdinal();
+						if (log.isLoggable(Level.FINE)) log.log(Level.FINE, reader.getLine());
+						for (int index = 0; index < columns.ordinals.length; index++) {
+							int entryOrdinal = columns.ordinals[index];
 							//FMT, 130, 35, GPS, BIBcLLeeEe, Status,Time,NSats,HDop,Lat,Lng,RelAlt,Alt,Spd,GCrs
-							//log.log(Level.FINE, String.format("name: %s, ordinal: %d, fmt: %s, value: %s", name, entryOrdinal, logEntry.getFmt(index), line.split(", ")[index+1]));
 	
-							if (name.toLowerCase().contains("time")) {
-								long tmpTimeStamp = Long.parseLong(line.split(", ")[1+index]) *1000;
+							if (columns.isTime[index]) {
+								long tmpTimeStamp = reader.parseLong(1+index, false) *1000;
 								//log.log(Level.FINE, new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(tmpTimeStamp));
 								if (isFileBasedTimeStamp && lastTimeStamp == 0) {
 									startTimeStamp = lastTimeStamp = tmpTimeStamp;
@@ -382,18 +387,17 @@ public class ArduPilotLogReader {
 									lastTimeStamp = tmpTimeStamp;
 									isNewTimeStamp = true;
 								}
-								log.log(Level.FINE, new SimpleDateFormat("mm:ss.SSS").format((lastTimeStamp - startTimeStamp)/1000));
+								if (log.isLoggable(Level.FINE)) log.log(Level.FINE, new SimpleDateFormat("mm:ss.SSS").format((lastTimeStamp - startTimeStamp)/1000));
 								points[entryOrdinal] = 0; //skip time entry (int) (lastTimeStamp - startTimeStamp);																
 							} else {
 								
 								try {
-									points[entryOrdinal] =  Integer.parseInt(""+ArduPilot.parseValue(logEntry.getFmt(index), line.split(", ")[1+index]));
+									points[entryOrdinal] = ArduPilotLogReader.parseValue(columns.fmts[index], reader, 1+index);
 								}
 								catch (NumberFormatException e) {
 									log.log(Level.WARNING, String.format("%s line %d -> NumberFormatException for %s", filePath, lineNumber, e.getMessage()));
 								}								
 							}
-							++index;
 						}
 						if (isNewTimeStamp) {
 							recordSet.addPoints(points, (lastTimeStamp - startTimeStamp)/1000.0); //time_ms
@@ -406,8 +410,7 @@ public class ArduPilotLogReader {
 					}
 
 
-					progressLineLength = progressLineLength > line.length() ? progressLineLength : line.length();
-					int progress = (int) (lineNumber*100/(inputFileSize/progressLineLength));
+					int progress = inputFileSize > 0 ? (int) (reader.getBytePosition() * 100 / inputFileSize) : 50;
 					if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) 	{
 						GDE.getUiNotification().setProgress(progress);
 						try {
@@ -457,6 +460,88 @@ public class ArduPilotLogReader {
 		return recordSet;
 	}
 
+	/**
+	 * columns of a log entry type mapped to the record ordinals and value formats
+	 */
+	static final class LogEntryColumns {
+		final String							name;
+		final ArduPilot.LogEntry	logEntry;
+		final int[]								ordinals;
+		final char[]							fmts;
+		final boolean[]						isTime;
+
+		LogEntryColumns(LogFMT logEntryFormat, RecordSet recordSet) {
+			List<String> measurementNames = logEntryFormat.getMeasurementNames();
+			this.name = logEntryFormat.name;
+			this.logEntry = ArduPilot.LogEntry.getLogEntry(logEntryFormat.name);
+			this.ordinals = new int[measurementNames.size()];
+			this.fmts = new char[measurementNames.size()];
+			this.isTime = new boolean[measurementNames.size()];
+			for (int i = 0; i < measurementNames.size(); i++) {
+				this.ordinals[i] = recordSet.get(measurementNames.get(i)).getOrdinal();
+				this.fmts[i] = logEntryFormat.getFmt(i).charAt(0);
+				this.isTime[i] = measurementNames.get(i).toLowerCase().contains("time");
+			}
+		}
+	}
+
+	/**
+	 * parse the value field according the log format without intermediate objects
+	 * @param fmt is the format character of the value
+	 * @param reader holds the current line
+	 * @param field is the index of the value field
+	 * @return the point value, same as {@code Integer.parseInt("" + ArduPilot.parseValue(fmt, value))}
+	 * @throws NumberFormatException if the value does not fit the format, array formats are not supported as point value
+	 */
+	static int parseValue(char fmt, CSVTokenizer reader, int field) throws NumberFormatException {
+		switch (fmt) {
+		case 'a'://int16_t[32]
+		case 'n'://char[4]
+		case 'N'://char[16]
+		case 'Z'://char[64]
+			throw new NumberFormatException(reader.getString(field));
+		case 'b'://int8_t
+		case 'B'://uint8_t
+		case 'M'://uint8_t flight mode
+			return (int) checkRange(reader.parseLong(field, false), Byte.MIN_VALUE, Byte.MAX_VALUE, reader, field) * 1000;
+		case 'h'://int16_t
+		case 'H'://uint16_t
+			return (int) checkRange(reader.parseLong(field, false), Short.MIN_VALUE, Short.MAX_VALUE, reader, field) * 1000;
+		case 'i'://int32_t
+		case 'I'://uint32_t
+			return (int) checkRange(reader.parseLong(field, false), Integer.MIN_VALUE, Integer.MAX_VALUE, reader, field) * 1000;
+		case 'f'://float
+			double value = reader.parseDouble(field);
+			float floatValue = (float) value;
+			if (value != Math.rint(value) && (isIntegral(floatValue) || isIntegral(Math.nextUp(floatValue)) || isIntegral(Math.nextDown(floatValue))))
+				floatValue = Float.parseFloat(reader.getString(field)); // rounding via double might differ next to an integer
+			return (int) floatValue * 1000;
+		case 'd'://double
+			return (int) reader.parseDouble(field) * 1000;
+		case 'c'://int16_t * 100
+		case 'C'://uint16_t * 100
+			return (int) checkRange(reader.parseLong(field, true), Short.MIN_VALUE, Short.MAX_VALUE, reader, field) * 1000;
+		case 'e'://int32_t * 100
+		case 'E'://uint32_t * 100
+			return (int) checkRange(reader.parseLong(field, true), Integer.MIN_VALUE, Integer.MAX_VALUE, reader, field) * 1000;
+		default:
+		case 'L'://int32_t latitude/longitude
+			return (int) checkRange(reader.parseLong(field, true), Integer.MIN_VALUE, Integer.MAX_VALUE, reader, field);
+		case 'q'://int64_t
+		case 'Q'://uint64_t
+			return (int) checkRange(reader.parseLong(field, false) * 1000, Integer.MIN_VALUE, Integer.MAX_VALUE, reader, field);
+		}
+	}
+
+	private static long checkRange(long value, long min, long max, CSVTokenizer reader, int field) throws NumberFormatException {
+		if (value < min || value > max) throw new NumberFormatException(reader.getString(field));
+		return value;
+	}
+
+	private static boolean isIntegral(float value) {
+		return value == Math.rint(value);
+	}
+
 	/**
 	 * setup GPS related measurement, this gets called while preparing records
 	 * @param dataType
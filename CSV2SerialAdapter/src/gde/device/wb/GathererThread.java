@@ -193,7 +193,7 @@ public class GathererThread extends Thread {
 							
 						if (log.isLoggable(Level.FINER)) log.logp(Level.TIME, GathererThread.$CLASS_NAME, $METHOD_NAME, "time after add = " + TimeLine.getFomatedTimeWithUnit(tmpCycleTime - startCycleTime)); //$NON-NLS-1$
 						if (channelRecordSet.size() > 0 && channelRecordSet.isChildOfActiveChannel() && channelRecordSet.equals(this.channels.getActiveChannel().getActiveRecordSet())) {
-							GathererThread.this.application.updateAllTabs(false);
+							GathererThread.this.application.updateLiveTabs();
 						}
 						if (measurementCount > 0 && measurementCount % 10 == 0) {
 							this.activeChannel = this.channels.getActiveChannel();
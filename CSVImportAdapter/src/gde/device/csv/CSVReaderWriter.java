@@ -44,12 +44,12 @@ import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
 import gde.device.IDevice;
-import gde.device.InputTypes;
 import gde.device.MeasurementType;
 import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.exception.MissMatchDeviceException;
 import gde.exception.NotSupportedFileFormatException;
+import gde.io.CSVTokenizer;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -204,11 +204,9 @@ public class CSVReaderWriter {
 	 */
 	public static RecordSet read(char separator, String filePath, String recordSetNameExtend) throws NotSupportedFileFormatException, MissMatchDeviceException, IOException, DataInconsitsentException,
 			DataTypeException {
-		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
 		long inputFileSize = new File(filePath).length();
-		int progressLineLength = Math.abs(CSVReaderWriter.application.getActiveDevice().getDataBlockSize(InputTypes.FILE_IO));
-		BufferedReader reader = null; // to read the data
+		CSVTokenizer tokenizer = null; // to read the data
 		IDevice device = CSVReaderWriter.application.getActiveDevice();
 		Channel activeChannel = null;
 
@@ -232,8 +230,8 @@ public class CSVReaderWriter {
 				fileHeader = CSVReaderWriter.evaluateType(separator, fileHeader, (DeviceConfiguration) device);
 				CSVReaderWriter.log.log(Level.FINE, "device name check ok, channel/configuration ok"); //$NON-NLS-1$
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				while (((line = reader.readLine()) != null) && line.matches(CSVReaderWriter.pattern)) {
+				tokenizer = new CSVTokenizer(new FileInputStream(filePath), separator);
+				while (tokenizer.nextLine() && tokenizer.getLine().matches(CSVReaderWriter.pattern)) {
 					// read until line does not starts with numbers
 				}
 
@@ -285,23 +283,23 @@ public class CSVReaderWriter {
 					throw new DataInconsitsentException(String.format("mismatch recordSet size to detected point size\n%s \n%s", StringHelper.arrayToString(recordSet.getRecordNames()), StringHelper.arrayToString(updateRecordNames)));
 				}
 				int lineNumber = 0;
-				while ((line = reader.readLine()) != null) {
+				while (tokenizer.nextLine()) {
 					++lineNumber;
-					if (line.startsWith("#")) {
+					if (tokenizer.startsWith('#')) {
+						String line = tokenizer.getLine();
 						if (recordSet.getRecordSetDescription().endsWith(GDE.LINE_SEPARATOR))
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line.substring(1) + GDE.LINE_SEPARATOR);
 						else
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line.replace('#', GDE.CHAR_BLANK) + GDE.LINE_SEPARATOR);
 						continue;
 					}
-					String[] dataStr = line.split(GDE.STRING_EMPTY + separator);
-					String data = dataStr[0].trim().replace(GDE.CHAR_COMMA, GDE.CHAR_DOT);
-					if (data.contains(GDE.STRING_COLON)) {
-						int hour = Integer.parseInt(data.substring(0, 2));
-						int minute = Integer.parseInt(data.substring(3, 5));
-						int second = Integer.parseInt(data.substring(6, 8));
+					if (tokenizer.indexOf(0, GDE.CHAR_COLON) >= 0) {
+						int hour = tokenizer.parseInt(0, 0, 2);
+						int minute = tokenizer.parseInt(0, 3, 2);
+						int second = tokenizer.parseInt(0, 6, 2);
+						int decimalIndex = tokenizer.lastIndexOfDecimalSeparator(0);
 						GregorianCalendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute, second);
-						long timeStamp = calendar.getTimeInMillis() + (data.contains(GDE.STRING_DOT) ? Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1)) : 0);
+						long timeStamp = calendar.getTimeInMillis() + (decimalIndex >= 0 ? tokenizer.parseInt(0, decimalIndex + 1, tokenizer.getLength(0) - decimalIndex - 1) : 0);
 
 						if (lastTimeStamp < timeStamp) {
 							time_ms = (int) (lastTimeStamp == 0 ? 0 : time_ms + (timeStamp - lastTimeStamp));
@@ -313,19 +311,13 @@ public class CSVReaderWriter {
 					}
 					else
 						// decimal time value
-						time_ms = Integer.valueOf(data).intValue() * (fileHeader.get(TRANSMITTER_TYPE) != null && fileHeader.get(TRANSMITTER_TYPE).equals(TRANSMITTER_TYPE_SPEKTRUM) ? 10 : 1);
+						time_ms = tokenizer.parseInt(0) * (fileHeader.get(TRANSMITTER_TYPE) != null && fileHeader.get(TRANSMITTER_TYPE).equals(TRANSMITTER_TYPE_SPEKTRUM) ? 10 : 1);
 
-					for (int i = 0; i < updateRecordNames.length && i < dataStr.length - 1; i++) { // only iterate over record names found in file
-						try {
-							data = dataStr[i + 1].trim().replace(GDE.CHAR_COMMA, GDE.CHAR_DOT).replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
-						}
-						catch (Exception e) {
-							data = "0";
-							CSVReaderWriter.log.log(Level.WARNING, String.format("Check line = %s", line));
-						}
+					for (int i = 0; i < updateRecordNames.length && i < tokenizer.getFieldCount() - 1; i++) { // only iterate over record names found in file
 						switch (recordSet.get(i).getDataType()) {
 						case GPS_LONGITUDE:
 						case GPS_LATITUDE:
+							String data = tokenizer.getString(i + 1).replace(GDE.CHAR_COMMA, GDE.CHAR_DOT).replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
 							points[i] = Double.valueOf(
 									data.replace("E", GDE.STRING_EMPTY).replace('W', GDE.CHAR_DASH).replace("N", GDE.STRING_EMPTY).replace('S', GDE.CHAR_DASH).replace(GDE.STRING_COLON, GDE.STRING_EMPTY)
 											.replace(GDE.STRING_DOT, GDE.STRING_EMPTY)).intValue();
@@ -333,7 +325,7 @@ public class CSVReaderWriter {
 
 						default:
 							try {
-								points[i] = Double.valueOf(Double.valueOf(data) * 1000.0).intValue();
+								points[i] = tokenizer.parseFixedPoint(i + 1);
 							}
 							catch (NumberFormatException e) {
 								//points[i] = 0;  //ignore and keep last value
@@ -343,8 +335,7 @@ public class CSVReaderWriter {
 					}
 					recordSet.addPoints(points, time_ms);
 
-					progressLineLength = progressLineLength > line.length() ? progressLineLength : line.length();
-					int progress = (int) (lineNumber*100/(inputFileSize/progressLineLength));
+					int progress = inputFileSize > 0 ? (int) (tokenizer.getBytePosition() * 100 / inputFileSize) : 50;
 					if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) 	{
 						GDE.getUiNotification().setProgress(progress);
 						try {
@@ -365,8 +356,8 @@ public class CSVReaderWriter {
 				if (GDE.isWithUi()) activeChannel.switchRecordSet(recordSetName);
 				//				activeChannel.get(recordSetName).checkAllDisplayable(); // raw import needs calculation of passive records
 
-				reader.close();
-				reader = null;
+				tokenizer.close();
+				tokenizer = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
@@ -382,7 +373,7 @@ public class CSVReaderWriter {
 			throw new IOException(Messages.getString(MessageIds.GDE_MSGW0012, new Object[] { filePath }));
 		}
 		finally {
-			if (reader != null) reader.close();
+			if (tokenizer != null) tokenizer.close();
 			GDE.getUiNotification().setProgress(100);
 			GDE.getUiNotification().setStatusMessage(GDE.STRING_EMPTY);
 			if (GDE.isWithUi()) {
@@ -40,11 +40,13 @@ import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
@@ -463,6 +465,21 @@ public abstract class DataAccess implements Cloneable {
 			return new FileOutputStream(targetFilePath.toFile());
 		}
 
+		@Override
+		public long getDeviceXmlLastModified(Path fileSubPath) {
+			return Paths.get(GDE.APPL_HOME_PATH).resolve(fileSubPath).toFile().lastModified();
+		}
+
+		@Override
+		public InputStream getDeviceSnapshotInputStream() throws FileNotFoundException {
+			return new FileInputStream(Paths.get(GDE.APPL_HOME_PATH, Settings.DEVICE_SNAPSHOT_FILE_NAME).toFile());
+		}
+
+		@Override
+		public OutputStream getDeviceSnapshotOutputStream() throws FileNotFoundException {
+			return new FileOutputStream(Paths.get(GDE.APPL_HOME_PATH, Settings.DEVICE_SNAPSHOT_FILE_NAME).toFile());
+		}
+
 		@SuppressWarnings("static-method")
 		@Nullable
 		public FileOutputStream getDeviceXmlOutputStream(String xmlFilePath) throws FileNotFoundException {
@@ -639,6 +656,12 @@ public abstract class DataAccess implements Cloneable {
 			return new FileInputStream(targetFilePath.toFile());
 		}
 
+		@Override
+		public FileChannel getCacheFileChannel(String directoryName, String fileName, OpenOption... options) throws IOException {
+			Path cacheDirectoryPath = Paths.get(GDE.APPL_HOME_PATH, Settings.HISTO_CACHE_ENTRIES_DIR_NAME, directoryName);
+			return FileChannel.open(cacheDirectoryPath.resolve(fileName), options);
+		}
+
 		@Override
 		public InputStream getCacheInputStream(String directoryName, String fileName) throws IOException {
 			Path cacheDirectoryPath = Paths.get(GDE.APPL_HOME_PATH, Settings.HISTO_CACHE_ENTRIES_DIR_NAME, directoryName);
@@ -1000,6 +1023,22 @@ public abstract class DataAccess implements Cloneable {
 	 */
 	public abstract OutputStream getDeviceXmlOutputStream(Path fileSubPath) throws FileNotFoundException;
 
+	/**
+	 * @param fileSubPath is a relative path based on the roaming folder
+	 * @return the last modified time of the device properties file or 0L if it does not exist
+	 */
+	public abstract long getDeviceXmlLastModified(Path fileSubPath);
+
+	/**
+	 * @return the inputStream for the snapshot of the device properties files read at the last start
+	 */
+	public abstract InputStream getDeviceSnapshotInputStream() throws FileNotFoundException;
+
+	/**
+	 * @return the outputStream for the snapshot of the device properties files read at this start
+	 */
+	public abstract OutputStream getDeviceSnapshotOutputStream() throws FileNotFoundException;
+
 	public abstract InputStream getGeoCodeInputStream(String geoFileName) throws FileNotFoundException;
 
 	public abstract boolean existsGeoCodeFile(String geoFileName);
@@ -1045,6 +1084,14 @@ public abstract class DataAccess implements Cloneable {
 
 	public abstract InputStream getCacheInputStream(String directoryName, String fileName) throws IOException;
 
+	/**
+	 * @param directoryName is the vault folder name
+	 * @param fileName is the name of a file in the vault folder
+	 * @param options specify how the file is opened
+	 * @return the channel for random access or memory mapping of the file
+	 */
+	public abstract FileChannel getCacheFileChannel(String directoryName, String fileName, OpenOption... options) throws IOException;
+
 	/**
 	 * @param vaultDirectory is the folderName
 	 * @param minVaultLength is the lower limit of bytes
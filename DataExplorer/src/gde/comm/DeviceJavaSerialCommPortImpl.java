@@ -97,6 +97,7 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 
 	InputStream														inputStream								= null;
 	OutputStream													outputStream							= null;
+	ReceiveBuffer												receiveBuffer							= null;
 
 	/**
 	 * normal constructor to be used within DataExplorer
@@ -316,9 +317,10 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 					if (this.deviceConfig.isRTS()) this.serialPort.setRTS();
 					if (this.deviceConfig.isDTR()) this.serialPort.setDTR();
 				}
-				// init in and out stream for writing and reading
-				this.inputStream = this.serialPort.getInputStream();
+				// init in and out stream for writing and reading, received bytes are collected by the event listener
+				this.inputStream = this.receiveBuffer = new ReceiveBuffer(this.serialPort.getInputStream());
 				this.outputStream = this.serialPort.getOutputStream();
+				this.serialPort.addDataListener(this);
 				this.isConnected = true;
 				if (this.application != null) this.application.setPortConnected(true);
 			} else {
@@ -422,20 +424,14 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 
 	/**
 	 * event handler method handles only events as previous registered
-	 * - activate the DATA_AVAILABLE notifier to read available data -> dataAvailable = true;
-	 * - activate the OUTPUT_BUFFER_EMPTY notifier -> dataAvailable = false;
+	 * - the DATA_AVAILABLE event moves the available data into the receive buffer
 	 */
 	public void serialEvent(SerialPortEvent event) {
 		final String $METHOD_NAME = "serialEvent"; //$NON-NLS-1$
 
-
-		byte[] newData = event.getReceivedData();
-		if (newData.length > 0) {
-			//this.dataAvailable = false;
-			if (log.isLoggable(Level.FINE)) log.logp(Level.FINE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "OUTPUT_BUFFER_EMPTY"); //$NON-NLS-1$
-		} else {
-			//this.dataAvailable = true;
-			if (log.isLoggable(Level.FINE)) log.logp(Level.FINE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "DATA_AVAILABLE"); //$NON-NLS-1$
+		if (event.getEventType() == SerialPort.LISTENING_EVENT_DATA_AVAILABLE) {
+			if (this.receiveBuffer != null) this.receiveBuffer.fill();
+			if (log.isLoggable(Level.FINER)) log.logp(Level.FINER, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "DATA_AVAILABLE"); //$NON-NLS-1$
 		}
 	}
 
@@ -449,31 +445,19 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec) throws IOException, TimeOutException {
 		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 2 ; // ms
 		int bytes = readBuffer.length;
 		int readBytes = 0;
-		int timeOutCounter = timeout_msec / (sleepTime + 18); //18 ms read blocking time
 
 		try {
 			if (this.application != null) this.application.setSerialRxOn();
-			wait4Bytes(bytes, timeout_msec - (timeout_msec / 5));
-
-
-			while (bytes != readBytes && timeOutCounter-- > 0) {
-				if (this.inputStream.available() > 0) {
-					readBytes += this.inputStream.read(readBuffer, 0 + readBytes, bytes - readBytes);
-				}
-				if (bytes != readBytes) {
-					WaitTimer.delay(sleepTime);
-				}
 
-				//this.dataAvailable = false;
-				if (timeOutCounter <= 0) {
-					TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { bytes, timeout_msec }));
-					log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-					log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-					throw e;
-				}
+			// blocks until the receive event listener has collected the bytes
+			readBytes = this.receiveBuffer.read(readBuffer, 0, bytes, timeout_msec);
+			if (bytes != readBytes) {
+				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { bytes, timeout_msec }));
+				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
+				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
+				throw e;
 			}
 
 			if (log.isLoggable(Level.FINE)) {
@@ -500,51 +484,7 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 	 * @throws TimeOutException
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec, boolean checkFailedQuery) throws IOException, FailedQueryException, TimeOutException {
-		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 10; // ms
-		int bytes = readBuffer.length;
-		int readBytes = 0;
-		int timeOutCounter = timeout_msec / (sleepTime + 18); //18 ms read blocking time
-
-		try {
-			if (this.application != null) this.application.setSerialRxOn();
-			WaitTimer.delay(2);
-
-			//loop inputStream and read available bytes
-			while (bytes != readBytes && timeOutCounter-- > 0) {
-				if (this.inputStream.available() > 0) {
-					readBytes += this.inputStream.read(readBuffer, 0 + readBytes, bytes - readBytes);
-				}
-				if (bytes != readBytes) {
-					WaitTimer.delay(sleepTime);
-				}
-
-//				if (timeOutCounter/4 <= 0 && readBytes == 0) {
-//					FailedQueryException e = new FailedQueryException(Messages.getString(MessageIds.GDE_MSGE0012, new Object[] { timeout_msec/4 }));
-//					log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage());
-//					throw e;
-//				}
-//				else 
-					if (timeOutCounter <= 0) {
-					TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { bytes, timeout_msec }));
-					log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-					log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-					throw e;
-				}
-			}
-
-			if (log.isLoggable(Level.FINE)) {
-				log.logp(Level.FINE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-			}
-		}
-		catch (IOException e) {
-			log.logp(Level.WARNING, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-			throw e;
-		}
-		finally {
-			if (this.application != null) this.application.setSerialRxOff();
-		}
-		return readBuffer;
+		return read(readBuffer, timeout_msec);
 	}
 
 	/**
@@ -559,24 +499,16 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec, Vector<Long> waitTimes) throws IOException, TimeOutException {
 		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 4; // ms
 		int bytes = readBuffer.length;
 		int readBytes = 0;
-		int timeOutCounter = timeout_msec / sleepTime;
 
 		try {
 			if (this.application != null) this.application.setSerialRxOn();
 			long startTime_ms = new Date().getTime();
 			wait4Bytes(timeout_msec);
 
-			while (bytes != readBytes && timeOutCounter-- > 0) {
-				readBytes += this.inputStream.read(readBuffer, readBytes, bytes - readBytes);
-				if (bytes != readBytes) {
-					WaitTimer.delay(sleepTime); //run synchronous do not use start() here
-				}
-			}
-			//this.dataAvailable = false;
-			if (timeOutCounter <= 0) {
+			readBytes = this.receiveBuffer.read(readBuffer, 0, bytes, timeout_msec);
+			if (bytes != readBytes) {
 				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { bytes, timeout_msec }));
 				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
 				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
@@ -611,17 +543,12 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 	 */
 	public long wait4Bytes(int timeout_msec) throws InterruptedException, TimeOutException, IOException {
 		final String $METHOD_NAME = "wait4Bytes"; //$NON-NLS-1$
-		int sleepTime = 1;
-		int timeOutCounter = timeout_msec / sleepTime;
 
-		while (0 == this.inputStream.available()) {
-			WaitTimer.delay(sleepTime);
-
-			if (timeOutCounter-- <= 0) {
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { "*", timeout_msec })); //$NON-NLS-1$ 
-				log.logp(Level.WARNING, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-				throw e;
-			}
+		if (0 == this.receiveBuffer.awaitAvailable(1, timeout_msec)) {
+			if (Thread.interrupted()) throw new InterruptedException();
+			TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { "*", timeout_msec })); //$NON-NLS-1$ 
+			log.logp(Level.WARNING, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
+			throw e;
 		}
 		return System.currentTimeMillis();
 	}
@@ -637,21 +564,11 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 	 */
 	public int wait4Bytes(int numBytes, int timeout_msec) throws IOException {
 		final String $METHOD_NAME = "wait4Bytes"; //$NON-NLS-1$
-		int sleepTime = 1; // msec
-		int timeOutCounter = timeout_msec / sleepTime;
-		int resBytes = 0;
 
-		while ((resBytes = this.inputStream.available()) < numBytes) {
-			WaitTimer.delay(sleepTime);
-
-			timeOutCounter--;
-			//if (log.isLoggable(Level.FINER)) log.logp(Level.FINER, "time out counter = " + counter);
-			if (timeOutCounter <= 0) {
-				log.logp(Level.WARNING, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, String.format("only %d of %d Bytes are available in %d msec", resBytes, numBytes, timeout_msec));
-				break;
-			}
+		int resBytes = this.receiveBuffer.awaitAvailable(numBytes, timeout_msec);
+		if (resBytes < numBytes) {
+			log.logp(Level.WARNING, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, String.format("only %d of %d Bytes are available in %d msec", resBytes, numBytes, timeout_msec));
 		}
-
 		return resBytes;
 	}
 
@@ -667,12 +584,10 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec, int stableIndex) throws IOException, TimeOutException {
 		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 4; // ms
 		int numAvailableBytes = readBuffer.length;
 		int readBytes = 0;
-		int timeOutCounter = timeout_msec / sleepTime;
 		if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "entry");
-		if (stableIndex >= timeOutCounter) {
+		if (stableIndex >= timeout_msec) {
 			log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, Messages.getString(MessageIds.GDE_MSGE0013));
 		}
 
@@ -684,20 +599,7 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 			if (numAvailableBytes > readBuffer.length) 
 				readBuffer = new byte[numAvailableBytes];
 
-			while (readBytes < numAvailableBytes && timeOutCounter-- > 0) {
-				readBytes += this.inputStream.read(readBuffer, 0 + readBytes, numAvailableBytes - readBytes);
-
-				if (numAvailableBytes != readBytes) {
-					WaitTimer.delay(sleepTime);
-				}
-			}
-			//this.dataAvailable = false;
-			if (timeOutCounter <= 0) {
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { numAvailableBytes, timeout_msec }));
-				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-				throw e;
-			}
+			readBytes = this.receiveBuffer.read(readBuffer, 0, numAvailableBytes, timeout_msec);
 
 			// resize the data buffer to real red data 
 			if (readBytes < readBuffer.length) {
@@ -740,11 +642,9 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec, int stableIndex, int minCountBytes) throws IOException, TimeOutException {
 		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 4; // ms
 		int expectedBytes = readBuffer.length;
 		int readBytes = 0;
-		int timeOutCounter = timeout_msec / sleepTime;
-		if (stableIndex >= timeOutCounter) {
+		if (stableIndex >= timeout_msec) {
 			log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, Messages.getString(MessageIds.GDE_MSGE0013));
 		}
 
@@ -753,20 +653,7 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 
 			expectedBytes = waitForStableReceiveBuffer(expectedBytes, timeout_msec, stableIndex, minCountBytes);
 
-			while (readBytes < expectedBytes && timeOutCounter-- > 0) {
-				readBytes += this.inputStream.read(readBuffer, 0 + readBytes, expectedBytes - readBytes);
-
-				if (expectedBytes != readBytes) {
-					WaitTimer.delay(sleepTime);
-				}
-			}
-			//this.dataAvailable = false;
-			if (timeOutCounter <= 0) {
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { expectedBytes, timeout_msec }));
-				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-				throw e;
-			}
+			readBytes = this.receiveBuffer.read(readBuffer, 0, Math.min(expectedBytes, readBuffer.length), timeout_msec);
 
 			// resize the data buffer to real red data 
 			if (readBytes < readBuffer.length) {
@@ -796,57 +683,24 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 	}
 
 	/**
-	 * waits until receive buffer is filled with number of expected bytes or does not change anymore in stableIndex cycles * 10 msec
+	 * waits until receive buffer is filled with number of expected bytes or does not receive bytes anymore for stableIndex msec
 	 * @param expectedBytes
 	 * @param timeout_msec in milli seconds, this is the maximum time this process will wait for stable byte count or maxBytes
-	 * @param stableIndex cycle count times 10 msec to be treat as stable
+	 * @param stableIndex time in msec without received bytes to be treat as stable, more than the USB serial adapter latency (FTDI latency timer 16 ms)
 	 * @return number of bytes in receive buffer
 	 * @throws InterruptedException 
 	 * @throws TimeOutException 
 	 * @throws IOException 
 	 */
 	public int waitForStableReceiveBuffer(int expectedBytes, int timeout_msec, int stableIndex) throws InterruptedException, TimeOutException, IOException {
-		final String $METHOD_NAME = "waitForStableReceiveBuffer"; //$NON-NLS-1$
-		int sleepTime = 1; // ms
-		int timeOutCounter = timeout_msec / sleepTime;
-		int stableCounter = stableIndex;
-		boolean isStable = false;
-		boolean isTimedOut = false;
-
-		// availableBytes are updated by event handler
-		int byteCounter = 0, numBytesAvailable = 0;
-		while (byteCounter < expectedBytes && !isStable && !isTimedOut) {
-			WaitTimer.delay(sleepTime);
-
-			if (byteCounter == (numBytesAvailable = this.inputStream.available()) && byteCounter > 0) {
-				if (log.isLoggable(Level.FINER)) log.logp(Level.FINER, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "stableCounter = " + stableCounter + " byteCounter = " + byteCounter); //$NON-NLS-1$ //$NON-NLS-2$
-				--stableCounter;
-			}
-			else 
-				stableCounter = stableIndex;
-
-			if (stableCounter == 0) isStable = true;
-
-			byteCounter = numBytesAvailable;
-
-			--timeOutCounter;
-
-			if (timeOutCounter == 0) {
-				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, String.format("byteCounter = %d numBytesAvailable = %d", byteCounter, numBytesAvailable));
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { expectedBytes, timeout_msec }));
-				throw e;
-			}
-
-		} // end while
-		if (log.isLoggable(Level.FINER)) log.logp(Level.FINER, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "byteCounter = " + byteCounter + " timeOutCounter = " + timeOutCounter); //$NON-NLS-1$ //$NON-NLS-2$
-		return byteCounter;
+		return waitForStableReceiveBuffer(expectedBytes, timeout_msec, stableIndex, 0);
 	}
 
 	/**
-	 * waits until receive buffer is filled with number of expected bytes or does not change anymore in stableIndex cycles * 10 msec
+	 * waits until receive buffer is filled with number of expected bytes or does not receive bytes anymore for stableIndex msec
 	 * @param expectedBytes
 	 * @param timeout_msec in milli seconds, this is the maximum time this process will wait for stable byte count or maxBytes
-	 * @param stableIndex cycle count times 10 msec to be treat as stable
+	 * @param stableIndex time in msec without received bytes to be treat as stable, more than the USB serial adapter latency (FTDI latency timer 16 ms)
 	 * @param minCount minimum number of bytes, even if stable
 	 * @return number of bytes in receive buffer
 	 * @throws InterruptedException 
@@ -855,38 +709,16 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 	 */
 	public int waitForStableReceiveBuffer(int expectedBytes, int timeout_msec, int stableIndex, int minCount) throws InterruptedException, TimeOutException, IOException {
 		final String $METHOD_NAME = "waitForStableReceiveBuffer"; //$NON-NLS-1$
-		int sleepTime = 1; // ms
-		int timeOutCounter = timeout_msec / sleepTime;
-		int stableCounter = stableIndex;
-		boolean isStable = false;
-		boolean isTimedOut = false;
-
-		// availableBytes are updated by event handler
-		int byteCounter = 0, numBytesAvailable = 0;
-		while (byteCounter < expectedBytes && !isStable && !isTimedOut) {
-			WaitTimer.delay(sleepTime);
-
-			if (byteCounter == (numBytesAvailable = this.inputStream.available()) && byteCounter > minCount) {
-				if (log.isLoggable(Level.FINE)) log.logp(Level.FINE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "stableCounter = " + stableCounter + " byteCounter = " + byteCounter); //$NON-NLS-1$ //$NON-NLS-2$
-				--stableCounter;
-			}
-			else 
-				stableCounter = stableIndex;
-
-			if (stableCounter == 0) isStable = true;
-
-			byteCounter = numBytesAvailable;
 
-			--timeOutCounter;
-
-			if (timeOutCounter == 0) {
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { expectedBytes, timeout_msec }));
-				log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-				throw e;
-			}
-
-		} // end while
-		log.logp(Level.FINE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "byteCounter = " + byteCounter + " timeOutCounter = " + timeOutCounter); //$NON-NLS-1$ //$NON-NLS-2$
+		// the receive buffer is updated by the event listener
+		int byteCounter = this.receiveBuffer.awaitStable(expectedBytes, minCount, stableIndex, timeout_msec);
+		if (Thread.interrupted()) throw new InterruptedException();
+		if (byteCounter < 0) {
+			TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { expectedBytes, timeout_msec }));
+			log.logp(Level.SEVERE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
+			throw e;
+		}
+		if (log.isLoggable(Level.FINE)) log.logp(Level.FINE, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "byteCounter = " + byteCounter); //$NON-NLS-1$
 		return byteCounter;
 	}
 
@@ -925,7 +757,9 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 						log.logp(Level.WARNING, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
 					}
 					log.logp(Level.CONFIG, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "before close"); //$NON-NLS-1$
+					DeviceJavaSerialCommPortImpl.this.serialPort.removeDataListener();
 					DeviceJavaSerialCommPortImpl.this.serialPort.closePort();
+					if (DeviceJavaSerialCommPortImpl.this.receiveBuffer != null) DeviceJavaSerialCommPortImpl.this.receiveBuffer.close();
 					log.logp(Level.CONFIG, DeviceJavaSerialCommPortImpl.$CLASS_NAME, $METHOD_NAME, "after close"); //$NON-NLS-1$
 					DeviceJavaSerialCommPortImpl.this.isConnected = false;
 					if (DeviceJavaSerialCommPortImpl.this.application != null) DeviceJavaSerialCommPortImpl.this.application.setPortConnected(false);
@@ -1018,8 +852,9 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 					impl.serialPort.setComPortParameters(19200, 8, 1, 0);
 					impl.serialPort.setFlowControl(0);
 					// init in and out stream for writing and reading
-					impl.inputStream = impl.serialPort.getInputStream();
+					impl.inputStream = impl.receiveBuffer = new ReceiveBuffer(impl.serialPort.getInputStream());
 					impl.outputStream = impl.serialPort.getOutputStream();
+					impl.serialPort.addDataListener(impl);
 					impl.isConnected = true;
 					//open end
 					if (args.length > 1 && args[1].equals("sender")) {
@@ -1221,8 +1056,7 @@ public class DeviceJavaSerialCommPortImpl implements IDeviceCommPort, SerialPort
 
 	@Override
 	public int getListeningEvents() {
-		// TODO Auto-generated method stub
-		return 0;
+		return SerialPort.LISTENING_EVENT_DATA_AVAILABLE;
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import java.util.Date;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.TooManyListenersException;
 import java.util.TreeMap;
 import java.util.Vector;
 import java.util.logging.Logger;
@@ -90,6 +91,7 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 
 	InputStream														inputStream								= null;
 	OutputStream													outputStream							= null;
+	ReceiveBuffer												receiveBuffer							= null;
 
 	//event handling does not work reliable
 	//boolean															dataAvailable			= false;
@@ -325,17 +327,17 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 			this.serialPort.setRTS(this.deviceConfig.isRTS());
 			this.serialPort.setDTR(this.deviceConfig.isDTR());
 
-			// event handling does not work reliable
-			//this.serialPort.addEventListener(this);
+			// init in and out stream for writing and reading, received bytes are collected by the event listener
+			this.inputStream = this.receiveBuffer = new ReceiveBuffer(this.serialPort.getInputStream());
+			this.outputStream = this.serialPort.getOutputStream();
+
+			// event handling does not work reliable, the receive buffer takes bytes without event after a short wait slice
+			this.serialPort.addEventListener(this);
 			// activate the DATA_AVAILABLE notifier to read available data
-			//this.serialPort.notifyOnDataAvailable(true);
+			this.serialPort.notifyOnDataAvailable(true);
 			// activate the OUTPUT_BUFFER_EMPTY notifier
 			//this.serialPort.notifyOnOutputEmpty(true);
 
-			// init in and out stream for writing and reading
-			this.inputStream = this.serialPort.getInputStream();
-			this.outputStream = this.serialPort.getOutputStream();
-
 			this.isConnected = true;
 			if (this.application != null) this.application.setPortConnected(true);
 		}
@@ -362,13 +364,12 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 			if (this.serialPort != null) this.serialPort.close();
 			throw en;
 		}
-		// event handling does not work reliable
-		//catch (TooManyListenersException e) {
-		//	SerialPortException en = new SerialPortException(e.getMessage());
-		//	log.logp(Level.SEVERE, en.getMessage(), en);
-		//	if (this.serialPort != null) this.serialPort.close();
-		//	throw en;
-		//}
+		catch (TooManyListenersException e) {
+			SerialPortException en = new SerialPortException(e.getMessage());
+			log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, en.getMessage(), en);
+			if (this.serialPort != null) this.serialPort.close();
+			throw en;
+		}
 		catch (gnu.io.PortInUseException e) {
 			SerialPortException en = new SerialPortException(e.getMessage());
 			log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, en.getMessage(), en);
@@ -456,7 +457,7 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 
 	/**
 	 * event handler method handles only events as previous registered
-	 * - activate the DATA_AVAILABLE notifier to read available data -> dataAvailable = true;
+	 * - activate the DATA_AVAILABLE notifier to move the available data into the receive buffer
 	 * - activate the OUTPUT_BUFFER_EMPTY notifier -> dataAvailable = false;
 	 */
 	public void serialEvent(SerialPortEvent event) {
@@ -476,7 +477,7 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 			if (log.isLoggable(Level.FINE)) log.logp(Level.FINE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "OUTPUT_BUFFER_EMPTY"); //$NON-NLS-1$
 			break;
 		case SerialPortEvent.DATA_AVAILABLE:
-			//this.dataAvailable = true;
+			if (this.receiveBuffer != null) this.receiveBuffer.fill();
 			if (log.isLoggable(Level.FINE)) log.logp(Level.FINE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "DATA_AVAILABLE"); //$NON-NLS-1$
 			break;
 		}
@@ -492,31 +493,19 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec) throws IOException, TimeOutException {
 		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 2 ; // ms
 		int bytes = readBuffer.length;
 		int readBytes = 0;
-		int timeOutCounter = timeout_msec / (sleepTime + 18); //18 ms read blocking time
 
 		try {
 			if (this.application != null) this.application.setSerialRxOn();
-			wait4Bytes(bytes, timeout_msec - (timeout_msec / 5));
 
-
-			while (bytes != readBytes && timeOutCounter-- > 0) {
-				if (this.inputStream.available() > 0) {
-					readBytes += this.inputStream.read(readBuffer, 0 + readBytes, bytes - readBytes);
-				}
-				if (bytes != readBytes) {
-					WaitTimer.delay(sleepTime);
-				}
-
-				//this.dataAvailable = false;
-				if (timeOutCounter <= 0) {
-					TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { bytes, timeout_msec }));
-					log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-					log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-					throw e;
-				}
+			// blocks until the receive event listener has collected the bytes
+			readBytes = this.receiveBuffer.read(readBuffer, 0, bytes, timeout_msec);
+			if (bytes != readBytes) {
+				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { bytes, timeout_msec }));
+				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
+				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
+				throw e;
 			}
 
 			if (log.isLoggable(Level.FINE)) {
@@ -543,51 +532,7 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 	 * @throws TimeOutException
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec, boolean checkFailedQuery) throws IOException, FailedQueryException, TimeOutException {
-		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 10; // ms
-		int bytes = readBuffer.length;
-		int readBytes = 0;
-		int timeOutCounter = timeout_msec / (sleepTime + 18); //18 ms read blocking time
-
-		try {
-			if (this.application != null) this.application.setSerialRxOn();
-			WaitTimer.delay(2);
-
-			//loop inputStream and read available bytes
-			while (bytes != readBytes && timeOutCounter-- > 0) {
-				if (this.inputStream.available() > 0) {
-					readBytes += this.inputStream.read(readBuffer, 0 + readBytes, bytes - readBytes);
-				}
-				if (bytes != readBytes) {
-					WaitTimer.delay(sleepTime);
-				}
-
-//				if (timeOutCounter/4 <= 0 && readBytes == 0) {
-//					FailedQueryException e = new FailedQueryException(Messages.getString(MessageIds.GDE_MSGE0012, new Object[] { timeout_msec/4 }));
-//					log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage());
-//					throw e;
-//				}
-//				else 
-					if (timeOutCounter <= 0) {
-					TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { bytes, timeout_msec }));
-					log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-					log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-					throw e;
-				}
-			}
-
-			if (log.isLoggable(Level.FINE)) {
-				log.logp(Level.FINE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-			}
-		}
-		catch (IOException e) {
-			log.logp(Level.WARNING, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-			throw e;
-		}
-		finally {
-			if (this.application != null) this.application.setSerialRxOff();
-		}
-		return readBuffer;
+		return read(readBuffer, timeout_msec);
 	}
 
 	/**
@@ -602,24 +547,16 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec, Vector<Long> waitTimes) throws IOException, TimeOutException {
 		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 4; // ms
 		int bytes = readBuffer.length;
 		int readBytes = 0;
-		int timeOutCounter = timeout_msec / sleepTime;
 
 		try {
 			if (this.application != null) this.application.setSerialRxOn();
 			long startTime_ms = new Date().getTime();
 			wait4Bytes(timeout_msec);
 
-			while (bytes != readBytes && timeOutCounter-- > 0) {
-				readBytes += this.inputStream.read(readBuffer, readBytes, bytes - readBytes);
-				if (bytes != readBytes) {
-					WaitTimer.delay(sleepTime); //run synchronous do not use start() here
-				}
-			}
-			//this.dataAvailable = false;
-			if (timeOutCounter <= 0) {
+			readBytes = this.receiveBuffer.read(readBuffer, 0, bytes, timeout_msec);
+			if (bytes != readBytes) {
 				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { bytes, timeout_msec }));
 				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
 				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
@@ -654,17 +591,12 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 	 */
 	public long wait4Bytes(int timeout_msec) throws InterruptedException, TimeOutException, IOException {
 		final String $METHOD_NAME = "wait4Bytes"; //$NON-NLS-1$
-		int sleepTime = 1;
-		int timeOutCounter = timeout_msec / sleepTime;
 
-		while (0 == this.inputStream.available()) {
-			WaitTimer.delay(sleepTime);
-
-			if (timeOutCounter-- <= 0) {
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { "*", timeout_msec })); //$NON-NLS-1$ 
-				log.logp(Level.WARNING, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-				throw e;
-			}
+		if (0 == this.receiveBuffer.awaitAvailable(1, timeout_msec)) {
+			if (Thread.interrupted()) throw new InterruptedException();
+			TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { "*", timeout_msec })); //$NON-NLS-1$ 
+			log.logp(Level.WARNING, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
+			throw e;
 		}
 		return System.currentTimeMillis();
 	}
@@ -680,21 +612,11 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 	 */
 	public int wait4Bytes(int numBytes, int timeout_msec) throws IOException {
 		final String $METHOD_NAME = "wait4Bytes"; //$NON-NLS-1$
-		int sleepTime = 1; // msec
-		int timeOutCounter = timeout_msec / sleepTime;
-		int resBytes = 0;
-
-		while ((resBytes = this.inputStream.available()) < numBytes) {
-			WaitTimer.delay(sleepTime);
 
-			timeOutCounter--;
-			//if (log.isLoggable(Level.FINER)) log.logp(Level.FINER, "time out counter = " + counter);
-			if (timeOutCounter <= 0) {
-				log.logp(Level.WARNING, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, String.format("only %d of %d Bytes are available in %d msec", resBytes, numBytes, timeout_msec));
-				break;
-			}
+		int resBytes = this.receiveBuffer.awaitAvailable(numBytes, timeout_msec);
+		if (resBytes < numBytes) {
+			log.logp(Level.WARNING, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, String.format("only %d of %d Bytes are available in %d msec", resBytes, numBytes, timeout_msec));
 		}
-
 		return resBytes;
 	}
 
@@ -710,12 +632,10 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec, int stableIndex) throws IOException, TimeOutException {
 		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 4; // ms
 		int numAvailableBytes = readBuffer.length;
 		int readBytes = 0;
-		int timeOutCounter = timeout_msec / sleepTime;
 		if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "entry");
-		if (stableIndex >= timeOutCounter) {
+		if (stableIndex >= timeout_msec) {
 			log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, Messages.getString(MessageIds.GDE_MSGE0013));
 		}
 
@@ -727,20 +647,7 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 			if (numAvailableBytes > readBuffer.length) 
 				readBuffer = new byte[numAvailableBytes];
 
-			while (readBytes < numAvailableBytes && timeOutCounter-- > 0) {
-				readBytes += this.inputStream.read(readBuffer, 0 + readBytes, numAvailableBytes - readBytes);
-
-				if (numAvailableBytes != readBytes) {
-					WaitTimer.delay(sleepTime);
-				}
-			}
-			//this.dataAvailable = false;
-			if (timeOutCounter <= 0) {
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { numAvailableBytes, timeout_msec }));
-				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-				throw e;
-			}
+			readBytes = this.receiveBuffer.read(readBuffer, 0, numAvailableBytes, timeout_msec);
 
 			// resize the data buffer to real red data 
 			if (readBytes < readBuffer.length) {
@@ -783,11 +690,9 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 	 */
 	public synchronized byte[] read(byte[] readBuffer, int timeout_msec, int stableIndex, int minCountBytes) throws IOException, TimeOutException {
 		final String $METHOD_NAME = "read"; //$NON-NLS-1$
-		int sleepTime = 4; // ms
 		int expectedBytes = readBuffer.length;
 		int readBytes = 0;
-		int timeOutCounter = timeout_msec / sleepTime;
-		if (stableIndex >= timeOutCounter) {
+		if (stableIndex >= timeout_msec) {
 			log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, Messages.getString(MessageIds.GDE_MSGE0013));
 		}
 
@@ -796,20 +701,7 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 
 			expectedBytes = waitForStableReceiveBuffer(expectedBytes, timeout_msec, stableIndex, minCountBytes);
 
-			while (readBytes < expectedBytes && timeOutCounter-- > 0) {
-				readBytes += this.inputStream.read(readBuffer, 0 + readBytes, expectedBytes - readBytes);
-
-				if (expectedBytes != readBytes) {
-					WaitTimer.delay(sleepTime);
-				}
-			}
-			//this.dataAvailable = false;
-			if (timeOutCounter <= 0) {
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { expectedBytes, timeout_msec }));
-				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "  Read : " + StringHelper.byte2Hex2CharString(readBuffer, readBytes));
-				throw e;
-			}
+			readBytes = this.receiveBuffer.read(readBuffer, 0, Math.min(expectedBytes, readBuffer.length), timeout_msec);
 
 			// resize the data buffer to real red data 
 			if (readBytes < readBuffer.length) {
@@ -839,57 +731,24 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 	}
 
 	/**
-	 * waits until receive buffer is filled with number of expected bytes or does not change anymore in stableIndex cycles * 10 msec
+	 * waits until receive buffer is filled with number of expected bytes or does not receive bytes anymore for stableIndex msec
 	 * @param expectedBytes
 	 * @param timeout_msec in milli seconds, this is the maximum time this process will wait for stable byte count or maxBytes
-	 * @param stableIndex cycle count times 10 msec to be treat as stable
+	 * @param stableIndex time in msec without received bytes to be treat as stable, more than the USB serial adapter latency (FTDI latency timer 16 ms)
 	 * @return number of bytes in receive buffer
 	 * @throws InterruptedException 
 	 * @throws TimeOutException 
 	 * @throws IOException 
 	 */
 	public int waitForStableReceiveBuffer(int expectedBytes, int timeout_msec, int stableIndex) throws InterruptedException, TimeOutException, IOException {
-		final String $METHOD_NAME = "waitForStableReceiveBuffer"; //$NON-NLS-1$
-		int sleepTime = 1; // ms
-		int timeOutCounter = timeout_msec / sleepTime;
-		int stableCounter = stableIndex;
-		boolean isStable = false;
-		boolean isTimedOut = false;
-
-		// availableBytes are updated by event handler
-		int byteCounter = 0, numBytesAvailable = 0;
-		while (byteCounter < expectedBytes && !isStable && !isTimedOut) {
-			WaitTimer.delay(sleepTime);
-
-			if (byteCounter == (numBytesAvailable = this.inputStream.available()) && byteCounter > 0) {
-				if (log.isLoggable(Level.FINER)) log.logp(Level.FINER, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "stableCounter = " + stableCounter + " byteCounter = " + byteCounter); //$NON-NLS-1$ //$NON-NLS-2$
-				--stableCounter;
-			}
-			else 
-				stableCounter = stableIndex;
-
-			if (stableCounter == 0) isStable = true;
-
-			byteCounter = numBytesAvailable;
-
-			--timeOutCounter;
-
-			if (timeOutCounter == 0) {
-				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, String.format("byteCounter = %d numBytesAvailable = %d", byteCounter, numBytesAvailable));
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { expectedBytes, timeout_msec }));
-				throw e;
-			}
-
-		} // end while
-		if (log.isLoggable(Level.FINER)) log.logp(Level.FINER, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "byteCounter = " + byteCounter + " timeOutCounter = " + timeOutCounter); //$NON-NLS-1$ //$NON-NLS-2$
-		return byteCounter;
+		return waitForStableReceiveBuffer(expectedBytes, timeout_msec, stableIndex, 0);
 	}
 
 	/**
-	 * waits until receive buffer is filled with number of expected bytes or does not change anymore in stableIndex cycles * 10 msec
+	 * waits until receive buffer is filled with number of expected bytes or does not receive bytes anymore for stableIndex msec
 	 * @param expectedBytes
 	 * @param timeout_msec in milli seconds, this is the maximum time this process will wait for stable byte count or maxBytes
-	 * @param stableIndex cycle count times 10 msec to be treat as stable
+	 * @param stableIndex time in msec without received bytes to be treat as stable, more than the USB serial adapter latency (FTDI latency timer 16 ms)
 	 * @param minCount minimum number of bytes, even if stable
 	 * @return number of bytes in receive buffer
 	 * @throws InterruptedException 
@@ -898,38 +757,16 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 	 */
 	public int waitForStableReceiveBuffer(int expectedBytes, int timeout_msec, int stableIndex, int minCount) throws InterruptedException, TimeOutException, IOException {
 		final String $METHOD_NAME = "waitForStableReceiveBuffer"; //$NON-NLS-1$
-		int sleepTime = 1; // ms
-		int timeOutCounter = timeout_msec / sleepTime;
-		int stableCounter = stableIndex;
-		boolean isStable = false;
-		boolean isTimedOut = false;
-
-		// availableBytes are updated by event handler
-		int byteCounter = 0, numBytesAvailable = 0;
-		while (byteCounter < expectedBytes && !isStable && !isTimedOut) {
-			WaitTimer.delay(sleepTime);
-
-			if (byteCounter == (numBytesAvailable = this.inputStream.available()) && byteCounter > minCount) {
-				if (log.isLoggable(Level.FINE)) log.logp(Level.FINE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "stableCounter = " + stableCounter + " byteCounter = " + byteCounter); //$NON-NLS-1$ //$NON-NLS-2$
-				--stableCounter;
-			}
-			else 
-				stableCounter = stableIndex;
-
-			if (stableCounter == 0) isStable = true;
-
-			byteCounter = numBytesAvailable;
 
-			--timeOutCounter;
-
-			if (timeOutCounter == 0) {
-				TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { expectedBytes, timeout_msec }));
-				log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
-				throw e;
-			}
-
-		} // end while
-		log.logp(Level.FINE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "byteCounter = " + byteCounter + " timeOutCounter = " + timeOutCounter); //$NON-NLS-1$ //$NON-NLS-2$
+		// the receive buffer is updated by the event listener
+		int byteCounter = this.receiveBuffer.awaitStable(expectedBytes, minCount, stableIndex, timeout_msec);
+		if (Thread.interrupted()) throw new InterruptedException();
+		if (byteCounter < 0) {
+			TimeOutException e = new TimeOutException(Messages.getString(MessageIds.GDE_MSGE0011, new Object[] { expectedBytes, timeout_msec }));
+			log.logp(Level.SEVERE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, e.getMessage(), e);
+			throw e;
+		}
+		if (log.isLoggable(Level.FINE)) log.logp(Level.FINE, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "byteCounter = " + byteCounter); //$NON-NLS-1$
 		return byteCounter;
 	}
 
@@ -969,6 +806,7 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 					}
 					log.logp(Level.CONFIG, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "before close"); //$NON-NLS-1$
 					DeviceSerialPortImpl.this.serialPort.close();
+					if (DeviceSerialPortImpl.this.receiveBuffer != null) DeviceSerialPortImpl.this.receiveBuffer.close();
 					log.logp(Level.CONFIG, DeviceSerialPortImpl.$CLASS_NAME, $METHOD_NAME, "after close"); //$NON-NLS-1$
 					DeviceSerialPortImpl.this.isConnected = false;
 					if (DeviceSerialPortImpl.this.application != null) DeviceSerialPortImpl.this.application.setPortConnected(false);
@@ -1064,8 +902,10 @@ public class DeviceSerialPortImpl implements IDeviceCommPort, SerialPortEventLis
 				impl.serialPort.setRTS(false);
 				impl.serialPort.setDTR(false);
 				// init in and out stream for writing and reading
-				impl.inputStream = impl.serialPort.getInputStream();
+				impl.inputStream = impl.receiveBuffer = new ReceiveBuffer(impl.serialPort.getInputStream());
 				impl.outputStream = impl.serialPort.getOutputStream();
+				impl.serialPort.addEventListener(impl);
+				impl.serialPort.notifyOnDataAvailable(true);
 				impl.isConnected = true;
 				//open end
 				if (args.length > 1 && args[1].equals("sender")) {
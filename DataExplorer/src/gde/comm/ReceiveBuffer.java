@@ -0,0 +1,258 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.comm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.logging.Logger;
+
+import gde.log.Level;
+
+/**
+ * Receive ring buffer of a serial port which is filled by the serial port data available event listener.
+ * Readers block on the buffer monitor until the requested number of bytes is received or the time out is reached,
+ * the event listener wakes them up as soon as new bytes arrive.
+ * Until the first event arrives the waiting reader pulls the available bytes itself after a short wait slice, thus a port without working events is still read.
+ * Afterwards a lost event delays the reader until its stable time or time out when it pulls the bytes itself.
+ * @author agent
+ */
+public class ReceiveBuffer extends InputStream {
+	final static String		$CLASS_NAME				= ReceiveBuffer.class.getName();
+	final static Logger		log								= Logger.getLogger(ReceiveBuffer.$CLASS_NAME);
+
+	final static int			INITIAL_CAPACITY	= 4096;
+	final static long			WAIT_SLICE_MS			= 10;																		// maximum wait before the source stream is checked as long as no event arrived
+	final static long			READ_TIMEOUT_MS		= 1000;																	// default InputStream read time out, same as the serial port read time out
+
+	private final InputStream	source;
+	private byte[]				ring							= new byte[INITIAL_CAPACITY];
+	private int						head							= 0;																		// index of the oldest byte
+	private int						count							= 0;
+	private long					lastArrival_ns		= System.nanoTime();
+	private boolean				isEventDriven			= false;																// true after the first data available event
+	private boolean				isClosed					= false;
+	private long					readTimeout_ms		= READ_TIMEOUT_MS;
+
+	/**
+	 * @param sourceStream is the serial port input stream which is read on data available events
+	 */
+	public ReceiveBuffer(InputStream sourceStream) {
+		this.source = sourceStream;
+	}
+
+	/**
+	 * @param readTimeout_msec is the maximum wait time of the InputStream read methods for the first byte
+	 */
+	public synchronized void setReadTimeout(long readTimeout_msec) {
+		this.readTimeout_ms = readTimeout_msec;
+	}
+
+	/**
+	 * move all bytes available on the source stream into the ring buffer and wake up the waiting readers,
+	 * to be called by the serial port data available event listener
+	 */
+	public synchronized void fill() {
+		this.isEventDriven = true;
+		try {
+			pull();
+		}
+		catch (IOException e) {
+			log.log(Level.WARNING, e.getMessage(), e);
+		}
+		notifyAll();
+	}
+
+	/**
+	 * move all bytes available on the source stream into the ring buffer
+	 */
+	private void pull() throws IOException {
+		if (this.isClosed) return;
+		int numBytes;
+		while ((numBytes = this.source.available()) > 0) {
+			ensureCapacity(this.count + numBytes);
+			int tail = (this.head + this.count) % this.ring.length;
+			int readBytes = this.source.read(this.ring, tail, Math.min(numBytes, this.ring.length - tail));
+			if (readBytes <= 0) break;
+			this.count += readBytes;
+			this.lastArrival_ns = System.nanoTime();
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= this.ring.length) return;
+		int newLength = this.ring.length;
+		while (newLength < capacity) {
+			newLength <<= 1;
+		}
+		byte[] newRing = new byte[newLength];
+		copyTo(newRing, 0, this.count);
+		this.ring = newRing;
+		this.head = 0;
+	}
+
+	/**
+	 * copy bytes from the ring head without removing them
+	 */
+	private void copyTo(byte[] buffer, int offset, int length) {
+		int firstPart = Math.min(length, this.ring.length - this.head);
+		System.arraycopy(this.ring, this.head, buffer, offset, firstPart);
+		System.arraycopy(this.ring, 0, buffer, offset + firstPart, length - firstPart);
+	}
+
+	/**
+	 * wait for the next event or the remaining time, whatever comes first, and take bytes which were received without event
+	 * @param remaining_ns is the maximum wait time which is reduced to the wait slice as long as no event arrived
+	 * @return false if the thread was interrupted or the buffer is closed
+	 */
+	private boolean await(long remaining_ns) throws IOException {
+		try {
+			long wait_ms = Math.max(1, (remaining_ns + 999999) / 1000000);
+			wait(this.isEventDriven ? wait_ms : Math.min(WAIT_SLICE_MS, wait_ms));
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		if (this.isClosed) return false;
+		pull();
+		return true;
+	}
+
+	/**
+	 * waits until the receive buffer holds the number of bytes
+	 * @param numBytes
+	 * @param timeout_msec
+	 * @return number of bytes in receive buffer which is less than numBytes in case of time out
+	 */
+	public synchronized int awaitAvailable(int numBytes, long timeout_msec) throws IOException {
+		final long deadline_ns = System.nanoTime() + timeout_msec * 1000000;
+		pull();
+		long remaining_ns;
+		while (this.count < numBytes && (remaining_ns = deadline_ns - System.nanoTime()) > 0) {
+			if (!await(remaining_ns)) break;
+		}
+		return this.count;
+	}
+
+	/**
+	 * waits until receive buffer is filled with number of expected bytes or does not change anymore for the stable time
+	 * @param expectedBytes
+	 * @param minCount number of bytes which must be exceeded to treat the receive buffer as stable
+	 * @param stable_msec time without new bytes to treat the telegram transmission as finished, the caller bridges the USB serial adapter latency (FTDI latency timer 16 ms)
+	 * @param timeout_msec
+	 * @return number of bytes in receive buffer or -1 in case of time out
+	 */
+	public synchronized int awaitStable(int expectedBytes, int minCount, long stable_msec, long timeout_msec) throws IOException {
+		final long deadline_ns = System.nanoTime() + timeout_msec * 1000000;
+		final long stable_ns = stable_msec * 1000000;
+		pull();
+		while (this.count < expectedBytes) {
+			long now_ns = System.nanoTime();
+			long stableRemaining_ns = this.lastArrival_ns + stable_ns - now_ns;
+			if (this.count > minCount && stableRemaining_ns <= 0) break;
+
+			long remaining_ns = deadline_ns - now_ns;
+			if (remaining_ns <= 0) {
+				log.log(Level.FINE, String.format("count = %d of %d expected bytes", this.count, expectedBytes)); //$NON-NLS-1$
+				return -1;
+			}
+			if (!await(this.count > minCount ? Math.min(remaining_ns, stableRemaining_ns) : remaining_ns)) break;
+		}
+		return this.count;
+	}
+
+	/**
+	 * read bytes from the receive buffer, waits until the length is available or time out
+	 * @param buffer
+	 * @param offset
+	 * @param length
+	 * @param timeout_msec
+	 * @return the number of bytes read which is less than the length in case of time out
+	 */
+	public synchronized int read(byte[] buffer, int offset, int length, long timeout_msec) throws IOException {
+		awaitAvailable(length, timeout_msec);
+		return take(buffer, offset, Math.min(length, this.count));
+	}
+
+	private int take(byte[] buffer, int offset, int length) {
+		copyTo(buffer, offset, length);
+		this.head = (this.head + length) % this.ring.length;
+		this.count -= length;
+		if (this.count == 0) this.head = 0;
+		return length;
+	}
+
+	/**
+	 * read the bytes which are available within the read time out, returns 0 if no byte was received (same as a serial port stream with receive time out)
+	 * @return the number of bytes read or -1 if the buffer is closed and empty
+	 */
+	@Override
+	public synchronized int read(byte[] buffer, int offset, int length) throws IOException {
+		if (length == 0) return 0;
+		if (awaitAvailable(1, this.readTimeout_ms) == 0 && this.isClosed) return -1;
+		return take(buffer, offset, Math.min(length, this.count));
+	}
+
+	/**
+	 * blocks until the next byte is received or the read time out is reached
+	 * @return the next byte or -1 if the buffer is closed and empty
+	 * @throws InterruptedIOException if no byte was received within the read time out (same as a blocking serial port stream)
+	 */
+	@Override
+	public synchronized int read() throws IOException {
+		if (awaitAvailable(1, this.readTimeout_ms) == 0) {
+			if (this.isClosed) return -1;
+			throw new InterruptedIOException(String.format("no byte received within %d ms", this.readTimeout_ms)); //$NON-NLS-1$
+		}
+		int value = this.ring[this.head] & 0xFF;
+		this.head = (this.head + 1) % this.ring.length;
+		if (--this.count == 0) this.head = 0;
+		return value;
+	}
+
+	/**
+	 * @return the number of bytes in the receive buffer including the bytes not yet signaled by an event
+	 */
+	@Override
+	public synchronized int available() throws IOException {
+		pull();
+		return this.count;
+	}
+
+	/**
+	 * remove all received bytes
+	 * @return the number of removed bytes
+	 */
+	public synchronized int clear() throws IOException {
+		pull();
+		int removedBytes = this.count;
+		this.head = this.count = 0;
+		return removedBytes;
+	}
+
+	/**
+	 * release the waiting readers, the source stream is closed together with the serial port
+	 */
+	@Override
+	public synchronized void close() {
+		this.isClosed = true;
+		notifyAll();
+	}
+}
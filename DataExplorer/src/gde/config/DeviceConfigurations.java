@@ -19,14 +19,28 @@
 
 package gde.config;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -35,6 +49,7 @@ import javax.xml.bind.JAXBException;
 import org.xml.sax.SAXParseException;
 
 import gde.Analyzer;
+import gde.DataAccess;
 import gde.GDE;
 import gde.device.DeviceConfiguration;
 import gde.device.IDevice;
@@ -46,7 +61,7 @@ import gde.utils.StringHelper;
 /**
  * Provide device lists from used flagged devices and the selected active device.
  * Holds only devices with the usage flag in the device configuration xml file.
- * Not threadsafe due to device shallow copies and JAXB un-/marshallers.
+ * Not threadsafe due to device shallow copies and the JAXB marshaller.
  * @author Thomas Eickert (USER)
  */
 public final class DeviceConfigurations {
@@ -97,21 +112,129 @@ public final class DeviceConfigurations {
 	/**
 	 * Goes through the existing XML files and set active flagged devices into active devices list.
 	 * Fills the DeviceConfigurations list.
+	 * The files are parsed in parallel and added in the folder list sequence.
+	 * Unused device files which did not change since the last start are skipped based on the device snapshot.
 	 */
 	public synchronized void initialize(Analyzer analyzer) {
 		String activeDeviceName = analyzer.getSettings().getActiveDevice();
 		Objects.requireNonNull(activeDeviceName);
+		boolean checkUsedFlag = !analyzer.getSettings().isDevicePropertiesUpdated;
+		boolean isSnapshot = checkUsedFlag && analyzer.getSettings().isDeviceSnapshot();
+
+		DataAccess dataAccess = analyzer.getDataAccess();
+		Map<String, DeviceSnapshotEntry> snapshot = isSnapshot ? readSnapshot(dataAccess) : new HashMap<>();
+		Map<String, DeviceSnapshotEntry> newSnapshot = new LinkedHashMap<>();
+		List<String> fileNames = new ArrayList<>();
+		for (String fileName : dataAccess.getDeviceFolderList()) {
+			if (!fileName.endsWith(GDE.FILE_ENDING_DOT_XML)) continue;
+			long lastModified = dataAccess.getDeviceXmlLastModified(Paths.get(Settings.DEVICE_PROPERTIES_DIR_NAME, fileName));
+			DeviceSnapshotEntry entry = snapshot.get(fileName);
+			if (entry != null && !entry.isUsed && entry.lastModified == lastModified) {
+				newSnapshot.put(fileName, entry); // unused and unchanged since the last start
+			} else {
+				fileNames.add(fileName);
+			}
+		}
 
 		this.deviceConfigs.clear();
-		for (String fileName : analyzer.getDataAccess().getDeviceFolderList()) {
-			// loop through all device properties XML and check if device used
-			add(analyzer, activeDeviceName, fileName, !analyzer.getSettings().isDevicePropertiesUpdated);
+		int threads = Math.max(1, Math.min(fileNames.size(), Runtime.getRuntime().availableProcessors()));
+		ExecutorService parserPool = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "deviceParser"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<DeviceConfiguration>> futures = new ArrayList<>();
+			for (String fileName : fileNames) {
+				futures.add(parserPool.submit(() -> new DeviceConfiguration(Paths.get(Settings.DEVICE_PROPERTIES_DIR_NAME, fileName), analyzer)));
+			}
+			for (int i = 0; i < fileNames.size(); i++) {
+				// loop through all device properties XML and check if device used
+				String fileName = fileNames.get(i);
+				try {
+					DeviceConfiguration devConfig = futures.get(i).get();
+					put(activeDeviceName, fileName, devConfig, checkUsedFlag);
+					long lastModified = dataAccess.getDeviceXmlLastModified(Paths.get(Settings.DEVICE_PROPERTIES_DIR_NAME, fileName));
+					newSnapshot.put(fileName, new DeviceSnapshotEntry(lastModified, devConfig.isUsed()));
+				} catch (ExecutionException e) {
+					handleException(fileName, e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					log.log(Level.WARNING, fileName, e);
+					break;
+				}
+			}
+		} finally {
+			parserPool.shutdownNow();
 		}
-		
+		if (isSnapshot && !newSnapshot.equals(snapshot)) writeSnapshot(dataAccess, newSnapshot);
+
 		//active device configurations collected, now synchronize settings device_use accordingly
 		this.synchronizeDeviceUse();
-		
-		log.log(Level.TIME, "device init time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - GDE.StartTime)));
+
+		log.log(Level.TIME, "device init time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - GDE.StartTime)) + " parsed " + fileNames.size() + " device files");
+	}
+
+	/**
+	 * Usage state of a device properties file at the last start.
+	 */
+	private static final class DeviceSnapshotEntry {
+		final long		lastModified;
+		final boolean	isUsed;
+
+		DeviceSnapshotEntry(long lastModified, boolean isUsed) {
+			this.lastModified = lastModified;
+			this.isUsed = isUsed;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof DeviceSnapshotEntry)) return false;
+			DeviceSnapshotEntry other = (DeviceSnapshotEntry) obj;
+			return this.lastModified == other.lastModified && this.isUsed == other.isUsed;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(this.lastModified) * 31 + Boolean.hashCode(this.isUsed);
+		}
+	}
+
+	/**
+	 * @return the device file names with their usage state at the last start or an empty map if the snapshot is missing or outdated
+	 */
+	private static Map<String, DeviceSnapshotEntry> readSnapshot(DataAccess dataAccess) {
+		Map<String, DeviceSnapshotEntry> snapshot = new HashMap<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(dataAccess.getDeviceSnapshotInputStream()))) {
+			if (!GDE.DEVICE_PROPERTIES_XSD_VERSION.equals(in.readUTF())) return snapshot;
+			int size = in.readInt();
+			for (int i = 0; i < size; i++) {
+				String fileName = in.readUTF();
+				long lastModified = in.readLong();
+				snapshot.put(fileName, new DeviceSnapshotEntry(lastModified, in.readBoolean()));
+			}
+		} catch (FileNotFoundException e) {
+			log.log(Level.FINE, "no device snapshot"); //$NON-NLS-1$
+		} catch (IOException e) {
+			log.log(Level.WARNING, e.getMessage(), e);
+			snapshot.clear();
+		}
+		return snapshot;
+	}
+
+	private static void writeSnapshot(DataAccess dataAccess, Map<String, DeviceSnapshotEntry> snapshot) {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(dataAccess.getDeviceSnapshotOutputStream()))) {
+			out.writeUTF(GDE.DEVICE_PROPERTIES_XSD_VERSION);
+			out.writeInt(snapshot.size());
+			for (Map.Entry<String, DeviceSnapshotEntry> entry : snapshot.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeLong(entry.getValue().lastModified);
+				out.writeBoolean(entry.getValue().isUsed);
+			}
+		} catch (IOException e) {
+			log.log(Level.WARNING, e.getMessage(), e);
+		}
 	}
 
 	/**
@@ -144,32 +267,42 @@ public final class DeviceConfigurations {
 	public void add(Analyzer analyzer, String activeDeviceName, String fileName, boolean checkUsedFlag) {
 		try {
 			if (fileName.endsWith(GDE.FILE_ENDING_DOT_XML)) {
-				String deviceKey = fileName.substring(0, fileName.length() - 4);
 				DeviceConfiguration devConfig = new DeviceConfiguration(Paths.get(Settings.DEVICE_PROPERTIES_DIR_NAME, fileName), analyzer);
-				if (checkUsedFlag && devConfig.isUsed() || !checkUsedFlag) {
-					if (devConfig.getName().equals(activeDeviceName) && devConfig.isUsed()) { // define the active device after re-start
-						selectedActiveDeviceConfig = devConfig;
-					}
-					// store all device configurations in a map
-					String keyString;
-					if (devConfig.getName() != null)
-						keyString = devConfig.getName();
-					else {
-						devConfig.setName(deviceKey);
-						keyString = deviceKey;
-					}
-					if (log.isLoggable(Level.FINE)) log.log(Level.FINE, deviceKey + GDE.STRING_MESSAGE_CONCAT + keyString);
-					this.deviceConfigs.put(keyString, devConfig);
-				}
+				put(activeDeviceName, fileName, devConfig, checkUsedFlag);
 			}
-		} catch (JAXBException e) {
+		} catch (Exception e) {
+			handleException(fileName, e);
+		}
+	}
+
+	private void put(String activeDeviceName, String fileName, DeviceConfiguration devConfig, boolean checkUsedFlag) {
+		String deviceKey = fileName.substring(0, fileName.length() - 4);
+		if (checkUsedFlag && devConfig.isUsed() || !checkUsedFlag) {
+			if (devConfig.getName().equals(activeDeviceName) && devConfig.isUsed()) { // define the active device after re-start
+				selectedActiveDeviceConfig = devConfig;
+			}
+			// store all device configurations in a map
+			String keyString;
+			if (devConfig.getName() != null)
+				keyString = devConfig.getName();
+			else {
+				devConfig.setName(deviceKey);
+				keyString = deviceKey;
+			}
+			if (log.isLoggable(Level.FINE)) log.log(Level.FINE, deviceKey + GDE.STRING_MESSAGE_CONCAT + keyString);
+			this.deviceConfigs.put(keyString, devConfig);
+		}
+	}
+
+	private static void handleException(String fileName, Exception e) {
+		if (e instanceof JAXBException) {
 			log.log(Level.WARNING, fileName, e);
-			if (e.getLinkedException() instanceof SAXParseException) {
-				SAXParseException spe = (SAXParseException) e.getLinkedException();
+			if (((JAXBException) e).getLinkedException() instanceof SAXParseException) {
+				SAXParseException spe = (SAXParseException) ((JAXBException) e).getLinkedException();
 				GDE.setInitError(Messages.getString(MessageIds.GDE_MSGW0038, new String[] {
 						fileName, spe.getLocalizedMessage() }));
 			}
-		} catch (Exception e) {
+		} else {
 			log.log(Level.WARNING, e.getMessage(), e);
 		}
 	}
@@ -19,6 +19,7 @@
 
 package gde.config;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
@@ -34,6 +35,8 @@ import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 
+import org.xml.sax.SAXException;
+
 import gde.Analyzer;
 import gde.DataAccess;
 import gde.DataAccess.LocalAccess;
@@ -47,20 +50,23 @@ import gde.utils.StringHelper;
 
 /**
  * Supports access to device xml files.
+ * The unmarshalling is threadsafe as each thread uses its own unmarshaller based on the shared context and schema.
  * @author Thomas Eickert (USER)
  */
 public class DeviceSerialization {
 	private static final String	$CLASS_NAME	= DeviceSerialization.class.getName();
 	private static final Logger	log					= Logger.getLogger($CLASS_NAME);
 
-	// JAXB XML environment
-	private JAXBContext					jc;
-	private Unmarshaller				unmarshaller;
-	private Marshaller					marshaller;
+	// JAXB XML environment which is created once per JVM, context and schema are threadsafe
+	private static JAXBContext						jc;
+	private static Schema									schema;
+
+	private final ThreadLocal<Unmarshaller>	unmarshaller	= new ThreadLocal<>();
+	private Marshaller										marshaller;
 
 	/**
 	 * Supported by the data access instance.
-	 * Not threadsafe due to JAXB un-/marshallers.
+	 * Creates the JAXB context and compiles the device properties schema only once per JVM.
 	 */
 	public Thread createXsdThread() {
 		Thread xsdThread = new Thread("xsdValidation") {
@@ -68,12 +74,9 @@ public class DeviceSerialization {
 			public void run() {
 				DeviceSerialization.log.log(Level.INFO, "xsdThread.run()");
 				// device properties context
-				try (InputStream inputStream = DataAccess.getInstance().getDeviceXsdInputStream()) {
-					Schema schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(new StreamSource(inputStream));
-					DeviceSerialization.this.jc = JAXBContext.newInstance("gde.device"); //$NON-NLS-1$
-					DeviceSerialization.this.unmarshaller = DeviceSerialization.this.jc.createUnmarshaller();
-					DeviceSerialization.this.unmarshaller.setSchema(schema);
-					DeviceSerialization.this.marshaller = DeviceSerialization.this.jc.createMarshaller();
+				try {
+					JAXBContext context = getJaxbContext();
+					DeviceSerialization.this.marshaller = context.createMarshaller();
 					DeviceSerialization.this.marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.valueOf(true));
 					DeviceSerialization.this.marshaller.setProperty(Marshaller.JAXB_NO_NAMESPACE_SCHEMA_LOCATION, Settings.DEVICE_PROPERTIES_XSD_NAME);
 					DeviceSerialization.log.log(Level.TIME, "schema factory setup time = ", StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - GDE.StartTime))); //$NON-NLS-1$ //$NON-NLS-2$
@@ -85,6 +88,36 @@ public class DeviceSerialization {
 		return xsdThread;
 	}
 
+	/**
+	 * @return the JAXB context for the device properties which is shared by all threads and instances
+	 */
+	private static synchronized JAXBContext getJaxbContext() throws JAXBException, IOException, SAXException {
+		if (DeviceSerialization.jc == null) {
+			try (InputStream inputStream = DataAccess.getInstance().getDeviceXsdInputStream()) {
+				DeviceSerialization.schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(new StreamSource(inputStream));
+			}
+			DeviceSerialization.jc = JAXBContext.newInstance("gde.device"); //$NON-NLS-1$
+		}
+		return DeviceSerialization.jc;
+	}
+
+	/**
+	 * @return the validating unmarshaller of the current thread (unmarshallers are not threadsafe)
+	 */
+	private Unmarshaller getUnmarshaller() throws JAXBException {
+		Unmarshaller threadUnmarshaller = this.unmarshaller.get();
+		if (threadUnmarshaller == null) {
+			try {
+				threadUnmarshaller = getJaxbContext().createUnmarshaller();
+			} catch (IOException | SAXException e) {
+				throw new JAXBException(e);
+			}
+			threadUnmarshaller.setSchema(DeviceSerialization.schema);
+			this.unmarshaller.set(threadUnmarshaller);
+		}
+		return threadUnmarshaller;
+	}
+
 	/**
 	 * Not threadsafe due to JAXB un-/marshallers.
 	 */
@@ -100,7 +133,7 @@ public class DeviceSerialization {
 					if (localAccess.existsDeviceMigrationFolder(i)) {
 						log.log(Level.INFO, "previous devices exist, migrate from version " + i);
 						try (InputStream inputStream = localAccess.getDeviceXsdMigrationStream(i)) {
-							Unmarshaller tmpUnmarshaller = JAXBContext.newInstance("gde.device").createUnmarshaller();//$NON-NLS-1$
+							Unmarshaller tmpUnmarshaller = getJaxbContext().createUnmarshaller();
 							tmpUnmarshaller.setSchema(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(new StreamSource(inputStream)));
 
 							for (Path xmlFileSubPath : localAccess.getDeviceXmlSubPaths(i)) {
@@ -142,7 +175,7 @@ public class DeviceSerialization {
 	}
 
 	public JAXBElement<DevicePropertiesType> getTopElement(String xmlFilePath, LocalAccess localAccess) throws JAXBException {
-		return getTopElement(xmlFilePath, this.unmarshaller, localAccess);
+		return getTopElement(xmlFilePath, getUnmarshaller(), localAccess);
 	}
 
 	/**
@@ -165,14 +198,14 @@ public class DeviceSerialization {
 	 * @return the device xml header reference
 	 */
 	public JAXBElement<DevicePropertiesType> getTopElement(Path fileSubPath, DataAccess dataAccess) throws JAXBException {
-		return getTopElement(fileSubPath, this.unmarshaller, dataAccess);
+		return getTopElement(fileSubPath, getUnmarshaller(), dataAccess);
 	}
 
 	/**
 	 * Use this for roaming data sources support via the DataAccess class.
 	 * @param xmlFile points to a device xml file
 	 */
-	public void marshall(JAXBElement<DevicePropertiesType> element, String xmlFile, LocalAccess localAccess) throws JAXBException {
+	public synchronized void marshall(JAXBElement<DevicePropertiesType> element, String xmlFile, LocalAccess localAccess) throws JAXBException {
 		try (OutputStream stream = localAccess.getDeviceXmlOutputStream(xmlFile)) {
 			marshaller.marshal(element, stream);
 		} catch (Exception e) {
@@ -150,6 +150,8 @@ public final class Settings extends Properties {
 	final static String							RETROSPECT_MONTHS								= "retrospect_months";																																						//$NON-NLS-1$
 	final static String							IS_ZIPPED_CACHE									= "zipped_cache";																																									//$NON-NLS-1$
 	final static String							IS_XML_CACHE										= "xml_cache";																																									//$NON-NLS-1$
+	final static String							IS_BINARY_CACHE									= "binary_cache";																																								//$NON-NLS-1$
+	final static String							CACHE_RESTORE_THREADS						= "cache_restore_threads";																																				//$NON-NLS-1$
 	final static String							MINMAX_QUANTILE_DISTANCE				= "minmax_quantile_distance";																																			//$NON-NLS-1$
 	final static String							ABSOLUTE_TRANSITION_LEVEL				= "absolute_transition_level";																																		//$NON-NLS-1$
 	final static String							IS_DATETIME_UTC									= "is_datetime_utc";																																							//$NON-NLS-1$
@@ -222,8 +224,12 @@ public final class Settings extends Properties {
 	public static final String			IS_REDUCE_CHARGE_DISCHARGE			= "is_reduce_charge_discharge";																																		//$NON-NLS-1$
 	public final static String			IS_ALL_IN_ONE_RECORDSET					= "is_all_in_one_record_set";																																			//$NON-NLS-1$
 	public final static String			IS_PARTIAL_DATA_TABLE						= "is_partial_data_table";																																				//$NON-NLS-1$
+	public final static String			RECORD_SET_MEMORY_BUDGET_MB			= "record_set_memory_budget_mb";																																	//$NON-NLS-1$
+	public final static String			IS_OSD_COLUMNAR									= "is_osd_columnar";																																							//$NON-NLS-1$
 	public final static String			IS_DATA_TABLE_EDITABLE					= "is_data_table_editable";																																				//$NON-NLS-1$
 	public final static String			IS_RXTX_COMM_TO_BE_USED					= "is_rxtx_comm_to_be_used";																																				//$NON-NLS-1$
+	public final static String			IS_DEVICE_SNAPSHOT						= "is_device_snapshot";																																				//$NON-NLS-1$
+	public final static String			DEVICE_SNAPSHOT_FILE_NAME		= "DeviceProperties.snapshot";																																	//$NON-NLS-1$
 	public final static String			IS_MAC_TOUCHBAR									= "is_mac_touchbar";																																				//$NON-NLS-1$
 	public final static String			GLOBAL_LOG_LEVEL								= "global_log_level";																																							//$NON-NLS-1$
 	public final static String			UI_LOG_LEVEL										= "ui_log_level";																																									//$NON-NLS-1$
@@ -784,7 +790,10 @@ public final class Settings extends Properties {
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_REDUCE_CHARGE_DISCHARGE, this.isReduceChargeDischarge())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_ALL_IN_ONE_RECORDSET, this.isContinuousRecordSet())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_PARTIAL_DATA_TABLE, this.isPartialDataTable())); //$NON-NLS-1$
+			writer.write(String.format("%-40s \t=\t %s\n", Settings.RECORD_SET_MEMORY_BUDGET_MB, this.getRecordSetMemoryBudget_MB())); //$NON-NLS-1$
+			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_OSD_COLUMNAR, this.isOsdColumnar())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_RXTX_COMM_TO_BE_USED, this.isRXTXcommToBeUsed())); //$NON-NLS-1$
+			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_DEVICE_SNAPSHOT, this.isDeviceSnapshot())); //$NON-NLS-1$
 
 			writer.write(String.format("%s\n", Settings.TABLE_BLOCK)); // [Tabellen Einstellungen] //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.LIST_SEPARATOR, getListSeparator())); //$NON-NLS-1$
@@ -815,6 +824,8 @@ public final class Settings extends Properties {
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.IGNORE_LOG_OBJECT_KEY, getIgnoreLogObjectKey())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_ZIPPED_CACHE, isZippedCache())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_XML_CACHE, isXmlCache())); //$NON-NLS-1$
+			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_BINARY_CACHE, isBinaryCache())); //$NON-NLS-1$
+			writer.write(String.format("%-40s \t=\t %s\n", Settings.CACHE_RESTORE_THREADS, getCacheRestoreThreads())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.MINMAX_QUANTILE_DISTANCE, getMinmaxQuantileDistance())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.ABSOLUTE_TRANSITION_LEVEL, getAbsoluteTransitionLevel())); //$NON-NLS-1$
 			writer.write(String.format("%-40s \t=\t %s\n", Settings.IS_DATETIME_UTC, isDateTimeUtc())); //$NON-NLS-1$
@@ -1302,6 +1313,56 @@ public final class Settings extends Properties {
 		this.setProperty(Settings.IS_PARTIAL_DATA_TABLE, GDE.STRING_EMPTY + enabled);
 	}
 
+	/**
+	 * @return the memory in MB which may be occupied by the data points of the record sets of a channel, default is a quarter of the maximum heap size
+	 */
+	public int getRecordSetMemoryBudget_MB() {
+		return Integer.parseInt(this.getProperty(Settings.RECORD_SET_MEMORY_BUDGET_MB, String.valueOf(Runtime.getRuntime().maxMemory() / 4 / 1024 / 1024)).trim());
+	}
+
+	/**
+	 * set the memory in MB which may be occupied by the data points of the record sets of a channel,
+	 * data of the least recently used record sets loaded from file are released if the budget is exceeded
+	 */
+	public void setRecordSetMemoryBudget_MB(int megaBytes) {
+		this.setProperty(Settings.RECORD_SET_MEMORY_BUDGET_MB, String.valueOf(Math.max(1, megaBytes)));
+	}
+
+	/**
+	 * @return true if OSD files are saved in the uncompressed columnar file version 5 which is not readable by earlier releases, default is false
+	 */
+	public boolean isOsdColumnar() {
+		return Boolean.valueOf(this.getProperty(Settings.IS_OSD_COLUMNAR, "false")); //$NON-NLS-1$
+	}
+
+	/**
+	 * set boolean value if OSD files should be saved in the uncompressed columnar file version 5
+	 */
+	public void setOsdColumnar(boolean enabled) {
+		this.setProperty(Settings.IS_OSD_COLUMNAR, String.valueOf(enabled));
+	}
+
+	/**
+	 * @return the OSD file version to save files, the zipped version 4 unless the columnar version 5 is enabled
+	 */
+	public int getOsdFileVersion() {
+		return this.isOsdColumnar() ? GDE.DATA_EXPLORER_COLUMNAR_FILE_VERSION_INT : GDE.DATA_EXPLORER_FILE_VERSION_INT;
+	}
+
+	/**
+	 * @return true if the device initialization skips the unused device properties files which did not change since the last start
+	 */
+	public boolean isDeviceSnapshot() {
+		return Boolean.valueOf(this.getProperty(Settings.IS_DEVICE_SNAPSHOT, "true").trim()); //$NON-NLS-1$
+	}
+
+	/**
+	 * @param enabled true if the device initialization skips the unused device properties files which did not change since the last start
+	 */
+	public void setDeviceSnapshot(boolean enabled) {
+		this.setProperty(Settings.IS_DEVICE_SNAPSHOT, String.valueOf(enabled));
+	}
+
 	/**
 	 * @return boolean value if data table displayed selected record entry is editable, this preference is not persistence
 	 */
@@ -2689,6 +2750,35 @@ public final class Settings extends Properties {
 		this.setProperty(Settings.IS_XML_CACHE, String.valueOf(value));
 	}
 
+	/**
+	 * @return true if the history cache vaults are stored in one binary segment file per vault directory (overrides the zip and xml settings),
+	 * default is false to keep the zip or xml cache directories of existing installations in use
+	 */
+	public boolean isBinaryCache() {
+		return Boolean.valueOf(this.getProperty(Settings.IS_BINARY_CACHE, "false")); //$NON-NLS-1$
+	}
+
+	/**
+	 * @param value true if the history cache vaults are stored in one binary segment file per vault directory (overrides the zip and xml settings)
+	 */
+	public void setBinaryCache(boolean value) {
+		this.setProperty(Settings.IS_BINARY_CACHE, String.valueOf(value));
+	}
+
+	/**
+	 * @return the number of threads decoding the history cache vaults in parallel (at least 1), default is the number of available processors
+	 */
+	public int getCacheRestoreThreads() {
+		return Math.max(1, Integer.parseInt(this.getProperty(Settings.CACHE_RESTORE_THREADS, String.valueOf(Runtime.getRuntime().availableProcessors())).trim()));
+	}
+
+	/**
+	 * @param threads is the number of threads decoding the history cache vaults in parallel (1 decodes on the reading thread)
+	 */
+	public void setCacheRestoreThreads(int threads) {
+		this.setProperty(Settings.CACHE_RESTORE_THREADS, String.valueOf(Math.max(1, threads)));
+	}
+
 	/**
 	 * @return the minmax distance value used in quantile calculations for settlements based on transitions
 	 */
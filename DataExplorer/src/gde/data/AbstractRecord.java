@@ -19,31 +19,324 @@
 
 package gde.data;
 
+import java.io.Serializable;
 import java.text.DecimalFormat;
-import java.util.Vector;
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 import gde.data.Record.DataType;
 
 /**
  * Supports all classes which access both the Records class and the TrailRecords class.
+ * The measurement points are held in a primitive point store, the list methods keep the former Vector semantics:
+ * access methods are synchronized and iterators, isEmpty() and the Vector style element methods ignore zoom and scope mode.
  * @author Thomas Eickert (USER)
  */
-public abstract class AbstractRecord extends Vector<Integer> {
+public abstract class AbstractRecord extends AbstractList<Integer> implements RandomAccess, Cloneable, Serializable {
 	private static final long serialVersionUID = 3212164037419263272L;
 
+	protected PointStore			points;
+
 	protected AbstractRecord() {
-		super();
+		this(10);
 	}
 
 	protected AbstractRecord(int initialCapacity) {
-		super(initialCapacity);
+		super();
+		this.points = new PointStore(initialCapacity);
 	}
 
 	/**
 	 * copy constructor
 	 */
 	protected AbstractRecord(AbstractRecord record) {
-		super(record);
+		super();
+		synchronized (record) {
+			this.points = new PointStore(record.points);
+		}
+	}
+
+	/**
+	 * @return the real number of points (does not consider zoom, scope, ...)
+	 */
+	@Override
+	public synchronized int size() {
+		return this.points.size();
+	}
+
+	@Override
+	public synchronized boolean isEmpty() {
+		return this.points.size() == 0;
+	}
+
+	/**
+	 * @return the point at the real index (does not consider zoom, scope, ...)
+	 */
+	@Override
+	public synchronized Integer get(int index) {
+		return this.points.get(index);
+	}
+
+	@Override
+	public synchronized Integer set(int index, Integer point) {
+		return this.points.set(index, point);
+	}
+
+	@Override
+	public synchronized boolean add(Integer point) {
+		++this.modCount;
+		this.points.add(point);
+		return true;
+	}
+
+	@Override
+	public synchronized void add(int index, Integer point) {
+		++this.modCount;
+		this.points.insert(index, point);
+	}
+
+	@Override
+	public synchronized Integer remove(int index) {
+		++this.modCount;
+		return this.points.remove(index);
+	}
+
+	@Override
+	public synchronized void clear() {
+		++this.modCount;
+		this.points.clear();
+	}
+
+	/**
+	 * @return the primitive point value at the real index, null points are returned as 0
+	 */
+	public synchronized int elementAtInt(int index) {
+		return this.points.getInt(index);
+	}
+
+	/**
+	 * @return true if the point at the real index is null
+	 */
+	public synchronized boolean isNullAt(int index) {
+		return this.points.isNull(index);
+	}
+
+	public synchronized Integer elementAt(int index) {
+		return this.points.get(index);
+	}
+
+	public synchronized Integer firstElement() {
+		if (this.points.size() == 0) throw new NoSuchElementException();
+		return this.points.get(0);
+	}
+
+	public synchronized Integer lastElement() {
+		if (this.points.size() == 0) throw new NoSuchElementException();
+		return this.points.get(this.points.size() - 1);
+	}
+
+	public synchronized void addElement(Integer point) {
+		++this.modCount;
+		this.points.add(point);
+	}
+
+	public synchronized void setElementAt(Integer point, int index) {
+		this.points.set(index, point);
+	}
+
+	public synchronized void removeAllElements() {
+		++this.modCount;
+		this.points.clear();
+	}
+
+	public synchronized void ensureCapacity(int minCapacity) {
+		this.points.ensureCapacity(minCapacity);
+	}
+
+	public synchronized int capacity() {
+		return this.points.capacity();
+	}
+
+	public synchronized void trimToSize() {
+		this.points.trimToSize();
+	}
+
+	/**
+	 * @return false if the points are pending for a lazy load from file
+	 */
+	public synchronized boolean isPointsLoaded() {
+		return this.points.isLoaded();
+	}
+
+	/**
+	 * execute a pending lazy load of the points or repeat a failed one, a failure is thrown to prevent writing missing points to file
+	 */
+	public synchronized void ensurePointsLoaded() {
+		this.points.ensureLoaded();
+		this.points.retryFailedLoad();
+	}
+
+	/**
+	 * @return a copy of all primitive point values, null points are returned as 0
+	 */
+	public synchronized int[] toIntArray() {
+		return this.points.toIntArray();
+	}
+
+	@Override
+	public synchronized Object[] toArray() {
+		Object[] values = new Object[this.points.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = this.points.get(i);
+		}
+		return values;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized <T> T[] toArray(T[] a) {
+		int realSize = this.points.size();
+		T[] values = a.length >= realSize ? a : (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), realSize);
+		for (int i = 0; i < realSize; i++) {
+			values[i] = (T) this.points.get(i);
+		}
+		if (values.length > realSize) values[realSize] = null;
+		return values;
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		return new PointIterator(0);
+	}
+
+	@Override
+	public ListIterator<Integer> listIterator() {
+		return new PointIterator(0);
+	}
+
+	@Override
+	public synchronized ListIterator<Integer> listIterator(int index) {
+		if (index < 0 || index > this.points.size()) throw new IndexOutOfBoundsException("Index: " + index); //$NON-NLS-1$
+		return new PointIterator(index);
+	}
+
+	@Override
+	public Spliterator<Integer> spliterator() {
+		return Spliterators.spliterator(new PointIterator(0), this.points.size(), Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+	}
+
+	/**
+	 * the clone holds a copy of the point store
+	 */
+	@Override
+	public synchronized AbstractRecord clone() {
+		try {
+			AbstractRecord clone = (AbstractRecord) super.clone();
+			clone.points = new PointStore(this.points);
+			clone.modCount = 0;
+			return clone;
+		}
+		catch (CloneNotSupportedException e) {
+			throw new InternalError(e);
+		}
+	}
+
+	/**
+	 * list iterator on the real points (does not consider zoom, scope, ...) like the Vector iterator
+	 */
+	private final class PointIterator implements ListIterator<Integer> {
+		int	cursor;
+		int	lastRet						= -1;
+		int	expectedModCount	= AbstractRecord.this.modCount;
+
+		PointIterator(int index) {
+			this.cursor = index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.cursor != AbstractRecord.this.points.size();
+		}
+
+		@Override
+		public Integer next() {
+			synchronized (AbstractRecord.this) {
+				checkForComodification();
+				int i = this.cursor;
+				if (i >= AbstractRecord.this.points.size()) throw new NoSuchElementException();
+				this.cursor = i + 1;
+				return AbstractRecord.this.points.get(this.lastRet = i);
+			}
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return this.cursor != 0;
+		}
+
+		@Override
+		public Integer previous() {
+			synchronized (AbstractRecord.this) {
+				checkForComodification();
+				int i = this.cursor - 1;
+				if (i < 0) throw new NoSuchElementException();
+				this.cursor = i;
+				return AbstractRecord.this.points.get(this.lastRet = i);
+			}
+		}
+
+		@Override
+		public int nextIndex() {
+			return this.cursor;
+		}
+
+		@Override
+		public int previousIndex() {
+			return this.cursor - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (this.lastRet == -1) throw new IllegalStateException();
+			synchronized (AbstractRecord.this) {
+				checkForComodification();
+				AbstractRecord.this.remove(this.lastRet);
+				this.expectedModCount = AbstractRecord.this.modCount;
+			}
+			this.cursor = this.lastRet;
+			this.lastRet = -1;
+		}
+
+		@Override
+		public void set(Integer point) {
+			if (this.lastRet == -1) throw new IllegalStateException();
+			synchronized (AbstractRecord.this) {
+				checkForComodification();
+				AbstractRecord.this.set(this.lastRet, point);
+			}
+		}
+
+		@Override
+		public void add(Integer point) {
+			int i = this.cursor;
+			synchronized (AbstractRecord.this) {
+				checkForComodification();
+				AbstractRecord.this.add(i, point);
+				this.expectedModCount = AbstractRecord.this.modCount;
+			}
+			this.cursor = i + 1;
+			this.lastRet = -1;
+		}
+
+		final void checkForComodification() {
+			if (AbstractRecord.this.modCount != this.expectedModCount) throw new ConcurrentModificationException();
+		}
 	}
 
 	public abstract double getFactor();
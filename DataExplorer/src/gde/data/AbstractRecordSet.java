@@ -263,6 +263,7 @@ public abstract class AbstractRecordSet extends LinkedHashMap<String, AbstractRe
 	// current drop, shadow point vector to mark data points capable to be smoothed
 	protected boolean														isSmoothAtCurrentDrop			= false;
 	protected Vector<Integer[]>									currentDropShadow					= new Vector<>(0);
+	protected final DropAreaIndex								currentDropIndex					= new DropAreaIndex(this.currentDropShadow);
 	public static final String									SMOOTH_AT_CURRENT_DROP		= "RecordSet_smoothAtCurrentDrop";					//$NON-NLS-1$
 
 	protected boolean														isSmoothVoltageCurve			= false;
@@ -18,9 +18,11 @@
 ****************************************************************************************/
 package gde.data;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Vector;
 import java.util.logging.Logger;
 
@@ -65,6 +67,7 @@ public class Channel extends HashMap<String, RecordSet> {
 	private boolean								isSaved = false;
 	private final Channels				parent;
 	Comparator<String> 						comparator = new RecordSetNameComparator();
+	private final ArrayDeque<RecordSet>	loadedRecordSets = new ArrayDeque<>();	// record sets with data loaded from file, least recently used first
 
 	public final static String		UNSAVED_REASON_ADD_OBJECT_KEY	= Messages.getString(MessageIds.GDE_MSGT0400);
 	public final static String		UNSAVED_REASON_REMOVE_OBJECT_KEY	= Messages.getString(MessageIds.GDE_MSGT0401);
@@ -637,6 +640,7 @@ public class Channel extends HashMap<String, RecordSet> {
 			this.setActiveRecordSet(recordSetKey);
 			if (!recordSet.hasDisplayableData)
 				recordSet.loadFileData(this.getFullQualifiedFileName(), true);
+			this.checkRecordSetMemoryBudget(recordSet);
 			recordSet.resetZoomAndMeasurement();
 			application.resetGraphicsWindowZoomAndMeasurement();
 			if (recordSet.isRecalculation)
@@ -741,12 +745,21 @@ public class Channel extends HashMap<String, RecordSet> {
 	}
 
 
+	/**
+	 * check if all record sets have its data loaded, if required load data from file as long as the record set memory budget is not exceeded
+	 * the behavior which record set data is checked and loaded depends on the method this.getRecordSetNames()
+	 */
+	public synchronized void checkAndLoadData() {
+		checkAndLoadData(false);
+	}
+
 	/**
 	 * check if all record sets have its data loaded, if required load data from file
 	 * this method can be used to check prior to save modified data
 	 * the behavior which record set data is checked and loaded depends on the method this.getRecordSetNames()
+	 * @param isCompleteLoad true loads all data ignoring the memory budget and executes pending lazy loads of record points, e.g. prior to overwrite the file
 	 */
-	public synchronized void checkAndLoadData() {
+	public synchronized void checkAndLoadData(boolean isCompleteLoad) {
 		String fullQualifiedFileName = this.getFullQualifiedFileName();
 		for (String tmpRecordSetName : this.getRecordSetNames()) {
 			if (log.isLoggable(Level.FINER)) log.log(Level.FINER, "tmpRecordSetName = " + tmpRecordSetName); //$NON-NLS-1$
@@ -762,15 +775,74 @@ public class Channel extends HashMap<String, RecordSet> {
 					if (tmpRecordSet != null && !tmpRecordSet.hasDisplayableData()) {
 						if (log.isLoggable(Level.FINER)) log.log(Level.FINER, "tmpRecordSetName needs data to loaded"); //$NON-NLS-1$
 						if (tmpRecordSet.fileDataSize != 0 && tmpRecordSet.fileDataPointer != 0) {
+							if (!isCompleteLoad && selectedChannel.isRecordSetMemoryBudgetExceeded()) {
+								if (log.isLoggable(Level.FINER)) log.log(Level.FINER, "memory budget exceeded, loading deferred"); //$NON-NLS-1$
+								continue;
+							}
 							if (log.isLoggable(Level.FINER)) log.log(Level.FINER, "loading data ..."); //$NON-NLS-1$
 							tmpRecordSet.loadFileData(fullQualifiedFileName, GDE.isWithUi());
+							selectedChannel.addLoadedRecordSet(tmpRecordSet);
 						}
 					}
+					if (tmpRecordSet != null && isCompleteLoad) tmpRecordSet.ensurePointsLoaded();
 				}
 			}
 		}
 	}
 
+	/**
+	 * @return the estimated number of bytes occupied by the data points of all record sets of this channel
+	 */
+	public synchronized long getDataMemorySize() {
+		long bytes = 0;
+		for (RecordSet recordSet : this.values()) {
+			bytes += recordSet.getDataMemorySize();
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return true if the data points of the record sets occupy more memory than the budget configured in the settings
+	 */
+	public boolean isRecordSetMemoryBudgetExceeded() {
+		return getDataMemorySize() > this.analyzer.getSettings().getRecordSetMemoryBudget_MB() * 1024L * 1024L;
+	}
+
+	/**
+	 * register a record set which data was loaded in advance as least recently used
+	 * @param recordSet
+	 */
+	synchronized void addLoadedRecordSet(RecordSet recordSet) {
+		this.loadedRecordSets.remove(recordSet);
+		this.loadedRecordSets.addFirst(recordSet);
+	}
+
+	/**
+	 * register the record set as most recently used and release the data of the least recently used record sets as long as the memory budget is exceeded,
+	 * the active record set and record sets with unsaved data are kept, released record sets keep their meta data and reload their data from file when activated again
+	 * @param usedRecordSet
+	 */
+	public synchronized void checkRecordSetMemoryBudget(RecordSet usedRecordSet) {
+		if (usedRecordSet != null) {
+			this.loadedRecordSets.remove(usedRecordSet);
+			this.loadedRecordSets.addLast(usedRecordSet);
+		}
+		long budget = this.analyzer.getSettings().getRecordSetMemoryBudget_MB() * 1024L * 1024L;
+		long usedBytes = getDataMemorySize();
+		for (Iterator<RecordSet> iterator = this.loadedRecordSets.iterator(); usedBytes > budget && iterator.hasNext();) {
+			RecordSet recordSet = iterator.next();
+			if (this.get(recordSet.getName()) != recordSet) {
+				iterator.remove(); // removed or replaced meanwhile
+			}
+			else if (recordSet != this.activeRecordSet && recordSet != usedRecordSet && recordSet.isFileDataReloadable()) {
+				usedBytes -= recordSet.getDataMemorySize();
+				recordSet.releaseFileData();
+				iterator.remove();
+			}
+		}
+		if (log.isLoggable(Level.FINE)) log.log(Level.FINE, String.format("%s record set data %,d bytes, budget %,d bytes", this.name, usedBytes, budget)); //$NON-NLS-1$
+	}
+
 	/**
 	 * @return the channel/config number
 	 */
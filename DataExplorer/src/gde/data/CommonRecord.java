@@ -285,7 +285,7 @@ public abstract class CommonRecord extends AbstractRecord {
 	 */
 	public double getMaxTime_ms() {
 		return this.timeStep_ms == null ? this.parent.getMaxTime_ms() : this.timeStep_ms.isConstant
-				? this.timeStep_ms.getMaxTime_ms() * (this.elementCount - 1) : this.timeStep_ms.getMaxTime_ms();
+				? this.timeStep_ms.getMaxTime_ms() * (this.points.size() - 1) : this.timeStep_ms.getMaxTime_ms();
 	}
 
 	/**
@@ -298,9 +298,9 @@ public abstract class CommonRecord extends AbstractRecord {
 	 */
 	protected int[] findBoundingIndexes(double time_ms) {
 		int[] indexs = this.timeStep_ms == null ? this.parent.timeStep_ms.findBoundingIndexes(time_ms) : this.timeStep_ms.findBoundingIndexes(time_ms);
-		if (this.elementCount > 0) {
-			indexs[0] = indexs[0] > this.elementCount - 1 ? this.elementCount - 1 : indexs[0];
-			indexs[1] = indexs[1] > this.elementCount - 1 ? this.elementCount - 1 : indexs[1];
+		if (this.points.size() > 0) {
+			indexs[0] = indexs[0] > this.points.size() - 1 ? this.points.size() - 1 : indexs[0];
+			indexs[1] = indexs[1] > this.points.size() - 1 ? this.points.size() - 1 : indexs[1];
 		}
 		return indexs;
 	}
@@ -343,17 +343,19 @@ public abstract class CommonRecord extends AbstractRecord {
 	 */
 	public void setAvgValue() {
 		synchronized (this) {
-			if (super.size() > 0) {
+			final int realSize = this.points.size();
+			if (realSize > 0) {
 				long sum = 0;
 				int zeroCount = 0;
-				for (Integer xi : this) { // ET loops over all elements of the vector
-					if (xi != null && xi != 0) {
+				for (int i = 0; i < realSize; i++) { // ET loops over all elements of the vector, null points are stored as zero
+					int xi = this.points.getInt(i);
+					if (xi != 0) {
 						sum += xi;
 					} else {
 						zeroCount++;
 					}
 				}
-				this.avgValue = (super.size() - zeroCount) != 0 ? Long.valueOf(sum / (super.size() - zeroCount)).intValue() : 0; // ET realSize corresponds to
+				this.avgValue = (realSize - zeroCount) != 0 ? Long.valueOf(sum / (realSize - zeroCount)).intValue() : 0; // ET realSize corresponds to
 																																																													// the looped elements
 			}
 		}
@@ -372,19 +374,22 @@ public abstract class CommonRecord extends AbstractRecord {
 	 */
 	public void setSigmaValue() {
 		synchronized (this) {
-			if (super.size() > 0) {
+			final int realSize = this.points.size();
+			if (realSize > 0) {
 				double average = this.getAvgValue() / 1000.0;
 				double sumPoweredValues = 0;
 				int zeroCount = 0;
-				for (Integer xi : this) { // ET loops over all elements of the vector
-					if (xi != null && xi != 0) { // sigma is based on the same population as avg
-						sumPoweredValues += Math.pow(xi / 1000.0 - average, 2);
+				for (int i = 0; i < realSize; i++) { // ET loops over all elements of the vector, null points are stored as zero
+					int xi = this.points.getInt(i);
+					if (xi != 0) { // sigma is based on the same population as avg
+						double deviation = xi / 1000.0 - average;
+						sumPoweredValues += deviation * deviation;
 					} else {
 						zeroCount++;
 					}
 				}
-				this.sigmaValue = (super.size() - zeroCount - 1) != 0
-						? Double.valueOf(Math.sqrt(sumPoweredValues / (super.size() - zeroCount - 1)) * 1000).intValue() : 0;
+				this.sigmaValue = (realSize - zeroCount - 1) != 0
+						? Double.valueOf(Math.sqrt(sumPoweredValues / (realSize - zeroCount - 1)) * 1000).intValue() : 0;
 				// ET realSize corresponds to the looped elements
 			}
 		}
@@ -0,0 +1,120 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Interval index of the current drop areas of a record set for smoothing the curves at current drops.
+ * The areas may overlap, the area added last wins like in a sequential scan of the area list.
+ * The index resolves the areas into disjoint segments which are found by binary search.
+ * It is rebuilt on the next query after areas have been added or removed.
+ * The queries are synchronized because the index is shared by all records of a record set.
+ * @author agent
+ */
+public final class DropAreaIndex {
+
+	private final List<Integer[]>	dropAreas;
+	private int										areaCount		= -1;
+	private int[]									starts			= new int[0];
+	private int[]									ends				= new int[0];													// inclusive
+	private int[]									areaIndices	= new int[0];													// position in the area list
+
+	/**
+	 * @param newDropAreas holds the drop areas as {startIndex, endIndex} arrays with inclusive end indices
+	 */
+	public DropAreaIndex(List<Integer[]> newDropAreas) {
+		this.dropAreas = newDropAreas;
+	}
+
+	/**
+	 * mark the index for a rebuild, e.g. after clearing the area list
+	 */
+	public synchronized void invalidate() {
+		this.areaCount = -1;
+	}
+
+	/**
+	 * resolve the overlapping areas into disjoint segments by a sweep over the area boundaries
+	 */
+	private void update() {
+		if (this.areaCount == this.dropAreas.size()) return;
+
+		final Integer[][] areas = this.dropAreas.toArray(new Integer[0][]);
+		this.areaCount = areas.length;
+		int[] boundaries = new int[areas.length * 2];
+		for (int i = 0; i < areas.length; i++) {
+			boundaries[i * 2] = areas[i][0];
+			boundaries[i * 2 + 1] = areas[i][1] + 1;
+		}
+		Arrays.sort(boundaries);
+		Integer[] areaOrder = new Integer[areas.length];
+		for (int i = 0; i < areaOrder.length; i++) {
+			areaOrder[i] = i;
+		}
+		Arrays.sort(areaOrder, (a, b) -> Integer.compare(areas[a][0], areas[b][0]));
+
+		List<int[]> segments = new ArrayList<>();
+		PriorityQueue<Integer> activeAreas = new PriorityQueue<>((a, b) -> Integer.compare(b, a)); // latest area first
+		int nextArea = 0;
+		for (int k = 0; k < boundaries.length; k++) {
+			final int start = boundaries[k];
+			if (k + 1 < boundaries.length && boundaries[k + 1] == start) continue;
+			while (nextArea < areaOrder.length && areas[areaOrder[nextArea]][0] <= start) {
+				if (areas[areaOrder[nextArea]][1] >= areas[areaOrder[nextArea]][0]) activeAreas.add(areaOrder[nextArea]);
+				++nextArea;
+			}
+			while (!activeAreas.isEmpty() && areas[activeAreas.peek()][1] < start)
+				activeAreas.poll();
+			if (activeAreas.isEmpty() || k + 1 >= boundaries.length) continue;
+
+			final int end = boundaries[k + 1] - 1;
+			final int areaIndex = activeAreas.peek();
+			int[] last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+			if (last != null && last[2] == areaIndex && last[1] == start - 1)
+				last[1] = end;
+			else
+				segments.add(new int[] { start, end, areaIndex });
+		}
+
+		this.starts = new int[segments.size()];
+		this.ends = new int[segments.size()];
+		this.areaIndices = new int[segments.size()];
+		for (int i = 0; i < segments.size(); i++) {
+			this.starts[i] = segments.get(i)[0];
+			this.ends[i] = segments.get(i)[1];
+			this.areaIndices[i] = segments.get(i)[2];
+		}
+	}
+
+	/**
+	 * @param index is the real point index
+	 * @return the last added drop area which contains the index or null
+	 */
+	public synchronized Integer[] find(int index) {
+		update();
+		int position = Arrays.binarySearch(this.starts, index);
+		if (position < 0) position = -position - 2; // segment starting in front of the index
+		if (position < 0 || this.ends[position] < index) return null;
+		return this.dropAreas.get(this.areaIndices[position]);
+	}
+}
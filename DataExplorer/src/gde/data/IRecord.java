@@ -20,6 +20,8 @@
 package gde.data;
 
 import java.util.Collection;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
 
 /**
  * Supports both legacy records and record types required for the histo extension.
@@ -34,4 +36,22 @@ public interface IRecord {
 
 	Collection<Integer> getValues();
 
+	/**
+	 * Feed the translated values without nulls.
+	 */
+	default void forEachTranslatedValue(DoubleConsumer consumer) {
+		for (Double value : getTranslatedValues()) {
+			if (value != null) consumer.accept(value);
+		}
+	}
+
+	/**
+	 * Feed the integer values without nulls.
+	 */
+	default void forEachValue(IntConsumer consumer) {
+		for (Integer value : getValues()) {
+			if (value != null) consumer.accept(value);
+		}
+	}
+
 }
@@ -0,0 +1,127 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.data;
+
+import java.util.Arrays;
+
+/**
+ * Level of detail min/max pyramid of the points of a record used to decimate curves without dropping extrema.
+ * Level 0 holds the min and max value of each block of 32 points, each higher level combines two blocks of the level below.
+ * Appended points are aggregated incrementally, any other modification of the point store causes a rebuild on the next query.
+ * Queries update the pyramid in place, so they must be serialized with modifications of the point store, which Record.getMinMax does.
+ * @author agent
+ */
+public final class MinMaxPyramid {
+
+	static final int		BLOCK_SHIFT		= 5;
+	static final int		BLOCK_SIZE		= 1 << BLOCK_SHIFT;
+
+	private final PointStore	points;
+	private int[][]			mins					= new int[0][];
+	private int[][]			maxs					= new int[0][];
+	private int					validSize			= 0;																		// number of aggregated points
+	private int					rewriteCount	= 0;
+
+	/**
+	 * @param newPoints the point store to be aggregated
+	 */
+	public MinMaxPyramid(PointStore newPoints) {
+		this.points = newPoints;
+		this.rewriteCount = newPoints.getRewriteCount();
+	}
+
+	/**
+	 * aggregate the points appended since the last update or rebuild after non appending modifications
+	 */
+	public void update() {
+		if (this.rewriteCount != this.points.getRewriteCount()) {
+			this.rewriteCount = this.points.getRewriteCount();
+			this.mins = new int[0][];
+			this.maxs = new int[0][];
+			this.validSize = 0;
+		}
+		final int size = this.points.size();
+		for (int i = this.validSize; i < size; i++) {
+			final int value = this.points.getInt(i);
+			if (this.mins.length == 0 || i >= BLOCK_SIZE << (this.mins.length - 1)) addLevel();
+			for (int level = 0; level < this.mins.length; level++) {
+				final int shift = BLOCK_SHIFT + level;
+				final int block = i >>> shift;
+				if (block >= this.mins[level].length) {
+					this.mins[level] = Arrays.copyOf(this.mins[level], this.mins[level].length << 1);
+					this.maxs[level] = Arrays.copyOf(this.maxs[level], this.maxs[level].length << 1);
+				}
+				if ((i & ((1 << shift) - 1)) == 0) {
+					this.mins[level][block] = this.maxs[level][block] = value;
+				} else {
+					if (value < this.mins[level][block]) this.mins[level][block] = value;
+					if (value > this.maxs[level][block]) this.maxs[level][block] = value;
+				}
+			}
+		}
+		this.validSize = size;
+	}
+
+	/**
+	 * add a new top level, its first block is initialized from the first block of the current top level
+	 */
+	private void addLevel() {
+		final int level = this.mins.length;
+		this.mins = Arrays.copyOf(this.mins, level + 1);
+		this.maxs = Arrays.copyOf(this.maxs, level + 1);
+		this.mins[level] = new int[level == 0 ? 64 : 4];
+		this.maxs[level] = new int[level == 0 ? 64 : 4];
+		if (level > 0) {
+			this.mins[level][0] = this.mins[level - 1][0];
+			this.maxs[level][0] = this.maxs[level - 1][0];
+		}
+	}
+
+	/**
+	 * query the min and max value of a point range, the pyramid gets updated before
+	 * @param fromIndex inclusive
+	 * @param toIndex exclusive
+	 * @param minMax array receiving the minimum at index 0 and the maximum at index 1
+	 */
+	public void getMinMax(int fromIndex, int toIndex, int[] minMax) {
+		this.update();
+		if (fromIndex < 0 || toIndex > this.validSize || fromIndex >= toIndex) throw new ArrayIndexOutOfBoundsException(fromIndex < 0 ? fromIndex : toIndex);
+		int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+		int index = fromIndex;
+		while (index < toIndex) {
+			int level = this.mins.length - 1;
+			// find the largest aligned block which fits into the remaining range
+			while (level >= 0 && ((index & ((BLOCK_SIZE << level) - 1)) != 0 || index + (BLOCK_SIZE << level) > toIndex))
+				--level;
+			if (level < 0) {
+				final int value = this.points.getInt(index);
+				if (value < min) min = value;
+				if (value > max) max = value;
+				++index;
+			} else {
+				final int block = index >>> (BLOCK_SHIFT + level);
+				if (this.mins[level][block] < min) min = this.mins[level][block];
+				if (this.maxs[level][block] > max) max = this.maxs[level][block];
+				index += BLOCK_SIZE << level;
+			}
+		}
+		minMax[0] = min;
+		minMax[1] = max;
+	}
+}
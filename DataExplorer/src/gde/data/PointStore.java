@@ -0,0 +1,370 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.data;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Primitive storage of the measurement points of a record.
+ * Points are kept in fixed size int[] chunks, growing the record does not copy already stored points.
+ * Null points are tracked in a bitmap which is allocated for the first null point only.
+ * The points may be loaded lazily, the store then reports its size and loads the points on first access.
+ * A store has no locking of its own, a record only touches its points inside its synchronized add, set and get methods.
+ * @author agent
+ */
+public final class PointStore implements Serializable {
+	private static final long	serialVersionUID	= 6410923480719513622L;
+
+	static final int					CHUNK_SHIFT				= 12;
+	static final int					CHUNK_SIZE				= 1 << CHUNK_SHIFT;
+	static final int					CHUNK_MASK				= CHUNK_SIZE - 1;
+
+	private int[][]						chunks;
+	private long[][]					nullBits;																// lazy, one bit per point of a chunk
+	private int								size							= 0;
+	private int								nullCount					= 0;
+	private int								rewriteCount			= 0;																// number of non appending modifications
+	private transient Loader	loader;																						// pending lazy load
+	private transient Loader	failedLoader;																			// lazy load which failed, the store holds null points instead
+
+	/**
+	 * Supplies the points of a lazily loaded store.
+	 */
+	public interface Loader {
+		/**
+		 * add all points to the empty target store, failures are signaled by unchecked exceptions
+		 */
+		void load(PointStore target);
+	}
+
+	/**
+	 * @param initialCapacity number of points the store should be able to hold without growing its chunk table
+	 */
+	public PointStore(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity); //$NON-NLS-1$
+		this.chunks = new int[Math.max(1, (initialCapacity + CHUNK_MASK) >>> CHUNK_SHIFT)][];
+	}
+
+	/**
+	 * copy constructor, all chunks are copied deeply
+	 */
+	public PointStore(PointStore source) {
+		source.ensureLoaded();
+		this.size = source.size;
+		this.nullCount = source.nullCount;
+		this.chunks = new int[Math.max(1, source.chunks.length)][];
+		for (int i = 0; i < source.chunks.length; i++) {
+			if (source.chunks[i] != null) this.chunks[i] = source.chunks[i].clone();
+		}
+		if (source.nullBits != null) {
+			this.nullBits = new long[source.nullBits.length][];
+			for (int i = 0; i < source.nullBits.length; i++) {
+				if (source.nullBits[i] != null) this.nullBits[i] = source.nullBits[i].clone();
+			}
+		}
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the number of modifications which changed already stored points (set, insert, remove, clear)
+	 */
+	public int getRewriteCount() {
+		return this.rewriteCount;
+	}
+
+	/**
+	 * @return true if at least one null point is stored
+	 */
+	public boolean hasNulls() {
+		if (this.loader != null) ensureLoaded();
+		return this.nullCount > 0;
+	}
+
+	/**
+	 * @return the primitive point value, null points are returned as 0
+	 */
+	public int getInt(int index) {
+		if (this.loader != null) ensureLoaded();
+		if (index < 0 || index >= this.size) throw new ArrayIndexOutOfBoundsException(index);
+		return this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+	}
+
+	public boolean isNull(int index) {
+		if (this.loader != null) ensureLoaded();
+		if (index < 0 || index >= this.size) throw new ArrayIndexOutOfBoundsException(index);
+		return this.nullCount > 0 && isNullBit(index);
+	}
+
+	/**
+	 * @return the boxed point value or null
+	 */
+	public Integer get(int index) {
+		if (this.loader != null) ensureLoaded();
+		if (index < 0 || index >= this.size) throw new ArrayIndexOutOfBoundsException(index);
+		if (this.nullCount > 0 && isNullBit(index)) return null;
+		return this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+	}
+
+	public void add(int point) {
+		if (this.loader != null) ensureLoaded();
+		int chunkIndex = this.size >>> CHUNK_SHIFT;
+		if (chunkIndex >= this.chunks.length) {
+			this.chunks = Arrays.copyOf(this.chunks, this.chunks.length << 1);
+		}
+		if (this.chunks[chunkIndex] == null) {
+			this.chunks[chunkIndex] = new int[CHUNK_SIZE];
+		}
+		this.chunks[chunkIndex][this.size & CHUNK_MASK] = point;
+		++this.size;
+	}
+
+	/**
+	 * @param point null is stored as 0 with the null bit set
+	 */
+	public void add(Integer point) {
+		if (point == null) {
+			add(0);
+			setNullBit(this.size - 1, true);
+		} else {
+			add(point.intValue());
+		}
+	}
+
+	/**
+	 * @return the previous point value
+	 */
+	public Integer set(int index, Integer point) {
+		if (this.loader != null) ensureLoaded();
+		Integer oldValue = get(index);
+		++this.rewriteCount;
+		this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = point == null ? 0 : point;
+		if (point == null || oldValue == null) setNullBit(index, point == null);
+		return oldValue;
+	}
+
+	/**
+	 * insert a point and shift all subsequent points, this is a O(n) operation
+	 */
+	public void insert(int index, Integer point) {
+		if (this.loader != null) ensureLoaded();
+		if (index < 0 || index > this.size) throw new ArrayIndexOutOfBoundsException(index);
+		++this.rewriteCount;
+		add(0);
+		for (int i = this.size - 1; i > index; --i) {
+			setRaw(i, get(i - 1));
+		}
+		setRaw(index, point);
+	}
+
+	/**
+	 * remove a point and shift all subsequent points, this is a O(n) operation
+	 * @return the removed point value
+	 */
+	public Integer remove(int index) {
+		if (this.loader != null) ensureLoaded();
+		Integer oldValue = get(index);
+		++this.rewriteCount;
+		for (int i = index; i < this.size - 1; ++i) {
+			setRaw(i, get(i + 1));
+		}
+		setRaw(this.size - 1, 0);
+		--this.size;
+		return oldValue;
+	}
+
+	/**
+	 * remove all points and release the chunks
+	 */
+	public void clear() {
+		this.loader = null;
+		this.failedLoader = null;
+		this.chunks = new int[1][];
+		this.nullBits = null;
+		this.size = 0;
+		this.nullCount = 0;
+		++this.rewriteCount;
+	}
+
+	/**
+	 * make sure the chunk table can hold the given number of points
+	 */
+	public void ensureCapacity(int minCapacity) {
+		int minChunks = (minCapacity + CHUNK_MASK) >>> CHUNK_SHIFT;
+		if (minChunks > this.chunks.length) {
+			this.chunks = Arrays.copyOf(this.chunks, Math.max(minChunks, this.chunks.length << 1));
+		}
+	}
+
+	/**
+	 * @return the number of points which can be stored without growing the chunk table
+	 */
+	public int capacity() {
+		return this.chunks.length << CHUNK_SHIFT;
+	}
+
+	/**
+	 * release unused chunks and shrink the chunk table
+	 */
+	public void trimToSize() {
+		if (this.loader != null) return;
+		int usedChunks = Math.max(1, (this.size + CHUNK_MASK) >>> CHUNK_SHIFT);
+		if (usedChunks < this.chunks.length) {
+			this.chunks = Arrays.copyOf(this.chunks, usedChunks);
+			if (this.nullBits != null && this.nullBits.length > usedChunks) this.nullBits = Arrays.copyOf(this.nullBits, usedChunks);
+		}
+	}
+
+	/**
+	 * copy a range of primitive point values, null points are copied as 0
+	 * @param fromIndex inclusive
+	 * @param toIndex exclusive
+	 * @param dest
+	 * @param destPos
+	 */
+	public void copyTo(int fromIndex, int toIndex, int[] dest, int destPos) {
+		if (this.loader != null) ensureLoaded();
+		if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) throw new ArrayIndexOutOfBoundsException(fromIndex < 0 ? fromIndex : toIndex);
+		int index = fromIndex;
+		while (index < toIndex) {
+			int offset = index & CHUNK_MASK;
+			int length = Math.min(CHUNK_SIZE - offset, toIndex - index);
+			System.arraycopy(this.chunks[index >>> CHUNK_SHIFT], offset, dest, destPos, length);
+			destPos += length;
+			index += length;
+		}
+	}
+
+	/**
+	 * @return all primitive point values, null points are returned as 0
+	 */
+	public int[] toIntArray() {
+		int[] values = new int[this.size];
+		copyTo(0, this.size, values, 0);
+		return values;
+	}
+
+	/**
+	 * replace the points by a lazy load, the store reports the given size until the points are accessed
+	 * @param newSize the number of points the loader will add
+	 * @param newLoader
+	 */
+	public void setLoader(int newSize, Loader newLoader) {
+		clear();
+		this.size = newSize;
+		this.loader = newLoader;
+	}
+
+	/**
+	 * @return false if the points are still pending for a lazy load
+	 */
+	public boolean isLoaded() {
+		return this.loader == null;
+	}
+
+	/**
+	 * execute a pending lazy load,
+	 * a failed load is signaled once and leaves the store with null points of the expected size, so following accesses do not fail again
+	 */
+	public void ensureLoaded() {
+		if (this.loader != null) {
+			Loader pendingLoader = this.loader;
+			int pendingSize = this.size;
+			this.loader = null;
+			this.size = 0;
+			this.chunks = new int[Math.max(1, (pendingSize + CHUNK_MASK) >>> CHUNK_SHIFT)][];
+			try {
+				pendingLoader.load(this);
+				if (this.size != pendingSize) throw new IllegalStateException("lazy load delivered " + this.size + " instead of " + pendingSize + " points"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			catch (RuntimeException e) {
+				clear();
+				for (int i = 0; i < pendingSize; i++) {
+					add(null);
+				}
+				this.failedLoader = pendingLoader; // keep for a retry
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * @return true if the lazy load failed and the store holds null points instead
+	 */
+	public boolean isLoadFailed() {
+		return this.failedLoader != null;
+	}
+
+	/**
+	 * repeat a failed lazy load, e.g. before the points are written to file
+	 */
+	public void retryFailedLoad() {
+		if (this.failedLoader != null) {
+			setLoader(this.size, this.failedLoader);
+			ensureLoaded();
+		}
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		ensureLoaded();
+		out.defaultWriteObject();
+	}
+
+	private void setRaw(int index, Integer point) {
+		this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = point == null ? 0 : point;
+		if (point == null || (this.nullCount > 0 && isNullBit(index))) setNullBit(index, point == null);
+	}
+
+	private boolean isNullBit(int index) {
+		int chunkIndex = index >>> CHUNK_SHIFT;
+		if (this.nullBits == null || chunkIndex >= this.nullBits.length || this.nullBits[chunkIndex] == null) return false;
+		int bitIndex = index & CHUNK_MASK;
+		return (this.nullBits[chunkIndex][bitIndex >>> 6] & (1L << bitIndex)) != 0;
+	}
+
+	private void setNullBit(int index, boolean isNull) {
+		int chunkIndex = index >>> CHUNK_SHIFT;
+		if (this.nullBits == null) {
+			if (!isNull) return;
+			this.nullBits = new long[this.chunks.length][];
+		} else if (chunkIndex >= this.nullBits.length) {
+			if (!isNull) return;
+			this.nullBits = Arrays.copyOf(this.nullBits, this.chunks.length);
+		}
+		if (this.nullBits[chunkIndex] == null) {
+			if (!isNull) return;
+			this.nullBits[chunkIndex] = new long[CHUNK_SIZE >>> 6];
+		}
+		int bitIndex = index & CHUNK_MASK;
+		long mask = 1L << bitIndex;
+		boolean wasNull = (this.nullBits[chunkIndex][bitIndex >>> 6] & mask) != 0;
+		if (isNull && !wasNull) {
+			this.nullBits[chunkIndex][bitIndex >>> 6] |= mask;
+			++this.nullCount;
+		} else if (!isNull && wasNull) {
+			this.nullBits[chunkIndex][bitIndex >>> 6] &= ~mask;
+			--this.nullCount;
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.data;
+
+import java.util.Arrays;
+
+/**
+ * Prefix sums of the points of a record to answer sum, sum of squared deviations and non zero count of any index range in constant time.
+ * The deviations are accumulated from the non zero points shifted by the first non zero point,
+ * thus large point values like GPS coordinates or absolute altitudes do not cancel out the small deviations of a short range.
+ * The prefix values are kept at block boundaries of 32 points only, a query adds the points of the partial blocks at both range ends.
+ * Appended points are aggregated incrementally, any other modification of the point store causes a rebuild on the next query.
+ * Together with the {@link MinMaxPyramid} the statistics of an index range do not depend on the record size.
+ * Queries update the sums first and read points of the store, so the record creates and queries them in its synchronized methods only.
+ * @author agent
+ */
+public final class PointSums {
+
+	static final int		BLOCK_SHIFT		= 5;
+	static final int		BLOCK_SIZE		= 1 << BLOCK_SHIFT;
+	static final int		BLOCK_MASK		= BLOCK_SIZE - 1;
+
+	private final PointStore	points;
+	static final double	CANCELLATION_LIMIT	= 1e-6;																// minimum ratio of the deviations to the shifted squares
+
+	private long[]			sums					= new long[64];													// sum of the points before the block start
+	private long[]			shiftedSums		= new long[64];													// sum of the non zero points minus the reference value
+	private double[]		shiftedSquares	= new double[64];
+	private int[]				nonZeroCounts	= new int[64];
+	private long				totalSum			= 0;
+	private long				totalShiftedSum	= 0;
+	private double			totalShiftedSquares	= 0.;
+	private int					totalNonZeroCount	= 0;
+	private int					reference			= 0;																		// first non zero point
+	private int					validSize			= 0;																		// number of aggregated points
+	private int					rewriteCount	= 0;
+
+	/**
+	 * @param newPoints the point store to be aggregated
+	 */
+	public PointSums(PointStore newPoints) {
+		this.points = newPoints;
+		this.rewriteCount = newPoints.getRewriteCount();
+	}
+
+	/**
+	 * aggregate the points appended since the last update or rebuild after non appending modifications
+	 */
+	public void update() {
+		if (this.rewriteCount != this.points.getRewriteCount()) {
+			this.rewriteCount = this.points.getRewriteCount();
+			this.totalSum = 0;
+			this.totalShiftedSum = 0;
+			this.totalShiftedSquares = 0.;
+			this.totalNonZeroCount = 0;
+			this.validSize = 0;
+		}
+		final int size = this.points.size();
+		for (int i = this.validSize; i < size; i++) {
+			if ((i & BLOCK_MASK) == 0) {
+				final int block = i >>> BLOCK_SHIFT;
+				if (block >= this.sums.length) {
+					this.sums = Arrays.copyOf(this.sums, this.sums.length << 1);
+					this.shiftedSums = Arrays.copyOf(this.shiftedSums, this.shiftedSums.length << 1);
+					this.shiftedSquares = Arrays.copyOf(this.shiftedSquares, this.shiftedSquares.length << 1);
+					this.nonZeroCounts = Arrays.copyOf(this.nonZeroCounts, this.nonZeroCounts.length << 1);
+				}
+				this.sums[block] = this.totalSum;
+				this.shiftedSums[block] = this.totalShiftedSum;
+				this.shiftedSquares[block] = this.totalShiftedSquares;
+				this.nonZeroCounts[block] = this.totalNonZeroCount;
+			}
+			final int value = this.points.getInt(i);
+			this.totalSum += value;
+			if (value != 0) {
+				if (this.totalNonZeroCount == 0) this.reference = value;
+				final long shiftedValue = (long) value - this.reference;
+				this.totalShiftedSum += shiftedValue;
+				this.totalShiftedSquares += (double) shiftedValue * shiftedValue;
+				++this.totalNonZeroCount;
+			}
+		}
+		this.validSize = size;
+	}
+
+	/**
+	 * @return the number of aggregated points which is the record size after an update
+	 */
+	public int size() {
+		return this.validSize;
+	}
+
+	/**
+	 * @param fromIndex inclusive
+	 * @param toIndex exclusive
+	 * @return the sum of the points within the index range, null points count as 0
+	 */
+	public long getSum(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex);
+		return getPrefixSum(toIndex) - getPrefixSum(fromIndex);
+	}
+
+	/**
+	 * the prefix form is replaced by a loop over the range points if the deviations are too small compared to the shifted values,
+	 * e.g. for a short range of almost constant points far away from the first point
+	 * @param fromIndex inclusive
+	 * @param toIndex exclusive
+	 * @param value the reference of the deviations, e.g. the average
+	 * @return the sum of the squared deviations of the non zero points within the index range from the value, zero and null points are discarded
+	 */
+	public double getSumOfSquaredDeviations(int fromIndex, int toIndex, double value) {
+		checkRange(fromIndex, toIndex);
+		final long shiftedSum = getPrefixShiftedSum(toIndex) - getPrefixShiftedSum(fromIndex);
+		final double shiftedSquares = getPrefixShiftedSquares(toIndex) - getPrefixShiftedSquares(fromIndex);
+		final int count = getPrefixNonZeroCount(toIndex) - getPrefixNonZeroCount(fromIndex);
+		final double delta = value - this.reference;
+		final double deviations = shiftedSquares - 2. * delta * shiftedSum + count * delta * delta;
+		if (deviations > CANCELLATION_LIMIT * (shiftedSquares + count * delta * delta)) return deviations;
+
+		double exactDeviations = 0.;
+		for (int i = fromIndex; i < toIndex; i++) {
+			final int point = this.points.getInt(i);
+			if (point != 0) exactDeviations += (point - value) * (point - value);
+		}
+		return exactDeviations;
+	}
+
+	/**
+	 * @param fromIndex inclusive
+	 * @param toIndex exclusive
+	 * @return the number of points within the index range which are neither 0 nor null
+	 */
+	public int getNonZeroCount(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex);
+		return getPrefixNonZeroCount(toIndex) - getPrefixNonZeroCount(fromIndex);
+	}
+
+	private void checkRange(int fromIndex, int toIndex) {
+		this.update();
+		if (fromIndex < 0 || toIndex > this.validSize || fromIndex > toIndex) throw new ArrayIndexOutOfBoundsException(fromIndex < 0 ? fromIndex : toIndex);
+	}
+
+	private long getPrefixSum(int index) {
+		if (index == this.validSize) return this.totalSum;
+		long sum = this.sums[index >>> BLOCK_SHIFT];
+		for (int i = index & ~BLOCK_MASK; i < index; i++) {
+			sum += this.points.getInt(i);
+		}
+		return sum;
+	}
+
+	private long getPrefixShiftedSum(int index) {
+		if (index == this.validSize) return this.totalShiftedSum;
+		long sum = this.shiftedSums[index >>> BLOCK_SHIFT];
+		for (int i = index & ~BLOCK_MASK; i < index; i++) {
+			final int value = this.points.getInt(i);
+			if (value != 0) sum += (long) value - this.reference;
+		}
+		return sum;
+	}
+
+	private double getPrefixShiftedSquares(int index) {
+		if (index == this.validSize) return this.totalShiftedSquares;
+		double squares = this.shiftedSquares[index >>> BLOCK_SHIFT];
+		for (int i = index & ~BLOCK_MASK; i < index; i++) {
+			final int value = this.points.getInt(i);
+			if (value != 0) squares += (double) ((long) value - this.reference) * ((long) value - this.reference);
+		}
+		return squares;
+	}
+
+	private int getPrefixNonZeroCount(int index) {
+		if (index == this.validSize) return this.totalNonZeroCount;
+		int count = this.nonZeroCounts[index >>> BLOCK_SHIFT];
+		for (int i = index & ~BLOCK_MASK; i < index; i++) {
+			if (this.points.getInt(i) != 0) ++count;
+		}
+		return count;
+	}
+}
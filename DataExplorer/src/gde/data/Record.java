@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.Vector;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
 import java.util.logging.Logger;
 
 import org.eclipse.swt.SWT;
@@ -192,12 +194,13 @@ public class Record extends AbstractRecord implements IRecord {
 	protected double							syncMasterFactor					= 1.0;																																																																	// synchronized scale and different measurement factors
 	protected double							minDisplayValue;																																																																									// min value in device units, correspond to draw area
 	protected double							maxDisplayValue;																																																																									// max value in device units, correspond to draw area
+	MinMaxPyramid									minMaxPyramid;																					// lazy level of detail min/max values to decimate the curve
+	PointSums											pointSums;																							// lazy prefix sums for the range statistics
 
 	// current drop, make curve capable to be smoothed
 	boolean												isVoltageRecord						= false;
 	int														voltageValuesSize					= 9;
-	int[]													voltageValues							= new int[voltageValuesSize];
-	int														voltageValuesAvg					= 0;
+	SmoothedVoltages							smoothedVoltages;																				// lazy smoothed points of a pulsed voltage curve
 	boolean												isCurrentRecord						= false;
 	int														dropStartIndex						= 0;
 	int														dropEndIndex							= 0;
@@ -412,7 +415,6 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	@Override
 	public synchronized Record clone() {
-		super.clone();
 		return new Record(this);
 	}
 
@@ -538,6 +540,25 @@ public class Record extends AbstractRecord implements IRecord {
 		}
 	}
 
+	/**
+	 * replace the points by a lazy load from file, the points are loaded on first access
+	 * @param loader adds the points to the empty store
+	 * @param newMinValue min value of the points to be loaded
+	 * @param newMaxValue max value of the points to be loaded
+	 * @param newMinValueIndex time stamp index of the min value
+	 * @param newMaxValueIndex time stamp index of the max value
+	 */
+	public synchronized void setLazyPoints(int pointsSize, PointStore.Loader loader, int newMinValue, int newMaxValue, int newMinValueIndex, int newMaxValueIndex) {
+		this.points.setLoader(pointsSize, loader);
+		this.minMaxPyramid = null;
+		this.pointSums = null;
+		this.smoothedVoltages = null;
+		this.minValue = newMinValue;
+		this.maxValue = newMaxValue;
+		this.minValueTimeStampIndex = newMinValueIndex;
+		this.maxValueTimeStampIndex = newMaxValueIndex;
+	}
+
 	/**
 	 * add a data point to the record data, checks for minimum and maximum to define display range
 	 * @param point
@@ -1032,11 +1053,13 @@ public class Record extends AbstractRecord implements IRecord {
 			if (this.triggerRanges != null && this.triggerRanges.size() > 0) {
 				this.maxValueTriggered = Integer.MIN_VALUE;
 				this.minValueTriggered = Integer.MAX_VALUE;
+				int[] minMax = new int[2];
 				for (TriggerRange range : this.triggerRanges) {
-					for (int i = range.in; i < range.out; i++) {
-						int point = this.realGet(i);
-						if (point > this.maxValueTriggered) this.maxValueTriggered = point;
-						if (point < this.minValueTriggered) this.minValueTriggered = point;
+					int rangeOut = Math.min(range.out, this.points.size());
+					if (range.in < rangeOut) {
+						this.getMinMax(range.in, rangeOut, minMax);
+						if (minMax[1] > this.maxValueTriggered) this.maxValueTriggered = minMax[1];
+						if (minMax[0] < this.minValueTriggered) this.minValueTriggered = minMax[0];
 					}
 				}
 			}
@@ -1048,7 +1071,7 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	@Override
 	public synchronized int size() {
-		int tmpSize = elementCount;
+		int tmpSize = this.points.size();
 
 		if (this.parent.isZoomMode) // record -> recordSet.isZoomMode
 			tmpSize = this.findBestIndex(this.zoomTimeOffset + this.drawTimeWidth) - this.zoomOffset;
@@ -1079,44 +1102,39 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	@Override
 	public synchronized Integer get(int index) {
+		return this.getInt(index);
+	}
+
+	/**
+	 * unboxed get(int index) which considers zoom, scope and smoothing
+	 * null points are returned as 0
+	 * @param index
+	 */
+	public synchronized int getInt(int index) {
+		final int realSize = this.points.size();
 		if (this.parent.isZoomMode) {
 			index = index + this.zoomOffset;
-			index = index > (elementCount - 1) ? (elementCount - 1) : index;
-			index = index < 0 ? 0 : index;
 		} else if (this.parent.isScopeMode) {
 			index = index + this.parent.scopeModeOffset;
-			index = index > (elementCount - 1) ? (elementCount - 1) : index;
-			index = index < 0 ? 0 : index;
-		} else {
-			index = index > (elementCount - 1) ? (elementCount - 1) : index;
-			index = index < 0 ? 0 : index;
 		}
-		int returnValue = super.get(index);
+		index = index > (realSize - 1) ? (realSize - 1) : index;
+		index = index < 0 ? 0 : index;
 		// log.log(Level.INFO, "index=" + index);
-		if (elementCount != 0) {
+		if (realSize != 0) {
+			int returnValue = this.points.getInt(index);
 			if (!this.parent.isCompareSet) {
 				if (this.parent.isSmoothAtCurrentDrop) {
-					for (Integer[] dropArea : this.parent.currentDropShadow) {
-						if (dropArea[0] <= index && dropArea[1] >= index) {
-							int dropStartValue = super.get(dropArea[0]);
-							int dropEndValue = super.get(dropArea[1]);
-							double dropDeltaValue = (double) (dropEndValue - dropStartValue) / (dropArea[1] - dropArea[0]);
-							returnValue = (int) (dropStartValue + dropDeltaValue * (index - dropArea[0]));
-						}
+					Integer[] dropArea = this.parent.currentDropIndex.find(index);
+					if (dropArea != null) {
+						int dropStartValue = this.points.getInt(dropArea[0]);
+						int dropEndValue = this.points.getInt(dropArea[1]);
+						double dropDeltaValue = (double) (dropEndValue - dropStartValue) / (dropArea[1] - dropArea[0]);
+						returnValue = (int) (dropStartValue + dropDeltaValue * (index - dropArea[0]));
 					}
 				}
-				if (this.isVoltageRecord && this.parent.isSmoothVoltageCurve && index >= voltageValuesSize && super.size() > voltageValuesSize) {
-					this.voltageValuesAvg = 0;
-					int i = index - voltageValuesSize + 1;
-					for (int j = 0; i <= index; ++i, ++j) {
-						this.voltageValues[j] = super.get(i);
-						this.voltageValuesAvg += super.get(i);
-					}
-					this.voltageValuesAvg /= voltageValuesSize;
-					i = voltageValuesSize - 1;
-					for (; i >= 0 && this.voltageValues[i] > this.voltageValuesAvg;)
-						--i;
-					returnValue = voltageValues[i];
+				if (this.isVoltageRecord && this.parent.isSmoothVoltageCurve && index >= this.voltageValuesSize) {
+					if (this.smoothedVoltages == null) this.smoothedVoltages = new SmoothedVoltages(this.points, this.voltageValuesSize);
+					returnValue = this.smoothedVoltages.getInt(index);
 				}
 			}
 			return returnValue;
@@ -1159,6 +1177,23 @@ public class Record extends AbstractRecord implements IRecord {
 		return this;
 	}
 
+	/**
+	 * Feed the translated values without materializing them.
+	 */
+	@Override
+	public void forEachTranslatedValue(DoubleConsumer consumer) {
+		for (int i = 0; i < super.size(); i++) {
+			if (!isNullAt(i)) consumer.accept(this.device.translateValue(this, elementAtInt(i) / 1000.));
+		}
+	}
+
+	@Override
+	public void forEachValue(IntConsumer consumer) {
+		for (int i = 0; i < super.size(); i++) {
+			if (!isNullAt(i)) consumer.accept(elementAtInt(i));
+		}
+	}
+
 	@Override
 	public boolean isPositionLeft() {
 		return this.isPositionLeft;
@@ -1355,6 +1390,13 @@ public class Record extends AbstractRecord implements IRecord {
 		this.parent = currentParent;
 	}
 
+	/**
+	 * @return true if the record measures a current, which is the basis for current drop detection while adding points
+	 */
+	public boolean isCurrentRecord() {
+		return this.isCurrentRecord;
+	}
+
 	/**
 	 * @return the isDisplayable
 	 */
@@ -1457,7 +1499,7 @@ public class Record extends AbstractRecord implements IRecord {
 	 * @return the maximum time of this record, which should correspondence to the last entry in timeSteps
 	 */
 	public double getMaxTime_ms() {
-		return this.timeStep_ms == null ? this.parent.getMaxTime_ms() : this.timeStep_ms.isConstant ? this.timeStep_ms.getMaxTime_ms() * (this.elementCount - 1) : this.timeStep_ms.getMaxTime_ms();
+		return this.timeStep_ms == null ? this.parent.getMaxTime_ms() : this.timeStep_ms.isConstant ? this.timeStep_ms.getMaxTime_ms() * (this.points.size() - 1) : this.timeStep_ms.getMaxTime_ms();
 	}
 
 	/**
@@ -1470,9 +1512,9 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	private int[] findBoundingIndexes(double time_ms) {
 		int[] indexs = this.timeStep_ms == null ? this.parent.timeStep_ms.findBoundingIndexes(time_ms) : this.timeStep_ms.findBoundingIndexes(time_ms);
-		if (this.elementCount > 0) {
-			indexs[0] = indexs[0] > this.elementCount - 1 ? this.elementCount - 1 : indexs[0];
-			indexs[1] = indexs[1] > this.elementCount - 1 ? this.elementCount - 1 : indexs[1];
+		if (this.points.size() > 0) {
+			indexs[0] = indexs[0] > this.points.size() - 1 ? this.points.size() - 1 : indexs[0];
+			indexs[1] = indexs[1] > this.points.size() - 1 ? this.points.size() - 1 : indexs[1];
 		}
 		return indexs;
 	}
@@ -1484,7 +1526,7 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	public int findBestIndex(double time_ms) {
 		int index = this.timeStep_ms == null ? this.parent.timeStep_ms.findBestIndex(time_ms) : this.timeStep_ms.findBestIndex(time_ms);
-		return index > this.elementCount - 1 ? this.elementCount - 1 : index;
+		return index > this.points.size() - 1 ? this.points.size() - 1 : index;
 	}
 
 	/**
@@ -1508,10 +1550,10 @@ public class Record extends AbstractRecord implements IRecord {
 		double timeOffset_ms = 0;
 		if (this.parent.isScopeMode) {
 			if ((this.timeStep_ms != null && this.timeStep_ms.isConstant) || this.parent.timeStep_ms.isConstant) {
-				timeOffset_ms = (this.timeStep_ms != null ? this.timeStep_ms.get(0) : this.parent.timeStep_ms.get(0)) * (this.elementCount - this.parent.scopeModeSize) / 10.0;
+				timeOffset_ms = (this.timeStep_ms != null ? this.timeStep_ms.get(0) : this.parent.timeStep_ms.get(0)) * (this.points.size() - this.parent.scopeModeSize) / 10.0;
 			} else {
-				timeOffset_ms = this.timeStep_ms != null ? this.timeStep_ms.getTime_ms(this.elementCount - this.parent.scopeModeSize)
-						: this.parent.timeStep_ms.getTime_ms(this.elementCount - this.parent.scopeModeSize);
+				timeOffset_ms = this.timeStep_ms != null ? this.timeStep_ms.getTime_ms(this.points.size() - this.parent.scopeModeSize)
+						: this.parent.timeStep_ms.getTime_ms(this.points.size() - this.parent.scopeModeSize);
 			}
 		} else if (this.parent.isZoomMode) {
 			timeOffset_ms = this.zoomTimeOffset;
@@ -1523,17 +1565,17 @@ public class Record extends AbstractRecord implements IRecord {
 	 * @return the time in msec representing the segment to be displayed, without zooming this is the maximum time represented by the last data point time
 	 */
 	public double getDrawTimeWidth_ms() {
-		if (this.elementCount > 0) {
+		if (this.points.size() > 0) {
 			if (this.parent.isScopeMode) {
 				if ((this.timeStep_ms != null && this.timeStep_ms.isConstant) || (this.parent.timeStep_ms != null && this.parent.timeStep_ms.isConstant)) {
 					this.drawTimeWidth = (this.timeStep_ms != null ? this.timeStep_ms.get(0) : this.parent.timeStep_ms.get(0)) * this.parent.scopeModeSize / 10.0;
 				} else {
-					this.drawTimeWidth = this.timeStep_ms != null ? this.timeStep_ms.getDeltaTime(this.elementCount - 1 - this.parent.scopeModeSize, this.elementCount - 1)
-							: this.parent.timeStep_ms.getDeltaTime(this.elementCount - 1 - this.parent.scopeModeSize, this.elementCount - 1);
+					this.drawTimeWidth = this.timeStep_ms != null ? this.timeStep_ms.getDeltaTime(this.points.size() - 1 - this.parent.scopeModeSize, this.points.size() - 1)
+							: this.parent.timeStep_ms.getDeltaTime(this.points.size() - 1 - this.parent.scopeModeSize, this.points.size() - 1);
 				}
 			} else if (!this.parent.isZoomMode) { // normal not manipulated view
 				if ((this.timeStep_ms != null && this.timeStep_ms.isConstant) || (this.parent.timeStep_ms != null && this.parent.timeStep_ms.isConstant)) {
-					this.drawTimeWidth = (this.timeStep_ms != null ? this.timeStep_ms.get(0) : this.parent.timeStep_ms.get(0)) * (this.elementCount - 1) / 10.0;
+					this.drawTimeWidth = (this.timeStep_ms != null ? this.timeStep_ms.get(0) : this.parent.timeStep_ms.get(0)) * (this.points.size() - 1) / 10.0;
 				} else {
 					this.drawTimeWidth = (this.timeStep_ms != null ? this.timeStep_ms.lastElement() : this.parent.timeStep_ms.lastElement()) / 10.0;
 				}
@@ -1599,8 +1641,61 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	public Point getDisplayPoint(int measurementPointIndex, int xDisplayOffset, int yDisplayOffset) {
 		//log.log(Level.INFO, " measurementPointIndex=" + measurementPointIndex + " value=" + (this.get(measurementPointIndex) / 1000.0) + "(" + (yDisplayOffset - Double.valueOf((this.get(measurementPointIndex)/1000.0 - (this.minDisplayValue*1/this.syncMasterFactor)) * this.displayScaleFactorValue).intValue()) + ")");
-		return new Point(xDisplayOffset + Double.valueOf(this.getTime_ms(measurementPointIndex) * this.displayScaleFactorTime).intValue(),
-				yDisplayOffset - Double.valueOf(((this.get(measurementPointIndex) / 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue).intValue());
+		return new Point(getDisplayPointX(measurementPointIndex, xDisplayOffset), getDisplayPointY(this.getInt(measurementPointIndex), yDisplayOffset));
+	}
+
+	/**
+	 * @param measurementPointIndex (differs from index if display width != measurement size)
+	 * @param xDisplayOffset
+	 * @return the horizontal display position of the measurement point
+	 */
+	public int getDisplayPointX(int measurementPointIndex, int xDisplayOffset) {
+		return xDisplayOffset + (int) (this.getTime_ms(measurementPointIndex) * this.displayScaleFactorTime);
+	}
+
+	/**
+	 * does not support GPS coordinates.
+	 * @param pointValue is a raw point value
+	 * @param yDisplayOffset
+	 * @return the vertical display position of the point value
+	 */
+	public int getDisplayPointY(int pointValue, int yDisplayOffset) {
+		return yDisplayOffset - (int) (((pointValue / 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue);
+	}
+
+	/**
+	 * @return the offset of the measurement point index to the real point index in dependency of zoomMode or scopeMode
+	 */
+	public int getDisplayIndexOffset() {
+		return this.parent.isZoomMode ? this.zoomOffset : this.parent.isScopeMode ? this.parent.scopeModeOffset : 0;
+	}
+
+	/**
+	 * @return true if get(int) returns smoothed instead of real point values
+	 */
+	public boolean isSmoothedDisplay() {
+		return !this.parent.isCompareSet && (this.parent.isSmoothAtCurrentDrop || (this.isVoltageRecord && this.parent.isSmoothVoltageCurve));
+	}
+
+	/**
+	 * query the minimum and maximum of the real points within an index range based on the min/max pyramid,
+	 * the pyramid is created on the first query and aggregates all appended points incrementally.
+	 * @param fromIndex inclusive real point index
+	 * @param toIndex exclusive real point index
+	 * @param minMax array receiving the minimum at index 0 and the maximum at index 1
+	 */
+	public synchronized void getMinMax(int fromIndex, int toIndex, int[] minMax) {
+		if (this.minMaxPyramid == null) this.minMaxPyramid = new MinMaxPyramid(this.points);
+		this.minMaxPyramid.getMinMax(fromIndex, toIndex, minMax);
+	}
+
+	/**
+	 * @return the prefix sums of the real points which are created on the first query and aggregate all appended points incrementally
+	 */
+	synchronized PointSums getPointSums() {
+		if (this.pointSums == null) this.pointSums = new PointSums(this.points);
+		this.pointSums.update();
+		return this.pointSums;
 	}
 
 	/**
@@ -1613,13 +1708,13 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	public Point getGPSDisplayPoint(int measurementPointIndex, int xDisplayOffset, int yDisplayOffset) {
 		//log.log(Level.INFO, " measurementPointIndex=" + measurementPointIndex + " value=" + (this.get(measurementPointIndex) / 1000.0) + "(" + (yDisplayOffset - Double.valueOf((this.get(measurementPointIndex)/1000.0 - (this.minDisplayValue*1/this.syncMasterFactor)) * this.displayScaleFactorValue).intValue()) + ")");
-		int grad = this.get(measurementPointIndex) / 1000000;
+		int grad = this.getInt(measurementPointIndex) / 1000000;
 		if (this.getUnit().endsWith("'")) {
 			return new Point(xDisplayOffset + Double.valueOf(this.getTime_ms(measurementPointIndex) * this.displayScaleFactorTime).intValue(), yDisplayOffset - Double
-					.valueOf((((grad + ((this.get(measurementPointIndex) / 1000000.0 - grad) / 0.60)) * 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue).intValue());
+					.valueOf((((grad + ((this.getInt(measurementPointIndex) / 1000000.0 - grad) / 0.60)) * 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue).intValue());
 		}
 		return new Point(xDisplayOffset + Double.valueOf(this.getTime_ms(measurementPointIndex) * this.displayScaleFactorTime).intValue(), yDisplayOffset - Double
-					.valueOf(((this.get(measurementPointIndex) / 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue).intValue());
+					.valueOf(((this.getInt(measurementPointIndex) / 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue).intValue());
 	}
 
 	/**
@@ -1748,38 +1843,38 @@ public class Record extends AbstractRecord implements IRecord {
 			if (log.isLoggable(Level.FINE)) log.log(Level.FINE, tmpTimeValue + "; " + indexs[0] + "; " + indexs[1]); //$NON-NLS-1$ //$NON-NLS-2$
 			if (super.size() > 0) {
 				if (this.getDevice().isGPSCoordinates(this)) {
-					int grad0 = this.get(indexs[0]) / 1000000;
+					int grad0 = this.getInt(indexs[0]) / 1000000;
 					if (indexs[0] == indexs[1]) {
 						if (this.getUnit().endsWith("'"))
 							pointPosY = Double.valueOf(this.parent.drawAreaBounds.height
-									- ((((grad0 + ((this.get(indexs[0]) / 1000000.0 - grad0) / 0.60)) * 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue)).intValue();
+									- ((((grad0 + ((this.getInt(indexs[0]) / 1000000.0 - grad0) / 0.60)) * 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue)).intValue();
 						else
 							pointPosY = Double.valueOf(this.parent.drawAreaBounds.height
-									- ((((grad0 + (this.get(indexs[0]) / 1000000.0 - grad0)) * 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue)).intValue();
+									- ((((grad0 + (this.getInt(indexs[0]) / 1000000.0 - grad0)) * 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue)).intValue();
 					} else {
-						int grad1 = this.get(indexs[1]) / 1000000;
-						double deltaValueY = (grad1 + ((this.get(indexs[1]) / 1000000.0 - grad1) / 0.60)) - (grad0 + ((this.get(indexs[0]) / 1000000.0 - grad0) / 0.60));
+						int grad1 = this.getInt(indexs[1]) / 1000000;
+						double deltaValueY = (grad1 + ((this.getInt(indexs[1]) / 1000000.0 - grad1) / 0.60)) - (grad0 + ((this.getInt(indexs[0]) / 1000000.0 - grad0) / 0.60));
 						double deltaTimeIndex01 = this.timeStep_ms != null ? this.timeStep_ms.getTime_ms(indexs[1]) - this.timeStep_ms.getTime_ms(indexs[0])
 								: this.parent.timeStep_ms.getTime_ms(indexs[1]) - this.parent.timeStep_ms.getTime_ms(indexs[0]);
 						double xPosDeltaTime2Index0 = tmpTimeValue - (this.timeStep_ms != null ? this.timeStep_ms.getTime_ms(indexs[0]) : this.parent.timeStep_ms.getTime_ms(indexs[0]));
 						if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "deltyValueY = " + deltaValueY + " deltaTime = " + deltaTimeIndex01 + " deltaTimeValue = " + xPosDeltaTime2Index0); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 						pointPosY = Double
-								.valueOf(this.parent.drawAreaBounds.height - ((((grad0 + ((this.get(indexs[0]) / 1000000.0 - grad0) / 0.60)) + (xPosDeltaTime2Index0 / deltaTimeIndex01 * deltaValueY)) * 1000.0)
+								.valueOf(this.parent.drawAreaBounds.height - ((((grad0 + ((this.getInt(indexs[0]) / 1000000.0 - grad0) / 0.60)) + (xPosDeltaTime2Index0 / deltaTimeIndex01 * deltaValueY)) * 1000.0)
 										- (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue)
 								.intValue();
 					}
 				} else {
 					if (indexs[0] == indexs[1]) {
-						pointPosY = Double.valueOf(this.parent.drawAreaBounds.height - (((super.get(indexs[0]) / 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue))
+						pointPosY = Double.valueOf(this.parent.drawAreaBounds.height - (((this.points.getInt(indexs[0]) / 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue))
 								.intValue();
 					} else {
-						int deltaValueY = super.get(indexs[1]) - super.get(indexs[0]);
+						int deltaValueY = this.points.getInt(indexs[1]) - this.points.getInt(indexs[0]);
 						double deltaTimeIndex01 = this.timeStep_ms != null ? this.timeStep_ms.getTime_ms(indexs[1]) - this.timeStep_ms.getTime_ms(indexs[0])
 								: this.parent.timeStep_ms.getTime_ms(indexs[1]) - this.parent.timeStep_ms.getTime_ms(indexs[0]);
 						double xPosDeltaTime2Index0 = tmpTimeValue - (this.timeStep_ms != null ? this.timeStep_ms.getTime_ms(indexs[0]) : this.parent.timeStep_ms.getTime_ms(indexs[0]));
 						if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, "deltyValueY = " + deltaValueY + " deltaTime = " + deltaTimeIndex01 + " deltaTimeValue = " + xPosDeltaTime2Index0); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 						pointPosY = Double.valueOf(this.parent.drawAreaBounds.height
-								- (((super.get(indexs[0]) + (xPosDeltaTime2Index0 / deltaTimeIndex01 * deltaValueY)) / 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue)
+								- (((this.points.getInt(indexs[0]) + (xPosDeltaTime2Index0 / deltaTimeIndex01 * deltaValueY)) / 1000.0) - (this.minDisplayValue * 1 / this.syncMasterFactor)) * this.displayScaleFactorValue)
 								.intValue();
 					}
 				}
@@ -2224,7 +2319,7 @@ public class Record extends AbstractRecord implements IRecord {
 			if (this.triggerRanges != null) {
 				for (TriggerRange range : this.triggerRanges) {
 					for (int i = range.in; i < range.out; i++) {
-						double power_W = this.device.translateValue(this, this.get(i)/1000.0);
+						double power_W = this.device.translateValue(this, this.getInt(i)/1000.0);
 						double time_min = (this.getTime_ms(i) - this.getTime_ms(i-1)) / 1000.0 / 60.0;
 						integratedValueTriggered += power_W * time_min; //W*min
 						if (log.isLoggable(Level.FINER)) sb.append(String.format("%6.2f W * %3.1f ms = %6.2f Wmin", power_W, (this.getTime_ms(i) - this.getTime_ms(i-1)), integratedValueTriggered)).append(", "); //$NON-NLS-1$
@@ -2301,17 +2396,12 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	public void setAvgValue() {
 		synchronized (this) {
-			if (super.size() > 0) {
-				long sum = 0;
-				int zeroCount = 0;
-				for (Integer xi : this) { // ET loops over all elements of the vector
-					if (xi != null && xi != 0) {
-						sum += xi;
-					} else {
-						zeroCount++;
-					}
-				}
-				this.avgValue = (super.size() - zeroCount) != 0 ? Long.valueOf(sum / (super.size() - zeroCount)).intValue() : 0; // ET realSize corresponds to the looped elements
+			final int realSize = this.points.size();
+			if (realSize > 0) {
+				PointSums sums = this.getPointSums();
+				long sum = sums.getSum(0, realSize); // null points are stored as zero
+				int nonZeroCount = sums.getNonZeroCount(0, realSize);
+				this.avgValue = nonZeroCount != 0 ? Long.valueOf(sum / nonZeroCount).intValue() : 0;
 			}
 		}
 	}
@@ -2323,15 +2413,13 @@ public class Record extends AbstractRecord implements IRecord {
 		synchronized (this) {
 			long sum = 0;
 			int zeroCount = 0;
-			if (super.size() > 0) {
-				for (int i = indexStart; i <= indexEnd && i < super.size(); ++i) { 
-					Integer xi = this.realGet(i);
-					if (xi != null && xi != 0) {
-						sum += xi;
-					} else {
-						zeroCount++;
-					}
-				}
+			final int realSize = this.points.size();
+			final int fromIndex = Math.max(0, indexStart);
+			final int toIndex = Math.min(indexEnd + 1, realSize);
+			if (fromIndex < toIndex) {
+				PointSums sums = this.getPointSums();
+				sum = sums.getSum(fromIndex, toIndex);
+				zeroCount = toIndex - fromIndex - sums.getNonZeroCount(fromIndex, toIndex);
 			}
 			int indexDelta = indexEnd - indexStart + 1;
 			return (indexDelta - zeroCount) > 0 ? Long.valueOf(sum / (indexDelta - zeroCount)).intValue() : 0;
@@ -2349,13 +2437,19 @@ public class Record extends AbstractRecord implements IRecord {
 			StringBuilder sb = new StringBuilder();
 			if (log.isLoggable(Level.FINER)) sb.append("\n"); //$NON-NLS-1$
 			if (this.triggerRanges != null) {
+				PointSums sums = this.getPointSums();
 				for (TriggerRange range : this.triggerRanges) {
 					//log.log(Level.INFO, this.name + " range = " + range.toString());
-					long startValue = this.getUnit().contains("Ah") ? this.get(range.in) : 0;
-					for (int i = range.in; i < range.out; i++) {
-						sum += this.get(i) - startValue;
-						if (log.isLoggable(Level.FINER)) sb.append(this.realGet(i) / 1000.0).append(", "); //$NON-NLS-1$
-						numPoints++;
+					int rangeOut = Math.min(range.out, sums.size());
+					if (range.in < rangeOut) {
+						long startValue = this.getUnit().contains("Ah") ? this.points.getInt(range.in) : 0;
+						sum += sums.getSum(range.in, rangeOut) - startValue * (rangeOut - range.in);
+						numPoints += rangeOut - range.in;
+						if (log.isLoggable(Level.FINER)) {
+							for (int i = range.in; i < rangeOut; i++) {
+								sb.append(this.realGet(i) / 1000.0).append(", "); //$NON-NLS-1$
+							}
+						}
 					}
 					if (log.isLoggable(Level.FINER)) sb.append("\n"); //$NON-NLS-1$
 				}
@@ -2430,18 +2524,13 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	public void setSigmaValue() {
 		synchronized (this) {
-			if (super.size() > 0) {
-				double average = this.getAvgValue() / 1000.0;
-				double sumPoweredValues = 0;
-				int zeroCount = 0;
-				for (Integer xi : this) { // ET loops over all elements of the vector
-					if (xi != null && xi != 0) { // sigma is based on the same population as avg
-						sumPoweredValues += Math.pow(xi / 1000.0 - average, 2);
-					} else {
-						zeroCount++;
-					}
-				}
-				this.sigmaValue = (super.size() - zeroCount - 1) != 0 ? Double.valueOf(Math.sqrt(sumPoweredValues / (super.size() - zeroCount - 1)) * 1000).intValue() : 0; // ET realSize corresponds to the looped elements
+			final int realSize = this.points.size();
+			if (realSize > 0) {
+				int average = this.getAvgValue();
+				PointSums sums = this.getPointSums();
+				int nonZeroCount = sums.getNonZeroCount(0, realSize); // sigma is based on the same population as avg
+				double sumPoweredValues = sums.getSumOfSquaredDeviations(0, realSize, average) / 1000000.0;
+				this.sigmaValue = (nonZeroCount - 1) != 0 ? Double.valueOf(Math.sqrt(sumPoweredValues / (nonZeroCount - 1)) * 1000).intValue() : 0;
 			}
 		}
 	}
@@ -2452,14 +2541,17 @@ public class Record extends AbstractRecord implements IRecord {
 	 */
 	public void setSigmaValueTriggered() {
 		synchronized (this) {
-			double average = this.getAvgValueTriggered() / 1000.0;
+			int average = this.getAvgValueTriggered();
 			double sumPoweredDeviations = 0;
 			int numPoints = 0;
 			if (this.triggerRanges != null) {
+				PointSums sums = this.getPointSums();
 				for (TriggerRange range : this.triggerRanges) {
-					for (int i = range.in; i < range.out; i++) {
-						sumPoweredDeviations += Math.pow(this.realGet(i) / 1000.0 - average, 2);
-						numPoints++;
+					int rangeOut = Math.min(range.out, sums.size());
+					if (range.in < rangeOut) {
+						int zeroCount = rangeOut - range.in - sums.getNonZeroCount(range.in, rangeOut); // zero points deviate by the average
+						sumPoweredDeviations += (sums.getSumOfSquaredDeviations(range.in, rangeOut, average) + zeroCount * (double) average * average) / 1000000.0;
+						numPoints += rangeOut - range.in;
 					}
 				}
 				this.sigmaValueTriggered = Double.valueOf(Math.sqrt(sumPoweredDeviations / (numPoints - 1)) * 1000).intValue();
@@ -2603,19 +2695,12 @@ public class Record extends AbstractRecord implements IRecord {
 	int calculateSum() {
 		synchronized (this) {
 			int sum = 0;
-			int min = 0, max = 0;
+			int[] minMax = new int[2];
 			if (this.triggerRanges != null) {
 				for (TriggerRange range : this.triggerRanges) {
-					for (int i = range.in; i < range.out; i++) {
-						if (i == range.in)
-							min = max = this.realGet(i);
-						else {
-							int point = this.realGet(i);
-							if (point > max) max = point;
-							if (point < min) min = point;
-						}
-					}
-					sum += max - min;
+					int rangeOut = Math.min(range.out, this.points.size());
+					if (range.in < rangeOut) this.getMinMax(range.in, rangeOut, minMax);
+					sum += minMax[1] - minMax[0];
 				}
 			}
 			return sum;
@@ -2902,8 +2987,9 @@ public class Record extends AbstractRecord implements IRecord {
 	 * set a new size of values used for voltage curve smooth operation
 	 * @param newVoltageValuesSize
 	 */
-	public void setVoltageValuesSize(int newVoltageValuesSize) {
+	public synchronized void setVoltageValuesSize(int newVoltageValuesSize) {
 		this.voltageValuesSize = newVoltageValuesSize;
+		this.smoothedVoltages = null;
 	}
 
 	@Override
@@ -35,6 +35,7 @@ import gde.Analyzer;
 import gde.Explorer;
 import gde.GDE;
 import gde.TestAnalyzer;
+import gde.device.ChannelType;
 import gde.device.IDevice;
 import gde.device.MeasurementType;
 import gde.device.TriggerType;
@@ -43,6 +44,7 @@ import gde.exception.DataInconsitsentException;
 import gde.histo.transitions.GroupTransitions;
 import gde.histo.transitions.TransitionCollector;
 import gde.histo.transitions.TransitionTableMapper;
+import gde.histo.transitions.TransitionTableMapper.TransitionColumns;
 import gde.io.LogViewReader;
 import gde.io.OsdReaderWriter;
 import gde.log.Level;
@@ -124,6 +126,7 @@ public final class RecordSet extends AbstractRecordSet {
 	int														changeCounter									= 0;																					// indicates change in general
 
 	private GroupTransitions			histoTransitions;
+	private TransitionColumns			transitionColumns;																			// lazy settlement and transition columns of the data table
 	private String								recordKeyMeasurement					= GDE.STRING_EMPTY;
 
 	/**
@@ -502,8 +505,18 @@ public final class RecordSet extends AbstractRecordSet {
 		this.device.prepareDataTableRow(this, dataTableRow, index);
 
 		if (this.analyzer.getSettings().isHistoActive() && this.analyzer.getSettings().isDataTableTransitions()) {
-			String[] rowWithSettlements = new TransitionTableMapper(this, this.analyzer).defineRowWithSettlements(index, dataTableRow);
-			return rowWithSettlements;
+			boolean isGatheringMode = this.histoTransitions != null && this.histoTransitions.isGatheringMode(this);
+			GroupTransitions transitions = this.getHistoTransitions();
+			TransitionColumns columns = this.transitionColumns;
+			ChannelType channelType = this.analyzer.getActiveDevice().getDeviceConfiguration().getChannel(this.getChannelConfigNumber());
+			if (columns == null || !columns.isValid(transitions, channelType, this.getRecordDataSize(true))) {
+				if (isGatheringMode) { // the columns of all rows would be outdated with the next points
+					this.transitionColumns = null;
+					return new TransitionTableMapper(this, this.analyzer).defineRowWithSettlements(index, dataTableRow);
+				}
+				this.transitionColumns = columns = new TransitionTableMapper(this, this.analyzer).defineColumns();
+			}
+			return columns.defineRow(index, dataTableRow, this.getVisibleAndDisplayableRecordsForTable().size() + 1);
 		} else
 			return dataTableRow;
 	}
@@ -1803,6 +1816,56 @@ public final class RecordSet extends AbstractRecordSet {
 		this.hasDisplayableData = enable;
 	}
 
+	/**
+	 * execute pending lazy loads of the record points, e.g. before the file holding the points gets overwritten
+	 */
+	public void ensurePointsLoaded() {
+		for (AbstractRecord record : this.values()) {
+			record.ensurePointsLoaded();
+		}
+	}
+
+	/**
+	 * @return true if the data is unchanged since it was loaded from or saved to the channel file and may be released to be reloaded later
+	 */
+	public boolean isFileDataReloadable() {
+		return this.hasDisplayableData && this.isSaved && !this.isCompareSet && this.fileDataSize != 0 && this.fileDataPointer != 0;
+	}
+
+	/**
+	 * @return the estimated number of bytes occupied by the loaded data points of all records and the time steps
+	 */
+	public long getDataMemorySize() {
+		long bytes = this.timeStep_ms != null && !this.timeStep_ms.isConstant ? (long) this.timeStep_ms.size() * Long.BYTES : 0;
+		for (Record record : this.getValues()) {
+			if (record.isPointsLoaded()) bytes += (long) record.realSize() * Integer.BYTES;
+		}
+		return bytes;
+	}
+
+	/**
+	 * release the data points of all records and the time steps, the record set keeps its meta data and the record statistics (min/max values)
+	 * and reloads the data from file with the next loadFileData call, calculated records get recalculated afterwards
+	 */
+	public synchronized void releaseFileData() {
+		if (this.timeStep_ms != null && !this.timeStep_ms.isConstant) {
+			this.timeStep_ms.clear();
+			this.timeStep_ms.trimToSize();
+		}
+		for (Record record : this.getValues()) {
+			record.clear();
+			record.trimToSize();
+			record.minMaxPyramid = null;
+			record.pointSums = null;
+			record.smoothedVoltages = null;
+		}
+		this.currentDropShadow.clear();
+		this.currentDropIndex.invalidate();
+		this.hasDisplayableData = false;
+		this.isRecalculation = true;
+		log.log(Level.FINE, this.name + " data released"); //$NON-NLS-1$
+	}
+
 	/**
 	 * load data from file
 	 */
@@ -0,0 +1,93 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.data;
+
+import java.util.Arrays;
+
+/**
+ * Smoothed view of the points of a pulsed voltage record.
+ * Each smoothed value is the last point of the window ending at the index which does not exceed the window average.
+ * The values depend on the window points only, thus appended points are smoothed incrementally, any other modification of the point store causes a rebuild on the next query.
+ * Record creates it lazily for a pulsed voltage curve and queries it from its synchronized getInt(int) only, so it has no lock of its own.
+ * @author agent
+ */
+public final class SmoothedVoltages {
+
+	private final PointStore	points;
+	private final int					windowSize;
+	private int[]							values				= new int[64];
+	private int								validSize			= 0;																		// number of smoothed points
+	private int								rewriteCount	= 0;
+
+	/**
+	 * @param newPoints the point store to be smoothed
+	 * @param newWindowSize the number of points used for the average
+	 */
+	public SmoothedVoltages(PointStore newPoints, int newWindowSize) {
+		this.points = newPoints;
+		this.windowSize = newWindowSize;
+		this.rewriteCount = newPoints.getRewriteCount();
+	}
+
+	/**
+	 * smooth the points appended since the last update or rebuild after non appending modifications
+	 */
+	public void update() {
+		if (this.rewriteCount != this.points.getRewriteCount()) {
+			this.rewriteCount = this.points.getRewriteCount();
+			this.validSize = 0;
+		}
+		final int size = this.points.size();
+		if (size > this.values.length) this.values = Arrays.copyOf(this.values, Math.max(size, this.values.length << 1));
+		for (int i = this.validSize; i < size; i++) {
+			if (i < this.windowSize) {
+				this.values[i] = this.points.getInt(i);
+			} else {
+				int average = 0;
+				for (int j = i - this.windowSize + 1; j <= i; j++) {
+					average += this.points.getInt(j);
+				}
+				average /= this.windowSize;
+				int j = i;
+				while (this.points.getInt(j) > average)
+					--j;
+				this.values[i] = this.points.getInt(j);
+			}
+		}
+		this.validSize = size;
+	}
+
+	/**
+	 * @return the window size used for the average
+	 */
+	public int getWindowSize() {
+		return this.windowSize;
+	}
+
+	/**
+	 * query the smoothed value, the smoothed values get updated before
+	 * @param index is the real point index
+	 * @return the smoothed value, the points in front of the first full window are not smoothed
+	 */
+	public int getInt(int index) {
+		this.update();
+		if (index < 0 || index >= this.validSize) throw new ArrayIndexOutOfBoundsException(index);
+		return this.values[index];
+	}
+}
@@ -18,10 +18,13 @@
 ****************************************************************************************/
 package gde.data;
 
-import java.util.Collections;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.Vector;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.logging.Logger;
 
 import gde.log.Level;
@@ -31,9 +34,11 @@ import gde.utils.LocalizedDateTime.DurationPattern;
 
 /**
  * TimeSteps class handles all the time steps of a record set or a record of part of compare set
+ * The time steps are held in a primitive long array which is sorted ascending for all devices with individual time steps.
+ * Time lookups for individual time steps use an interpolation guided binary search, the list methods keep the former Vector semantics.
  * @author Winfried Brügmann
  */
-public class TimeSteps extends Vector<Long> {
+public class TimeSteps extends AbstractList<Long> implements RandomAccess, Cloneable, Serializable {
 	final static String												$CLASS_NAME				= RecordSet.class.getName();
 	final static long													serialVersionUID	= 26031957;
 	final static Logger												log								= Logger.getLogger(RecordSet.class.getName());
@@ -41,15 +46,18 @@ public class TimeSteps extends Vector<Long> {
 	final boolean															isConstant;																											// true if the time step is constant and the consumed time is a number of measurement points * timeStep_ms
 	long																			startTimeStamp_ms	= 0;
 
+	private long[]														timeSteps;																											// time step values in 0.1 ms
+	private int																elementCount			= 0;
+
 	/**
 	 * Constructs a new TimeSteps class, a give time step greater than 0 signals that the time step is constant between measurement points
 	 * This class should hide time step calculations for constant or individual time steps of a device.
 	 * @param newTimeStep_ms
 	 */
 	public TimeSteps(double newTimeStep_ms) {
-		super(newTimeStep_ms < 0 ? 555 : 5);
+		this.timeSteps = new long[newTimeStep_ms < 0 ? 555 : 5];
 		this.isConstant = newTimeStep_ms > 0;
-		if (this.isConstant) super.add(Double.valueOf(newTimeStep_ms * 10).longValue());
+		if (this.isConstant) append(Double.valueOf(newTimeStep_ms * 10).longValue());
 		this.startTimeStamp_ms = new Date().getTime();
 	}
 
@@ -60,9 +68,9 @@ public class TimeSteps extends Vector<Long> {
 	 * @param initialCapacity
 	 */
 	public TimeSteps(double newTimeStep_ms, int initialCapacity) {
-		super(newTimeStep_ms < 0 ? initialCapacity : 5);
+		this.timeSteps = new long[newTimeStep_ms < 0 ? Math.max(1, initialCapacity) : 5];
 		this.isConstant = newTimeStep_ms > 0;
-		if (this.isConstant) super.add(Double.valueOf(newTimeStep_ms * 10).longValue());
+		if (this.isConstant) append(Double.valueOf(newTimeStep_ms * 10).longValue());
 		this.startTimeStamp_ms = new Date().getTime();
 	}
 
@@ -70,7 +78,10 @@ public class TimeSteps extends Vector<Long> {
 	 * copy constructor
 	 */
 	private TimeSteps(TimeSteps toBeClonedTimeSteps) {
-		super(toBeClonedTimeSteps);
+		synchronized (toBeClonedTimeSteps) {
+			this.timeSteps = Arrays.copyOf(toBeClonedTimeSteps.timeSteps, Math.max(1, toBeClonedTimeSteps.elementCount));
+			this.elementCount = toBeClonedTimeSteps.elementCount;
+		}
 		this.isConstant = toBeClonedTimeSteps.isConstant;
 		this.startTimeStamp_ms = toBeClonedTimeSteps.startTimeStamp_ms;
 	}
@@ -79,19 +90,18 @@ public class TimeSteps extends Vector<Long> {
 	 * copy constructor
 	 */
 	private TimeSteps(TimeSteps toBeClonedTimeSteps, int index, boolean isFromBegin) {
-		super(toBeClonedTimeSteps);
-		this.clear();
+		this.timeSteps = new long[Math.max(5, isFromBegin ? toBeClonedTimeSteps.elementCount - index : index)];
 		if (!(this.isConstant = toBeClonedTimeSteps.isConstant)) {
 			this.startTimeStamp_ms = isFromBegin ? toBeClonedTimeSteps.startTimeStamp_ms + toBeClonedTimeSteps.get(index) / 10 : toBeClonedTimeSteps.startTimeStamp_ms;
 			if (isFromBegin) {
 				long cutOffVal = toBeClonedTimeSteps.get(index);
 				for (int i = index; i < toBeClonedTimeSteps.elementCount; i++) {
-					super.add(toBeClonedTimeSteps.get(i) - cutOffVal);
+					this.addRaw(toBeClonedTimeSteps.timeSteps[i] - cutOffVal);
 				}
 			}
 			else {
 				for (int i = 0; i < index; i++) {
-					this.add(toBeClonedTimeSteps.get(i));
+					this.addRaw(toBeClonedTimeSteps.timeSteps[i]);
 				}
 			}
 		}
@@ -107,7 +117,6 @@ public class TimeSteps extends Vector<Long> {
 	 */
 	@Override
 	public synchronized TimeSteps clone() {
-		super.clone();
 		return new TimeSteps(this);
 	}
 
@@ -120,6 +129,97 @@ public class TimeSteps extends Vector<Long> {
 		return new TimeSteps(this, index, isFromBegin);
 	}
 
+	@Override
+	public synchronized int size() {
+		return this.elementCount;
+	}
+
+	@Override
+	public synchronized Long get(int index) {
+		if (index >= this.elementCount) throw new ArrayIndexOutOfBoundsException(index + " >= " + this.elementCount); //$NON-NLS-1$
+		return this.timeSteps[index];
+	}
+
+	/**
+	 * @return the primitive time step value in 0.1 ms
+	 */
+	public synchronized long getRaw(int index) {
+		if (index >= this.elementCount) throw new ArrayIndexOutOfBoundsException(index + " >= " + this.elementCount); //$NON-NLS-1$
+		return this.timeSteps[index];
+	}
+
+	@Override
+	public synchronized Long set(int index, Long time_100ns) {
+		Long oldValue = this.get(index);
+		this.timeSteps[index] = time_100ns;
+		return oldValue;
+	}
+
+	@Override
+	public synchronized boolean add(Long time_100ns) {
+		append(time_100ns);
+		return true;
+	}
+
+	@Override
+	public synchronized void add(int index, Long time_100ns) {
+		if (index > this.elementCount || index < 0) throw new ArrayIndexOutOfBoundsException(index + " > " + this.elementCount); //$NON-NLS-1$
+		ensureCapacity(this.elementCount + 1);
+		System.arraycopy(this.timeSteps, index, this.timeSteps, index + 1, this.elementCount - index);
+		this.timeSteps[index] = time_100ns;
+		++this.elementCount;
+		++this.modCount;
+	}
+
+	@Override
+	public synchronized Long remove(int index) {
+		Long oldValue = this.get(index);
+		System.arraycopy(this.timeSteps, index + 1, this.timeSteps, index, this.elementCount - index - 1);
+		--this.elementCount;
+		++this.modCount;
+		return oldValue;
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.elementCount = 0;
+		++this.modCount;
+	}
+
+	public synchronized Long firstElement() {
+		if (this.elementCount == 0) throw new NoSuchElementException();
+		return this.timeSteps[0];
+	}
+
+	public synchronized Long lastElement() {
+		if (this.elementCount == 0) throw new NoSuchElementException();
+		return this.timeSteps[this.elementCount - 1];
+	}
+
+	public synchronized Long elementAt(int index) {
+		return this.get(index);
+	}
+
+	public synchronized void ensureCapacity(int minCapacity) {
+		if (minCapacity > this.timeSteps.length) {
+			this.timeSteps = Arrays.copyOf(this.timeSteps, Math.max(minCapacity, this.timeSteps.length << 1));
+		}
+	}
+
+	public synchronized void trimToSize() {
+		if (this.elementCount < this.timeSteps.length) {
+			this.timeSteps = Arrays.copyOf(this.timeSteps, Math.max(1, this.elementCount));
+		}
+	}
+
+	private void append(long time_100ns) {
+		if (this.elementCount == this.timeSteps.length) {
+			this.timeSteps = Arrays.copyOf(this.timeSteps, Math.max(16, this.timeSteps.length << 1));
+		}
+		this.timeSteps[this.elementCount++] = time_100ns;
+		++this.modCount;
+	}
+
 	/**
 	 * query the delta time in msec between two index positions
 	 * @param indexStart
@@ -136,7 +236,7 @@ public class TimeSteps extends Vector<Long> {
 			indexEnd = this.elementCount - 1;
 		}
 		indexEnd = indexEnd > this.elementCount - 1 ? this.elementCount - 1 : indexEnd;
-		return (this.get(indexEnd) - this.get(indexStart)) / 10.0;
+		return (this.getRaw(indexEnd) - this.getRaw(indexStart)) / 10.0;
 	}
 
 	/**
@@ -146,7 +246,7 @@ public class TimeSteps extends Vector<Long> {
 	 */
 	public double getTime_ms(int index) {
 		synchronized (this) {
-			return this.isConstant ? (index == 0 ? 0.0 : this.get(0) / 10.0 * index) : (index < 0 ? this.firstElement() : index > elementCount - 1 ? this.lastElement() / 10.0 : this.get(index) / 10.0);
+			return this.isConstant ? (index == 0 ? 0.0 : this.timeSteps[0] / 10.0 * index) : (index < 0 ? this.firstElement() : index > elementCount - 1 ? this.lastElement() / 10.0 : this.timeSteps[index] / 10.0);
 		}
 	}
 
@@ -176,7 +276,8 @@ public class TimeSteps extends Vector<Long> {
 	 */
 	public synchronized boolean addRaw(long time_100ns) {
 		synchronized (this) {
-			return this.isConstant ? true : super.add(time_100ns);
+			if (!this.isConstant) append(time_100ns);
+			return true;
 		}
 	}
 
@@ -187,7 +288,8 @@ public class TimeSteps extends Vector<Long> {
 	 */
 	public synchronized boolean add(double value_ms) {
 		synchronized (this) {
-			return this.isConstant ? true : super.add((long) (value_ms * 10));
+			if (!this.isConstant) append((long) (value_ms * 10));
+			return true;
 		}
 	}
 
@@ -215,9 +317,9 @@ public class TimeSteps extends Vector<Long> {
 			return 0;
 		}
 		else {
-			long minValue = this.get(0) - 0;
+			long minValue = this.timeSteps[0] - 0;
 			for (int i = 1; i < this.elementCount; i++) {
-				long diff = this.get(i) - this.get(i - 1);
+				long diff = this.timeSteps[i] - this.timeSteps[i - 1];
 				if (minValue > diff) minValue = diff;
 			}
 			log.log(Level.FINE, String.format("min=%d  avg=%f", minValue / 10, getAverageTimeStep_ms())); //$NON-NLS-1$
@@ -236,9 +338,9 @@ public class TimeSteps extends Vector<Long> {
 			return 0;
 		}
 		else {
-			long maxValue = this.get(0) - 0;
+			long maxValue = this.timeSteps[0] - 0;
 			for (int i = 1; i < this.elementCount; i++) {
-				long diff = this.get(i) - this.get(i - 1);
+				long diff = this.timeSteps[i] - this.timeSteps[i - 1];
 				if (maxValue < diff) maxValue = diff;
 			}
 			log.log(Level.FINE, String.format("max=%d  avg=%f", maxValue / 10, getAverageTimeStep_ms())); //$NON-NLS-1$
@@ -258,9 +360,9 @@ public class TimeSteps extends Vector<Long> {
 		}
 		else {
 			long baseTimeSpan = (long) (getAverageTimeStep_ms());
-			double sqSum = (this.get(0) - 0 - baseTimeSpan) * (this.get(0) - 0 - baseTimeSpan);
+			double sqSum = (this.timeSteps[0] - 0 - baseTimeSpan) * (this.timeSteps[0] - 0 - baseTimeSpan);
 			for (int i = 1; i < this.elementCount; i++) {
-				long diff = this.get(i) - this.get(i - 1);
+				long diff = this.timeSteps[i] - this.timeSteps[i - 1];
 				sqSum += (diff - baseTimeSpan) * (diff - baseTimeSpan);
 			}
 			if (log.isLoggable(Level.FINE)) log.log(Level.FINE, String.format("avg=%f  sigma=%f", getAverageTimeStep_ms(), Math.sqrt(sqSum / (this.elementCount - 1)) / 10)); //$NON-NLS-1$
@@ -295,31 +397,28 @@ public class TimeSteps extends Vector<Long> {
 	 * In case of the given time in in between two available measurement points both bounding indexes are returned,
 	 * only in case where the given time matches an existing entry both indexes are equal.
 	 * In cases where the returned indexes are not equal the related point x/y has to be interpolated.
+	 * The last time step is never used as upper bound candidate, a time beyond the second last time step returns the last index twice.
 	 * @param time_ms
 	 * @return two indexes around given time
 	 */
-	public int[] findBoundingIndexes(double time_ms) {
+	public synchronized int[] findBoundingIndexes(double time_ms) {
 		//log.log(Level.INFO, "time_ms = " + time_ms);
 		int index1 = 0, index2 = 0;
 		if (time_ms > 0 && elementCount > 0) {
 			if (isConstant) {
-				double position = time_ms / (this.get(0) / 10.0);
+				double position = time_ms / (this.timeSteps[0] / 10.0);
 				index1 = (int) position;
 				index2 = (int) (position + 0.5);
 			}
 			else {
-				int value = Double.valueOf(time_ms * 10.0).intValue();
-				for (; index2 < elementCount - 1; index2++) {
-					if (value == get(index2)) {
-						index1 = index2;
-						break;
-					}
-					else if (value < get(index2)) {
-						index1 = index2 > 0 ? index2 - 1 : 0;
-						break;
-					}
-					index1 = index2 + 1;
-				}
+				long value = (long) (time_ms * 10.0);
+				index2 = this.findLowerBound(value, elementCount - 1);
+				if (index2 == elementCount - 1)
+					index1 = index2;
+				else if (value == this.timeSteps[index2])
+					index1 = index2;
+				else
+					index1 = index2 > 0 ? index2 - 1 : 0;
 			}
 		}
 		//log.log(Level.INFO, index1 + " - " + index2);
@@ -331,21 +430,18 @@ public class TimeSteps extends Vector<Long> {
 	 * @param time_ms
 	 * @return index closest to given time
 	 */
-	public int findBestIndex(double time_ms) {
+	public synchronized int findBestIndex(double time_ms) {
 		int index = 0;
 		if (time_ms > 0) {
 			double position = 0.0;
 			if (this.isConstant) {
-				position = time_ms / (this.get(0) / 10.0);
+				position = time_ms / (this.timeSteps[0] / 10.0);
 				index = (int) (position + 0.5);
 			}
 			else {
-				index = (int) (time_ms / (this.lastElement() / (double) (this.elementCount - 1) / 10.0) / 2.0);
-				int value = Double.valueOf(time_ms * 10.0).intValue();
-				for (; index < elementCount; index++) {
-					if (value <= this.get(index)) break;
-				}
-				if (index + 1 <= this.elementCount && (index > 0 && value <= (this.get(index) + this.get(index - 1)) / 2)) index = index - 1;
+				long value = (long) (time_ms * 10.0);
+				index = this.findLowerBound(value, this.elementCount);
+				if (index + 1 <= this.elementCount && (index > 0 && value <= (this.timeSteps[index] + this.timeSteps[index - 1]) / 2)) index = index - 1;
 			}
 		}
 		//log.log(Level.INFO, "index=" + index);
@@ -362,20 +458,20 @@ public class TimeSteps extends Vector<Long> {
 		if (!this.isEmpty()) {
 			if (this.isConstant) {
 				if (time_ms > 0) {
-					double position = time_ms / (this.get(0) / 10.0);
+					double position = time_ms / (this.timeSteps[0] / 10.0);
 					index = (int) (position + 0.5);
 				}
 			}
 			else {
 				// determine index
 				long value_ms = (long) (time_ms * 10.0);
-				int result = Collections.binarySearch(this, value_ms, comparator);
+				int result = this.binarySearch(value_ms, comparator);
 				if (result >= 0)
 					index = result;
 				else {
 					index = Math.abs(result + 2);
 					// the index is now the lower bound and we want the next index if the value is beyond the mid of the distance to the next value
-					if (index < size() - 1 && comparator.compare(value_ms, (this.get(index + 1) + this.get(index)) / 2) > 0) index++;
+					if (index < this.elementCount - 1 && comparator.compare(value_ms, (this.timeSteps[index + 1] + this.timeSteps[index]) / 2) > 0) index++;
 				}
 			}
 		}
@@ -383,6 +479,59 @@ public class TimeSteps extends Vector<Long> {
 		return index;
 	}
 
+	/**
+	 * Find the first index in the range [0, toIndex) with a time step value greater or equal to the given value.
+	 * The time steps are sorted ascending, the probe position is interpolated from the bounding values which is close to the target for
+	 * nearly equidistant time steps. Each interpolation probe is followed by a bisection step which limits the worst case to O(log n).
+	 * @param time_100ns
+	 * @param toIndex exclusive upper bound
+	 * @return the lower bound index or toIndex if all values are less than the given value
+	 */
+	int findLowerBound(long time_100ns, int toIndex) {
+		int low = 0, high = toIndex; // search range [low, high)
+		boolean isInterpolation = true;
+		while (low < high) {
+			int mid;
+			long lowValue = this.timeSteps[low], highValue = this.timeSteps[high - 1];
+			if (time_100ns <= lowValue)
+				return low;
+			else if (time_100ns > highValue)
+				return high;
+			else if (isInterpolation && highValue > lowValue)
+				mid = low + (int) ((double) (time_100ns - lowValue) / (highValue - lowValue) * (high - 1 - low));
+			else
+				mid = (low + high) >>> 1;
+			isInterpolation = !isInterpolation;
+
+			if (this.timeSteps[mid] < time_100ns)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * binary search on the primitive time steps
+	 * @param time_100ns
+	 * @param comparator reflects the sort order of the timesteps
+	 * @return the search result as defined by {@link java.util.Collections#binarySearch(java.util.List, Object, Comparator)}
+	 */
+	private int binarySearch(long time_100ns, Comparator<Long> comparator) {
+		int low = 0, high = this.elementCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = comparator.compare(this.timeSteps[mid], time_100ns);
+			if (cmp < 0)
+				low = mid + 1;
+			else if (cmp > 0)
+				high = mid - 1;
+			else
+				return mid;
+		}
+		return -(low + 1);
+	}
+
 	/**
 	 * set absolute start and end time of this record set
 	 * @param newStartTimeStamp_ms
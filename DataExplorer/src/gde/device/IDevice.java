@@ -18,6 +18,9 @@
 ****************************************************************************************/
 package gde.device;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
@@ -27,6 +30,7 @@ import gde.comm.IDeviceCommPort;
 import gde.data.Record;
 import gde.data.RecordSet;
 import gde.exception.DataInconsitsentException;
+import gde.io.OsdDataSection;
 import gde.utils.CalculationThread;
 
 /**
@@ -836,6 +840,30 @@ public interface IDevice {
 	public void addDataBufferAsRawDataPoints(RecordSet recordSet, byte[] dataBuffer, int recordDataSize, boolean doUpdateProgressBar)
 			throws DataInconsitsentException;
 
+	/**
+	 * add record data size points from an OSD data section to each measurement
+	 * the data section is decoded from the uncompressed file or the zip stream in bounded blocks,
+	 * devices overriding this method avoid the temporary byte array of the complete record set data
+	 * the default implementation materializes the data section and calls addDataBufferAsRawDataPoints
+	 * @param recordSet
+	 * @param dataSection
+	 * @param doUpdateProgressBar
+	 * @throws DataInconsitsentException
+	 * @throws IOException
+	 */
+	public default void addDataSectionAsRawDataPoints(RecordSet recordSet, OsdDataSection dataSection, boolean doUpdateProgressBar) throws DataInconsitsentException, IOException {
+		addDataBufferAsRawDataPoints(recordSet, dataSection.toByteArray(), dataSection.getRecordDataSize(), doUpdateProgressBar);
+	}
+
+	/**
+	 * columnar OSD files (version 5) may load the points of hidden records on demand,
+	 * the data section then delivers placeholders for those records which must not be used to calculate other values
+	 * @return true if addDataSectionAsRawDataPoints adds the data section points unchanged to the none calculation records
+	 */
+	public default boolean isDataSectionPassThrough() {
+		return false;
+	}
+
 	/**
 	 * add record data size points from LogView data stream to each measurement, if measurement is calculation 0 will be added
 	 * adaption from LogView stream data format into the device data buffer format is required
@@ -1147,4 +1175,20 @@ public interface IDevice {
 	 */
 	public String crossCheckChannelConfig(String channelConfig, HashMap<String, String> recordSetInfo);
 
+	/**
+	 * @return the native file extentions which {@link #readImportFile(Path)} reads without the integrated UI
+	 */
+	default List<String> getReadableImportExtentions() {
+		return new ArrayList<>();
+	}
+
+	/**
+	 * Read device specific data files into the channels without any user interaction, e.g. for batch conversions.
+	 * @param filePath has one of the readable import extentions
+	 * @throws UnsupportedOperationException if the device does not support reading this file without the integrated UI
+	 */
+	default void readImportFile(Path filePath) throws Exception {
+		throw new UnsupportedOperationException(filePath.toString());
+	}
+
 }
@@ -20,12 +20,12 @@
 package gde.histo.cache;
 
 import java.nio.file.Path;
-import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -58,7 +58,7 @@ import gde.histo.transitions.GroupTransitions;
 import gde.histo.transitions.Transition;
 import gde.histo.transitions.TransitionCollector;
 import gde.histo.transitions.TransitionTableMapper.SettlementRecords;
-import gde.histo.utils.UniversalQuantile;
+import gde.histo.utils.StreamingQuantile;
 import gde.log.Logger;
 
 /**
@@ -72,36 +72,38 @@ public final class VaultCollector {
 	private enum Coding {
 		BITS {
 			@Override
-			public UniversalQuantile<Integer> toIndexQuantile(IRecord record, Settings settings) {
-				List<Integer> bitIndexes = record.getValues().stream().map(p -> p / 1000) // todo supports a maximum of 22 bits only
-						.flatMap(v -> BitSet.valueOf(new long[] { v }).stream().boxed()) //
-						.collect(Collectors.toList());
-				UniversalQuantile<Integer> quantile = new UniversalQuantile<>(bitIndexes, true, false, false, settings);
+			public StreamingQuantile toIndexQuantile(IRecord record, Settings settings) {
+				StreamingQuantile quantile = new StreamingQuantile(true, false, settings);
+				record.forEachValue(p -> {
+					long bits = p / 1000; // todo supports a maximum of 22 bits only
+					while (bits != 0) {
+						quantile.accept(Long.numberOfTrailingZeros(bits));
+						bits &= bits - 1;
+					}
+				});
 				log.finer(() -> quantile.toString());
 				return quantile;
 			}
 
 			@Override
-			public UniversalQuantile<? extends Number> toValueQuantile(IRecord record, Settings settings) {
-				List<Integer> intValues = record.getValues().stream().map(p -> p / 1000) //
-						.collect(Collectors.toList());
-				UniversalQuantile<Integer> quantile = new UniversalQuantile<>(intValues, true, false, false, settings);
+			public StreamingQuantile toValueQuantile(IRecord record, Settings settings) {
+				StreamingQuantile quantile = new StreamingQuantile(true, false, settings);
+				record.forEachValue(p -> quantile.accept(p / 1000));
 				return quantile;
 			}
 		},
 		TOKENS {
 			@Override
-			public UniversalQuantile<Integer> toIndexQuantile(IRecord record, Settings settings) {
-				List<Integer> bitIndexes = record.getValues().stream().map(p -> p / 1000) //
-						.collect(Collectors.toList());
-				UniversalQuantile<Integer> quantile = new UniversalQuantile<>(bitIndexes, true, false, false, settings);
+			public StreamingQuantile toIndexQuantile(IRecord record, Settings settings) {
+				StreamingQuantile quantile = new StreamingQuantile(true, false, settings);
+				record.forEachValue(p -> quantile.accept(p / 1000));
 				log.finer(() -> quantile.toString());
 				return quantile;
 			}
 
 			@Override
-			public UniversalQuantile<? extends Number> toValueQuantile(IRecord record, Settings settings) {
-				Function<Integer, Integer> indexToSetMapper = i -> {
+			public StreamingQuantile toValueQuantile(IRecord record, Settings settings) {
+				IntUnaryOperator indexToSetMapper = i -> {
 					if (i <= 0) return 1; // setting the bits(0) prevents zero values from getting lost
 
 					// take inputs from { 1 .. 32 } corresponding to { A .. Z plus some extra chars }
@@ -110,31 +112,36 @@ public final class VaultCollector {
 					return idx > 0 ? 1 << idx : 0; // 1-based token numbers ('A' maps to bits(1), bits(0) used for zero detection)
 				};
 
-				List<Integer> intValues = record.getValues().stream().map(p -> p / 1000) //
-						.map(indexToSetMapper) //
-						.collect(Collectors.toList());
-				UniversalQuantile<Integer> quantile = new UniversalQuantile<>(intValues, true, false, false, settings);
+				StreamingQuantile quantile = new StreamingQuantile(true, false, settings);
+				record.forEachValue(p -> quantile.accept(indexToSetMapper.applyAsInt(p / 1000)));
 				log.finer(() -> quantile.toString());
 				return quantile;
 			}
 		},
 		POINT {
 			@Override
-			public UniversalQuantile<Integer> toIndexQuantile(IRecord record, Settings settings) {
+			public StreamingQuantile toIndexQuantile(IRecord record, Settings settings) {
 				throw new UnsupportedOperationException();
 			}
 
 			@Override
-			public UniversalQuantile<? extends Number> toValueQuantile(IRecord record, Settings settings) {
+			public StreamingQuantile toValueQuantile(IRecord record, Settings settings) {
 				boolean removeCastaways = true;
-				UniversalQuantile<Double> quantile = new UniversalQuantile<>(record.getTranslatedValues(), true, removeCastaways, false, settings);
+				StreamingQuantile quantile = new StreamingQuantile(true, removeCastaways, settings);
+				record.forEachTranslatedValue(quantile);
 				return quantile;
 			}
 		};
 
-		public abstract UniversalQuantile<Integer> toIndexQuantile(IRecord record, Settings settings);
+		/**
+		 * @return the quantile fed directly from the record points without materializing the population
+		 */
+		public abstract StreamingQuantile toIndexQuantile(IRecord record, Settings settings);
 
-		public abstract UniversalQuantile<? extends Number> toValueQuantile(IRecord record, Settings settings);
+		/**
+		 * @return the quantile fed directly from the record points without materializing the population
+		 */
+		public abstract StreamingQuantile toValueQuantile(IRecord record, Settings settings);
 	}
 
 	private final Analyzer	analyzer;
@@ -439,16 +446,16 @@ public final class VaultCollector {
 
 		Function<Double, Integer> encoder = value -> encodeValue(channelItem, value);
 
-		UniversalQuantile<? extends Number> quantile;
+		StreamingQuantile quantile;
 		final int rawMax, rawBitwiseOr;
 		if (channelItem.isBits()) {
-			UniversalQuantile<? extends Number> rawQuantile = Coding.BITS.toValueQuantile(record, analyzer.getSettings());
+			StreamingQuantile rawQuantile = Coding.BITS.toValueQuantile(record, analyzer.getSettings());
 			rawMax = (int) Math.round(rawQuantile.getQuartile4());
 			rawBitwiseOr = rawQuantile.getOrFigure();
 			log.finer(() -> "isBits " + rawQuantile.getQuartile4() + "   " + rawQuantile.getOrFigure());
 			quantile = Coding.BITS.toIndexQuantile(record, analyzer.getSettings());
 		} else if (channelItem.isTokens()) {
-			UniversalQuantile<? extends Number> rawQuantile = Coding.TOKENS.toValueQuantile(record, analyzer.getSettings());
+			StreamingQuantile rawQuantile = Coding.TOKENS.toValueQuantile(record, analyzer.getSettings());
 			rawMax = (int) Math.round(rawQuantile.getQuartile4());
 			rawBitwiseOr = rawQuantile.getOrFigure();
 			log.finer(() -> "isToken " + rawQuantile.getQuartile4() + "   " + rawQuantile.getOrFigure());
@@ -516,7 +523,7 @@ public final class VaultCollector {
 
 				Function<Double, Integer> encoder = value -> encodeValue(settlementType, value);
 
-				UniversalQuantile<? extends Number> quantile;
+				StreamingQuantile quantile;
 				if (settlementType.isBits()) {
 					quantile = Coding.BITS.toIndexQuantile(record, analyzer.getSettings());
 				} else if (settlementType.isTokens()) {
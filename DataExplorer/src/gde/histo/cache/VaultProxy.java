@@ -69,7 +69,17 @@ public final class VaultProxy {
 	private static Unmarshaller	jaxbUnmarshaller	= null;
 	private static Marshaller		jaxbMarshaller		= null;
 
-	private static Schema getVaultSchema() {
+	private static final ThreadLocal<Unmarshaller>	threadUnmarshaller	= ThreadLocal.withInitial(() -> {
+		try {
+			Unmarshaller unmarshaller = HistoVault.getJaxbContext().createUnmarshaller();
+			unmarshaller.setSchema(getVaultSchema());
+			return unmarshaller;
+		} catch (Exception e) {
+			throw ThrowableUtils.rethrow(e);
+		}
+	});
+
+	private static synchronized Schema getVaultSchema() {
 		if (vaultSchema == null) {
 			try (InputStream inputStream = DataAccess.getInstance().getCacheXsdInputStream()) { // ok
 				StreamSource xsdStreamSource = new StreamSource(inputStream);
@@ -142,6 +152,21 @@ public final class VaultProxy {
 		return vault;
 	}
 
+	/**
+	 * Threadsafe loading with an unmarshaller cached per thread.
+	 * @param inputStream is a stream to the source path
+	 * @return the vault
+	 */
+	public static HistoVault threadLocalLoad(InputStream inputStream) {
+		HistoVault vault = null;
+		try {
+			vault = (HistoVault) threadUnmarshaller.get().unmarshal(inputStream);
+		} catch (Exception e) {
+			ThrowableUtils.rethrow(e);
+		}
+		return vault;
+	}
+
 	/**
 	 * Threadsafe storage in JSON format without closing the stream.
 	 * @param newVault is the vault to be stored
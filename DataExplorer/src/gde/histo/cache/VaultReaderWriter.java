@@ -28,20 +28,31 @@ package gde.histo.cache;
 import static java.util.logging.Level.SEVERE;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -68,12 +79,13 @@ import gde.log.Logger;
  * @author Thomas Eickert (USER)
  */
 public final class VaultReaderWriter {
-	private static final String											$CLASS_NAME			= VaultReaderWriter.class.getName();
-	private static final Logger											log							= Logger.getLogger($CLASS_NAME);
+	private static final String											$CLASS_NAME					= VaultReaderWriter.class.getName();
+	private static final Logger											log									= Logger.getLogger($CLASS_NAME);
 
-	private static final int												MIN_FILE_LENGTH	= 2048;
+	private static final int												MIN_FILE_LENGTH				= 2048;
+	private static final int												DECODER_QUEUE_FACTOR	= 4;	// bounded number of read but undecoded entries per decoder thread
 
-	private static final Cache<String, HistoVault>	memoryCache			=																		//
+	private static final Cache<String, HistoVault>	memoryCache					=																		//
 			CacheBuilder.newBuilder().maximumSize(4444).recordStats().build();															// key is the vaultName
 
 	/**
@@ -124,73 +136,109 @@ public final class VaultReaderWriter {
 
 	/**
 	 * Read cached vaults and reduce the trussJobs map.
+	 * The calling thread reads the cache entries and a bounded pool decodes the vaults in parallel.
 	 * @param trussJobs lists all source files with a map of their vault skeletons (the key vaultFileName prevents double entries)
-	 * @return the vaults and trusses loaded from the cache
+	 * @return the vaults and trusses loaded from the cache in descending log start timestamp order
 	 * @throws IOException during opening or traversing the zip file
 	 */
-	public synchronized List<ExtendedVault> loadFromCaches(TrussJobs trussJobs) //
-			throws IOException { // syn due to SAXException: FWK005 parse may not be called while parsing.
-		String osdReaderSettings = GDE.STRING_EMPTY;
-		List<ExtendedVault> vaults = loadFromCachePath(trussJobs, ExtendedVault.getVaultDirectoryName(analyzer.getActiveDevice(), analyzer.getSettings(), analyzer.getActiveChannel().getNumber(), osdReaderSettings));
-
-		if (analyzer.getActiveDevice() instanceof IHistoDevice) {
-			String nativeReaderSettings = ((IHistoDevice) analyzer.getActiveDevice()).getReaderSettingsCsv();
-			if (!nativeReaderSettings.equals(osdReaderSettings)) {
-				List<ExtendedVault> nativeVaults = loadFromCachePath(trussJobs, ExtendedVault.getVaultDirectoryName(analyzer.getActiveDevice(), analyzer.getSettings(), analyzer.getActiveChannel().getNumber(), nativeReaderSettings));
-				vaults.addAll(nativeVaults);
+	public synchronized List<ExtendedVault> loadFromCaches(TrussJobs trussJobs) throws IOException {
+		int threads = analyzer.getSettings().getCacheRestoreThreads();
+		ExecutorService decoderPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(threads * DECODER_QUEUE_FACTOR), //
+				r -> {
+					Thread thread = new Thread(r, "vaultDecoder"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy()); // the reader decodes by itself if the pool is saturated
+		try {
+			String osdReaderSettings = GDE.STRING_EMPTY;
+			List<ExtendedVault> vaults = loadFromCachePath(trussJobs, ExtendedVault.getVaultDirectoryName(analyzer.getActiveDevice(), analyzer.getSettings(), analyzer.getActiveChannel().getNumber(), osdReaderSettings), decoderPool);
+
+			if (analyzer.getActiveDevice() instanceof IHistoDevice) {
+				String nativeReaderSettings = ((IHistoDevice) analyzer.getActiveDevice()).getReaderSettingsCsv();
+				if (!nativeReaderSettings.equals(osdReaderSettings)) {
+					List<ExtendedVault> nativeVaults = loadFromCachePath(trussJobs, ExtendedVault.getVaultDirectoryName(analyzer.getActiveDevice(), analyzer.getSettings(), analyzer.getActiveChannel().getNumber(), nativeReaderSettings), decoderPool);
+					vaults.addAll(nativeVaults);
+				}
 			}
+			vaults.sort(Comparator.comparingLong(ExtendedVault::getLogStartTimestamp_ms).reversed());
+			return vaults;
+		} finally {
+			decoderPool.shutdownNow();
 		}
-		return vaults;
 	}
 
-	private List<ExtendedVault> loadFromCachePath(TrussJobs trussJobs, String vaultDirectoryName) throws IOException {
+	/**
+	 * Submit the decoding jobs for the cache entries of the trusses and merge the decoded vaults.
+	 */
+	private List<ExtendedVault> loadFromCachePath(TrussJobs trussJobs, String vaultDirectoryName, ExecutorService decoderPool) throws IOException {
 		List<ExtendedVault> vaults = new ArrayList<>();
 		if (!analyzer.getDataAccess().existsCacheDirectory(vaultDirectoryName)) return vaults;
 
 		Function<InputStream, HistoVault> storeKeeper = analyzer.getSettings().isXmlCache() //
-				? (stream) -> VaultProxy.load(stream) //
+				? (stream) -> VaultProxy.threadLocalLoad(stream) //
 				: (stream) -> VaultProxy.loadJson(stream);
-		if (analyzer.getSettings().isZippedCache()) {
-			HashMap<String, VaultCollector> vaultNameMap = trussJobs.getAsVaultNameMap();
+		HashMap<String, VaultCollector> vaultNameMap = trussJobs.getAsVaultNameMap();
+		Map<String, Future<HistoVault>> decodings = new LinkedHashMap<>();
+		if (analyzer.getSettings().isBinaryCache()) {
+			List<String> uncachedNames = new ArrayList<>();
+			for (String vaultName : vaultNameMap.keySet()) {
+				HistoVault histoVault = memoryCache.getIfPresent(vaultName);
+				if (histoVault != null)
+					decodings.put(vaultName, CompletableFuture.completedFuture(histoVault));
+				else
+					uncachedNames.add(vaultName);
+			}
+			for (Map.Entry<String, ByteBuffer> entry : new VaultSegment(analyzer.getDataAccess(), vaultDirectoryName).loadEntries(uncachedNames).entrySet()) {
+				decodings.put(entry.getKey(), decoderPool.submit(() -> VaultSegment.decode(entry.getValue())));
+			}
+		} else if (analyzer.getSettings().isZippedCache()) {
 			try (CloseIgnoringInputStream stream = new CloseIgnoringInputStream(analyzer.getDataAccess().getCacheZipInputStream(vaultDirectoryName))) {
 				ZipEntry entry;
 				while ((entry = stream.getNextEntry()) != null) {
 					String vaultName = entry.getName();
 					if (vaultNameMap.containsKey(vaultName)) {
-						progress.ifPresent((p) -> p.countInLoop(1));
-						try {
-							HistoVault histoVault = memoryCache.get(vaultName, () -> storeKeeper.apply(stream));
-							VaultCollector truss = vaultNameMap.get(vaultName);
-							vaults.add(ExtendedVault.createExtendedVault(histoVault, truss));
-							trussJobs.remove(truss);
-						} catch (Exception e) {
-							log.log(SEVERE, e.getMessage(), e);
+						HistoVault histoVault = memoryCache.getIfPresent(vaultName);
+						if (histoVault != null) {
+							decodings.put(vaultName, CompletableFuture.completedFuture(histoVault));
+						} else {
+							byte[] bytes = readAllBytes(stream);
+							decodings.put(vaultName, decoderPool.submit(() -> storeKeeper.apply(new ByteArrayInputStream(bytes))));
 						}
 					}
 				}
 				stream.reallyClose();
 			}
 		} else {
-			Iterator<Map.Entry<Path, List<VaultCollector>>> trussJobsIterator = trussJobs.entrySet().iterator();
-			while (trussJobsIterator.hasNext()) {
-				final List<VaultCollector> map = trussJobsIterator.next().getValue();
-				final Iterator<VaultCollector> trussesIterator = map.iterator();
-				while (trussesIterator.hasNext()) {
-					progress.ifPresent((p) -> p.countInLoop(1));
-					VaultCollector truss = trussesIterator.next();
-					String vaultName = truss.getVault().vaultName;
-					if (analyzer.getDataAccess().existsCacheVault(vaultDirectoryName, vaultName)) {
-						HistoVault histoVault = null;
+			for (String vaultName : vaultNameMap.keySet()) {
+				if (analyzer.getDataAccess().existsCacheVault(vaultDirectoryName, vaultName)) {
+					HistoVault histoVault = memoryCache.getIfPresent(vaultName);
+					if (histoVault != null) {
+						decodings.put(vaultName, CompletableFuture.completedFuture(histoVault));
+					} else {
 						try (InputStream stream = analyzer.getDataAccess().getCacheInputStream(vaultDirectoryName, vaultName)) {
-							histoVault = memoryCache.get(vaultName, () -> storeKeeper.apply(stream));
-							vaults.add(ExtendedVault.createExtendedVault(histoVault, truss));
-							trussesIterator.remove();
+							byte[] bytes = readAllBytes(stream);
+							decodings.put(vaultName, decoderPool.submit(() -> storeKeeper.apply(new ByteArrayInputStream(bytes))));
 						} catch (Exception e) {
 							log.log(SEVERE, e.getMessage(), e);
 						}
 					}
 				}
-				if (map.isEmpty()) trussJobsIterator.remove();
+			}
+		}
+
+		for (Map.Entry<String, Future<HistoVault>> decoding : decodings.entrySet()) {
+			progress.ifPresent((p) -> p.countInLoop(1));
+			try {
+				HistoVault histoVault = decoding.getValue().get();
+				memoryCache.put(decoding.getKey(), histoVault);
+				VaultCollector truss = vaultNameMap.get(decoding.getKey());
+				vaults.add(ExtendedVault.createExtendedVault(histoVault, truss));
+				trussJobs.remove(truss);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			} catch (Exception e) {
+				log.log(SEVERE, e.getMessage(), e);
 			}
 		}
 		log.fine(() -> {
@@ -200,6 +248,19 @@ public final class VaultReaderWriter {
 		return vaults;
 	}
 
+	/**
+	 * @return the remaining bytes of the stream without closing it
+	 */
+	private static byte[] readAllBytes(InputStream stream) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(MIN_FILE_LENGTH * 8);
+		byte[] buffer = new byte[8192];
+		int length;
+		while ((length = stream.read(buffer)) != -1) {
+			bytes.write(buffer, 0, length);
+		}
+		return bytes.toByteArray();
+	}
+
 	/**
 	 * Get the zip file name from the history vault class and add all histoset vaults to this file.
 	 */
@@ -226,7 +287,13 @@ public final class VaultReaderWriter {
 		BiConsumer<HistoVault, OutputStream> storeKeeper = analyzer.getSettings().isXmlCache() //
 				? (vault, stream) -> VaultProxy.store(vault, stream) //
 				: (vault, stream) -> VaultProxy.storeJson(vault, stream);
-		if (analyzer.getSettings().isZippedCache()) {
+		if (analyzer.getSettings().isBinaryCache()) {
+			List<ExtendedVault> vaults = newVaults.stream().map(VaultCollector::getVault).collect(Collectors.toList());
+			new VaultSegment(analyzer.getDataAccess(), vaultDirectoryName).store(vaults);
+			for (ExtendedVault vault : vaults) {
+				memoryCache.put(vault.vaultName, vault);
+			}
+		} else if (analyzer.getSettings().isZippedCache()) {
 			// use a zip file system because it supports adding files in contrast to the standard procedure using a ZipOutputStream
 			try (FileSystem zipFileSystem = analyzer.getDataAccess().getCacheZipFileSystem(vaultDirectoryName)) {
 				for (VaultCollector vaultCollector : newVaults) {
@@ -266,12 +333,15 @@ public final class VaultReaderWriter {
 	@Nullable
 	public List<HistoVault> loadFromCaches(List<VaultKeyPair> keyPairs) {
 		List<HistoVault> vaults = new ArrayList<>();
+		Map<String, HistoVault> segmentVaults = analyzer.getSettings().isBinaryCache() ? loadFromSegments(keyPairs) : new HashMap<>();
 		for (VaultKeyPair p : keyPairs) {
 			if (p == null) continue;
 			String folderName = p.getKey();
 			String fileName = p.getValue();
 			HistoVault histoVault = memoryCache.getIfPresent(fileName);
-			if (histoVault == null) {
+			if (histoVault == null && analyzer.getSettings().isBinaryCache()) {
+				histoVault = segmentVaults.get(fileName);
+			} else if (histoVault == null) {
 				histoVault = analyzer.getSettings().isZippedCache() //
 						? analyzer.getDataAccess().getCacheZipVault(folderName, fileName, MIN_FILE_LENGTH, analyzer.getSettings().isXmlCache()) //
 						: analyzer.getDataAccess().getCacheVault(folderName, fileName, MIN_FILE_LENGTH, analyzer.getSettings().isXmlCache());
@@ -287,7 +357,25 @@ public final class VaultReaderWriter {
 	}
 
 	/**
-	 * @param directoryName defines the zip file holding the vaults or the vaults folder
+	 * @return the segment vaults which are not available in the memory cache (key is the vault name)
+	 */
+	private Map<String, HistoVault> loadFromSegments(List<VaultKeyPair> keyPairs) {
+		Map<String, List<String>> folderVaultNames = keyPairs.stream().filter(Objects::nonNull) //
+				.filter(p -> memoryCache.getIfPresent(p.getValue()) == null) //
+				.collect(Collectors.groupingBy(VaultKeyPair::getKey, Collectors.mapping(VaultKeyPair::getValue, Collectors.toList())));
+		Map<String, HistoVault> vaults = new HashMap<>();
+		for (Map.Entry<String, List<String>> entry : folderVaultNames.entrySet()) {
+			try {
+				vaults.putAll(new VaultSegment(analyzer.getDataAccess(), entry.getKey()).load(entry.getValue()));
+			} catch (IOException e) {
+				log.log(SEVERE, e.getMessage(), e);
+			}
+		}
+		return vaults;
+	}
+
+	/**
+	 * @param directoryName defines the zip file holding the vaults or the vaults folder or the segment folder
 	 * @return the extracted vault indices (object key, index data) after eliminating small vault files
 	 * @throws IOException during opening or traversing the zip file
 	 */
@@ -295,9 +383,16 @@ public final class VaultReaderWriter {
 		List<Entry<String, String>> vaultExtract = new ArrayList<>();
 
 		Function<InputStream, HistoVault> storeKeeper = analyzer.getSettings().isXmlCache() //
-				? (stream) -> VaultProxy.load(stream) //
+				? (stream) -> VaultProxy.threadLocalLoad(stream) //
 				: (stream) -> VaultProxy.loadJson(stream);
-		if (analyzer.getSettings().isZippedCache()) {
+		if (analyzer.getSettings().isBinaryCache()) {
+			for (HistoVault histoVault : new VaultSegment(analyzer.getDataAccess(), directoryName).load(null).values()) {
+				if (histoVault.getMeasurements().isEmpty()) continue; // corresponds to the small vault files elimination
+
+				memoryCache.put(histoVault.vaultName, histoVault);
+				vaultExtract.add(new AbstractMap.SimpleImmutableEntry<String, String>(histoVault.getVaultObjectKey(), toIndexEntry(histoVault)));
+			}
+		} else if (analyzer.getSettings().isZippedCache()) {
 			try (CloseIgnoringInputStream stream = new CloseIgnoringInputStream(analyzer.getDataAccess().getCacheZipInputStream(directoryName))) {
 				ZipEntry entry;
 				while ((entry = stream.getNextEntry()) != null) {
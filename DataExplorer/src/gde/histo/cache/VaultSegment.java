@@ -0,0 +1,542 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+
+package gde.histo.cache;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.sun.istack.Nullable;
+
+import gde.DataAccess;
+import gde.device.ScoreLabelTypes;
+import gde.device.TrailTypes;
+import gde.log.Level;
+import gde.log.Logger;
+
+/**
+ * Binary vault storage with one segment file per vault directory.
+ * The segment file holds the vaults as consecutive entries which are appended.
+ * The index file starts with a header and holds the vault name, segment offset and entry length for each entry.
+ * Loading reads the requested entries from the segment file into heap buffers which are decoded independently of the file.
+ * Vaults stored again leave their former entries as garbage which is removed by compacting the segment.
+ * The compartment trails and the scores are packed as primitive arrays, the point names are derived from the trail / score label ordinals.
+ * @author agent
+ */
+public final class VaultSegment {
+	private static final String																$CLASS_NAME							= VaultSegment.class.getName();
+	private static final Logger																log											= Logger.getLogger($CLASS_NAME);
+
+	public static final String																SEGMENT_FILE_NAME				= "vaults.segment";
+	public static final String																INDEX_FILE_NAME					= "vaults.index";
+
+	private static final int																	ENTRY_MAGIC							= 0x47444556;											// 'GDEV'
+	private static final byte																	ENTRY_VERSION						= 1;
+	private static final int																	INDEX_MAGIC							= 0x47444549;											// 'GDEI'
+	private static final byte																	INDEX_VERSION						= 1;
+	private static final int																	INDEX_HEADER_LENGTH			= Integer.BYTES + Byte.BYTES;
+	private static final int																	NULL_LENGTH							= -1;
+
+	/**
+	 * Store compacts the segment if the garbage exceeds this size and the size of the live entries.
+	 */
+	static final long																					COMPACTION_MIN_GARBAGE	= 1 << 20;
+
+	/**
+	 * One lock per vault directory serializes the modifications of its segment and index files within this process.
+	 */
+	private static final ConcurrentHashMap<String, ReentrantReadWriteLock>	LOCKS										= new ConcurrentHashMap<>();
+
+	/**
+	 * Segment entry location.
+	 */
+	private static final class EntryLocation {
+		final long	offset;
+		final int		length;
+
+		EntryLocation(long offset, int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		/**
+		 * @return true if the entry lies completely within a segment file with this size
+		 */
+		boolean isWithin(long segmentSize) {
+			return offset >= 0 && length >= 0 && offset <= segmentSize - length;
+		}
+	}
+
+	/**
+	 * Entry locations of the index file.
+	 */
+	private static final class SegmentIndex {
+		final Map<String, EntryLocation>	locations	= new LinkedHashMap<>();
+		/** index file bytes up to the last complete index entry; 0 for a missing or unsupported header */
+		long															length		= 0;
+
+		/**
+		 * @return the sum of the lengths of the latest entries
+		 */
+		long getLiveLength() {
+			return locations.values().stream().mapToLong(l -> l.length).sum();
+		}
+	}
+
+	private final DataAccess								dataAccess;
+	private final String										vaultDirectoryName;
+	private final ReentrantReadWriteLock	lock;
+
+	/**
+	 * @param dataAccess provides the cache files
+	 * @param vaultDirectoryName is the vault folder holding the segment and the index file
+	 */
+	public VaultSegment(DataAccess dataAccess, String vaultDirectoryName) {
+		this.dataAccess = dataAccess;
+		this.vaultDirectoryName = vaultDirectoryName;
+		this.lock = LOCKS.computeIfAbsent(vaultDirectoryName, k -> new ReentrantReadWriteLock());
+	}
+
+	/**
+	 * @return true if the vault folder holds a segment with an index
+	 */
+	public boolean exists() {
+		return dataAccess.existsCacheVault(vaultDirectoryName, INDEX_FILE_NAME) && dataAccess.existsCacheVault(vaultDirectoryName, SEGMENT_FILE_NAME);
+	}
+
+	/**
+	 * @return the vault names in the sequence of storage (the latest entry wins for vaults stored multiple times)
+	 */
+	public Set<String> getVaultNames() throws IOException {
+		lock.readLock().lock();
+		try (FileChannel indexChannel = dataAccess.getCacheFileChannel(vaultDirectoryName, INDEX_FILE_NAME, READ)) {
+			return readIndex(indexChannel).locations.keySet();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param vaultNames are the vaults to be loaded; null loads all vaults
+	 * @return the vaults found in the segment (key is the vault name)
+	 */
+	public Map<String, HistoVault> load(@Nullable Collection<String> vaultNames) throws IOException {
+		Map<String, HistoVault> vaults = new HashMap<>();
+		for (Map.Entry<String, ByteBuffer> entry : loadEntries(vaultNames).entrySet()) {
+			try {
+				vaults.put(entry.getKey(), decode(entry.getValue()));
+			} catch (BufferUnderflowException | IllegalArgumentException e) {
+				log.log(Level.SEVERE, entry.getKey() + " corrupt segment entry", e);
+			}
+		}
+		return vaults;
+	}
+
+	/**
+	 * The entries are heap buffers which may be decoded concurrently.
+	 * @param vaultNames are the vaults to be loaded; null loads all vaults
+	 * @return the undecoded segment entries of the vaults found in the segment (key is the vault name)
+	 */
+	public Map<String, ByteBuffer> loadEntries(@Nullable Collection<String> vaultNames) throws IOException {
+		Map<String, ByteBuffer> entries = new LinkedHashMap<>();
+		if (!exists()) return entries;
+
+		lock.readLock().lock();
+		try (FileChannel indexChannel = dataAccess.getCacheFileChannel(vaultDirectoryName, INDEX_FILE_NAME, READ);
+				FileChannel segmentChannel = dataAccess.getCacheFileChannel(vaultDirectoryName, SEGMENT_FILE_NAME, READ)) {
+			Map<String, EntryLocation> locations = readIndex(indexChannel).locations;
+			long segmentSize = segmentChannel.size();
+			Collection<String> names = vaultNames == null ? locations.keySet() : vaultNames;
+			for (String vaultName : names) {
+				EntryLocation location = locations.get(vaultName);
+				if (location == null) continue;
+				if (!location.isWithin(segmentSize)) {
+					log.log(Level.WARNING, "segment entry beyond segment size ", vaultName);
+					continue;
+				}
+				entries.put(vaultName, readEntry(segmentChannel, location));
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return entries;
+	}
+
+	/**
+	 * Append the vaults to the segment and register them in the index.
+	 * Compact the segment if the entries replaced by this or former calls take more space than the latest entries.
+	 */
+	public void store(List<? extends HistoVault> vaults) throws IOException {
+		if (vaults.isEmpty()) return;
+
+		dataAccess.ensureCacheDirectory(vaultDirectoryName);
+		lock.writeLock().lock();
+		try {
+			long garbageLength;
+			long liveLength;
+			try (FileChannel indexChannel = dataAccess.getCacheFileChannel(vaultDirectoryName, INDEX_FILE_NAME, CREATE, READ, WRITE);
+					FileChannel segmentChannel = dataAccess.getCacheFileChannel(vaultDirectoryName, SEGMENT_FILE_NAME, CREATE, WRITE)) {
+				SegmentIndex index = readIndex(indexChannel);
+				if (index.length == 0) {
+					// a new or unsupported index does not reference any segment entries
+					indexChannel.truncate(0);
+					segmentChannel.truncate(0);
+					writeFully(indexChannel, getIndexHeader(), 0);
+					index.length = INDEX_HEADER_LENGTH;
+				} else {
+					// drop an index entry left incomplete by an interrupted store
+					indexChannel.truncate(index.length);
+				}
+
+				long offset = segmentChannel.size();
+				ByteArrayOutputStream indexBytes = new ByteArrayOutputStream(vaults.size() * 64);
+				DataOutputStream indexStream = new DataOutputStream(indexBytes);
+				for (HistoVault vault : vaults) {
+					ByteBuffer entry = ByteBuffer.wrap(encode(vault));
+					int length = entry.remaining();
+					writeFully(segmentChannel, entry, offset);
+					writeIndexEntry(indexStream, vault.vaultName, offset, length);
+					index.locations.put(vault.vaultName, new EntryLocation(offset, length));
+					offset += length;
+				}
+				indexStream.flush();
+				// the index is written after the segment entries so that an interrupted write leaves unreferenced segment bytes only
+				segmentChannel.force(false);
+				writeFully(indexChannel, ByteBuffer.wrap(indexBytes.toByteArray()), index.length);
+
+				liveLength = index.getLiveLength();
+				garbageLength = offset - liveLength;
+			}
+			if (garbageLength > liveLength && garbageLength > COMPACTION_MIN_GARBAGE) compact();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Rewrite the segment with the latest entry of each vault only.
+	 * The index is reset before the segment is rewritten so that an interrupted compaction leaves an empty segment.
+	 */
+	public void compact() throws IOException {
+		if (!exists()) return;
+
+		lock.writeLock().lock();
+		try (FileChannel indexChannel = dataAccess.getCacheFileChannel(vaultDirectoryName, INDEX_FILE_NAME, READ, WRITE);
+				FileChannel segmentChannel = dataAccess.getCacheFileChannel(vaultDirectoryName, SEGMENT_FILE_NAME, READ, WRITE)) {
+			SegmentIndex index = readIndex(indexChannel);
+			long segmentSize = segmentChannel.size();
+			Map<String, ByteBuffer> entries = new LinkedHashMap<>();
+			for (Map.Entry<String, EntryLocation> location : index.locations.entrySet()) {
+				if (location.getValue().isWithin(segmentSize)) entries.put(location.getKey(), readEntry(segmentChannel, location.getValue()));
+			}
+
+			indexChannel.truncate(0);
+			writeFully(indexChannel, getIndexHeader(), 0);
+			indexChannel.force(false);
+			segmentChannel.truncate(0);
+
+			long offset = 0;
+			ByteArrayOutputStream indexBytes = new ByteArrayOutputStream(entries.size() * 64);
+			DataOutputStream indexStream = new DataOutputStream(indexBytes);
+			for (Map.Entry<String, ByteBuffer> entry : entries.entrySet()) {
+				int length = entry.getValue().remaining();
+				writeFully(segmentChannel, entry.getValue(), offset);
+				writeIndexEntry(indexStream, entry.getKey(), offset, length);
+				offset += length;
+			}
+			indexStream.flush();
+			segmentChannel.force(false);
+			writeFully(indexChannel, ByteBuffer.wrap(indexBytes.toByteArray()), INDEX_HEADER_LENGTH);
+			log.log(Level.FINE, "compacted segment size from " + segmentSize + " to ", offset);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return the entry locations up to the first incomplete or corrupt index entry
+	 */
+	private SegmentIndex readIndex(FileChannel indexChannel) throws IOException {
+		SegmentIndex index = new SegmentIndex();
+		long size = indexChannel.size();
+		if (size > Integer.MAX_VALUE) throw new IOException("segment index exceeds 2 GB in " + vaultDirectoryName);
+
+		ByteBuffer buffer = ByteBuffer.allocate((int) size);
+		readFully(indexChannel, buffer, 0);
+		buffer.flip();
+		if (buffer.remaining() < INDEX_HEADER_LENGTH || buffer.getInt() != INDEX_MAGIC || buffer.get() != INDEX_VERSION) {
+			if (size > 0) log.log(Level.WARNING, "unsupported segment index in ", vaultDirectoryName);
+			return index;
+		}
+		index.length = buffer.position();
+		try {
+			while (buffer.hasRemaining()) {
+				String vaultName = readString(buffer);
+				if (vaultName == null) throw new IllegalArgumentException("no vault name");
+				index.locations.put(vaultName, new EntryLocation(buffer.getLong(), buffer.getInt()));
+				index.length = buffer.position();
+			}
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			log.log(Level.WARNING, "truncated segment index in ", vaultDirectoryName);
+		}
+		return index;
+	}
+
+	private static ByteBuffer getIndexHeader() {
+		ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_LENGTH);
+		header.putInt(INDEX_MAGIC).put(INDEX_VERSION).flip();
+		return header;
+	}
+
+	/**
+	 * The vault name uses the same encoding as the strings in the segment entries.
+	 */
+	private static void writeIndexEntry(DataOutputStream indexStream, String vaultName, long offset, int length) throws IOException {
+		writeString(indexStream, vaultName);
+		indexStream.writeLong(offset);
+		indexStream.writeInt(length);
+	}
+
+	private static ByteBuffer readEntry(FileChannel segmentChannel, EntryLocation location) throws IOException {
+		ByteBuffer entry = ByteBuffer.allocate(location.length);
+		readFully(segmentChannel, entry, location.offset);
+		entry.flip();
+		return entry;
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int count = channel.read(buffer, position);
+			if (count < 0) throw new EOFException("segment file ends at " + position);
+			position += count;
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	/**
+	 * @return the vault in the binary segment entry format
+	 */
+	static byte[] encode(HistoVault vault) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(ENTRY_MAGIC);
+		out.writeByte(ENTRY_VERSION);
+
+		writeString(out, vault.vaultName);
+		writeString(out, vault.vaultDirectory);
+		writeString(out, vault.vaultReaderSettings);
+		out.writeLong(vault.vaultCreated_ms);
+		writeString(out, vault.vaultDataExplorerVersion);
+		writeString(out, vault.vaultDeviceKey);
+		writeString(out, vault.vaultDeviceName);
+		out.writeInt(vault.vaultChannelNumber);
+		writeString(out, vault.vaultObjectKey);
+		out.writeLong(vault.vaultSamplingTimespan_ms);
+		writeString(out, vault.logLinkPath);
+		writeString(out, vault.logFilePath);
+		out.writeLong(vault.logFileLastModified);
+		out.writeLong(vault.logFileLength);
+		writeString(out, vault.logObjectDirectory);
+		out.writeInt(vault.logFileVersion);
+		out.writeInt(vault.logRecordSetSize);
+		out.writeInt(vault.logRecordSetOrdinal);
+		writeString(out, vault.logRecordsetBaseName);
+		writeString(out, vault.logDeviceName);
+		out.writeInt(vault.logChannelNumber);
+		writeString(out, vault.logObjectKey);
+		out.writeLong(vault.logStartTimestamp_ms);
+
+		writeCompartments(out, vault.getMeasurements());
+		writeCompartments(out, vault.getSettlements());
+		writePoints(out, vault.getScores());
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @param entry holds one binary segment entry starting at position 0
+	 * @return the vault
+	 * @throws IllegalArgumentException or BufferUnderflowException for a corrupt entry
+	 */
+	static HistoVault decode(ByteBuffer entry) {
+		if (entry.getInt() != ENTRY_MAGIC) throw new IllegalArgumentException("no vault segment entry");
+		byte version = entry.get();
+		if (version != ENTRY_VERSION) throw new IllegalArgumentException("unsupported vault segment entry version " + version);
+
+		HistoVault vault = new HistoVault();
+		vault.vaultName = readString(entry);
+		vault.vaultDirectory = readString(entry);
+		vault.vaultReaderSettings = readString(entry);
+		vault.vaultCreated_ms = entry.getLong();
+		vault.vaultDataExplorerVersion = readString(entry);
+		vault.vaultDeviceKey = readString(entry);
+		vault.vaultDeviceName = readString(entry);
+		vault.vaultChannelNumber = entry.getInt();
+		vault.vaultObjectKey = readString(entry);
+		vault.vaultSamplingTimespan_ms = entry.getLong();
+		vault.logLinkPath = readString(entry);
+		vault.logFilePath = readString(entry);
+		vault.logFileLastModified = entry.getLong();
+		vault.logFileLength = entry.getLong();
+		vault.logObjectDirectory = readString(entry);
+		vault.logFileVersion = entry.getInt();
+		vault.logRecordSetSize = entry.getInt();
+		vault.logRecordSetOrdinal = entry.getInt();
+		vault.logRecordsetBaseName = readString(entry);
+		vault.logDeviceName = readString(entry);
+		vault.logChannelNumber = entry.getInt();
+		vault.logObjectKey = readString(entry);
+		vault.logStartTimestamp_ms = entry.getLong();
+
+		vault.measurements = readCompartments(entry);
+		vault.settlements = readCompartments(entry);
+		vault.scores = readScores(entry);
+		return vault;
+	}
+
+	private static void writeCompartments(DataOutputStream out, HashMap<Integer, CompartmentType> compartments) throws IOException {
+		out.writeInt(compartments.size());
+		for (CompartmentType compartment : compartments.values()) {
+			out.writeInt(compartment.id);
+			writeString(out, compartment.text);
+			out.writeByte(compartment.dataType == null ? NULL_LENGTH : compartment.dataType.ordinal());
+			writeString(out, compartment.outlierPoints);
+			writeString(out, compartment.scrappedPoints);
+			writePoints(out, compartment.getTrails());
+		}
+	}
+
+	/**
+	 * Write the point ids and values as two primitive arrays.
+	 */
+	private static void writePoints(DataOutputStream out, HashMap<Integer, PointType> points) throws IOException {
+		int[] ids = new int[points.size()];
+		int[] values = new int[points.size()];
+		int i = 0;
+		for (PointType point : points.values()) {
+			ids[i] = point.id;
+			values[i++] = point.value;
+		}
+		out.writeInt(ids.length);
+		for (int id : ids) {
+			out.writeInt(id);
+		}
+		for (int value : values) {
+			out.writeInt(value);
+		}
+	}
+
+	private static HashMap<Integer, CompartmentType> readCompartments(ByteBuffer entry) {
+		int size = entry.getInt();
+		if (size < 0 || size > entry.remaining()) throw new IllegalArgumentException("invalid compartment count " + size);
+		HashMap<Integer, CompartmentType> compartments = new HashMap<>(size * 4 / 3 + 1);
+		for (int i = 0; i < size; i++) {
+			int id = entry.getInt();
+			String text = readString(entry);
+			byte dataTypeOrdinal = entry.get();
+			CompartmentType compartment = new CompartmentType(id, text, dataTypeOrdinal == NULL_LENGTH ? null : valueOf(DataTypes.VALUES, dataTypeOrdinal));
+			compartment.outlierPoints = readString(entry);
+			compartment.scrappedPoints = readString(entry);
+			compartment.trails = readTrails(entry);
+			compartments.put(id, compartment);
+		}
+		return compartments;
+	}
+
+	private static HashMap<Integer, PointType> readTrails(ByteBuffer entry) {
+		int[] ids = readIntArray(entry);
+		int[] values = readIntArray(entry, ids.length);
+		HashMap<Integer, PointType> points = new HashMap<>(ids.length * 4 / 3 + 1);
+		for (int i = 0; i < ids.length; i++) {
+			points.put(ids[i], new PointType(ids[i], valueOf(TrailTypes.VALUES, ids[i]).name(), values[i]));
+		}
+		return points;
+	}
+
+	private static HashMap<Integer, PointType> readScores(ByteBuffer entry) {
+		int[] ids = readIntArray(entry);
+		int[] values = readIntArray(entry, ids.length);
+		HashMap<Integer, PointType> points = new HashMap<>(ids.length * 4 / 3 + 1);
+		for (int i = 0; i < ids.length; i++) {
+			points.put(ids[i], new PointType(ids[i], valueOf(ScoreLabelTypes.VALUES, ids[i]).name(), values[i]));
+		}
+		return points;
+	}
+
+	private static int[] readIntArray(ByteBuffer entry) {
+		return readIntArray(entry, entry.getInt());
+	}
+
+	private static int[] readIntArray(ByteBuffer entry, int length) {
+		if (length < 0 || length > entry.remaining() / Integer.BYTES) throw new IllegalArgumentException("invalid array length " + length);
+		int[] values = new int[length];
+		entry.asIntBuffer().get(values);
+		entry.position(entry.position() + length * Integer.BYTES);
+		return values;
+	}
+
+	private static <T> T valueOf(T[] values, int ordinal) {
+		if (ordinal < 0 || ordinal >= values.length) throw new IllegalArgumentException("invalid ordinal " + ordinal);
+		return values[ordinal];
+	}
+
+	private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+		if (value == null) {
+			out.writeInt(NULL_LENGTH);
+		} else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	@Nullable
+	private static String readString(ByteBuffer entry) {
+		int length = entry.getInt();
+		if (length == NULL_LENGTH) return null;
+		if (length < 0 || length > entry.remaining()) throw new IllegalArgumentException("invalid string length " + length);
+		byte[] bytes = new byte[length];
+		entry.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
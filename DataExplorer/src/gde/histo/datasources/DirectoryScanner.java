@@ -39,6 +39,7 @@ import gde.device.IDevice;
 import gde.exception.NotSupportedFileFormatException;
 import gde.histo.datasources.HistoSet.RebuildStep;
 import gde.histo.datasources.SourceFolders.DirectoryType;
+import gde.histo.datasources.WatchDir.LogFileChanges;
 import gde.log.Logger;
 
 /**
@@ -190,6 +191,11 @@ public final class DirectoryScanner {
 	private final Analyzer											analyzer;
 	private final CheckedPredicate<RebuildStep>	sourceFileValidator;
 
+	/**
+	 * Log file changes from the last validation which allow an incremental update of the histo vaults.
+	 */
+	private LogFileChanges											logFileChanges	= LogFileChanges.EMPTY;
+
 	public DirectoryScanner(Analyzer analyzer) {
 		this.analyzer = analyzer;
 		this.sourceFoldersBuilder = new SourceFoldersBuilder(analyzer);
@@ -272,8 +278,9 @@ public final class DirectoryScanner {
 	}
 
 	/**
+	 * Provide the log file changes reported by the directories for an incremental update in {@link #getLogFileChanges()}.
 	 * @param rebuildStep defines which steps during histo data collection are skipped
-	 * @return true if the list of source log directories has not changed and the directories did not send any events.
+	 * @return true if the list of source log directories has not changed and the directory events do not require a full scan
 	 */
 	private boolean validateDirectoryFiles(RebuildStep rebuildStep) throws IOException, NotSupportedFileFormatException {
 		sourceFoldersBuilder.validateAndBuild(rebuildStep);
@@ -282,8 +289,11 @@ public final class DirectoryScanner {
 		if (watchDir == null || !isValid) {
 			initializeWatchDir(sourceFoldersBuilder.sourceFolders.values().stream().flatMap(Collection::stream).collect(Collectors.toList()));
 		}
-		log.log(Level.FINER, "hasChangedLogFiles=", watchDir.hasChangedLogFiles());
-		return isValid && !watchDir.hasChangedLogFilesThenReset();
+		LogFileChanges changes = watchDir.pollLogFileChanges();
+		log.log(Level.FINER, "logFileChanges=", changes);
+		isValid = isValid && !changes.isFullScanRequired();
+		logFileChanges = isValid ? changes : LogFileChanges.EMPTY;
+		return isValid;
 	}
 
 	/**
@@ -292,9 +302,17 @@ public final class DirectoryScanner {
 	 */
 	private boolean validateDirectoryPaths(RebuildStep rebuildStep) throws IOException, NotSupportedFileFormatException {
 		sourceFoldersBuilder.validateAndBuild(rebuildStep);
+		logFileChanges = LogFileChanges.EMPTY;
 		return !sourceFoldersBuilder.isMajorChange();
 	}
 
+	/**
+	 * @return the created, modified or deleted log files detected by the last validation which did not require a full scan
+	 */
+	public LogFileChanges getLogFileChanges() {
+		return this.logFileChanges;
+	}
+
 	public int getValidatedFoldersCount() {
 		if (sourceFoldersBuilder.sourceFolders != null) {
 			return sourceFoldersBuilder.sourceFolders.getFoldersCount();
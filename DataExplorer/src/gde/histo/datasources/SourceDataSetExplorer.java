@@ -24,12 +24,14 @@ import static java.util.logging.Level.INFO;
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -161,6 +163,51 @@ public class SourceDataSetExplorer {
 		signaler.accept("");
 	}
 
+	/**
+	 * Update the source files and trusses of the last screening with file system changes instead of listing all files again.
+	 * @param changedLogFiles are new or modified log files
+	 * @param deletedPaths are deleted files or directories
+	 * @return the trusses of the changed log files
+	 */
+	public List<VaultCollector> patch4Trusses(Map<Path, Set<DirectoryType>> pathsWithPermissions, Set<Path> changedLogFiles, Set<Path> deletedPaths) {
+		Set<Path> affectedPaths = new HashSet<>(changedLogFiles);
+		affectedPaths.addAll(deletedPaths);
+		Predicate<Path> isAffected = p -> affectedPaths.stream().anyMatch(p::startsWith);
+		sourceDataSets.removeIf(d -> isAffected.test(d.getPath()));
+		excludedFiles.removeIf(isAffected);
+		trusses.removeIf(t -> isAffected.test(t.getVault().getLoadFileAsPath()) || isAffected.test(t.getVault().getLoadLinkPath()));
+
+		int subDirectoryLevelMax = analyzer.getSettings().getSubDirectoryLevelMax();
+		ExclusionData exclusionData = new ExclusionData(new DirectoryScanner(analyzer).getActiveFolder(), analyzer.getDataAccess());
+		boolean isSuppressMode = analyzer.getSettings().isSuppressMode();
+		List<SourceDataSet> changedDataSets = new ArrayList<>();
+		for (Path filePath : changedLogFiles) {
+			if (!analyzer.getDataAccess().existsSourceFile(filePath)) continue;
+
+			// the directory watcher is not limited by the recursion depth of the file listing
+			Set<DirectoryType> directoryTypes = pathsWithPermissions.entrySet().stream() //
+					.filter(e -> filePath.startsWith(e.getKey()) && e.getKey().relativize(filePath).getNameCount() - 1 <= subDirectoryLevelMax) //
+					.map(Entry::getValue).flatMap(Set::stream).collect(Collectors.toSet());
+			SourceDataSet originFile = SourceDataSet.createSourceDataSet(filePath, analyzer);
+			if (!directoryTypes.isEmpty() && originFile != null && originFile.isWorkableFile(directoryTypes, sourceFolders)) {
+				if (!isSuppressMode || !exclusionData.isExcluded(filePath.getFileName().toString())) {
+					changedDataSets.add(originFile);
+				} else {
+					excludedFiles.add(filePath);
+					log.log(INFO, "file is excluded              ", filePath);
+				}
+			}
+		}
+		sourceDataSets.addAll(changedDataSets);
+
+		VaultChecker vaultChecker = new VaultChecker(analyzer);
+		List<VaultCollector> changedTrusses = changedDataSets.parallelStream() //
+				.flatMap(d -> d.getSelectedTrusses(vaultChecker)) //
+				.collect(Collectors.toList());
+		trusses.addAll(changedTrusses);
+		return changedTrusses;
+	}
+
 	/**
 	 * @param isActive true activates status messages during file system access which is advisable in case of high file system latency
 	 */
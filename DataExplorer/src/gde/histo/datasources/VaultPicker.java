@@ -50,6 +50,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -67,6 +68,7 @@ import gde.histo.cache.ExtendedVault;
 import gde.histo.cache.VaultCollector;
 import gde.histo.cache.VaultReaderWriter;
 import gde.histo.datasources.HistoSet.RebuildStep;
+import gde.histo.datasources.WatchDir.LogFileChanges;
 import gde.histo.exclusions.ExclusionData;
 import gde.histo.recordings.TrailRecordSet;
 import gde.log.Logger;
@@ -398,6 +400,16 @@ public final class VaultPicker {
 			if (realRebuildStep.isEqualOrBiggerThan(RebuildStep.F_FILE_CHECK)) {
 				realRebuildStep = directoryScanner.isValidated(rebuildStep);
 				log.time(() -> format("  %3d file paths verified           time=%,6d [ms]", directoryScanner.getValidatedFoldersCount(), NANOSECONDS.toMillis(System.nanoTime() - startNanoTime + 500000)));
+
+				// apply the new, modified or deleted log files to the current vaults instead of rebuilding all vaults
+				LogFileChanges logFileChanges = directoryScanner.getLogFileChanges();
+				if (!logFileChanges.isEmpty() && !realRebuildStep.isEqualOrBiggerThan(RebuildStep.B_HISTOVAULTS)) {
+					if (trailRecordSet == null) {
+						realRebuildStep = RebuildStep.B_HISTOVAULTS;
+					} else if (patchVaults(logFileChanges, progress) && !realRebuildStep.isEqualOrBiggerThan(RebuildStep.D_TRAIL_DATA)) {
+						realRebuildStep = RebuildStep.D_TRAIL_DATA;
+					}
+				}
 			}
 			progress.ifPresent((p) -> p.set(PATHS_VERIFIED));
 
@@ -420,38 +432,7 @@ public final class VaultPicker {
 						trussJobs = TrussJobs.createTrussJobs(sourceDataSetExplorer.getTrusses());
 						progress.ifPresent((p) -> p.set(MATCHED));
 					}
-					{// step: put cached vaults into the histoSet map and reduce workload map
-						int jobSize = trussJobs.values().parallelStream().mapToInt(List::size).sum();
-						progress.ifPresent((p) -> p.reInit(RESTORED, jobSize, CACHE_BENEFIT));
-						loadVaultsFromCache(trussJobs, progress);
-						int totalEstimatedEffort = pickedVaults.size() + CACHE_BENEFIT * (jobSize - pickedVaults.size());
-						double timeQuotaDone = pickedVaults.size() / totalEstimatedEffort;
-						int progressPercentageDone = (int) ((CACHED.endPercentage - MATCHED.endPercentage) * timeQuotaDone);
-						progress.ifPresent((
-								p) -> p.set(Math.max(GDE.getUiNotification().getProgressPercentage(), MATCHED.endPercentage + progressPercentageDone)));
-					}
-					final long recordSetBytesCachedSum = recordSetBytesSum;
-					{// step: transform log files from workload map into vaults and put them into the histoSet map
-						long nanoTime = System.nanoTime();
-						loadVaultsFromFiles(trussJobs, progress);
-						long loadCount = trussJobs.values().parallelStream().mapToInt(Collection::size).sum();
-						if (loadCount > 0) {
-							long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
-							log.time(() -> format("%,5d recordsets create from files  time=%,6d [ms] :: per second:%5d :: Rate=%,6d MiB/s", loadCount, micros / 1000, loadCount * 1000000 / micros, (int) ((this.recordSetBytesSum - recordSetBytesCachedSum) / 1.024 / 1.024 / micros)));
-						}
-					}
-					{// step: save vaults in the file system
-						long nanoTime = System.nanoTime(), cacheSize_B = 0;
-						long loadCount = trussJobs.values().parallelStream().mapToInt(Collection::size).sum();
-						if (loadCount > 0) {
-							cacheSize_B = analyzer.getDataAccess().getCacheSize();
-							new VaultReaderWriter(analyzer, Optional.empty()).storeInCaches(trussJobs);
-							if (analyzer.getDataAccess().getCacheSize() - cacheSize_B > 0) {
-								long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
-								log.time(() -> format("%,5d recordsets store in cache     time=%,6d [ms] :: per second:%5d :: Rate=%,6d MiB/s", loadCount, micros / 1000, loadCount * 1000000 / micros, (int) ((this.recordSetBytesSum - recordSetBytesCachedSum) / 1.024 / 1.024 / micros)));
-							}
-						}
-					}
+					loadVaults(trussJobs, progress);
 				}
 			}
 			progress.ifPresent((p) -> p.set(CACHED));
@@ -490,6 +471,93 @@ public final class VaultPicker {
 		return realRebuildStep.isEqualOrBiggerThan(RebuildStep.D_TRAIL_DATA);
 	}
 
+	/**
+	 * Put the vaults from the cache or from the log files into the picked vaults and store the vaults read from the log files in the cache.
+	 * @param trussJobs is the list of trusses which must be read
+	 */
+	private void loadVaults(TrussJobs trussJobs, Optional<ProgressManager> progress) throws IOException {
+		{// step: put cached vaults into the histoSet map and reduce workload map
+			long nanoTime = System.nanoTime();
+			int jobSize = trussJobs.values().parallelStream().mapToInt(List::size).sum();
+			progress.ifPresent((p) -> p.reInit(RESTORED, jobSize, CACHE_BENEFIT));
+			loadVaultsFromCache(trussJobs, progress);
+			int restoreCount = jobSize - trussJobs.values().parallelStream().mapToInt(List::size).sum();
+			if (restoreCount > 0) {
+				long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
+				log.time(() -> format("%,5d vaults     restore from cache time=%,6d [ms] :: per second:%5d :: decoder threads:%3d", restoreCount, micros / 1000, restoreCount * 1000000L / Math.max(1, micros), analyzer.getSettings().getCacheRestoreThreads()));
+			}
+			int totalEstimatedEffort = pickedVaults.size() + CACHE_BENEFIT * (jobSize - pickedVaults.size());
+			double timeQuotaDone = pickedVaults.size() / totalEstimatedEffort;
+			int progressPercentageDone = (int) ((CACHED.endPercentage - MATCHED.endPercentage) * timeQuotaDone);
+			progress.ifPresent((
+					p) -> p.set(Math.max(GDE.getUiNotification().getProgressPercentage(), MATCHED.endPercentage + progressPercentageDone)));
+		}
+		final long recordSetBytesCachedSum = recordSetBytesSum;
+		{// step: transform log files from workload map into vaults and put them into the histoSet map
+			long nanoTime = System.nanoTime();
+			loadVaultsFromFiles(trussJobs, progress);
+			long loadCount = trussJobs.values().parallelStream().mapToInt(Collection::size).sum();
+			if (loadCount > 0) {
+				long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
+				log.time(() -> format("%,5d recordsets create from files  time=%,6d [ms] :: per second:%5d :: Rate=%,6d MiB/s", loadCount, micros / 1000, loadCount * 1000000 / micros, (int) ((this.recordSetBytesSum - recordSetBytesCachedSum) / 1.024 / 1.024 / micros)));
+			}
+		}
+		{// step: save vaults in the file system
+			long nanoTime = System.nanoTime(), cacheSize_B = 0;
+			long loadCount = trussJobs.values().parallelStream().mapToInt(Collection::size).sum();
+			if (loadCount > 0) {
+				cacheSize_B = analyzer.getDataAccess().getCacheSize();
+				new VaultReaderWriter(analyzer, Optional.empty()).storeInCaches(trussJobs);
+				if (analyzer.getDataAccess().getCacheSize() - cacheSize_B > 0) {
+					long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
+					log.time(() -> format("%,5d recordsets store in cache     time=%,6d [ms] :: per second:%5d :: Rate=%,6d MiB/s", loadCount, micros / 1000, loadCount * 1000000 / micros, (int) ((this.recordSetBytesSum - recordSetBytesCachedSum) / 1.024 / 1.024 / micros)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replace the vaults of new or modified log files and remove the vaults of deleted log files without screening the source folders.
+	 * @param logFileChanges are the log file changes detected by the directory scanner
+	 * @return true if the picked vaults were modified
+	 */
+	private boolean patchVaults(LogFileChanges logFileChanges, Optional<ProgressManager> progress) throws IOException, NotSupportedFileFormatException {
+		long nanoTime = System.nanoTime();
+		Set<Path> affectedPaths = new HashSet<>(logFileChanges.getChangedLogFiles());
+		affectedPaths.addAll(logFileChanges.getDeletedPaths());
+		Predicate<Path> isAffected = p -> affectedPaths.stream().anyMatch(p::startsWith);
+		Predicate<ExtendedVault> isAffectedVault = v -> isAffected.test(v.getLoadFileAsPath()) || isAffected.test(v.getLoadLinkPath());
+
+		int removedCount = 0;
+		for (Iterator<List<ExtendedVault>> iterator = pickedVaults.values().iterator(); iterator.hasNext();) {
+			List<ExtendedVault> timeStampHistoVaults = iterator.next();
+			for (Iterator<ExtendedVault> vaultIterator = timeStampHistoVaults.iterator(); vaultIterator.hasNext();) {
+				ExtendedVault histoVault = vaultIterator.next();
+				if (isAffectedVault.test(histoVault)) {
+					vaultIterator.remove();
+					recordSetBytesSum -= histoVault.getScorePoint(ScoreLabelTypes.LOG_RECORD_SET_BYTES.ordinal());
+					removedCount++;
+				}
+			}
+			if (timeStampHistoVaults.isEmpty()) iterator.remove();
+		}
+		suppressedVaults.removeIf(isAffectedVault);
+
+		List<VaultCollector> trusses = sourceDataSetExplorer.patch4Trusses(directoryScanner.getSourceFolders().getMap(), //
+				logFileChanges.getChangedLogFiles(), logFileChanges.getDeletedPaths());
+		progress.ifPresent((p) -> p.set(SCANNED));
+		if (!trusses.isEmpty()) {
+			TrussJobs trussJobs = TrussJobs.createTrussJobs(trusses);
+			progress.ifPresent((p) -> p.set(MATCHED));
+			loadVaults(trussJobs, progress);
+		}
+
+		final int finalRemovedCount = removedCount;
+		long micros = NANOSECONDS.toMicros(System.nanoTime() - nanoTime);
+		log.time(() -> format("%,5d/%,5d trusses/removed vaults patched  time=%,6d [ms] :: %s", trusses.size(), finalRemovedCount, micros / 1000, logFileChanges));
+		return removedCount > 0 || !trusses.isEmpty();
+	}
+
 	/**
 	 * @param trussJobs is the list of trusses which must be read
 	 */
@@ -515,6 +583,7 @@ public final class VaultPicker {
 	}
 
 	/**
+	 * Merge the cached vaults into the picked vaults in descending timestamp order.
 	 * @param trussJobs is the job list which is worked on and reduced for each vault found in the cache
 	 */
 	private void loadVaultsFromCache(TrussJobs trussJobs, Optional<ProgressManager> progress) throws IOException {
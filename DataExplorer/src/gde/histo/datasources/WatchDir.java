@@ -68,6 +68,7 @@ import java.nio.file.WatchEvent.Kind;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -90,6 +91,7 @@ import gde.utils.FileUtils;
 /**
  * Watch directories (or directory trees) for changes to files.
  * Decides for each event file if it is valid according to the provided predicate function.
+ * Collects the created or modified log files and the deleted paths for an incremental update of the histo vaults.
  * @see <a href="https://docs.oracle.com/javase/tutorial/essential/io/notification.html">Watching a Directory for Changes</a>
  */
 public final class WatchDir {
@@ -103,9 +105,58 @@ public final class WatchDir {
 	private final boolean							recursive;
 
 	private boolean										trace								= false;
-	private boolean										hasChangedLogFiles	= false;
+	private Set<Path>									changedLogFiles			= new HashSet<>();
+	private Set<Path>									deletedPaths				= new HashSet<>();
+	private boolean										isFullScanRequired	= false;
 	private Predicate<Path>						logFileFilter;
 
+	/**
+	 * The log file changes collected from the watch events.
+	 */
+	public static final class LogFileChanges {
+		public static final LogFileChanges	EMPTY	= new LogFileChanges(Collections.emptySet(), Collections.emptySet(), false);
+
+		private final Set<Path>							changedLogFiles;
+		private final Set<Path>							deletedPaths;
+		private final boolean								isFullScanRequired;
+
+		LogFileChanges(Set<Path> changedLogFiles, Set<Path> deletedPaths, boolean isFullScanRequired) {
+			this.changedLogFiles = changedLogFiles;
+			this.deletedPaths = deletedPaths;
+			this.isFullScanRequired = isFullScanRequired;
+		}
+
+		/**
+		 * @return the created or modified log files
+		 */
+		public Set<Path> getChangedLogFiles() {
+			return this.changedLogFiles;
+		}
+
+		/**
+		 * @return the deleted files or directories (not checked for log files)
+		 */
+		public Set<Path> getDeletedPaths() {
+			return this.deletedPaths;
+		}
+
+		/**
+		 * @return true if the events do not allow an incremental update, e.g. new directories or lost events
+		 */
+		public boolean isFullScanRequired() {
+			return this.isFullScanRequired;
+		}
+
+		public boolean isEmpty() {
+			return !this.isFullScanRequired && this.changedLogFiles.isEmpty() && this.deletedPaths.isEmpty();
+		}
+
+		@Override
+		public String toString() {
+			return "LogFileChanges [changedLogFiles=" + this.changedLogFiles + ", deletedPaths=" + this.deletedPaths + ", isFullScanRequired=" + this.isFullScanRequired + "]";
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	static <T> WatchEvent<T> cast(WatchEvent<?> event) {
 		return (WatchEvent<T>) event;
@@ -272,8 +323,11 @@ public final class WatchDir {
 			for (WatchEvent<?> event : key.pollEvents()) {
 				Kind<?> kind = event.kind();
 
-				// TBD - provide example of how OVERFLOW event is handled
+				// events were lost
 				if (kind == OVERFLOW) {
+					synchronized (this) {
+						this.isFullScanRequired = true;
+					}
 					continue;
 				}
 
@@ -294,9 +348,21 @@ public final class WatchDir {
 					}
 				}
 
-				boolean isValidChange = Files.isDirectory(child, NOFOLLOW_LINKS) ? true : this.logFileFilter.test(child);
-				this.hasChangedLogFiles |= isValidChange;
-				if (isValidChange) DirectoryNotification.addAndShow(child);
+				if (kind == ENTRY_DELETE) {
+					// the deleted path cannot be checked anymore and might be a directory
+					addDeletedPath(child);
+				} else if (Files.isDirectory(child, NOFOLLOW_LINKS)) {
+					// a new directory might have received files prior to its registration, directory modifications are reported for the files
+					if (kind == ENTRY_CREATE) {
+						synchronized (this) {
+							this.isFullScanRequired = true;
+						}
+						DirectoryNotification.addAndShow(child);
+					}
+				} else if (this.logFileFilter.test(child)) {
+					addChangedLogFile(child);
+					DirectoryNotification.addAndShow(child);
+				}
 			}
 
 			// reset key and remove from set if directory no longer accessible
@@ -312,31 +378,38 @@ public final class WatchDir {
 		}
 	}
 
-	/**
-	 * @return true if there are new or changed log files since the last reset
-	 */
-	public synchronized boolean hasChangedLogFilesThenReset() {
-		boolean result = this.hasChangedLogFiles;
-		this.hasChangedLogFiles = false;
-		return result;
+	private synchronized void addChangedLogFile(Path logFilePath) {
+		this.deletedPaths.remove(logFilePath);
+		this.changedLogFiles.add(logFilePath);
+	}
+
+	private synchronized void addDeletedPath(Path path) {
+		this.changedLogFiles.remove(path);
+		this.deletedPaths.add(path);
 	}
 
 	/**
-	 * @return true if there are new or changed log files since the last reset
+	 * @return the log file changes since the last call
 	 */
-	public boolean hasChangedLogFiles() {
-		return this.hasChangedLogFiles;
+	public synchronized LogFileChanges pollLogFileChanges() {
+		if (!hasChangedLogFiles()) return LogFileChanges.EMPTY;
+
+		LogFileChanges logFileChanges = new LogFileChanges(this.changedLogFiles, this.deletedPaths, this.isFullScanRequired);
+		this.changedLogFiles = new HashSet<>();
+		this.deletedPaths = new HashSet<>();
+		this.isFullScanRequired = false;
+		return logFileChanges;
 	}
 
 	/**
-	 * @param hasChangedLogFiles false resets the indicator
+	 * @return true if there are new, changed or deleted files since the last poll
 	 */
-	public void setChangedLogFiles(boolean hasChangedLogFiles) {
-		this.hasChangedLogFiles = hasChangedLogFiles;
+	public synchronized boolean hasChangedLogFiles() {
+		return this.isFullScanRequired || !this.changedLogFiles.isEmpty() || !this.deletedPaths.isEmpty();
 	}
 
 	@Override
 	public String toString() {
-		return "WatchDir [keys=" + this.keys + ", recursive=" + this.recursive + ", hasChangedLogFiles=" + this.hasChangedLogFiles + "]";
+		return "WatchDir [keys=" + this.keys + ", recursive=" + this.recursive + ", hasChangedLogFiles=" + hasChangedLogFiles() + "]";
 	}
 }
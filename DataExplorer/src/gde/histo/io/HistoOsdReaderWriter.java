@@ -60,6 +60,7 @@ import gde.histo.cache.ExtendedVault;
 import gde.histo.cache.VaultCollector;
 import gde.histo.device.IHistoDevice;
 import gde.histo.recordings.TrailRecordSet;
+import gde.io.OsdDataSection;
 import gde.io.OsdReaderWriter;
 import gde.log.Level;
 import gde.log.Logger;
@@ -553,8 +554,13 @@ public final class HistoOsdReaderWriter extends OsdReaderWriter {
 		log.fine(() -> String.format("%s recordDataSize=%,d  recordSetDataPointer=%,d  numberRecordAndTimeStamp=%,d", //$NON-NLS-1$
 				osdRecordSet.getChannel(analyzer.getChannels()).getName(), recordDataSize, osdRecordSet.getDataPointer(), numberRecordAndTimeStamp));
 
-		final byte[] buffer = new byte[recordSetDataBytes];
-		data_in.readFully(buffer);
+		final byte[] buffer;
+		if (osdRecordSet.getOsdHeader().getFileVersion() >= 5) {
+			buffer = OsdDataSection.readColumnar(data_in, recordDataSize, noneCalculationMeasurementNames.length, histoRecordSet.isTimeStepConstant()).toByteArray();
+		} else {
+			buffer = new byte[recordSetDataBytes];
+			data_in.readFully(buffer);
+		}
 
 		if (histoRecordSet.getDevice() instanceof IHistoDevice) {
 			Map<PointsType, int[]> extrema = getExtremumValues(osdRecordSet, noneCalculationMeasurementNames);
@@ -150,7 +150,7 @@ public final class HistoGraphicsMapper {
 	public static int getVerticalDisplayPos(GraphicsLayout graphicsData, int height, int index) {
 		int verticalDisplayPos = Integer.MIN_VALUE;
 		TrailRecord record = graphicsData.getTrailRecord();
-		Integer value = record.getPoints().elementAt(index);
+		Integer value = record.getPoints().get(index);
 		if (value != null) {
 			double decodedValue = HistoSet.decodeVaultValue(record.getChannelItem(), value / 1000.0);
 			verticalDisplayPos = height - (int) ((decodedValue - getYOffset(graphicsData)) * graphicsData.getDisplayScaleFactorValue());
@@ -643,10 +643,10 @@ public abstract class TrailRecord extends CommonRecord {
 		int recordSize = toIndex - fromIndex;
 		List<Spot<Double>> result = new ArrayList<>(recordSize);
 
-		Vector<Integer> points = this.getPoints();
+		List<Integer> points = this.getPoints();
 		for (int i = fromIndex; i < toIndex; i++) {
-			if (points.elementAt(i) != null) {
-				result.add(new Spot<Double>(this.parent.getTime_ms(i), HistoSet.decodeVaultValue(this.channelItem, points.elementAt(i) / 1000.)));
+			if (points.get(i) != null) {
+				result.add(new Spot<Double>(this.parent.getTime_ms(i), HistoSet.decodeVaultValue(this.channelItem, points.get(i) / 1000.)));
 			}
 		}
 		log.finer(() -> Arrays.toString(result.toArray()));
@@ -664,8 +664,8 @@ public abstract class TrailRecord extends CommonRecord {
 	/**
 	 * @return the uncloned point values of the record or suite master
 	 */
-	public Vector<Integer> getPoints() {
-		final Vector<Integer> points;
+	public List<Integer> getPoints() {
+		final List<Integer> points;
 		if (!this.trailSelector.isTrailSuite())
 			points = this;
 		else
@@ -835,7 +835,7 @@ public abstract class TrailRecord extends CommonRecord {
 	protected List<Double> getDecodedNotNullValues() {
 		List<Double> decodedValues = new ArrayList<>();
 
-		final Vector<Integer> record;
+		final List<Integer> record;
 		if (this.trailSelector.isTrailSuite()) {
 			record = this.suiteRecords.get(this.trailSelector.getSuiteMasterIndex());
 		} else {
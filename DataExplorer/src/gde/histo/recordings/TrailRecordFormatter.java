@@ -21,7 +21,7 @@ package gde.histo.recordings;
 
 import java.nio.file.Path;
 import java.text.DecimalFormat;
-import java.util.Vector;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import gde.GDE;
@@ -189,10 +189,10 @@ public final class TrailRecordFormatter {
 	 * @return the translated and decimal formatted value at the given index or a standard string in case of a null value
 	 */
 	public String getMeasureValue(int index) {
-		final Vector<Integer> points = this.record.getPoints();
+		final List<Integer> points = this.record.getPoints();
 
-		if (points.elementAt(index) != null) {
-			return getTableValue(points.elementAt(index) / 1000.);
+		if (points.get(index) != null) {
+			return getTableValue(points.get(index) / 1000.);
 		} else
 			return GDE.STRING_STAR;
 	}
@@ -22,18 +22,17 @@ package gde.histo.transitions;
 import static java.util.logging.Level.FINEST;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import gde.Analyzer;
 import gde.GDE;
-import gde.data.Record;
 import gde.device.TransitionClassTypes;
 import gde.device.TransitionType;
 import gde.device.TransitionValueTypes;
+import gde.histo.utils.OrderStatisticTree;
 import gde.log.Logger;
 import gde.utils.StringHelper;
 
@@ -75,6 +74,8 @@ public class AbstractDetector {
 	 * Expect elements to be added in chronological order.
 	 * Do not support null measurement values.
 	 * Resizable array implementation of the Deque interface.
+	 * The values are also held in an order statistic tree which is maintained on each add and poll,
+	 * thus quantile values cost O(log n) instead of a sort over the full deque size.
 	 * @author Thomas Eickert
 	 */
 	protected class SettlementDeque extends ArrayDeque<Double> {
@@ -90,7 +91,7 @@ public class AbstractDetector {
 		protected int							startIndex;
 
 		private ArrayDeque<Long>	timeStampDeque;
-		private List<Double>			sortedValues;
+		private OrderStatisticTree	sortedValues;
 
 		/**
 		 * Be sure to call initialize before using the deque.
@@ -103,7 +104,7 @@ public class AbstractDetector {
 			this.isMinimumExtremum = isMinimumExtremum;
 			this.timePeriod_100ns = timePeriod_100ns;
 			this.timeStampDeque = new ArrayDeque<Long>(numElements);
-			this.sortedValues = null;
+			this.sortedValues = new OrderStatisticTree(numElements + SettlementDeque.CAPACITY_SURPLUS);
 			clear();
 		}
 
@@ -116,7 +117,7 @@ public class AbstractDetector {
 		public void addFirst(double translatedValue, long timeStamp_100ns) {
 			super.addFirst(translatedValue);
 			this.extremeValue = this.isMinimumExtremum ? Math.min(this.extremeValue, translatedValue) : Math.max(this.extremeValue, translatedValue);
-			this.sortedValues = null;
+			this.sortedValues.add(translatedValue);
 			this.timeStampDeque.addFirst(timeStamp_100ns);
 			ensureTimePeriod();
 		}
@@ -130,7 +131,7 @@ public class AbstractDetector {
 		public void addLast(double translatedValue, long timeStamp_100ns) {
 			super.addLast(translatedValue);
 			this.extremeValue = this.isMinimumExtremum ? Math.min(this.extremeValue, translatedValue) : Math.max(this.extremeValue, translatedValue);
-			this.sortedValues = null;
+			this.sortedValues.add(translatedValue);
 			this.timeStampDeque.addLast(timeStamp_100ns);
 			ensureTimePeriod();
 		}
@@ -147,7 +148,7 @@ public class AbstractDetector {
 			this.timeStampDeque.clear();
 			this.extremeValue = this.isMinimumExtremum ? Double.MAX_VALUE : -Double.MAX_VALUE;
 			// leave untouched because of initialize() this.startIndex = -1;
-			this.sortedValues = null;
+			this.sortedValues.clear();
 		}
 
 		/**
@@ -167,7 +168,11 @@ public class AbstractDetector {
 				clear();
 			else {
 				this.startIndex -= removedCount;
-				this.sortedValues = null;
+				// elements were removed via the iterator which bypasses the order statistic tree
+				this.sortedValues.clear();
+				for (Double value : this) {
+					this.sortedValues.add(value);
+				}
 				if (this.isMinimumExtremum) {
 					this.extremeValue = Double.MAX_VALUE;
 					for (Double value : this) {
@@ -221,8 +226,8 @@ public class AbstractDetector {
 		public Double pollFirst() {
 			Double removedItem = super.pollFirst();
 			this.timeStampDeque.pollFirst();
+			this.sortedValues.remove(removedItem);
 			setExtremeValue(removedItem);
-			this.sortedValues = null;
 			return removedItem;
 		}
 
@@ -235,8 +240,8 @@ public class AbstractDetector {
 		public Double pollLast() {
 			Double removedItem = super.pollLast();
 			this.timeStampDeque.pollLast();
+			this.sortedValues.remove(removedItem);
 			setExtremeValue(removedItem);
-			this.sortedValues = null;
 			return removedItem;
 		}
 
@@ -331,40 +336,37 @@ public class AbstractDetector {
 		}
 
 		public List<Double> getSortedValues() {
-			if (this.sortedValues == null) {
-				this.sortedValues = new ArrayList<>(this);
-				Collections.sort(this.sortedValues);
-			}
-			return this.sortedValues;
+			return Arrays.stream(this.sortedValues.toArray()).boxed().collect(Collectors.toList());
 		}
 
 		/**
-		 * Please note: requires a sort over the full deque size.
+		 * Please note: costs O(log n) for the access to the order statistic tree.
 		 * @param probabilityCutPoint as value between 0 and 1
 		 * @return the quantileValue of the current deque contents
 		 */
 		public double getQuantileValue(double probabilityCutPoint) {
 			// IS_SAMPLE
-			final int realSize = this.getSortedValues().size();
+			final int realSize = this.sortedValues.size();
 			if (realSize > 0) {
 				if (probabilityCutPoint >= 1. / (realSize + 1) && probabilityCutPoint < (double) realSize / (realSize + 1)) {
 					double position = (realSize + 1) * probabilityCutPoint;
-					return this.getSortedValues().get((int) position - 1) + (position - (int) position) * (this.getSortedValues().get((int) position) - this.getSortedValues().get((int) position - 1));
+					double lowerValue = this.sortedValues.get((int) position - 1);
+					return lowerValue + (position - (int) position) * (this.sortedValues.get((int) position) - lowerValue);
 				} else if (probabilityCutPoint < 1. / (realSize + 1))
-					return this.getSortedValues().get(0);
+					return this.sortedValues.get(0);
 				else
-					return this.getSortedValues().get(realSize - 1);
+					return this.sortedValues.get(realSize - 1);
 			} else
 				throw new UnsupportedOperationException();
 		}
 
 		/**
-		 * Please note: requires a sort over the full deque size.
+		 * Please note: requires a quantile calculation based on the order statistic tree.
 		 * @return NaN for empty deque or a leveled extremum value for comparisons, i.e. a more stable value than the extremum value
 		 */
 		public double getBenchmarkValue() {
 			if (minmaxQuantileDistance == 0.) {
-				// bypass deque sort
+				// bypass quantile calculation
 				return this.extremeValue;
 			} else {
 				return this.isMinimumExtremum ? this.getQuantileValue(minmaxQuantileDistance) : this.getQuantileValue(1. - minmaxQuantileDistance);
@@ -372,7 +374,7 @@ public class AbstractDetector {
 		}
 
 		/**
-		 * please note: requires a sort over the full deque size.
+		 * please note: requires a quantile calculation based on the order statistic tree.
 		 * @return NaN for empty deque or a leveled translated value for security comparisons which shall ensure that the majority of the values did
 		 *         NOT pass a comparison level
 		 */
@@ -468,19 +470,16 @@ public class AbstractDetector {
 		final private boolean					isDeltaValue;
 
 		/**
-		 * @param transitionRecord
+		 * @param translatedRecord
 		 * @param transitionType
 		 */
-		LevelChecker(Record transitionRecord, TransitionType transitionType) {
+		LevelChecker(TranslatedRecord translatedRecord, TransitionType transitionType) {
 			this.transitionType = transitionType;
 
 			this.isDeltaFactor = this.transitionType.getValueType() == TransitionValueTypes.DELTA_FACTOR;
 			this.isDeltaValue = this.transitionType.getValueType() == TransitionValueTypes.DELTA_VALUE;
 
-			double translatedMaxValue = analyzer.getActiveDevice().translateValue(transitionRecord, transitionRecord.getMaxValue() / 1000.);
-			double translatedMinValue = analyzer.getActiveDevice().translateValue(transitionRecord, transitionRecord.getMinValue() / 1000.);
-
-			this.absoluteDelta = analyzer.getSettings().getAbsoluteTransitionLevel() * (translatedMaxValue - translatedMinValue);
+			this.absoluteDelta = analyzer.getSettings().getAbsoluteTransitionLevel() * (translatedRecord.getTranslatedMaxValue() - translatedRecord.getTranslatedMinValue());
 			this.translatedThresholdValue = transitionType.getThresholdValue();
 			this.translatedRecoveryValue = transitionType.getClassType() != TransitionClassTypes.SLOPE
 					? transitionType.getRecoveryValue().orElseThrow(() -> new UnsupportedOperationException(
@@ -29,7 +29,6 @@ import static java.util.logging.Level.FINEST;
 import gde.GDE;
 import gde.data.Record;
 import gde.data.RecordSet;
-import gde.device.IDevice;
 import gde.device.TransitionType;
 import gde.histo.transitions.GroupTransitions.TransitionChronicle;
 import gde.log.Logger;
@@ -60,26 +59,35 @@ public final class PulseDetector extends AbstractDetector {
 	 * @return all transitions with the key thresholdStartTimestamp_ms
 	 */
 	public TransitionChronicle findTransitions(Record record, TransitionType transitionType) {
+		return findTransitions(new TranslatedRecord(record, analyzer.getActiveDevice()), transitionType);
+	}
+
+	/**
+	 * Apply transitionType definitions to the translated measurement data which may be shared with other detectors.
+	 * @param translatedRecord
+	 * @param transitionType
+	 * @return all transitions with the key thresholdStartTimestamp_ms
+	 */
+	public TransitionChronicle findTransitions(TranslatedRecord translatedRecord, TransitionType transitionType) {
 		this.triggerState = WAITING;
-		initializeDeques(record, transitionType);
+		initializeDeques(translatedRecord.getRecord(), transitionType);
 
-		return findPulseTransitions(record, transitionType);
+		return findPulseTransitions(translatedRecord, transitionType);
 	}
 
 	/**
-	 * @param record
+	 * @param translatedRecord
 	 * @param transitionType
 	 * @return all transitions with the key thresholdStartTimestamp_ms
 	 */
-	private TransitionChronicle findPulseTransitions(Record record, TransitionType transitionType) {
+	private TransitionChronicle findPulseTransitions(TranslatedRecord translatedRecord, TransitionType transitionType) {
 		TransitionChronicle transitions = new TransitionChronicle();
-		IDevice device = analyzer.getActiveDevice();
+		Record record = translatedRecord.getRecord();
 
-		LevelChecker levelChecker = new LevelChecker(record, transitionType);
-		for (int i = 0; i < record.realSize(); i++) {
-			if (record.elementAt(i) == null) break;
-			long timeStamp_100ns = (long) (record.getTime_ms(i) * 10.);
-			double translatedValue = device.translateValue(record, record.elementAt(i) / 1000.);
+		LevelChecker levelChecker = new LevelChecker(translatedRecord, transitionType);
+		for (int i = 0; i < translatedRecord.size(); i++) {
+			long timeStamp_100ns = translatedRecord.getTimeStamp_100ns(i);
+			double translatedValue = translatedRecord.getTranslatedValue(i);
 			switch (this.triggerState) {
 			case WAITING:
 				this.previousTriggerState = this.triggerState;
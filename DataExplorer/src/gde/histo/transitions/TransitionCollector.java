@@ -20,14 +20,18 @@
 package gde.histo.transitions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import gde.data.RecordSet;
 import gde.device.ChannelType;
+import gde.device.IDevice;
 import gde.device.TransitionClassTypes;
 import gde.device.TransitionGroupType;
 import gde.device.TransitionType;
@@ -51,6 +55,8 @@ public final class TransitionCollector {
 	/**
 	 * Identify all transitions for the recordset and channel.
 	 * Take all transition types defined for the channel.
+	 * Each measurement referenced by transition types is translated only once and shared by the detectors.
+	 * The detectors run in parallel because they only read the translated values.
 	 * Remove transition duplicates or overlapping transitions in all transition groups.
 	 * @return the multimap holding all transitions (key is thresholdStartTimestamp_ms) per transitionGroupId (key)
 	 */
@@ -58,8 +64,20 @@ public final class TransitionCollector {
 		final GroupTransitions groupTransitions = new GroupTransitions(recordSet);
 
 		final ChannelType channelType = recordSet.getDevice().getDeviceConfiguration().getChannel(logChannelNumber);
-		for (TransitionType transitionType : channelType.getTransitions().values()) {
-			TransitionChronicle transitionsFromRecord = findTransitions(recordSet, transitionType);
+		final List<TransitionType> transitionTypes = new ArrayList<>(channelType.getTransitions().values());
+
+		final IDevice device = recordSet.getAnalyzer().getActiveDevice();
+		final Map<Integer, TranslatedRecord> translatedRecords = new HashMap<>();
+		for (TransitionType transitionType : transitionTypes) {
+			translatedRecords.computeIfAbsent(transitionType.getRefOrdinal(), o -> new TranslatedRecord(recordSet.get(recordSet.getRecordNames()[o]), device));
+		}
+		// the list keeps the transition type sequence which determines the merge result
+		final List<TransitionChronicle> transitionChronicles = transitionTypes.parallelStream() //
+				.map(t -> findTransitions(translatedRecords.get(t.getRefOrdinal()), t)).collect(Collectors.toList());
+
+		for (int i = 0; i < transitionTypes.size(); i++) {
+			final TransitionType transitionType = transitionTypes.get(i);
+			TransitionChronicle transitionsFromRecord = transitionChronicles.get(i);
 			if (!transitionsFromRecord.isEmpty()) {
 				log.fine(() -> String.format("%d  transitionCount=%d", transitionType.getTransitionId(), 999)); //$NON-NLS-1$
 
@@ -91,22 +109,22 @@ public final class TransitionCollector {
 	}
 
 	/**
-	 * @param recordSet
+	 * @param translatedRecord is the translated measurement referenced by the transition type
 	 * @param transitionType
 	 * @return the identified transitions with the key thresholdStartTimestamp_ms
 	 */
-	private TransitionChronicle findTransitions(RecordSet recordSet, TransitionType transitionType) {
+	private TransitionChronicle findTransitions(TranslatedRecord translatedRecord, TransitionType transitionType) {
 		TransitionChronicle transitionsFromRecord;
 
 		if (transitionType.getClassType() == TransitionClassTypes.PEAK) {
 			PeakDetector histoTransitions = new PeakDetector(recordSet);
-			transitionsFromRecord = histoTransitions.findTransitions(recordSet.get(recordSet.getRecordNames()[transitionType.getRefOrdinal()]), transitionType);
+			transitionsFromRecord = histoTransitions.findTransitions(translatedRecord, transitionType);
 		} else if (transitionType.getClassType() == TransitionClassTypes.PULSE) {
 			PulseDetector histoTransitions = new PulseDetector(recordSet);
-			transitionsFromRecord = histoTransitions.findTransitions(recordSet.get(recordSet.getRecordNames()[transitionType.getRefOrdinal()]), transitionType);
+			transitionsFromRecord = histoTransitions.findTransitions(translatedRecord, transitionType);
 		} else if (transitionType.getClassType() == TransitionClassTypes.SLOPE) {
 			SlopeDetector histoTransitions = new SlopeDetector(recordSet);
-			transitionsFromRecord = histoTransitions.findTransitions(recordSet.get(recordSet.getRecordNames()[transitionType.getRefOrdinal()]), transitionType);
+			transitionsFromRecord = histoTransitions.findTransitions(translatedRecord, transitionType);
 		} else {
 			throw new UnsupportedOperationException();
 		}
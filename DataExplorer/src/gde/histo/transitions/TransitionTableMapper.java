@@ -24,8 +24,10 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import gde.Analyzer;
 import gde.data.RecordSet;
@@ -109,6 +111,62 @@ public final class TransitionTableMapper {
 		}
 	}
 
+	/**
+	 * Settlement and transition columns of all table rows.
+	 * The columns are defined once for the transitions of the record set and the active settlements, so the row formatting is reduced to array lookups.
+	 */
+	public static final class TransitionColumns {
+		private final GroupTransitions	transitions;
+		private final List<Integer>			activeSettlementIds;
+		private final int								rowsSize;
+		private final double[][]				settlementValues;	// NaN for rows without settlement value, null for settlements without evaluation
+		private final int[][]						transitionIds;		// -1 for rows without transition
+
+		TransitionColumns(GroupTransitions transitions, List<Integer> activeSettlementIds, int rowsSize, double[][] settlementValues, int[][] transitionIds) {
+			this.transitions = transitions;
+			this.activeSettlementIds = activeSettlementIds;
+			this.rowsSize = rowsSize;
+			this.settlementValues = settlementValues;
+			this.transitionIds = transitionIds;
+		}
+
+		/**
+		 * @param currentTransitions are the actual transitions of the record set
+		 * @param currentChannel holds the settlements which may have been activated or deactivated in the meantime
+		 * @param currentRowsSize is the actual number of table rows
+		 * @return true if the columns were defined from the current transitions and active settlements and cover all rows
+		 */
+		public boolean isValid(GroupTransitions currentTransitions, ChannelType currentChannel, int currentRowsSize) {
+			return this.transitions == currentTransitions && this.rowsSize == currentRowsSize && this.activeSettlementIds.equals(getActiveSettlementIds(currentChannel));
+		}
+
+		/**
+		 * @param index
+		 * @param dataTableRow
+		 * @param tableColumnsSize is the number of table columns including the time column
+		 * @return the row with additional columns for the active settlements with reasonable data and the transition ids
+		 */
+		public String[] defineRow(int index, String[] dataTableRow, int tableColumnsSize) {
+			String[] tableRow = Arrays.copyOf(dataTableRow, tableColumnsSize + this.settlementValues.length + this.transitionIds.length);
+			if (index < 0 || index >= this.rowsSize) return tableRow;
+
+			int columnIndex = tableColumnsSize;
+			for (double[] values : this.settlementValues) {
+				if (values != null && !Double.isNaN(values[index])) {
+					tableRow[columnIndex] = String.format("%.3f", values[index]);
+				}
+				columnIndex++;
+			}
+			for (int[] ids : this.transitionIds) {
+				if (ids[index] >= 0) {
+					tableRow[columnIndex] = Integer.toString(ids[index]);
+				}
+				columnIndex++;
+			}
+			return tableRow;
+		}
+	}
+
 	private final RecordSet		recordSet;
 	private final Analyzer		analyzer;
 	private final ChannelType	channel;
@@ -120,6 +178,14 @@ public final class TransitionTableMapper {
 	}
 
 	/**
+	 * @return the ids of the settlements which are active in the channel configuration
+	 */
+	public static List<Integer> getActiveSettlementIds(ChannelType channel) {
+		return channel.getSettlements().values().stream().filter(SettlementType::isActive).map(SettlementType::getSettlementId).collect(Collectors.toList());
+	}
+
+	/**
+	 * Determine the settlements and the transitions for a single row, e.g. in gathering mode where the columns of all rows are outdated with the next points.
 	 * @param index
 	 * @param dataTableRow
 	 * @return the row with additional columns for the active settlements with reasonable data
@@ -143,7 +209,7 @@ public final class TransitionTableMapper {
 		}
 
 		for (Entry<Integer, TransitionGroupType> transitionsGroupsEntry : transitionGroups.entrySet()) {
-			TransitionChronicle transitionChronicle = recordSet.getHistoTransitions().get(transitionsGroupsEntry.getKey());
+			TransitionChronicle transitionChronicle = histoTransitions.get(transitionsGroupsEntry.getKey());
 			if (transitionChronicle != null) {
 				Transition transition = transitionChronicle.get((long) recordSet.getTime_ms(index));
 				if (transition != null) {
@@ -155,6 +221,47 @@ public final class TransitionTableMapper {
 		return tableRow;
 	}
 
+	/**
+	 * Determine the settlements and the transitions for all rows of the record set.
+	 * @return the settlement and transition columns
+	 */
+	public synchronized TransitionColumns defineColumns() {
+		SettlementTypes settlementTypes = defineActiveAndDisplayableSettlements();
+		HashMap<Integer, TransitionGroupType> transitionGroups = channel.getTransitionGroups();
+		GroupTransitions histoTransitions = recordSet.getHistoTransitions();
+		SettlementRecords settlements = determineSettlements(histoTransitions, settlementTypes.values());
+		int rowsSize = recordSet.getRecordDataSize(true);
+
+		double[][] settlementValues = new double[settlementTypes.size()][];
+		int columnIndex = 0;
+		for (SettlementRecord settlementRecord : settlements.values()) {
+			double[] values = new double[rowsSize];
+			Arrays.fill(values, Double.NaN);
+			for (int i = 0; i < rowsSize; i++) {
+				Double value = settlementRecord.getTranslatedValue(i);
+				if (value != null) values[i] = value;
+			}
+			settlementValues[columnIndex++] = values;
+		}
+
+		int[][] transitionIds = new int[transitionGroups.size()][];
+		columnIndex = 0;
+		for (Entry<Integer, TransitionGroupType> transitionsGroupsEntry : transitionGroups.entrySet()) {
+			int[] ids = new int[rowsSize];
+			Arrays.fill(ids, -1);
+			TransitionChronicle transitionChronicle = histoTransitions.get(transitionsGroupsEntry.getKey());
+			if (transitionChronicle != null && !transitionChronicle.isEmpty()) {
+				for (int i = 0; i < rowsSize; i++) {
+					Transition transition = transitionChronicle.get((long) recordSet.getTime_ms(i));
+					if (transition != null) ids[i] = transition.getTransitionType().getTransitionId();
+				}
+			}
+			transitionIds[columnIndex++] = ids;
+		}
+		log.finer(() -> "rowsSize=" + rowsSize + " settlements=" + settlementValues.length + " transitionGroups=" + transitionIds.length);
+		return new TransitionColumns(histoTransitions, getActiveSettlementIds(channel), rowsSize, settlementValues, transitionIds);
+	}
+
 	/**
 	 * @return the settlementTypes with reasonable data (key is settlementId)
 	 */
@@ -0,0 +1,93 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+
+package gde.histo.transitions;
+
+import gde.data.Record;
+import gde.device.IDevice;
+
+/**
+ * Translated values and timestamps of a transition record decoded once.
+ * Is shared read-only by all detectors of the transition types referencing the same measurement.
+ * Ends with the first null measurement value.
+ * @author agent
+ */
+public final class TranslatedRecord {
+
+	private final Record		record;
+	private final double[]	translatedValues;
+	private final long[]		timeStamps_100ns;
+	private final double		translatedMaxValue;
+	private final double		translatedMinValue;
+
+	/**
+	 * @param record
+	 * @param device translates the record values
+	 */
+	public TranslatedRecord(Record record, IDevice device) {
+		this.record = record;
+
+		int size = 0;
+		while (size < record.realSize() && record.elementAt(size) != null) {
+			size++;
+		}
+		this.translatedValues = new double[size];
+		this.timeStamps_100ns = new long[size];
+		for (int i = 0; i < size; i++) {
+			this.translatedValues[i] = device.translateValue(record, record.elementAt(i) / 1000.);
+			this.timeStamps_100ns[i] = (long) (record.getTime_ms(i) * 10.);
+		}
+		this.translatedMaxValue = device.translateValue(record, record.getMaxValue() / 1000.);
+		this.translatedMinValue = device.translateValue(record, record.getMinValue() / 1000.);
+	}
+
+	public Record getRecord() {
+		return this.record;
+	}
+
+	/**
+	 * @return the number of values up to the first null measurement value
+	 */
+	public int size() {
+		return this.translatedValues.length;
+	}
+
+	public double getTranslatedValue(int index) {
+		return this.translatedValues[index];
+	}
+
+	public long getTimeStamp_100ns(int index) {
+		return this.timeStamps_100ns[index];
+	}
+
+	/**
+	 * @return the translated maximum value of the record
+	 */
+	public double getTranslatedMaxValue() {
+		return this.translatedMaxValue;
+	}
+
+	/**
+	 * @return the translated minimum value of the record
+	 */
+	public double getTranslatedMinValue() {
+		return this.translatedMinValue;
+	}
+
+}
@@ -90,12 +90,12 @@ public class Measure {
 	void setValidMeasureTimeStamp_ms(long proposedTimeStamp_ms) {
 		long timestampMeasureNew_ms = proposedTimeStamp_ms;
 		int index = measureRecord.getParent().getIndex(proposedTimeStamp_ms);
-		Integer value = measureRecord.getPoints().elementAt(index);
+		Integer value = measureRecord.getPoints().get(index);
 		if (value == null) {
 			log.fine(() -> String.format("timestampMeasure_ms=%d search first non-null value from the left", proposedTimeStamp_ms));
 			int i = -1;
 			while (value == null) {
-				value = measureRecord.getPoints().elementAt(++i);
+				value = measureRecord.getPoints().get(++i);
 			}
 			timestampMeasureNew_ms = measureRecord.getParent().getDisplayTimeStamp_ms(i);
 		}
@@ -108,12 +108,12 @@ public class Measure {
 	void setValidDeltaTimeStamp_ms(long proposedTimeStamp_ms) {
 		long timestampDeltaNew_ms = proposedTimeStamp_ms;
 		int index = measureRecord.getParent().getIndex(proposedTimeStamp_ms);
-		Integer value = measureRecord.getPoints().elementAt(index);
+		Integer value = measureRecord.getPoints().get(index);
 		if (value == null) {
 			log.fine(() -> String.format("timestampDelta_ms=%d search first non-null value from the right", proposedTimeStamp_ms));
 			int i = measureRecord.getParent().getTimeStepSize();
 			while (value == null) {
-				value = measureRecord.getPoints().elementAt(--i);
+				value = measureRecord.getPoints().get(--i);
 			}
 			timestampDeltaNew_ms = measureRecord.getParent().getDisplayTimeStamp_ms(i);
 		}
@@ -32,7 +32,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.Vector;
 import java.util.logging.Level;
 import java.util.stream.Stream;
 
@@ -342,7 +341,7 @@ public class SummarySpots { // MarkerLine + Boxplot + Warnings
 		log.finest(() -> record.getName() + "  limit=" + limit);
 		MarkerPositions resultXPositions = new MarkerPositions();
 
-		final Vector<Integer> tmpRecord;
+		final List<Integer> tmpRecord;
 		if (record.getTrailSelector().isTrailSuite()) {
 			tmpRecord = record.getSuiteRecords().get(record.getTrailSelector().getSuiteMasterIndex());
 		} else {
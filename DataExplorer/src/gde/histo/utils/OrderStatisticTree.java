@@ -0,0 +1,240 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.histo.utils;
+
+import java.util.Arrays;
+
+/**
+ * Sorted multiset of primitive double values with rank access for sliding window quantiles.
+ * Is a treap with subtree sizes held in parallel arrays, thus add, remove and get are avg O(log n) without boxing.
+ * Equal values share one node with a count.
+ * The value order is the order of {@link Double#compare(double, double)}, i.e. identical to sorting boxed values.
+ * @author agent
+ */
+public final class OrderStatisticTree {
+
+	private static final int	NIL	= 0;									// node 0 is the empty subtree with size 0
+
+	private double[]					values;
+	private int[]							counts;
+	private int[]							sizes;
+	private int[]							lefts;
+	private int[]							rights;
+	private int[]							priorities;
+
+	private int								root;
+	private int								freeNode;									// head of the free node list which is linked via the lefts array
+	private int								nextNode;									// next node index which was never used
+	private int								seed	= 0x2545F491;
+
+	/**
+	 * @param initialCapacity is the number of distinct values which fit without resizing
+	 */
+	public OrderStatisticTree(int initialCapacity) {
+		int length = Math.max(initialCapacity, 1) + 1;
+		this.values = new double[length];
+		this.counts = new int[length];
+		this.sizes = new int[length];
+		this.lefts = new int[length];
+		this.rights = new int[length];
+		this.priorities = new int[length];
+		clear();
+	}
+
+	public void clear() {
+		this.root = NIL;
+		this.freeNode = NIL;
+		this.nextNode = 1;
+	}
+
+	/**
+	 * @return the number of values including duplicates
+	 */
+	public int size() {
+		return this.sizes[this.root];
+	}
+
+	public boolean isEmpty() {
+		return this.root == NIL;
+	}
+
+	public void add(double value) {
+		this.root = insert(this.root, value);
+	}
+
+	/**
+	 * @return false if the value is not a member
+	 */
+	public boolean remove(double value) {
+		int size = size();
+		this.root = delete(this.root, value);
+		return size() < size;
+	}
+
+	/**
+	 * @param index is the zero based rank
+	 * @return the value at the index position of the sorted values
+	 */
+	public double get(int index) {
+		if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("index=" + index + " size=" + size()); //$NON-NLS-1$ //$NON-NLS-2$
+		int node = this.root;
+		int rank = index;
+		while (true) {
+			int leftSize = this.sizes[this.lefts[node]];
+			if (rank < leftSize) {
+				node = this.lefts[node];
+			} else if (rank < leftSize + this.counts[node]) {
+				return this.values[node];
+			} else {
+				rank -= leftSize + this.counts[node];
+				node = this.rights[node];
+			}
+		}
+	}
+
+	/**
+	 * @return the sorted values including duplicates
+	 */
+	public double[] toArray() {
+		double[] result = new double[size()];
+		fill(this.root, result, 0);
+		return result;
+	}
+
+	private int fill(int node, double[] result, int index) {
+		if (node == NIL) return index;
+		int i = fill(this.lefts[node], result, index);
+		Arrays.fill(result, i, i + this.counts[node], this.values[node]);
+		return fill(this.rights[node], result, i + this.counts[node]);
+	}
+
+	private int insert(int node, double value) {
+		if (node == NIL) return newNode(value);
+
+		int comparison = Double.compare(value, this.values[node]);
+		if (comparison == 0) {
+			this.counts[node]++;
+			this.sizes[node]++;
+			return node;
+		} else if (comparison < 0) {
+			int left = insert(this.lefts[node], value); // the insert may grow the arrays
+			this.lefts[node] = left;
+			if (this.priorities[this.lefts[node]] > this.priorities[node]) return rotateRight(node);
+		} else {
+			int right = insert(this.rights[node], value);
+			this.rights[node] = right;
+			if (this.priorities[this.rights[node]] > this.priorities[node]) return rotateLeft(node);
+		}
+		this.sizes[node]++;
+		return node;
+	}
+
+	private int delete(int node, double value) {
+		if (node == NIL) return NIL;
+
+		int comparison = Double.compare(value, this.values[node]);
+		if (comparison < 0) {
+			this.lefts[node] = delete(this.lefts[node], value);
+		} else if (comparison > 0) {
+			this.rights[node] = delete(this.rights[node], value);
+		} else if (this.counts[node] > 1) {
+			this.counts[node]--;
+		} else if (this.lefts[node] == NIL || this.rights[node] == NIL) {
+			int child = this.lefts[node] == NIL ? this.rights[node] : this.lefts[node];
+			freeNode(node);
+			return child;
+		} else if (this.priorities[this.lefts[node]] > this.priorities[this.rights[node]]) {
+			int newNode = rotateRight(node);
+			this.rights[newNode] = delete(node, value);
+			updateSize(newNode);
+			return newNode;
+		} else {
+			int newNode = rotateLeft(node);
+			this.lefts[newNode] = delete(node, value);
+			updateSize(newNode);
+			return newNode;
+		}
+		updateSize(node);
+		return node;
+	}
+
+	private int rotateRight(int node) {
+		int left = this.lefts[node];
+		this.lefts[node] = this.rights[left];
+		this.rights[left] = node;
+		updateSize(node);
+		updateSize(left);
+		return left;
+	}
+
+	private int rotateLeft(int node) {
+		int right = this.rights[node];
+		this.rights[node] = this.lefts[right];
+		this.lefts[right] = node;
+		updateSize(node);
+		updateSize(right);
+		return right;
+	}
+
+	private void updateSize(int node) {
+		this.sizes[node] = this.sizes[this.lefts[node]] + this.counts[node] + this.sizes[this.rights[node]];
+	}
+
+	private int newNode(double value) {
+		int node;
+		if (this.freeNode != NIL) {
+			node = this.freeNode;
+			this.freeNode = this.lefts[node];
+		} else {
+			if (this.nextNode == this.values.length) grow();
+			node = this.nextNode++;
+		}
+		this.values[node] = value;
+		this.counts[node] = 1;
+		this.sizes[node] = 1;
+		this.lefts[node] = NIL;
+		this.rights[node] = NIL;
+		// xorshift random priorities keep the expected depth logarithmic
+		this.seed ^= this.seed << 13;
+		this.seed ^= this.seed >>> 17;
+		this.seed ^= this.seed << 5;
+		this.priorities[node] = this.seed;
+		return node;
+	}
+
+	private void freeNode(int node) {
+		this.lefts[node] = this.freeNode;
+		this.freeNode = node;
+	}
+
+	private void grow() {
+		int length = this.values.length * 2;
+		this.values = Arrays.copyOf(this.values, length);
+		this.counts = Arrays.copyOf(this.counts, length);
+		this.sizes = Arrays.copyOf(this.sizes, length);
+		this.lefts = Arrays.copyOf(this.lefts, length);
+		this.rights = Arrays.copyOf(this.rights, length);
+		this.priorities = Arrays.copyOf(this.priorities, length);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
@@ -0,0 +1,298 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+
+package gde.histo.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mergeable streaming quantile sketch with bounded memory (KLL compactor hierarchy).
+ * The sketch is exact as long as the number of values does not exceed the capacity of the lowest compactor.
+ * Beyond that the normalized rank error is below {@code 2 / k} with high probability and the sketch retains {@code O(k)} values only.
+ * @see <a href="https://arxiv.org/abs/1603.05346">Karnin, Lang, Liberty: Optimal Quantile Approximation in Streams</a>
+ * @author agent
+ */
+public final class QuantileSketch {
+
+	/**
+	 * Default compactor size with a rank error below 1%.
+	 */
+	public static final int				DEFAULT_K			= 256;
+
+	private static final double		CAPACITY_DECAY	= 2. / 3.;
+	private static final int			MIN_CAPACITY		= 2;
+
+	private final int							k;
+	private final Random					random;
+	/**
+	 * compactor items per level; the items of level h have the weight 2^h
+	 */
+	private final List<double[]>	levels					= new ArrayList<>();
+	private final List<Integer>		levelSizes			= new ArrayList<>();
+	private int										retainedSize		= 0;
+	private int										totalCapacity		= 0;
+	private long									count						= 0;
+	private double								min							= Double.NaN;
+	private double								max							= Double.NaN;
+
+	/** sorted view cache which is invalidated by updates */
+	private double[]							sortedValues;
+	private long[]								sortedCumulativeWeights;
+
+	public QuantileSketch() {
+		this(DEFAULT_K);
+	}
+
+	/**
+	 * @param k is the top compactor size which determines the accuracy (rank error below {@code 2 / k})
+	 */
+	public QuantileSketch(int k) {
+		if (k < MIN_CAPACITY * 4) throw new IllegalArgumentException("k too small " + k);
+		this.k = k;
+		this.random = new Random(k); // reproducible compaction results
+		addLevel();
+	}
+
+	private void addLevel() {
+		levels.add(new double[MIN_CAPACITY * 4]);
+		levelSizes.add(0);
+		totalCapacity = 0;
+		for (int i = 0; i < levels.size(); i++) {
+			totalCapacity += getCapacity(i);
+		}
+	}
+
+	/**
+	 * @return the capacity of the level with the top level having the capacity k
+	 */
+	private int getCapacity(int level) {
+		int depth = levels.size() - level - 1;
+		return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+	}
+
+	public void accept(double value) {
+		if (Double.isNaN(value)) return;
+
+		if (count == 0) {
+			min = max = value;
+		} else {
+			if (value < min) min = value;
+			if (value > max) max = value;
+		}
+		count++;
+		append(0, value);
+		if (retainedSize > totalCapacity) compress();
+		sortedValues = null;
+	}
+
+	private void append(int level, double value) {
+		int size = levelSizes.get(level);
+		double[] items = levels.get(level);
+		if (size == items.length) levels.set(level, items = Arrays.copyOf(items, items.length * 2));
+		items[size] = value;
+		levelSizes.set(level, size + 1);
+		retainedSize++;
+	}
+
+	/**
+	 * Compact the lowest level exceeding its capacity by sorting and promoting every other item to the next level.
+	 */
+	private void compress() {
+		for (int level = 0; level < levels.size(); level++) {
+			int size = levelSizes.get(level);
+			if (size >= getCapacity(level)) {
+				if (level + 1 == levels.size()) addLevel();
+				double[] items = levels.get(level);
+				Arrays.sort(items, 0, size);
+				int offset = random.nextBoolean() ? 1 : 0;
+				int oddItem = size % 2 == 1 ? 1 : 0; // an odd item remains at this level
+				for (int i = oddItem + offset; i < size; i += 2) {
+					append(level + 1, items[i]);
+				}
+				levelSizes.set(level, oddItem);
+				retainedSize -= size - oddItem;
+				if (retainedSize <= totalCapacity) break;
+			}
+		}
+	}
+
+	/**
+	 * Merge the other sketch into this sketch.
+	 * The other sketch remains unchanged.
+	 */
+	public void combine(QuantileSketch other) {
+		if (other.count == 0) return;
+
+		while (levels.size() < other.levels.size()) {
+			addLevel();
+		}
+		for (int level = 0; level < other.levels.size(); level++) {
+			double[] items = other.levels.get(level);
+			for (int i = 0; i < other.levelSizes.get(level); i++) {
+				append(level, items[i]);
+			}
+		}
+		min = count == 0 ? other.min : Math.min(min, other.min);
+		max = count == 0 ? other.max : Math.max(max, other.max);
+		count += other.count;
+		while (retainedSize > totalCapacity) {
+			compress();
+		}
+		sortedValues = null;
+	}
+
+	private void ensureSortedView() {
+		if (sortedValues != null) return;
+
+		int size = retainedSize;
+		double[] values = new double[size];
+		long[] weights = new long[size];
+		int index = 0;
+		for (int level = 0; level < levels.size(); level++) {
+			double[] items = levels.get(level);
+			for (int i = 0; i < levelSizes.get(level); i++) {
+				values[index] = items[i];
+				weights[index++] = 1L << level;
+			}
+		}
+		Integer[] order = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+		sortedValues = new double[size];
+		sortedCumulativeWeights = new long[size];
+		long cumulativeWeight = 0;
+		for (int i = 0; i < size; i++) {
+			sortedValues[i] = values[order[i]];
+			cumulativeWeight += weights[order[i]];
+			sortedCumulativeWeights[i] = cumulativeWeight;
+		}
+	}
+
+	/**
+	 * @param rank is the 1-based position in the sorted population (1 .. count)
+	 * @return the value at the rank position (exact for the minimum and maximum ranks)
+	 * @throws IllegalStateException if the sketch holds no values
+	 */
+	public double getValueAtRank(long rank) {
+		if (count == 0) throw new IllegalStateException("empty sketch");
+		if (rank <= 1) return min;
+		if (rank >= count) return max;
+
+		ensureSortedView();
+		// the retained weights sum up to the count (compaction keeps the total weight apart from rounding odd sizes)
+		double scaledRank = (double) rank * sortedCumulativeWeights[sortedCumulativeWeights.length - 1] / count;
+		int index = Arrays.binarySearch(sortedCumulativeWeights, (long) Math.ceil(scaledRank));
+		if (index < 0) index = -index - 1;
+		return sortedValues[Math.min(index, sortedValues.length - 1)];
+	}
+
+	/**
+	 * @return the number of values which are less than the value
+	 */
+	public long getRankBelow(double value) {
+		if (count == 0 || value <= min) return 0;
+		if (value > max) return count;
+
+		ensureSortedView();
+		int index = Arrays.binarySearch(sortedValues, value);
+		if (index < 0) {
+			index = -index - 1;
+		} else {
+			while (index > 0 && sortedValues[index - 1] == value) {
+				index--;
+			}
+		}
+		long weightBelow = index > 0 ? sortedCumulativeWeights[index - 1] : 0;
+		return Math.round((double) weightBelow * count / sortedCumulativeWeights[sortedCumulativeWeights.length - 1]);
+	}
+
+	/**
+	 * @return the number of values which are greater than the value
+	 */
+	public long getRankAbove(double value) {
+		if (count == 0 || value >= max) return 0;
+		if (value < min) return count;
+
+		ensureSortedView();
+		int index = Arrays.binarySearch(sortedValues, value);
+		if (index < 0) {
+			index = -index - 1;
+		} else {
+			while (index < sortedValues.length - 1 && sortedValues[index + 1] == value) {
+				index++;
+			}
+			index++;
+		}
+		long weightAbove = sortedCumulativeWeights[sortedCumulativeWeights.length - 1] - (index > 0 ? sortedCumulativeWeights[index - 1] : 0);
+		return Math.round((double) weightAbove * count / sortedCumulativeWeights[sortedCumulativeWeights.length - 1]);
+	}
+
+	/**
+	 * @param isBelow true takes the values less than the limit, false takes the values greater than the limit
+	 * @return the estimated count, sum and sum of squares of the values beyond the limit
+	 */
+	public double[] getMomentsBeyond(double limit, boolean isBelow) {
+		double[] moments = new double[3];
+		if (count == 0) return moments;
+
+		ensureSortedView();
+		long previousWeight = 0;
+		for (int i = 0; i < sortedValues.length; i++) {
+			long weight = sortedCumulativeWeights[i] - previousWeight;
+			previousWeight = sortedCumulativeWeights[i];
+			double value = sortedValues[i];
+			if (isBelow ? value < limit : value > limit) {
+				moments[0] += weight;
+				moments[1] += weight * value;
+				moments[2] += weight * value * value;
+			}
+		}
+		return moments;
+	}
+
+	/**
+	 * @return true if no compaction has taken place, i.e. all values are retained with weight 1
+	 */
+	public boolean isExact() {
+		return retainedSize == count;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public double getMin() {
+		return min;
+	}
+
+	public double getMax() {
+		return max;
+	}
+
+	@Override
+	public String toString() {
+		return "k=" + k + ", count=" + count + ", retained=" + retainedSize + ", levels=" + levels.size() + ", min=" + min + ", max=" + max;
+	}
+
+}
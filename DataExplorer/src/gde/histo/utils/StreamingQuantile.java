@@ -0,0 +1,674 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+
+package gde.histo.utils;
+
+import static gde.histo.utils.ElementaryQuantile.BoxplotItems.LOWER_WHISKER;
+import static gde.histo.utils.ElementaryQuantile.BoxplotItems.LQT;
+import static gde.histo.utils.ElementaryQuantile.BoxplotItems.QUARTILE0;
+import static gde.histo.utils.ElementaryQuantile.BoxplotItems.QUARTILE1;
+import static gde.histo.utils.ElementaryQuantile.BoxplotItems.QUARTILE2;
+import static gde.histo.utils.ElementaryQuantile.BoxplotItems.QUARTILE3;
+import static gde.histo.utils.ElementaryQuantile.BoxplotItems.QUARTILE4;
+import static gde.histo.utils.ElementaryQuantile.BoxplotItems.UPPER_WHISKER;
+import static gde.histo.utils.ElementaryQuantile.BoxplotItems.UQT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import gde.GDE;
+import gde.config.Settings;
+import gde.histo.datasources.HistoSet;
+import gde.histo.utils.ElementaryQuantile.ErrorFunction;
+import gde.log.Logger;
+
+/**
+ * Streaming replacement for the {@code UniversalQuantile} without materializing the population.
+ * Is fed value by value and evaluated on the first query; removes the outliers defined by the tolerance interval.<br>
+ * The quantiles are taken from a {@code QuantileSketch}, the extreme values of both tails and the first / last values are retained exactly.
+ * Thus the quartiles 0 and 4, the population extrema and the outliers are exact as long as there are less than {@code TAIL_SIZE}
+ * distinct outlier values per side.
+ * Constant outliers are not detected.
+ * @author agent
+ */
+public final class StreamingQuantile implements DoubleConsumer, IntConsumer {
+	private static final String	$CLASS_NAME		= StreamingQuantile.class.getName();
+	private static final Logger	log						= Logger.getLogger($CLASS_NAME);
+
+	/**
+	 * Number of exact values retained at both ends of the sorted population and at both ends of the stream.
+	 */
+	public static final int			TAIL_SIZE			= 256;
+
+	/**
+	 * Distinct extreme values with their counts in the sequence from the outmost value inwards.
+	 * Holds all occurrences of its values because a value which does not qualify on its first occurrence never qualifies later.
+	 */
+	private static final class Tail {
+		private final double	sign;
+		/** values multiplied by the sign in ascending order */
+		private final double[]	keys		= new double[TAIL_SIZE];
+		private final long[]		counts	= new long[TAIL_SIZE];
+		private int							size		= 0;
+		private long						weight	= 0;
+
+		/**
+		 * @param isLow true holds the smallest values, false holds the largest values
+		 */
+		Tail(boolean isLow) {
+			this.sign = isLow ? 1. : -1.;
+		}
+
+		void offer(double value, long count) {
+			double key = sign * value;
+			if (size == TAIL_SIZE && key > keys[size - 1]) return;
+
+			int index = Arrays.binarySearch(keys, 0, size, key);
+			if (index >= 0) {
+				counts[index] += count;
+				weight += count;
+				return;
+			}
+			index = -index - 1;
+			if (size == TAIL_SIZE) {
+				weight -= counts[size - 1];
+				size--;
+			}
+			System.arraycopy(keys, index, keys, index + 1, size - index);
+			System.arraycopy(counts, index, counts, index + 1, size - index);
+			keys[index] = key;
+			counts[index] = count;
+			size++;
+			weight += count;
+		}
+
+		void offerAll(Tail other) {
+			for (int i = 0; i < other.size; i++) {
+				offer(other.sign * other.keys[i], other.counts[i]);
+			}
+		}
+
+		/**
+		 * @param populationCount is the total number of values
+		 * @return the number of values beyond the limit or -1 if the tail does not cover the limit
+		 */
+		long getCountBeyond(double limit, long populationCount) {
+			double key = sign * limit;
+			if (size == 0 || keys[size - 1] < key && weight < populationCount) return -1;
+
+			long countBeyond = 0;
+			for (int i = 0; i < size && keys[i] < key; i++) {
+				countBeyond += counts[i];
+			}
+			return countBeyond;
+		}
+
+		/**
+		 * @return the count, sum and sum of squares of the values beyond the limit
+		 */
+		double[] getMomentsBeyond(double limit) {
+			double key = sign * limit;
+			double[] moments = new double[3];
+			for (int i = 0; i < size && keys[i] < key; i++) {
+				double value = sign * keys[i];
+				moments[0] += counts[i];
+				moments[1] += counts[i] * value;
+				moments[2] += counts[i] * value * value;
+			}
+			return moments;
+		}
+
+		/**
+		 * @return the distinct values beyond the limit
+		 */
+		List<Double> getValuesBeyond(double limit) {
+			double key = sign * limit;
+			List<Double> values = new ArrayList<>();
+			for (int i = 0; i < size && keys[i] < key; i++) {
+				values.add(sign * keys[i]);
+			}
+			return values;
+		}
+
+		/**
+		 * @param rank is the 1-based position counted from the outmost value
+		 * @return the value or NaN if the rank is beyond the tail
+		 */
+		double getValueAtRank(long rank) {
+			long cumulativeCount = 0;
+			for (int i = 0; i < size; i++) {
+				cumulativeCount += counts[i];
+				if (rank <= cumulativeCount) return sign * keys[i];
+			}
+			return Double.NaN;
+		}
+
+		@Override
+		public String toString() {
+			return "size=" + size + ", weight=" + weight + (size > 0 ? ", outmost=" + sign * keys[0] : "");
+		}
+	}
+
+	private final Settings			settings;
+	private final boolean				isSample;
+	private final double				sigmaFactor;
+	private final double				outlierFactor;
+
+	private final QuantileSketch	sketch			= new QuantileSketch();
+	/** smallest values */
+	private final Tail						lowTail			= new Tail(true);
+	/** largest values */
+	private final Tail						highTail		= new Tail(false);
+	/** first values of the stream */
+	private final double[]				head				= new double[TAIL_SIZE];
+	private int										headSize		= 0;
+	/** last values of the stream as a ring buffer */
+	private final double[]				rear				= new double[TAIL_SIZE];
+	private long									rearCount		= 0;
+
+	private int										or					= 0;
+	private boolean								isIntegral	= true;
+	private double								avg					= 0;
+	private double								varTimesN		= 0;
+	private long									count				= 0;
+
+	private boolean								isEvaluated	= false;
+	private double								lowerLimit	= Double.NEGATIVE_INFINITY;
+	private double								upperLimit	= Double.POSITIVE_INFINITY;
+	private long									lowCastawaysCount;
+	private long									highCastawaysCount;
+	private final List<Double>		castaways		= new ArrayList<>();
+
+	/**
+	 * Used for channel item values during vault creation.
+	 * @param isSample true calculates the sample standard deviation
+	 * @param removeCastaways true removes castaways which lie beyond the outlier tolerance spread
+	 */
+	public StreamingQuantile(boolean isSample, boolean removeCastaways, Settings settings) {
+		this(isSample, ElementaryQuantile.INTER_QUARTILE_SIGMA_FACTOR, removeCastaways ? settings.getOutlierToleranceSpread() : 9999., settings);
+	}
+
+	/**
+	 * @param isSample true calculates the sample standard deviation
+	 * @param sigmaFactor specifies the confidence interval <em>CI = &plusmn; z * &sigma; with z >= 0</em>
+	 * @param outlierFactor specifies the outlier distance limit ODL from the confidence interval (<em>ODL = &rho; * CI with &rho; > 0</em>)
+	 */
+	public StreamingQuantile(boolean isSample, double sigmaFactor, double outlierFactor, Settings settings) {
+		this.settings = settings;
+		this.isSample = isSample;
+		this.sigmaFactor = sigmaFactor;
+		this.outlierFactor = outlierFactor;
+	}
+
+	/**
+	 * Add an integer value which also contributes to the bitwise or figure.
+	 */
+	@Override
+	public void accept(int value) {
+		or |= value;
+		add(value);
+	}
+
+	@Override
+	public void accept(double value) {
+		isIntegral = false;
+		add(value);
+	}
+
+	private void add(double value) {
+		if (isEvaluated) throw new IllegalStateException("already evaluated");
+
+		sketch.accept(value);
+		varTimesN += (value - avg) * (value - avg) * count / ++count; // pls note the counter increment
+		avg += (value - avg) / count;
+
+		if (headSize < TAIL_SIZE) head[headSize++] = value;
+		rear[(int) (rearCount++ % TAIL_SIZE)] = value;
+
+		lowTail.offer(value, 1);
+		highTail.offer(value, 1);
+	}
+
+	/**
+	 * Merge the other quantile which holds values following the values of this quantile.
+	 * Both quantiles must not be evaluated yet.
+	 */
+	public void combine(StreamingQuantile other) {
+		if (isEvaluated || other.isEvaluated) throw new IllegalStateException("already evaluated");
+		if (other.count == 0) return;
+
+		sketch.combine(other.sketch);
+		double tmpAvg = this.avg * count / (count + other.count) + other.avg * other.count / (count + other.count);
+		varTimesN += other.varTimesN + count * (avg - tmpAvg) * (avg - tmpAvg) + other.count * (other.avg - tmpAvg) * (other.avg - tmpAvg);
+		avg = tmpAvg;
+		count += other.count;
+		or |= other.or;
+		isIntegral &= other.isIntegral;
+
+		lowTail.offerAll(other.lowTail);
+		highTail.offerAll(other.highTail);
+		for (int i = 0; i < other.headSize && headSize < TAIL_SIZE; i++) {
+			head[headSize++] = other.head[i];
+		}
+		long otherRearStart = Math.max(0, other.rearCount - TAIL_SIZE);
+		for (long i = otherRearStart; i < other.rearCount; i++) {
+			rear[(int) (rearCount++ % TAIL_SIZE)] = other.rear[(int) (i % TAIL_SIZE)];
+		}
+	}
+
+	/**
+	 * Determine the lower outlier limit from the full population and the upper outlier limit from the population without the low castaways.
+	 * Remove the castaways.
+	 */
+	private void evaluate() {
+		if (isEvaluated) return;
+		if (count == 0) throw new IllegalArgumentException("empty population");
+
+		final double outlierProbability = (1 - ErrorFunction.getProbability(sigmaFactor)) / 2.;
+		double[] toleranceLowerUpper = getTrunkToleranceLowerUpper(sigmaFactor);
+		isEvaluated = true;
+		if (HistoSet.fuzzyEquals(toleranceLowerUpper[0], 0.) || HistoSet.fuzzyEquals(toleranceLowerUpper[1], 0.)) return;
+
+		double q1WithOutliers = getTrunkQuantile(outlierProbability);
+		lowerLimit = q1WithOutliers - toleranceLowerUpper[0] * 2. * outlierFactor;
+		long lowCount = getPopulationRankBelow(lowerLimit);
+		if (lowCount >= count) throw new UnsupportedOperationException("empty trunk");
+
+		// the upper limit is taken from the trunk without the low castaways like the UniversalQuantile does
+		lowCastawaysCount = lowCount;
+		double q3WithOutliers = getTrunkQuantile(1. - outlierProbability);
+		upperLimit = q3WithOutliers + toleranceLowerUpper[1] * 2. * outlierFactor;
+		long highCount = getPopulationRankAbove(upperLimit);
+		if (lowCount + highCount >= count) throw new UnsupportedOperationException("empty trunk");
+
+		castaways.addAll(lowTail.getValuesBeyond(lowerLimit));
+		castaways.addAll(highTail.getValuesBeyond(upperLimit));
+		boolean isLowExact = lowTail.getCountBeyond(lowerLimit, sketch.getCount()) >= 0;
+		boolean isHighExact = highTail.getCountBeyond(upperLimit, sketch.getCount()) >= 0;
+		if (lowCount > 0) remove(isLowExact ? lowTail.getMomentsBeyond(lowerLimit) : sketch.getMomentsBeyond(lowerLimit, true));
+		if (highCount > 0) remove(isHighExact ? highTail.getMomentsBeyond(upperLimit) : sketch.getMomentsBeyond(upperLimit, false));
+		highCastawaysCount = highCount;
+		if (!isLowExact || !isHighExact) {
+			log.fine(() -> String.format("castaways beyond the tail size: low=%d high=%d", lowCount, highCount));
+		}
+	}
+
+	/**
+	 * Reverse the running average and variance calculation for the castaways.
+	 * @param moments holds the count, sum and sum of squares
+	 */
+	private void remove(double[] moments) {
+		long newCount = count - Math.round(moments[0]);
+		if (newCount <= 1) return;
+		double sumOfSquares = varTimesN + count * avg * avg - moments[2];
+		avg = (avg * count - moments[1]) / newCount;
+		varTimesN = Math.max(0., sumOfSquares - newCount * avg * avg);
+		count = newCount;
+	}
+
+	/**
+	 * @return the number of population members less than the value (exact if the low tail covers the value)
+	 */
+	private long getPopulationRankBelow(double value) {
+		long rank = lowTail.getCountBeyond(value, sketch.getCount());
+		return rank >= 0 ? rank : Math.max(lowTail.weight, sketch.getRankBelow(value));
+	}
+
+	/**
+	 * @return the number of population members greater than the value (exact if the high tail covers the value)
+	 */
+	private long getPopulationRankAbove(double value) {
+		long rank = highTail.getCountBeyond(value, sketch.getCount());
+		return rank >= 0 ? rank : Math.max(highTail.weight, sketch.getRankAbove(value));
+	}
+
+	/**
+	 * @param index is the 0-based index of the sorted trunk
+	 * @return the trunk value which is exact for the indices within the tails
+	 */
+	private double getTrunkValue(long index) {
+		long populationRank = index + 1 + lowCastawaysCount; // 1-based
+		if (populationRank <= lowTail.weight) return lowTail.getValueAtRank(populationRank);
+		long rankFromTop = sketch.getCount() - populationRank + 1;
+		if (rankFromTop <= highTail.weight) return highTail.getValueAtRank(rankFromTop);
+		return sketch.getValueAtRank(populationRank);
+	}
+
+	/**
+	 * @return the number of trunk members less than the value
+	 */
+	private long getTrunkRankBelow(double value) {
+		return Math.max(0, getPopulationRankBelow(value) - lowCastawaysCount);
+	}
+
+	/**
+	 * @return the number of trunk members greater than the value
+	 */
+	private long getTrunkRankAbove(double value) {
+		return Math.max(0, getPopulationRankAbove(value) - highCastawaysCount);
+	}
+
+	/**
+	 * @return the trunk size which is the population size before the evaluation
+	 */
+	private long getTrunkSize() {
+		return sketch.getCount() - lowCastawaysCount - highCastawaysCount;
+	}
+
+	public int getOrFigure() {
+		evaluate();
+		return isIntegral ? or : 0;
+	}
+
+	public double getSumFigure() {
+		evaluate();
+		return avg * count;
+	}
+
+	public double getAvgFigure() {
+		evaluate();
+		return count > 0 ? avg : 0;
+	}
+
+	public double getSigmaFigure() {
+		evaluate();
+		return getSigma();
+	}
+
+	private double getSigma() {
+		if (isSample) {
+			return count > 1 ? Math.sqrt(varTimesN / (count - 1)) : 0;
+		} else {
+			return count > 0 ? Math.sqrt(varTimesN / count) : 0;
+		}
+	}
+
+	/**
+	 * The sample quantile is calculated according to R-6, SAS-4, SciPy-(0,0), Maple-5 which is piecewise linear and symmetric.
+	 * @param probabilityCutPoint as value between 0 and 1
+	 * @return the quantile for the population or for a sample
+	 */
+	public double getQuantile(double probabilityCutPoint) {
+		evaluate();
+		return getTrunkQuantile(probabilityCutPoint);
+	}
+
+	private double getTrunkQuantile(double probabilityCutPoint) {
+		long pSize = getTrunkSize();
+		if (pSize > 0) {
+			if (isSample) {
+				if (probabilityCutPoint >= 1. / (pSize + 1) && probabilityCutPoint < (double) pSize / (pSize + 1)) {
+					double position = (pSize + 1) * probabilityCutPoint;
+					double lowerValue = getTrunkValue((long) position - 1);
+					return lowerValue + (position - (long) position) * (getTrunkValue((long) position) - lowerValue);
+				} else if (probabilityCutPoint < 1. / (pSize + 1))
+					return getTrunkValue(0);
+				else
+					return getTrunkValue(pSize - 1);
+			} else {
+				if (probabilityCutPoint > 0. && probabilityCutPoint < 1.) {
+					double position = pSize * probabilityCutPoint;
+					if (position % 2 == 0)
+						return (getTrunkValue((long) position) + getTrunkValue(Math.min((long) position + 1, pSize - 1))) / 2.;
+					else
+						return getTrunkValue((long) position);
+				} else if (probabilityCutPoint == 0.)
+					return getTrunkValue(0);
+				else
+					return getTrunkValue(pSize - 1);
+			}
+		}
+		return 1.0;
+	}
+
+	public double getQuartile0() {
+		evaluate();
+		return getTrunkValue(0);
+	}
+
+	public double getQuartile1() {
+		evaluate();
+		return getQuantile(.25);
+	}
+
+	public double getQuartile2() {
+		evaluate();
+		return getQuantile(.5);
+	}
+
+	public double getQuartile3() {
+		evaluate();
+		return getQuantile(.75);
+	}
+
+	public double getQuartile4() {
+		evaluate();
+		return getTrunkValue(getTrunkSize() - 1);
+	}
+
+	/**
+	 * @return the interquantile ranges or equivalent intervals based on a normal distribution
+	 */
+	public double[] getQuantileToleranceLowerUpper(@SuppressWarnings("hiding") double sigmaFactor) {
+		evaluate();
+		return getTrunkToleranceLowerUpper(sigmaFactor);
+	}
+
+	private double[] getTrunkToleranceLowerUpper(@SuppressWarnings("hiding") double sigmaFactor) {
+		final double outlierProbability1 = (1 - ErrorFunction.getProbability(sigmaFactor)) / 2.;
+		final double q1 = getTrunkQuantile(outlierProbability1);
+		final double q2 = getTrunkQuantile(.5);
+		final double q3 = getTrunkQuantile(1. - outlierProbability1);
+		if (settings.isCanonicalQuantiles()) {
+			double halfTolerance = (q3 - q1) / 2.;
+			return new double[] { halfTolerance, halfTolerance };
+		} else if (settings.isSymmetricToleranceInterval()) {
+			if (HistoSet.fuzzyEquals(q3 - q1, 0.)
+					// next line for keeping all event values
+					&& !HistoSet.fuzzyEquals(q3, 0.) && !HistoSet.fuzzyEquals(q1, 0.)) {
+				// take the more expensive avg +- sigma solution
+				double halfTolerance = getSigma() * sigmaFactor;
+				return new double[] { halfTolerance, halfTolerance };
+			} else {
+				double halfTolerance = (q3 - q1) / 2.;
+				return new double[] { halfTolerance, halfTolerance };
+			}
+		} else {
+			if ((HistoSet.fuzzyEquals(q3 - q1, 0.) || HistoSet.fuzzyEquals(q2 - q1, 0.) || HistoSet.fuzzyEquals(q3 - q2, 0.))
+					// next line for keeping all event values
+					&& !HistoSet.fuzzyEquals(q3, 0.) && !HistoSet.fuzzyEquals(q1, 0.)) {
+				double halfTolerance = getSigma() * sigmaFactor;
+				return new double[] { halfTolerance, halfTolerance };
+			} else {
+				return new double[] { q2 - q1, q3 - q2 };
+			}
+		}
+	}
+
+	/**
+	 * @return the interquartile ranges or equivalent intervals based on a normal distribution
+	 */
+	public double[] getQuartileToleranceLowerUpper() {
+		evaluate();
+		return getQuantileToleranceLowerUpper(ElementaryQuantile.INTER_QUARTILE_SIGMA_FACTOR);
+	}
+
+	/**
+	 * @param outlierFactor defines the positive or negative range starting at the Tolerance Interval (TI)
+	 * @return the outmost range value based on the population reduced by castaways and outliers
+	 */
+	public double getExtremumFromRange(@SuppressWarnings("hiding") double sigmaFactor, @SuppressWarnings("hiding") double outlierFactor) {
+		evaluate();
+		if (outlierFactor == 0.) {
+			throw new IllegalArgumentException();
+		} else {
+			double[] toleranceLowerUpper = getQuantileToleranceLowerUpper(sigmaFactor);
+			if (HistoSet.fuzzyEquals(toleranceLowerUpper[0] + toleranceLowerUpper[1], 0.)) {
+				return getQuartile2();
+			} else if (outlierFactor < 0) {
+				double minLimit = getQuartile1() + outlierFactor * 2. * toleranceLowerUpper[0];
+				long index = getTrunkRankBelow(minLimit);
+				if (index >= getTrunkSize()) throw new UnsupportedOperationException("outlier factor < 0");
+				return getTrunkValue(index);
+			} else {
+				double maxLimit = getQuartile3() + outlierFactor * 2. * toleranceLowerUpper[1];
+				long index = getTrunkSize() - 1 - getTrunkRankAbove(maxLimit);
+				if (index < 0) throw new UnsupportedOperationException();
+				return getTrunkValue(index);
+			}
+		}
+	}
+
+	public double getQuantileLowerWhisker() {
+		evaluate();
+		final double probabilityCutPoint = .25;
+		final double whiskerStartValue = getQuantile(probabilityCutPoint);
+		final double whiskerLimitValue = whiskerStartValue - getQuartileToleranceLowerUpper()[0] * 2. * 1.5;
+		long size = getTrunkSize();
+		long index = getTrunkRankBelow(whiskerLimitValue); // first trunk member within the whisker limit
+		if (index < size * probabilityCutPoint) {
+			// get the corrected value which is crucial for samples
+			double value = getQuantile((.5 + index) / size); // add .5 due to zerobased index and rule 0<p<1 which implies an index average value
+			// take the whisker limit value if the interpolation / estimation value is beyond the limit
+			return value < whiskerLimitValue ? whiskerLimitValue : value;
+		}
+		return whiskerStartValue;
+	}
+
+	public double getQuantileUpperWhisker() {
+		evaluate();
+		final double probabilityCutPoint = .75;
+		final double whiskerStartValue = getQuantile(probabilityCutPoint);
+		final double whiskerLimitValue = whiskerStartValue + getQuartileToleranceLowerUpper()[1] * 2. * 1.5;
+		long size = getTrunkSize();
+		long index = size - 1 - getTrunkRankAbove(whiskerLimitValue); // last trunk member within the whisker limit
+		if (index >= size * probabilityCutPoint) {
+			// get the corrected value which is crucial for samples
+			double value = getQuantile((.5 + index) / size); // add .5 due to zerobased index and rule 0<p<1 which implies an index average value
+			// take the whisker limit value if the interpolation / estimation value is beyond the limit
+			return value > whiskerLimitValue ? whiskerLimitValue : value;
+		}
+		return whiskerStartValue;
+	}
+
+	public double[] getTukeyBoxPlot() {
+		double[] values = new double[7];
+		values[QUARTILE0.ordinal()] = getQuartile0();
+		values[LOWER_WHISKER.ordinal()] = getQuantileLowerWhisker();
+		values[QUARTILE1.ordinal()] = getQuartile1();
+		values[QUARTILE2.ordinal()] = getQuartile2();
+		values[QUARTILE3.ordinal()] = getQuartile3();
+		values[UPPER_WHISKER.ordinal()] = getQuantileUpperWhisker();
+		values[QUARTILE4.ordinal()] = getQuartile4();
+		return values;
+	}
+
+	public double[] getTukeyWithQuartileTolerances() {
+		double[] values = new double[9];
+		values[QUARTILE0.ordinal()] = getQuartile0();
+		values[LOWER_WHISKER.ordinal()] = getQuantileLowerWhisker();
+		values[QUARTILE1.ordinal()] = getQuartile1();
+		values[QUARTILE2.ordinal()] = getQuartile2();
+		values[QUARTILE3.ordinal()] = getQuartile3();
+		values[UPPER_WHISKER.ordinal()] = getQuantileUpperWhisker();
+		values[QUARTILE4.ordinal()] = getQuartile4();
+		double[] toleranceInterval = getQuartileToleranceLowerUpper();
+		values[LQT.ordinal()] = toleranceInterval[0];
+		values[UQT.ordinal()] = toleranceInterval[1];
+		return values;
+	}
+
+	/**
+	 * @return the value of the maximum element before removing the outliers
+	 */
+	public double getPopulationMaxFigure() {
+		return sketch.getMax();
+	}
+
+	/**
+	 * @return the value of the minimum element before removing the outliers
+	 */
+	public double getPopulationMinFigure() {
+		return sketch.getMin();
+	}
+
+	/**
+	 * @return the distinct outlier values based on the sigmaFactor and the outlierFactor (at most {@code TAIL_SIZE} per side)
+	 */
+	public List<Double> getOutliers() {
+		evaluate();
+		return Collections.unmodifiableList(castaways);
+	}
+
+	public String getOutliersCsv() {
+		return getOutliers().stream().map(String::valueOf).collect(Collectors.joining(GDE.STRING_CSV_SEPARATOR));
+	}
+
+	/**
+	 * @return an empty list as constant outliers are not detected
+	 */
+	public List<Double> getConstantScraps() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * @return the value of the first element after removing the outliers
+	 */
+	public double getFirstFigure() {
+		evaluate();
+		for (int i = 0; i < headSize; i++) {
+			if (head[i] >= lowerLimit && head[i] <= upperLimit) return head[i];
+		}
+		return getQuartile2(); // all leading values are outliers
+	}
+
+	/**
+	 * @return the value of the last element after removing the outliers
+	 */
+	public double getLastFigure() {
+		evaluate();
+		int rearSize = (int) Math.min(rearCount, TAIL_SIZE);
+		for (int i = 1; i <= rearSize; i++) {
+			double value = rear[(int) ((rearCount - i) % TAIL_SIZE)];
+			if (value >= lowerLimit && value <= upperLimit) return value;
+		}
+		return getQuartile2(); // all trailing values are outliers
+	}
+
+	/**
+	 * @return the population size after removing outliers
+	 */
+	public int getSize() {
+		evaluate();
+		return (int) getTrunkSize();
+	}
+
+	@Override
+	public String toString() {
+		return "isSample=" + isSample + ", size=" + getSize() + ", castawaysSize=" + (lowCastawaysCount + highCastawaysCount) //
+				+ ", sumFigure=" + getSumFigure() + ", avgFigure=" + getAvgFigure() + ", sigmaFigure=" + getSigmaFigure() + ", sketch=" + sketch //
+				+ ", lowTail=" + lowTail + ", highTail=" + highTail + "";
+	}
+
+}
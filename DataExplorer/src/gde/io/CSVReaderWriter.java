@@ -221,9 +221,8 @@ public class CSVReaderWriter {
 	 * @throws DataTypeException
 	 */
 	public static RecordSet read(char separator, String filePath, String recordSetNameExtend, boolean isRaw) throws NotSupportedFileFormatException, MissMatchDeviceException, IOException, DataInconsitsentException, DataTypeException {
-		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
-		BufferedReader reader; // to read the data
+		CSVTokenizer tokenizer; // to read the data
 		IDevice device = application.getActiveDevice();
 		Channel activeChannel = null;
 
@@ -249,8 +248,8 @@ public class CSVReaderWriter {
 				}
 				log.log(Level.FINE, "device name check ok, channel/configuration ok"); //$NON-NLS-1$
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				while (!(((line = reader.readLine())!= null) && line.contains("[") && line.contains("]"))) {
+				tokenizer = new CSVTokenizer(new FileInputStream(filePath), separator);
+				while (tokenizer.nextLine() && !(tokenizer.getLine().contains("[") && tokenizer.getLine().contains("]"))) {
 					// read until Zeit [sec];Spannung [---];Höhe [---]
 					// 						Zeit [s];Spannung [V];Strom [A];Ladung [mAh];Leistung [W];Energie [Wh]
 				}
@@ -303,21 +302,22 @@ public class CSVReaderWriter {
 				// now get all data   0; 14,780;  0,598;  1,000;  8,838;  0,002
 				String[] updateRecordNames = isRaw ? recordSet.getNoneCalculationRecordNames() : recordNames;
 				int[] points = new int[updateRecordNames.length];
-				while ((line = reader.readLine()) != null) {
-					String[] dataStr = line.split(GDE.STRING_EMPTY + separator);
-					String data = dataStr[0].trim().replace(',', '.');
-					if (data.contains(GDE.STRING_BLANK)) { //absolute time YYYY-MM-DD HH:mm:ss:SSS
+				while (tokenizer.nextLine()) {
+					int timeLength = tokenizer.getLength(0);
+					int blankIndex = tokenizer.indexOf(0, GDE.CHAR_BLANK);
+					int decimalIndex = tokenizer.lastIndexOfDecimalSeparator(0);
+					if (blankIndex >= 0) { //absolute time YYYY-MM-DD HH:mm:ss:SSS
 						if (date == null) {
-							year = Integer.parseInt(data.substring(0,4));
-							month = Integer.parseInt(data.substring(5, 7));
-							day = Integer.parseInt(data.substring(8, 10));
+							year = tokenizer.parseInt(0, 0, 4);
+							month = tokenizer.parseInt(0, 5, 2);
+							day = tokenizer.parseInt(0, 8, 2);
 						}
-						data = data.split(GDE.STRING_BLANK)[1];
-						int hour = Integer.parseInt(data.substring(0, 2));
-						int minute = Integer.parseInt(data.substring(3, 5));
-						int second = Integer.parseInt(data.substring(6, 8));
+						int timeIndex = blankIndex + 1;
+						int hour = tokenizer.parseInt(0, timeIndex, 2);
+						int minute = tokenizer.parseInt(0, timeIndex + 3, 2);
+						int second = tokenizer.parseInt(0, timeIndex + 6, 2);
 						GregorianCalendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute, second);
-						long timeStamp = calendar.getTimeInMillis() + (data.contains(GDE.STRING_DOT) ? Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1)) : 0);
+						long timeStamp = calendar.getTimeInMillis() + (decimalIndex > timeIndex ? tokenizer.parseInt(0, decimalIndex + 1, timeLength - decimalIndex - 1) : 0);
 
 						if (lastTimeStamp < timeStamp) {
 							time_ms = lastTimeStamp == 0 ? 0 : time_ms + (timeStamp - lastTimeStamp);
@@ -330,21 +330,20 @@ public class CSVReaderWriter {
 					}
 					else { // relative time HH:mm:ss:SSS
 						if (startTimeStamp == 0) startTimeStamp = new Date().getTime();
-						if (data.length() == 9) { //00:00.000
-							int minute = Integer.parseInt(data.substring(0, 2));
-							int second = Integer.parseInt(data.substring(3, 5));
-							time_ms = minute*60*1000 + second*1000 + Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1));
+						if (timeLength == 9) { //00:00.000
+							int minute = tokenizer.parseInt(0, 0, 2);
+							int second = tokenizer.parseInt(0, 3, 2);
+							time_ms = minute*60*1000 + second*1000 + tokenizer.parseInt(0, decimalIndex + 1, timeLength - decimalIndex - 1);
 						}
-						else if (data.length() == 12) { //00:00:00.000)
-							int hour = Integer.parseInt(data.substring(0, 2));
-							int minute = Integer.parseInt(data.substring(3, 5));
-							int second = Integer.parseInt(data.substring(6, 8));
-							time_ms = hour*60*60*1000 + minute*60*1000 + second*1000 + Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1));
+						else if (timeLength == 12) { //00:00:00.000)
+							int hour = tokenizer.parseInt(0, 0, 2);
+							int minute = tokenizer.parseInt(0, 3, 2);
+							int second = tokenizer.parseInt(0, 6, 2);
+							time_ms = hour*60*60*1000 + minute*60*1000 + second*1000 + tokenizer.parseInt(0, decimalIndex + 1, timeLength - decimalIndex - 1);
 						}
 					}
 					for (int i = 0; i < updateRecordNames.length; i++) { // only iterate over record names found in file
-						data = dataStr[i + 1].trim().replace(',', '.').replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
-						points[i] = (int) (Double.valueOf(data).doubleValue() * 1000);
+						points[i] = tokenizer.parseFixedPoint(i + 1);
 					}
 					if (isRaw) 	recordSet.addNoneCalculationRecordsPoints(points, time_ms);
 					else 				recordSet.addPoints(points, time_ms);
@@ -362,8 +361,8 @@ public class CSVReaderWriter {
 					application.updateAllTabs(true, true);
 				}
 
-				reader.close();
-				reader = null;
+				tokenizer.close();
+				tokenizer = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
@@ -0,0 +1,437 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Byte level CSV line tokenizer for ISO-8859-1 encoded data files.
+ * The fields of the current line are kept as trimmed index ranges of the read buffer, thus reading data lines does not create any String.
+ * The field split follows {@code line.split(separator)} which includes dropping trailing empty fields.
+ * Numbers are parsed directly from the buffer with the same result as {@code Double.parseDouble} after replacing the decimal comma and removing blanks.
+ * @author agent
+ */
+public final class CSVTokenizer implements Closeable {
+
+	/**
+	 * factor of the fixed point int values which are stored in the record points
+	 */
+	public static final double	FIXED_POINT_FACTOR	= 1000.0;
+
+	private static final int		BUFFER_SIZE					= 1 << 16;
+	private static final long		MAX_EXACT_MANTISSA	= 1L << 53;
+	private static final double[]	POWERS_OF_TEN			= new double[23];																	// exactly representable powers of ten
+	static {
+		POWERS_OF_TEN[0] = 1.;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.;
+		}
+	}
+
+	private final InputStream		inputStream;
+	private final byte					separator;
+	private final boolean				isBlankSeparator;
+
+	private byte[]							buffer							= new byte[BUFFER_SIZE];
+	private int									bufferEnd						= 0;																				// number of valid bytes in the buffer
+	private int									position						= 0;																				// start of the next line
+	private boolean							isEndOfStream				= false;
+	private long								bytesConsumed				= 0;																				// bytes of the lines before the current buffer start
+
+	private int									lineStart						= 0;
+	private int									lineEnd							= 0;
+	private int[]								fieldStarts					= new int[64];
+	private int[]								fieldEnds						= new int[64];
+	private int									fieldCount					= 0;
+
+	/**
+	 * @param newInputStream is closed together with the tokenizer
+	 * @param newSeparator is the field separator
+	 */
+	public CSVTokenizer(InputStream newInputStream, char newSeparator) {
+		this(newInputStream, newSeparator, false);
+	}
+
+	/**
+	 * @param newInputStream is closed together with the tokenizer
+	 * @param newSeparator is the field separator
+	 * @param isBlankAlsoSeparator true splits the fields at each blank as well (same as {@code line.split(" |" + separator)})
+	 */
+	public CSVTokenizer(InputStream newInputStream, char newSeparator, boolean isBlankAlsoSeparator) {
+		this.inputStream = newInputStream;
+		this.separator = (byte) newSeparator;
+		this.isBlankSeparator = isBlankAlsoSeparator;
+	}
+
+	/**
+	 * Read the next line and split it into fields.
+	 * Line terminators are LF, CR or CR LF (same as {@code BufferedReader.readLine}).
+	 * @return false if the end of the stream is reached
+	 */
+	public boolean nextLine() throws IOException {
+		int index = this.position;
+		while (true) {
+			while (index < this.bufferEnd) {
+				byte b = this.buffer[index];
+				if (b == '\n' || b == '\r') {
+					if (b == '\r' && index + 1 >= this.bufferEnd && !this.isEndOfStream) break; // check for LF in the next buffer fill
+					this.lineStart = this.position;
+					this.lineEnd = index;
+					this.position = b == '\r' && index + 1 < this.bufferEnd && this.buffer[index + 1] == '\n' ? index + 2 : index + 1;
+					split();
+					return true;
+				}
+				++index;
+			}
+			if (this.isEndOfStream) {
+				if (this.position >= this.bufferEnd) {
+					this.fieldCount = 0;
+					return false;
+				}
+				this.lineStart = this.position;
+				this.lineEnd = this.bufferEnd;
+				this.position = this.bufferEnd;
+				split();
+				return true;
+			}
+			index -= fill();
+		}
+	}
+
+	/**
+	 * move the unread bytes to the buffer start and read more bytes
+	 * @return the number of bytes the unread bytes were shifted
+	 */
+	private int fill() throws IOException {
+		int shift = this.position;
+		int remaining = this.bufferEnd - this.position;
+		if (shift > 0) {
+			System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+			this.bytesConsumed += shift;
+		} else if (remaining == this.buffer.length) { // line is longer than the buffer
+			byte[] newBuffer = new byte[this.buffer.length * 2];
+			System.arraycopy(this.buffer, 0, newBuffer, 0, remaining);
+			this.buffer = newBuffer;
+		}
+		this.position = 0;
+		this.bufferEnd = remaining;
+		int readBytes = this.inputStream.read(this.buffer, this.bufferEnd, this.buffer.length - this.bufferEnd);
+		if (readBytes < 0)
+			this.isEndOfStream = true;
+		else
+			this.bufferEnd += readBytes;
+		return shift;
+	}
+
+	private void split() {
+		this.fieldCount = 0;
+		int start = this.lineStart;
+		for (int i = this.lineStart; i <= this.lineEnd; i++) {
+			if (i == this.lineEnd || this.buffer[i] == this.separator || this.isBlankSeparator && this.buffer[i] == ' ') {
+				addField(start, i);
+				start = i + 1;
+			}
+		}
+		// String.split drops trailing empty fields, a line without separator remains as one field
+		if (this.fieldCount == 1) return;
+		while (this.fieldCount > 0 && this.fieldStarts[this.fieldCount - 1] == this.fieldEnds[this.fieldCount - 1] && isRawEmpty(this.fieldCount - 1)) {
+			--this.fieldCount;
+		}
+	}
+
+	private boolean isRawEmpty(int field) {
+		int start = this.fieldStarts[field];
+		return (start == this.lineStart || isFieldSeparator(this.buffer[start - 1])) && (start == this.lineEnd || isFieldSeparator(this.buffer[start]));
+	}
+
+	private boolean isFieldSeparator(byte b) {
+		return b == this.separator || this.isBlankSeparator && b == ' ';
+	}
+
+	private void addField(int start, int end) {
+		if (this.fieldCount == this.fieldStarts.length) {
+			this.fieldStarts = java.util.Arrays.copyOf(this.fieldStarts, this.fieldCount * 2);
+			this.fieldEnds = java.util.Arrays.copyOf(this.fieldEnds, this.fieldCount * 2);
+		}
+		while (start < end && (this.buffer[start] & 0xFF) <= ' ')
+			++start;
+		while (end > start && (this.buffer[end - 1] & 0xFF) <= ' ')
+			--end;
+		this.fieldStarts[this.fieldCount] = start;
+		this.fieldEnds[this.fieldCount] = end;
+		++this.fieldCount;
+	}
+
+	/**
+	 * @return the number of fields of the current line
+	 */
+	public int getFieldCount() {
+		return this.fieldCount;
+	}
+
+	/**
+	 * @return the number of bytes of the current line without line terminator
+	 */
+	public int getLineLength() {
+		return this.lineEnd - this.lineStart;
+	}
+
+	/**
+	 * @return the number of bytes read up to the end of the current line which supports progress calculation
+	 */
+	public long getBytePosition() {
+		return this.bytesConsumed + this.position;
+	}
+
+	/**
+	 * @return true if the current line starts with the character
+	 */
+	public boolean startsWith(char c) {
+		return this.lineEnd > this.lineStart && this.buffer[this.lineStart] == (byte) c;
+	}
+
+	/**
+	 * @return true if the current line starts with the string
+	 */
+	public boolean startsWith(String prefix) {
+		if (prefix.length() > this.lineEnd - this.lineStart) return false;
+		for (int i = 0; i < prefix.length(); i++) {
+			if (this.buffer[this.lineStart + i] != (byte) prefix.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the current line as string, use for header lines and error messages only
+	 */
+	public String getLine() {
+		return new String(this.buffer, this.lineStart, this.lineEnd - this.lineStart, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * @return the trimmed field as string, use for non numeric fields only
+	 */
+	public String getString(int field) {
+		checkField(field);
+		return new String(this.buffer, this.fieldStarts[field], this.fieldEnds[field] - this.fieldStarts[field], StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * @return the length of the trimmed field
+	 */
+	public int getLength(int field) {
+		checkField(field);
+		return this.fieldEnds[field] - this.fieldStarts[field];
+	}
+
+	/**
+	 * @return true if the trimmed field is empty
+	 */
+	public boolean isEmpty(int field) {
+		return getLength(field) == 0;
+	}
+
+	/**
+	 * @return the character at the index of the trimmed field
+	 */
+	public char charAt(int field, int index) {
+		checkField(field);
+		if (index < 0 || index >= this.fieldEnds[field] - this.fieldStarts[field]) throw new StringIndexOutOfBoundsException(index);
+		return (char) (this.buffer[this.fieldStarts[field] + index] & 0xFF);
+	}
+
+	/**
+	 * @return the index of the first occurrence of the character within the trimmed field or -1
+	 */
+	public int indexOf(int field, char c) {
+		checkField(field);
+		for (int i = this.fieldStarts[field]; i < this.fieldEnds[field]; i++) {
+			if (this.buffer[i] == (byte) c) return i - this.fieldStarts[field];
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the index of the last occurrence of the character within the trimmed field or -1
+	 */
+	public int lastIndexOf(int field, char c) {
+		checkField(field);
+		for (int i = this.fieldEnds[field] - 1; i >= this.fieldStarts[field]; i--) {
+			if (this.buffer[i] == (byte) c) return i - this.fieldStarts[field];
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the index of the last decimal point or decimal comma within the trimmed field or -1
+	 */
+	public int lastIndexOfDecimalSeparator(int field) {
+		return Math.max(lastIndexOf(field, '.'), lastIndexOf(field, ','));
+	}
+
+	/**
+	 * @param field
+	 * @param index is the start index within the trimmed field
+	 * @param length is the number of characters
+	 * @return the integer value of the characters (same as {@code Integer.parseInt(data.substring(index, index + length))})
+	 */
+	public int parseInt(int field, int index, int length) {
+		checkField(field);
+		int start = this.fieldStarts[field] + index;
+		int end = start + length;
+		if (index < 0 || length <= 0 || end > this.fieldEnds[field]) throw new NumberFormatException(getString(field));
+		boolean isNegative = false;
+		if (this.buffer[start] == '-' || this.buffer[start] == '+') {
+			isNegative = this.buffer[start] == '-';
+			if (++start == end) throw new NumberFormatException(getString(field));
+		}
+		long value = 0;
+		for (int i = start; i < end; i++) {
+			int digit = this.buffer[i] - '0';
+			if (digit < 0 || digit > 9) throw new NumberFormatException(getString(field));
+			value = value * 10 + digit;
+			if (value > Integer.MAX_VALUE + 1L) throw new NumberFormatException(getString(field));
+		}
+		value = isNegative ? -value : value;
+		if (value > Integer.MAX_VALUE) throw new NumberFormatException(getString(field));
+		return (int) value;
+	}
+
+	/**
+	 * @return the integer value of the trimmed field (same as {@code Integer.parseInt(data)})
+	 */
+	public int parseInt(int field) {
+		return parseInt(field, 0, getLength(field));
+	}
+
+	/**
+	 * @param field
+	 * @param isDecimalPointIgnored true skips decimal points, e.g. for fixed point values written with decimal point
+	 * @return the long value of the trimmed field (same as {@code Long.parseLong(data)} or {@code Long.parseLong(data.replace(".", ""))})
+	 */
+	public long parseLong(int field, boolean isDecimalPointIgnored) {
+		checkField(field);
+		int start = this.fieldStarts[field];
+		final int end = this.fieldEnds[field];
+		boolean isNegative = false;
+		if (start < end && (this.buffer[start] == '-' || this.buffer[start] == '+')) {
+			isNegative = this.buffer[start] == '-';
+			++start;
+		}
+		// accumulate negative to cover Long.MIN_VALUE, same as Long.parseLong
+		final long limit = isNegative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		final long limitBeforeMultiply = limit / 10;
+		long value = 0;
+		int digits = 0;
+		for (int i = start; i < end; i++) {
+			int digit = this.buffer[i] - '0';
+			if (digit < 0 || digit > 9) {
+				if (isDecimalPointIgnored && this.buffer[i] == '.') continue;
+				throw new NumberFormatException(getString(field));
+			}
+			if (value < limitBeforeMultiply) throw new NumberFormatException(getString(field));
+			value *= 10;
+			if (value < limit + digit) throw new NumberFormatException(getString(field));
+			value -= digit;
+			++digits;
+		}
+		if (digits == 0) throw new NumberFormatException(getString(field));
+		return isNegative ? value : -value;
+	}
+
+	/**
+	 * @return true if the trimmed field is equal to the value
+	 */
+	public boolean isEqual(int field, String value) {
+		checkField(field);
+		if (value.length() != this.fieldEnds[field] - this.fieldStarts[field]) return false;
+		for (int i = 0; i < value.length(); i++) {
+			if (this.buffer[this.fieldStarts[field] + i] != (byte) value.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Parse a decimal number with a decimal point or comma, blanks within the number are ignored.
+	 * Numbers with up to 15 significant digits are converted without any string, all others (e.g. with exponent) use {@code Double.parseDouble}.
+	 * @return the value which is identical to {@code Double.parseDouble(data.replace(',', '.').replace(" ", ""))}
+	 * @throws NumberFormatException if the field does not hold a number
+	 */
+	public double parseDouble(int field) {
+		checkField(field);
+		final int start = this.fieldStarts[field];
+		final int end = this.fieldEnds[field];
+		int i = start;
+		boolean isNegative = false;
+		if (i < end && (this.buffer[i] == '-' || this.buffer[i] == '+')) {
+			isNegative = this.buffer[i] == '-';
+			++i;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int fractionDigits = 0;
+		boolean isFraction = false;
+		for (; i < end; i++) {
+			byte b = this.buffer[i];
+			if (b >= '0' && b <= '9') {
+				mantissa = mantissa * 10 + (b - '0');
+				++digits;
+				if (isFraction) ++fractionDigits;
+				if (mantissa > MAX_EXACT_MANTISSA) return parseDoubleSlow(field);
+			} else if ((b == '.' || b == ',') && !isFraction) {
+				isFraction = true;
+			} else if (b != ' ') {
+				return parseDoubleSlow(field); // exponent, NaN, Infinity or no number at all
+			}
+		}
+		if (digits == 0 || fractionDigits >= POWERS_OF_TEN.length) return parseDoubleSlow(field);
+		// mantissa and power of ten are exact doubles, thus the division is rounded correctly (same as Double.parseDouble)
+		double value = fractionDigits == 0 ? (double) mantissa : mantissa / POWERS_OF_TEN[fractionDigits];
+		return isNegative ? -value : value;
+	}
+
+	private double parseDoubleSlow(int field) {
+		StringBuilder sb = new StringBuilder(getLength(field));
+		for (int i = this.fieldStarts[field]; i < this.fieldEnds[field]; i++) {
+			char c = (char) (this.buffer[i] & 0xFF);
+			if (c != ' ') sb.append(c == ',' ? '.' : c);
+		}
+		return Double.parseDouble(sb.toString());
+	}
+
+	/**
+	 * @return the fixed point value of the record points (same as {@code (int) (Double.parseDouble(data) * 1000.0)})
+	 * @throws NumberFormatException if the field does not hold a number
+	 */
+	public int parseFixedPoint(int field) {
+		return (int) (parseDouble(field) * FIXED_POINT_FACTOR);
+	}
+
+	private void checkField(int field) {
+		if (field < 0 || field >= this.fieldCount) throw new ArrayIndexOutOfBoundsException(field);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.inputStream.close();
+	}
+}
@@ -427,8 +427,9 @@ public class FileHandler {
 			try {
 				this.application.enableMenuActions(false);
 				this.application.setCursor(SWTResourceManager.getCursor(SWT.CURSOR_WAIT));
+				activeChannel.checkAndLoadData(true); // released record sets and lazy points may be read from the file which gets renamed
 				FileUtils.renameFile(osdFilePath, GDE.FILE_ENDING_BAK); // rename existing file to *.bak
-				OsdReaderWriter.write(osdFilePath, activeChannel, GDE.DATA_EXPLORER_FILE_VERSION_INT);
+				OsdReaderWriter.write(osdFilePath, activeChannel, this.settings.getOsdFileVersion());
 				activeChannel.setFileName(osdFilePath.replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX));
 				activeChannel.setSaved(true);
 			}
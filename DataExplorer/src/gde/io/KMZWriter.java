@@ -29,7 +29,6 @@ import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
-import java.util.Vector;
 import java.util.logging.Logger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -366,7 +365,7 @@ public class KMZWriter {
 			String altitudeMode = isClampToGround ? ALTITUDE_CLAMP2GROUNDE : isAltRelative ? ALTITUDE_RELATIVE2GROUND : ALTITUDE_ABSOLUTE;
 
 			Record recordTripLength = ordinalTripLength < 0 ? null : recordSet.get(ordinalTripLength);
-			Vector<Integer> recordAzimuth;
+			List<Integer> recordAzimuth;
 			try {
 				if (ordinalTrackDirection >= 0)
 					recordAzimuth = recordSet.get(ordinalTrackDirection);
@@ -320,6 +320,7 @@ public class LogViewReader {
 					device.addConvertedLovDataBufferAsRawDataPoints(recordSet, buffer, recordDataSize, GDE.isWithUi());
 					log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - startTime)));
 					device.updateVisibilityStatus(recordSet, true);
+					channel.checkRecordSetMemoryBudget(recordSet);
 					if (application.getMenuToolBar() != null) {
 						channel.applyTemplate(recordSet.getName(), true);
 					}
@@ -0,0 +1,252 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import gde.GDE;
+import gde.data.PointStore;
+
+/**
+ * Compressed column block of the OSD columnar file format (version 5).
+ * A column holds the time stamps or the points of one record, each value is stored as zig-zag encoded delta to its predecessor in varint format.
+ * The directory entry of a column holds the block position relative to the data section start, the block length and the min/max values with their indices.
+ * A column read from file may stay on disk and act as lazy loader of the record points.
+ * @author agent
+ */
+public final class OsdColumn implements PointStore.Loader {
+
+	static final int				DIRECTORY_ENTRY_BYTES	= 6 * 4;
+
+	private final int				offset;
+	private final int				length;
+	private final int				pointsSize;
+	private final int				minValue;
+	private final int				maxValue;
+	private final int				minValueIndex;
+	private final int				maxValueIndex;
+
+	private String					filePath;														// lazy load source, null if the block is in memory
+	private long						blockFilePointer;
+	private long						fileLength;													// file state when the directory was read
+	private long						fileLastModified;
+	private ByteBuffer			block;
+	private int							previousValue					= 0;
+
+	private OsdColumn(int offset, int length, int pointsSize, int minValue, int maxValue, int minValueIndex, int maxValueIndex) {
+		this.offset = offset;
+		this.length = length;
+		this.pointsSize = pointsSize;
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+		this.minValueIndex = minValueIndex;
+		this.maxValueIndex = maxValueIndex;
+	}
+
+	/**
+	 * read a directory entry
+	 * @param data_in
+	 * @param pointsSize number of values of the column
+	 * @return the column without block data
+	 * @throws IOException
+	 */
+	static OsdColumn readDirectoryEntry(DataInput data_in, int pointsSize) throws IOException {
+		return new OsdColumn(data_in.readInt(), data_in.readInt(), pointsSize, data_in.readInt(), data_in.readInt(), data_in.readInt(), data_in.readInt());
+	}
+
+	/**
+	 * assign the block read into memory
+	 * @param blockBytes holds the block at the column offset relative to the section start
+	 */
+	void setBlock(byte[] blockBytes) {
+		this.block = ByteBuffer.wrap(blockBytes, this.offset, this.length);
+		this.previousValue = 0;
+	}
+
+	/**
+	 * keep the block on disk for a lazy load
+	 * @param newFilePath
+	 * @param sectionFilePointer absolute position of the data section within the file
+	 * @param newFileLength file length when the column directory was read
+	 * @param newFileLastModified file modification time when the column directory was read
+	 */
+	void setBlockSource(String newFilePath, long sectionFilePointer, long newFileLength, long newFileLastModified) {
+		this.filePath = newFilePath;
+		this.blockFilePointer = sectionFilePointer + this.offset;
+		this.fileLength = newFileLength;
+		this.fileLastModified = newFileLastModified;
+	}
+
+	/**
+	 * @return the end of the block relative to the data section start
+	 */
+	int getBlockEnd() {
+		return this.offset + this.length;
+	}
+
+	/**
+	 * read the block from disk
+	 * @throws IOException if the file was modified or replaced since the column directory was read
+	 */
+	void readBlock() throws IOException {
+		File file = getBlockFile();
+		byte[] bytes = new byte[this.length];
+		try (RandomAccessFile random_in = new RandomAccessFile(file, "r")) { //$NON-NLS-1$
+			random_in.seek(this.blockFilePointer);
+			random_in.readFully(bytes);
+		}
+		this.block = ByteBuffer.wrap(bytes);
+		this.previousValue = 0;
+	}
+
+	/**
+	 * @return the file holding the block, which is the *.bak file after the file was renamed prior to overwrite it
+	 * @throws IOException if the file was modified or replaced since the column directory was read
+	 */
+	private File getBlockFile() throws IOException {
+		File file = new File(this.filePath);
+		if (file.length() == this.fileLength && file.lastModified() == this.fileLastModified) return file;
+		File backupFile = new File(this.filePath.substring(0, this.filePath.lastIndexOf(GDE.CHAR_DOT) + 1) + GDE.FILE_ENDING_BAK);
+		if (backupFile.length() == this.fileLength && backupFile.lastModified() == this.fileLastModified) return backupFile;
+		throw new IOException("file changed since the data section was read " + this.filePath); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the next value of the block
+	 */
+	int next() {
+		int zigZag = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = this.block.get();
+			zigZag |= (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		this.previousValue += (zigZag >>> 1) ^ -(zigZag & 1);
+		return this.previousValue;
+	}
+
+	/**
+	 * @param rowIndex
+	 * @return a placeholder value which keeps min and max and their indices of a record being filled with placeholders
+	 */
+	int getPlaceholder(int rowIndex) {
+		return rowIndex == this.maxValueIndex ? this.maxValue : this.minValue;
+	}
+
+	/**
+	 * load the points of a lazy column, the block is released afterwards
+	 */
+	@Override
+	public void load(PointStore target) {
+		try {
+			if (this.block == null) readBlock();
+			for (int i = 0; i < this.pointsSize; i++) {
+				target.add(next());
+			}
+			this.block = null;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(this.filePath, e);
+		}
+	}
+
+	public int getPointsSize() {
+		return this.pointsSize;
+	}
+
+	public int getMinValue() {
+		return this.minValue;
+	}
+
+	public int getMaxValue() {
+		return this.maxValue;
+	}
+
+	public int getMinValueIndex() {
+		return this.minValueIndex;
+	}
+
+	public int getMaxValueIndex() {
+		return this.maxValueIndex;
+	}
+
+	/**
+	 * Encodes the values of one column and tracks min and max the same way a record does while adding points.
+	 */
+	public static final class Encoder {
+		private byte[]	bytes						= new byte[256];
+		private int			length					= 0;
+		private int			size						= 0;
+		private int			previousValue		= 0;
+		private int			minValue				= 0;
+		private int			maxValue				= 0;
+		private int			minValueIndex		= 0;
+		private int			maxValueIndex		= 0;
+
+		public void add(int value) {
+			if (this.size == 0) {
+				this.minValue = this.maxValue = value;
+			}
+			else if (value > this.maxValue) {
+				this.maxValue = value;
+				this.maxValueIndex = this.size;
+			}
+			else if (value < this.minValue) {
+				this.minValue = value;
+				this.minValueIndex = this.size;
+			}
+			int delta = value - this.previousValue;
+			int zigZag = (delta << 1) ^ (delta >> 31);
+			if (this.length + 5 > this.bytes.length) this.bytes = Arrays.copyOf(this.bytes, this.bytes.length << 1);
+			while ((zigZag & ~0x7F) != 0) {
+				this.bytes[this.length++] = (byte) ((zigZag & 0x7F) | 0x80);
+				zigZag >>>= 7;
+			}
+			this.bytes[this.length++] = (byte) zigZag;
+			this.previousValue = value;
+			++this.size;
+		}
+
+		public int getLength() {
+			return this.length;
+		}
+
+		void writeDirectoryEntry(DataOutput data_out, int blockOffset) throws IOException {
+			data_out.writeInt(blockOffset);
+			data_out.writeInt(this.length);
+			data_out.writeInt(this.minValue);
+			data_out.writeInt(this.maxValue);
+			data_out.writeInt(this.minValueIndex);
+			data_out.writeInt(this.maxValueIndex);
+		}
+
+		void writeBlock(DataOutput data_out) throws IOException {
+			data_out.write(this.bytes, 0, this.length);
+		}
+	}
+}
@@ -0,0 +1,361 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+import gde.GDE;
+
+/**
+ * Data section of a single record set within an OSD file.
+ * The section holds an optional block of time stamps (1/10 ms) followed by one row of points for each time step.
+ * Uncompressed files and zipped files are decoded from the file channel or the inflater stream in bounded blocks,
+ * the time stamps are the only data kept in memory and the file is not locked by a mapping after reading.
+ * Columnar sections (file version 5) hold one compressed column block for the time stamps and each record,
+ * columns marked as lazy are not read but deliver placeholders which keep the min/max values of the record.
+ * Rows must be read in sequence, time stamps may be accessed randomly.
+ * @author agent
+ */
+public final class OsdDataSection {
+
+	static final int						BLOCK_BYTES	= 64 * 1024;
+
+	private final int						recordDataSize;
+	private final int						pointsLength;
+	private final boolean				isTimeStepConstant;
+
+	private final DataInputStream	data_in;						// null for columnar sections
+	private final OsdColumn[]		columns;						// null for row sections
+	private final boolean[]			isLazyColumn;
+
+	private IntBuffer						timeStamps;
+	private IntBuffer						rows;
+	private byte[]							block;
+	private long								unreadBytes;
+	private boolean							isConsumed	= false;
+	private int									rowIndex		= 0;
+
+	private OsdDataSection(int recordDataSize, int pointsLength, boolean isTimeStepConstant, DataInputStream data_in) {
+		this.recordDataSize = recordDataSize;
+		this.pointsLength = pointsLength;
+		this.isTimeStepConstant = isTimeStepConstant;
+		this.data_in = data_in;
+		this.columns = null;
+		this.isLazyColumn = null;
+		this.unreadBytes = getSectionBytesSize();
+		this.rows = IntBuffer.allocate(0);
+	}
+
+	private OsdDataSection(int recordDataSize, int pointsLength, boolean isTimeStepConstant, OsdColumn[] columns, boolean[] isLazyColumn) {
+		this.recordDataSize = recordDataSize;
+		this.pointsLength = pointsLength;
+		this.isTimeStepConstant = isTimeStepConstant;
+		this.data_in = null;
+		this.columns = columns;
+		this.isLazyColumn = isLazyColumn;
+		this.unreadBytes = 0;
+	}
+
+	/**
+	 * stream the data section of a record set from the uncompressed file in bounded blocks,
+	 * the channel is positioned at the data section start and must stay open until the section is consumed
+	 * @param fileChannel
+	 * @param fileDataPointer position of the data section within the file
+	 * @param recordDataSize number of time steps
+	 * @param pointsLength number of points per time step (none calculation records)
+	 * @param isTimeStepConstant true if the section does not contain time stamps
+	 * @return the streamed data section
+	 * @throws IOException
+	 */
+	public static OsdDataSection read(FileChannel fileChannel, long fileDataPointer, int recordDataSize, int pointsLength, boolean isTimeStepConstant) throws IOException {
+		if (fileDataPointer + getSectionBytesSize(recordDataSize, pointsLength, isTimeStepConstant) > fileChannel.size())
+			throw new EOFException("recordDataSize / recordSetDataPointer do not match the actual file size"); //$NON-NLS-1$
+		fileChannel.position(fileDataPointer);
+		return stream(new DataInputStream(Channels.newInputStream(fileChannel)), recordDataSize, pointsLength, isTimeStepConstant);
+	}
+
+	/**
+	 * stream the data section of a record set, the input stream must be positioned at the data section start
+	 * @param data_in
+	 * @param recordDataSize number of time steps
+	 * @param pointsLength number of points per time step (none calculation records)
+	 * @param isTimeStepConstant true if the section does not contain time stamps
+	 * @return the streamed data section
+	 */
+	public static OsdDataSection stream(DataInputStream data_in, int recordDataSize, int pointsLength, boolean isTimeStepConstant) {
+		return new OsdDataSection(recordDataSize, pointsLength, isTimeStepConstant, data_in);
+	}
+
+	/**
+	 * read the columnar data section of a record set (file version 5), lazy columns stay on disk
+	 * @param filePath of the uncompressed OSD file
+	 * @param fileDataPointer position of the data section within the file
+	 * @param recordDataSize number of time steps
+	 * @param pointsLength number of points per time step (none calculation records)
+	 * @param isTimeStepConstant true if the section does not contain time stamps
+	 * @param isLazyColumn true for each point column which is not read but delivers placeholders, null reads all columns
+	 * @return the columnar data section
+	 * @throws IOException
+	 */
+	public static OsdDataSection readColumnar(String filePath, long fileDataPointer, int recordDataSize, int pointsLength, boolean isTimeStepConstant, boolean[] isLazyColumn)
+			throws IOException {
+		File file = new File(filePath);
+		long fileLength = file.length();
+		long fileLastModified = file.lastModified();
+		try (RandomAccessFile random_in = new RandomAccessFile(file, "r")) { //$NON-NLS-1$
+			random_in.seek(fileDataPointer);
+			OsdColumn[] columns = readColumnDirectory(random_in, recordDataSize, pointsLength, isTimeStepConstant);
+			boolean[] isLazy = new boolean[pointsLength];
+			int firstPointsColumn = isTimeStepConstant ? 0 : 1;
+			for (int i = 0; i < columns.length; i++) {
+				columns[i].setBlockSource(filePath, fileDataPointer, fileLength, fileLastModified);
+				if (i >= firstPointsColumn && isLazyColumn != null && isLazyColumn[i - firstPointsColumn])
+					isLazy[i - firstPointsColumn] = true;
+				else
+					columns[i].readBlock();
+			}
+			return new OsdDataSection(recordDataSize, pointsLength, isTimeStepConstant, columns, isLazy);
+		}
+	}
+
+	/**
+	 * read the complete columnar data section of a record set (file version 5) from a stream positioned at the data section start
+	 * @param data_in
+	 * @param recordDataSize number of time steps
+	 * @param pointsLength number of points per time step (none calculation records)
+	 * @param isTimeStepConstant true if the section does not contain time stamps
+	 * @return the columnar data section
+	 * @throws IOException
+	 */
+	public static OsdDataSection readColumnar(DataInputStream data_in, int recordDataSize, int pointsLength, boolean isTimeStepConstant) throws IOException {
+		OsdColumn[] columns = readColumnDirectory(data_in, recordDataSize, pointsLength, isTimeStepConstant);
+		int directoryBytes = GDE.SIZE_BYTES_INTEGER + columns.length * OsdColumn.DIRECTORY_ENTRY_BYTES;
+		int sectionBytes = directoryBytes;
+		for (OsdColumn column : columns) {
+			sectionBytes = Math.max(sectionBytes, column.getBlockEnd());
+		}
+		byte[] section = new byte[sectionBytes];
+		data_in.readFully(section, directoryBytes, sectionBytes - directoryBytes);
+		for (OsdColumn column : columns) {
+			column.setBlock(section);
+		}
+		return new OsdDataSection(recordDataSize, pointsLength, isTimeStepConstant, columns, new boolean[pointsLength]);
+	}
+
+	private static OsdColumn[] readColumnDirectory(DataInput data_in, int recordDataSize, int pointsLength, boolean isTimeStepConstant) throws IOException {
+		int columnCount = data_in.readInt();
+		if (columnCount != pointsLength + (isTimeStepConstant ? 0 : 1))
+			throw new IOException("number of data section columns " + columnCount + " does not match the number of records " + pointsLength); //$NON-NLS-1$ //$NON-NLS-2$
+		OsdColumn[] columns = new OsdColumn[columnCount];
+		for (int i = 0; i < columnCount; i++) {
+			columns[i] = OsdColumn.readDirectoryEntry(data_in, recordDataSize);
+		}
+		return columns;
+	}
+
+	/**
+	 * encode a columnar data section (file version 5), the directory is followed by the column blocks
+	 * @param timeStamps time stamps in 1/10 ms or null for constant time steps
+	 * @param pointColumns one encoder per none calculation record
+	 * @return the data section bytes
+	 * @throws IOException
+	 */
+	public static byte[] encodeColumnar(OsdColumn.Encoder timeStamps, OsdColumn.Encoder[] pointColumns) throws IOException {
+		OsdColumn.Encoder[] encoders = new OsdColumn.Encoder[pointColumns.length + (timeStamps == null ? 0 : 1)];
+		if (timeStamps != null) encoders[0] = timeStamps;
+		System.arraycopy(pointColumns, 0, encoders, timeStamps == null ? 0 : 1, pointColumns.length);
+		int blockOffset = GDE.SIZE_BYTES_INTEGER + encoders.length * OsdColumn.DIRECTORY_ENTRY_BYTES;
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(blockOffset);
+		DataOutputStream data_out = new DataOutputStream(bytes);
+		data_out.writeInt(encoders.length);
+		for (OsdColumn.Encoder encoder : encoders) {
+			encoder.writeDirectoryEntry(data_out, blockOffset);
+			blockOffset += encoder.getLength();
+		}
+		for (OsdColumn.Encoder encoder : encoders) {
+			encoder.writeBlock(data_out);
+		}
+		data_out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return the number of bytes of a data section with the given dimensions
+	 */
+	public static long getSectionBytesSize(int recordDataSize, int pointsLength, boolean isTimeStepConstant) {
+		return (long) GDE.SIZE_BYTES_INTEGER * recordDataSize * (pointsLength + (isTimeStepConstant ? 0 : 1));
+	}
+
+	public long getSectionBytesSize() {
+		return getSectionBytesSize(this.recordDataSize, this.pointsLength, this.isTimeStepConstant);
+	}
+
+	/**
+	 * @return the number of time steps
+	 */
+	public int getRecordDataSize() {
+		return this.recordDataSize;
+	}
+
+	/**
+	 * @return the number of points per time step
+	 */
+	public int getPointsLength() {
+		return this.pointsLength;
+	}
+
+	public boolean isTimeStepConstant() {
+		return this.isTimeStepConstant;
+	}
+
+	public boolean isColumnar() {
+		return this.columns != null;
+	}
+
+	/**
+	 * @param pointsIndex index of the none calculation record
+	 * @return the column which was not read yet and may be used as lazy loader, null if the points were delivered
+	 */
+	public OsdColumn getLazyColumn(int pointsIndex) {
+		return this.columns != null && this.isLazyColumn[pointsIndex] ? this.columns[pointsIndex + (this.isTimeStepConstant ? 0 : 1)] : null;
+	}
+
+	/**
+	 * @param index of the time step
+	 * @return the time stamp in 1/10 ms
+	 * @throws IOException
+	 */
+	public int getTimeStamp(int index) throws IOException {
+		if (this.isTimeStepConstant) throw new IllegalStateException("data section without time stamps"); //$NON-NLS-1$
+		if (this.timeStamps == null) readTimeStamps();
+		return this.timeStamps.get(index);
+	}
+
+	/**
+	 * read the points of the next time step
+	 * @param points receives the points starting at index 0, the array must hold at least pointsLength values
+	 * @throws IOException
+	 */
+	public void readPoints(int[] points) throws IOException {
+		if (this.columns != null) {
+			this.isConsumed = true;
+			int firstPointsColumn = this.isTimeStepConstant ? 0 : 1;
+			for (int j = 0; j < this.pointsLength; j++) {
+				points[j] = this.isLazyColumn[j] ? this.columns[j + firstPointsColumn].getPlaceholder(this.rowIndex) : this.columns[j + firstPointsColumn].next();
+			}
+			++this.rowIndex;
+			return;
+		}
+		if (!this.isTimeStepConstant && this.timeStamps == null) readTimeStamps();
+		this.isConsumed = true;
+		for (int j = 0; j < this.pointsLength; j++) {
+			if (!this.rows.hasRemaining()) fillBlock();
+			points[j] = this.rows.get();
+		}
+	}
+
+	/**
+	 * materialize the complete data section for devices which decode a byte array only
+	 * @return the data section bytes in OSD layout
+	 * @throws IOException
+	 */
+	public byte[] toByteArray() throws IOException {
+		if (this.isConsumed) throw new IllegalStateException("data section already consumed"); //$NON-NLS-1$
+		if (getSectionBytesSize() > Integer.MAX_VALUE) throw new IOException("data section exceeds 2 GB: " + getSectionBytesSize()); //$NON-NLS-1$
+		this.isConsumed = true;
+		byte[] buffer = new byte[(int) getSectionBytesSize()];
+		if (this.columns != null) {
+			IntBuffer intBuffer = ByteBuffer.wrap(buffer).asIntBuffer();
+			if (!this.isTimeStepConstant) {
+				for (int i = 0; i < this.recordDataSize; i++)
+					intBuffer.put(getTimeStamp(i));
+			}
+			int[] points = new int[this.pointsLength];
+			for (int j = 0; j < this.pointsLength; j++) {
+				if (this.isLazyColumn[j]) {
+					this.columns[j + (this.isTimeStepConstant ? 0 : 1)].readBlock();
+					this.isLazyColumn[j] = false;
+				}
+			}
+			for (int i = 0; i < this.recordDataSize; i++) {
+				readPoints(points);
+				intBuffer.put(points);
+			}
+		}
+		else
+			this.data_in.readFully(buffer);
+		this.unreadBytes = 0;
+		return buffer;
+	}
+
+	/**
+	 * skip the bytes of a streamed section which were not read by the device, a columnar section is not affected
+	 * @throws IOException
+	 */
+	public void skipUnread() throws IOException {
+		if (this.data_in == null) return;
+		if (this.block == null) this.block = new byte[BLOCK_BYTES];
+		while (this.unreadBytes > 0) {
+			int length = (int) Math.min(BLOCK_BYTES, this.unreadBytes);
+			this.data_in.readFully(this.block, 0, length);
+			this.unreadBytes -= length;
+		}
+		this.rows = IntBuffer.allocate(0);
+		this.isConsumed = true;
+	}
+
+	private void readTimeStamps() throws IOException {
+		int[] values = new int[this.recordDataSize];
+		if (this.columns != null) {
+			for (int i = 0; i < values.length; i++)
+				values[i] = this.columns[0].next();
+			this.timeStamps = IntBuffer.wrap(values);
+			return;
+		}
+		this.isConsumed = true;
+		for (int i = 0; i < values.length; i++) {
+			if (!this.rows.hasRemaining()) fillBlock();
+			values[i] = this.rows.get();
+		}
+		this.timeStamps = IntBuffer.wrap(values);
+	}
+
+	/**
+	 * read the next bounded block of the streamed section
+	 */
+	private void fillBlock() throws IOException {
+		if (this.unreadBytes <= 0) throw new EOFException("data section exhausted"); //$NON-NLS-1$
+		if (this.block == null) this.block = new byte[BLOCK_BYTES];
+		int length = (int) Math.min(BLOCK_BYTES, this.unreadBytes);
+		this.data_in.readFully(this.block, 0, length);
+		this.unreadBytes -= length;
+		this.rows = ByteBuffer.wrap(this.block, 0, length).slice().asIntBuffer();
+	}
+}
@@ -18,6 +18,7 @@
 ****************************************************************************************/
 package gde.io;
 
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
@@ -201,6 +202,7 @@ public class OsdReaderWriter {
 		case 2: // added OBJECT_KEY to header
 		case 3: // added startTimeStamp to recordSet
 		case 4: // enable more measurements which leads to property string length more than 2**16 character
+		case 5: // uncompressed file with columnar record set data sections
 			header.put(GDE.DATA_EXPLORER_FILE_VERSION, GDE.STRING_EMPTY + version);
 			boolean isHeaderComplete = false;
 			while (!isHeaderComplete && headerCounter-- > 0) {
@@ -303,6 +305,7 @@ public class OsdReaderWriter {
 		RecordSet recordSet = null;
 
 		HashMap<String, String> header = getHeader(filePath);
+		boolean isColumnar = Integer.parseInt(header.get(GDE.DATA_EXPLORER_FILE_VERSION)) >= 5;
 		ChannelTypes channelType = ChannelTypes.valueOf(header.get(GDE.CHANNEL_CONFIG_TYPE).trim());
 		String objectKey = header.get(GDE.OBJECT_KEY) != null ? header.get(GDE.OBJECT_KEY) : GDE.STRING_EMPTY;
 		while (!data_in.readUTF().startsWith(GDE.RECORD_SET_SIZE))
@@ -387,15 +390,27 @@ public class OsdReaderWriter {
 					if (log.isLoggable(Level.FINER))
 						log.log(Level.FINER, String.format("skipped  channelConfigName=%-22s recordSetName=%-40s unreadDataPointer=%,d", channelConfig, recordSetName, unreadDataPointer));
 				}
+				else if (isColumnar && zip_input == null) {
+					// columnar sections are read by random access, the stream is not used for the data
+					long startTime = new Date().getTime();
+					readColumnarData(recordSet, filePath, GDE.isWithUi());
+					recordSet.updateVisibleAndDisplayableRecordsForTable();
+					channel.checkRecordSetMemoryBudget(recordSet);
+					if (log.isLoggable(Level.TIME)) log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (new Date().getTime() - startTime)));
+
+					if (application.getMenuToolBar() != null) displayRecordSet(filePath, header.get(GDE.FILE_COMMENT), channelConfig, recordSetName);
+				}
 				else {
 					// take the matching record set or take the first one
 					if (unreadDataPointer > -1) unreadDataPointer = skipData(data_in, recordSetDataPointer, unreadDataPointer);
 
 					long startTime = new Date().getTime();
-					byte[] buffer = new byte[recordSet.getFileDataBytesSize()];
-					data_in.readFully(buffer);
-					recordSet.getDevice().addDataBufferAsRawDataPoints(recordSet, buffer, recordDataSize, GDE.isWithUi());
+					OsdDataSection dataSection = isColumnar ? OsdDataSection.readColumnar(data_in, recordDataSize, recordSet.getNoneCalculationRecordNames().length, recordSet.isTimeStepConstant())
+							: OsdDataSection.stream(data_in, recordDataSize, recordSet.getNoneCalculationRecordNames().length, recordSet.isTimeStepConstant());
+					recordSet.getDevice().addDataSectionAsRawDataPoints(recordSet, dataSection, GDE.isWithUi());
+					dataSection.skipUnread(); // keep the stream positioned at the next data section
 					recordSet.updateVisibleAndDisplayableRecordsForTable();
+					channel.checkRecordSetMemoryBudget(recordSet);
 					if (log.isLoggable(Level.TIME)) log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (new Date().getTime() - startTime)));
 
 					if (application.getMenuToolBar() != null) displayRecordSet(filePath, header.get(GDE.FILE_COMMENT), channelConfig, recordSetName);
@@ -589,6 +604,20 @@ public class OsdReaderWriter {
 		return StringHelper.splitString(recordSetProperties, GDE.DATA_DELIMITER, GDE.OSD_FORMAT_DATA_KEYS);
 	}
 
+	/**
+	 * check prior to write that no record set read from file lost its data, e.g. because the file was removed after its data were released
+	 * @param activeChannel
+	 * @throws IOException
+	 */
+	private static void checkDataLoaded(Channel activeChannel) throws IOException {
+		for (String recordSetName : activeChannel.getRecordSetNames()) {
+			Channel recordSetChannel = activeChannel.getType().equals(ChannelTypes.TYPE_OUTLET) ? activeChannel : Channels.getInstance().get(activeChannel.findChannelOfRecordSet(recordSetName));
+			RecordSet recordSet = recordSetChannel != null ? recordSetChannel.get(recordSetName) : null;
+			if (recordSet != null && !recordSet.hasDisplayableData() && recordSet.getFileDataSize() != 0 && recordSet.getFileDataPointer() != 0)
+				throw new IOException(recordSet.getName() + " data could not be loaded from " + activeChannel.getFullQualifiedFileName()); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * write channel data to osd file format
 	 * - if channel type is TYPE_OUTLET only this channel record sets are part of the written file
@@ -602,16 +631,24 @@ public class OsdReaderWriter {
 	public static void write(String fullQualifiedFilePath, Channel activeChannel, int useVersion) throws FileNotFoundException, IOException {
 		fullQualifiedFilePath = fullQualifiedFilePath.replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX);
 		if (activeChannel != null && fullQualifiedFilePath != null && useVersion != 0) {
-			ZipOutputStream file_out = new ZipOutputStream(new FileOutputStream(new File(fullQualifiedFilePath)));
-			file_out.putNextEntry(new ZipEntry(fullQualifiedFilePath.substring(fullQualifiedFilePath.lastIndexOf(GDE.CHAR_FILE_SEPARATOR_UNIX) + 1)));
-			DataOutputStream data_out = new DataOutputStream(file_out);
+			// before do anything make sure all data is loaded, if data comes from another file or even the file to be overwritten
+			activeChannel.checkAndLoadData(true);
+			checkDataLoaded(activeChannel);
+
+			ZipOutputStream zip_out = null;
+			DataOutputStream data_out;
+			if (useVersion >= 5) { // uncompressed to enable random access to the record columns
+				data_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(new File(fullQualifiedFilePath)), OsdDataSection.BLOCK_BYTES));
+			}
+			else {
+				zip_out = new ZipOutputStream(new FileOutputStream(new File(fullQualifiedFilePath)));
+				zip_out.putNextEntry(new ZipEntry(fullQualifiedFilePath.substring(fullQualifiedFilePath.lastIndexOf(GDE.CHAR_FILE_SEPARATOR_UNIX) + 1)));
+				data_out = new DataOutputStream(zip_out);
+			}
 			IDevice activeDevice = OsdReaderWriter.application.getActiveDevice();
 			boolean isObjectOriented = OsdReaderWriter.application.isObjectoriented();
-			int filePointer = 0;
+			long filePointer = 0;
 			try {
-				// before do anything make sure all data is loaded, if data comes from another file
-				activeChannel.checkAndLoadData();
-
 				// first line : header with version
 				String versionString = GDE.DATA_EXPLORER_FILE_VERSION + useVersion + GDE.STRING_NEW_LINE;
 				data_out.writeUTF(versionString);
@@ -694,6 +731,8 @@ public class OsdReaderWriter {
 				}
 				// prepare all record set data pointer and store record sizes
 				HashMap<String, Integer> recordSizes = new HashMap<String, Integer>();
+				HashMap<String, byte[]> columnarSections = new HashMap<String, byte[]>();
+				HashMap<String, Long> dataPointers = new HashMap<String, Long>();
 				for (int i = 0; i < activeChannel.size(); ++i) {
 					//if ChannelTypes.TYPE_OUTLET only record sets associated to that channel goes into one file
 					//if ChannelTypes.TYPE_CONFIG all record sets with different configurations goes into one file
@@ -704,6 +743,7 @@ public class OsdReaderWriter {
 						if (recordSet != null) {
 							recordSet.resetZoomAndMeasurement(); // make sure size() returns right value
 							sbs[i].append(GDE.RECORD_SET_DATA_POINTER).append(String.format("%10s", filePointer)).append(GDE.STRING_NEW_LINE); //$NON-NLS-1$
+							dataPointers.put(recordSetChannel.getNumber() + GDE.STRING_UNDER_BAR + recordSetNames[i], filePointer);
 							if (log.isLoggable(Level.FINE)) log.log(Level.FINE, sbs[i].toString());
 							//instead of using writeUTF, write the length and the string separate to workaround java.io.UTFDataFormatException: encoded string too long: 272312 bytes
 							data_out.writeInt(sbs[i].toString().getBytes("UTF8").length);
@@ -711,11 +751,20 @@ public class OsdReaderWriter {
 							int sizeRecord = recordSet.getRecordDataSize(true);
 							recordSizes.put(recordSetChannel.getNumber() + GDE.STRING_UNDER_BAR + recordSetNames[i], sizeRecord);
 							if (log.isLoggable(Level.FINER)) log.log(Level.FINER, recordSetChannel.getNumber() + GDE.STRING_UNDER_BAR + recordSetNames[i] + "=" + sizeRecord);
-							int dataSizeRecord = GDE.SIZE_BYTES_INTEGER * sizeRecord;
-							int dataSizeRecords = dataSizeRecord * recordSet.getNoneCalculationRecordNames().length;
-							int dataSizeRecordsTimeStamp = dataSizeRecord + dataSizeRecords;
-							filePointer += (recordSet.isTimeStepConstant() ? dataSizeRecords : dataSizeRecordsTimeStamp);
-							if (log.isLoggable(Level.FINE)) log.log(Level.FINE, (recordSet.isTimeStepConstant() ? dataSizeRecords : dataSizeRecordsTimeStamp) + " filePointer = " + filePointer); //$NON-NLS-1$
+							if (useVersion >= 5) {
+								if (!recordSet.hasDisplayableData()) recordSet.loadFileData(recordSetChannel.getFullQualifiedFileName(), GDE.isWithUi());
+								byte[] sectionBytes = encodeColumnarDataSection(recordSet, sizeRecord);
+								columnarSections.put(recordSetChannel.getNumber() + GDE.STRING_UNDER_BAR + recordSetNames[i], sectionBytes);
+								filePointer += sectionBytes.length;
+								if (log.isLoggable(Level.FINE)) log.log(Level.FINE, sectionBytes.length + " filePointer = " + filePointer); //$NON-NLS-1$
+							}
+							else {
+								int dataSizeRecord = GDE.SIZE_BYTES_INTEGER * sizeRecord;
+								int dataSizeRecords = dataSizeRecord * recordSet.getNoneCalculationRecordNames().length;
+								int dataSizeRecordsTimeStamp = dataSizeRecord + dataSizeRecords;
+								filePointer += (recordSet.isTimeStepConstant() ? dataSizeRecords : dataSizeRecordsTimeStamp);
+								if (log.isLoggable(Level.FINE)) log.log(Level.FINE, (recordSet.isTimeStepConstant() ? dataSizeRecords : dataSizeRecordsTimeStamp) + " filePointer = " + filePointer); //$NON-NLS-1$
+							}
 						}
 					}
 				}
@@ -728,6 +777,18 @@ public class OsdReaderWriter {
 					if (recordSetChannel != null) {
 						RecordSet recordSet = recordSetChannel.get(recordSetNames[i]);
 						if (recordSet != null) {
+							byte[] sectionBytes = columnarSections.get(recordSetChannel.getNumber() + GDE.STRING_UNDER_BAR + recordSetNames[i]);
+							if (sectionBytes != null) {
+								data_out.write(sectionBytes, 0, sectionBytes.length);
+								if (!fullQualifiedFilePath.contains(GDE.TEMP_FILE_STEM)) {
+									// keep the data reloadable from the new file
+									int sizeRecord = recordSizes.get(recordSetChannel.getNumber() + GDE.STRING_UNDER_BAR + recordSetNames[i]);
+									recordSet.setFileDataPointerAndSize(dataPointers.get(recordSetChannel.getNumber() + GDE.STRING_UNDER_BAR + recordSetNames[i]), sizeRecord,
+											(int) OsdDataSection.getSectionBytesSize(sizeRecord, recordSet.getNoneCalculationRecordNames().length, recordSet.isTimeStepConstant()));
+								}
+								recordSet.setSaved(!fullQualifiedFilePath.contains(GDE.TEMP_FILE_STEM));
+								continue;
+							}
 							if (!recordSet.hasDisplayableData()) recordSet.loadFileData(recordSetChannel.getFullQualifiedFileName(), GDE.isWithUi());
 							String[] noneCalculationRecordNames = recordSet.getNoneCalculationRecordNames();
 							int sizeRecord = recordSizes.get(recordSetChannel.getNumber() + GDE.STRING_UNDER_BAR + recordSetNames[i]);
@@ -778,6 +839,10 @@ public class OsdReaderWriter {
 								}
 							}
 							data_out.write(buffer, 0, buffer.length);
+							if (!fullQualifiedFilePath.contains(GDE.TEMP_FILE_STEM)) {
+								// keep the data reloadable from the new file
+								recordSet.setFileDataPointerAndSize(dataPointers.get(recordSetChannel.getNumber() + GDE.STRING_UNDER_BAR + recordSetNames[i]), sizeRecord, buffer.length);
+							}
 							recordSet.setSaved(!fullQualifiedFilePath.contains(GDE.TEMP_FILE_STEM));
 						}
 					}
@@ -786,11 +851,16 @@ public class OsdReaderWriter {
 			}
 			finally {
 				data_out.flush();
-				file_out.closeEntry();
-				data_out.close();
+				if (zip_out != null) {
+					zip_out.closeEntry();
+					data_out.close();
+					zip_out.close();
+					zip_out = null;
+				}
+				else {
+					data_out.close();
+				}
 				data_out = null;
-				file_out.close();
-				file_out = null;
 				
 				//update/write link if object oriented
 				if (isObjectOriented && !fullQualifiedFilePath.contains(GDE.TEMP_FILE_STEM)) {
@@ -806,7 +876,123 @@ public class OsdReaderWriter {
 	}
 
 	/**
-	 * read record set data with given file seek pointer and record size
+	 * encode the record set data as columnar data section (file version 5),
+	 * the columns hold the time stamps if not constant and the points of each none calculation record in the same order as the row layout
+	 * @param recordSet
+	 * @param sizeRecord number of time steps to be written
+	 * @return the data section bytes
+	 * @throws IOException
+	 */
+	private static byte[] encodeColumnarDataSection(RecordSet recordSet, int sizeRecord) throws IOException {
+		OsdColumn.Encoder timeStamps = null;
+		if (!recordSet.isTimeStepConstant()) {
+			timeStamps = new OsdColumn.Encoder();
+			for (int j = 0; j < sizeRecord; ++j) {
+				timeStamps.add((int) recordSet.getTime(j));
+			}
+		}
+		String[] noneCalculationRecordNames = recordSet.getNoneCalculationRecordNames();
+		OsdColumn.Encoder[] pointColumns = new OsdColumn.Encoder[noneCalculationRecordNames.length];
+		IDevice device = recordSet.getDevice();
+		for (int k = 0; k < noneCalculationRecordNames.length; ++k) {
+			Record record = recordSet.get(noneCalculationRecordNames[k]);
+			pointColumns[k] = new OsdColumn.Encoder();
+			for (int j = 0; j < sizeRecord; ++j) {
+				if (recordSet.isRaw())
+					pointColumns[k].add(record.realGet(j));
+				else
+					pointColumns[k].add(Double.valueOf(device.reverseTranslateValue(record, record.realGet(j) / 1000.0) * 1000.0).intValue());
+			}
+		}
+		return OsdDataSection.encodeColumnar(timeStamps, pointColumns);
+	}
+
+	/**
+	 * @param recordSet
+	 * @return true for each none calculation record which is neither visible nor displayable and may therefore load its points on demand,
+	 *         current records stay eager if the device detects current drops while adding points,
+	 *         all records are eager if the device decode does not pass the points through unchanged
+	 */
+	private static boolean[] getLazyColumns(RecordSet recordSet) {
+		String[] noneCalculationRecordNames = recordSet.getNoneCalculationRecordNames();
+		boolean[] isLazyColumn = new boolean[noneCalculationRecordNames.length];
+		if (!recordSet.getDevice().isDataSectionPassThrough()) return isLazyColumn;
+		boolean isCurrentSmoothing = recordSet.getDevice().getCurrentSmoothIndex() != 0;
+		for (int k = 0; k < noneCalculationRecordNames.length; ++k) {
+			Record record = recordSet.get(noneCalculationRecordNames[k]);
+			isLazyColumn[k] = record != null && !(record.isVisible() && record.isDisplayable()) && !(isCurrentSmoothing && record.isCurrentRecord());
+		}
+		return isLazyColumn;
+	}
+
+	/**
+	 * hand over the columns which were not decoded by the device to their records as lazy point loaders,
+	 * this requires the device to fill the records one by one with the column placeholders which is checked by the min/max values
+	 * @param recordSet
+	 * @param dataSection
+	 * @return false if a record does not match its column, no loader was handed over and the data section must be decoded completely
+	 */
+	private static boolean attachLazyColumns(RecordSet recordSet, OsdDataSection dataSection) {
+		String[] noneCalculationRecordNames = recordSet.getNoneCalculationRecordNames();
+		for (int k = 0; k < noneCalculationRecordNames.length; ++k) {
+			OsdColumn column = dataSection.getLazyColumn(k);
+			if (column != null) {
+				Record record = recordSet.get(noneCalculationRecordNames[k]);
+				if (record.realSize() != column.getPointsSize() || record.getMinValue() != column.getMinValue() || record.getMaxValue() != column.getMaxValue()) {
+					log.log(Level.WARNING, String.format("%s %s does not match the data section column", recordSet.getName(), record.getName())); //$NON-NLS-1$
+					return false;
+				}
+			}
+		}
+		for (int k = 0; k < noneCalculationRecordNames.length; ++k) {
+			OsdColumn column = dataSection.getLazyColumn(k);
+			if (column != null) {
+				recordSet.get(noneCalculationRecordNames[k]).setLazyPoints(column.getPointsSize(), column, column.getMinValue(), column.getMaxValue(), column.getMinValueIndex(),
+						column.getMaxValueIndex());
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param filePath
+	 * @return true if the file version holds columnar data sections
+	 * @throws IOException
+	 */
+	private static boolean isColumnarFile(String filePath) throws IOException {
+		try {
+			return Integer.parseInt(getHeader(filePath).get(GDE.DATA_EXPLORER_FILE_VERSION)) >= 5;
+		}
+		catch (NotSupportedFileFormatException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * decode a columnar data section (file version 5), records which are not displayed get their points on demand
+	 * @param recordSet
+	 * @param filePath of the uncompressed OSD file
+	 * @param doUpdateProgressBar
+	 * @throws IOException
+	 * @throws DataInconsitsentException
+	 */
+	private static void readColumnarData(RecordSet recordSet, String filePath, boolean doUpdateProgressBar) throws IOException, DataInconsitsentException {
+		long recordSetFileDataPointer = recordSet.getFileDataPointer();
+		int recordFileDataSize = recordSet.getFileDataSize();
+		int pointsLength = recordSet.getNoneCalculationRecordNames().length;
+		OsdDataSection dataSection = OsdDataSection.readColumnar(filePath, recordSetFileDataPointer, recordFileDataSize, pointsLength, recordSet.isTimeStepConstant(), getLazyColumns(recordSet));
+		recordSet.getDevice().addDataSectionAsRawDataPoints(recordSet, dataSection, doUpdateProgressBar);
+		if (!attachLazyColumns(recordSet, dataSection)) {
+			recordSet.cleanup();
+			dataSection = OsdDataSection.readColumnar(filePath, recordSetFileDataPointer, recordFileDataSize, pointsLength, recordSet.isTimeStepConstant(), null);
+			recordSet.getDevice().addDataSectionAsRawDataPoints(recordSet, dataSection, doUpdateProgressBar);
+		}
+	}
+
+	/**
+	 * read record set data with given file seek pointer and record size,
+	 * uncompressed files and zipped files are decoded while streaming in bounded blocks without a buffer of the complete record set data,
+	 * columnar data sections (file version 5) read the columns of displayed records only
 	 * @param recordSet
 	 * @param filePath
 	 * @throws DataInconsitsentException
@@ -820,25 +1006,29 @@ public class OsdReaderWriter {
 		try {
 			long recordSetFileDataPointer = recordSet.getFileDataPointer();
 			int recordFileDataSize = recordSet.getFileDataSize();
+			int pointsLength = recordSet.getNoneCalculationRecordNames().length;
+			boolean isColumnar = isColumnarFile(filePath);
 			long startTime = new Date().getTime();
-			int dataSizeRecord = GDE.SIZE_BYTES_INTEGER * recordFileDataSize;
-			int dataSizeRecords = dataSizeRecord * recordSet.getNoneCalculationRecordNames().length;
-			int dataSizeRecordsTimeStamp = dataSizeRecord + dataSizeRecords;
-			byte[] buffer = new byte[recordSet.isTimeStepConstant() ? dataSizeRecords : dataSizeRecordsTimeStamp];
+			OsdDataSection dataSection = null;
 
 			if (zip_entry != null) {
 				data_in = new DataInputStream(zip_input);
-				data_in.skip(recordSetFileDataPointer);
-				data_in.readFully(buffer);
+				skipData(data_in, recordSetFileDataPointer, 0);
+				dataSection = isColumnar ? OsdDataSection.readColumnar(data_in, recordFileDataSize, pointsLength, recordSet.isTimeStepConstant())
+						: OsdDataSection.stream(data_in, recordFileDataSize, pointsLength, recordSet.isTimeStepConstant());
 			}
 			else {
 				zip_input.close();
 				zip_input = null;
-				random_in = new RandomAccessFile(new File(filePath), "r"); //$NON-NLS-1$;
-				random_in.seek(recordSetFileDataPointer);
-				random_in.readFully(buffer);
+				if (isColumnar) {
+					readColumnarData(recordSet, filePath, doUpdateProgressBar);
+				}
+				else {
+					random_in = new RandomAccessFile(new File(filePath), "r"); //$NON-NLS-1$;
+					dataSection = OsdDataSection.read(random_in.getChannel(), recordSetFileDataPointer, recordFileDataSize, pointsLength, recordSet.isTimeStepConstant());
+				}
 			}
-			recordSet.getDevice().addDataBufferAsRawDataPoints(recordSet, buffer, recordFileDataSize, doUpdateProgressBar);
+			if (dataSection != null) recordSet.getDevice().addDataSectionAsRawDataPoints(recordSet, dataSection, doUpdateProgressBar);
 			recordSet.updateVisibleAndDisplayableRecordsForTable();
 			if (log.isLoggable(Level.TIME)) log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - startTime)));
 		}
@@ -927,14 +1117,14 @@ public class OsdReaderWriter {
 					ZipEntry zip_entry = zip_input.getNextEntry();
 					if (zip_entry != null) {
 						data_in = new DataInputStream(zip_input);
-					} else {
+						zip_out = new ZipOutputStream(new FileOutputStream(updatedFile));
+						zip_out.putNextEntry(new ZipEntry(filePath.substring(filePath.lastIndexOf(GDE.CHAR_FILE_SEPARATOR_UNIX) + 1)));
+						data_out = new DataOutputStream(zip_out);
+					} else { // keep uncompressed files uncompressed, columnar data sections require random access
 						data_in = new DataInputStream(new FileInputStream(tmpFile));
+						data_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(updatedFile)));
 					}
 
-					zip_out = new ZipOutputStream(new FileOutputStream(updatedFile));
-					zip_out.putNextEntry(new ZipEntry(filePath.substring(filePath.lastIndexOf(GDE.CHAR_FILE_SEPARATOR_UNIX) + 1)));
-					data_out = new DataOutputStream(zip_out);
-
 					long filePointer = 0;
 					String tmpData;
 					tmpData = data_in.readUTF();
@@ -1035,6 +1225,10 @@ public class OsdReaderWriter {
 							zip_out.close();
 							zip_out = null;
 						}
+						else if (data_out != null) {
+							data_out.close();
+							data_out = null;
+						}
 						if (updatedFile.exists()) if (updatedFile.delete()) log.log(Level.WARNING, "failed to delete " + filePath);
 						if (data_in != null) {
 							data_in.close();
@@ -1058,6 +1252,10 @@ public class OsdReaderWriter {
 							zip_out.close();
 							zip_out = null;
 						}
+						else if (data_out != null) {
+							data_out.close();
+							data_out = null;
+						}
 						if (data_in != null) {
 							data_in.close();
 							data_in = null;
@@ -0,0 +1,503 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.tools;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import gde.Analyzer;
+import gde.GDE;
+import gde.TestAnalyzer;
+import gde.config.Settings;
+import gde.data.Channel;
+import gde.data.Channels;
+import gde.data.Record;
+import gde.data.RecordSet;
+import gde.device.IDevice;
+import gde.exception.NotSupportedException;
+import gde.histo.cache.VaultCollector;
+import gde.histo.cache.VaultReaderWriter;
+import gde.histo.datasources.SourceDataSet;
+import gde.histo.datasources.VaultChecker;
+import gde.histo.datasources.VaultPicker.TrussJobs;
+import gde.histo.device.IHistoDevice;
+import gde.histo.utils.PathUtils;
+import gde.io.CSVReaderWriter;
+import gde.io.GPXWriter;
+import gde.io.KMZWriter;
+import gde.io.OsdReaderWriter;
+import gde.log.Level;
+import gde.log.Logger;
+import gde.utils.StringHelper;
+
+/**
+ * Batch import, conversion and export of log files without the integrated UI, e.g. for nightly conversions on a server.
+ * Reads OSD or CSV files and the native log files of one device and writes OSD, CSV, KMZ or GPX files and / or builds the histo vaults cache.
+ * The conversion reads the native log files which {@link IDevice#getReadableImportExtentions()} names, e.g. HoTT *.bin and *.log, Jeti, Spektrum and ArduPilot logs.
+ * The histo vaults are screened and read on a work stealing pool across the files.
+ * The conversions process one file after the other because the file readers and writers share the channels singleton.
+ * Each stage reports the number of items, the elapsed time and the throughput.
+ * Please note: The device classes still require SWT resources, i.e. a server without display needs a virtual frame buffer (Xvfb).
+ * @author agent
+ */
+public final class BatchConverter {
+	private static final String	$CLASS_NAME	= BatchConverter.class.getName();
+	private static final Logger	log					= Logger.getLogger($CLASS_NAME);
+
+	private static final String	USAGE				= "usage: BatchConverter -device <device name> [-channel <number>] [-object <object key>] " //
+			+ "[-format osd,csv,kmz,gpx,vault] [-target <directory>] [-threads <number>] <file or directory> ..."; //$NON-NLS-1$
+
+	/**
+	 * Output formats of the batch conversion.
+	 */
+	public enum Format {
+		OSD(GDE.FILE_ENDING_DOT_OSD), CSV(GDE.FILE_ENDING_DOT_CSV), KMZ(GDE.FILE_ENDING_DOT_KMZ), GPX(GDE.FILE_ENDING_DOT_GPX), VAULT(GDE.STRING_EMPTY);
+
+		private final String extention;
+
+		private Format(String newExtention) {
+			this.extention = newExtention;
+		}
+
+		static EnumSet<Format> fromCsv(String formatsCsv) {
+			EnumSet<Format> formats = EnumSet.noneOf(Format.class);
+			for (String format : formatsCsv.split(GDE.STRING_COMMA)) {
+				formats.add(Format.valueOf(format.trim().toUpperCase(Locale.ENGLISH)));
+			}
+			return formats;
+		}
+	}
+
+	/**
+	 * Number of items, bytes and elapsed time of one processing stage.
+	 */
+	static final class StageStatistics {
+		private final String			name;
+		private final String			unit;
+		private final LongAdder	count					= new LongAdder();
+		private final LongAdder	bytes					= new LongAdder();
+		private final LongAdder	failures			= new LongAdder();
+		private final LongAdder	elapsed_ns		= new LongAdder();
+
+		StageStatistics(String name, String unit) {
+			this.name = name;
+			this.unit = unit;
+		}
+
+		void add(long byteCount) {
+			this.count.increment();
+			this.bytes.add(byteCount);
+		}
+
+		void addFailure() {
+			this.failures.increment();
+		}
+
+		void addTime(long nanos) {
+			this.elapsed_ns.add(nanos);
+		}
+
+		long getFailures() {
+			return this.failures.sum();
+		}
+
+		@Override
+		public String toString() {
+			long micros = Math.max(1, NANOSECONDS.toMicros(this.elapsed_ns.sum()));
+			return String.format("%-8s %,7d %-6s %,4d failed  time=%,7d [ms] :: per second:%6d :: Rate=%,6d MiB/s", //$NON-NLS-1$
+					this.name, this.count.sum(), this.unit, this.failures.sum(), micros / 1000, this.count.sum() * 1000000 / micros, (int) (this.bytes.sum() / 1.024 / 1.024 / micros));
+		}
+	}
+
+	@FunctionalInterface
+	interface PathTask<T> {
+		T apply(Path path) throws Exception;
+	}
+
+	private final TestAnalyzer										analyzer;
+	private final Channels												channels	= Channels.getInstance();
+	private final EnumSet<Format>									formats;
+	private final Optional<Path>									targetDirectory;
+	private final ForkJoinPool										pool;
+	private final Map<String, StageStatistics>	stages		= new LinkedHashMap<>();
+
+	/**
+	 * @param fileDeviceName is the device which reads the files and defines the vault directories
+	 * @param channelNumber is the channel for the histo vaults
+	 * @param objectKey is an object key which exists in the settings or an empty string for deviceoriented
+	 * @param newFormats are the output formats
+	 * @param newTargetDirectory is the directory for the converted files, the directory of the source file if empty
+	 * @param threads is the parallelism of the work stealing pool
+	 */
+	public BatchConverter(String fileDeviceName, int channelNumber, String objectKey, EnumSet<Format> newFormats, Optional<Path> newTargetDirectory, int threads) {
+		// the non UI analyzer must share the channels with the file readers and writers
+		this.analyzer = (TestAnalyzer) Analyzer.getInstance();
+		this.analyzer.setChannels(this.channels);
+		this.analyzer.setArena(fileDeviceName, channelNumber, objectKey);
+		if (this.analyzer.getActiveDevice() == null) throw new IllegalArgumentException("device = " + fileDeviceName + " is not supported"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		this.formats = newFormats;
+		this.targetDirectory = newTargetDirectory;
+		this.pool = new ForkJoinPool(threads);
+	}
+
+	private StageStatistics stage(String name, String unit) {
+		return this.stages.computeIfAbsent(name, k -> new StageStatistics(name, unit));
+	}
+
+	/**
+	 * @return the extentions of the files which the device reads without the integrated UI
+	 */
+	public Set<String> getConversionExtentions() {
+		Set<String> extentions = new TreeSet<>(Arrays.asList(GDE.FILE_ENDING_DOT_OSD, GDE.FILE_ENDING_DOT_CSV));
+		extentions.addAll(this.analyzer.getActiveDevice().getReadableImportExtentions());
+		return extentions;
+	}
+
+	/**
+	 * @return the extentions of the files which the device supports for the histo vaults
+	 */
+	public Set<String> getVaultExtentions() {
+		Set<String> extentions = new TreeSet<>(Arrays.asList(GDE.FILE_ENDING_DOT_OSD, GDE.FILE_ENDING_DOT_CSV));
+		if (this.analyzer.getActiveDevice() instanceof IHistoDevice) extentions.addAll(((IHistoDevice) this.analyzer.getActiveDevice()).getSupportedImportExtentions());
+		return extentions;
+	}
+
+	/**
+	 * @param extentions are the file extentions to be selected, e.g. {@link #getConversionExtentions()}
+	 * @return the files within the paths which have one of the extentions, directories are walked recursively
+	 */
+	public List<Path> scan(List<Path> paths, Set<String> extentions) throws IOException {
+		long startNanoTime = System.nanoTime();
+		StageStatistics scan = stage("scan", "files"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		List<Path> files = new ArrayList<>();
+		for (Path path : paths) {
+			try (Stream<Path> walk = Files.walk(path)) {
+				walk.filter(Files::isRegularFile).filter(p -> extentions.contains(PathUtils.getFileExtention(p))).sorted().forEach(files::add);
+			}
+		}
+		for (Path file : files) {
+			scan.add(Files.size(file));
+		}
+		scan.addTime(System.nanoTime() - startNanoTime);
+		return files;
+	}
+
+	/**
+	 * Execute the task for each path on the work stealing pool.
+	 * Failures are logged and counted, they do not stop the other tasks.
+	 * @return the non null task results
+	 */
+	private <T> List<T> invokeAll(StageStatistics stage, List<Path> paths, PathTask<T> task) throws InterruptedException {
+		List<Callable<T>> callables = paths.stream().map(p -> (Callable<T>) () -> {
+			try {
+				T result = task.apply(p);
+				stage.add(Files.size(p));
+				return result;
+			} catch (Exception e) {
+				stage.addFailure();
+				log.log(Level.WARNING, p + GDE.STRING_MESSAGE_CONCAT + e.getMessage(), e);
+				return null;
+			}
+		}).collect(Collectors.toList());
+
+		long startNanoTime = System.nanoTime();
+		List<T> results = new ArrayList<>();
+		for (Future<T> future : this.pool.invokeAll(callables)) {
+			try {
+				T result = future.get();
+				if (result != null) results.add(result);
+			} catch (ExecutionException e) {
+				stage.addFailure();
+				log.log(Level.SEVERE, e.getMessage(), e);
+			}
+		}
+		stage.addTime(System.nanoTime() - startNanoTime);
+		return results;
+	}
+
+	/**
+	 * Screen the files for trusses, skip the vaults which are already cached, read the remaining vaults in parallel and store them in the cache.
+	 */
+	public void buildVaults(List<Path> files) throws Exception {
+		VaultChecker vaultChecker = new VaultChecker(this.analyzer);
+		List<VaultCollector> trusses = invokeAll(stage("screen", "files"), files, p -> { //$NON-NLS-1$ //$NON-NLS-2$
+			SourceDataSet dataSet = SourceDataSet.createSourceDataSet(p, this.analyzer);
+			return dataSet != null ? dataSet.getSelectedTrusses(vaultChecker).collect(Collectors.toList()) : null;
+		}).stream().flatMap(List::stream).collect(Collectors.toList());
+		if (trusses.isEmpty()) return;
+
+		TrussJobs trussJobs = TrussJobs.createTrussJobs(trusses);
+		VaultReaderWriter vaultReaderWriter = new VaultReaderWriter(this.analyzer, Optional.empty());
+		{
+			long startNanoTime = System.nanoTime();
+			StageStatistics cached = stage("cached", "vaults"); //$NON-NLS-1$ //$NON-NLS-2$
+			int jobSize = getJobSize(trussJobs);
+			vaultReaderWriter.loadFromCaches(trussJobs);
+			for (int i = getJobSize(trussJobs); i < jobSize; i++) {
+				cached.add(0);
+			}
+			cached.addTime(System.nanoTime() - startNanoTime);
+		}
+		List<Path> jobPaths = trussJobs.entrySet().stream().map(Map.Entry::getKey).collect(Collectors.toList());
+		invokeAll(stage("vault", "files"), jobPaths, p -> { //$NON-NLS-1$ //$NON-NLS-2$
+			vaultReaderWriter.loadFromFile(p, trussJobs.get(p));
+			return p;
+		});
+		int loadCount = getJobSize(trussJobs);
+		if (loadCount > 0) {
+			long startNanoTime = System.nanoTime();
+			StageStatistics store = stage("store", "vaults"); //$NON-NLS-1$ //$NON-NLS-2$
+			long cacheSize_B = this.analyzer.getDataAccess().getCacheSize();
+			vaultReaderWriter.storeInCaches(trussJobs);
+			long storedBytes = Math.max(0, this.analyzer.getDataAccess().getCacheSize() - cacheSize_B);
+			for (int i = 0; i < loadCount; i++) {
+				store.add(i == 0 ? storedBytes : 0);
+			}
+			store.addTime(System.nanoTime() - startNanoTime);
+		}
+	}
+
+	private static int getJobSize(TrussJobs trussJobs) {
+		return trussJobs.values().stream().mapToInt(List::size).sum();
+	}
+
+	/**
+	 * Read the files one after the other into the channels and write the channels' record sets in the output formats.
+	 */
+	public void convert(List<Path> files) {
+		StageStatistics read = stage("read", "files"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (Path file : files) {
+			for (Channel channel : this.channels.values()) {
+				channel.clear();
+			}
+			long startNanoTime = System.nanoTime();
+			try {
+				read(file);
+				read.add(Files.size(file));
+			} catch (Exception e) {
+				read.addFailure();
+				log.log(Level.WARNING, file + GDE.STRING_MESSAGE_CONCAT + e.getMessage(), e);
+				continue;
+			} finally {
+				read.addTime(System.nanoTime() - startNanoTime);
+			}
+
+			List<Channel> filledChannels = this.channels.values().stream().filter(c -> !c.isEmpty()).collect(Collectors.toList());
+			for (Channel channel : filledChannels) {
+				this.channels.setActiveChannelNumber(channel.getNumber());
+				if (channel.getFileDescription() == null || channel.getFileDescription().isEmpty())
+					channel.setFileDescription(StringHelper.getDateAndTime() + " - converted from " + file.getFileName()); //$NON-NLS-1$
+				String channelSuffix = filledChannels.size() > 1 ? GDE.STRING_UNDER_BAR + channel.getNumber() : GDE.STRING_EMPTY;
+				for (Format format : this.formats) {
+					if (format != Format.VAULT) write(file, channel, channelSuffix, format);
+				}
+			}
+		}
+	}
+
+	private void read(Path file) throws Exception {
+		IDevice device = this.analyzer.getActiveDevice();
+		String extention = PathUtils.getFileExtention(file);
+		if (GDE.FILE_ENDING_DOT_OSD.equals(extention)) {
+			String fileDeviceName = OsdReaderWriter.getHeader(file.toString()).get(GDE.DEVICE_NAME);
+			if (!device.getName().equals(fileDeviceName)) throw new NotSupportedException("device = " + fileDeviceName + " does not match " + device.getName()); //$NON-NLS-1$ //$NON-NLS-2$
+			OsdReaderWriter.read(file.toString());
+		} else if (GDE.FILE_ENDING_DOT_CSV.equals(extention)) {
+			char separator = Settings.getInstance().getListSeparator();
+			HashMap<String, String> fileHeader = CSVReaderWriter.getHeader(separator, file.toString());
+			fileHeader = CSVReaderWriter.evaluateType(separator, fileHeader, device.getDeviceConfiguration());
+			int channelConfigNumber = this.channels.getChannelNumber(fileHeader.get(GDE.CHANNEL_CONFIG_NAME));
+			this.channels.setActiveChannelNumber(channelConfigNumber < 1 || channelConfigNumber > device.getChannelCount() ? 1 : channelConfigNumber);
+			CSVReaderWriter.read(separator, file.toString(), GDE.STRING_EMPTY, GDE.CSV_DATA_TYPE_RAW.equals(fileHeader.get(GDE.CSV_DATA_TYPE)));
+		} else {
+			device.readImportFile(file);
+		}
+	}
+
+	private void write(Path file, Channel channel, String channelSuffix, Format format) {
+		StageStatistics stage = stage(format.name().toLowerCase(Locale.ENGLISH), "files"); //$NON-NLS-1$
+		Path directory = this.targetDirectory.orElse(file.toAbsolutePath().getParent());
+		String baseName = file.getFileName().toString();
+		baseName = baseName.contains(GDE.STRING_DOT) ? baseName.substring(0, baseName.lastIndexOf(GDE.CHAR_DOT)) : baseName;
+		String[] recordSetNames = channel.getRecordSetNames();
+		for (int i = 0; i < (format == Format.OSD ? 1 : recordSetNames.length); i++) {
+			String recordSetSuffix = format == Format.OSD || recordSetNames.length == 1 ? GDE.STRING_EMPTY : GDE.STRING_UNDER_BAR + (i + 1);
+			Path targetPath = directory.resolve(baseName + channelSuffix + recordSetSuffix + format.extention);
+			if (targetPath.equals(file.toAbsolutePath())) {
+				log.log(Level.WARNING, "skip conversion into the source file {0}", targetPath); //$NON-NLS-1$
+				continue;
+			}
+			long startNanoTime = System.nanoTime();
+			try {
+				RecordSet recordSet = channel.get(recordSetNames[i]);
+				channel.setActiveRecordSet(recordSet);
+				switch (format) {
+				case OSD:
+					OsdReaderWriter.write(targetPath.toString(), channel, Settings.getInstance().getOsdFileVersion());
+					break;
+				case CSV:
+					CSVReaderWriter.write(Settings.getInstance().getListSeparator(), recordSet.getName(), targetPath.toString(), false, "UTF-8"); //$NON-NLS-1$
+					break;
+				case KMZ:
+					writeKmz(targetPath, recordSet);
+					break;
+				case GPX:
+					writeGpx(targetPath, recordSet);
+					break;
+				default:
+					throw new UnsupportedOperationException(format.name());
+				}
+				stage.add(Files.size(targetPath));
+			} catch (Exception e) {
+				stage.addFailure();
+				log.log(Level.WARNING, targetPath + GDE.STRING_MESSAGE_CONCAT + e.getMessage(), e);
+			} finally {
+				stage.addTime(System.nanoTime() - startNanoTime);
+			}
+		}
+	}
+
+	private void writeKmz(Path targetPath, RecordSet recordSet) throws Exception {
+		int latitudeOrdinal = getGpsOrdinal(recordSet, Record.DataType.GPS_LATITUDE);
+		int longitudeOrdinal = getGpsOrdinal(recordSet, Record.DataType.GPS_LONGITUDE);
+		int altitudeOrdinal = recordSet.getRecordOrdinalOfType(Record.DataType.GPS_ALTITUDE);
+		int speedOrdinal = recordSet.getRecordOrdinalOfType(Record.DataType.GPS_SPEED);
+		int azimuthOrdinal = recordSet.getRecordOrdinalOfType(Record.DataType.GPS_AZIMUTH);
+		String kmlFileName = targetPath.getFileName().toString().replace(GDE.FILE_ENDING_DOT_KMZ, GDE.FILE_ENDING_DOT_KML);
+		KMZWriter.write(targetPath.toString(), kmlFileName, recordSet, longitudeOrdinal, latitudeOrdinal, altitudeOrdinal, speedOrdinal, -1, -1, azimuthOrdinal, true, altitudeOrdinal < 0);
+	}
+
+	private void writeGpx(Path targetPath, RecordSet recordSet) throws Exception {
+		int latitudeOrdinal = getGpsOrdinal(recordSet, Record.DataType.GPS_LATITUDE);
+		int longitudeOrdinal = getGpsOrdinal(recordSet, Record.DataType.GPS_LONGITUDE);
+		int altitudeOrdinal = getGpsOrdinal(recordSet, Record.DataType.GPS_ALTITUDE);
+		int speedOrdinal = recordSet.getRecordOrdinalOfType(Record.DataType.GPS_SPEED);
+		// the speed is required for the Garmin extension only
+		GPXWriter.write(targetPath.toString(), recordSet, latitudeOrdinal, longitudeOrdinal, altitudeOrdinal, speedOrdinal < 0 ? altitudeOrdinal : speedOrdinal, -1, -1, -1, -1, new int[0]);
+	}
+
+	private int getGpsOrdinal(RecordSet recordSet, Record.DataType dataType) throws NotSupportedException {
+		int ordinal = recordSet.getRecordOrdinalOfType(dataType);
+		if (ordinal < 0) throw new NotSupportedException(recordSet.getName() + " has no " + dataType.value()); //$NON-NLS-1$
+		return ordinal;
+	}
+
+	/**
+	 * @return the statistics of all stages, one line per stage
+	 */
+	public String getStatistics() {
+		return this.stages.values().stream().map(StageStatistics::toString).collect(Collectors.joining(GDE.LINE_SEPARATOR));
+	}
+
+	/**
+	 * @return the number of files and vaults which failed in any stage
+	 */
+	public long getFailures() {
+		return this.stages.values().stream().mapToLong(StageStatistics::getFailures).sum();
+	}
+
+	public void shutdown() {
+		this.pool.shutdown();
+	}
+
+	/**
+	 * @param args see {@link #USAGE}
+	 */
+	public static void main(String[] args) {
+		String deviceName = null, objectKey = GDE.STRING_EMPTY, formatsCsv = Format.OSD.name();
+		int channelNumber = 1, threads = Runtime.getRuntime().availableProcessors();
+		Optional<Path> targetDirectory = Optional.empty();
+		List<Path> paths = new ArrayList<>();
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "-device": //$NON-NLS-1$
+					deviceName = args[++i];
+					break;
+				case "-channel": //$NON-NLS-1$
+					channelNumber = Integer.parseInt(args[++i]);
+					break;
+				case "-object": //$NON-NLS-1$
+					objectKey = args[++i];
+					break;
+				case "-format": //$NON-NLS-1$
+					formatsCsv = args[++i];
+					break;
+				case "-target": //$NON-NLS-1$
+					targetDirectory = Optional.of(Paths.get(args[++i]));
+					break;
+				case "-threads": //$NON-NLS-1$
+					threads = Integer.parseInt(args[++i]);
+					break;
+				default:
+					paths.add(Paths.get(args[i]));
+				}
+			}
+			if (deviceName == null || paths.isEmpty() || threads < 1) throw new IllegalArgumentException();
+		} catch (RuntimeException e) {
+			System.err.println(USAGE);
+			System.exit(1);
+		}
+
+		BatchConverter converter = null;
+		int exitCode = 0;
+		try {
+			Settings.getInstance().joinXsdThread();
+			Thread.currentThread().setContextClassLoader(GDE.getClassLoader());
+			if (targetDirectory.isPresent()) Files.createDirectories(targetDirectory.get());
+
+			EnumSet<Format> formats = Format.fromCsv(formatsCsv);
+			converter = new BatchConverter(deviceName, channelNumber, objectKey, formats, targetDirectory, threads);
+			if (formats.contains(Format.VAULT)) converter.buildVaults(converter.scan(paths, converter.getVaultExtentions()));
+			if (!EnumSet.of(Format.VAULT).containsAll(formats)) converter.convert(converter.scan(paths, converter.getConversionExtentions()));
+			System.out.println(converter.getStatistics());
+			if (converter.getFailures() > 0) exitCode = 2;
+		} catch (Exception e) {
+			log.log(Level.SEVERE, e.getMessage(), e);
+			exitCode = 1;
+		} finally {
+			if (converter != null) converter.shutdown();
+		}
+		System.exit(exitCode);
+	}
+}
@@ -24,6 +24,7 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Optional;
 import java.util.Vector;
@@ -231,6 +232,25 @@ public class DataExplorer extends Composite {
 	 */
 	private boolean								isUpdateAllTabs										= true;
 
+	/**
+	 * minimum period between two live updates which limits the tab updates to 20 frames per second
+	 */
+	private static final int			LIVE_UPDATE_PERIOD_MS							= 50;
+
+	/**
+	 * tabs which show the data appended by gatherer threads
+	 */
+	private enum LiveTab {
+		GRAPHICS, STATISTICS, DIGITAL, ANALOG, CELL_VOLTAGE, FILE_COMMENT, DATA_TABLE
+	}
+
+	/**
+	 * tabs which have not been updated since the last live data were appended
+	 */
+	private final EnumSet<LiveTab>	dirtyLiveTabs										= EnumSet.noneOf(LiveTab.class);
+	private boolean								isLiveUpdateScheduled							= false;
+	private long									lastLiveUpdateNanos								= 0;
+
 	/**
 	 * main application class constructor
 	 */
@@ -757,6 +777,7 @@ COLOR_FOREGROUND									= SWTResourceManager.getColor(SWT.COLOR_WIDGET_FOREGROU
 							DataExplorer.this.histoExplorer.ifPresent(h -> h.updateVisibleTab(evt));
 						}
 					}
+					DataExplorer.this.updateDirtyLiveTab();
 				}
 			});
 			// drag filePath support
@@ -1978,6 +1999,9 @@ COLOR_FOREGROUND									= SWTResourceManager.getColor(SWT.COLOR_WIDGET_FOREGROU
 	 * update all visualization windows
 	 */
 	private void doUpdateAllTabs(final boolean force, final boolean redrawCurveSelector) {
+		synchronized (this.dirtyLiveTabs) {
+			this.dirtyLiveTabs.clear();
+		}
 		this.updateGraphicsWindow(redrawCurveSelector);
 		this.updateStatisticsData();
 		if (force) {
@@ -1997,6 +2021,96 @@ COLOR_FOREGROUND									= SWTResourceManager.getColor(SWT.COLOR_WIDGET_FOREGROU
 		this.isUpdateAllTabs = true;
 	}
 
+	/**
+	 * update the visualization windows with the data appended by a gatherer thread.
+	 * the updates are coalesced to one update per LIVE_UPDATE_PERIOD_MS and only the selected tab is updated,
+	 * the other tabs are marked dirty and updated as soon as they get selected.
+	 * the graphics tab draws the appended data only as long as scales and curve area do not change.
+	 */
+	public void updateLiveTabs() {
+		synchronized (this.dirtyLiveTabs) {
+			this.dirtyLiveTabs.addAll(EnumSet.allOf(LiveTab.class));
+			if (this.isLiveUpdateScheduled) return;
+			this.isLiveUpdateScheduled = true;
+		}
+		GDE.display.asyncExec(new Runnable() {
+			@Override
+			public void run() {
+				long elapsed_ms = (System.nanoTime() - DataExplorer.this.lastLiveUpdateNanos) / 1000000;
+				GDE.display.timerExec((int) Math.max(0, LIVE_UPDATE_PERIOD_MS - elapsed_ms), new Runnable() {
+					@Override
+					public void run() {
+						synchronized (DataExplorer.this.dirtyLiveTabs) {
+							DataExplorer.this.isLiveUpdateScheduled = false;
+						}
+						DataExplorer.this.lastLiveUpdateNanos = System.nanoTime();
+						DataExplorer.this.updateDirtyLiveTab();
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * update the selected tab if it has not been updated since the last live data were appended
+	 */
+	private void updateDirtyLiveTab() {
+		if (this.displayTab == null || this.displayTab.isDisposed()) return;
+		CTabItem selectedTabItem = this.displayTab.getSelection();
+		for (LiveTab liveTab : LiveTab.values()) {
+			if (selectedTabItem != null && selectedTabItem == getLiveTabItem(liveTab) && !selectedTabItem.isDisposed()) {
+				synchronized (this.dirtyLiveTabs) {
+					if (!this.dirtyLiveTabs.remove(liveTab)) return;
+				}
+				switch (liveTab) {
+				case GRAPHICS:
+					if (!this.graphicsTabItem.isActiveCurveSelectorContextMenu()) this.graphicsTabItem.redrawLiveGraphics();
+					break;
+				case STATISTICS:
+					this.statisticsTabItem.updateStatisticsData(true);
+					break;
+				case DIGITAL:
+					this.digitalTabItem.updateChilds();
+					break;
+				case ANALOG:
+					this.analogTabItem.updateChilds();
+					break;
+				case CELL_VOLTAGE:
+					this.cellVoltageTabItem.getCellVoltageMainComposite().redraw();
+					break;
+				case FILE_COMMENT:
+					this.fileCommentTabItem.update();
+					break;
+				case DATA_TABLE:
+					this.updateDataTable(this.getActiveRecordSet() != null ? this.getActiveRecordSet().getName() : GDE.STRING_EMPTY, false);
+					break;
+				}
+				return;
+			}
+		}
+	}
+
+	private CTabItem getLiveTabItem(LiveTab liveTab) {
+		switch (liveTab) {
+		case GRAPHICS:
+			return this.graphicsTabItem;
+		case STATISTICS:
+			return this.statisticsTabItem;
+		case DIGITAL:
+			return this.digitalTabItem;
+		case ANALOG:
+			return this.analogTabItem;
+		case CELL_VOLTAGE:
+			return this.cellVoltageTabItem;
+		case FILE_COMMENT:
+			return this.fileCommentTabItem;
+		case DATA_TABLE:
+			return this.dataTableTabItem;
+		default:
+			return null;
+		}
+	}
+
 	/**
 	 * update the graphicsWindow
 	 */
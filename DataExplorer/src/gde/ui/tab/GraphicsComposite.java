@@ -18,6 +18,7 @@
 ****************************************************************************************/
 package gde.ui.tab;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Properties;
@@ -46,6 +47,7 @@ import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.Region;
 import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Event;
@@ -166,6 +168,73 @@ public class GraphicsComposite extends Composite {
 	int												xPosCut									= 0;
 
 	boolean										isScopeMode							= false;
+	LiveFrame									liveFrame								= null;
+
+	/**
+	 * Curve area geometry and scales of the last full redraw of a record set in scope mode.
+	 * Data appended by a gatherer thread is drawn into the existing canvas image as long as these properties do not change.
+	 */
+	private static final class LiveFrame {
+		final RecordSet	recordSet;
+		final Rectangle	canvasBounds;
+		final Rectangle	curveAreaBounds;
+		final Rectangle	curveRect;							// curve area including the top border and the bottom line
+		final double		drawTimeWidth_ms;
+		final int[]			drawnOrdinals;
+		final double[]	displayValues;
+		final int				baseOffset;							// scope mode offset of the full redraw
+		int							realSize;
+		int							shiftedPixels	= 0;
+
+		LiveFrame(RecordSet recordSet, Rectangle canvasBounds, Rectangle curveAreaBounds) {
+			this.recordSet = recordSet;
+			this.canvasBounds = new Rectangle(canvasBounds.x, canvasBounds.y, canvasBounds.width, canvasBounds.height);
+			this.curveAreaBounds = new Rectangle(curveAreaBounds.x, curveAreaBounds.y, curveAreaBounds.width, curveAreaBounds.height);
+			this.curveRect = new Rectangle(curveAreaBounds.x, curveAreaBounds.y - 1, curveAreaBounds.width, curveAreaBounds.height + 2);
+			this.drawTimeWidth_ms = recordSet.get(0).getDrawTimeWidth_ms();
+			this.drawnOrdinals = getDrawnOrdinals(recordSet);
+			this.displayValues = getDisplayValues(recordSet);
+			this.baseOffset = recordSet.getScopeModeOffset();
+			this.realSize = recordSet.get(0).realSize();
+		}
+
+		/**
+		 * @return the ordinals of the visible and displayable records in display order
+		 */
+		private static int[] getDrawnOrdinals(RecordSet recordSet) {
+			return Arrays.stream(recordSet.getRecordsSortedForDisplay()).filter(r -> r.isVisible() && r.isDisplayable()).mapToInt(Record::getOrdinal).toArray();
+		}
+
+		/**
+		 * @return the min and max display values of all records which determine the vertical curve positions
+		 */
+		private static double[] getDisplayValues(RecordSet recordSet) {
+			Record[] records = recordSet.getRecordsSortedForDisplay();
+			double[] values = new double[records.length * 2];
+			for (int i = 0; i < records.length; i++) {
+				values[i * 2] = records[i].getMinDisplayValue();
+				values[i * 2 + 1] = records[i].getMaxDisplayValue();
+			}
+			return values;
+		}
+
+		/**
+		 * @return true if the canvas image of the last redraw may take the appended data
+		 */
+		boolean isAppendable(RecordSet activeRecordSet, Rectangle clientArea) {
+			return activeRecordSet == this.recordSet && this.canvasBounds.equals(clientArea) && activeRecordSet.isScopeMode() && !activeRecordSet.isZoomMode()
+					&& activeRecordSet.getTimeGridType() == 0 && activeRecordSet.isTimeStepConstant();
+		}
+
+		/**
+		 * @return true if the curve area, the time scale and the vertical scales are identical to the last full redraw
+		 */
+		boolean isMatching(RecordSet activeRecordSet, Rectangle activeCurveAreaBounds) {
+			return isAppendable(activeRecordSet, this.canvasBounds) && this.curveAreaBounds.equals(activeCurveAreaBounds)
+					&& activeRecordSet.get(0).getDrawTimeWidth_ms() == this.drawTimeWidth_ms && Arrays.equals(getDrawnOrdinals(activeRecordSet), this.drawnOrdinals)
+					&& Arrays.equals(getDisplayValues(activeRecordSet), this.displayValues);
+		}
+	}
 
 	GraphicsComposite(final SashForm useParent, GraphicsType useGraphicsType) {
 		super(useParent, SWT.NONE);
@@ -757,8 +826,9 @@ public class GraphicsComposite extends Composite {
 	 * @param recordSet the record set to be drawn
 	 * @param bounds the bounds where the curves and scales are drawn
 	 * @param gc the graphics context to be used for the graphics operations
+	 * @param isCurveDrawn false draws the scales and the time line only and keeps the curve area
 	 */
-	private void drawCurves(RecordSet recordSet, Rectangle bounds, GC gc) {
+	private void drawCurves(RecordSet recordSet, Rectangle bounds, GC gc, boolean isCurveDrawn) {
 		// prime the record set regarding scope mode and/or zoom mode
 		if (this.isScopeMode) {
 			int offset = recordSet.get(0).realSize() - recordSet.getScopeModeSize();
@@ -886,7 +956,7 @@ public class GraphicsComposite extends Composite {
 					drawCurveGrid(recordSet, gc, this.curveAreaBounds, this.settings.getGridDashStyle());
 			}
 			
-			if (isActualRecordEnabled) {
+			if (isActualRecordEnabled && isCurveDrawn) {
 				//gc.setForeground(SWTResourceManager.getColor(SWT.COLOR_RED));
 				//gc.drawRectangle(x0, y0-height, width, height);
 				gc.setClipping(x0 - 1, y0 - height - 1, width + 2, height + 2);
@@ -1000,10 +1070,12 @@ public class GraphicsComposite extends Composite {
 				}
 				break;
 			}
+			this.liveFrame = null;
 			if (recordSet != null && recordSet.realSize() > 0) {
-				drawCurves(recordSet, this.canvasBounds, this.canvasImageGC);
+				drawCurves(recordSet, this.canvasBounds, this.canvasImageGC, true);
 				//changed curve selection may change the scale end values
 				recordSet.syncScaleOfSyncableRecords();
+				if (this.graphicsType == GraphicsType.NORMAL && recordSet.isScopeMode()) this.liveFrame = new LiveFrame(recordSet, this.canvasBounds, this.curveAreaBounds);
 			}
 			this.canvasImageGC.dispose();
 		}
@@ -1015,6 +1087,106 @@ public class GraphicsComposite extends Composite {
 		this.recordSetComment.redraw();
 	}
 
+	/**
+	 * draws the data appended to the active record set in scope mode into the existing canvas image.
+	 * the curve area is shifted left and only the new curve segments are drawn, scales and time line are redrawn around the curve area.
+	 * falls back to a full redraw if the curve area, the scales or the visible records have changed since the last full redraw.
+	 * @return false if a full redraw was done
+	 */
+	synchronized boolean doRedrawLiveGraphics() {
+		LiveFrame frame = this.liveFrame;
+		RecordSet recordSet = this.channels.getActiveChannel() != null ? this.channels.getActiveChannel().getActiveRecordSet() : null;
+		if (frame == null || !this.isScopeMode || this.canvasImage == null || this.canvasImage.isDisposed() || !frame.isAppendable(recordSet, this.graphicCanvas.getClientArea())) {
+			doRedrawGraphics();
+			return false;
+		}
+		if (recordSet.get(0).realSize() <= frame.realSize) return true; // nothing appended
+
+		boolean isAppended = false;
+		Region decorationRegion = new Region(GDE.display);
+		this.canvasImageGC = new GC(this.canvasImage);
+		try {
+			this.canvasImageGC.setFont(SWTResourceManager.getFont(GDE.WIDGET_FONT_NAME, GDE.WIDGET_FONT_SIZE, SWT.NORMAL));
+			decorationRegion.add(this.canvasBounds);
+			decorationRegion.subtract(frame.curveRect);
+			this.canvasImageGC.setClipping(decorationRegion);
+			this.canvasImageGC.setBackground(this.surroundingBackground);
+			this.canvasImageGC.fillRectangle(this.canvasBounds);
+			drawCurves(recordSet, this.canvasBounds, this.canvasImageGC, false);
+			recordSet.syncScaleOfSyncableRecords();
+			if (frame.isMatching(recordSet, this.curveAreaBounds)) {
+				isAppended = appendCurves(recordSet, frame, this.canvasImageGC);
+			}
+		}
+		catch (Exception e) {
+			log.log(Level.SEVERE, e.getMessage(), e);
+		}
+		finally {
+			decorationRegion.dispose();
+			this.canvasImageGC.dispose();
+		}
+		if (!isAppended) {
+			doRedrawGraphics();
+			return false;
+		}
+		this.graphicCanvas.redraw();
+		return true;
+	}
+
+	/**
+	 * shift the curve area left according to the new scope mode offset and draw the appended curve segments into the uncovered strip
+	 * @param recordSet
+	 * @param frame holds the curve area of the last full redraw
+	 * @param gc the graphics context of the canvas image
+	 * @return false if the appended data do not fit into the curve area
+	 */
+	private boolean appendCurves(RecordSet recordSet, LiveFrame frame, GC gc) {
+		Rectangle curveRect = frame.curveRect;
+		int x0 = this.curveAreaBounds.x;
+		int y0 = this.curveAreaBounds.y + this.curveAreaBounds.height;
+		int offset = recordSet.getScopeModeOffset();
+		int realSize = recordSet.get(0).realSize();
+		int fromIndex = frame.realSize - 1 - offset; // display index of the last point drawn before
+		if (fromIndex < 0) return false;
+
+		// take the pixels from the full redraw offset to avoid accumulating rounding errors
+		int shiftedPixels = (int) Math.round((offset - frame.baseOffset) * recordSet.getAverageTimeStep_ms() * recordSet.get(0).getDisplayScaleFactorTime());
+		int deltaX = shiftedPixels - frame.shiftedPixels;
+		if (deltaX < 0 || deltaX >= curveRect.width) return false;
+		gc.setClipping(this.canvasBounds);
+		if (deltaX > 0) gc.copyArea(curveRect.x + deltaX, curveRect.y, curveRect.width - deltaX, curveRect.height, curveRect.x, curveRect.y);
+
+		// clear right of the last point drawn before which removes the interpolated curve end points, too
+		int stripX = Math.max(curveRect.x, recordSet.get(0).getDisplayPointX(fromIndex, x0) + 1);
+		Rectangle strip = new Rectangle(stripX, curveRect.y, curveRect.x + curveRect.width - stripX, curveRect.height);
+		gc.setClipping(strip);
+		gc.setBackground(this.surroundingBackground);
+		gc.fillRectangle(strip);
+		gc.setBackground(this.curveAreaBackground);
+		gc.fillRectangle(strip.intersection(this.curveAreaBounds));
+		gc.setBackground(this.surroundingBackground);
+		gc.setLineWidth(1);
+		gc.setLineStyle(SWT.LINE_SOLID);
+		gc.setForeground(this.curveAreaBorderColor);
+		gc.drawLine(strip.x, curveRect.y, strip.x + strip.width, curveRect.y);
+		int gridRecordOrdinal = recordSet.getValueGridRecordOrdinal();
+		if (recordSet.getValueGridType() > 0 && gridRecordOrdinal >= 0 && recordSet.get(gridRecordOrdinal).isScaleVisible())
+			drawCurveGrid(recordSet, gc, this.curveAreaBounds, this.settings.getGridDashStyle());
+
+		gc.setClipping(x0 - 1, this.curveAreaBounds.y - 1, this.curveAreaBounds.width + 2, this.curveAreaBounds.height + 2);
+		for (Record actualRecord : recordSet.getRecordsSortedForDisplay()) {
+			if (actualRecord.isVisible() && actualRecord.isDisplayable()) {
+				int toIndex = Math.min(actualRecord.realSize(), realSize) - 1 - offset;
+				CurveUtils.drawCurveSegment(actualRecord, gc, x0, y0, this.curveAreaBounds.width, fromIndex, toIndex);
+			}
+		}
+		gc.setClipping(this.canvasBounds);
+
+		frame.realSize = realSize;
+		frame.shiftedPixels = shiftedPixels;
+		return true;
+	}
+
 	public void notifySelected() {
 		this.recordSetComment.notifyListeners(SWT.FocusOut, new Event());
 	}
@@ -1855,7 +2027,8 @@ public class GraphicsComposite extends Composite {
 					this.canvasImageGC.setBackground(this.surroundingBackground);
 					this.canvasImageGC.fillRectangle(this.canvasBounds);
 					this.canvasImageGC.setFont(SWTResourceManager.getFont(GDE.WIDGET_FONT_NAME, GDE.WIDGET_FONT_SIZE, SWT.NORMAL));
-					drawCurves(activeRecordSet, this.canvasBounds, this.canvasImageGC);
+					drawCurves(activeRecordSet, this.canvasBounds, this.canvasImageGC, true);
+					this.liveFrame = null;
 					graphicsImage = new Image(GDE.display, this.canvasBounds.width, graphicsHeight);
 					GC graphicsGC = new GC(graphicsImage);
 					graphicsGC.setForeground(this.graphicsHeader.getForeground());
@@ -153,6 +153,26 @@ public class GraphicsWindow extends CTabItem {
 		}
 	}
 
+	/**
+	 * draw the data appended in live mode, a full redraw includes the captions and the curve selector
+	 */
+	public void redrawLiveGraphics() {
+		if (Thread.currentThread().getId() == this.application.getThreadId()) {
+			if (!this.graphicsComposite.doRedrawLiveGraphics()) {
+				this.graphicsComposite.updateCaptions();
+				this.curveSelectorComposite.doUpdateCurveSelectorTable();
+			}
+		}
+		else {
+			GDE.display.asyncExec(new Runnable() {
+				@Override
+				public void run() {
+					redrawLiveGraphics();
+				}
+			});
+		}
+	}
+
 	/**
 	 * update graphics window header and description
 	 */
@@ -18,6 +18,7 @@
 ****************************************************************************************/
 package gde.utils;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import org.eclipse.swt.SWT;
@@ -247,12 +248,14 @@ public class CurveUtils {
 
 		StringBuffer sb = new StringBuffer(); // logging purpose
 		Point newPoint, oldPoint = new Point(0, 0);
+		Polyline polyline = new Polyline(width * 8 + 8);
 
 		try {
 			//calculate start point of the curve, which is the first oldPoint
 			//draw the first point with possible interpolated values if it does not match a measurement point at time value
 			//oldPoint = record.getParent().isScopeMode() ? record.getDisplayPoint(0, x0, y0) : record.getDisplayEndPoint(0, x0);
 			oldPoint = record.getDisplayEndPoint(0);
+			polyline.add(oldPoint.x, oldPoint.y);
 			if (log.isLoggable(Level.FINEST)) sb.append(GDE.LINE_SEPARATOR).append(oldPoint.toString());
 		}
 		catch (RuntimeException e) {
@@ -274,45 +277,153 @@ public class CurveUtils {
 						newPoint = record.getDisplayPoint(j, x0, y0);
 					if (log.isLoggable(Level.FINEST)) sb.append(GDE.LINE_SEPARATOR).append(newPoint.toString());
 					if (j <= drawLimit) {
-						gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
+						polyline.add(newPoint.x, newPoint.y);
 					}
-					oldPoint = newPoint; //remember the last draw point for next drawLine operation, if point above, do nothing
 				}
 				if (j <= drawLimit) {
 					//draw the last point with possible interpolated values if it does not match a measurement point at time value
 					newPoint = record.getDisplayEndPoint(width);
-					gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
+					polyline.add(newPoint.x, newPoint.y);
 				}
 			}
-			else if (record.getDevice().isGPSCoordinates(record)) {
+			else if (record.getDevice().isGPSCoordinates(record) || record.isSmoothedDisplay()) {
 				//int tmpDelta = 0;
+				boolean isGPSCoordinate = record.getDevice().isGPSCoordinates(record);
 				for (int j = 0; j <= displayableSize && displayableSize > 1; j += xScaleFactor) {
 					// get the point to be drawn
-					newPoint = record.getGPSDisplayPoint(j, x0, y0);
+					newPoint = isGPSCoordinate ? record.getGPSDisplayPoint(j, x0, y0) : record.getDisplayPoint(j, x0, y0);
 					if (log.isLoggable(Level.FINEST)) sb.append(GDE.LINE_SEPARATOR).append(newPoint.toString());
-					gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
-					oldPoint = newPoint; // remember the last draw point for next drawLine operation
+					polyline.add(newPoint.x, newPoint.y);
 				}
 				//draw the last point with possible interpolated values if it does not match a measurement point at time value
 				newPoint = record.getDisplayEndPoint(width);
-				gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
+				polyline.add(newPoint.x, newPoint.y);
 			}
-			else {
-				for (int j = 0; j <= displayableSize && displayableSize > 1; j += xScaleFactor) {
-					// get the point to be drawn
-					newPoint = record.getDisplayPoint(j, x0, y0);
-					if (log.isLoggable(Level.FINEST)) sb.append(GDE.LINE_SEPARATOR).append(newPoint.toString());
-					gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
-					oldPoint = newPoint; // remember the last draw point for next drawLine operation
-				}
+			else if (displayableSize > 1) {
+				addDecimatedPoints(record, polyline, x0, y0, displayableSize);
 				//draw the last point with possible interpolated values if it does not match a measurement point at time value
 				newPoint = record.getDisplayEndPoint(width);
-				gc.drawLine(oldPoint.x, oldPoint.y, newPoint.x, newPoint.y);
+				polyline.add(newPoint.x, newPoint.y);
 			}
 		}
 		catch (RuntimeException e) {
 			log.log(Level.SEVERE, e.getMessage() + " zoomed compare set ?", e); //$NON-NLS-1$
 		}
+		if (polyline.size() > 1) gc.drawPolyline(polyline.toArray());
 		if (log.isLoggable(Level.FINEST)) log.log(Level.FINEST, sb.toString());
 	}
+
+	/**
+	 * method draw a curve segment between two display indices using the given graphics context (GC), e.g. the data appended in live mode.
+	 * the segment ends with the curve end point like the curve drawn by {@link #drawCurve(Record, GC, int, int, int, int, boolean)}.
+	 * @param record
+	 * @param gc
+	 * @param x0
+	 * @param y0
+	 * @param width
+	 * @param fromIndex is the display index of the first segment point
+	 * @param toIndex is the display index of the last measurement point (inclusive)
+	 */
+	public static void drawCurveSegment(Record record, GC gc, int x0, int y0, int width, int fromIndex, int toIndex) {
+		if (toIndex <= fromIndex) return;
+
+		gc.setForeground(SWTResourceManager.getColor(record.getRGB()));
+		gc.setLineWidth(record.getLineWidth());
+		gc.setLineStyle(record.getLineStyle());
+
+		boolean isGPSCoordinate = record.getDevice().isGPSCoordinates(record);
+		Polyline polyline = new Polyline((toIndex - fromIndex + 2) * 2);
+		try {
+			for (int j = fromIndex; j <= toIndex; j++) {
+				Point newPoint = isGPSCoordinate ? record.getGPSDisplayPoint(j, x0, y0) : record.getDisplayPoint(j, x0, y0);
+				polyline.add(newPoint.x, newPoint.y);
+			}
+			Point endPoint = record.getDisplayEndPoint(width);
+			polyline.add(endPoint.x, endPoint.y);
+		}
+		catch (RuntimeException e) {
+			log.log(Level.SEVERE, e.getMessage(), e);
+		}
+		if (polyline.size() > 1) gc.drawPolyline(polyline.toArray());
+	}
+
+	/**
+	 * add the display points of the record decimated to the pixel columns of the draw area.
+	 * all points falling into one pixel column are represented by the first, the minimum, the maximum and the last value,
+	 * the minimum and maximum are taken from the record's min/max pyramid, which keeps the effort independent of the number of points.
+	 * columns with only a few points get all their points added to draw them exactly.
+	 * @param record
+	 * @param polyline
+	 * @param x0
+	 * @param y0
+	 * @param displayableSize
+	 */
+	private static void addDecimatedPoints(Record record, Polyline polyline, int x0, int y0, int displayableSize) {
+		final int indexOffset = record.getDisplayIndexOffset();
+		final int lastIndex = Math.min(displayableSize, record.realSize() - 1 - indexOffset); // inclusive display index
+		final int[] minMax = new int[2];
+		int j = 0;
+		while (j <= lastIndex) {
+			final int x = record.getDisplayPointX(j, x0);
+			// find the first index of the next pixel column by galloping and bisection
+			int low = j + 1, high = j + 1, step = 1;
+			while (high <= lastIndex && record.getDisplayPointX(high, x0) <= x) {
+				low = high + 1;
+				high += step;
+				step <<= 1;
+			}
+			high = Math.min(high, lastIndex + 1);
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (record.getDisplayPointX(mid, x0) <= x)
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			final int end = low; // exclusive display index
+
+			if (end - j <= 4) {
+				for (int k = j; k < end; k++) {
+					polyline.add(record.getDisplayPointX(k, x0), record.getDisplayPointY(record.elementAtInt(k + indexOffset), y0));
+				}
+			}
+			else {
+				record.getMinMax(j + indexOffset, end + indexOffset, minMax);
+				polyline.add(x, record.getDisplayPointY(record.elementAtInt(j + indexOffset), y0));
+				polyline.add(x, record.getDisplayPointY(minMax[0], y0));
+				polyline.add(x, record.getDisplayPointY(minMax[1], y0));
+				polyline.add(x, record.getDisplayPointY(record.elementAtInt(end - 1 + indexOffset), y0));
+			}
+			j = end;
+		}
+	}
+
+	/**
+	 * growable x/y coordinate array to draw a curve with a single polyline call
+	 */
+	private static final class Polyline {
+		private int[]	coordinates;
+		private int		length	= 0;
+
+		Polyline(int initialCapacity) {
+			this.coordinates = new int[Math.max(16, initialCapacity)];
+		}
+
+		void add(int x, int y) {
+			if (this.length + 2 > this.coordinates.length) this.coordinates = Arrays.copyOf(this.coordinates, this.coordinates.length << 1);
+			this.coordinates[this.length++] = x;
+			this.coordinates[this.length++] = y;
+		}
+
+		/**
+		 * @return the number of points
+		 */
+		int size() {
+			return this.length / 2;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(this.coordinates, this.length);
+		}
+	}
 }
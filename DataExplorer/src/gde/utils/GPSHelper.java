@@ -32,7 +32,9 @@ import gde.histo.utils.GpsCoordinate;
 import gde.log.Level;
 
 /**
- * helper class to calculate miscellaneous values based on GPS coordinates
+ * helper class to calculate miscellaneous values based on GPS coordinates.
+ * The calculations are based on the {@link GPSKernel} and lock the record set whose records are written only,
+ * thus different record sets are calculated concurrently.
  */
 public class GPSHelper {
 	private static Logger log = Logger.getLogger(GPSHelper.class.getName());
@@ -46,7 +48,7 @@ public class GPSHelper {
 	 * @param secondLongitude
 	 * @return distance in meter
 	 */
-	public static synchronized double getDistance2D_m(double fistLatitude, double firstLongitude, double secondLatitude, double secondLongitude) {
+	public static double getDistance2D_m(double fistLatitude, double firstLongitude, double secondLatitude, double secondLongitude) {
 		return 6378388. * Math.acos(Math.sin(fistLatitude * rad) * Math.sin(secondLatitude * rad) + Math.cos(fistLatitude * rad) * Math.cos(secondLatitude * rad) * Math.cos((firstLongitude - secondLongitude) * rad));
 		//double dx = 111134 * (secondLatitude - fistLatitude);
     //double dy = 71500 * (secondLongitude - secondLongitude);
@@ -117,7 +119,7 @@ public class GPSHelper {
 	 * @param recordOrdinalLongitude
 	 * @return
 	 */
-	public static synchronized int getStartIndexGPS(RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude) {
+	public static int getStartIndexGPS(RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude) {
 		int startIndexGPS = -1;
 		//input records
 		Record recordLatitude = recordSet.get(recordOrdinalLatitude);
@@ -152,136 +154,117 @@ public class GPSHelper {
 	 * @param recordOrdinalAzimuth - output, depends on input latitude, longitude (will be smoothed to make somehow interpretable)
 	 * @param recordOrdinalDirectionStart - output, depends on input latitude, longitude 
 	 */
-	public static synchronized void calculateValues(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude, int recordOrdinalAltitude, int startAltitude,
+	public static void calculateValues(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude, int recordOrdinalAltitude, int startAltitude,
 			int recordOrdinalTripLength, int recordOrdinalDistance, int recordOrdinalAzimuth, int recordOrdinalDirectionStart) {
 		double lastTripLength = 0;
 		long startTime = new Date().getTime();
 
-		try {
-			//input records
-			Record recordLatitude = recordSet.get(recordOrdinalLatitude);
-			Record recordLongitude = recordSet.get(recordOrdinalLongitude);
-			Record recordAlitude = recordSet.get(recordOrdinalAltitude);
-			int recordSize = recordLatitude.realSize();
-
-			if (recordSize >= 3 && recordLatitude.hasReasonableData() && recordLongitude.hasReasonableData()) {
-				//output records
-				Record recordTripLength = recordSet.get(recordOrdinalTripLength);
-				Record recordDistance = recordSet.get(recordOrdinalDistance);
-				Record recordAzimuth = recordSet.get(recordOrdinalAzimuth);
-				Record recordDirection = recordSet.get(recordOrdinalDirectionStart);
-				recordTripLength.clear();
-				recordDistance.clear();
-				recordAzimuth.clear();
-				recordDirection.clear();
-				
-				//check GPS latitude and longitude				
-				int indexGPS = 0;
-				int i = 0;
-				for (; i < recordSize; ++i) {
-					if (recordLatitude.get(i) != 0 && recordLongitude.get(i) != 0) {
-						indexGPS = i;
-						++i;
-						break;
+		synchronized (recordSet) { // the output records belong to the record set
+			try {
+				//input records
+				Record recordLatitude = recordSet.get(recordOrdinalLatitude);
+				Record recordLongitude = recordSet.get(recordOrdinalLongitude);
+				Record recordAlitude = recordSet.get(recordOrdinalAltitude);
+				int recordSize = recordLatitude.realSize();
+
+				if (recordSize >= 3 && recordLatitude.hasReasonableData() && recordLongitude.hasReasonableData()) {
+					int[] latitudes = GPSKernel.toIntArray(recordLatitude, recordSize);
+					int[] longitudes = GPSKernel.toIntArray(recordLongitude, recordSize);
+					int[] altitudes = GPSKernel.toIntArray(recordAlitude, recordSize);
+					GPSKernel kernel = GPSKernel.of(device, recordLatitude, recordLongitude);
+
+					//output records
+					Record recordTripLength = recordSet.get(recordOrdinalTripLength);
+					Record recordDistance = recordSet.get(recordOrdinalDistance);
+					Record recordAzimuth = recordSet.get(recordOrdinalAzimuth);
+					Record recordDirection = recordSet.get(recordOrdinalDirectionStart);
+					recordTripLength.clear();
+					recordDistance.clear();
+					recordAzimuth.clear();
+					recordDirection.clear();
+					
+					//check GPS latitude and longitude				
+					int indexGPS = 0;
+					int i = 0;
+					for (; i < recordSize; ++i) {
+						if (latitudes[i] != 0 && longitudes[i] != 0) {
+							indexGPS = i;
+							++i;
+							break;
+						}
+						recordTripLength.add(0);
+						recordDistance.add(0);
+						recordDirection.add(0);
+						recordAzimuth.add(0);
+						recordDirection.add(0);
 					}
 					recordTripLength.add(0);
 					recordDistance.add(0);
-					recordDirection.add(0);
-					recordAzimuth.add(0);
-					recordDirection.add(0);
-				}
-				recordTripLength.add(0);
-				recordDistance.add(0);
 
-				int lastLongitude = recordLongitude.get(indexGPS);
-				int startLongitude = recordLongitude.get(indexGPS);
-				double phi_start_rad = device.translateValue(recordLatitude, recordLatitude.get(indexGPS) / 1000.0) * rad;
-				double lambda_start = device.translateValue(recordLongitude, lastLongitude / 1000.0);
+					int lastLongitude = longitudes[indexGPS];
+					int startLongitude = longitudes[indexGPS];
+					int indexMovement = 0;
 
-				double phi_A_rad = phi_start_rad;
-				double lambda_A = lambda_start;
-				
-				int indexMovement = 0;
-
-				recordTripLength.add(0);
-				recordDistance.add(0);
-				recordDirection.add(0);
-				
-				for (; i < recordSize; ++i) {
-					double phi_B_rad = device.translateValue(recordLatitude, recordLatitude.get(i) / 1000.0) * rad;
-					double lambda_B = device.translateValue(recordLongitude, recordLongitude.get(i) / 1000.0);
-
-					double prod_start = (Math.sin(phi_start_rad) * Math.sin(phi_B_rad)) + (Math.cos(phi_start_rad) * Math.cos(phi_B_rad) * Math.cos((lambda_B - lambda_start) * rad));
-					prod_start = prod_start > 1.0 ? 1.0 : prod_start < -1.0 ? -1.0 : prod_start;
-
-					double zeta_start_rad = Math.acos(prod_start);
-					zeta_start_rad = zeta_start_rad <= 0.0 ? 0.0 : zeta_start_rad >= Math.PI ? Math.PI : zeta_start_rad;
-					double zeta_start = zeta_start_rad / rad;
-
-					double prod = (Math.sin(phi_A_rad) * Math.sin(phi_B_rad)) + (Math.cos(phi_A_rad) * Math.cos(phi_B_rad) * Math.cos((lambda_B - lambda_A) * rad));
-					prod = prod > 1.0 ? 1.0 : prod < -1.0 ? -1.0 : prod;
-
-					double zeta_rad = Math.acos(prod);
-					zeta_rad = zeta_rad <= 0.0 ? 0.0 : zeta_rad >= Math.PI ? Math.PI : zeta_rad;
-					double zeta = zeta_rad / rad;
+					recordTripLength.add(0);
+					recordDistance.add(0);
+					recordDirection.add(0);
+					
+					for (; i < recordSize; ++i) {
+						double zeta_start_rad = kernel.getCentralAngle_rad(indexGPS, i);
+						double zeta_start = zeta_start_rad / rad;
 
-					double powDeltaHeight = Math.pow((recordAlitude.get(i - 1) - recordAlitude.get(i)) / 1000.0, 2);
-					double powOrthodrome = Math.pow((zeta * (40041000.0 / 360.0)), 2);
-					double deltaTrip = Math.sqrt(powOrthodrome + powDeltaHeight) * 0.942;
-					recordTripLength.add((int) (lastTripLength + deltaTrip));//[km}];
+						double zeta_rad = kernel.getCentralAngle_rad(i - 1, i);
+						double zeta = zeta_rad / rad;
 
-					powDeltaHeight = Math.pow((recordAlitude.get(i) - startAltitude) / 1000.0, 2); // alternatively the relative altitude could be used here
-					powOrthodrome = Math.pow(((zeta_start * 40041000 / 360)), 2);
-					recordDistance.add((int) (Math.sqrt(powOrthodrome + powDeltaHeight) * 1000.0)); //[km}];
+						double powDeltaHeight = Math.pow((altitudes[i - 1] - altitudes[i]) / 1000.0, 2);
+						double powOrthodrome = Math.pow((zeta * (40041000.0 / 360.0)), 2);
+						double deltaTrip = Math.sqrt(powOrthodrome + powDeltaHeight) * 0.942;
+						recordTripLength.add((int) (lastTripLength + deltaTrip));//[km}];
 
-					double prod_alpha_start = zeta_start <= 0.0 ? -1.0 : zeta_start >= Math.PI ? Math.PI : (Math.sin(phi_B_rad) - (Math.sin(phi_start_rad) * Math.cos(zeta_start_rad)))
-							/ (Math.cos(phi_start_rad) * Math.sin(zeta_start_rad));
-					double alpha_start = Math.acos(prod_alpha_start < -1.0 ? -1.0 : prod_alpha_start > 1.0 ? 1.0 : prod_alpha_start) / rad;
-					alpha_start = startLongitude > recordLongitude.get(i) ? 360.0 - alpha_start : alpha_start;
-					recordDirection.add((int) (alpha_start * 1000.0));
+						powDeltaHeight = Math.pow((altitudes[i] - startAltitude) / 1000.0, 2); // alternatively the relative altitude could be used here
+						powOrthodrome = Math.pow(((zeta_start * 40041000 / 360)), 2);
+						recordDistance.add((int) (Math.sqrt(powOrthodrome + powDeltaHeight) * 1000.0)); //[km}];
 
-					double prod_alpha = zeta_rad <= 0.0 ? -1.0 : zeta_rad >= Math.PI ? Math.PI : (Math.sin(phi_B_rad) - (Math.sin(phi_A_rad) * Math.cos(zeta_rad))) / (Math.cos(phi_A_rad) * Math.sin(zeta_rad));
-					double alpha = Math.acos(prod_alpha < -1.0 ? -1.0 : prod_alpha > 1.0 ? 1.0 : prod_alpha) / rad;
-					alpha = lastLongitude > recordLongitude.get(i) ? 360.0 - alpha : alpha;
+						double alpha_start = kernel.getCourse_deg(indexGPS, i, zeta_start_rad, startLongitude > longitudes[i]);
+						recordDirection.add((int) (alpha_start * 1000.0));
 
-					recordAzimuth.add((int) (alpha * 1000.0));
+						double alpha = kernel.getCourse_deg(i - 1, i, zeta_rad, lastLongitude > longitudes[i]);
+						recordAzimuth.add((int) (alpha * 1000.0));
 
-					//make more insensitive for azimuth dither around 0/360 
-					int deltaLongitude = Math.abs(lastLongitude - recordLongitude.get(i));
-					int deltaDistance = Math.abs(recordDistance.get(i - 1) - recordDistance.get(i));
-					if (i != 1 && ((deltaLongitude <= 2 && deltaTrip < 0.5) || deltaDistance < 5)) {
-						if (i-indexGPS > 3) {
-							recordAzimuth.set(i - 1, ((recordAzimuth.get(i - 1) + recordAzimuth.get(i - 2) + recordAzimuth.get(i - 3)) / 3));
+						//make more insensitive for azimuth dither around 0/360 
+						int deltaLongitude = Math.abs(lastLongitude - longitudes[i]);
+						int deltaDistance = Math.abs(recordDistance.get(i - 1) - recordDistance.get(i));
+						if (i != 1 && ((deltaLongitude <= 2 && deltaTrip < 0.5) || deltaDistance < 5)) {
+							if (i-indexGPS > 3) {
+								recordAzimuth.set(i - 1, ((recordAzimuth.get(i - 1) + recordAzimuth.get(i - 2) + recordAzimuth.get(i - 3)) / 3));
+							}
+							else
+								recordAzimuth.set(i - 1, recordAzimuth.get(i - 1));
 						}
 						else
-							recordAzimuth.set(i - 1, recordAzimuth.get(i - 1));
-					}
-					else
-						lastLongitude = recordLongitude.get(i);
-
-					if (log.isLoggable(Level.FINER))
-						log.log(Level.FINER, String.format("deltaLongitude = %d; deltaDistance = %d; Kurswinkel = %7.3f; %7.3f", deltaLongitude, deltaDistance, alpha, (recordAzimuth.get(i - 1) / 1000.0)));
+							lastLongitude = longitudes[i];
 
-					phi_A_rad = phi_B_rad;
-					lambda_A = lambda_B;
+						if (log.isLoggable(Level.FINER))
+							log.log(Level.FINER, String.format("deltaLongitude = %d; deltaDistance = %d; Kurswinkel = %7.3f; %7.3f", deltaLongitude, deltaDistance, alpha, (recordAzimuth.get(i - 1) / 1000.0)));
 
-					lastTripLength = lastTripLength + deltaTrip;
+						lastTripLength = lastTripLength + deltaTrip;
+						
+						if (indexMovement == 0 && recordDistance.get(i) > 1500) 
+							indexMovement = i;
+					}
+					recordAzimuth.add(recordAzimuth.getLast());
 					
-					if (indexMovement == 0 && recordDistance.get(i) > 1500) 
-						indexMovement = i;
-				}
-				recordAzimuth.add(recordAzimuth.getLast());
-				
-				int azimuth = recordAzimuth.get(indexMovement);
-				int direction = recordDirection.get(indexMovement);
-				for (i = 0; i < indexMovement; i++) {
-					recordAzimuth.set(i, azimuth);
-					recordDirection.set(i, direction);
+					int azimuth = recordAzimuth.get(indexMovement);
+					int direction = recordDirection.get(indexMovement);
+					for (i = 0; i < indexMovement; i++) {
+						recordAzimuth.set(i, azimuth);
+						recordDirection.set(i, direction);
+					}
 				}
 			}
-		}
-		catch (RuntimeException e) {
-			log.log(Level.WARNING, e.getMessage(), e);
+			catch (RuntimeException e) {
+				log.log(Level.WARNING, e.getMessage(), e);
+			}
 		}
 		if(log.isLoggable(Level.TIME)) log.log(Level.TIME, "calcualation time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - startTime)));//$NON-NLS-1$ //$NON-NLS-2$	
 	}
@@ -296,101 +279,69 @@ public class GPSHelper {
 	 * @param startAltitude - input, needed to calculate the distance from start point 
 	 * @param recordOrdinalTripLength - output, depends on input latitude, longitude and altitude
 	 */
-	public static synchronized void calculateTripLength(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude, int recordOrdinalAltitude, int startAltitude,
+	public static void calculateTripLength(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude, int recordOrdinalAltitude, int startAltitude,
 			int recordOrdinalTripLength) {
 		double lastTripLength = 0;
 		long startTime = new Date().getTime();
 
-		try {
-			//input records
-			Record recordLatitude = recordSet.get(recordOrdinalLatitude);
-			Record recordLongitude = recordSet.get(recordOrdinalLongitude);
-			Record recordAlitude = recordSet.get(recordOrdinalAltitude);
-			int recordSize = recordLatitude.realSize();
-
-			if (recordSize >= 3 && recordLatitude.hasReasonableData() && recordLongitude.hasReasonableData()) {
-				//output records
-				Record recordTripLength = recordSet.get(recordOrdinalTripLength);
-				recordTripLength.clear();
-				
-				//check GPS latitude and longitude				
-				int indexGPS = 0;
-				int i = 0;
-				for (; i < recordSize; ++i) {
-					if (recordLatitude.get(i) != 0 || recordLongitude.get(i) != 0) {
-						indexGPS = i;
-						++i;
-						break;
+		synchronized (recordSet) { // the output record belongs to the record set
+			try {
+				//input records
+				Record recordLatitude = recordSet.get(recordOrdinalLatitude);
+				Record recordLongitude = recordSet.get(recordOrdinalLongitude);
+				Record recordAlitude = recordSet.get(recordOrdinalAltitude);
+				int recordSize = recordLatitude.realSize();
+
+				if (recordSize >= 3 && recordLatitude.hasReasonableData() && recordLongitude.hasReasonableData()) {
+					int[] latitudes = GPSKernel.toIntArray(recordLatitude, recordSize);
+					int[] longitudes = GPSKernel.toIntArray(recordLongitude, recordSize);
+					int[] altitudes = GPSKernel.toIntArray(recordAlitude, recordSize);
+					GPSKernel kernel = GPSKernel.of(device, recordLatitude, recordLongitude);
+
+					//output records
+					Record recordTripLength = recordSet.get(recordOrdinalTripLength);
+					recordTripLength.clear();
+					
+					//check GPS latitude and longitude				
+					int indexGPS = 0;
+					int i = 0;
+					for (; i < recordSize; ++i) {
+						if (latitudes[i] != 0 || longitudes[i] != 0) {
+							indexGPS = i;
+							++i;
+							break;
+						}
+						recordTripLength.add(0);
 					}
 					recordTripLength.add(0);
-				}
-				recordTripLength.add(0);
-
-				int lastLongitude = recordLongitude.get(indexGPS);
-				int startLongitude = recordLongitude.get(indexGPS);
-				double phi_start_rad = device.translateValue(recordLatitude, recordLatitude.get(indexGPS) / 1000.0) * rad;
-				double lambda_start = device.translateValue(recordLongitude, lastLongitude / 1000.0);
-
-				double phi_A_rad = phi_start_rad;
-				double lambda_A = lambda_start;
-				
-				for (; i < recordSize; ++i) {
-					if (recordLatitude.get(i) != 0 || recordLongitude.get(i) != 0) {
-						double phi_B_rad = device.translateValue(recordLatitude, recordLatitude.get(i) / 1000.0) * rad;
-						double lambda_B = device.translateValue(recordLongitude, recordLongitude.get(i) / 1000.0);
-
-						double prod_start = (Math.sin(phi_start_rad) * Math.sin(phi_B_rad)) + (Math.cos(phi_start_rad) * Math.cos(phi_B_rad) * Math.cos((lambda_B - lambda_start) * rad));
-						prod_start = prod_start > 1.0 ? 1.0 : prod_start < -1.0 ? -1.0 : prod_start;
-
-						double zeta_start_rad = Math.acos(prod_start);
-						zeta_start_rad = zeta_start_rad <= 0.0 ? 0.0 : zeta_start_rad >= Math.PI ? Math.PI : zeta_start_rad;
-						double zeta_start = zeta_start_rad / rad;
-
-						double prod = (Math.sin(phi_A_rad) * Math.sin(phi_B_rad)) + (Math.cos(phi_A_rad) * Math.cos(phi_B_rad) * Math.cos((lambda_B - lambda_A) * rad));
-						prod = prod > 1.0 ? 1.0 : prod < -1.0 ? -1.0 : prod;
-
-						double zeta_rad = Math.acos(prod);
-						zeta_rad = zeta_rad <= 0.0 ? 0.0 : zeta_rad >= Math.PI ? Math.PI : zeta_rad;
-						double zeta = zeta_rad / rad;
-
-						double powDeltaHeight = Math.pow((recordAlitude.get(i - 1) - recordAlitude.get(i)) / 1000.0, 2);
-						double powOrthodrome = Math.pow((zeta * (40041000.0 / 360.0)), 2);
-						double deltaTrip = Math.sqrt(powOrthodrome + powDeltaHeight);
-						recordTripLength.add((int) (lastTripLength + deltaTrip));//[km}];
 
-						//powDeltaHeight = Math.pow((recordAlitude.get(i) - startAltitude) / 1000.0, 2); // alternatively the relative altitude could be used here
-						//powOrthodrome = Math.pow(((zeta_start * 40041000 / 360)), 2);
-
-						double prod_alpha_start = zeta_start <= 0.0 ? -1.0
-								: zeta_start >= Math.PI ? Math.PI : (Math.sin(phi_B_rad) - (Math.sin(phi_start_rad) * Math.cos(zeta_start_rad))) / (Math.cos(phi_start_rad) * Math.sin(zeta_start_rad));
-						double alpha_start = Math.acos(prod_alpha_start < -1.0 ? -1.0 : prod_alpha_start > 1.0 ? 1.0 : prod_alpha_start) / rad;
-						alpha_start = startLongitude > recordLongitude.get(i) ? 360.0 - alpha_start : alpha_start;
-
-						double prod_alpha = zeta_rad <= 0.0 ? -1.0
-								: zeta_rad >= Math.PI ? Math.PI : (Math.sin(phi_B_rad) - (Math.sin(phi_A_rad) * Math.cos(zeta_rad))) / (Math.cos(phi_A_rad) * Math.sin(zeta_rad));
-						double alpha = Math.acos(prod_alpha < -1.0 ? -1.0 : prod_alpha > 1.0 ? 1.0 : prod_alpha) / rad;
-						alpha = lastLongitude > recordLongitude.get(i) ? 360.0 - alpha : alpha;
-
-						lastLongitude = recordLongitude.get(i);
-
-						phi_A_rad = phi_B_rad;
-						lambda_A = lambda_B;
-
-						lastTripLength = lastTripLength + deltaTrip;
-					} 
-					else {
-						if (log.isLoggable(Level.FINE)) 
-							log.log(Level.FINE, String.format("%d - %s", i, recordSet.getName(), recordLatitude, recordLongitude));					
-						recordTripLength.add((int)lastTripLength); // keep previous point
+					int indexA = indexGPS;
+					for (; i < recordSize; ++i) {
+						if (latitudes[i] != 0 || longitudes[i] != 0) {
+							double zeta = kernel.getCentralAngle_rad(indexA, i) / rad;
+
+							double powDeltaHeight = Math.pow((altitudes[i - 1] - altitudes[i]) / 1000.0, 2);
+							double powOrthodrome = Math.pow((zeta * (40041000.0 / 360.0)), 2);
+							double deltaTrip = Math.sqrt(powOrthodrome + powDeltaHeight);
+							recordTripLength.add((int) (lastTripLength + deltaTrip));//[km}];
+
+							indexA = i;
+							lastTripLength = lastTripLength + deltaTrip;
+						} 
+						else {
+							if (log.isLoggable(Level.FINE)) 
+								log.log(Level.FINE, String.format("%d - %s", i, recordSet.getName(), recordLatitude, recordLongitude));					
+							recordTripLength.add((int)lastTripLength); // keep previous point
+						}
+					}
+					for (int j = recordTripLength.realSize(); j < recordSize; j++) {
+						recordTripLength.add(recordTripLength.get(recordTripLength.realSize()-1));
 					}
-				}
-				for (int j = recordTripLength.realSize(); j < recordSize; j++) {
-					recordTripLength.add(recordTripLength.get(recordTripLength.realSize()-1));
 				}
 			}
-		}
-		catch (RuntimeException e) {
-			log.log(Level.WARNING, e.getMessage(), e);
+			catch (RuntimeException e) {
+				log.log(Level.WARNING, e.getMessage(), e);
+			}
 		}
 		if(log.isLoggable(Level.TIME)) log.log(Level.TIME, "calcualation time = " + StringHelper.getFormatedTime("ss:SSS", (new Date().getTime() - startTime)));//$NON-NLS-1$ //$NON-NLS-2$	
 	}
@@ -404,7 +355,7 @@ public class GPSHelper {
 	 * @param recordOrdinalAltitude
 	 * @return
 	 */
-	public static synchronized Vector<Integer> calculateAzimuth(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude, int recordOrdinalAltitude ) {
+	public static Vector<Integer> calculateAzimuth(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude, int recordOrdinalAltitude ) {
 		Vector<Integer> recordAzimuth = new Vector<Integer>();
 		long startTime = new Date().getTime();
 		
@@ -416,11 +367,16 @@ public class GPSHelper {
 			int recordSize = recordLatitude.realSize();
 
 			if (recordSize >= 3 && recordLatitude.hasReasonableData() && recordLongitude.hasReasonableData()) {
+				int[] latitudes = GPSKernel.toIntArray(recordLatitude, recordSize);
+				int[] longitudes = GPSKernel.toIntArray(recordLongitude, recordSize);
+				int[] altitudes = recordAltitude == null ? null : GPSKernel.toIntArray(recordAltitude, recordSize);
+				GPSKernel kernel = GPSKernel.of(device, recordLatitude, recordLongitude);
+
 				//check GPS latitude and longitude				
 				int indexGPS = 0;
 				int i = 0;
 				for (; i < recordSize; ++i) {
-					if (recordLatitude.get(i) != 0 && recordLongitude.get(i) != 0) {
+					if (latitudes[i] != 0 && longitudes[i] != 0) {
 						indexGPS = i;
 						++i;
 						break;
@@ -428,34 +384,20 @@ public class GPSHelper {
 					recordAzimuth.add(0);
 				}
 
-				int lastLongitude = recordLongitude.get(indexGPS);
-
-				double phi_A_rad = device.translateValue(recordLatitude, recordLatitude.get(indexGPS) / 1000.0) * rad;;
-				double lambda_A = device.translateValue(recordLongitude, lastLongitude / 1000.0);
+				int lastLongitude = longitudes[indexGPS];
 				int indexMovement = 0;
 
 				for (; i < recordSize; ++i) {
-					double phi_B_rad = device.translateValue(recordLatitude, recordLatitude.get(i) / 1000.0) * rad;
-					double lambda_B = device.translateValue(recordLongitude, recordLongitude.get(i) / 1000.0);
-
-					double prod = (Math.sin(phi_A_rad) * Math.sin(phi_B_rad)) + (Math.cos(phi_A_rad) * Math.cos(phi_B_rad) * Math.cos((lambda_B - lambda_A) * rad));
-					prod = prod > 1.0 ? 1.0 : prod < -1.0 ? -1.0 : prod;
-
-					double zeta_rad = Math.acos(prod);
-					zeta_rad = zeta_rad <= 0.0 ? 0.0 : zeta_rad >= Math.PI ? Math.PI : zeta_rad;
-					double prod_alpha = zeta_rad <= 0.0 ? -1.0 : zeta_rad >= Math.PI ? Math.PI : (Math.sin(phi_B_rad) - (Math.sin(phi_A_rad) * Math.cos(zeta_rad))) / (Math.cos(phi_A_rad) * Math.sin(zeta_rad));
-					double alpha = Math.acos(prod_alpha < -1.0 ? -1.0 : prod_alpha > 1.0 ? 1.0 : prod_alpha) / rad;
-					alpha = lastLongitude > recordLongitude.get(i) ? 360.0 - alpha : alpha;
+					double zeta_rad = kernel.getCentralAngle_rad(i - 1, i);
+					double alpha = kernel.getCourse_deg(i - 1, i, zeta_rad, lastLongitude > longitudes[i]);
 
 					recordAzimuth.add((int) (alpha * 1000.0));
 
-					phi_A_rad = phi_B_rad;
-					lambda_A = lambda_B;
-					lastLongitude = recordLongitude.get(i);
+					lastLongitude = longitudes[i];
 
 					if (indexMovement == 0) {
 						double zeta = zeta_rad / rad;
-						double powDeltaHeight = recordAltitude == null ? 0 : Math.pow((recordAltitude.get(i - 1) - recordAltitude.get(i)) / 1000.0, 2);
+						double powDeltaHeight = altitudes == null ? 0 : Math.pow((altitudes[i - 1] - altitudes[i]) / 1000.0, 2);
 						double powOrthodrome = Math.pow((zeta * (40041000.0 / 360.0)), 2);
 						if((int) (Math.sqrt(powOrthodrome + powDeltaHeight) * 1000.0) > 1500) 
 						indexMovement = i;
@@ -486,36 +428,34 @@ public class GPSHelper {
 	 * @param recordOrdinalAltitude
 	 * @param recordOrdinalSpeed
 	 */
-	public static synchronized void calculateSpeed2D(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude,	int recordOrdinalSpeed) {
-		//input records
-		Record recordLatitude = recordSet.get(recordOrdinalLatitude);
-		Record recordLongitude = recordSet.get(recordOrdinalLongitude);
-		int recordSize = recordLatitude.realSize();
-		
-		//output record
-		Record recordSpeed = recordSet.get(recordOrdinalSpeed);
-		recordSpeed.clear();
-		
-		recordSpeed.add(0);
-		recordSpeed.add(0);
-		for (int i=5; i < recordSize - 1; ++i) {
-			double speed2D = getSpeed2D_kmh(
-					device.translateValue(recordLatitude, recordLatitude.realGet(i-5)/1000.), 
-					device.translateValue(recordLongitude, recordLongitude.realGet(i-5)/1000.), 
-					recordSet.getTime(i-5), 
-					device.translateValue(recordLatitude, recordLatitude.realGet(i)/1000.), 
-					device.translateValue(recordLongitude, recordLongitude.realGet(i)/1000.), 
-					recordSet.getTime(i));
-			recordSpeed.add((int)(speed2D  * 1000.));
-		}		
-		recordSpeed.add(0);
-		recordSpeed.add(0);
-		recordSpeed.add(0);
-		recordSpeed.resetMinMax();
-		recordSpeed.resetStatiticCalculationBase();
-		
-		for (int i=3; i < recordSize - 3; ++i) {
-			recordSpeed.set(i, (recordSpeed.get(i-3) + recordSpeed.get(i-2) + recordSpeed.get(i-1) + recordSpeed.get(i) + recordSpeed.get(i+1) + recordSpeed.get(i+2))/ 6);
+	public static void calculateSpeed2D(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude,	int recordOrdinalSpeed) {
+		synchronized (recordSet) { // the output record belongs to the record set
+			//input records
+			Record recordLatitude = recordSet.get(recordOrdinalLatitude);
+			Record recordLongitude = recordSet.get(recordOrdinalLongitude);
+			int recordSize = recordLatitude.realSize();
+			GPSKernel kernel = GPSKernel.of(device, recordLatitude, recordLongitude);
+
+			//output record
+			Record recordSpeed = recordSet.get(recordOrdinalSpeed);
+			recordSpeed.clear();
+
+			recordSpeed.add(0);
+			recordSpeed.add(0);
+			for (int i = 5; i < recordSize - 1; ++i) {
+				long deltaTime_ms = (recordSet.getTime(i) - recordSet.getTime(i - 5)) / 10;
+				double speed2D = kernel.getDistance2D_m(i - 5, i) / deltaTime_ms * 3600.;
+				recordSpeed.add((int) (speed2D * 1000.));
+			}
+			recordSpeed.add(0);
+			recordSpeed.add(0);
+			recordSpeed.add(0);
+			recordSpeed.resetMinMax();
+			recordSpeed.resetStatiticCalculationBase();
+
+			for (int i = 3; i < recordSize - 3; ++i) {
+				recordSpeed.set(i, (recordSpeed.get(i - 3) + recordSpeed.get(i - 2) + recordSpeed.get(i - 1) + recordSpeed.get(i) + recordSpeed.get(i + 1) + recordSpeed.get(i + 2)) / 6);
+			}
 		}
 	}
 	
@@ -528,40 +468,36 @@ public class GPSHelper {
 	 * @param recordOrdinalAltitude
 	 * @param recordOrdinalSpeed
 	 */
-	public static synchronized void calculateSpeed3D(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude, int recordOrdinalAltitude,	int recordOrdinalSpeed) {
-		//input records
-		Record recordLatitude = recordSet.get(recordOrdinalLatitude);
-		Record recordLongitude = recordSet.get(recordOrdinalLongitude);
-		Record recordAltitude = recordSet.get(recordOrdinalAltitude);
-		int recordSize = recordLatitude.realSize();
-		
-		//output record
-		Record recordSpeed = recordSet.get(recordOrdinalSpeed);
-		recordSpeed.clear();
-		
-		recordSpeed.add(0);
-		recordSpeed.add(0);
-		for (int i=4; i < recordSize - 1; ++i) {
-			double speed3D_kmh = getSpeed3D_kmh(
-					device.translateValue(recordLatitude, recordLatitude.realGet(i-4)/1000.), 
-					device.translateValue(recordLongitude, recordLongitude.realGet(i-4)/1000.), 
-					device.translateValue(recordAltitude, recordAltitude.realGet(i-4)/1000.), 
-					recordSet.getTime(i-4), 
-					device.translateValue(recordLatitude, recordLatitude.realGet(i)/1000.), 
-					device.translateValue(recordLongitude, recordLongitude.realGet(i)/1000.), 
-					device.translateValue(recordAltitude, recordAltitude.realGet(i)/1000.), 
-					recordSet.getTime(i));
-			recordSpeed.add(Double.valueOf(speed3D_kmh * 1000.0).intValue());
-		}	
-		recordSpeed.add(0);
-		recordSpeed.add(0);
-		recordSpeed.resetMinMax();
-		recordSpeed.resetStatiticCalculationBase();
-		
-		for (int i=2; i < recordSize - 5; ++i) {
-			recordSpeed.set(i-1, (recordSpeed.get(i-3) + recordSpeed.get(i-2) + recordSpeed.get(i-1) + recordSpeed.get(i) + recordSpeed.get(i+1) + recordSpeed.get(i+2) + recordSpeed.get(i+3))/ 7);
+	public static void calculateSpeed3D(IDevice device, RecordSet recordSet, int recordOrdinalLatitude, int recordOrdinalLongitude, int recordOrdinalAltitude,	int recordOrdinalSpeed) {
+		synchronized (recordSet) { // the output record belongs to the record set
+			//input records
+			Record recordLatitude = recordSet.get(recordOrdinalLatitude);
+			Record recordLongitude = recordSet.get(recordOrdinalLongitude);
+			Record recordAltitude = recordSet.get(recordOrdinalAltitude);
+			int recordSize = recordLatitude.realSize();
+			GPSKernel kernel = GPSKernel.of(device, recordLatitude, recordLongitude);
+			double[] altitudes_m = GPSKernel.translate(device, recordAltitude, recordSize);
+
+			//output record
+			Record recordSpeed = recordSet.get(recordOrdinalSpeed);
+			recordSpeed.clear();
+
+			recordSpeed.add(0);
+			recordSpeed.add(0);
+			for (int i = 4; i < recordSize - 1; ++i) {
+				long deltaTime_ms = (recordSet.getTime(i) - recordSet.getTime(i - 4)) / 10;
+				double speed3D_kmh = kernel.getDistance3D_m(i - 4, i, altitudes_m) / deltaTime_ms * 3600.;
+				recordSpeed.add(Double.valueOf(speed3D_kmh * 1000.0).intValue());
+			}
+			recordSpeed.add(0);
+			recordSpeed.add(0);
+			recordSpeed.resetMinMax();
+			recordSpeed.resetStatiticCalculationBase();
+
+			for (int i = 2; i < recordSize - 5; ++i) {
+				recordSpeed.set(i - 1, (recordSpeed.get(i - 3) + recordSpeed.get(i - 2) + recordSpeed.get(i - 1) + recordSpeed.get(i) + recordSpeed.get(i + 1) + recordSpeed.get(i + 2) + recordSpeed.get(i + 3)) / 7);
+			}
 		}
-		
 	}
 
 	/**
@@ -574,7 +510,7 @@ public class GPSHelper {
 	 * @param recordOrdinalDistance
 	 * @return
 	 */
-	public static synchronized Vector<Long> calculateLabs(final IDevice device, final RecordSet recordSet, final int recordOrdinalLatitude, final int recordOrdinalLongitude, final int recordOrdinalDistance, final int recordOrdinalTrip, final int recordOrdinalSpeed) {
+	public static Vector<Long> calculateLabs(final IDevice device, final RecordSet recordSet, final int recordOrdinalLatitude, final int recordOrdinalLongitude, final int recordOrdinalDistance, final int recordOrdinalTrip, final int recordOrdinalSpeed) {
 		Vector<Long> labTimes = new Vector<Long>();
 		long startTime = new Date().getTime();
 		
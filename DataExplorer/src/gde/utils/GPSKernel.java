@@ -0,0 +1,159 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.utils;
+
+import java.util.Arrays;
+
+import gde.data.Record;
+import gde.device.IDevice;
+
+/**
+ * Geodesic calculations on primitive coordinate arrays of one track.
+ * The coordinates are translated once and the sine and cosine of each latitude are calculated once,
+ * all calculations between two track points work on these arrays only.
+ * Instances are immutable and do not share any state, thus the calculations for different record sets may run concurrently.
+ * @author agent
+ */
+public final class GPSKernel {
+
+	static final double			RAD								= Math.PI / 180;
+	static final double			EARTH_RADIUS_M		= 6378388.;
+	static final double			METER_PER_DEGREE	= 40041000.0 / 360.0;
+
+	private final double[]	latitudes;																	// degree
+	private final double[]	longitudes;																	// degree
+	private final double[]	sinLatitudes;
+	private final double[]	cosLatitudes;
+
+	/**
+	 * @param newLatitudes in degree
+	 * @param newLongitudes in degree
+	 */
+	public GPSKernel(double[] newLatitudes, double[] newLongitudes) {
+		int size = Math.min(newLatitudes.length, newLongitudes.length);
+		this.latitudes = newLatitudes;
+		this.longitudes = newLongitudes;
+		this.sinLatitudes = new double[size];
+		this.cosLatitudes = new double[size];
+		for (int i = 0; i < size; i++) {
+			this.sinLatitudes[i] = Math.sin(newLatitudes[i] * RAD);
+			this.cosLatitudes[i] = Math.cos(newLatitudes[i] * RAD);
+		}
+	}
+
+	/**
+	 * @return the kernel for the real points of the coordinate records translated by the device, sized by the latitude record
+	 */
+	public static GPSKernel of(IDevice device, Record recordLatitude, Record recordLongitude) {
+		int size = recordLatitude.realSize();
+		return new GPSKernel(translate(device, recordLatitude, size), translate(device, recordLongitude, size));
+	}
+
+	/**
+	 * @param size is the number of track points
+	 * @return the translated real points of the record, null points are translated as 0 and missing points as the last point
+	 */
+	public static double[] translate(IDevice device, Record record, int size) {
+		int[] points = toIntArray(record, size);
+		double[] values = new double[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = device.translateValue(record, points[i] / 1000.0);
+		}
+		return values;
+	}
+
+	/**
+	 * @param size is the number of track points
+	 * @return the real points of the record, a shorter record is padded with its last point like {@link Record#getInt(int)} does
+	 */
+	static int[] toIntArray(Record record, int size) {
+		int[] points = record.toIntArray();
+		if (points.length == size) return points;
+
+		int[] sizedPoints = Arrays.copyOf(points, size);
+		if (points.length > 0) Arrays.fill(sizedPoints, Math.min(points.length, size), size, points[points.length - 1]);
+		return sizedPoints;
+	}
+
+	public int size() {
+		return this.sinLatitudes.length;
+	}
+
+	public double getLatitude(int index) {
+		return this.latitudes[index];
+	}
+
+	public double getLongitude(int index) {
+		return this.longitudes[index];
+	}
+
+	/**
+	 * @return the cosine of the central angle between the points without any rounding error correction
+	 */
+	private double getCosCentralAngle(int indexA, int indexB) {
+		return this.sinLatitudes[indexA] * this.sinLatitudes[indexB]
+				+ this.cosLatitudes[indexA] * this.cosLatitudes[indexB] * Math.cos((this.longitudes[indexB] - this.longitudes[indexA]) * RAD);
+	}
+
+	/**
+	 * @return the central angle between the points in radians within 0 .. PI
+	 */
+	public double getCentralAngle_rad(int indexA, int indexB) {
+		double prod = getCosCentralAngle(indexA, indexB);
+		prod = prod > 1.0 ? 1.0 : prod < -1.0 ? -1.0 : prod;
+		double zeta_rad = Math.acos(prod);
+		return zeta_rad <= 0.0 ? 0.0 : zeta_rad >= Math.PI ? Math.PI : zeta_rad;
+	}
+
+	/**
+	 * @return the orthodrome length in meter which corresponds to the central angle
+	 */
+	public static double getOrthodrome_m(double centralAngle_rad) {
+		return centralAngle_rad / RAD * METER_PER_DEGREE;
+	}
+
+	/**
+	 * @param centralAngle_rad is the central angle between the points
+	 * @param isWestward true if the course heads towards west which mirrors the angle
+	 * @return the course angle from point A to point B in degree within 0 .. 360
+	 */
+	public double getCourse_deg(int indexA, int indexB, double centralAngle_rad, boolean isWestward) {
+		double prod_alpha = centralAngle_rad <= 0.0 ? -1.0
+				: centralAngle_rad >= Math.PI ? Math.PI : (this.sinLatitudes[indexB] - (this.sinLatitudes[indexA] * Math.cos(centralAngle_rad))) / (this.cosLatitudes[indexA] * Math.sin(centralAngle_rad));
+		double alpha = Math.acos(prod_alpha < -1.0 ? -1.0 : prod_alpha > 1.0 ? 1.0 : prod_alpha) / RAD;
+		return isWestward ? 360.0 - alpha : alpha;
+	}
+
+	/**
+	 * @return the 2D distance in meter between the points (same as {@link GPSHelper#getDistance2D_m(double, double, double, double)})
+	 */
+	public double getDistance2D_m(int indexA, int indexB) {
+		return EARTH_RADIUS_M * Math.acos(getCosCentralAngle(indexA, indexB));
+	}
+
+	/**
+	 * @param altitudes_m are the altitudes of all track points
+	 * @return the 3D distance in meter between the points
+	 */
+	public double getDistance3D_m(int indexA, int indexB, double[] altitudes_m) {
+		double dist_m = getDistance2D_m(indexA, indexB);
+		double dz = altitudes_m[indexB] - altitudes_m[indexA];
+		return Math.sqrt(dist_m * dist_m + dz * dz);
+	}
+}
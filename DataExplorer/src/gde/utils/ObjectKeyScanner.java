@@ -21,6 +21,7 @@ package gde.utils;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -37,8 +38,6 @@ import gde.Analyzer;
 import gde.GDE;
 import gde.config.Settings;
 import gde.device.DeviceConfiguration;
-import gde.exception.NotSupportedFileFormatException;
-import gde.io.OsdReaderWriter;
 import gde.log.Level;
 import gde.ui.DataExplorer;
 
@@ -89,32 +88,26 @@ public class ObjectKeyScanner extends Thread {
 			if (this.objectKey.length() >= GDE.MIN_OBJECT_KEY_LENGTH) { // use exact defined object key
 				FileUtils.checkDirectoryAndCreate(objectKeyDirPath);
 
-				//scan all data files for object key
-				List<File> files = FileUtils.getFileListing(new File(this.settings.getDataFilePath()), 1);
+				//scan all data files for object key, the header index reads only new or modified files
+				List<OsdHeaderIndex.Entry> entries = OsdHeaderIndex.getInstance().update(getOsdFiles(new File(this.settings.getDataFilePath())));
 				final int progressDistance = 50;
-				double progressStep = (99. - GDE.getUiNotification().getProgressPercentage()) / (files.size() + 1.) * progressDistance;
+				double progressStep = (99. - GDE.getUiNotification().getProgressPercentage()) / (entries.size() + 1.) * progressDistance;
 				int i = 0;
-				for (File file : files) {
+				for (OsdHeaderIndex.Entry entry : entries) {
 					try {
-						String actualFilePath = file.getAbsolutePath().replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX);
-						if (actualFilePath.endsWith(GDE.FILE_ENDING_OSD) && actualFilePath.equals(OperatingSystemHelper.getLinkContainedFilePath(actualFilePath))) {
-							log.log(Level.FINER, "working with " + file.getName()); //$NON-NLS-1$
-							if (this.objectKey.equals(OsdReaderWriter.getHeader(file.getCanonicalPath()).get(GDE.OBJECT_KEY))) {
-								log.log(Level.FINER, "found file with given object key " + file.getName()); //$NON-NLS-1$
-								String newLinkFilePath = objectKeyDirPath + GDE.STRING_FILE_SEPARATOR_UNIX + file.getName();
-								if (!new File(newLinkFilePath).exists()) {
-									OperatingSystemHelper.createFileLink(file.getCanonicalPath(), newLinkFilePath);
-								}
+						if (!entry.isLink() && this.objectKey.equals(entry.getObjectKey())) {
+							File file = entry.getFile();
+							log.log(Level.FINER, "found file with given object key " + file.getName()); //$NON-NLS-1$
+							String newLinkFilePath = objectKeyDirPath + GDE.STRING_FILE_SEPARATOR_UNIX + file.getName();
+							if (!new File(newLinkFilePath).exists()) {
+								OperatingSystemHelper.createFileLink(file.getCanonicalPath(), newLinkFilePath);
 							}
 						}
 						if (i % progressDistance == 0) GDE.getUiNotification().setProgress((int) (i * progressStep));
 						i++;
 					}
 					catch (IOException e) {
-						log.log(Level.WARNING, file.getAbsolutePath(), e);
-					}
-					catch (NotSupportedFileFormatException e) {
-						log.log(Level.WARNING, e.getLocalizedMessage(), e);
+						log.log(Level.WARNING, entry.getFilePath(), e);
 					}
 					catch (Throwable t) {
 						log.log(Level.WARNING, t.getLocalizedMessage(), t);
@@ -131,49 +124,31 @@ public class ObjectKeyScanner extends Thread {
 				Vector<String> objectKeys = new Vector<>();
 				HashMap<String, Vector<File>> objectFilesMap = new HashMap<String, Vector<File>>();
 				{
-					int fileCounter = 0;
-					List<File> files = FileUtils.getFileListing(rootDirectory, 1);
+					List<OsdHeaderIndex.Entry> entries = OsdHeaderIndex.getInstance().update(getOsdFiles(rootDirectory));
 					final int progressDistance = 50;
-					double progressStep = (99. - GDE.getUiNotification().getProgressPercentage()) / (files.size() + 1.) * progressDistance;
+					double progressStep = (99. - GDE.getUiNotification().getProgressPercentage()) / (entries.size() + 1.) * progressDistance;
 					int i = 0;
-					for (File file : files) {
-						try {
-							String actualFilePath = file.getAbsolutePath().replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX);
-							if (actualFilePath.endsWith(GDE.FILE_ENDING_OSD)) {
-								fileCounter++;
-								if (actualFilePath.equals(OperatingSystemHelper.getLinkContainedFilePath(actualFilePath))) { // this is not a link
-									log.fine(() -> String.format("working with %s", file.getName())); //$NON-NLS-1$
-									String foundObjectKey = OsdReaderWriter.getHeader(file.getCanonicalPath()).get(GDE.OBJECT_KEY);
-									if (foundObjectKey != null && foundObjectKey.length() >= GDE.MIN_OBJECT_KEY_LENGTH) { // is a valid object key
-										if (!objectKeys.contains(foundObjectKey)) {
-											log.fine(() -> String.format("found new object key %s", foundObjectKey)); //$NON-NLS-1$
-											objectKeys.add(foundObjectKey);
-											Vector<File> tmpObjectFiles = new Vector<File>();
-											tmpObjectFiles.add(file);
-											objectFilesMap.put(foundObjectKey, tmpObjectFiles);
-										}
-										else {
-											objectFilesMap.get(foundObjectKey).add(file);
-										}
-										log.fine(() -> String.format("add file %s to object key %s", file.getName(), foundObjectKey)); //$NON-NLS-1$
-									}
-								}
+					for (OsdHeaderIndex.Entry entry : entries) {
+						String foundObjectKey = entry.getObjectKey();
+						if (!entry.isLink() && foundObjectKey.length() >= GDE.MIN_OBJECT_KEY_LENGTH) { // is a valid object key of a file which is not a link
+							File file = entry.getFile();
+							if (!objectKeys.contains(foundObjectKey)) {
+								log.fine(() -> String.format("found new object key %s", foundObjectKey)); //$NON-NLS-1$
+								objectKeys.add(foundObjectKey);
+								Vector<File> tmpObjectFiles = new Vector<File>();
+								tmpObjectFiles.add(file);
+								objectFilesMap.put(foundObjectKey, tmpObjectFiles);
 							}
-							if (i % progressDistance == 0) GDE.getUiNotification().setProgress((int) (i * progressStep));
-							i++;
-						}
-						catch (IOException e) {
-							log.log(Level.WARNING, e.getLocalizedMessage(), e);
-						}
-						catch (NotSupportedFileFormatException e) {
-							log.log(Level.WARNING, e.getLocalizedMessage(), e);
-						}
-						catch (Throwable t) {
-							log.log(Level.WARNING, t.getLocalizedMessage(), t);
+							else {
+								objectFilesMap.get(foundObjectKey).add(file);
+							}
+							log.fine(() -> String.format("add file %s to object key %s", file.getName(), foundObjectKey)); //$NON-NLS-1$
 						}
+						if (i % progressDistance == 0) GDE.getUiNotification().setProgress((int) (i * progressStep));
+						i++;
 					}
-					if (log.isLoggable(Level.FINE)) 
-						log.log(Level.FINE, String.format("scanned %d files for object key, foundKeysSize = %d", fileCounter, objectKeys.size())); //$NON-NLS-1$ //$NON-NLS-2$
+					if (log.isLoggable(Level.FINE))
+						log.log(Level.FINE, String.format("scanned %d files for object key, foundKeysSize = %d", entries.size(), objectKeys.size())); //$NON-NLS-1$ //$NON-NLS-2$
 				}
 				GDE.getUiNotification().setProgress(progressPercentageLimit);
 				{ // createFileLinks: Take the object key list and create file links for all files assigned to object keys.
@@ -263,11 +238,11 @@ public class ObjectKeyScanner extends Thread {
 	 */
 	public static void cleanFileLinks() {
 		try {
-			List<File> files = FileUtils.getFileListing(new File(Settings.getInstance().getDataFilePath()), 1);
-			for (File file : files) {
-				try {
-					String actualFilePath = file.getAbsolutePath().replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX);
-					if (actualFilePath.endsWith(GDE.FILE_ENDING_OSD) && !actualFilePath.equals(OperatingSystemHelper.getLinkContainedFilePath(actualFilePath))) {
+			for (OsdHeaderIndex.Entry entry : OsdHeaderIndex.getInstance().update(getOsdFiles(new File(Settings.getInstance().getDataFilePath())))) {
+				if (entry.isLink()) {
+					File file = entry.getFile();
+					try {
+						if (!isFileLink(file)) continue; // the index entry is outdated, e.g. the link was replaced by an OSD file
 						if (log.isLoggable(Level.FINE))
 							log.log(Level.FINE, "working with " + file.getName()); //$NON-NLS-1$
 						if (!file.delete()) {
@@ -275,12 +250,12 @@ public class ObjectKeyScanner extends Thread {
 								log.log(Level.FINE, "could not delete " + file.getName()); //$NON-NLS-1$
 						}
 					}
-				}
-				catch (IOException e) {
-					log.log(Level.WARNING, file.getAbsolutePath(), e);
-				}
-				catch (Throwable t) {
-					log.log(Level.WARNING, t.getLocalizedMessage(), t);
+					catch (IOException e) {
+						log.log(Level.WARNING, file.getAbsolutePath(), e);
+					}
+					catch (Throwable t) {
+						log.log(Level.WARNING, t.getLocalizedMessage(), t);
+					}
 				}
 			}
 		}
@@ -289,6 +264,23 @@ public class ObjectKeyScanner extends Thread {
 		}
 	}
 
+	/**
+	 * @return true if the file is a symbolic link or a windows link to an OSD file
+	 */
+	private static boolean isFileLink(File file) throws IOException {
+		if (Files.isSymbolicLink(file.toPath())) return true;
+		String actualFilePath = file.getAbsolutePath().replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX);
+		return file.exists() && !actualFilePath.equals(OperatingSystemHelper.getLinkContainedFilePath(actualFilePath));
+	}
+
+	/**
+	 * @return the OSD files and links in the root directory and its first level sub directories
+	 */
+	private static List<File> getOsdFiles(File rootDirectory) throws FileNotFoundException {
+		return FileUtils.getFileListing(rootDirectory, 1).stream() //
+				.filter(f -> f.getName().endsWith(GDE.FILE_ENDING_OSD)).collect(Collectors.toList());
+	}
+
 	public List<String> getObsoleteObjectKeys() {
 		return this.obsoleteObjectKeys;
 	}
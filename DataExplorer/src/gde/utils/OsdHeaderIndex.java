@@ -0,0 +1,286 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.utils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import gde.GDE;
+import gde.config.Settings;
+import gde.exception.NotSupportedFileFormatException;
+import gde.io.OsdReaderWriter;
+import gde.log.Level;
+
+/**
+ * Persistent index of the OSD file headers with path, modification time, size, link flag, object key and record set names.
+ * An update reads the headers of new or modified files only, in parallel, and drops the entries of deleted files.
+ * The object key scanner thus touches the file system with one file status query per unchanged file.
+ * @author agent
+ */
+public final class OsdHeaderIndex {
+	private static final Logger		log								= Logger.getLogger(OsdHeaderIndex.class.getName());
+
+	static final String						INDEX_FILE_NAME		= "OsdHeaderIndex.csv";										//$NON-NLS-1$
+	private static final char			SEPARATOR					= '\t';
+	private static final String		LINK							= "L";																		//$NON-NLS-1$
+	private static final String		FILE							= "F";																		//$NON-NLS-1$
+
+	private static OsdHeaderIndex	osdHeaderIndex		= null;
+
+	/**
+	 * Reads the OSD header of a file.
+	 */
+	@FunctionalInterface
+	public interface HeaderReader {
+		/**
+		 * @return the header keys and values or null if the file is a link to an OSD file
+		 */
+		Map<String, String> read(File file) throws IOException, NotSupportedFileFormatException;
+	}
+
+	/**
+	 * Index entry of one OSD file or link.
+	 */
+	public static final class Entry {
+		private final String				filePath;
+		private final long					lastModified;
+		private final long					size;
+		private final boolean				isLink;
+		private final String				objectKey;
+		private final List<String>	recordSetNames;
+
+		Entry(String filePath, long lastModified, long size, boolean isLink, String objectKey, List<String> recordSetNames) {
+			this.filePath = filePath;
+			this.lastModified = lastModified;
+			this.size = size;
+			this.isLink = isLink;
+			this.objectKey = objectKey;
+			this.recordSetNames = recordSetNames;
+		}
+
+		/**
+		 * @param line holds the tab separated fields as written by {@link #toString()}
+		 * @return null if the line is not a valid entry
+		 */
+		static Entry fromLine(String line) {
+			String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+			if (fields.length < 5) return null;
+			try {
+				return new Entry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]), LINK.equals(fields[3]), fields[4],
+						Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(fields, 5, fields.length))));
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		boolean isUnchanged(File file) {
+			return this.lastModified == file.lastModified() && this.size == file.length();
+		}
+
+		public File getFile() {
+			return new File(this.filePath);
+		}
+
+		public String getFilePath() {
+			return this.filePath;
+		}
+
+		public boolean isLink() {
+			return this.isLink;
+		}
+
+		/**
+		 * @return the object key from the header or an empty string for links and files without object key
+		 */
+		public String getObjectKey() {
+			return this.objectKey;
+		}
+
+		public List<String> getRecordSetNames() {
+			return this.recordSetNames;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder().append(this.filePath).append(SEPARATOR).append(this.lastModified).append(SEPARATOR).append(this.size) //
+					.append(SEPARATOR).append(this.isLink ? LINK : FILE).append(SEPARATOR).append(this.objectKey);
+			for (String recordSetName : this.recordSetNames) {
+				sb.append(SEPARATOR).append(recordSetName);
+			}
+			return sb.toString();
+		}
+	}
+
+	private final Path								indexFilePath;
+	private final HeaderReader				headerReader;
+	private final Map<String, Entry>	entries			= new HashMap<>();
+	private boolean										isLoaded		= false;
+
+	/**
+	 * @return the index of the OSD files in the application home directory
+	 */
+	public static synchronized OsdHeaderIndex getInstance() {
+		if (OsdHeaderIndex.osdHeaderIndex == null) {
+			OsdHeaderIndex.osdHeaderIndex = new OsdHeaderIndex(Paths.get(Settings.getApplHomePath(), INDEX_FILE_NAME), OsdHeaderIndex::readOsdHeader);
+		}
+		return OsdHeaderIndex.osdHeaderIndex;
+	}
+
+	/**
+	 * @param newIndexFilePath is the file which persists the index
+	 * @param newHeaderReader reads the headers of new or modified files
+	 */
+	public OsdHeaderIndex(Path newIndexFilePath, HeaderReader newHeaderReader) {
+		this.indexFilePath = newIndexFilePath;
+		this.headerReader = newHeaderReader;
+	}
+
+	/**
+	 * @return the header of the OSD file or null if the file is a link
+	 */
+	static Map<String, String> readOsdHeader(File file) throws IOException, NotSupportedFileFormatException {
+		String actualFilePath = file.getAbsolutePath().replace(GDE.CHAR_FILE_SEPARATOR_WINDOWS, GDE.CHAR_FILE_SEPARATOR_UNIX);
+		if (!actualFilePath.equals(OperatingSystemHelper.getLinkContainedFilePath(actualFilePath))) return null;
+		return OsdReaderWriter.getHeader(file.getCanonicalPath());
+	}
+
+	/**
+	 * Bring the index up to date for the files, read the headers of new or modified files in parallel and persist the index if it was changed.
+	 * @param files are OSD files or links to OSD files
+	 * @return the entries for the files in the order of the files, files with read errors are not included
+	 */
+	public synchronized List<Entry> update(List<File> files) {
+		if (!this.isLoaded) load();
+
+		List<File> staleFiles = new ArrayList<>();
+		for (File file : files) {
+			Entry entry = this.entries.get(file.getAbsolutePath());
+			if (entry == null || !entry.isUnchanged(file)) staleFiles.add(file);
+		}
+		boolean isModified = !staleFiles.isEmpty();
+		if (isModified) {
+			long startTime = System.nanoTime();
+			staleFiles.parallelStream().map(this::readEntry).filter(Objects::nonNull).collect(Collectors.toList()) //
+					.forEach(e -> this.entries.put(e.getFilePath(), e));
+			log.log(Level.TIME, String.format("%,7d of %,7d OSD headers read  time=%,6d [ms]", staleFiles.size(), files.size(), (System.nanoTime() - startTime) / 1000000)); //$NON-NLS-1$
+		}
+
+		for (Iterator<Entry> iterator = this.entries.values().iterator(); iterator.hasNext();) {
+			if (!iterator.next().getFile().exists()) {
+				iterator.remove();
+				isModified = true;
+			}
+		}
+		if (isModified) store();
+
+		return files.stream().map(f -> this.entries.get(f.getAbsolutePath())).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	/**
+	 * @return the entry or null if the file could not be read (the next update will try again)
+	 */
+	private Entry readEntry(File file) {
+		long lastModified = file.lastModified();
+		long size = file.length();
+		try {
+			Map<String, String> header = this.headerReader.read(file);
+			if (header == null) return new Entry(file.getAbsolutePath(), lastModified, size, true, GDE.STRING_EMPTY, Collections.emptyList());
+
+			String objectKey = header.get(GDE.OBJECT_KEY);
+			List<String> recordSetNames = new ArrayList<>();
+			String recordSetSize = header.get(GDE.RECORD_SET_SIZE);
+			for (int i = 1; recordSetSize != null && i <= Integer.parseInt(recordSetSize.trim()); i++) {
+				String recordSetInfo = header.get(i + GDE.STRING_BLANK + GDE.RECORD_SET_NAME);
+				if (recordSetInfo != null) {
+					int index = recordSetInfo.indexOf(GDE.DATA_DELIMITER);
+					recordSetNames.add(index < 0 ? recordSetInfo : recordSetInfo.substring(0, index));
+				}
+			}
+			return new Entry(file.getAbsolutePath(), lastModified, size, false, objectKey != null ? objectKey.trim() : GDE.STRING_EMPTY, Collections.unmodifiableList(recordSetNames));
+		} catch (NotSupportedFileFormatException | NumberFormatException e) {
+			// keep the invalid file in the index with an empty object key in order not to read it again
+			log.log(Level.WARNING, file.getAbsolutePath() + GDE.STRING_MESSAGE_CONCAT + e.getLocalizedMessage());
+			return new Entry(file.getAbsolutePath(), lastModified, size, false, GDE.STRING_EMPTY, Collections.emptyList());
+		} catch (Throwable t) {
+			log.log(Level.WARNING, file.getAbsolutePath(), t);
+			return null;
+		}
+	}
+
+	private void load() {
+		this.isLoaded = true;
+		if (!Files.exists(this.indexFilePath)) return;
+
+		try (BufferedReader reader = Files.newBufferedReader(this.indexFilePath, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				Entry entry = Entry.fromLine(line);
+				if (entry != null) this.entries.put(entry.getFilePath(), entry);
+			}
+		} catch (IOException e) {
+			log.log(Level.WARNING, e.getMessage(), e);
+			this.entries.clear();
+		}
+		log.log(Level.FINE, "loaded OSD header index entries {0}", this.entries.size()); //$NON-NLS-1$
+	}
+
+	/**
+	 * write the index into a temporary file which replaces the index file
+	 */
+	private void store() {
+		try {
+			Files.createDirectories(this.indexFilePath.toAbsolutePath().getParent());
+			Path tmpFilePath = this.indexFilePath.resolveSibling(this.indexFilePath.getFileName() + GDE.FILE_ENDING_DOT_TMP);
+			try (BufferedWriter writer = Files.newBufferedWriter(tmpFilePath, StandardCharsets.UTF_8)) {
+				for (Entry entry : this.entries.values()) {
+					writer.write(entry.toString());
+					writer.newLine();
+				}
+			}
+			Files.move(tmpFilePath, this.indexFilePath, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			log.log(Level.WARNING, e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @return the number of indexed files and links
+	 */
+	public synchronized int size() {
+		if (!this.isLoaded) load();
+		return this.entries.size();
+	}
+}
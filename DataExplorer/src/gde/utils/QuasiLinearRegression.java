@@ -53,89 +53,76 @@ public class QuasiLinearRegression extends CalculationThread {
 			log.log(Level.WARNING, "Slope can not be calculated -> recordSet == null || sourceRecordKey == null || targetRecordKey == null"); //$NON-NLS-1$
 			return;
 		}
-		synchronized (CalculationThread.REGRESSION_INTERVAL_SEC) {
-			log.log(Level.FINE, "start data calculation for record = " + this.targetRecordKey); //$NON-NLS-1$
-
-			Record recordHeight = this.recordSet.get(this.sourceRecordKey);
-			Record record = this.recordSet.get(this.targetRecordKey);
-			if (record != null && !this.threadStop && recordHeight.getMaxTime_ms()*1000 > this.calcInterval_sec) {
-				record.clear();
-				double timeStep_sec = recordHeight.getAverageTimeStep_ms() / 1000;
-				int timeStepsPerInterval = Double.valueOf(this.calcInterval_sec / timeStep_sec).intValue(); // 4000ms/50ms/point -> 80 points per interval
-				timeStepsPerInterval = timeStepsPerInterval <= 4 ? 4 : timeStepsPerInterval;
-				int pointsPerInterval = timeStepsPerInterval + 1;
-				log.log(Level.FINE, "calcInterval_sec = " + this.calcInterval_sec + " pointsPerInterval = " + pointsPerInterval); //$NON-NLS-1$ //$NON-NLS-2$
-				int pointInterval = 3; // fix number of points where the calculation will result in slope values, rest is overlap
-				int numberDataPoints = recordHeight.realSize();
-				int startPosition = 0;
-				int frontPadding = (timeStepsPerInterval / 5 * 4) - pointInterval;
-				int modCounter = (numberDataPoints - (pointsPerInterval - pointInterval)) / pointInterval;
-				for (int i = 0; i < frontPadding; i++) { // padding data points which does not fit into interval
-					record.add(0);
-				}
-				// calculate avg x
-				double avgX = 0;
-				for (int i = 0; i < timeStepsPerInterval; i++) {
-					avgX = avgX + (1 / timeStep_sec * i);
-				}
-				avgX = avgX / timeStepsPerInterval;
-				// (xi - avgX)*(xi - avgX)
-				double ssXX = 0.0; // 10 sec = 0.053025;
-				for (int i = 1; i <= timeStepsPerInterval; i++) {
-					ssXX = ssXX + (((1 / timeStep_sec * i) - avgX) * ((1 / timeStep_sec * i) - avgX));
-				}
-				ssXX = ssXX / timeStepsPerInterval;
-				log.log(Level.FINEST, "avgX = " + avgX + " ssXX = " + ssXX); //$NON-NLS-1$ //$NON-NLS-2$
-				--modCounter;
-				while (modCounter > 0 && !this.threadStop) {
-					// calculate avg y
-					double avgY = 0.0;
-					for (int i = 1; i <= timeStepsPerInterval; i++) {
-						avgY = avgY + (recordHeight.realGet(i + startPosition));
-					}
-					avgY = avgY / timeStepsPerInterval;
-
-					// (yi - avgY)
-					double sumYi_avgY = 0.0;
-					for (int i = 1; i <= timeStepsPerInterval; i++) {
-						sumYi_avgY = sumYi_avgY + ((recordHeight.realGet(i + startPosition)) - avgY);
-					}
-					sumYi_avgY = sumYi_avgY / timeStepsPerInterval;
-
-					// (xi - avgX)*(yi - avgY)
-					double ssXY = 0.0;
-					for (int i = 1; i <= timeStepsPerInterval; i++) {
-						ssXY = ssXY + (((1 / timeStep_sec * i) - avgX) * ((recordHeight.realGet(i + startPosition)) - avgY));
-					}
-					ssXY = ssXY / timeStepsPerInterval;
-
-					int slope = Double.valueOf(ssXY / ssXX / timeStep_sec / timeStep_sec).intValue();
-					// add point over pointInterval only
-					for (int i = 0; i < pointInterval; i++) {
-						record.add(slope);
-					}
-					startPosition = startPosition + pointInterval;
-
-					log.log(Level.FINEST, "slope = " + slope + " counter = " + startPosition + " modCounter = " + modCounter); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-					--modCounter;
-				}
-				// pad the rest of the curve to make equal size
-				for (int i = record.realSize(); i < numberDataPoints; i++) {
-					record.add(0);
+		Record recordHeight = this.recordSet.get(this.sourceRecordKey);
+		Record record = this.recordSet.get(this.targetRecordKey);
+		log.log(Level.FINE, "start data calculation for record = " + this.targetRecordKey); //$NON-NLS-1$
+
+		if (record != null && !this.threadStop && recordHeight.getMaxTime_ms()*1000 > this.calcInterval_sec) {
+			double timeStep_sec = recordHeight.getAverageTimeStep_ms() / 1000;
+			int timeStepsPerInterval = Double.valueOf(this.calcInterval_sec / timeStep_sec).intValue(); // 4000ms/50ms/point -> 80 points per interval
+			timeStepsPerInterval = timeStepsPerInterval <= 4 ? 4 : timeStepsPerInterval;
+			int pointsPerInterval = timeStepsPerInterval + 1;
+			log.log(Level.FINE, "calcInterval_sec = " + this.calcInterval_sec + " pointsPerInterval = " + pointsPerInterval); //$NON-NLS-1$ //$NON-NLS-2$
+			int pointInterval = 3; // fix number of points where the calculation will result in slope values, rest is overlap
+			int numberDataPoints = recordHeight.realSize();
+			int startPosition = 0;
+			int frontPadding = (timeStepsPerInterval / 5 * 4) - pointInterval;
+			int modCounter = (numberDataPoints - (pointsPerInterval - pointInterval)) / pointInterval;
+			// the slopes are calculated without holding the record lock which would block drawing the record
+			int[] slopes = new int[Math.max(numberDataPoints, Math.max(0, frontPadding) + Math.max(0, modCounter) * pointInterval)];
+			int slopesSize = 0;
+			for (int i = 0; i < frontPadding; i++) { // padding data points which does not fit into interval
+				slopes[slopesSize++] = 0;
+			}
+			// calculate avg x
+			double avgX = 0;
+			for (int i = 0; i < timeStepsPerInterval; i++) {
+				avgX = avgX + (1 / timeStep_sec * i);
+			}
+			avgX = avgX / timeStepsPerInterval;
+			// (xi - avgX)*(xi - avgX)
+			double ssXX = 0.0; // 10 sec = 0.053025;
+			for (int i = 1; i <= timeStepsPerInterval; i++) {
+				ssXX = ssXX + (((1 / timeStep_sec * i) - avgX) * ((1 / timeStep_sec * i) - avgX));
+			}
+			ssXX = ssXX / timeStepsPerInterval;
+			log.log(Level.FINEST, "avgX = " + avgX + " ssXX = " + ssXX); //$NON-NLS-1$ //$NON-NLS-2$
+			--modCounter;
+			SlidingWindowRegression window = new SlidingWindowRegression(recordHeight.toIntArray(), timeStepsPerInterval);
+			while (modCounter > 0 && !this.threadStop) {
+				double ssXY = window.getSsXY(1 / timeStep_sec, avgX); // (xi - avgX)*(yi - avgY)
+
+				int slope = Double.valueOf(ssXY / ssXX / timeStep_sec / timeStep_sec).intValue();
+				// add point over pointInterval only
+				for (int i = 0; i < pointInterval; i++) {
+					slopes[slopesSize++] = slope;
 				}
-				log.log(Level.FINE, "counter = " + startPosition + " modCounter = " + modCounter); //$NON-NLS-1$ //$NON-NLS-2$
+				startPosition = startPosition + pointInterval;
+				window.slide(pointInterval);
 
-				if (this.recordSet.get(this.sourceRecordKey) != null && this.recordSet.get(this.sourceRecordKey).isDisplayable()) record.setDisplayable(true); // depending record influence
-				if (this.application.getActiveRecordSet() != null && this.recordSet.getName().equals(Channels.getInstance().getActiveChannel().getActiveRecordSet().getName()) && record.isVisible()) {
-					this.application.updateGraphicsWindow();
+				log.log(Level.FINEST, "slope = " + slope + " counter = " + startPosition + " modCounter = " + modCounter); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				--modCounter;
+			}
+			// pad the rest of the curve to make equal size
+			slopesSize = Math.max(slopesSize, numberDataPoints);
+			synchronized (record) { // replace the points at once
+				record.clear();
+				for (int i = 0; i < slopesSize; i++) {
+					record.add(slopes[i]);
 				}
 			}
+			log.log(Level.FINE, "counter = " + startPosition + " modCounter = " + modCounter); //$NON-NLS-1$ //$NON-NLS-2$
 
-			this.application.updateCurveSelectorTable();
-			this.application.updateStatisticsData();
-			this.application.updateDataTable(this.recordSet.getName(), true);
-			log.log(Level.FINE, "finished data calculation for record = " + this.targetRecordKey); //$NON-NLS-1$
+			if (this.recordSet.get(this.sourceRecordKey) != null && this.recordSet.get(this.sourceRecordKey).isDisplayable()) record.setDisplayable(true); // depending record influence
+			if (this.application.getActiveRecordSet() != null && this.recordSet.getName().equals(Channels.getInstance().getActiveChannel().getActiveRecordSet().getName()) && record.isVisible()) {
+				this.application.updateGraphicsWindow();
+			}
 		}
+
+		this.application.updateCurveSelectorTable();
+		this.application.updateStatisticsData();
+		this.application.updateDataTable(this.recordSet.getName(), true);
+		log.log(Level.FINE, "finished data calculation for record = " + this.targetRecordKey); //$NON-NLS-1$
 	}
 
 }
@@ -0,0 +1,89 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.utils;
+
+/**
+ * Running sums of a regression window over the points y(s+1) .. y(s+w) which is moved along the record points.
+ * Moving the window by one point is O(1), thus the slope curve of a record is calculated in O(n) instead of O(n*w).
+ * The abscissa of the window point i (1..w) is x(i) = xFactor * i.
+ * @author agent
+ */
+class SlidingWindowRegression {
+
+	private final int[]	points;
+	private final int		windowSize;
+	private int					startPosition	= 0;
+	/** sum of y(s+i) for i = 1..w */
+	private long				sumY					= 0;
+	/** sum of i * y(s+i) for i = 1..w */
+	private long				sumIY					= 0;
+
+	/**
+	 * @param points are the primitive record points
+	 * @param windowSize is the number of points w in the regression window
+	 */
+	SlidingWindowRegression(int[] points, int windowSize) {
+		this.points = points;
+		this.windowSize = windowSize;
+		for (int i = 1; i <= windowSize; i++) {
+			this.sumY += getPoint(i);
+			this.sumIY += (long) i * getPoint(i);
+		}
+	}
+
+	/**
+	 * @return the point value or the last point value for indices beyond the record size (same as {@code Record.realGet})
+	 */
+	private int getPoint(int index) {
+		if (this.points.length == 0) return 0;
+		return index < this.points.length ? this.points[index] : this.points[this.points.length - 1];
+	}
+
+	/**
+	 * Move the window start position towards the record end.
+	 */
+	void slide(int steps) {
+		for (int j = 0; j < steps; j++) {
+			int leavingPoint = getPoint(this.startPosition + 1);
+			int enteringPoint = getPoint(this.startPosition + this.windowSize + 1);
+			this.sumIY += -this.sumY + (long) this.windowSize * enteringPoint;
+			this.sumY += enteringPoint - leavingPoint;
+			this.startPosition++;
+		}
+	}
+
+	/**
+	 * @return the average y value of the window
+	 */
+	double getAvgY() {
+		return (double) this.sumY / this.windowSize;
+	}
+
+	/**
+	 * @param xFactor defines the abscissa x(i) = xFactor * i
+	 * @param avgX is the abscissa reference value
+	 * @return the sum of (x(i) - avgX) * (y(i) - avgY) divided by the window size
+	 */
+	double getSsXY(double xFactor, double avgX) {
+		double avgY = getAvgY();
+		double sumX_avgX = xFactor * this.windowSize * (this.windowSize + 1) / 2. - this.windowSize * avgX;
+		return (xFactor * this.sumIY - avgX * this.sumY - avgY * sumX_avgX) / this.windowSize;
+	}
+
+}
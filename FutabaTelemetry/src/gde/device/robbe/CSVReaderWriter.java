@@ -44,12 +44,12 @@ import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
 import gde.device.IDevice;
-import gde.device.InputTypes;
 import gde.device.MeasurementType;
 import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.exception.MissMatchDeviceException;
 import gde.exception.NotSupportedFileFormatException;
+import gde.io.CSVTokenizer;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -195,11 +195,9 @@ public class CSVReaderWriter {
 	 */
 	public static RecordSet read(char separator, String filePath, String recordSetNameExtend) throws NotSupportedFileFormatException, MissMatchDeviceException, IOException, DataInconsitsentException,
 			DataTypeException {
-		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
 		long inputFileSize = new File(filePath).length();
-		int progressLineLength = Math.abs(CSVReaderWriter.application.getActiveDevice().getDataBlockSize(InputTypes.FILE_IO));
-		BufferedReader reader; // to read the data
+		CSVTokenizer tokenizer; // to read the data
 		IDevice device = CSVReaderWriter.application.getActiveDevice();
 		Channel activeChannel = null;
 
@@ -223,8 +221,8 @@ public class CSVReaderWriter {
 				fileHeader = CSVReaderWriter.evaluateType(separator, fileHeader, (DeviceConfiguration) device);
 				CSVReaderWriter.log.log(Level.FINE, "device name check ok, channel/configuration ok"); //$NON-NLS-1$
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
-				while (((line = reader.readLine()) != null) && !(line.startsWith("TIME"))) {
+				tokenizer = new CSVTokenizer(new FileInputStream(filePath), separator);
+				while (tokenizer.nextLine() && !tokenizer.startsWith("TIME")) {
 					// read until TIME;CH1;CH2;CH3;CH4;CH5;CH6;CH7;CH8;CH9;CH10;CH11;CH12;CH13;CH14;CH15;CH16;BATTERY;EXTERNAL BATTERY;STATUS;CURRENT;VOLTAGE;CAPACITY;ALTITUDE;VARIOMETER;TEMPERATURE;DISTANCE;GPS_SPEED;ALTITUDE;VARIOMETER;LATITUDE;LONGITUDE;TEMPERATURE;TEMPERATURE;TEMPERATURE;
 				}
 
@@ -279,23 +277,23 @@ public class CSVReaderWriter {
 				String[] updateRecordNames = recordSet.getRecordNames();
 				int[] points = new int[updateRecordNames.length];
 				int lineNumber = 0;
-				while ((line = reader.readLine()) != null) {
+				while (tokenizer.nextLine()) {
 					++lineNumber;
-					if (line.startsWith("#")) {
+					if (tokenizer.startsWith('#')) {
+						String line = tokenizer.getLine();
 						if (recordSet.getRecordSetDescription().endsWith(GDE.LINE_SEPARATOR))
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line.substring(1) + GDE.LINE_SEPARATOR);
 						else
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line.replace('#', GDE.CHAR_BLANK) + GDE.LINE_SEPARATOR);
 						continue;
 					}
-					String[] dataStr = line.split(GDE.STRING_EMPTY + separator);
-					String data = dataStr[0].trim().replace(GDE.CHAR_COMMA, GDE.CHAR_DOT);
-					if (data.contains(GDE.STRING_COLON)) {
-						int hour = Integer.parseInt(data.substring(0, 2));
-						int minute = Integer.parseInt(data.substring(3, 5));
-						int second = Integer.parseInt(data.substring(6, 8));
+					if (tokenizer.indexOf(0, GDE.CHAR_COLON) >= 0) {
+						int hour = tokenizer.parseInt(0, 0, 2);
+						int minute = tokenizer.parseInt(0, 3, 2);
+						int second = tokenizer.parseInt(0, 6, 2);
+						int decimalIndex = tokenizer.lastIndexOfDecimalSeparator(0);
 						GregorianCalendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute, second);
-						long timeStamp = calendar.getTimeInMillis() + (data.contains(GDE.STRING_DOT) ? Integer.parseInt(data.substring(data.lastIndexOf(GDE.CHAR_DOT) + 1)) : 0);
+						long timeStamp = calendar.getTimeInMillis() + (decimalIndex >= 0 ? tokenizer.parseInt(0, decimalIndex + 1, tokenizer.getLength(0) - decimalIndex - 1) : 0);
 
 						if (lastTimeStamp < timeStamp) {
 							time_ms = (int) (lastTimeStamp == 0 ? 0 : time_ms + (timeStamp - lastTimeStamp));
@@ -307,19 +305,13 @@ public class CSVReaderWriter {
 					}
 					else
 						// decimal time value
-						time_ms = Integer.valueOf(data).intValue();
+						time_ms = tokenizer.parseInt(0);
 
-					for (int i = 0; i < updateRecordNames.length && i < dataStr.length - 1; i++) { // only iterate over record names found in file
-						try {
-							data = dataStr[i + 1].trim().replace(GDE.CHAR_COMMA, GDE.CHAR_DOT).replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
-						}
-						catch (Exception e) {
-							data = "0";
-							CSVReaderWriter.log.log(Level.WARNING, String.format("Check line = %s", line));
-						}
+					for (int i = 0; i < updateRecordNames.length && i < tokenizer.getFieldCount() - 1; i++) { // only iterate over record names found in file
 						switch (recordSet.get(i).getDataType()) {
 						case GPS_LONGITUDE:
 						case GPS_LATITUDE:
+							String data = tokenizer.getString(i + 1).replace(GDE.CHAR_COMMA, GDE.CHAR_DOT).replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
 							try {
 								points[i] = Double.valueOf(
 										data.replace("E", GDE.STRING_EMPTY).replace('W', GDE.CHAR_DASH).replace("N", GDE.STRING_EMPTY).replace('S', GDE.CHAR_DASH).replace(GDE.STRING_COLON, GDE.STRING_EMPTY)
@@ -332,7 +324,7 @@ public class CSVReaderWriter {
 
 						default:
 							try {
-								points[i] = Double.valueOf(Double.valueOf(data) * 1000.0).intValue();
+								points[i] = tokenizer.parseFixedPoint(i + 1);
 							}
 							catch (NumberFormatException e) {
 								//points[i] = 0;  //ignore and keep last value
@@ -342,8 +334,7 @@ public class CSVReaderWriter {
 					}
 					recordSet.addPoints(points, time_ms);
 
-					progressLineLength = progressLineLength > line.length() ? progressLineLength : line.length();
-					int progress = (int) (lineNumber*100/(inputFileSize/progressLineLength));
+					int progress = inputFileSize > 0 ? (int) (tokenizer.getBytePosition() * 100 / inputFileSize) : 50;
 					if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) 	{
 						GDE.getUiNotification().setProgress(progress);
 						try {
@@ -364,8 +355,8 @@ public class CSVReaderWriter {
 				if (GDE.isWithUi()) activeChannel.switchRecordSet(recordSetName);
 				//				activeChannel.get(recordSetName).checkAllDisplayable(); // raw import needs calculation of passive records
 
-				reader.close();
-				reader = null;
+				tokenizer.close();
+				tokenizer = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
@@ -98,7 +98,7 @@ public class GeniusWizard extends HoTTAdapter implements IDevice {
 							channelConfigNumber = channelConfigNumber == null ? 1 : channelConfigNumber;
 							//String recordNameExtend = selectedImportFile.substring(selectedImportFile.lastIndexOf(GDE.CHAR_DOT) - 4, selectedImportFile.lastIndexOf(GDE.CHAR_DOT));
 							try {
-								GeniusWizardLogReader.read(selectedImportFile); //, HoTTAdapter.this, GDE.STRING_EMPTY, channelConfigNumber);
+								new GeniusWizardLogReader().read(selectedImportFile); //, HoTTAdapter.this, GDE.STRING_EMPTY, channelConfigNumber);
 								if (!isInitialSwitched) {
 									Channel selectedChannel = GeniusWizard.this.channels.get(1);
 									HoTTbinReader.channels.switchChannel(selectedChannel.getName());
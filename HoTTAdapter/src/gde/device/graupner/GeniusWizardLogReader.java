@@ -56,18 +56,22 @@ public class GeniusWizardLogReader extends HoTTbinReader {
 	final static String	LAP_DATA_SIZE			= "lap_data_size";
 
 	final static int headerSize = 128;
-	final static Map<String, Object> header = new HashMap<String, Object>();
+	final Map<String, Object> header = new HashMap<String, Object>();
 	final static int logDataSize = 51;
-	final static StringBuilder lapData = new StringBuilder();
+	final StringBuilder lapData = new StringBuilder();
 
-	static int[] points;
+	int[] points;
+
+	public GeniusWizardLogReader() {
+		super(null); // the ESC log does not use picker parameters
+	}
 
 	/**
 	 * read complete file data and display the first found record set
 	 * @param filePath
 	 * @throws Exception
 	 */
-	public static synchronized void read(String filePath) throws Exception {
+	public void read(String filePath) throws Exception {
 
 		File inputFile = new File(filePath);
 		FileInputStream file_input = new FileInputStream(inputFile);
@@ -133,7 +137,7 @@ public class GeniusWizardLogReader extends HoTTbinReader {
 //						GeniusLapData lapData = new Gson().fromJson(new String(buffer), GeniusLapData.class);
 					}
 
-					GeniusWizardLogReader.readSingle(new File(filePath));
+					this.readSingle(new File(filePath));
 
 				}
 				else {
@@ -159,7 +163,7 @@ public class GeniusWizardLogReader extends HoTTbinReader {
 	* @throws IOException
 	* @throws DataInconsitsentException
 	*/
-	static void readSingle(File file) throws IOException, DataInconsitsentException {
+	void readSingle(File file) throws IOException, DataInconsitsentException {
 		final String $METHOD_NAME = "readSingle";
 		FileInputStream file_input = new FileInputStream(file);
 		DataInputStream data_in = new DataInputStream(file_input);
@@ -170,11 +174,11 @@ public class GeniusWizardLogReader extends HoTTbinReader {
 		//String recordSetNameExtend = getRecordSetExtend(file);
 		Channel channel = null;
 		//0=Voltage 1=VoltageMin 2=Current 3=CurrentMax 4=RPM 5=RPM_Max 6=Capacity 7=Temp 8=TempMax 9=TempMoter 10=TempMoterMax 11=Throttle
-		GeniusWizardLogReader.recordSetESC = null;
-		GeniusWizardLogReader.points = new int[device.getNumberOfMeasurements(1)];
+		this.recordSetESC = null;
+		this.points = new int[device.getNumberOfMeasurements(1)];
 		double startLogTimeStamp_ms = 0, logTimeStamp_ms, lastLogTimeStamp_ms = 0;
 		int numTimeStamps = 0;
-		GeniusWizardLogReader.buf = new byte[logDataSize];
+		this.buf = new byte[logDataSize];
 		long numberDatablocks = (fileSize - headerSize - (int)header.get(GeniusWizardLogReader.LAP_DATA_SIZE)) / logDataSize;
 		long startTimeStamp_ms = HoTTbinReader.getStartTimeStamp(file.getName(), file.lastModified(), numberDatablocks);
 		String date = new SimpleDateFormat("yyyy-MM-dd").format(startTimeStamp_ms); //$NON-NLS-1$
@@ -184,16 +188,16 @@ public class GeniusWizardLogReader extends HoTTbinReader {
 		GDE.getUiNotification().setProgress(0);
 
 		try {
-			HoTTbinReader.recordSets.clear();
+			this.recordSets.clear();
 			//ESC always contained
 			channel = GeniusWizardLogReader.channels.get(1);
 			channel.setFileDescription(GeniusWizardLogReader.application.isObjectoriented() ? date + GDE.STRING_BLANK + GeniusWizardLogReader.application.getObjectKey() : date);
 			recordSetName = String.format("%d) %s[%s]", recordSetNumber, device.getRecordSetStateNameReplacement(1), file.getName().substring(0, file.getName().lastIndexOf(GDE.CHAR_DOT)));
-			GeniusWizardLogReader.recordSetESC = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
-			channel.put(recordSetName, GeniusWizardLogReader.recordSetESC);
-			GeniusWizardLogReader.recordSetESC = channel.get(recordSetName);
-			GeniusWizardLogReader.recordSetESC.setRecordSetDescription(String.format("%s - %s %s\n%s", device.getName(), Messages.getString(MessageIds.GDE_MSGT0129), dateTime, header.get(GeniusWizardLogReader.PPRODUCT_NAME)));
-			GeniusWizardLogReader.recordSetESC.setStartTimeStamp(startTimeStamp_ms);
+			this.recordSetESC = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
+			channel.put(recordSetName, this.recordSetESC);
+			this.recordSetESC = channel.get(recordSetName);
+			this.recordSetESC.setRecordSetDescription(String.format("%s - %s %s\n%s", device.getName(), Messages.getString(MessageIds.GDE_MSGT0129), dateTime, header.get(GeniusWizardLogReader.PPRODUCT_NAME)));
+			this.recordSetESC.setStartTimeStamp(startTimeStamp_ms);
 			if (GDE.isWithUi()) {
 				channel.applyTemplate(recordSetName, false);
 			}
@@ -202,9 +206,9 @@ public class GeniusWizardLogReader extends HoTTbinReader {
 
 			//read all the data blocks from the file and parse
 			for (int i = 0; i < numberDatablocks; i++) {
-				data_in.read(GeniusWizardLogReader.buf);
+				data_in.read(this.buf);
 				if (GeniusWizardLogReader.log.isLoggable(Level.FINE)) {
-					GeniusWizardLogReader.log.logp(Level.FINE, GeniusWizardLogReader.$CLASS_NAMEX, $METHOD_NAME, StringHelper.byte2Hex4CharString(GeniusWizardLogReader.buf, GeniusWizardLogReader.buf.length));
+					GeniusWizardLogReader.log.logp(Level.FINE, GeniusWizardLogReader.$CLASS_NAMEX, $METHOD_NAME, StringHelper.byte2Hex4CharString(this.buf, this.buf.length));
 				}
 
 				logTimeStamp_ms = DataParser.parse2Int(buf, 46) * 10.0;
@@ -213,7 +217,7 @@ public class GeniusWizardLogReader extends HoTTbinReader {
 
 				//log.log(Level.OFF, "time = " + (logTimeStamp_ms-startLogTimeStamp_ms));
 				if (logTimeStamp_ms > lastLogTimeStamp_ms) {
-					GeniusWizardLogReader.recordSetESC.addPoints(device.convertDataBytes(points, buf), logTimeStamp_ms-startLogTimeStamp_ms);
+					this.recordSetESC.addPoints(device.convertDataBytes(points, buf), logTimeStamp_ms-startLogTimeStamp_ms);
 					lastLogTimeStamp_ms = logTimeStamp_ms;
 				}
 				else if (logTimeStamp_ms == lastLogTimeStamp_ms) {
@@ -235,8 +239,8 @@ public class GeniusWizardLogReader extends HoTTbinReader {
 			if (GDE.isWithUi()) {
 				channel.applyTemplate(recordSetName, true);
 				//write filename after import to record description
-				GeniusWizardLogReader.recordSetESC.descriptionAppendFilename(file.getName());
-				channel.setActiveRecordSet(GeniusWizardLogReader.recordSetESC);
+				this.recordSetESC.descriptionAppendFilename(file.getName());
+				channel.setActiveRecordSet(this.recordSetESC);
 
 				menuToolBar.updateChannelSelector();
 				menuToolBar.updateRecordSetSelectCombo();
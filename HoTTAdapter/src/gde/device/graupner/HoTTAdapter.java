@@ -30,6 +30,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -80,6 +81,7 @@ import gde.histo.device.UniversalSampler;
 import gde.histo.utils.PathUtils;
 import gde.io.DataParser;
 import gde.io.FileHandler;
+import gde.io.OsdDataSection;
 import gde.log.Level;
 import gde.messages.Messages;
 import gde.ui.DataExplorer;
@@ -1255,6 +1257,57 @@ public class HoTTAdapter extends DeviceConfiguration implements IDevice, IHistoD
 		recordSet.syncScaleOfSyncableRecords();
 	}
 
+
+	/**
+	 * add record data size points from the OSD data section to each measurement without a temporary byte array of the complete record set data
+	 * @param recordSet
+	 * @param dataSection
+	 * @param doUpdateProgressBar
+	 * @throws DataInconsitsentException
+	 * @throws IOException
+	 */
+	@Override
+	public void addDataSectionAsRawDataPoints(RecordSet recordSet, OsdDataSection dataSection, boolean doUpdateProgressBar) throws DataInconsitsentException, IOException {
+		addDataSectionPoints(recordSet, dataSection, false, doUpdateProgressBar);
+	}
+
+	/**
+	 * @return true, the points of the OSD data section are added unchanged by addDataSectionPoints
+	 */
+	@Override
+	public boolean isDataSectionPassThrough() {
+		return true;
+	}
+
+	/**
+	 * add the points of all time steps from the OSD data section, shared by the HoTT devices reading OSD files without a byte array of the complete record set data
+	 * @param recordSet
+	 * @param dataSection
+	 * @param isNoneCalculationOnly true if the data section holds the none calculation records only
+	 * @param doUpdateProgressBar
+	 * @throws DataInconsitsentException
+	 * @throws IOException
+	 */
+	protected void addDataSectionPoints(RecordSet recordSet, OsdDataSection dataSection, boolean isNoneCalculationOnly, boolean doUpdateProgressBar) throws DataInconsitsentException, IOException {
+		int recordDataSize = dataSection.getRecordDataSize();
+		int[] points = new int[isNoneCalculationOnly ? recordSet.getNoneCalculationRecordNames().length : recordSet.size()];
+		String sThreadId = String.format("%06d", Thread.currentThread().getId()); //$NON-NLS-1$
+		int progressCycle = 1;
+		if (doUpdateProgressBar) this.application.setProgress(progressCycle, sThreadId);
+
+		for (int i = 0; i < recordDataSize; i++) {
+			dataSection.readPoints(points);
+			if (isNoneCalculationOnly)
+				recordSet.addNoneCalculationRecordsPoints(points, dataSection.getTimeStamp(i) / 10.0);
+			else
+				recordSet.addPoints(points, dataSection.getTimeStamp(i) / 10.0);
+
+			if (doUpdateProgressBar && i % 50 == 0) this.application.setProgress(((++progressCycle * 5000) / recordDataSize), sThreadId);
+		}
+		if (doUpdateProgressBar) this.application.setProgress(100, sThreadId);
+		recordSet.syncScaleOfSyncableRecords();
+	}
+
 	/**
 	 * Add record data points from file stream to each measurement.
 	 * It is possible to add only none calculation records if makeInActiveDisplayable calculates the rest.
@@ -1639,10 +1692,10 @@ public class HoTTAdapter extends DeviceConfiguration implements IDevice, IHistoD
 							try {
 								// use a copy of the picker parameters to avoid changes by the reader
 								if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_BIN)) {
-									HoTTbinReader.read(selectedImportFile, new PickerParameters(HoTTAdapter.this.pickerParameters));
+									new HoTTbinReader(new PickerParameters(HoTTAdapter.this.pickerParameters)).read(selectedImportFile);
 								}
 								else if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_LOG)) {
-									HoTTlogReader.read(selectedImportFile, new PickerParameters(HoTTAdapter.this.pickerParameters));
+									new HoTTlogReader(new PickerParameters(HoTTAdapter.this.pickerParameters)).read(selectedImportFile);
 								}
 								if (!isInitialSwitched) {
 									if (HoTTAdapter.this.application.getActiveChannel().getActiveRecordSet() == null) {
@@ -1690,6 +1743,74 @@ public class HoTTAdapter extends DeviceConfiguration implements IDevice, IHistoD
 		reader.start();
 	}
 
+	/**
+	 * @return the bin reader matching the device class, it uses a copy of the picker parameters to avoid changes by the reader
+	 */
+	private HoTTbinReader createBinReader() {
+		if (this.getClass().equals(HoTTAdapter.class))
+			return new HoTTbinReader(new PickerParameters(this.pickerParameters));
+		else if (this.getClass().equals(HoTTAdapter2.class))
+			return new HoTTbinReader2(new PickerParameters(this.pickerParameters));
+		else if (this.getClass().equals(HoTTAdapter2M.class))
+			return new HoTTbinReader2(new PickerParameters(this.pickerParameters));
+		else if (this.getClass().equals(HoTTAdapterD.class))
+			return new HoTTbinReaderD(new PickerParameters(this.pickerParameters));
+		else if (this.getClass().equals(HoTTAdapterM.class))
+			return new HoTTbinReader(new PickerParameters(this.pickerParameters));
+		else if (this.getClass().equals(HoTTAdapterX.class))
+			return new HoTTbinReaderX(new PickerParameters(this.pickerParameters));
+		else
+			throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @return the log reader matching the device class, it uses a copy of the picker parameters to avoid changes by the reader
+	 */
+	private HoTTlogReader createLogReader() {
+		if (this.getClass().equals(HoTTAdapter.class) || this.getClass().equals(HoTTAdapterM.class))
+			return new HoTTlogReader(new PickerParameters(this.pickerParameters));
+		else if (this.getClass().equals(HoTTAdapter2.class) || this.getClass().equals(HoTTAdapter2M.class))
+			return new HoTTlogReader2(new PickerParameters(this.pickerParameters));
+		else if (this.getClass().equals(HoTTAdapterD.class))
+			return new HoTTlogReaderD(new PickerParameters(this.pickerParameters));
+		else
+			throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @return the *.bin and *.log extentions if the device class has a matching reader, the X-8N transmitter logs are *.bin files only
+	 */
+	@Override
+	public List<String> getReadableImportExtentions() {
+		List<String> extentions = new ArrayList<>();
+		if (this.getClass().equals(HoTTAdapter.class) || this.getClass().equals(HoTTAdapterM.class) || this.getClass().equals(HoTTAdapter2.class)
+				|| this.getClass().equals(HoTTAdapter2M.class) || this.getClass().equals(HoTTAdapterD.class)) {
+			extentions.add(GDE.FILE_ENDING_DOT_BIN);
+			extentions.add(GDE.FILE_ENDING_DOT_LOG);
+		} else if (this.getClass().equals(HoTTAdapterX.class)) {
+			extentions.add(GDE.FILE_ENDING_DOT_BIN);
+		}
+		return extentions;
+	}
+
+	/**
+	 * read a device specific *.bin or *.log data file into the channels without any user interaction
+	 * @param filePath
+	 */
+	@Override
+	public void readImportFile(Path filePath) throws Exception {
+		String extention = PathUtils.getFileExtention(filePath);
+		if (!getReadableImportExtentions().contains(extention)) throw new UnsupportedOperationException(filePath.toString());
+
+		for (Channel channel : this.channels.values()) {
+			channel.clear();
+		}
+		if (GDE.FILE_ENDING_DOT_LOG.equals(extention))
+			createLogReader().read(filePath.toString());
+		else
+			createBinReader().read(filePath.toString());
+	}
+
 	/**
 	 * import device specific *.bin data files
 	 * @param filePath
@@ -1711,21 +1832,8 @@ public class HoTTAdapter extends DeviceConfiguration implements IDevice, IHistoD
 						}
 
 						try {
-							// use a copy of the picker parameters to avoid changes by the reader
-							if (HoTTAdapter.this.getClass().equals(HoTTAdapter.class))
-								HoTTbinReader.read(filePath.toString(), new PickerParameters(HoTTAdapter.this.pickerParameters));
-							else if (HoTTAdapter.this.getClass().equals(HoTTAdapter2.class))
-								HoTTbinReader2.read(filePath.toString(), new PickerParameters(HoTTAdapter.this.pickerParameters));
-							else if (HoTTAdapter.this.getClass().equals(HoTTAdapter2M.class))
-								HoTTbinReader2.read(filePath.toString(), new PickerParameters(HoTTAdapter.this.pickerParameters));
-							else if (HoTTAdapter.this.getClass().equals(HoTTAdapterD.class))
-								HoTTbinReaderD.read(filePath.toString(), new PickerParameters(HoTTAdapter.this.pickerParameters));
-							else if (HoTTAdapter.this.getClass().equals(HoTTAdapterM.class))
-								HoTTbinReader.read(filePath.toString(), new PickerParameters(HoTTAdapter.this.pickerParameters));
-							else if (HoTTAdapter.this.getClass().equals(HoTTAdapterX.class))
-								HoTTbinReaderX.read(filePath.toString(), new PickerParameters(HoTTAdapter.this.pickerParameters));
-							else
-								throw new UnsupportedOperationException();
+							final HoTTbinReader binReader = createBinReader();
+							binReader.read(filePath.toString());
 
 							if (!isInitialSwitched) {
 								Channel selectedChannel = Settings.getInstance().isFirstRecordSetChoice() ? HoTTAdapter.this.channels.get(1) : HoTTAdapter.this.application.getActiveChannel();
@@ -1733,10 +1841,10 @@ public class HoTTAdapter extends DeviceConfiguration implements IDevice, IHistoD
 									HoTTbinReader.channels.switchChannel(selectedChannel.getName());
 								} else if (HoTTAdapter.this.getClass().equals(HoTTAdapter2.class) || HoTTAdapter.this.getClass().equals(HoTTAdapter2M.class)) {
 									HoTTbinReader.channels.switchChannel(selectedChannel.getName());
-									selectedChannel.switchRecordSet(HoTTbinReader2.recordSet.getName());
+									selectedChannel.switchRecordSet(((HoTTbinReader2) binReader).recordSet.getName());
 								} else if (HoTTAdapter.this.getClass().equals(HoTTAdapterD.class)) {
 									HoTTbinReader.channels.switchChannel(selectedChannel.getName());
-									selectedChannel.switchRecordSet(HoTTbinReaderD.recordSet.getName());
+									selectedChannel.switchRecordSet(((HoTTbinReaderD) binReader).recordSet.getName());
 								} else
 									throw new UnsupportedOperationException();
 								isInitialSwitched = true;
@@ -2412,9 +2520,10 @@ public class HoTTAdapter extends DeviceConfiguration implements IDevice, IHistoD
 	 * @param device HoTTAdapter
 	 * @param tmpRecordSet the record set to be updated
 	 * @param startTimeStamp_ms to be used for synchronization of other contained record sets
+	 * @param recordSets all record sets created while reading the file which get the synchronized start time stamp
 	 * @return
 	 */
-	protected static long updateGpsTypeDependent(int version, IDevice device, RecordSet tmpRecordSet, long startTimeStamp_ms) {
+	protected static long updateGpsTypeDependent(int version, IDevice device, RecordSet tmpRecordSet, long startTimeStamp_ms, Collection<RecordSet> recordSets) {
 		if (version > 100) { //SM GPS-Logger
 			//15=HomeDirection 16=ServoPulse 17=AirSpeed 18=n/a 19=GyroX 20=GyroY 21=GyroZ 22=Vibration 23=Version		
 			tmpRecordSet.get(16).setName(device.getMeasurementReplacement("servo_impulse"));
@@ -2454,7 +2563,7 @@ public class HoTTAdapter extends DeviceConfiguration implements IDevice, IHistoD
 			tmpRecordSet.get(22).setUnit("%");
 			if (startTimeStamp_ms >= 0) {
 				startTimeStamp_ms = HoTTbinReader.getStartTimeStamp(tmpRecordSet.getStartTimeStamp(), tmpRecordSet.get(19).lastElement(), 0);
-				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
+				for (RecordSet recordSet : recordSets) {
 					recordSet.setStartTimeStamp(startTimeStamp_ms);
 				} 
 			}
@@ -2477,7 +2586,7 @@ public class HoTTAdapter extends DeviceConfiguration implements IDevice, IHistoD
 			tmpRecordSet.get(22).setUnit("dm");
 			if (startTimeStamp_ms >= 0) {
 				startTimeStamp_ms = HoTTbinReader.getStartTimeStamp(tmpRecordSet.getStartTimeStamp(), tmpRecordSet.get(19).lastElement(), 0);
-				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
+				for (RecordSet recordSet : recordSets) {
 					recordSet.setStartTimeStamp(startTimeStamp_ms);
 				} 
 			}
@@ -2494,7 +2603,7 @@ public class HoTTAdapter extends DeviceConfiguration implements IDevice, IHistoD
 			tmpRecordSet.get(21).setFactor(1.0);
 			if (startTimeStamp_ms >= 0) {
 				startTimeStamp_ms = HoTTbinReader.getStartTimeStamp(tmpRecordSet.getStartTimeStamp(), tmpRecordSet.get(19).lastElement(), 0);
-				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
+				for (RecordSet recordSet : recordSets) {
 					recordSet.setStartTimeStamp(startTimeStamp_ms);
 				} 
 			}
@@ -59,6 +59,7 @@ import gde.histo.device.UniversalSampler;
 import gde.histo.utils.PathUtils;
 import gde.io.DataParser;
 import gde.io.FileHandler;
+import gde.io.OsdDataSection;
 import gde.log.Level;
 import gde.messages.Messages;
 import gde.utils.FileUtils;
@@ -830,6 +831,20 @@ public class HoTTAdapter2 extends HoTTAdapter implements IDevice, IHistoDevice {
 		recordSet.syncScaleOfSyncableRecords();
 	}
 
+
+	/**
+	 * add record data size points from the OSD data section to each measurement without a temporary byte array of the complete record set data
+	 * @param recordSet
+	 * @param dataSection
+	 * @param doUpdateProgressBar
+	 * @throws DataInconsitsentException
+	 * @throws IOException
+	 */
+	@Override
+	public void addDataSectionAsRawDataPoints(RecordSet recordSet, OsdDataSection dataSection, boolean doUpdateProgressBar) throws DataInconsitsentException, IOException {
+		addDataSectionPoints(recordSet, dataSection, true, doUpdateProgressBar);
+	}
+
 	/**
 	 * Add record data points from file stream to each measurement.
 	 * It is possible to add only none calculation records if makeInActiveDisplayable calculates the rest.
@@ -1114,25 +1129,27 @@ public class HoTTAdapter2 extends HoTTAdapter implements IDevice, IHistoDevice {
 
 							try {
 								// use a copy of the picker parameters to avoid changes by the reader
+								RecordSet importedRecordSet = null;
 								if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_BIN)) {
-									HoTTbinReader2.read(selectedImportFile, new PickerParameters(HoTTAdapter2.this.pickerParameters));
+									HoTTbinReader2 binReader = new HoTTbinReader2(new PickerParameters(HoTTAdapter2.this.pickerParameters));
+									binReader.read(selectedImportFile);
+									importedRecordSet = binReader.recordSet;
 								}
 								else if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_LOG)) {
-									HoTTlogReader2.read(selectedImportFile, new PickerParameters(HoTTAdapter2.this.pickerParameters));
+									HoTTlogReader2 logReader = new HoTTlogReader2(new PickerParameters(HoTTAdapter2.this.pickerParameters));
+									logReader.read(selectedImportFile);
+									importedRecordSet = logReader.recordSet;
 								}
 								if (!isInitialSwitched) {
 									Channel activeChannel = HoTTAdapter2.this.application.getActiveChannel();
 									HoTTbinReader2.channels.switchChannel(activeChannel.getName());
-									if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_BIN)) {
-										activeChannel.switchRecordSet(HoTTbinReader2.recordSet.getName());
-									}
-									else if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_LOG)) {
-										activeChannel.switchRecordSet(HoTTlogReader2.recordSet.getName());
+									if (importedRecordSet != null) {
+										activeChannel.switchRecordSet(importedRecordSet.getName());
 									}
 									isInitialSwitched = true;
 								}
 								else {
-									HoTTAdapter2.this.makeInActiveDisplayable(HoTTbinReader2.recordSet);
+									HoTTAdapter2.this.makeInActiveDisplayable(importedRecordSet);
 								}
 								WaitTimer.delay(500);
 							}
@@ -487,7 +487,7 @@ public class HoTTAdapter2LiveGatherer extends HoTTAdapterLiveGatherer {
 					}
 				}
 
-				HoTTAdapter2LiveGatherer.this.application.updateAllTabs(false);
+				HoTTAdapter2LiveGatherer.this.application.updateLiveTabs();
 
 				if (this.serialPort.getTimeoutErrors() > 2 && this.serialPort.getTimeoutErrors() % 10 == 0) {
 					this.application.setStatusMessage(
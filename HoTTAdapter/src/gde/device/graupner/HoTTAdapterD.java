@@ -919,25 +919,27 @@ public class HoTTAdapterD extends HoTTAdapter implements IDevice {
 
 							try {
 								// use a copy of the picker parameters to avoid changes by the reader
+								RecordSet importedRecordSet = null;
 								if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_BIN)) {
-									HoTTbinReaderD.read(selectedImportFile, new PickerParameters(HoTTAdapterD.this.pickerParameters));
+									HoTTbinReaderD binReader = new HoTTbinReaderD(new PickerParameters(HoTTAdapterD.this.pickerParameters));
+									binReader.read(selectedImportFile);
+									importedRecordSet = binReader.recordSet;
 								}
 								else if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_LOG)) {
-									HoTTlogReaderD.read(selectedImportFile, new PickerParameters(HoTTAdapterD.this.pickerParameters));
+									HoTTlogReaderD logReader = new HoTTlogReaderD(new PickerParameters(HoTTAdapterD.this.pickerParameters));
+									logReader.read(selectedImportFile);
+									importedRecordSet = logReader.recordSet;
 								}
 								if (!isInitialSwitched) {
 									Channel activeChannel = HoTTAdapterD.this.application.getActiveChannel();
 									HoTTbinReaderD.channels.switchChannel(activeChannel.getName());
-									if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_BIN)) {
-										activeChannel.switchRecordSet(HoTTbinReaderD.recordSet.getName());
-									}
-									else if (selectedImportFile.toLowerCase().endsWith(GDE.FILE_ENDING_DOT_LOG)) {
-										activeChannel.switchRecordSet(HoTTlogReaderD.recordSet.getName());
+									if (importedRecordSet != null) {
+										activeChannel.switchRecordSet(importedRecordSet.getName());
 									}
 									isInitialSwitched = true;
 								}
 								else {
-									HoTTAdapterD.this.makeInActiveDisplayable(HoTTbinReaderD.recordSet);
+									HoTTAdapterD.this.makeInActiveDisplayable(importedRecordSet);
 								}
 								WaitTimer.delay(500);
 							}
@@ -1173,14 +1175,5 @@ public class HoTTAdapterD extends HoTTAdapter implements IDevice {
 		recordSet.setConfiguredDisplayable(displayableCounter);
 		this.setChangePropery(configChanged); //reset configuration change indicator to previous value, do not vote automatic configuration change at all
 	}
-	
-	public static int getStartTime(int HH, int mm, int ss, int SSS) {
-		try {
-			return Integer.valueOf(String.format("%02d%02.0f%02.0f%03d", HH, 100.0 / 60 * mm, 100.0 / 60 * ss, SSS));
-		}
-		catch (NumberFormatException e) {
-			return HoTTbinReaderD.gpsStartTime; //keep time unchanged
-		}
-	}
 
 }
@@ -584,7 +584,7 @@ public class HoTTAdapterLiveGatherer extends Thread {
 					}
 				}
 				//if (recordSet.isChildOfActiveChannel() && recordSet.equals(HoTTAdapterLiveGatherer.this.channels.getActiveChannel().getActiveRecordSet())) {
-				HoTTAdapterLiveGatherer.this.application.updateAllTabs(false);
+				HoTTAdapterLiveGatherer.this.application.updateLiveTabs();
 				//}
 
 				if (this.serialPort.getTimeoutErrors() > 2 && this.serialPort.getTimeoutErrors() % 10 == 0) {
@@ -91,7 +91,7 @@ public class HoTTAdapterX extends HoTTAdapter implements IDevice {
 
 							try {
 								// use a copy of the picker parameters to avoid changes by the reader
-								HoTTbinReaderX.read(selectedImportFile, new PickerParameters(HoTTAdapterX.this.pickerParameters)); //, HoTTAdapter.this, GDE.STRING_EMPTY, channelConfigNumber);
+								new HoTTbinReaderX(new PickerParameters(HoTTAdapterX.this.pickerParameters)).read(selectedImportFile); //, HoTTAdapter.this, GDE.STRING_EMPTY, channelConfigNumber);
 								if (!isInitialSwitched) {
 									Channel receiverChannel = HoTTAdapterX.this.channels.get(1);
 									HoTTbinReader.channels.switchChannel(receiverChannel.getName());
@@ -1,6 +1,7 @@
 package gde.device.graupner;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.logging.Logger;
 
 import javax.xml.bind.JAXBException;
@@ -21,6 +22,7 @@ import gde.device.IDevice;
 import gde.device.graupner.hott.MessageIds;
 import gde.exception.DataInconsitsentException;
 import gde.io.FileHandler;
+import gde.io.OsdDataSection;
 import gde.log.Level;
 import gde.messages.Messages;
 
@@ -190,6 +192,24 @@ public class HoTTViewer extends HoTTAdapter implements IDevice {
 			recordSet.setRecordSetDescription(this.getName() + recordSet.getRecordSetDescription().substring(recordSet.getRecordSetDescription().indexOf(GDE.STRING_MESSAGE_CONCAT)));
 	}
 
+	/**
+	 * add record data size points from the OSD data section to each measurement without a temporary byte array of the complete record set data
+	 * @param recordSet
+	 * @param dataSection
+	 * @param doUpdateProgressBar
+	 * @throws DataInconsitsentException
+	 * @throws IOException
+	 */
+	@Override
+	public void addDataSectionAsRawDataPoints(RecordSet recordSet, OsdDataSection dataSection, boolean doUpdateProgressBar) throws DataInconsitsentException, IOException {
+		addDataSectionPoints(recordSet, dataSection, true, doUpdateProgressBar);
+
+		if (recordSet.getRecordSetDescription().contains(GDE.STRING_LEFT_PARENTHESIS))
+			recordSet.setRecordSetDescription(this.getName() + recordSet.getRecordSetDescription().substring(recordSet.getRecordSetDescription().lastIndexOf(GDE.STRING_LEFT_PARENTHESIS)));
+		else if (recordSet.getRecordSetDescription().contains(GDE.STRING_MESSAGE_CONCAT))
+			recordSet.setRecordSetDescription(this.getName() + recordSet.getRecordSetDescription().substring(recordSet.getRecordSetDescription().indexOf(GDE.STRING_MESSAGE_CONCAT)));
+	}
+
 //	/**
 //	 * smooth and differentiate Rx dbm values targeting lab counting to be called modulo 3
 //	 * @param sourceRecordOrdinal
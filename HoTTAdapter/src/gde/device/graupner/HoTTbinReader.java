@@ -78,51 +78,60 @@ public class HoTTbinReader {
 	final static DataExplorer											application									= DataExplorer.getInstance();
 	final static Channels													channels										= Channels.getInstance();
 
-	static int																		dataBlockSize								= 64;
-	static byte[]																	buf;
-	static byte[]																	buf0, buf1, buf2, buf3, buf4, buf5, buf6, buf7, buf8, buf9, bufA, bufB, bufC, bufD;
-	static long																		timeStep_ms;
-	static RecordSet															recordSetReceiver, recordSetGAM, recordSetEAM, recordSetVario, recordSetGPS, recordSetChannel, recordSetESC;
+	int																				dataBlockSize								= 64;
+	byte[]																			buf;
+	byte[]																			buf0, buf1, buf2, buf3, buf4, buf5, buf6, buf7, buf8, buf9, bufA, bufB, bufC, bufD;
+	long																				timeStep_ms;
+	RecordSet																	recordSetReceiver, recordSetGAM, recordSetEAM, recordSetVario, recordSetGPS, recordSetChannel, recordSetESC;
 	// todo remove the next lines which are used neither by this class nor by HoTTbinHistoReader
-	static int[]																	pointsReceiver, pointsEAM, pointsVario, pointsGPS, pointsChannel, pointsESC, pointsGAM;
-	static int																		tmpVoltageRx								= 0;
-	static int																		tmpTemperatureRx						= 0;
-	static int																		tmpHeight										= 0;
-	static int																		tmpTemperatureFet						= 0;
-	static int																		tmpTemperatureExt						= 0;
-	static int																		tmpVoltage									= 0;
-	static int																		tmpCurrent									= 0;
-	static int																		tmpRevolution								= 0;
-	static int																		tmpClimb1										= 0;
-	static int																		tmpClimb3										= 0;
-	static int																		tmpClimb10									= 0;
-	static int																		tmpVoltage1									= 0;
-	static int																		tmpVoltage2									= 0;
-	static int																		tmpCapacity									= 0;
-	static int																		tmpVelocity									= 0;
-	static int																		tmpLatitude									= 0;
-	static int																		tmpLatitudeDelta						= 0;
-	static double																	latitudeTolerance						= 1;
-	static long																		lastLatitudeTimeStep				= 0;
-	static int																		tmpLongitude								= 0;
-	static int																		tmpLongitudeDelta						= 0;
-	static double																	longitudeTolerance					= 1;
-	static long																		lastLongitudeTimeStep				= 0;
-	static int																		countLostPackages						= 0;
-	static PackageLoss														lostPackages								= new PackageLoss();
-
-	static boolean																isJustParsed								= false;
-	static boolean																isReceiverOnly							= false;
-	static EnumSet<Sensor> 												detectedSensors;
-	static boolean																isTextModusSignaled					= false;
-	static int																		oldProtocolCount						= 0;
-	static Vector<Byte>														blockSequenceCheck;
-
-	protected static final Map<String, RecordSet>	recordSets									= new HashMap<String, RecordSet>();
-
-	protected static PickerParameters							pickerParameters;
-	protected static BinParser										rcvBinParser, chnBinParser, varBinParser, gpsBinParser, gamBinParser, eamBinParser, escBinParser;
-	
+	int[]																			pointsReceiver, pointsEAM, pointsVario, pointsGPS, pointsChannel, pointsESC, pointsGAM;
+	int																				tmpVoltageRx								= 0;
+	int																				tmpTemperatureRx						= 0;
+	int																				tmpHeight										= 0;
+	int																				tmpTemperatureFet						= 0;
+	int																				tmpTemperatureExt						= 0;
+	int																				tmpVoltage									= 0;
+	int																				tmpCurrent									= 0;
+	int																				tmpRevolution								= 0;
+	int																				tmpClimb1										= 0;
+	int																				tmpClimb3										= 0;
+	int																				tmpClimb10									= 0;
+	int																				tmpVoltage1									= 0;
+	int																				tmpVoltage2									= 0;
+	int																				tmpCapacity									= 0;
+	int																				tmpVelocity									= 0;
+	int																				tmpLatitude									= 0;
+	int																				tmpLatitudeDelta						= 0;
+	double																			latitudeTolerance						= 1;
+	long																				lastLatitudeTimeStep				= 0;
+	int																				tmpLongitude								= 0;
+	int																				tmpLongitudeDelta						= 0;
+	double																			longitudeTolerance					= 1;
+	long																				lastLongitudeTimeStep				= 0;
+	int																				countLostPackages						= 0;
+	PackageLoss																lostPackages								= new PackageLoss();
+
+	boolean																		isJustParsed								= false;
+	boolean																		isReceiverOnly							= false;
+	EnumSet<Sensor> 														detectedSensors;
+	boolean																		isTextModusSignaled					= false;
+	int																				oldProtocolCount						= 0;
+	Vector<Byte>																blockSequenceCheck;
+
+	protected final Map<String, RecordSet>	recordSets									= new HashMap<String, RecordSet>();
+
+	protected final PickerParameters							pickerParameters;
+	protected BinParser												rcvBinParser, chnBinParser, varBinParser, gpsBinParser, gamBinParser, eamBinParser, escBinParser;
+
+	/**
+	 * A reader instance holds the working state of a single file import.
+	 * Use a new instance for each file to allow reading files in parallel.
+	 * @param pickerParameters is a copy of the device picker parameters which might be changed by the reader
+	 */
+	public HoTTbinReader(PickerParameters pickerParameters) {
+		this.pickerParameters = pickerParameters;
+	}
+
 	/**
 	 * Individual settings for the SD Log container format ('GRAUPNER SD LOG').
 	 * @author Thomas Eickert (USER)
@@ -398,9 +407,8 @@ public class HoTTbinReader {
 	 * @throws IOException
 	 * @throws DataTypeException
 	 */
-	public static HashMap<String, String> getFileInfo(File file, PickerParameters newPickerParameters) throws IOException, DataTypeException {
+	public static HashMap<String, String> getFileInfo(File file) throws IOException, DataTypeException {
 		HashMap<String, String> fileInfo = null;
-		HoTTbinReader.pickerParameters = newPickerParameters;
 		try (FilterInputStream data_in = new BufferedInputStream(new FileInputStream(file))) {
 			Consumer<String> messageProvider = (s) -> DataExplorer.getInstance().openMessageDialogAsync(Messages.getString(s));
 			fileInfo = new InfoParser(messageProvider).getFileInfo(data_in, file.getPath(), file.length());
@@ -556,9 +564,9 @@ public class HoTTbinReader {
 			}
 		}
 		if (data_in instanceof SdLogInputStream) 
-			fileInfo.put(HoTTAdapter.LOG_COUNT, GDE.STRING_EMPTY + ((fileLength - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize) / HoTTbinReader.dataBlockSize));
+			fileInfo.put(HoTTAdapter.LOG_COUNT, GDE.STRING_EMPTY + ((fileLength - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize) / 64));
 		else 	
-			fileInfo.put(HoTTAdapter.LOG_COUNT, GDE.STRING_EMPTY + (fileLength / HoTTbinReader.dataBlockSize));
+			fileInfo.put(HoTTAdapter.LOG_COUNT, GDE.STRING_EMPTY + (fileLength / 64));
 		fileInfo.put(HoTTAdapter.DETECTED_SENSOR, Sensor.getSetAsDetected(sensors));
 		if (HoTTbinReader.log.isLoggable(Level.FINE))
 			for (Entry<String, String> entry : fileInfo.entrySet()) {
@@ -642,15 +650,14 @@ public class HoTTbinReader {
 	 * @param filePath
 	 * @throws Exception
 	 */
-	public static synchronized void read(String filePath, PickerParameters newPickerParameters) throws Exception {
-		HoTTbinReader.pickerParameters = newPickerParameters;
-		HashMap<String, String> header = getFileInfo(new File(filePath), newPickerParameters);
-		HoTTbinReader2.detectedSensors = Sensor.getSetFromDetected(header.get(HoTTAdapter.DETECTED_SENSOR));
+	public void read(String filePath) throws Exception {
+		HashMap<String, String> header = getFileInfo(new File(filePath));
+		this.detectedSensors = Sensor.getSetFromDetected(header.get(HoTTAdapter.DETECTED_SENSOR));
 		//set fix detected sensors if sensor detection fails!
-		//HoTTbinReader2.detectedSensors = Sensor.getSetFromDetected("RECEIVER,GPS,AIR_ESC");
+		//this.detectedSensors = Sensor.getSetFromDetected("RECEIVER,GPS,AIR_ESC");
 
-		if (HoTTbinReader2.detectedSensors.size() <= 2) {
-			HoTTbinReader.isReceiverOnly = HoTTbinReader2.detectedSensors.size() == 1;
+		if (this.detectedSensors.size() <= 2) {
+			this.isReceiverOnly = this.detectedSensors.size() == 1;
 			readSingle(new File(filePath), header);
 		} else {
 			readMultiple(new File(filePath), header);
@@ -664,7 +671,7 @@ public class HoTTbinReader {
 	 * @throws IOException
 	 * @throws DataInconsitsentException
 	 */
-	static void readSingle(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
+	void readSingle(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
 		final String $METHOD_NAME = "readSingle";
 		long startTime = System.nanoTime() / 1000000;
 		FileInputStream file_input = new FileInputStream(file);
@@ -675,39 +682,39 @@ public class HoTTbinReader {
 		String recordSetName = GDE.STRING_EMPTY;
 		String recordSetNameExtend = getRecordSetExtend(file);
 		Channel channel = null;
-		HoTTbinReader.recordSetReceiver = null; // 0=RF_RXSQ, 1=RXSQ, 2=Strength, 3=PackageLoss, 4=Tx, 5=Rx, 6=VoltageRx, 7=TemperatureRx 8=UminRx 9=Event Rx
-		HoTTbinReader.recordSetGAM = null; // 0=RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Balance, 6=CellVoltage 1, 7=CellVoltage 2 .... 11=CellVoltage 6, 12=Revolution, 13=Altitude, 14=Climb, 15=Climb3, 16=FuelLevel, 17=Voltage 1, 18=Voltage 2, 19=Temperature 1, 20=Temperature 2
-		HoTTbinReader.recordSetEAM = null; // 0=RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Balance, 6=CellVoltage 1, 7=CellVoltage 2 .... 19=CellVoltage 14, 20=Altitude, 21=Climb 1, 22=Climb 3, 23=Voltage 1, 24=Voltage 2, 25=Temperature 1, 26=Temperature 2, 27=Revolution
-		HoTTbinReader.recordSetVario = null; // 0=RXSQ, 1=Altitude, 2=Climb 1, 3=Climb 3, 4=Climb 10, 5=VoltageRx, 6=TemperatureRx 7=Event 8=accX 9=accY 10=accZ 11=reserved 12=version
-		HoTTbinReader.recordSetGPS = null; // 0=RXSQ, 1=Latitude, 2=Longitude, 3=Altitude, 4=Climb 1, 5=Climb 3, 6=Velocity, 7=Distance, 8=Direction, 9=TripLength, 10=VoltageRx, 11=TemperatureRx 12=satellites 13=GPS-fix 14=EventGPS 15=HomeDirection 16=Roll 17=Pitch 18=Yaw 19=GyroX 20=GyroY 21=GyroZ 22=Vibration 23=Version	
-		HoTTbinReader.recordSetChannel = null; // 0=FreCh, 1=Tx, 2=Rx, 3=Ch 1, 4=Ch 2 .. 18=Ch 16
-		HoTTbinReader.recordSetESC = null; // 0=RF_RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Revolution, 6=Temperature
-		HoTTbinReader.dataBlockSize = 64;
-		HoTTbinReader.buf = new byte[HoTTbinReader.dataBlockSize];
-		HoTTbinReader.buf0 = new byte[30];
-		HoTTbinReader.buf1 = new byte[30];
-		HoTTbinReader.buf2 = new byte[30];
-		HoTTbinReader.buf3 = new byte[30];
-		HoTTbinReader.buf4 = new byte[30];
+		this.recordSetReceiver = null; // 0=RF_RXSQ, 1=RXSQ, 2=Strength, 3=PackageLoss, 4=Tx, 5=Rx, 6=VoltageRx, 7=TemperatureRx 8=UminRx 9=Event Rx
+		this.recordSetGAM = null; // 0=RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Balance, 6=CellVoltage 1, 7=CellVoltage 2 .... 11=CellVoltage 6, 12=Revolution, 13=Altitude, 14=Climb, 15=Climb3, 16=FuelLevel, 17=Voltage 1, 18=Voltage 2, 19=Temperature 1, 20=Temperature 2
+		this.recordSetEAM = null; // 0=RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Balance, 6=CellVoltage 1, 7=CellVoltage 2 .... 19=CellVoltage 14, 20=Altitude, 21=Climb 1, 22=Climb 3, 23=Voltage 1, 24=Voltage 2, 25=Temperature 1, 26=Temperature 2, 27=Revolution
+		this.recordSetVario = null; // 0=RXSQ, 1=Altitude, 2=Climb 1, 3=Climb 3, 4=Climb 10, 5=VoltageRx, 6=TemperatureRx 7=Event 8=accX 9=accY 10=accZ 11=reserved 12=version
+		this.recordSetGPS = null; // 0=RXSQ, 1=Latitude, 2=Longitude, 3=Altitude, 4=Climb 1, 5=Climb 3, 6=Velocity, 7=Distance, 8=Direction, 9=TripLength, 10=VoltageRx, 11=TemperatureRx 12=satellites 13=GPS-fix 14=EventGPS 15=HomeDirection 16=Roll 17=Pitch 18=Yaw 19=GyroX 20=GyroY 21=GyroZ 22=Vibration 23=Version	
+		this.recordSetChannel = null; // 0=FreCh, 1=Tx, 2=Rx, 3=Ch 1, 4=Ch 2 .. 18=Ch 16
+		this.recordSetESC = null; // 0=RF_RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Revolution, 6=Temperature
+		this.dataBlockSize = 64;
+		this.buf = new byte[this.dataBlockSize];
+		this.buf0 = new byte[30];
+		this.buf1 = new byte[30];
+		this.buf2 = new byte[30];
+		this.buf3 = new byte[30];
+		this.buf4 = new byte[30];
 		BufCopier bufCopier = new BufCopier(buf, buf0, buf1, buf2, buf3, buf4);
 		long[] timeSteps_ms = new long[] {0};
-		HoTTbinReader.rcvBinParser = Sensor.RECEIVER.createBinParser(HoTTbinReader.pickerParameters, new int[10], timeSteps_ms, new byte[][] { buf });
-		HoTTbinReader.chnBinParser = Sensor.CHANNEL.createBinParser(HoTTbinReader.pickerParameters, new int[23], timeSteps_ms, new byte[][] { buf });
-		HoTTbinReader.varBinParser = Sensor.VARIO.createBinParser(HoTTbinReader.pickerParameters, new int[13], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.gpsBinParser = Sensor.GPS.createBinParser(HoTTbinReader.pickerParameters, new int[24], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.gamBinParser = Sensor.GAM.createBinParser(HoTTbinReader.pickerParameters, new int[26], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.eamBinParser = Sensor.EAM.createBinParser(HoTTbinReader.pickerParameters, new int[31], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.escBinParser = Sensor.ESC.createBinParser(HoTTbinReader.pickerParameters, new int[14], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3 });
+		this.rcvBinParser = Sensor.RECEIVER.createBinParser(this.pickerParameters, new int[10], timeSteps_ms, new byte[][] { buf });
+		this.chnBinParser = Sensor.CHANNEL.createBinParser(this.pickerParameters, new int[23], timeSteps_ms, new byte[][] { buf });
+		this.varBinParser = Sensor.VARIO.createBinParser(this.pickerParameters, new int[13], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.gpsBinParser = Sensor.GPS.createBinParser(this.pickerParameters, new int[24], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.gamBinParser = Sensor.GAM.createBinParser(this.pickerParameters, new int[26], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.eamBinParser = Sensor.EAM.createBinParser(this.pickerParameters, new int[31], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.escBinParser = Sensor.ESC.createBinParser(this.pickerParameters, new int[14], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3 });
 		int version = -1;
-		HoTTbinReader.isJustParsed = false;
-		HoTTbinReader.isTextModusSignaled = false;
+		this.isJustParsed = false;
+		this.isTextModusSignaled = false;
 		boolean isVarioDetected = false;
 		boolean isGPSdetected = false;
 		boolean isWrongDataBlockNummerSignaled = false;
 		boolean isSdLogFormat = Boolean.parseBoolean(header.get(HoTTAdapter.SD_FORMAT));
-		long numberDatablocks = isSdLogFormat ? fileSize - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize : fileSize / HoTTbinReader.dataBlockSize;
+		long numberDatablocks = isSdLogFormat ? fileSize - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize : fileSize / this.dataBlockSize;
 		long startTimeStamp_ms = HoTTbinReader.getStartTimeStamp(file.getName(), file.lastModified(), numberDatablocks);
-		numberDatablocks = HoTTbinReader.isReceiverOnly && !HoTTbinReader.pickerParameters.isChannelsChannelEnabled ? numberDatablocks / 10 : numberDatablocks;
+		numberDatablocks = this.isReceiverOnly && !this.pickerParameters.isChannelsChannelEnabled ? numberDatablocks / 10 : numberDatablocks;
 		String date = StringHelper.getDate();
 		String dateTime = new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(startTimeStamp_ms); //$NON-NLS-1$
 		RecordSet tmpRecordSet;
@@ -717,16 +724,16 @@ public class HoTTbinReader {
 		if (isSdLogFormat) data_in.skip(HoTTbinReaderX.headerSize);
 
 		try {
-			HoTTbinReader.recordSets.clear();
+			this.recordSets.clear();
 			// receiver data are always contained
 			// check if recordSetReceiver initialized, transmitter and receiver
 			// data always present, but not in the same data rate and signals
 			channel = HoTTbinReader.channels.get(1);
 			channel.setFileDescription(HoTTbinReader.application.isObjectoriented() ? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 			recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.RECEIVER.value() + recordSetNameExtend;
-			HoTTbinReader.recordSetReceiver = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
-			channel.put(recordSetName, HoTTbinReader.recordSetReceiver);
-			HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.RECEIVER.value(), HoTTbinReader.recordSetReceiver);
+			this.recordSetReceiver = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
+			channel.put(recordSetName, this.recordSetReceiver);
+			this.recordSets.put(HoTTAdapter.Sensor.RECEIVER.value(), this.recordSetReceiver);
 			tmpRecordSet = channel.get(recordSetName);
 			tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 			tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -735,7 +742,7 @@ public class HoTTbinReader {
 			}
 			// recordSetReceiver initialized and ready to add data
 
-			if (HoTTbinReader.pickerParameters.isChannelsChannelEnabled) {
+			if (this.pickerParameters.isChannelsChannelEnabled) {
 				// channel data are always contained
 				// check if recordSetChannel initialized, transmitter and
 				// receiver data always present, but not in the same data rate
@@ -743,9 +750,9 @@ public class HoTTbinReader {
 				channel = HoTTbinReader.channels.get(6);
 				channel.setFileDescription(HoTTbinReader.application.isObjectoriented() ? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 				recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.CHANNEL.value() + recordSetNameExtend;
-				HoTTbinReader.recordSetChannel = RecordSet.createRecordSet(recordSetName, device, 6, true, true, true);
-				channel.put(recordSetName, HoTTbinReader.recordSetChannel);
-				HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.CHANNEL.value(), HoTTbinReader.recordSetChannel);
+				this.recordSetChannel = RecordSet.createRecordSet(recordSetName, device, 6, true, true, true);
+				channel.put(recordSetName, this.recordSetChannel);
+				this.recordSets.put(HoTTAdapter.Sensor.CHANNEL.value(), this.recordSetChannel);
 				tmpRecordSet = channel.get(recordSetName);
 				tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 				tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -757,56 +764,56 @@ public class HoTTbinReader {
 
 			// read all the data blocks from the file and parse
 			for (int i = 0; i < numberDatablocks; i++) {
-				data_in.read(HoTTbinReader.buf);
+				data_in.read(this.buf);
 				if (HoTTbinReader.log.isLoggable(Level.FINE) && i % 10 == 0) {
-					HoTTbinReader.log.logp(Level.FINE, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.fourDigitsRunningNumber(HoTTbinReader.buf.length));
-					HoTTbinReader.log.logp(Level.FINE, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.byte2Hex4CharString(HoTTbinReader.buf, HoTTbinReader.buf.length));
+					HoTTbinReader.log.logp(Level.FINE, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.fourDigitsRunningNumber(this.buf.length));
+					HoTTbinReader.log.logp(Level.FINE, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.byte2Hex4CharString(this.buf, this.buf.length));
 				}
 
-				if (!HoTTbinReader.pickerParameters.isFilterTextModus || (HoTTbinReader.buf[6] & 0x01) == 0) { // switch into text modus
-					if (HoTTbinReader.buf[3] != 0 && HoTTbinReader.buf[4] != 0) { // buf 3, 4, tx,rx
+				if (!this.pickerParameters.isFilterTextModus || (this.buf[6] & 0x01) == 0) { // switch into text modus
+					if (this.buf[3] != 0 && this.buf[4] != 0) { // buf 3, 4, tx,rx
 						if (HoTTbinReader.log.isLoggable(Level.INFO)) 
-							HoTTbinReader.log.log(Level.INFO, String.format("Sensor %x Blocknummer : %d", HoTTbinReader.buf[7], HoTTbinReader.buf[33]));
+							HoTTbinReader.log.log(Level.INFO, String.format("Sensor %x Blocknummer : %d", this.buf[7], this.buf[33]));
 
-						((RcvBinParser) HoTTbinReader.rcvBinParser).trackPackageLoss(true);
+						((RcvBinParser) this.rcvBinParser).trackPackageLoss(true);
 						// create and fill sensor specific data record sets
 						if (HoTTbinReader.log.isLoggable(Level.FINER)) HoTTbinReader.log.logp(Level.FINER, HoTTbinReader.$CLASS_NAME, $METHOD_NAME,
-								StringHelper.byte2Hex2CharString(new byte[] { HoTTbinReader.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(HoTTbinReader.buf[7], false));
+								StringHelper.byte2Hex2CharString(new byte[] { this.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(this.buf[7], false));
 
 						// fill receiver data
-						if (HoTTbinReader.buf[33] == 0 && (HoTTbinReader.buf[38] & 0x80) != 128 && DataParser.parse2Short(HoTTbinReader.buf, 40) >= 0) {
-							parseAddReceiver(HoTTbinReader.buf);
+						if (this.buf[33] == 0 && (this.buf[38] & 0x80) != 128 && DataParser.parse2Short(this.buf, 40) >= 0) {
+							parseAddReceiver(this.buf);
 						}
-						if (HoTTbinReader.pickerParameters.isChannelsChannelEnabled) {
-							parseAddChannel(HoTTbinReader.buf);
+						if (this.pickerParameters.isChannelsChannelEnabled) {
+							parseAddChannel(this.buf);
 						}
-						if (HoTTbinReader.isReceiverOnly && !HoTTbinReader.pickerParameters.isChannelsChannelEnabled) {
+						if (this.isReceiverOnly && !this.pickerParameters.isChannelsChannelEnabled) {
 							for (int j = 0; j < 9; j++) {
-								data_in.read(HoTTbinReader.buf);
+								data_in.read(this.buf);
 								timeSteps_ms[BinParser.TIMESTEP_INDEX] += 10;
 							}
 						}
 						// fill data block 0 receiver voltage an temperature
-						if (HoTTbinReader.buf[33] == 0) {
+						if (this.buf[33] == 0) {
 							bufCopier.copyToBuffer();
 						}
 						timeSteps_ms[BinParser.TIMESTEP_INDEX] += 10;// add default time step from device of 10 msec
-						// log.log(Level.INFO, "sensor type ID = " + StringHelper.byte2Hex2CharString(new byte[] {(byte) (HoTTbinReader.buf[7] & 0xFF)}, 1));
-						if (HoTTbinReader.buf[33] >= 0 && HoTTbinReader.buf[33] <= 4) { // expected data block number
-							switch ((byte) (HoTTbinReader.buf[7] & 0xFF)) {
+						// log.log(Level.INFO, "sensor type ID = " + StringHelper.byte2Hex2CharString(new byte[] {(byte) (this.buf[7] & 0xFF)}, 1));
+						if (this.buf[33] >= 0 && this.buf[33] <= 4) { // expected data block number
+							switch ((byte) (this.buf[7] & 0xFF)) {
 							case HoTTAdapter.SENSOR_TYPE_VARIO_115200:
 							case HoTTAdapter.SENSOR_TYPE_VARIO_19200:
 								if (detectedSensors.contains(Sensor.VARIO)) {
 									// check if recordSetVario initialized, transmitter and receiver data always present, but not in the same data rate and signals
-									if (HoTTbinReader.recordSetVario == null) {
+									if (this.recordSetVario == null) {
 										channel = HoTTbinReader.channels.get(2);
 										channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 												? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey()
 												: date);
 										recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.VARIO.value() + recordSetNameExtend;
-										HoTTbinReader.recordSetVario = RecordSet.createRecordSet(recordSetName, device, 2, true, true, true);
-										channel.put(recordSetName, HoTTbinReader.recordSetVario);
-										HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.VARIO.value(), HoTTbinReader.recordSetVario);
+										this.recordSetVario = RecordSet.createRecordSet(recordSetName, device, 2, true, true, true);
+										channel.put(recordSetName, this.recordSetVario);
+										this.recordSets.put(HoTTAdapter.Sensor.VARIO.value(), this.recordSetVario);
 										tmpRecordSet = channel.get(recordSetName);
 										tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 										tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -817,11 +824,11 @@ public class HoTTbinReader {
 									// recordSetVario initialized and ready to add data
 									bufCopier.copyToVarioBuffer();
 									if (bufCopier.is4BuffersFull()) {
-										version = parseAddVario(version, HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3, HoTTbinReader.buf4);
+										version = parseAddVario(version, this.buf0, this.buf1, this.buf2, this.buf3, this.buf4);
 										bufCopier.clearBuffers();
 									}
 									if (!isVarioDetected) {
-										HoTTAdapter.updateVarioTypeDependent((HoTTbinReader.buf4[9] & 0xFF), device, HoTTbinReader.recordSetVario);
+										HoTTAdapter.updateVarioTypeDependent((this.buf4[9] & 0xFF), device, this.recordSetVario);
 										isVarioDetected = true;								
 									}
 								}
@@ -831,15 +838,15 @@ public class HoTTbinReader {
 							case HoTTAdapter.SENSOR_TYPE_GPS_19200:
 								if (detectedSensors.contains(Sensor.GPS)) {
 									// check if recordSetReceiver initialized, transmitter and receiver data always present, but not in the same data rate as signals
-									if (HoTTbinReader.recordSetGPS == null) {
+									if (this.recordSetGPS == null) {
 										channel = HoTTbinReader.channels.get(3);
 										channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 												? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey()
 												: date);
 										recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.GPS.value() + recordSetNameExtend;
-										HoTTbinReader.recordSetGPS = RecordSet.createRecordSet(recordSetName, device, 3, true, true, true);
-										channel.put(recordSetName, HoTTbinReader.recordSetGPS);
-										HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.GPS.value(), HoTTbinReader.recordSetGPS);
+										this.recordSetGPS = RecordSet.createRecordSet(recordSetName, device, 3, true, true, true);
+										channel.put(recordSetName, this.recordSetGPS);
+										this.recordSets.put(HoTTAdapter.Sensor.GPS.value(), this.recordSetGPS);
 										tmpRecordSet = channel.get(recordSetName);
 										tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 										tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -850,12 +857,12 @@ public class HoTTbinReader {
 									// recordSetGPS initialized and ready to add data
 									bufCopier.copyToFreeBuffer();
 									if (bufCopier.is4BuffersFull()) {
-										parseAddGPS(HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3, HoTTbinReader.buf4);
+										parseAddGPS(this.buf0, this.buf1, this.buf2, this.buf3, this.buf4);
 										bufCopier.clearBuffers();
 									}
 									if (!isGPSdetected) {
-										if (isReasonableData(buf4) && HoTTbinReader.recordSetGPS.get(19).size() > 0 && HoTTbinReader.recordSetGPS.get(19).get(HoTTbinReader.recordSetGPS.get(19).size()-1) != 0) {
-											startTimeStamp_ms = HoTTAdapter.updateGpsTypeDependent((HoTTbinReader.buf4[9] & 0xFF), device, HoTTbinReader.recordSetGPS, startTimeStamp_ms);
+										if (isReasonableData(buf4) && this.recordSetGPS.get(19).size() > 0 && this.recordSetGPS.get(19).get(this.recordSetGPS.get(19).size()-1) != 0) {
+											startTimeStamp_ms = HoTTAdapter.updateGpsTypeDependent((this.buf4[9] & 0xFF), device, this.recordSetGPS, startTimeStamp_ms, this.recordSets.values());
 											isGPSdetected = true;
 										}
 									}
@@ -866,15 +873,15 @@ public class HoTTbinReader {
 							case HoTTAdapter.SENSOR_TYPE_GENERAL_19200:
 								if (detectedSensors.contains(Sensor.GAM)) {
 									// check if recordSetGeneral initialized, transmitter and receiver data always present, but not in the same data rate and signals
-									if (HoTTbinReader.recordSetGAM == null) {
+									if (this.recordSetGAM == null) {
 										channel = HoTTbinReader.channels.get(4);
 										channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 												? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey()
 												: date);
 										recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.GAM.value() + recordSetNameExtend;
-										HoTTbinReader.recordSetGAM = RecordSet.createRecordSet(recordSetName, device, 4, true, true, true);
-										channel.put(recordSetName, HoTTbinReader.recordSetGAM);
-										HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.GAM.value(), HoTTbinReader.recordSetGAM);
+										this.recordSetGAM = RecordSet.createRecordSet(recordSetName, device, 4, true, true, true);
+										channel.put(recordSetName, this.recordSetGAM);
+										this.recordSets.put(HoTTAdapter.Sensor.GAM.value(), this.recordSetGAM);
 										tmpRecordSet = channel.get(recordSetName);
 										tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 										tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -885,7 +892,7 @@ public class HoTTbinReader {
 									// recordSetGeneral initialized and ready to add data
 									bufCopier.copyToFreeBuffer();
 									if (bufCopier.is4BuffersFull()) {
-										parseAddGAM(HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3, HoTTbinReader.buf4);
+										parseAddGAM(this.buf0, this.buf1, this.buf2, this.buf3, this.buf4);
 										bufCopier.clearBuffers();
 									}
 								}
@@ -895,15 +902,15 @@ public class HoTTbinReader {
 							case HoTTAdapter.SENSOR_TYPE_ELECTRIC_19200:
 								if (detectedSensors.contains(Sensor.EAM)) {
 									// check if recordSetGeneral initialized, transmitter and receiver data always present, but not in the same data rate and signals
-									if (HoTTbinReader.recordSetEAM == null) {
+									if (this.recordSetEAM == null) {
 										channel = HoTTbinReader.channels.get(5);
 										channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 												? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey()
 												: date);
 										recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.EAM.value() + recordSetNameExtend;
-										HoTTbinReader.recordSetEAM = RecordSet.createRecordSet(recordSetName, device, 5, true, true, true);
-										channel.put(recordSetName, HoTTbinReader.recordSetEAM);
-										HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.EAM.value(), HoTTbinReader.recordSetEAM);
+										this.recordSetEAM = RecordSet.createRecordSet(recordSetName, device, 5, true, true, true);
+										channel.put(recordSetName, this.recordSetEAM);
+										this.recordSets.put(HoTTAdapter.Sensor.EAM.value(), this.recordSetEAM);
 										tmpRecordSet = channel.get(recordSetName);
 										tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 										tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -914,7 +921,7 @@ public class HoTTbinReader {
 									// recordSetElectric initialized and ready to add data
 									bufCopier.copyToFreeBuffer();
 									if (bufCopier.is4BuffersFull()) {
-										parseAddEAM(HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3, HoTTbinReader.buf4);
+										parseAddEAM(this.buf0, this.buf1, this.buf2, this.buf3, this.buf4);
 										bufCopier.clearBuffers();
 									}
 								}
@@ -924,15 +931,15 @@ public class HoTTbinReader {
 							case HoTTAdapter.SENSOR_TYPE_SPEED_CONTROL_19200:
 								if (detectedSensors.contains(Sensor.ESC)) {
 									// check if recordSetMotorDriver initialized, transmitter and receiver data always present, but not in the same data rate and signals
-									if (HoTTbinReader.recordSetESC == null) {
+									if (this.recordSetESC == null) {
 										channel = HoTTbinReader.channels.get(7);
 										channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 												? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey()
 												: date);
 										recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.ESC.value() + recordSetNameExtend;
-										HoTTbinReader.recordSetESC = RecordSet.createRecordSet(recordSetName, device, 7, true, true, true);
-										channel.put(recordSetName, HoTTbinReader.recordSetESC);
-										HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.ESC.value(), HoTTbinReader.recordSetESC);
+										this.recordSetESC = RecordSet.createRecordSet(recordSetName, device, 7, true, true, true);
+										channel.put(recordSetName, this.recordSetESC);
+										this.recordSets.put(HoTTAdapter.Sensor.ESC.value(), this.recordSetESC);
 										tmpRecordSet = channel.get(recordSetName);
 										tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 										tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -943,7 +950,7 @@ public class HoTTbinReader {
 									// recordSetMotorDriver initialized and ready to add data
 									bufCopier.copyToFreeBuffer();
 									if (bufCopier.is3BuffersFull()) {
-										parseAddESC(HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3);
+										parseAddESC(this.buf0, this.buf1, this.buf2, this.buf3);
 										bufCopier.clearBuffers();
 									}
 								}
@@ -955,43 +962,43 @@ public class HoTTbinReader {
 								application.openMessageDialogAsync(String.format("Datenblocknummer ausserhalb des Bereichs von 0 bis 5 (%d)", buf[33]));
 								isWrongDataBlockNummerSignaled = true;
 							}
-							HoTTbinReader.isJustParsed = true;
+							this.isJustParsed = true;
 						}
 						if (i % progressIndicator == 0) GDE.getUiNotification().setProgress((int) (i * 100 / numberDatablocks));
 
-						if (HoTTbinReader.isJustParsed) {
-							HoTTbinReader.isJustParsed = !((RcvBinParser) HoTTbinReader.rcvBinParser).updateLossStatistics();
+						if (this.isJustParsed) {
+							this.isJustParsed = !((RcvBinParser) this.rcvBinParser).updateLossStatistics();
 						}
 					}
 					else { // skip empty block, but add time step
 						if (HoTTbinReader.log.isLoggable(Level.FINE)) HoTTbinReader.log.log(Level.FINE, "-->> Found tx=rx=0 dBm");
 
-						((RcvBinParser) HoTTbinReader.rcvBinParser).trackPackageLoss(false);
-						if (HoTTbinReader.pickerParameters.isChannelsChannelEnabled) {
-							parseAddChannel(HoTTbinReader.buf);
+						((RcvBinParser) this.rcvBinParser).trackPackageLoss(false);
+						if (this.pickerParameters.isChannelsChannelEnabled) {
+							parseAddChannel(this.buf);
 						}
 						timeSteps_ms[BinParser.TIMESTEP_INDEX] += 10;
 						// reset buffer to avoid mixing data >> 20 Jul 14, not any longer required due to protocol change requesting next sensor data block
-						// HoTTbinReader.buf1 = HoTTbinReader.buf2 = HoTTbinReader.buf3 = HoTTbinReader.buf4 = null;
+						// this.buf1 = this.buf2 = this.buf3 = this.buf4 = null;
 					}
 				}
-				else if (!HoTTbinReader.isTextModusSignaled) {
-					HoTTbinReader.isTextModusSignaled = true;
+				else if (!this.isTextModusSignaled) {
+					this.isTextModusSignaled = true;
 					HoTTbinReader.application.openMessageDialogAsync(Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGW2404));
 				}
 			}
-			String packageLossPercentage = HoTTbinReader.recordSetReceiver.getRecordDataSize(true) > 0
-					? String.format("%.1f", (((RcvBinParser) HoTTbinReader.rcvBinParser).getLossTotal() / HoTTbinReader.recordSetReceiver.getTime_ms(HoTTbinReader.recordSetReceiver.getRecordDataSize(true) - 1) * 1000))
+			String packageLossPercentage = this.recordSetReceiver.getRecordDataSize(true) > 0
+					? String.format("%.1f", (((RcvBinParser) this.rcvBinParser).getLossTotal() / this.recordSetReceiver.getTime_ms(this.recordSetReceiver.getRecordDataSize(true) - 1) * 1000))
 					: "100";
-			HoTTbinReader.recordSetReceiver.setRecordSetDescription(tmpRecordSet.getRecordSetDescription() + Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] {
-					((RcvBinParser) HoTTbinReader.rcvBinParser).getLossTotal(), packageLossPercentage,
-					((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().getStatistics() }) + Sensor.getSetAsSignature(HoTTbinReader.detectedSensors));
-			HoTTbinReader.log.logp(Level.WARNING, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "skipped number receiver data due to package loss = " + ((RcvBinParser) HoTTbinReader.rcvBinParser).getLossTotal()); //$NON-NLS-1$
+			this.recordSetReceiver.setRecordSetDescription(tmpRecordSet.getRecordSetDescription() + Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] {
+					((RcvBinParser) this.rcvBinParser).getLossTotal(), packageLossPercentage,
+					((RcvBinParser) this.rcvBinParser).getLostPackages().getStatistics() }) + Sensor.getSetAsSignature(this.detectedSensors));
+			HoTTbinReader.log.logp(Level.WARNING, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "skipped number receiver data due to package loss = " + ((RcvBinParser) this.rcvBinParser).getLossTotal()); //$NON-NLS-1$
 			HoTTbinReader.log.logp(Level.TIME, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "read time = " //$NON-NLS-1$
 					+ StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$
 
 			if (GDE.isWithUi()) {
-				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
+				for (RecordSet recordSet : this.recordSets.values()) {
 					device.makeInActiveDisplayable(recordSet);
 
 					// write filename after import to record description
@@ -1059,7 +1066,7 @@ public class HoTTbinReader {
 	 * @throws IOException
 	 * @throws DataInconsitsentException
 	 */
-	static void readMultiple(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
+	void readMultiple(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
 		final String $METHOD_NAME = "readMultiple";
 		long startTime = System.nanoTime() / 1000000;
 		FileInputStream file_input = new FileInputStream(file);
@@ -1070,37 +1077,37 @@ public class HoTTbinReader {
 		String recordSetName = GDE.STRING_EMPTY;
 		String recordSetNameExtend = getRecordSetExtend(file);
 		Channel channel = null;
-		HoTTbinReader.recordSetReceiver = null; // 0=RF_RXSQ, 1=RXSQ, 2=Strength, 3=PackageLoss, 4=Tx, 5=Rx, 6=VoltageRx, 7=TemperatureRx 8=UminRx
-		HoTTbinReader.recordSetGAM = null; // 0=RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Balance, 6=CellVoltage 1, 7=CellVoltage 2 .... 11=CellVoltage 6, 12=Revolution, 13=Altitude, 14=Climb, 15=Climb3, 16=FuelLevel, 17=Voltage 1, 18=Voltage 2, 19=Temperature 1, 20=Temperature 2
-		HoTTbinReader.recordSetEAM = null; // 0=RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Balance, 6=CellVoltage 1, 7=CellVoltage 2 .... 19=CellVoltage 14, 20=Altitude, 21=Climb 1, 22=Climb 3, 23=Voltage 1, 24=Voltage 2, 25=Temperature 1, 26=Temperature 2, 27=Revolution
-		HoTTbinReader.recordSetVario = null; // 0=RXSQ, 1=Altitude, 2=Climb 1, 3=Climb 3, 4=Climb 10, 5=VoltageRx, 6=TemperatureRx 7=Event 8=accX 9=accY 10=accZ 11=reserved 12=version
-		HoTTbinReader.recordSetGPS = null; // 0=RXSQ, 1=Latitude, 2=Longitude, 3=Altitude, 4=Climb 1, 5=Climb 3, 6=Velocity, 7=Distance, 8=Direction, 9=TripLength, 10=VoltageRx, 11=TemperatureRx 12=satellites 13=GPS-fix 14=EventGPS 15=HomeDirection 16=Roll 17=Pitch 18=Yaw 19=GyroX 20=GyroY 21=GyroZ 22=Vibration 23=Version	
-		HoTTbinReader.recordSetChannel = null; // 0=FreCh, 1=Tx, 2=Rx, 3=Ch 1, 4=Ch 2 .. 18=Ch 16 19=PowerOff 20=BattLow 21=Reset 22=Warning
-		HoTTbinReader.recordSetESC = null; // 0=RF_RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Revolution, 6=Temperaure
-		HoTTbinReader.dataBlockSize = 64;
-		HoTTbinReader.buf = new byte[HoTTbinReader.dataBlockSize];
-		HoTTbinReader.buf0 = new byte[30];
-		HoTTbinReader.buf1 = new byte[30];
-		HoTTbinReader.buf2 = new byte[30];
-		HoTTbinReader.buf3 = new byte[30];
-		HoTTbinReader.buf4 = new byte[30];
+		this.recordSetReceiver = null; // 0=RF_RXSQ, 1=RXSQ, 2=Strength, 3=PackageLoss, 4=Tx, 5=Rx, 6=VoltageRx, 7=TemperatureRx 8=UminRx
+		this.recordSetGAM = null; // 0=RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Balance, 6=CellVoltage 1, 7=CellVoltage 2 .... 11=CellVoltage 6, 12=Revolution, 13=Altitude, 14=Climb, 15=Climb3, 16=FuelLevel, 17=Voltage 1, 18=Voltage 2, 19=Temperature 1, 20=Temperature 2
+		this.recordSetEAM = null; // 0=RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Balance, 6=CellVoltage 1, 7=CellVoltage 2 .... 19=CellVoltage 14, 20=Altitude, 21=Climb 1, 22=Climb 3, 23=Voltage 1, 24=Voltage 2, 25=Temperature 1, 26=Temperature 2, 27=Revolution
+		this.recordSetVario = null; // 0=RXSQ, 1=Altitude, 2=Climb 1, 3=Climb 3, 4=Climb 10, 5=VoltageRx, 6=TemperatureRx 7=Event 8=accX 9=accY 10=accZ 11=reserved 12=version
+		this.recordSetGPS = null; // 0=RXSQ, 1=Latitude, 2=Longitude, 3=Altitude, 4=Climb 1, 5=Climb 3, 6=Velocity, 7=Distance, 8=Direction, 9=TripLength, 10=VoltageRx, 11=TemperatureRx 12=satellites 13=GPS-fix 14=EventGPS 15=HomeDirection 16=Roll 17=Pitch 18=Yaw 19=GyroX 20=GyroY 21=GyroZ 22=Vibration 23=Version	
+		this.recordSetChannel = null; // 0=FreCh, 1=Tx, 2=Rx, 3=Ch 1, 4=Ch 2 .. 18=Ch 16 19=PowerOff 20=BattLow 21=Reset 22=Warning
+		this.recordSetESC = null; // 0=RF_RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Revolution, 6=Temperaure
+		this.dataBlockSize = 64;
+		this.buf = new byte[this.dataBlockSize];
+		this.buf0 = new byte[30];
+		this.buf1 = new byte[30];
+		this.buf2 = new byte[30];
+		this.buf3 = new byte[30];
+		this.buf4 = new byte[30];
 		BufCopier bufCopier = new BufCopier(buf, buf0, buf1, buf2, buf3, buf4);
 		long[] timeSteps_ms = new long[] {0};
-		HoTTbinReader.rcvBinParser = Sensor.RECEIVER.createBinParser(HoTTbinReader.pickerParameters, new int[10], timeSteps_ms, new byte[][] { buf });
-		HoTTbinReader.chnBinParser = Sensor.CHANNEL.createBinParser(HoTTbinReader.pickerParameters, new int[23], timeSteps_ms, new byte[][] { buf });
-		HoTTbinReader.varBinParser = Sensor.VARIO.createBinParser(HoTTbinReader.pickerParameters, new int[13], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.gpsBinParser = Sensor.GPS.createBinParser(HoTTbinReader.pickerParameters, new int[24], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.gamBinParser = Sensor.GAM.createBinParser(HoTTbinReader.pickerParameters, new int[26], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.eamBinParser = Sensor.EAM.createBinParser(HoTTbinReader.pickerParameters, new int[31], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.escBinParser = Sensor.ESC.createBinParser(HoTTbinReader.pickerParameters, new int[14], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3 });
+		this.rcvBinParser = Sensor.RECEIVER.createBinParser(this.pickerParameters, new int[10], timeSteps_ms, new byte[][] { buf });
+		this.chnBinParser = Sensor.CHANNEL.createBinParser(this.pickerParameters, new int[23], timeSteps_ms, new byte[][] { buf });
+		this.varBinParser = Sensor.VARIO.createBinParser(this.pickerParameters, new int[13], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.gpsBinParser = Sensor.GPS.createBinParser(this.pickerParameters, new int[24], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.gamBinParser = Sensor.GAM.createBinParser(this.pickerParameters, new int[26], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.eamBinParser = Sensor.EAM.createBinParser(this.pickerParameters, new int[31], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.escBinParser = Sensor.ESC.createBinParser(this.pickerParameters, new int[14], timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3 });
 		byte actualSensor = -1, lastSensor = -1;
 		int logCountVario = 0, logCountGPS = 0, logCountGeneral = 0, logCountElectric = 0, logCountSpeedControl = 0;
-		HoTTbinReader.isJustParsed = false;
-		HoTTbinReader.isTextModusSignaled = false;
+		this.isJustParsed = false;
+		this.isTextModusSignaled = false;
 		boolean isVarioDetected = false;
 		boolean isGPSdetected = false;
 		boolean isSdLogFormat = Boolean.parseBoolean(header.get(HoTTAdapter.SD_FORMAT));
-		long numberDatablocks = isSdLogFormat ? fileSize - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize : fileSize / HoTTbinReader.dataBlockSize;
+		long numberDatablocks = isSdLogFormat ? fileSize - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize : fileSize / this.dataBlockSize;
 		long startTimeStamp_ms = HoTTbinReader.getStartTimeStamp(file.getName(), file.lastModified(), numberDatablocks);
 		String date = StringHelper.getDate();
 		String dateTime = new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(startTimeStamp_ms); //$NON-NLS-1$
@@ -1111,7 +1118,7 @@ public class HoTTbinReader {
 		if (isSdLogFormat) data_in.skip(HoTTbinReaderX.headerSize);
 
 		try {
-			HoTTbinReader.recordSets.clear();
+			this.recordSets.clear();
 			// receiver data are always contained
 			// check if recordSetReceiver initialized, transmitter and receiver
 			// data always present, but not in the same data rate and signals
@@ -1119,9 +1126,9 @@ public class HoTTbinReader {
 			channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 					? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 			recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.RECEIVER.value() + recordSetNameExtend;
-			HoTTbinReader.recordSetReceiver = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
-			channel.put(recordSetName, HoTTbinReader.recordSetReceiver);
-			HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.RECEIVER.value(), HoTTbinReader.recordSetReceiver);
+			this.recordSetReceiver = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
+			channel.put(recordSetName, this.recordSetReceiver);
+			this.recordSets.put(HoTTAdapter.Sensor.RECEIVER.value(), this.recordSetReceiver);
 			tmpRecordSet = channel.get(recordSetName);
 			tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 			tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -1130,7 +1137,7 @@ public class HoTTbinReader {
 			}
 			// recordSetReceiver initialized and ready to add data
 			// channel data are always contained
-			if (HoTTbinReader.pickerParameters.isChannelsChannelEnabled) {
+			if (this.pickerParameters.isChannelsChannelEnabled) {
 				// check if recordSetChannel initialized, transmitter and
 				// receiver data always present, but not in the same data rate
 				// and signals
@@ -1138,9 +1145,9 @@ public class HoTTbinReader {
 				channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 						? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 				recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.CHANNEL.value() + recordSetNameExtend;
-				HoTTbinReader.recordSetChannel = RecordSet.createRecordSet(recordSetName, device, 6, true, true, true);
-				channel.put(recordSetName, HoTTbinReader.recordSetChannel);
-				HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.CHANNEL.value(), HoTTbinReader.recordSetChannel);
+				this.recordSetChannel = RecordSet.createRecordSet(recordSetName, device, 6, true, true, true);
+				channel.put(recordSetName, this.recordSetChannel);
+				this.recordSets.put(HoTTAdapter.Sensor.CHANNEL.value(), this.recordSetChannel);
 				tmpRecordSet = channel.get(recordSetName);
 				tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 				tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -1152,37 +1159,37 @@ public class HoTTbinReader {
 
 			// read all the data blocks from the file and parse
 			for (int i = 0; i < numberDatablocks; i++) {
-				data_in.read(HoTTbinReader.buf);
+				data_in.read(this.buf);
 				if (HoTTbinReader.log.isLoggable(Level.FINEST) && i % 10 == 0) {
-					HoTTbinReader.log.logp(Level.FINEST, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.fourDigitsRunningNumber(HoTTbinReader.buf.length));
-					HoTTbinReader.log.logp(Level.FINEST, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.byte2Hex4CharString(HoTTbinReader.buf, HoTTbinReader.buf.length));
+					HoTTbinReader.log.logp(Level.FINEST, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.fourDigitsRunningNumber(this.buf.length));
+					HoTTbinReader.log.logp(Level.FINEST, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.byte2Hex4CharString(this.buf, this.buf.length));
 				}
 
-				if (!HoTTbinReader.pickerParameters.isFilterTextModus || (HoTTbinReader.buf[6] & 0x01) == 0) { // switch into text modus
-					if (HoTTbinReader.buf[33] >= 0 && HoTTbinReader.buf[33] <= 4 && HoTTbinReader.buf[3] != 0 && HoTTbinReader.buf[4] != 0) { // buf 3, 4, tx,rx
+				if (!this.pickerParameters.isFilterTextModus || (this.buf[6] & 0x01) == 0) { // switch into text modus
+					if (this.buf[33] >= 0 && this.buf[33] <= 4 && this.buf[3] != 0 && this.buf[4] != 0) { // buf 3, 4, tx,rx
 						if (HoTTbinReader.log.isLoggable(Level.INFO)) 
-							HoTTbinReader.log.log(Level.INFO, String.format("Sensor %x Blocknummer : %d", HoTTbinReader.buf[7], HoTTbinReader.buf[33]));
+							HoTTbinReader.log.log(Level.INFO, String.format("Sensor %x Blocknummer : %d", this.buf[7], this.buf[33]));
 
-						((RcvBinParser) HoTTbinReader.rcvBinParser).trackPackageLoss(true);
+						((RcvBinParser) this.rcvBinParser).trackPackageLoss(true);
 						// create and fill sensor specific data record sets
 						if (HoTTbinReader.log.isLoggable(Level.FINEST)) HoTTbinReader.log.logp(Level.FINEST, HoTTbinReader.$CLASS_NAME, $METHOD_NAME,
-								StringHelper.byte2Hex2CharString(new byte[] { HoTTbinReader.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(HoTTbinReader.buf[7], false));
+								StringHelper.byte2Hex2CharString(new byte[] { this.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(this.buf[7], false));
 
 						// fill receiver data
-						if (HoTTbinReader.buf[33] == 0 && (HoTTbinReader.buf[38] & 0x80) != 128 && DataParser.parse2Short(HoTTbinReader.buf, 40) >= 0) {
-							parseAddReceiver(HoTTbinReader.buf);
+						if (this.buf[33] == 0 && (this.buf[38] & 0x80) != 128 && DataParser.parse2Short(this.buf, 40) >= 0) {
+							parseAddReceiver(this.buf);
 						}
-						if (HoTTbinReader.pickerParameters.isChannelsChannelEnabled) {
-							parseAddChannel(HoTTbinReader.buf);
+						if (this.pickerParameters.isChannelsChannelEnabled) {
+							parseAddChannel(this.buf);
 						}
 
 						timeSteps_ms[BinParser.TIMESTEP_INDEX] += 10;// add default time step from log record of 10 msec
 
 						// detect sensor switch
 						if (actualSensor == -1)
-							lastSensor = actualSensor = (byte) (HoTTbinReader.buf[7] & 0xFF);
+							lastSensor = actualSensor = (byte) (this.buf[7] & 0xFF);
 						else
-							actualSensor = (byte) (HoTTbinReader.buf[7] & 0xFF);
+							actualSensor = (byte) (this.buf[7] & 0xFF);
 
 						if (actualSensor != lastSensor) {
 							// write data just after sensor switch
@@ -1193,14 +1200,14 @@ public class HoTTbinReader {
 									if (detectedSensors.contains(Sensor.VARIO)) {
 										// check if recordSetVario initialized, transmitter and receiver data always
 										// present, but not in the same data rate as signals
-										if (HoTTbinReader.recordSetVario == null) {
+										if (this.recordSetVario == null) {
 											channel = HoTTbinReader.channels.get(2);
 											channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 													? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 											recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.VARIO.value() + recordSetNameExtend;
-											HoTTbinReader.recordSetVario = RecordSet.createRecordSet(recordSetName, device, 2, true, true, true);
-											channel.put(recordSetName, HoTTbinReader.recordSetVario);
-											HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.VARIO.value(), HoTTbinReader.recordSetVario);
+											this.recordSetVario = RecordSet.createRecordSet(recordSetName, device, 2, true, true, true);
+											channel.put(recordSetName, this.recordSetVario);
+											this.recordSets.put(HoTTAdapter.Sensor.VARIO.value(), this.recordSetVario);
 											tmpRecordSet = channel.get(recordSetName);
 											tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 											tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -1209,9 +1216,9 @@ public class HoTTbinReader {
 											}
 										}
 										// recordSetVario initialized and ready to add data
-										parseAddVario(1, HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3, HoTTbinReader.buf4);
+										parseAddVario(1, this.buf0, this.buf1, this.buf2, this.buf3, this.buf4);
 										if (!isVarioDetected) {
-											HoTTAdapter.updateVarioTypeDependent((HoTTbinReader.buf4[9] & 0xFF), device, HoTTbinReader.recordSetVario);
+											HoTTAdapter.updateVarioTypeDependent((this.buf4[9] & 0xFF), device, this.recordSetVario);
 											isVarioDetected = true;								
 										}
 									}
@@ -1222,14 +1229,14 @@ public class HoTTbinReader {
 									if (detectedSensors.contains(Sensor.GPS)) {
 										// check if recordSetReceiver initialized, transmitter and receiver
 										// data always present, but not in the same data rate as signals
-										if (HoTTbinReader.recordSetGPS == null) {
+										if (this.recordSetGPS == null) {
 											channel = HoTTbinReader.channels.get(3);
 											channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 													? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 											recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.GPS.value() + recordSetNameExtend;
-											HoTTbinReader.recordSetGPS = RecordSet.createRecordSet(recordSetName, device, 3, true, true, true);
-											channel.put(recordSetName, HoTTbinReader.recordSetGPS);
-											HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.GPS.value(), HoTTbinReader.recordSetGPS);
+											this.recordSetGPS = RecordSet.createRecordSet(recordSetName, device, 3, true, true, true);
+											channel.put(recordSetName, this.recordSetGPS);
+											this.recordSets.put(HoTTAdapter.Sensor.GPS.value(), this.recordSetGPS);
 											tmpRecordSet = channel.get(recordSetName);
 											tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 											tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -1239,11 +1246,11 @@ public class HoTTbinReader {
 											}
 										}
 										// recordSetGPS initialized and ready to add data
-										parseAddGPS(HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3, HoTTbinReader.buf4);
+										parseAddGPS(this.buf0, this.buf1, this.buf2, this.buf3, this.buf4);
 
 										if (!isGPSdetected) {
-											if (isReasonableData(buf4) && HoTTbinReader.recordSetGPS.get(19).size() > 0 && HoTTbinReader.recordSetGPS.get(19).get(HoTTbinReader.recordSetGPS.get(19).size()-1) != 0) {
-												startTimeStamp_ms = HoTTAdapter.updateGpsTypeDependent((HoTTbinReader.buf4[9] & 0xFF), device, HoTTbinReader.recordSetGPS, startTimeStamp_ms);
+											if (isReasonableData(buf4) && this.recordSetGPS.get(19).size() > 0 && this.recordSetGPS.get(19).get(this.recordSetGPS.get(19).size()-1) != 0) {
+												startTimeStamp_ms = HoTTAdapter.updateGpsTypeDependent((this.buf4[9] & 0xFF), device, this.recordSetGPS, startTimeStamp_ms, this.recordSets.values());
 												isGPSdetected = true;
 											}
 										}
@@ -1255,14 +1262,14 @@ public class HoTTbinReader {
 									if (detectedSensors.contains(Sensor.GAM)) {
 										// check if recordSetGeneral initialized, transmitter and receiver
 										// data always present, but not in the same data rate as signals
-										if (HoTTbinReader.recordSetGAM == null) {
+										if (this.recordSetGAM == null) {
 											channel = HoTTbinReader.channels.get(4);
 											channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 													? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 											recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.GAM.value() + recordSetNameExtend;
-											HoTTbinReader.recordSetGAM = RecordSet.createRecordSet(recordSetName, device, 4, true, true, true);
-											channel.put(recordSetName, HoTTbinReader.recordSetGAM);
-											HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.GAM.value(), HoTTbinReader.recordSetGAM);
+											this.recordSetGAM = RecordSet.createRecordSet(recordSetName, device, 4, true, true, true);
+											channel.put(recordSetName, this.recordSetGAM);
+											this.recordSets.put(HoTTAdapter.Sensor.GAM.value(), this.recordSetGAM);
 											tmpRecordSet = channel.get(recordSetName);
 											tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 											tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -1271,7 +1278,7 @@ public class HoTTbinReader {
 											}
 										}
 										// recordSetGeneral initialized and ready to add data
-										parseAddGAM(HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3, HoTTbinReader.buf4);
+										parseAddGAM(this.buf0, this.buf1, this.buf2, this.buf3, this.buf4);
 									}
 									break;
 
@@ -1280,14 +1287,14 @@ public class HoTTbinReader {
 									if (detectedSensors.contains(Sensor.EAM)) {
 										// check if recordSetGeneral initialized, transmitter and receiver
 										// data always present, but not in the same data rate as signals
-										if (HoTTbinReader.recordSetEAM == null) {
+										if (this.recordSetEAM == null) {
 											channel = HoTTbinReader.channels.get(5);
 											channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 													? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 											recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.EAM.value() + recordSetNameExtend;
-											HoTTbinReader.recordSetEAM = RecordSet.createRecordSet(recordSetName, device, 5, true, true, true);
-											channel.put(recordSetName, HoTTbinReader.recordSetEAM);
-											HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.EAM.value(), HoTTbinReader.recordSetEAM);
+											this.recordSetEAM = RecordSet.createRecordSet(recordSetName, device, 5, true, true, true);
+											channel.put(recordSetName, this.recordSetEAM);
+											this.recordSets.put(HoTTAdapter.Sensor.EAM.value(), this.recordSetEAM);
 											tmpRecordSet = channel.get(recordSetName);
 											tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 											tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -1296,7 +1303,7 @@ public class HoTTbinReader {
 											}
 										}
 										// recordSetElectric initialized and ready to add data
-										parseAddEAM(HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3, HoTTbinReader.buf4);
+										parseAddEAM(this.buf0, this.buf1, this.buf2, this.buf3, this.buf4);
 									}
 									break;
 
@@ -1305,14 +1312,14 @@ public class HoTTbinReader {
 									if (detectedSensors.contains(Sensor.ESC)) {
 										// check if recordSetGeneral initialized, transmitter and receiver
 										// data always present, but not in the same data rate as signals
-										if (HoTTbinReader.recordSetESC == null) {
+										if (this.recordSetESC == null) {
 											channel = HoTTbinReader.channels.get(7);
 											channel.setFileDescription(HoTTbinReader.application.isObjectoriented()
 													? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 											recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.ESC.value() + recordSetNameExtend;
-											HoTTbinReader.recordSetESC = RecordSet.createRecordSet(recordSetName, device, 7, true, true, true);
-											channel.put(recordSetName, HoTTbinReader.recordSetESC);
-											HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.ESC.value(), HoTTbinReader.recordSetESC);
+											this.recordSetESC = RecordSet.createRecordSet(recordSetName, device, 7, true, true, true);
+											channel.put(recordSetName, this.recordSetESC);
+											this.recordSets.put(HoTTAdapter.Sensor.ESC.value(), this.recordSetESC);
 											tmpRecordSet = channel.get(recordSetName);
 											tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 											tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -1321,7 +1328,7 @@ public class HoTTbinReader {
 											}
 										}
 										// recordSetElectric initialized and ready to add data
-										parseAddESC(HoTTbinReader.buf0, HoTTbinReader.buf1, HoTTbinReader.buf2, HoTTbinReader.buf3);
+										parseAddESC(this.buf0, this.buf1, this.buf2, this.buf3);
 									}
 									break;
 								}
@@ -1362,43 +1369,43 @@ public class HoTTbinReader {
 						if (i % progressIndicator == 0)
 							GDE.getUiNotification().setProgress((int) (i * 100 / numberDatablocks));
 
-						if (HoTTbinReader.isJustParsed) {
-							HoTTbinReader.isJustParsed = !((RcvBinParser) HoTTbinReader.rcvBinParser).updateLossStatistics();
+						if (this.isJustParsed) {
+							this.isJustParsed = !((RcvBinParser) this.rcvBinParser).updateLossStatistics();
 						}
 					}
 					else { // tx,rx == 0
 						if (HoTTbinReader.log.isLoggable(Level.FINE)) HoTTbinReader.log.log(Level.FINE, "-->> Found tx=rx=0 dBm");
 
-						((RcvBinParser) HoTTbinReader.rcvBinParser).trackPackageLoss(false);
-						if (HoTTbinReader.pickerParameters.isChannelsChannelEnabled) {
-							parseAddChannel(HoTTbinReader.buf);
+						((RcvBinParser) this.rcvBinParser).trackPackageLoss(false);
+						if (this.pickerParameters.isChannelsChannelEnabled) {
+							parseAddChannel(this.buf);
 						}
 						timeSteps_ms[BinParser.TIMESTEP_INDEX] += 10;
 						// reset buffer to avoid mixing data
 						// logCountVario = logCountGPS = logCountGeneral = logCountElectric = logCountSpeedControl = 0;
 					}
 				}
-				else if (!HoTTbinReader.isTextModusSignaled) {
-					HoTTbinReader.isTextModusSignaled = true;
+				else if (!this.isTextModusSignaled) {
+					this.isTextModusSignaled = true;
 					HoTTbinReader.application.openMessageDialogAsync(Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGW2404));
 				}
 			}
-			// if (HoTTbinReader.oldProtocolCount > 2) {
+			// if (this.oldProtocolCount > 2) {
 			// application.openMessageDialogAsync(Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGW2405,
-			// new Object[] { HoTTbinReader.oldProtocolCount }));
+			// new Object[] { this.oldProtocolCount }));
 			// }
-			String packageLossPercentage = HoTTbinReader.recordSetReceiver.getRecordDataSize(true) > 0
-					? String.format("%.1f", (((RcvBinParser) HoTTbinReader.rcvBinParser).getLossTotal() / HoTTbinReader.recordSetReceiver.getTime_ms(HoTTbinReader.recordSetReceiver.getRecordDataSize(true) - 1) * 1000))
+			String packageLossPercentage = this.recordSetReceiver.getRecordDataSize(true) > 0
+					? String.format("%.1f", (((RcvBinParser) this.rcvBinParser).getLossTotal() / this.recordSetReceiver.getTime_ms(this.recordSetReceiver.getRecordDataSize(true) - 1) * 1000))
 					: "100";
-			HoTTbinReader.recordSetReceiver.setRecordSetDescription(tmpRecordSet.getRecordSetDescription() + Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] {
-					((RcvBinParser) HoTTbinReader.rcvBinParser).getLossTotal(), packageLossPercentage,
-					((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().getStatistics() }) + Sensor.getSetAsSignature(HoTTbinReader.detectedSensors));
-			HoTTbinReader.log.logp(Level.WARNING, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "skipped number receiver data due to package loss = " + ((RcvBinParser) HoTTbinReader.rcvBinParser).getLossTotal()); //$NON-NLS-1$
+			this.recordSetReceiver.setRecordSetDescription(tmpRecordSet.getRecordSetDescription() + Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] {
+					((RcvBinParser) this.rcvBinParser).getLossTotal(), packageLossPercentage,
+					((RcvBinParser) this.rcvBinParser).getLostPackages().getStatistics() }) + Sensor.getSetAsSignature(this.detectedSensors));
+			HoTTbinReader.log.logp(Level.WARNING, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "skipped number receiver data due to package loss = " + ((RcvBinParser) this.rcvBinParser).getLossTotal()); //$NON-NLS-1$
 			HoTTbinReader.log.logp(Level.TIME, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "read time = " //$NON-NLS-1$
 					+ StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$
 
 			if (GDE.isWithUi()) {
-				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
+				for (RecordSet recordSet : this.recordSets.values()) {
 					device.makeInActiveDisplayable(recordSet);
 					device.updateVisibilityStatus(recordSet, true);
 
@@ -1423,9 +1430,9 @@ public class HoTTbinReader {
 	 * @param _buf
 	 * @throws DataInconsitsentException
 	 */
-	protected static void parseAddReceiver(byte[] _buf) throws DataInconsitsentException {
-		HoTTbinReader.rcvBinParser.parse();
-		HoTTbinReader.recordSetReceiver.addPoints(HoTTbinReader.rcvBinParser.getPoints(), HoTTbinReader.rcvBinParser.getTimeStep_ms());
+	protected void parseAddReceiver(byte[] _buf) throws DataInconsitsentException {
+		this.rcvBinParser.parse();
+		this.recordSetReceiver.addPoints(this.rcvBinParser.getPoints(), this.rcvBinParser.getTimeStep_ms());
 	}
 
 	public static class RcvBinParser extends BinParser {
@@ -1533,9 +1540,9 @@ public class HoTTbinReader {
 	 * @param _buf
 	 * @throws DataInconsitsentException
 	 */
-	protected static void parseAddChannel(byte[] _buf) throws DataInconsitsentException {
-		HoTTbinReader.chnBinParser.parse();
-		HoTTbinReader.recordSetChannel.addPoints(HoTTbinReader.chnBinParser.getPoints(), HoTTbinReader.chnBinParser.getTimeStep_ms());
+	protected void parseAddChannel(byte[] _buf) throws DataInconsitsentException {
+		this.chnBinParser.parse();
+		this.recordSetChannel.addPoints(this.chnBinParser.getPoints(), this.chnBinParser.getTimeStep_ms());
 	}
 
 	public static class ChnBinParser extends BinParser {
@@ -1608,11 +1615,11 @@ public class HoTTbinReader {
 	 * @param _buf2
 	 * @throws DataInconsitsentException
 	 */
-	protected static int parseAddVario(int sdLogVersion, byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3, byte[] _buf4) throws DataInconsitsentException {
-		if (HoTTbinReader.varBinParser.parse()) {
-			HoTTbinReader.recordSetVario.addPoints(HoTTbinReader.varBinParser.getPoints(), HoTTbinReader.varBinParser.getTimeStep_ms());
+	protected int parseAddVario(int sdLogVersion, byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3, byte[] _buf4) throws DataInconsitsentException {
+		if (this.varBinParser.parse()) {
+			this.recordSetVario.addPoints(this.varBinParser.getPoints(), this.varBinParser.getTimeStep_ms());
 		}
-		HoTTbinReader.isJustParsed = true;
+		this.isJustParsed = true;
 		return sdLogVersion;
 	}
 
@@ -1679,11 +1686,11 @@ public class HoTTbinReader {
 	 * @param _buf3
 	 * @throws DataInconsitsentException
 	 */
-	protected static void parseAddGPS(byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3, byte[] _buf4) throws DataInconsitsentException {
-		if (HoTTbinReader.gpsBinParser.parse()) {
-			HoTTbinReader.recordSetGPS.addPoints(HoTTbinReader.gpsBinParser.getPoints(), HoTTbinReader.gpsBinParser.getTimeStep_ms());
+	protected void parseAddGPS(byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3, byte[] _buf4) throws DataInconsitsentException {
+		if (this.gpsBinParser.parse()) {
+			this.recordSetGPS.addPoints(this.gpsBinParser.getPoints(), this.gpsBinParser.getTimeStep_ms());
 		}
-		HoTTbinReader.isJustParsed = true;
+		this.isJustParsed = true;
 	}
 
 	public static class GpsBinParser extends BinParser {
@@ -1861,11 +1868,11 @@ public class HoTTbinReader {
 	 * @param _buf4
 	 * @throws DataInconsitsentException
 	 */
-	protected static void parseAddGAM(byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3, byte[] _buf4) throws DataInconsitsentException {
-		if (HoTTbinReader.gamBinParser.parse()) {
-			HoTTbinReader.recordSetGAM.addPoints(HoTTbinReader.gamBinParser.getPoints(), HoTTbinReader.gamBinParser.getTimeStep_ms());
+	protected void parseAddGAM(byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3, byte[] _buf4) throws DataInconsitsentException {
+		if (this.gamBinParser.parse()) {
+			this.recordSetGAM.addPoints(this.gamBinParser.getPoints(), this.gamBinParser.getTimeStep_ms());
 		}
-		HoTTbinReader.isJustParsed = true;
+		this.isJustParsed = true;
 	}
 
 	public static class GamBinParser extends BinParser {
@@ -1958,11 +1965,11 @@ public class HoTTbinReader {
 	 * @param _buf4
 	 * @throws DataInconsitsentException
 	 */
-	protected static void parseAddEAM(byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3, byte[] _buf4) throws DataInconsitsentException {
-		if (HoTTbinReader.eamBinParser.parse()) {
-			HoTTbinReader.recordSetEAM.addPoints(HoTTbinReader.eamBinParser.getPoints(), HoTTbinReader.eamBinParser.getTimeStep_ms());
+	protected void parseAddEAM(byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3, byte[] _buf4) throws DataInconsitsentException {
+		if (this.eamBinParser.parse()) {
+			this.recordSetEAM.addPoints(this.eamBinParser.getPoints(), this.eamBinParser.getTimeStep_ms());
 		}
-		HoTTbinReader.isJustParsed = true;
+		this.isJustParsed = true;
 	}
 
 	public static class EamBinParser extends BinParser {
@@ -2054,11 +2061,11 @@ public class HoTTbinReader {
 	 * @param _buf2
 	 * @throws DataInconsitsentException
 	 */
-	protected static void parseAddESC(byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3) throws DataInconsitsentException {
-		if (HoTTbinReader.escBinParser.parse()) {
-			HoTTbinReader.recordSetESC.addPoints(HoTTbinReader.escBinParser.getPoints(), HoTTbinReader.escBinParser.getTimeStep_ms());
+	protected void parseAddESC(byte[] _buf0, byte[] _buf1, byte[] _buf2, byte[] _buf3) throws DataInconsitsentException {
+		if (this.escBinParser.parse()) {
+			this.recordSetESC.addPoints(this.escBinParser.getPoints(), this.escBinParser.getTimeStep_ms());
 		}
-		HoTTbinReader.isJustParsed = true;
+		this.isJustParsed = true;
 	}
 
 	public static class EscBinParser extends BinParser {
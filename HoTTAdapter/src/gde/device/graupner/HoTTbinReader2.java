@@ -49,26 +49,29 @@ import gde.utils.StringHelper;
  */
 public class HoTTbinReader2 extends HoTTbinReader {
 	final static Logger	log	= Logger.getLogger(HoTTbinReader2.class.getName());
-	static int[]				points;
-	static RecordSet		recordSet;
+	int[]						points;
+	RecordSet				recordSet;
+
+	public HoTTbinReader2(PickerParameters pickerParameters) {
+		super(pickerParameters);
+	}
 
 	/**
 	 * read complete file data and display the first found record set
 	 * @param filePath
 	 * @throws Exception
 	 */
-	public static synchronized void read(String filePath, PickerParameters newPickerParameters) throws Exception {
-		HoTTbinReader.pickerParameters = newPickerParameters;
-		HashMap<String, String> header = getFileInfo(new File(filePath), newPickerParameters);
-		HoTTbinReader2.detectedSensors = Sensor.getSetFromDetected(header.get(HoTTAdapter.DETECTED_SENSOR));
+	public void read(String filePath) throws Exception {
+		HashMap<String, String> header = getFileInfo(new File(filePath));
+		this.detectedSensors = Sensor.getSetFromDetected(header.get(HoTTAdapter.DETECTED_SENSOR));
 		//set fix detected sensors if sensor detection fails!
-		//HoTTbinReader2.detectedSensors = Sensor.getSetFromDetected("RECEIVER,GPS,AIR_ESC");
+		//this.detectedSensors = Sensor.getSetFromDetected("RECEIVER,GPS,AIR_ESC");
 		
 		//set picker parameter setting sensor for altitude/climb usage (0=auto, 1=VARIO, 2=GPS, 3=GAM, 4=EAM)
-		HoTTbinReader.setAltitudeClimbPickeParameter(HoTTbinReader.pickerParameters, HoTTbinReader2.detectedSensors);
+		HoTTbinReader.setAltitudeClimbPickeParameter(this.pickerParameters, this.detectedSensors);
 
-		if (HoTTbinReader2.detectedSensors.size() <= 2) {
-			HoTTbinReader.isReceiverOnly = HoTTbinReader2.detectedSensors.size() == 1;
+		if (this.detectedSensors.size() <= 2) {
+			this.isReceiverOnly = this.detectedSensors.size() == 1;
 			readSingle(new File(header.get(HoTTAdapter.FILE_PATH)), header);
 		} else
 			readMultiple(new File(header.get(HoTTAdapter.FILE_PATH)), header);
@@ -81,7 +84,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 	 * @throws IOException
 	 * @throws DataInconsitsentException
 	 */
-	static void readSingle(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
+	void readSingle(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
 		long startTime = System.nanoTime() / 1000000;
 		FileInputStream file_input = new FileInputStream(file);
 		DataInputStream data_in = new DataInputStream(file_input);
@@ -91,14 +94,14 @@ public class HoTTbinReader2 extends HoTTbinReader {
 		String recordSetName = GDE.STRING_EMPTY;
 		String recordSetNameExtend = getRecordSetExtend(file);
 		Channel channel = null;
-		int channelNumber = HoTTbinReader2.pickerParameters.analyzer.getActiveChannel().getNumber();
+		int channelNumber = this.pickerParameters.analyzer.getActiveChannel().getNumber();
 		device.getMeasurementFactor(channelNumber, 12);
 		boolean isReceiverData = false;
 		boolean isSensorData = false;
 		boolean isVarioDetected = false;
 		boolean isGPSdetected = false;
 		boolean[] isResetMinMax = new boolean[] {false, false, false, false, false}; //ESC, EAM, GAM, GPS, Vario
-		HoTTbinReader2.recordSet = null;
+		this.recordSet = null;
 		// 0=RX-TX-VPacks, 1=RXSQ, 2=Strength, 3=VPacks, 4=Tx, 5=Rx, 6=VoltageRx, 7=TemperatureRx 8=VoltageRxMin 9=EventRx
 		// 10=Altitude, 11=Climb 1, 12=Climb 3, 13=Climb 10 14=EventVario 15=misc Vario_1 16=misc Vario_2 17=misc Vario_3 18=misc Vario_4 19=misc Vario_5
 		// 20=Latitude, 21=Longitude, 22=Velocity, 23=Distance, 24=Direction, 25=TripDistance 26=NumSatellites 27=GPS-Fix 28=EventGPS
@@ -114,29 +117,29 @@ public class HoTTbinReader2 extends HoTTbinReader {
 		// 87=Ch 1, 88=Ch 2, 89=Ch 3 .. 102=Ch 16, 103=PowerOff, 104=BatterieLow, 105=Reset, 106=reserve
 		// 107=VoltageM, 108=CurrentM, 109=CapacityM, 110=PowerM, 111=RevolutionM, 112=TemperatureM 1, 113=TemperatureM 2 114=Voltage_min, 115=Current_max,
 		// 116=Revolution_max, 117=Temperature1_max, 118=Temperature2_max 119=Event M
-		HoTTbinReader2.points = new int[device.getNumberOfMeasurements(channelNumber)];
-		HoTTbinReader.pointsGAM = HoTTbinReader.pointsEAM = HoTTbinReader.pointsESC = HoTTbinReader.pointsVario = HoTTbinReader.pointsGPS = HoTTbinReader2.points;
-		HoTTbinReader.dataBlockSize = 64;
-		HoTTbinReader.buf = new byte[HoTTbinReader.dataBlockSize];
-		HoTTbinReader.buf0 = new byte[30];
-		HoTTbinReader.buf1 = new byte[30];
-		HoTTbinReader.buf2 = new byte[30];
-		HoTTbinReader.buf3 = new byte[30];
-		HoTTbinReader.buf4 = new byte[30];
+		this.points = new int[device.getNumberOfMeasurements(channelNumber)];
+		this.pointsGAM = this.pointsEAM = this.pointsESC = this.pointsVario = this.pointsGPS = this.points;
+		this.dataBlockSize = 64;
+		this.buf = new byte[this.dataBlockSize];
+		this.buf0 = new byte[30];
+		this.buf1 = new byte[30];
+		this.buf2 = new byte[30];
+		this.buf3 = new byte[30];
+		this.buf4 = new byte[30];
 		BufCopier bufCopier = new BufCopier(buf, buf0, buf1, buf2, buf3, buf4);
 		long[] timeSteps_ms = new long[] { 0 };
-		HoTTbinReader.rcvBinParser = Sensor.RECEIVER.createBinParser2(HoTTbinReader.pickerParameters, HoTTbinReader2.points, timeSteps_ms, new byte[][] { buf });
-		HoTTbinReader.chnBinParser = Sensor.CHANNEL.createBinParser2(HoTTbinReader.pickerParameters, HoTTbinReader2.points, timeSteps_ms, new byte[][] { buf });
-		HoTTbinReader.varBinParser = Sensor.VARIO.createBinParser2(HoTTbinReader.pickerParameters, HoTTbinReader2.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.gpsBinParser = Sensor.GPS.createBinParser2(HoTTbinReader.pickerParameters, HoTTbinReader2.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.gamBinParser = Sensor.GAM.createBinParser2(HoTTbinReader.pickerParameters, HoTTbinReader2.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.eamBinParser = Sensor.EAM.createBinParser2(HoTTbinReader.pickerParameters, HoTTbinReader2.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.escBinParser = Sensor.ESC.createBinParser2(HoTTbinReader.pickerParameters, HoTTbinReader2.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3 });
-		HoTTbinReader.isTextModusSignaled = false;
+		this.rcvBinParser = Sensor.RECEIVER.createBinParser2(this.pickerParameters, this.points, timeSteps_ms, new byte[][] { buf });
+		this.chnBinParser = Sensor.CHANNEL.createBinParser2(this.pickerParameters, this.points, timeSteps_ms, new byte[][] { buf });
+		this.varBinParser = Sensor.VARIO.createBinParser2(this.pickerParameters, this.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.gpsBinParser = Sensor.GPS.createBinParser2(this.pickerParameters, this.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.gamBinParser = Sensor.GAM.createBinParser2(this.pickerParameters, this.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.eamBinParser = Sensor.EAM.createBinParser2(this.pickerParameters, this.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.escBinParser = Sensor.ESC.createBinParser2(this.pickerParameters, this.points, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3 });
+		this.isTextModusSignaled = false;
 		boolean isSdLogFormat = Boolean.parseBoolean(header.get(HoTTAdapter.SD_FORMAT));
-		long numberDatablocks = isSdLogFormat ? fileSize - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize : fileSize / HoTTbinReader.dataBlockSize;
+		long numberDatablocks = isSdLogFormat ? fileSize - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize : fileSize / this.dataBlockSize;
 		long startTimeStamp_ms = HoTTbinReader.getStartTimeStamp(file.getName(), file.lastModified(), numberDatablocks);
-		numberDatablocks = HoTTbinReader.isReceiverOnly && channelNumber != HoTTAdapter2.CHANNELS_CHANNEL_NUMBER ? numberDatablocks / 10 : numberDatablocks;
+		numberDatablocks = this.isReceiverOnly && channelNumber != HoTTAdapter2.CHANNELS_CHANNEL_NUMBER ? numberDatablocks / 10 : numberDatablocks;
 		String date = StringHelper.getDate();
 		String dateTime = new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(startTimeStamp_ms); //$NON-NLS-1$
 		RecordSet tmpRecordSet;
@@ -151,8 +154,8 @@ public class HoTTbinReader2 extends HoTTbinReader {
 			channel.setFileDescription(HoTTbinReader.application.isObjectoriented() ? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey()
 					: date);
 			recordSetName = recordSetNumber + device.getRecordSetStemNameReplacement() + recordSetNameExtend;
-			HoTTbinReader2.recordSet = RecordSet.createRecordSet(recordSetName, device, channelNumber, true, true, true);
-			channel.put(recordSetName, HoTTbinReader2.recordSet);
+			this.recordSet = RecordSet.createRecordSet(recordSetName, device, channelNumber, true, true, true);
+			channel.put(recordSetName, this.recordSet);
 			tmpRecordSet = channel.get(recordSetName);
 			tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 			tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -160,53 +163,53 @@ public class HoTTbinReader2 extends HoTTbinReader {
 
 			// read all the data blocks from the file and parse
 			for (int i = 0; i < numberDatablocks; i++) {
-				data_in.read(HoTTbinReader.buf);
+				data_in.read(this.buf);
 				if (HoTTbinReader2.log.isLoggable(Level.FINE) && i % 10 == 0) {
-					HoTTbinReader2.log.log(Level.FINE, StringHelper.fourDigitsRunningNumber(HoTTbinReader.buf.length));
-					HoTTbinReader2.log.log(Level.FINE, StringHelper.byte2Hex4CharString(HoTTbinReader.buf, HoTTbinReader.buf.length));
+					HoTTbinReader2.log.log(Level.FINE, StringHelper.fourDigitsRunningNumber(this.buf.length));
+					HoTTbinReader2.log.log(Level.FINE, StringHelper.byte2Hex4CharString(this.buf, this.buf.length));
 				}
 
-				if (!HoTTbinReader.pickerParameters.isFilterTextModus || (HoTTbinReader.buf[6] & 0x01) == 0) { // switch into text modus
-					if (HoTTbinReader.buf[33] >= 0 && HoTTbinReader.buf[33] <= 4 && HoTTbinReader.buf[3] != 0 && HoTTbinReader.buf[4] != 0) { // buf 3, 4, tx,rx
+				if (!this.pickerParameters.isFilterTextModus || (this.buf[6] & 0x01) == 0) { // switch into text modus
+					if (this.buf[33] >= 0 && this.buf[33] <= 4 && this.buf[3] != 0 && this.buf[4] != 0) { // buf 3, 4, tx,rx
 						if (HoTTbinReader2.log.isLoggable(Level.INFO))
-							HoTTbinReader2.log.log(Level.INFO, String.format("Sensor %x Blocknummer : %d", HoTTbinReader.buf[7], HoTTbinReader.buf[33]));
+							HoTTbinReader2.log.log(Level.INFO, String.format("Sensor %x Blocknummer : %d", this.buf[7], this.buf[33]));
 
-						((RcvBinParser) HoTTbinReader.rcvBinParser).trackPackageLoss(true);
+						((RcvBinParser) this.rcvBinParser).trackPackageLoss(true);
 						if (HoTTbinReader2.log.isLoggable(Level.FINER)) HoTTbinReader2.log.log(Level.FINER, StringHelper.byte2Hex2CharString(new byte[] {
-								HoTTbinReader.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(HoTTbinReader.buf[7], false));
+								this.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(this.buf[7], false));
 
 						// fill receiver data
-						if (HoTTbinReader.buf[33] == 0 && (HoTTbinReader.buf[38] & 0x80) != 128 && DataParser.parse2Short(HoTTbinReader.buf, 40) >= 0) {
-							HoTTbinReader2.rcvBinParser.parse();
+						if (this.buf[33] == 0 && (this.buf[38] & 0x80) != 128 && DataParser.parse2Short(this.buf, 40) >= 0) {
+							this.rcvBinParser.parse();
 							isReceiverData = true;
 						}
 						if (channelNumber == HoTTAdapter2.CHANNELS_CHANNEL_NUMBER) {
-							HoTTbinReader2.chnBinParser.parse(); // Channels
+							this.chnBinParser.parse(); // Channels
 						}
 
 						// fill data block 0 receiver voltage an temperature
 						if (buf[33] == 0) {
 							bufCopier.copyToBuffer();
 						}
-						if (HoTTbinReader.isReceiverOnly && channelNumber != HoTTAdapter2.CHANNELS_CHANNEL_NUMBER) { // reduce data rate for receiver to 0.1 sec
+						if (this.isReceiverOnly && channelNumber != HoTTAdapter2.CHANNELS_CHANNEL_NUMBER) { // reduce data rate for receiver to 0.1 sec
 							for (int j = 0; j < 9; j++) {
-								data_in.read(HoTTbinReader.buf);
+								data_in.read(this.buf);
 								timeSteps_ms[BinParser.TIMESTEP_INDEX] += 10;
 							}
 							isSensorData = true;
 						}
 
 						// create and fill sensor specific data record sets
-						switch ((byte) (HoTTbinReader.buf[7] & 0xFF)) {
+						switch ((byte) (this.buf[7] & 0xFF)) {
 						case HoTTAdapter.SENSOR_TYPE_VARIO_115200:
 						case HoTTAdapter.SENSOR_TYPE_VARIO_19200:
 							if (detectedSensors.contains(Sensor.VARIO)) {
 								bufCopier.copyToVarioBuffer();
 								if (bufCopier.is4BuffersFull()) {
-									HoTTbinReader2.varBinParser.parse();
+									this.varBinParser.parse();
 
 									if (!isVarioDetected) {
-										HoTTAdapter2.updateVarioTypeDependent((HoTTbinReader.buf4[9] & 0xFF), device, HoTTbinReader2.recordSet);
+										HoTTAdapter2.updateVarioTypeDependent((this.buf4[9] & 0xFF), device, this.recordSet);
 										isVarioDetected = true;								
 									}
 									
@@ -221,11 +224,11 @@ public class HoTTbinReader2 extends HoTTbinReader {
 							if (detectedSensors.contains(Sensor.GPS)) {
 								bufCopier.copyToFreeBuffer();
 								if (bufCopier.is4BuffersFull()) {
-									HoTTbinReader2.gpsBinParser.parse();
+									this.gpsBinParser.parse();
 									
 									if (!isGPSdetected) {
-										if (isReasonableData(buf4) && HoTTbinReader2.recordSet.get(33).size() > 0 && HoTTbinReader2.recordSet.get(33).get(HoTTbinReader2.recordSet.get(33).size()-1) != 0) {
-											HoTTAdapter2.updateGpsTypeDependent((buf4[9] & 0xFF), device, HoTTbinReader2.recordSet, (HoTTbinReader2.recordSet.get(33).size()-1) * 5);
+										if (isReasonableData(buf4) && this.recordSet.get(33).size() > 0 && this.recordSet.get(33).get(this.recordSet.get(33).size()-1) != 0) {
+											HoTTAdapter2.updateGpsTypeDependent((buf4[9] & 0xFF), device, this.recordSet, (this.recordSet.get(33).size()-1) * 5);
 											isGPSdetected = true;
 										}
 									}
@@ -234,9 +237,9 @@ public class HoTTbinReader2 extends HoTTbinReader {
 									isSensorData = true;
 									// 20=Latitude, 21=Longitude, 22=Velocity, 23=Distance, 24=Direction, 25=TripDistance 26=NumSatellites 27=GPS-Fix 28=EventGPS
 									// 29=HomeDirection 30=Roll 31=Pitch 32=Yaw 33=GyroX 34=GyroY 35=GyroZ 36=Vibration 37=Version	
-									if (!isResetMinMax[3] && HoTTbinReader2.points[27] == 3000 && HoTTbinReader2.points[20] != 0 && HoTTbinReader2.points[21] != 0) {
+									if (!isResetMinMax[3] && this.points[27] == 3000 && this.points[20] != 0 && this.points[21] != 0) {
 										for (int j=20; j<38; ++j) {
-											tmpRecordSet.get(j).setMinMax(HoTTbinReader2.points[j], HoTTbinReader2.points[j]);
+											tmpRecordSet.get(j).setMinMax(this.points[j], this.points[j]);
 										}
 										isResetMinMax[3] = true;
 									}
@@ -249,15 +252,15 @@ public class HoTTbinReader2 extends HoTTbinReader {
 							if (detectedSensors.contains(Sensor.GAM)) {
 								bufCopier.copyToFreeBuffer();
 								if (bufCopier.is4BuffersFull()) {
-									HoTTbinReader2.gamBinParser.parse();
+									this.gamBinParser.parse();
 									bufCopier.clearBuffers();
 									isSensorData = true;
 									// 38=Voltage G, 39=Current G, 40=Capacity G, 41=Power G, 42=Balance G, 43=CellVoltage G1, 44=CellVoltage G2 .... 48=CellVoltage G6,
 									// 49=Revolution G, 50=FuelLevel, 51=Voltage G1, 52=Voltage G2, 53=Temperature G1, 54=Temperature G2 55=Speed G, 56=LowestCellVoltage,
 									// 57=LowestCellNumber, 58=Pressure, 59=Event G
-									if (!isResetMinMax[2] && HoTTbinReader2.points[38] != 0) {
+									if (!isResetMinMax[2] && this.points[38] != 0) {
 										for (int j=38; j<60; ++j) {
-											tmpRecordSet.get(j).setMinMax(HoTTbinReader2.points[j], HoTTbinReader2.points[j]);
+											tmpRecordSet.get(j).setMinMax(this.points[j], this.points[j]);
 										}
 										isResetMinMax[2] = true;
 									}
@@ -270,14 +273,14 @@ public class HoTTbinReader2 extends HoTTbinReader {
 							if (detectedSensors.contains(Sensor.EAM)) {
 								bufCopier.copyToFreeBuffer();
 								if (bufCopier.is4BuffersFull()) {
-									HoTTbinReader2.eamBinParser.parse();
+									this.eamBinParser.parse();
 									bufCopier.clearBuffers();
 									isSensorData = true;
 									// 60=Voltage E, 61=Current E, 62=Capacity E, 63=Power E, 64=Balance E, 65=CellVoltage E1, 66=CellVoltage E2 .... 78=CellVoltage E14,
 									// 79=Voltage E1, 80=Voltage E2, 81=Temperature E1, 82=Temperature E2 83=Revolution E 84=MotorTime 85=Speed 86=Event E
-									if (!isResetMinMax[1] && HoTTbinReader2.points[60] != 0) {
+									if (!isResetMinMax[1] && this.points[60] != 0) {
 										for (int j=60; j<87; ++j) {
-											tmpRecordSet.get(j).setMinMax(HoTTbinReader2.points[j], HoTTbinReader2.points[j]);
+											tmpRecordSet.get(j).setMinMax(this.points[j], this.points[j]);
 										}
 										isResetMinMax[1] = true;
 									}
@@ -290,24 +293,24 @@ public class HoTTbinReader2 extends HoTTbinReader {
 							if (detectedSensors.contains(Sensor.ESC)) {
 								bufCopier.copyToFreeBuffer();
 								if (bufCopier.is3BuffersFull()) {
-									HoTTbinReader2.escBinParser.parse();
+									this.escBinParser.parse();
 									bufCopier.clearBuffers();
 									isSensorData = true;
-									if (((EscBinParser) HoTTbinReader2.escBinParser).isChannelsChannel()) {
+									if (((EscBinParser) this.escBinParser).isChannelsChannel()) {
 										// 107=VoltageM, 108=CurrentM, 109=CapacityM, 110=PowerM, 111=RevolutionM, 112=TemperatureM 1, 113=TemperatureM 2 114=Voltage_min, 115=Current_max,
 										// 116=Revolution_max, 117=Temperature1_max, 118=Temperature2_max 119=Event M
-										if (!isResetMinMax[0] && HoTTbinReader2.points[107] != 0) {
+										if (!isResetMinMax[0] && this.points[107] != 0) {
 											for (int j=107; j<120; ++j) {
-												tmpRecordSet.get(j).setMinMax(HoTTbinReader2.points[j], HoTTbinReader2.points[j]);
+												tmpRecordSet.get(j).setMinMax(this.points[j], this.points[j]);
 											}
 											isResetMinMax[0] = true;
 										}
 									} else {
 										// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
 										// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
-										if (!isResetMinMax[0] && HoTTbinReader2.points[87] != 0) {
+										if (!isResetMinMax[0] && this.points[87] != 0) {
 											for (int j=87; j<100; ++j) {
-												tmpRecordSet.get(j).setMinMax(HoTTbinReader2.points[j], HoTTbinReader2.points[j]);
+												tmpRecordSet.get(j).setMinMax(this.points[j], this.points[j]);
 											}
 											isResetMinMax[0] = true;
 										}
@@ -318,14 +321,14 @@ public class HoTTbinReader2 extends HoTTbinReader {
 						}
 
 						if (isSensorData) {
-							((RcvBinParser) HoTTbinReader.rcvBinParser).updateLossStatistics();
+							((RcvBinParser) this.rcvBinParser).updateLossStatistics();
 						}
 
 						if (isSensorData || (isReceiverData && tmpRecordSet.get(0).realSize() > 0)) {
-							tmpRecordSet.addPoints(HoTTbinReader2.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+							tmpRecordSet.addPoints(this.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
 							isSensorData = isReceiverData = false;
 						} else if (channelNumber == HoTTAdapter2.CHANNELS_CHANNEL_NUMBER) {
-							tmpRecordSet.addPoints(HoTTbinReader2.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+							tmpRecordSet.addPoints(this.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
 						}
 
 						timeSteps_ms[BinParser.TIMESTEP_INDEX] += 10; // add default time step from device of 10 msec
@@ -334,28 +337,28 @@ public class HoTTbinReader2 extends HoTTbinReader {
 					} else { // skip empty block, but add time step
 						if (HoTTbinReader2.log.isLoggable(Level.FINE)) HoTTbinReader2.log.log(Level.FINE, "-->> Found tx=rx=0 dBm");
 
-						((RcvBinParser) HoTTbinReader.rcvBinParser).trackPackageLoss(false);
+						((RcvBinParser) this.rcvBinParser).trackPackageLoss(false);
 
 						if (channelNumber == HoTTAdapter2.CHANNELS_CHANNEL_NUMBER) {
-							HoTTbinReader2.chnBinParser.parse(); // Channels
-							tmpRecordSet.addPoints(HoTTbinReader2.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+							this.chnBinParser.parse(); // Channels
+							tmpRecordSet.addPoints(this.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
 						}
 						timeSteps_ms[BinParser.TIMESTEP_INDEX] += 10;
 						// reset buffer to avoid mixing data >> 20 Jul 14, not any longer required due to protocol change requesting next sensor data block
-						// HoTTbinReader.buf1 = HoTTbinReader.buf2 = HoTTbinReader.buf3 = HoTTbinReader.buf4 = null;
+						// this.buf1 = this.buf2 = this.buf3 = this.buf4 = null;
 					}
-				} else if (!HoTTbinReader.isTextModusSignaled) {
-					HoTTbinReader.isTextModusSignaled = true;
+				} else if (!this.isTextModusSignaled) {
+					this.isTextModusSignaled = true;
 					HoTTbinReader.application.openMessageDialogAsync(Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGW2404));
 				}
 			}
 			String packageLossPercentage = tmpRecordSet.getRecordDataSize(true) > 0
-					? String.format("%.1f", (((RcvBinParser) HoTTbinReader2.rcvBinParser).getCountPackageLoss() / tmpRecordSet.getTime_ms(tmpRecordSet.getRecordDataSize(true) - 1) * 1000))
+					? String.format("%.1f", (((RcvBinParser) this.rcvBinParser).getCountPackageLoss() / tmpRecordSet.getTime_ms(tmpRecordSet.getRecordDataSize(true) - 1) * 1000))
 					: "100";
 			tmpRecordSet.setRecordSetDescription(tmpRecordSet.getRecordSetDescription()
-					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] { ((RcvBinParser) HoTTbinReader2.rcvBinParser).getCountPackageLoss(), packageLossPercentage, ((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().getStatistics() })
-					+ Sensor.getSetAsSignature(HoTTbinReader.detectedSensors));
-			HoTTbinReader2.log.log(Level.WARNING, "skipped number receiver data due to package loss = " + ((RcvBinParser) HoTTbinReader2.rcvBinParser).getCountPackageLoss()); //$NON-NLS-1$
+					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] { ((RcvBinParser) this.rcvBinParser).getCountPackageLoss(), packageLossPercentage, ((RcvBinParser) this.rcvBinParser).getLostPackages().getStatistics() })
+					+ Sensor.getSetAsSignature(this.detectedSensors));
+			HoTTbinReader2.log.log(Level.WARNING, "skipped number receiver data due to package loss = " + ((RcvBinParser) this.rcvBinParser).getCountPackageLoss()); //$NON-NLS-1$
 			HoTTbinReader2.log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$ //$NON-NLS-2$
 
 			if (GDE.isWithUi()) {
@@ -384,7 +387,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 	 * @throws IOException
 	 * @throws DataInconsitsentException
 	 */
-	static void readMultiple(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
+	void readMultiple(File file, HashMap<String, String> header) throws IOException, DataInconsitsentException {
 		long startTime = System.nanoTime() / 1000000;
 		FileInputStream file_input = new FileInputStream(file);
 		DataInputStream data_in = new DataInputStream(file_input);
@@ -394,9 +397,9 @@ public class HoTTbinReader2 extends HoTTbinReader {
 		String recordSetName = GDE.STRING_EMPTY;
 		String recordSetNameExtend = getRecordSetExtend(file);
 		Channel channel = null;
-		int channelNumber = HoTTbinReader2.pickerParameters.analyzer.getActiveChannel().getNumber();
+		int channelNumber = this.pickerParameters.analyzer.getActiveChannel().getNumber();
 		boolean isReceiverData = false;
-		HoTTbinReader2.recordSet = null;
+		this.recordSet = null;
 		boolean isJustMigrated = false;
 		boolean isVarioDetected = false;
 		boolean isGPSdetected = false;
@@ -416,37 +419,37 @@ public class HoTTbinReader2 extends HoTTbinReader {
 		// 87=Ch 1, 88=Ch 2, 89=Ch 3 .. 102=Ch 16, 103=PowerOff, 104=BatterieLow, 105=Reset, 106=reserve
 		// 107=VoltageM, 108=CurrentM, 109=CapacityM, 110=PowerM, 111=RevolutionM, 112=TemperatureM 1, 113=TemperatureM 2 114=Voltage_min, 115=Current_max,
 		// 116=Revolution_max, 117=Temperature1_max, 118=Temperature2_max 119=Event M
-		HoTTbinReader2.points = new int[device.getNumberOfMeasurements(channelNumber)];
-		HoTTbinReader.pointsGAM = new int[HoTTbinReader2.points.length];
-		HoTTbinReader.pointsEAM = new int[HoTTbinReader2.points.length];
-		HoTTbinReader.pointsESC = new int[HoTTbinReader2.points.length];
-		HoTTbinReader.pointsVario = new int[HoTTbinReader2.points.length];
-		HoTTbinReader.pointsVario[2] = 100000;
-		HoTTbinReader.pointsGPS = new int[HoTTbinReader2.points.length];
-		HoTTbinReader.dataBlockSize = 64;
-		HoTTbinReader.buf = new byte[HoTTbinReader.dataBlockSize];
-		HoTTbinReader.buf0 = new byte[30];
-		HoTTbinReader.buf1 = new byte[30];
-		HoTTbinReader.buf2 = new byte[30];
-		HoTTbinReader.buf3 = new byte[30];
-		HoTTbinReader.buf4 = new byte[30];
+		this.points = new int[device.getNumberOfMeasurements(channelNumber)];
+		this.pointsGAM = new int[this.points.length];
+		this.pointsEAM = new int[this.points.length];
+		this.pointsESC = new int[this.points.length];
+		this.pointsVario = new int[this.points.length];
+		this.pointsVario[2] = 100000;
+		this.pointsGPS = new int[this.points.length];
+		this.dataBlockSize = 64;
+		this.buf = new byte[this.dataBlockSize];
+		this.buf0 = new byte[30];
+		this.buf1 = new byte[30];
+		this.buf2 = new byte[30];
+		this.buf3 = new byte[30];
+		this.buf4 = new byte[30];
 		BufCopier bufCopier = new BufCopier(buf, buf0, buf1, buf2, buf3, buf4);
 		long[] timeSteps_ms = new long[] { 0 };
 		// parse in situ for receiver and channel
-		HoTTbinReader.rcvBinParser = Sensor.RECEIVER.createBinParser2(HoTTbinReader.pickerParameters, HoTTbinReader2.points, timeSteps_ms, new byte[][] { buf });
-		HoTTbinReader.chnBinParser = Sensor.CHANNEL.createBinParser2(HoTTbinReader.pickerParameters, HoTTbinReader2.points, timeSteps_ms, new byte[][] { buf });
+		this.rcvBinParser = Sensor.RECEIVER.createBinParser2(this.pickerParameters, this.points, timeSteps_ms, new byte[][] { buf });
+		this.chnBinParser = Sensor.CHANNEL.createBinParser2(this.pickerParameters, this.points, timeSteps_ms, new byte[][] { buf });
 		// use parser points objects
-		HoTTbinReader.varBinParser = Sensor.VARIO.createBinParser2(HoTTbinReader.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.gpsBinParser = Sensor.GPS.createBinParser2(HoTTbinReader.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.gamBinParser = Sensor.GAM.createBinParser2(HoTTbinReader.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.eamBinParser = Sensor.EAM.createBinParser2(HoTTbinReader.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
-		HoTTbinReader.escBinParser = Sensor.ESC.createBinParser2(HoTTbinReader.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3 });
+		this.varBinParser = Sensor.VARIO.createBinParser2(this.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.gpsBinParser = Sensor.GPS.createBinParser2(this.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.gamBinParser = Sensor.GAM.createBinParser2(this.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.eamBinParser = Sensor.EAM.createBinParser2(this.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3, buf4 });
+		this.escBinParser = Sensor.ESC.createBinParser2(this.pickerParameters, timeSteps_ms, new byte[][] { buf0, buf1, buf2, buf3 });
 		byte actualSensor = -1, lastSensor = -1;
 		int logCountVario = 0, logCountGPS = 0, logCountGAM = 0, logCountEAM = 0, logCountESC = 0;
 		EnumSet<Sensor> migrationJobs = EnumSet.noneOf(Sensor.class);
 
 		boolean isSdLogFormat = Boolean.parseBoolean(header.get(HoTTAdapter.SD_FORMAT));
-		long numberDatablocks = isSdLogFormat ? fileSize - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize : fileSize / HoTTbinReader.dataBlockSize;
+		long numberDatablocks = isSdLogFormat ? fileSize - HoTTbinReaderX.headerSize - HoTTbinReaderX.footerSize : fileSize / this.dataBlockSize;
 		long startTimeStamp_ms = HoTTbinReader.getStartTimeStamp(file.getName(), file.lastModified(), numberDatablocks);
 		String date = StringHelper.getDate();
 		String dateTime = new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(startTimeStamp_ms); //$NON-NLS-1$
@@ -462,8 +465,8 @@ public class HoTTbinReader2 extends HoTTbinReader {
 			channel.setFileDescription(HoTTbinReader.application.isObjectoriented() ? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey()
 					: date);
 			recordSetName = recordSetNumber + device.getRecordSetStemNameReplacement() + recordSetNameExtend;
-			HoTTbinReader2.recordSet = RecordSet.createRecordSet(recordSetName, device, channelNumber, true, true, true);
-			channel.put(recordSetName, HoTTbinReader2.recordSet);
+			this.recordSet = RecordSet.createRecordSet(recordSetName, device, channelNumber, true, true, true);
+			channel.put(recordSetName, this.recordSet);
 			tmpRecordSet = channel.get(recordSetName);
 			tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 			tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -471,33 +474,33 @@ public class HoTTbinReader2 extends HoTTbinReader {
 
 			// read all the data blocks from the file and parse
 			for (int i = 0; i < numberDatablocks; i++) {
-				data_in.read(HoTTbinReader.buf);
+				data_in.read(this.buf);
 				if (HoTTbinReader2.log.isLoggable(Level.FINEST)) {
-					HoTTbinReader2.log.log(Level.FINEST, StringHelper.byte2Hex4CharString(HoTTbinReader.buf, HoTTbinReader.buf.length));
+					HoTTbinReader2.log.log(Level.FINEST, StringHelper.byte2Hex4CharString(this.buf, this.buf.length));
 				}
 
-				if (!HoTTbinReader.pickerParameters.isFilterTextModus || (HoTTbinReader.buf[6] & 0x01) == 0) { // switch into text modus
-					if (HoTTbinReader.buf[33] >= 0 && HoTTbinReader.buf[33] <= 4 && HoTTbinReader.buf[3] != 0 && HoTTbinReader.buf[4] != 0) { // buf 3, 4, tx,rx
+				if (!this.pickerParameters.isFilterTextModus || (this.buf[6] & 0x01) == 0) { // switch into text modus
+					if (this.buf[33] >= 0 && this.buf[33] <= 4 && this.buf[3] != 0 && this.buf[4] != 0) { // buf 3, 4, tx,rx
 						if (HoTTbinReader2.log.isLoggable(Level.INFO))
-							HoTTbinReader2.log.log(Level.INFO, String.format("Sensor %x Blocknummer : %d", HoTTbinReader.buf[7], HoTTbinReader.buf[33]));
+							HoTTbinReader2.log.log(Level.INFO, String.format("Sensor %x Blocknummer : %d", this.buf[7], this.buf[33]));
 
-						((RcvBinParser) HoTTbinReader.rcvBinParser).trackPackageLoss(true);
+						((RcvBinParser) this.rcvBinParser).trackPackageLoss(true);
 						if (HoTTbinReader2.log.isLoggable(Level.FINEST)) HoTTbinReader2.log.log(Level.FINEST, StringHelper.byte2Hex2CharString(new byte[] {
-								HoTTbinReader.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(HoTTbinReader.buf[7], false));
+								this.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(this.buf[7], false));
 
 						// fill receiver data
-						if (HoTTbinReader.buf[33] == 0 && (HoTTbinReader.buf[38] & 0x80) != 128 && DataParser.parse2Short(HoTTbinReader.buf, 40) >= 0) {
-							HoTTbinReader2.rcvBinParser.parse();
+						if (this.buf[33] == 0 && (this.buf[38] & 0x80) != 128 && DataParser.parse2Short(this.buf, 40) >= 0) {
+							this.rcvBinParser.parse();
 							isReceiverData = true;
 						}
 						if (channelNumber == HoTTAdapter2.CHANNELS_CHANNEL_NUMBER) {
-							HoTTbinReader2.chnBinParser.parse();
+							this.chnBinParser.parse();
 						}
 
 						if (actualSensor == -1)
-							lastSensor = actualSensor = (byte) (HoTTbinReader.buf[7] & 0xFF);
+							lastSensor = actualSensor = (byte) (this.buf[7] & 0xFF);
 						else
-							actualSensor = (byte) (HoTTbinReader.buf[7] & 0xFF);
+							actualSensor = (byte) (this.buf[7] & 0xFF);
 
 						if (actualSensor != lastSensor) {
 							if (logCountVario >= 5 || logCountGPS >= 5 || logCountGAM >= 5 || logCountEAM >= 5 || logCountESC >= 4) {
@@ -510,11 +513,11 @@ public class HoTTbinReader2 extends HoTTbinReader {
 											isJustMigrated = true;
 											isReceiverData = false;
 										}
-										HoTTbinReader2.varBinParser.parse();
+										this.varBinParser.parse();
 										migrationJobs.add(Sensor.VARIO);
 										
 										if (!isVarioDetected) {
-											HoTTAdapter2.updateVarioTypeDependent((HoTTbinReader.buf4[9] & 0xFF), device, HoTTbinReader2.recordSet);
+											HoTTAdapter2.updateVarioTypeDependent((this.buf4[9] & 0xFF), device, this.recordSet);
 											isVarioDetected = true;								
 										}
 									}
@@ -528,12 +531,12 @@ public class HoTTbinReader2 extends HoTTbinReader {
 											isJustMigrated = true;
 											isReceiverData = false;
 										}
-										HoTTbinReader2.gpsBinParser.parse();
+										this.gpsBinParser.parse();
 										migrationJobs.add(Sensor.GPS);
 										
 										if (!isGPSdetected) {
-											if (isReasonableData(buf4) && HoTTbinReader2.recordSet.get(33).size() > 0 && HoTTbinReader2.recordSet.get(33).get(HoTTbinReader2.recordSet.get(33).size()-1) != 0) {
-												HoTTAdapter2.updateGpsTypeDependent((buf4[9] & 0xFF), device, HoTTbinReader2.recordSet, (HoTTbinReader2.recordSet.get(33).size()-1) * 5);
+											if (isReasonableData(buf4) && this.recordSet.get(33).size() > 0 && this.recordSet.get(33).get(this.recordSet.get(33).size()-1) != 0) {
+												HoTTAdapter2.updateGpsTypeDependent((buf4[9] & 0xFF), device, this.recordSet, (this.recordSet.get(33).size()-1) * 5);
 												isGPSdetected = true;
 											}
 										}
@@ -548,7 +551,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 											isJustMigrated = true;
 											isReceiverData = false;
 										}
-										HoTTbinReader2.gamBinParser.parse();
+										this.gamBinParser.parse();
 										migrationJobs.add(Sensor.GAM);
 									}
 									break;
@@ -561,7 +564,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 											isJustMigrated = true;
 											isReceiverData = false;
 										}
-										HoTTbinReader2.eamBinParser.parse();
+										this.eamBinParser.parse();
 										migrationJobs.add(Sensor.EAM);
 									}
 									break;
@@ -574,7 +577,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 											isJustMigrated = true;
 											isReceiverData = false;
 										}
-										HoTTbinReader2.escBinParser.parse();
+										this.escBinParser.parse();
 										migrationJobs.add(Sensor.ESC);
 									}
 									break;
@@ -613,15 +616,15 @@ public class HoTTbinReader2 extends HoTTbinReader {
 						}
 
 						if (isJustMigrated) {
-							((RcvBinParser) HoTTbinReader.rcvBinParser).updateLossStatistics();
+							((RcvBinParser) this.rcvBinParser).updateLossStatistics();
 						}
 
 						if (isReceiverData && (logCountVario > 0 || logCountGPS > 0 || logCountGAM > 0 || logCountEAM > 0 || logCountESC > 0)) {
-							tmpRecordSet.addPoints(HoTTbinReader2.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+							tmpRecordSet.addPoints(this.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
 							isReceiverData = false;
 						}
 						else if (channelNumber == HoTTAdapter2.CHANNELS_CHANNEL_NUMBER && !isJustMigrated) {
-							tmpRecordSet.addPoints(HoTTbinReader2.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+							tmpRecordSet.addPoints(this.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
 						}
 						isJustMigrated = false;
 
@@ -632,30 +635,30 @@ public class HoTTbinReader2 extends HoTTbinReader {
 					} else { // skip empty block, but add time step
 						if (HoTTbinReader2.log.isLoggable(Level.FINE)) HoTTbinReader2.log.log(Level.FINE, "-->> Found tx=rx=0 dBm");
 
-						((RcvBinParser) HoTTbinReader.rcvBinParser).trackPackageLoss(false);
+						((RcvBinParser) this.rcvBinParser).trackPackageLoss(false);
 						if (channelNumber == HoTTAdapter2.CHANNELS_CHANNEL_NUMBER) {
-							HoTTbinReader2.chnBinParser.parse();
-							tmpRecordSet.addPoints(HoTTbinReader2.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
+							this.chnBinParser.parse();
+							tmpRecordSet.addPoints(this.points, timeSteps_ms[BinParser.TIMESTEP_INDEX]);
 						}
 						timeSteps_ms[BinParser.TIMESTEP_INDEX] += 10;
 						// reset buffer to avoid mixing data >> 20 Jul 14, not any longer required due to protocol change requesting next sensor data block
 					}
-				} else if (!HoTTbinReader.isTextModusSignaled) {
-					HoTTbinReader.isTextModusSignaled = true;
+				} else if (!this.isTextModusSignaled) {
+					this.isTextModusSignaled = true;
 					HoTTbinReader.application.openMessageDialogAsync(Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGW2404));
 				}
 			}
-			// if (HoTTbinReader.oldProtocolCount > 2) {
+			// if (this.oldProtocolCount > 2) {
 			// application.openMessageDialogAsync(Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGW2405, new Object[] {
-			// HoTTbinReader.oldProtocolCount }));
+			// this.oldProtocolCount }));
 			// }
 			String packageLossPercentage = tmpRecordSet.getRecordDataSize(true) > 0
-					? String.format("%.1f", (((RcvBinParser) HoTTbinReader.rcvBinParser).getCountPackageLoss() / tmpRecordSet.getTime_ms(tmpRecordSet.getRecordDataSize(true) - 1) * 1000))
+					? String.format("%.1f", (((RcvBinParser) this.rcvBinParser).getCountPackageLoss() / tmpRecordSet.getTime_ms(tmpRecordSet.getRecordDataSize(true) - 1) * 1000))
 					: "100";
 			tmpRecordSet.setRecordSetDescription(tmpRecordSet.getRecordSetDescription()
-					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] { ((RcvBinParser) HoTTbinReader2.rcvBinParser).getCountPackageLoss(), packageLossPercentage, ((RcvBinParser) HoTTbinReader.rcvBinParser).getLostPackages().getStatistics() })
-					+ Sensor.getSetAsSignature(HoTTbinReader.detectedSensors));
-			HoTTbinReader2.log.log(Level.WARNING, "skipped number receiver data due to package loss = " + ((RcvBinParser) HoTTbinReader.rcvBinParser).getCountPackageLoss()); //$NON-NLS-1$
+					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] { ((RcvBinParser) this.rcvBinParser).getCountPackageLoss(), packageLossPercentage, ((RcvBinParser) this.rcvBinParser).getLostPackages().getStatistics() })
+					+ Sensor.getSetAsSignature(this.detectedSensors));
+			HoTTbinReader2.log.log(Level.WARNING, "skipped number receiver data due to package loss = " + ((RcvBinParser) this.rcvBinParser).getCountPackageLoss()); //$NON-NLS-1$
 			HoTTbinReader2.log.log(Level.TIME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$ //$NON-NLS-2$
 			
 			if (menuToolBar != null) {
@@ -681,61 +684,61 @@ public class HoTTbinReader2 extends HoTTbinReader {
 	 * Migrate sensor measurement values in the correct priority and add to record set.
 	 * Receiver data are always updated.
 	 */
-	public static void migrateAddPoints(RecordSet tmpRecordSet, EnumSet<Sensor> migrationJobs, long timeStep_ms, boolean[] isResetMinMax) throws DataInconsitsentException {
+	public void migrateAddPoints(RecordSet tmpRecordSet, EnumSet<Sensor> migrationJobs, long timeStep_ms, boolean[] isResetMinMax) throws DataInconsitsentException {
 		if (migrationJobs.contains(Sensor.EAM)) {
-			HoTTbinReader2.eamBinParser.migratePoints(HoTTbinReader2.points);
+			this.eamBinParser.migratePoints(this.points);
 			// 60=Voltage E, 61=Current E, 62=Capacity E, 63=Power E, 64=Balance E, 65=CellVoltage E1, 66=CellVoltage E2 .... 78=CellVoltage E14,
 			// 79=Voltage E1, 80=Voltage E2, 81=Temperature E1, 82=Temperature E2 83=Revolution E 84=MotorTime 85=Speed 86=Event E
-			if (!isResetMinMax[1] && HoTTbinReader2.points[60] != 0) {
+			if (!isResetMinMax[1] && this.points[60] != 0) {
 				for (int i=60; i<87; ++i) {
-					tmpRecordSet.get(i).setMinMax(HoTTbinReader2.points[i], HoTTbinReader2.points[i]);
+					tmpRecordSet.get(i).setMinMax(this.points[i], this.points[i]);
 				}
 				isResetMinMax[1] = true;
 			}
 		}
 		if (migrationJobs.contains(Sensor.GAM)) {
-			HoTTbinReader2.gamBinParser.migratePoints(HoTTbinReader2.points);
+			this.gamBinParser.migratePoints(this.points);
 			// 38=Voltage G, 39=Current G, 40=Capacity G, 41=Power G, 42=Balance G, 43=CellVoltage G1, 44=CellVoltage G2 .... 48=CellVoltage G6,
 			// 49=Revolution G, 50=FuelLevel, 51=Voltage G1, 52=Voltage G2, 53=Temperature G1, 54=Temperature G2 55=Speed G, 56=LowestCellVoltage,
 			// 57=LowestCellNumber, 58=Pressure, 59=Event G
-			if (!isResetMinMax[2] && HoTTbinReader2.points[38] != 0) {
+			if (!isResetMinMax[2] && this.points[38] != 0) {
 				for (int i=38; i<59; ++i) {
-					tmpRecordSet.get(i).setMinMax(HoTTbinReader2.points[i], HoTTbinReader2.points[i]);
+					tmpRecordSet.get(i).setMinMax(this.points[i], this.points[i]);
 				}
 				isResetMinMax[2] = true;
 			}
 		}
 		if (migrationJobs.contains(Sensor.GPS)) {
-			HoTTbinReader2.gpsBinParser.migratePoints(HoTTbinReader2.points);
+			this.gpsBinParser.migratePoints(this.points);
 			// 20=Latitude, 21=Longitude, 22=Velocity, 23=Distance, 24=Direction, 25=TripDistance 26=NumSatellites 27=GPS-Fix 28=EventGPS
 			// 29=HomeDirection 30=Roll 31=Pitch 32=Yaw 33=GyroX 34=GyroY 35=GyroZ 36=Vibration 37=Version	
-			if (!isResetMinMax[3] && HoTTbinReader2.points[27] >= 3000  && HoTTbinReader2.points[20] != 0 && HoTTbinReader2.points[21] != 0) {
+			if (!isResetMinMax[3] && this.points[27] >= 3000  && this.points[20] != 0 && this.points[21] != 0) {
 				for (int i=20; i<38; ++i) {
-					tmpRecordSet.get(i).setMinMax(HoTTbinReader2.points[i], HoTTbinReader2.points[i]);
+					tmpRecordSet.get(i).setMinMax(this.points[i], this.points[i]);
 				}
 				isResetMinMax[3] = true;
 			}
 		}
 		if (migrationJobs.contains(Sensor.VARIO)) {
-			HoTTbinReader2.varBinParser.migratePoints(HoTTbinReader2.points);
+			this.varBinParser.migratePoints(this.points);
 		}
 		if (migrationJobs.contains(Sensor.ESC)) {
-			HoTTbinReader2.escBinParser.migratePoints(HoTTbinReader2.points);
-			if (((EscBinParser) HoTTbinReader2.escBinParser).isChannelsChannel()) {
+			this.escBinParser.migratePoints(this.points);
+			if (((EscBinParser) this.escBinParser).isChannelsChannel()) {
 				// 107=VoltageM, 108=CurrentM, 109=CapacityM, 110=PowerM, 111=RevolutionM, 112=TemperatureM 1, 113=TemperatureM 2 114=Voltage_min, 115=Current_max,
 				// 116=Revolution_max, 117=Temperature1_max, 118=Temperature2_max 119=Event M
-				if (!isResetMinMax[0] && HoTTbinReader2.points[107] != 0) {
+				if (!isResetMinMax[0] && this.points[107] != 0) {
 					for (int i=107; i<120; ++i) {
-						tmpRecordSet.get(i).setMinMax(HoTTbinReader2.points[i], HoTTbinReader2.points[i]);
+						tmpRecordSet.get(i).setMinMax(this.points[i], this.points[i]);
 					}
 					isResetMinMax[0] = true;
 				}
 			} else {
 				// 87=VoltageM, 88=CurrentM, 89=CapacityM, 90=PowerM, 91=RevolutionM, 92=TemperatureM 1, 93=TemperatureM 2 94=Voltage_min, 95=Current_max,
 				// 96=Revolution_max, 97=Temperature1_max, 98=Temperature2_max 99=Event M
-				if (!isResetMinMax[0] && HoTTbinReader2.points[87] != 0) {
+				if (!isResetMinMax[0] && this.points[87] != 0) {
 					for (int i=87; i<100; ++i) {
-						tmpRecordSet.get(i).setMinMax(HoTTbinReader2.points[i], HoTTbinReader2.points[i]);
+						tmpRecordSet.get(i).setMinMax(this.points[i], this.points[i]);
 					}
 					isResetMinMax[0] = true;
 				}
@@ -743,7 +746,7 @@ public class HoTTbinReader2 extends HoTTbinReader {
 		}
 		migrationJobs.clear();
 
-		HoTTbinReader2.recordSet.addPoints(HoTTbinReader2.points, timeStep_ms);
+		this.recordSet.addPoints(this.points, timeStep_ms);
 	}
 
 	public static class RcvBinParser extends BinParser {
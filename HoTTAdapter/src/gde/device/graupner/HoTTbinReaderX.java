@@ -46,13 +46,17 @@ public class HoTTbinReaderX extends HoTTbinReader {
 	final static String							$CLASS_NAMEX		= HoTTbinReaderX.class.getName();
 	final static Logger							logx						= Logger.getLogger(HoTTbinReaderX.$CLASS_NAMEX);
 
-	static int[]										points_1;
+	int[]												points_1;
 	final static int								headerSize			= 27;
 	final static int								footerSize			= 323;
 
-	protected static final boolean	isSensorType[]	= { false, false, false, false, false, false };
+	protected final boolean			isSensorType[]	= { false, false, false, false, false, false };
 
-	protected static StringBuilder	sensorSignature;
+	protected StringBuilder			sensorSignature;
+
+	public HoTTbinReaderX(PickerParameters pickerParameters) {
+		super(pickerParameters);
+	}
 
 	/**
 	 * convert from RF_RXSQ to strength using lookup table
@@ -74,9 +78,8 @@ public class HoTTbinReaderX extends HoTTbinReader {
 	 * @param filePath
 	 * @throws Exception
 	 */
-	public static synchronized void read(String filePath, PickerParameters newPickerParameters) throws Exception {
-		HoTTbinReader.pickerParameters = newPickerParameters;
-		HoTTbinReaderX.sensorSignature = new StringBuilder().append(GDE.STRING_LEFT_BRACKET).append(HoTTAdapter.Sensor.RECEIVER.name()).append(GDE.STRING_COMMA);
+	public void read(String filePath) throws Exception {
+		this.sensorSignature = new StringBuilder().append(GDE.STRING_LEFT_BRACKET).append(HoTTAdapter.Sensor.RECEIVER.name()).append(GDE.STRING_COMMA);
 		boolean isHoTTV2 = true;
 
 		File inputFile = new File(filePath);
@@ -127,7 +130,7 @@ public class HoTTbinReaderX extends HoTTbinReader {
 	* @throws IOException
 	* @throws DataInconsitsentException
 	*/
-	static void readSingle(File file) throws IOException, DataInconsitsentException {
+	void readSingle(File file) throws IOException, DataInconsitsentException {
 		final String $METHOD_NAME = "readSingle";
 		long startTime = System.nanoTime() / 1000000;
 		FileInputStream file_input = new FileInputStream(file);
@@ -142,34 +145,34 @@ public class HoTTbinReaderX extends HoTTbinReader {
 		//9=SpannungM, 10=SpannungM_min, 11=CurrentM, 12=CurrentM_max, 13=CapacityM, 14=PowerM, 15=RevolutionM, 16=RevolutionM_max
 		//17=Temperature, 18=Temperature_max, 19=TemperatureM, 20=TemperatureM_max, 21=Speed, 22=Speed_max
 		//23=VoltageExt, 24=VoltageExt_min, 25=TemperatureExt, 26=TemperatureExt_max
-		HoTTbinReaderX.recordSetReceiver = null;
-		HoTTbinReaderX.recordSetChannel = null; //0=FreCh, 1=Tx, 2=Rx, 3=Ch 1, 4=Ch 2 .. 10=Ch 8
-		HoTTbinReaderX.points_1 = new int[device.getNumberOfMeasurements(1)];
-		HoTTbinReaderX.pointsChannel = new int[15];
-		HoTTbinReaderX.timeStep_ms = 0;
-		HoTTbinReaderX.dataBlockSize = 23; //device.getDataBlockSize(InputTypes.FILE_IO);
-		HoTTbinReaderX.buf = new byte[HoTTbinReaderX.dataBlockSize];
-		HoTTbinReaderX.buf1 = null;
-		HoTTbinReaderX.buf2 = null;
-		HoTTbinReaderX.buf3 = null;
-		HoTTbinReaderX.buf4 = null;
-		HoTTbinReaderX.buf5 = null;
-		HoTTbinReaderX.buf6 = null;
-		HoTTbinReaderX.buf7 = null;
-		HoTTbinReaderX.buf8 = null;
-		HoTTbinReaderX.buf9 = null;
-		HoTTbinReaderX.bufA = null;
-		HoTTbinReaderX.bufB = null;
-		HoTTbinReaderX.bufC = null;
-		HoTTbinReaderX.bufD = null;
+		this.recordSetReceiver = null;
+		this.recordSetChannel = null; //0=FreCh, 1=Tx, 2=Rx, 3=Ch 1, 4=Ch 2 .. 10=Ch 8
+		this.points_1 = new int[device.getNumberOfMeasurements(1)];
+		this.pointsChannel = new int[15];
+		this.timeStep_ms = 0;
+		this.dataBlockSize = 23; //device.getDataBlockSize(InputTypes.FILE_IO);
+		this.buf = new byte[this.dataBlockSize];
+		this.buf1 = null;
+		this.buf2 = null;
+		this.buf3 = null;
+		this.buf4 = null;
+		this.buf5 = null;
+		this.buf6 = null;
+		this.buf7 = null;
+		this.buf8 = null;
+		this.buf9 = null;
+		this.bufA = null;
+		this.bufB = null;
+		this.bufC = null;
+		this.bufD = null;
 		pickerParameters.reverseChannelPackageLossCounter.clear();
-		HoTTbinReaderX.lostPackages.clear();
-		HoTTbinReaderX.countLostPackages = 0;
+		this.lostPackages.clear();
+		this.countLostPackages = 0;
 		pickerParameters.isChannelsChannelEnabled = false;
 		int lastCounter = 0x00;
 		int countPackageLoss = 0;
 		int lapTimes = 99;
-		long numberDatablocks = (fileSize - headerSize - footerSize) / HoTTbinReaderX.dataBlockSize;
+		long numberDatablocks = (fileSize - headerSize - footerSize) / this.dataBlockSize;
 		long startTimeStamp_ms = HoTTbinReader.getStartTimeStamp(file.getName(), file.lastModified(), numberDatablocks);
 		String date = new SimpleDateFormat("yyyy-MM-dd").format(startTimeStamp_ms); //$NON-NLS-1$
 		String dateTime = new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(startTimeStamp_ms); //$NON-NLS-1$
@@ -179,16 +182,16 @@ public class HoTTbinReaderX extends HoTTbinReader {
 		GDE.getUiNotification().setProgress(0);
 
 		try {
-			HoTTbinReader.recordSets.clear();
+			this.recordSets.clear();
 
 			//channel data are always contained
 			//check if recordSetChannel initialized, transmitter and receiver data always present, but not in the same data rate and signals
 			channel = HoTTbinReaderX.channels.get(2);
 			channel.setFileDescription(HoTTbinReaderX.application.isObjectoriented() ? date + GDE.STRING_BLANK + HoTTbinReaderX.application.getObjectKey() : date);
 			recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.CHANNEL.value() + recordSetNameExtend;
-			HoTTbinReaderX.recordSetChannel = RecordSet.createRecordSet(recordSetName, device, 2, true, true, true);
-			channel.put(recordSetName, HoTTbinReaderX.recordSetChannel);
-			HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.CHANNEL.value(), HoTTbinReaderX.recordSetChannel);
+			this.recordSetChannel = RecordSet.createRecordSet(recordSetName, device, 2, true, true, true);
+			channel.put(recordSetName, this.recordSetChannel);
+			this.recordSets.put(HoTTAdapter.Sensor.CHANNEL.value(), this.recordSetChannel);
 			tmpRecordSet = channel.get(recordSetName);
 			tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 			tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -201,9 +204,9 @@ public class HoTTbinReaderX extends HoTTbinReader {
 			channel = HoTTbinReaderX.channels.get(1);
 			channel.setFileDescription(HoTTbinReaderX.application.isObjectoriented() ? date + GDE.STRING_BLANK + HoTTbinReaderX.application.getObjectKey() : date);
 			recordSetName = recordSetNumber + GDE.STRING_RIGHT_PARENTHESIS_BLANK + HoTTAdapter.Sensor.RECEIVER.value() + recordSetNameExtend;
-			HoTTbinReaderX.recordSetReceiver = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
-			channel.put(recordSetName, HoTTbinReaderX.recordSetReceiver);
-			HoTTbinReader.recordSets.put(HoTTAdapter.Sensor.RECEIVER.value(), HoTTbinReaderX.recordSetReceiver);
+			this.recordSetReceiver = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
+			channel.put(recordSetName, this.recordSetReceiver);
+			this.recordSets.put(HoTTAdapter.Sensor.RECEIVER.value(), this.recordSetReceiver);
 			tmpRecordSet = channel.get(recordSetName);
 			tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 			tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -215,180 +218,180 @@ public class HoTTbinReaderX extends HoTTbinReader {
 
 			//read all the data blocks from the file and parse
 			for (int i = 0; i < numberDatablocks; i++) {
-				data_in.read(HoTTbinReaderX.buf);
+				data_in.read(this.buf);
 				if (HoTTbinReaderX.logx.isLoggable(Level.FINE)) {
-					if (HoTTbinReaderX.buf[6] == 0x41) HoTTbinReaderX.logx.logp(Level.FINE, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, StringHelper.fourDigitsRunningNumber(HoTTbinReaderX.buf.length));
-					HoTTbinReaderX.logx.logp(Level.FINE, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, StringHelper.byte2Hex4CharString(HoTTbinReaderX.buf, HoTTbinReaderX.buf.length));
+					if (this.buf[6] == 0x41) HoTTbinReaderX.logx.logp(Level.FINE, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, StringHelper.fourDigitsRunningNumber(this.buf.length));
+					HoTTbinReaderX.logx.logp(Level.FINE, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, StringHelper.byte2Hex4CharString(this.buf, this.buf.length));
 				}
 
-				if (lastCounter == 0x00 || lastCounter == ((HoTTbinReaderX.buf[0] & 0xFF) - 1) || (lastCounter == 255 && HoTTbinReaderX.buf[0] == 0)) {
-					if (HoTTbinReaderX.buf[3] != 0 && HoTTbinReaderX.buf[4] != 0) { //buf 3, 4, tx,rx
+				if (lastCounter == 0x00 || lastCounter == ((this.buf[0] & 0xFF) - 1) || (lastCounter == 255 && this.buf[0] == 0)) {
+					if (this.buf[3] != 0 && this.buf[4] != 0) { //buf 3, 4, tx,rx
 						pickerParameters.reverseChannelPackageLossCounter.add(1);
-						HoTTbinReaderX.points_1[0] = pickerParameters.reverseChannelPackageLossCounter.getPercentage() * 1000;
+						this.points_1[0] = pickerParameters.reverseChannelPackageLossCounter.getPercentage() * 1000;
 						//create and fill sensor specific data record sets
 						if (HoTTbinReaderX.logx.isLoggable(Level.FINER))
-							HoTTbinReaderX.logx.logp(Level.FINER, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, StringHelper.byte2Hex2CharString(new byte[] { HoTTbinReaderX.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT
-									+ StringHelper.printBinary(HoTTbinReaderX.buf[7], false));
+							HoTTbinReaderX.logx.logp(Level.FINER, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, StringHelper.byte2Hex2CharString(new byte[] { this.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT
+									+ StringHelper.printBinary(this.buf[7], false));
 
 						if (pickerParameters.isChannelsChannelEnabled) {
-							parseAddChannel(HoTTbinReaderX.buf);
+							parseAddChannel(this.buf);
 						}
 
 						//fill data blocks
-						switch (HoTTbinReaderX.buf[6]) {
+						switch (this.buf[6]) {
 						case 0x41:
-							HoTTbinReaderX.buf1 = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.buf1, 0, HoTTbinReaderX.buf.length);
+							this.buf1 = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.buf1, 0, this.buf.length);
 							break;
 						case 0x42:
-							HoTTbinReaderX.buf2 = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.buf2, 0, HoTTbinReaderX.buf.length);
+							this.buf2 = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.buf2, 0, this.buf.length);
 							break;
 						case 0x43:
-							HoTTbinReaderX.buf3 = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.buf3, 0, HoTTbinReaderX.buf.length);
+							this.buf3 = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.buf3, 0, this.buf.length);
 							break;
 						case 0x44:
-							HoTTbinReaderX.buf4 = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.buf4, 0, HoTTbinReaderX.buf.length);
+							this.buf4 = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.buf4, 0, this.buf.length);
 							break;
 						case 0x45:
-							HoTTbinReaderX.buf5 = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.buf5, 0, HoTTbinReaderX.buf.length);
+							this.buf5 = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.buf5, 0, this.buf.length);
 							break;
 						case 0x46:
-							HoTTbinReaderX.buf6 = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.buf6, 0, HoTTbinReaderX.buf.length);
+							this.buf6 = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.buf6, 0, this.buf.length);
 							break;
 						case 0x47:
-							HoTTbinReaderX.buf7 = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.buf7, 0, HoTTbinReaderX.buf.length);
+							this.buf7 = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.buf7, 0, this.buf.length);
 							break;
 						case 0x48:
-							HoTTbinReaderX.buf8 = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.buf8, 0, HoTTbinReaderX.buf.length);
+							this.buf8 = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.buf8, 0, this.buf.length);
 							break;
 						case 0x49:
-							HoTTbinReaderX.buf9 = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.buf9, 0, HoTTbinReaderX.buf.length);
+							this.buf9 = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.buf9, 0, this.buf.length);
 							break;
 						case 0x4A:
-							HoTTbinReaderX.bufA = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.bufA, 0, HoTTbinReaderX.buf.length);
+							this.bufA = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.bufA, 0, this.buf.length);
 							break;
 						case 0x4B:
-							HoTTbinReaderX.bufB = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.bufB, 0, HoTTbinReaderX.buf.length);
+							this.bufB = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.bufB, 0, this.buf.length);
 							break;
 						case 0x4C:
-							HoTTbinReaderX.bufC = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.bufC, 0, HoTTbinReaderX.buf.length);
+							this.bufC = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.bufC, 0, this.buf.length);
 							break;
 						case 0x4D:
-							HoTTbinReaderX.bufD = new byte[HoTTbinReaderX.dataBlockSize];
-							System.arraycopy(HoTTbinReaderX.buf, 0, HoTTbinReaderX.bufD, 0, HoTTbinReaderX.buf.length);
+							this.bufD = new byte[this.dataBlockSize];
+							System.arraycopy(this.buf, 0, this.bufD, 0, this.buf.length);
 							if (!pickerParameters.isChannelsChannelEnabled)
-								HoTTbinReaderX.buf1 = HoTTbinReaderX.buf2 = HoTTbinReaderX.buf3 = HoTTbinReaderX.buf4 = HoTTbinReaderX.buf5 = HoTTbinReaderX.buf6 = HoTTbinReaderX.buf7 = HoTTbinReaderX.buf8 = HoTTbinReaderX.buf9 = HoTTbinReaderX.bufA = HoTTbinReaderX.bufB = HoTTbinReaderX.bufC = HoTTbinReaderX.bufD = null;
+								this.buf1 = this.buf2 = this.buf3 = this.buf4 = this.buf5 = this.buf6 = this.buf7 = this.buf8 = this.buf9 = this.bufA = this.bufB = this.bufC = this.bufD = null;
 
 							pickerParameters.isChannelsChannelEnabled = true;
 							break;
 						}
 						//fill receiver data
-						if (HoTTbinReaderX.buf1 != null && HoTTbinReaderX.buf2 != null && HoTTbinReaderX.buf3 != null && HoTTbinReaderX.buf4 != null && HoTTbinReaderX.buf5 != null && HoTTbinReaderX.buf6 != null
-								&& HoTTbinReaderX.buf7 != null && HoTTbinReaderX.buf8 != null && HoTTbinReaderX.buf9 != null && HoTTbinReaderX.bufA != null && HoTTbinReaderX.bufB != null
-								&& HoTTbinReaderX.bufC != null && HoTTbinReaderX.bufD != null) {
-//							printByteValues(timeStep_ms, HoTTbinReaderX.buf1);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.buf2);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.buf3);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.buf4);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.buf5);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.buf6);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.buf7);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.buf8);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.buf9);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.bufA);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.bufB);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.bufC);
-//							printByteValues(timeStep_ms, HoTTbinReaderX.bufD);
+						if (this.buf1 != null && this.buf2 != null && this.buf3 != null && this.buf4 != null && this.buf5 != null && this.buf6 != null
+								&& this.buf7 != null && this.buf8 != null && this.buf9 != null && this.bufA != null && this.bufB != null
+								&& this.bufC != null && this.bufD != null) {
+//							printByteValues(timeStep_ms, this.buf1);
+//							printByteValues(timeStep_ms, this.buf2);
+//							printByteValues(timeStep_ms, this.buf3);
+//							printByteValues(timeStep_ms, this.buf4);
+//							printByteValues(timeStep_ms, this.buf5);
+//							printByteValues(timeStep_ms, this.buf6);
+//							printByteValues(timeStep_ms, this.buf7);
+//							printByteValues(timeStep_ms, this.buf8);
+//							printByteValues(timeStep_ms, this.buf9);
+//							printByteValues(timeStep_ms, this.bufA);
+//							printByteValues(timeStep_ms, this.bufB);
+//							printByteValues(timeStep_ms, this.bufC);
+//							printByteValues(timeStep_ms, this.bufD);
 //							HoTTbinReaderX.logx.logp(Level.INFO, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, GDE.CHAR_BLANK);
-							switch (HoTTbinReaderX.buf[7]) {
+							switch (this.buf[7]) {
 							case 00: //receiver 1
-								parseAddReceiver(HoTTbinReaderX.buf1, HoTTbinReaderX.buf2, HoTTbinReaderX.buf4, HoTTbinReaderX.bufD);
+								parseAddReceiver(this.buf1, this.buf2, this.buf4, this.bufD);
 								break;
 							case 02: //ESC 1
-								if (HoTTbinReaderX.isSensorType[HoTTAdapter.Sensor.ESC.ordinal()] == false)
-									HoTTbinReaderX.sensorSignature.append(HoTTAdapter.Sensor.ESC.name()).append(GDE.STRING_COMMA);
-								HoTTbinReaderX.isSensorType[HoTTAdapter.Sensor.ESC.ordinal()] = true;
-								parseESC(HoTTbinReaderX.buf3, HoTTbinReaderX.buf4, HoTTbinReaderX.buf5, HoTTbinReaderX.buf6, HoTTbinReaderX.buf7, HoTTbinReaderX.buf8, HoTTbinReaderX.buf9, HoTTbinReaderX.bufA);
+								if (this.isSensorType[HoTTAdapter.Sensor.ESC.ordinal()] == false)
+									this.sensorSignature.append(HoTTAdapter.Sensor.ESC.name()).append(GDE.STRING_COMMA);
+								this.isSensorType[HoTTAdapter.Sensor.ESC.ordinal()] = true;
+								parseESC(this.buf3, this.buf4, this.buf5, this.buf6, this.buf7, this.buf8, this.buf9, this.bufA);
 								break;
 							}
-							HoTTbinReaderX.buf1 = HoTTbinReaderX.buf2 = HoTTbinReaderX.buf3 = HoTTbinReaderX.buf4 = HoTTbinReaderX.buf5 = HoTTbinReaderX.buf6 = HoTTbinReaderX.buf7 = HoTTbinReaderX.buf8 = HoTTbinReaderX.buf9 = HoTTbinReaderX.bufA = HoTTbinReaderX.bufB = HoTTbinReaderX.bufC = HoTTbinReaderX.bufD = null;
+							this.buf1 = this.buf2 = this.buf3 = this.buf4 = this.buf5 = this.buf6 = this.buf7 = this.buf8 = this.buf9 = this.bufA = this.bufB = this.bufC = this.bufD = null;
 						}
 
-						HoTTbinReaderX.timeStep_ms += 3;// add default time step from device of 3 msec
+						this.timeStep_ms += 3;// add default time step from device of 3 msec
 
 						if (i % progressIndicator == 0) GDE.getUiNotification().setProgress((int) (i * 100 / numberDatablocks));
 
-						if (HoTTbinReaderX.countLostPackages > 0) {
-							HoTTbinReaderX.lostPackages.add(HoTTbinReaderX.countLostPackages);
-							HoTTbinReaderX.countLostPackages = 0;
+						if (this.countLostPackages > 0) {
+							this.lostPackages.add(this.countLostPackages);
+							this.countLostPackages = 0;
 						}
 					}
 					else { //skip empty block, but add time step
 						if (HoTTbinReaderX.logx.isLoggable(Level.FINE)) HoTTbinReaderX.logx.log(Level.FINE, "-->> Found tx=rx=0 dBm");
 
 						pickerParameters.reverseChannelPackageLossCounter.add(0);
-						HoTTbinReaderX.points_1[0] = pickerParameters.reverseChannelPackageLossCounter.getPercentage() * 1000;
+						this.points_1[0] = pickerParameters.reverseChannelPackageLossCounter.getPercentage() * 1000;
 
 						++countPackageLoss; // add up lost packages in telemetry data
-						++HoTTbinReaderX.countLostPackages;
-						//HoTTbinReaderX.points_1[0] = (int) (countPackageLoss*100.0 / ((HoTTbinReader2.timeStep_ms+10) / 10.0)*1000.0);
+						++this.countLostPackages;
+						//this.points_1[0] = (int) (countPackageLoss*100.0 / ((this.timeStep_ms+10) / 10.0)*1000.0);
 
 						if (pickerParameters.isChannelsChannelEnabled) {
-							parseAddChannel(HoTTbinReaderX.buf);
+							parseAddChannel(this.buf);
 						}
 
-						HoTTbinReaderX.timeStep_ms += 3;
+						this.timeStep_ms += 3;
 						//reset buffer to avoid mixing data >> 20 Jul 14, not any longer required due to protocol change requesting next sensor data block
-						//HoTTbinReader.buf1 = HoTTbinReader.buf2 = HoTTbinReader.buf3 = HoTTbinReader.buf4 = null;
+						//this.buf1 = this.buf2 = this.buf3 = this.buf4 = null;
 					}
 					lastCounter = buf[0] & 0xFF;
 				}
 				else {
-					HoTTbinReaderX.logx.log(Level.WARNING, new String(HoTTbinReaderX.buf));
+					HoTTbinReaderX.logx.log(Level.WARNING, new String(this.buf));
 				}
 			}
-			String packageLossPercentage = HoTTbinReaderX.recordSetReceiver.getRecordDataSize(true) > 0 ? String.format("%.1f",
-					(countPackageLoss / HoTTbinReaderX.recordSetReceiver.getTime_ms(HoTTbinReaderX.recordSetReceiver.getRecordDataSize(true) - 1) * 1000)) : "100";
+			String packageLossPercentage = this.recordSetReceiver.getRecordDataSize(true) > 0 ? String.format("%.1f",
+					(countPackageLoss / this.recordSetReceiver.getTime_ms(this.recordSetReceiver.getRecordDataSize(true) - 1) * 1000)) : "100";
 
-			HoTTbinReaderX.recordSetReceiver.setRecordSetDescription(tmpRecordSet.getRecordSetDescription()
-					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] { countPackageLoss, packageLossPercentage, HoTTbinReaderX.lostPackages.getStatistics() })
-					+ HoTTbinReaderX.sensorSignature);
+			this.recordSetReceiver.setRecordSetDescription(tmpRecordSet.getRecordSetDescription()
+					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] { countPackageLoss, packageLossPercentage, this.lostPackages.getStatistics() })
+					+ this.sensorSignature);
 			HoTTbinReaderX.logx.logp(Level.WARNING, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, "skipped number receiver data due to package loss = " + countPackageLoss); //$NON-NLS-1$
-			HoTTbinReaderX.buf = new byte[footerSize];
-			HoTTbinReaderX.buf0 = new byte[lapTimes]; //min
-			HoTTbinReaderX.buf1 = new byte[lapTimes]; //sec
-			HoTTbinReaderX.buf2 = new byte[lapTimes]; //1/100secs
-			data_in.read(HoTTbinReaderX.buf);
-			System.arraycopy(HoTTbinReaderX.buf, 19, HoTTbinReaderX.buf0, 0, HoTTbinReaderX.buf0.length);
-			System.arraycopy(HoTTbinReaderX.buf, 19+lapTimes, HoTTbinReaderX.buf1, 0, HoTTbinReaderX.buf1.length);
-			System.arraycopy(HoTTbinReaderX.buf, 19+2*lapTimes, HoTTbinReaderX.buf2, 0, HoTTbinReaderX.buf2.length);
-			int numLaps = HoTTbinReaderX.buf[HoTTbinReaderX.buf.length-1];
+			this.buf = new byte[footerSize];
+			this.buf0 = new byte[lapTimes]; //min
+			this.buf1 = new byte[lapTimes]; //sec
+			this.buf2 = new byte[lapTimes]; //1/100secs
+			data_in.read(this.buf);
+			System.arraycopy(this.buf, 19, this.buf0, 0, this.buf0.length);
+			System.arraycopy(this.buf, 19+lapTimes, this.buf1, 0, this.buf1.length);
+			System.arraycopy(this.buf, 19+2*lapTimes, this.buf2, 0, this.buf2.length);
+			int numLaps = this.buf[this.buf.length-1];
 			StringBuilder sb = new StringBuilder().append(Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2406));
-			for (int j=0; j < numLaps && !(HoTTbinReaderX.buf0[j] == 0 && HoTTbinReaderX.buf1[j] == 0 && HoTTbinReaderX.buf2[j] == 0); j++) {
-				sb.append(String.format("%2d: %2dm %02ds %03d\n", (j+1), HoTTbinReaderX.buf0[j], HoTTbinReaderX.buf1[j], HoTTbinReaderX.buf2[j]));
+			for (int j=0; j < numLaps && !(this.buf0[j] == 0 && this.buf1[j] == 0 && this.buf2[j] == 0); j++) {
+				sb.append(String.format("%2d: %2dm %02ds %03d\n", (j+1), this.buf0[j], this.buf1[j], this.buf2[j]));
 			}
 			if (numLaps >= 1) {
-				HoTTbinReaderX.recordSetReceiver.setRecordSetDescription(tmpRecordSet.getRecordSetDescription()
+				this.recordSetReceiver.setRecordSetDescription(tmpRecordSet.getRecordSetDescription()
 						+ Messages.getString(	gde.device.graupner.hott.MessageIds.GDE_MSGI2405,
 								new Object[] {	numLaps,
-										String.format("%2dm %02ds %03d", HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 7], HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 6], HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 5]),
-										String.format("%2dm %02ds %03d", HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 4], HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 3], HoTTbinReaderX.buf[HoTTbinReaderX.buf.length - 2]) }) + sb.toString());
+										String.format("%2dm %02ds %03d", this.buf[this.buf.length - 7], this.buf[this.buf.length - 6], this.buf[this.buf.length - 5]),
+										String.format("%2dm %02ds %03d", this.buf[this.buf.length - 4], this.buf[this.buf.length - 3], this.buf[this.buf.length - 2]) }) + sb.toString());
 			}
 			HoTTbinReaderX.logx.logp(Level.TIME, HoTTbinReaderX.$CLASS_NAMEX, $METHOD_NAME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$ //$NON-NLS-2$
 
 			if (menuToolBar != null) {
-				for (RecordSet recordSet : HoTTbinReader.recordSets.values()) {
+				for (RecordSet recordSet : this.recordSets.values()) {
 					device.makeInActiveDisplayable(recordSet);
 					device.updateVisibilityStatus(recordSet, true);
 
@@ -442,34 +445,34 @@ public class HoTTbinReaderX extends HoTTbinReader {
 	 * @param _buf
 	 * @throws DataInconsitsentException
 	 */
-	protected static void parseAddReceiver(final byte[] _buf1, final byte[] _buf2, final byte[] _buf4, final byte[] _bufD) throws DataInconsitsentException {
+	protected void parseAddReceiver(final byte[] _buf1, final byte[] _buf2, final byte[] _buf4, final byte[] _bufD) throws DataInconsitsentException {
 		//0=Rx->Tx-PLoss, 1=RXSQ, 2=Strength, 3=VPacks, 4=Tx, 5=Rx, 6=VoltageRx, 7=TemperatureRx 8=VoltageRxMin
 		//9=SpannungM, 10=SpannungM_min, 11=CurrentM, 12=CurrentM_max, 13=CapacityM, 14=PowerM, 15=RevolutionM, 16=RevolutionM_max
 		//17=Temperature, 18=Temperature_max, 19=TemperatureM, 20=TemperatureM_max, 21=Speed, 22=Speed_max
 		//23=VoltageExt, 24=VoltageExt_min, 25=TemperatureExt, 26=TemperatureExt_max
-		HoTTbinReaderX.tmpVoltageRx = (_buf2[18] & 0xFF);
-		HoTTbinReaderX.tmpTemperatureRx = (_buf2[20] & 0xFF);
-		HoTTbinReaderX.points_1[1] = (_buf2[17] & 0xFF) * 1000;
-		HoTTbinReaderX.points_1[3] = DataParser.parse2Short(_buf1, 17) * 1000;
-		if (!pickerParameters.isFilterEnabled || HoTTbinReaderX.tmpVoltageRx > -1 && HoTTbinReaderX.tmpVoltageRx < 100 && HoTTbinReaderX.tmpTemperatureRx < 120) {
-			HoTTbinReaderX.points_1[2] = (convertRxDbm2Strength(_bufD[4] & 0xFF)) * 1000;
-			HoTTbinReaderX.points_1[4] = (_bufD[3] & 0xFF) * -1000;
-			HoTTbinReaderX.points_1[5] = (_bufD[4] & 0xFF) * -1000;
-			HoTTbinReaderX.points_1[6] = (_buf2[18] & 0xFF) * 1000;
-			HoTTbinReaderX.points_1[7] = (_buf2[20] & 0xFF) * 1000;
-			HoTTbinReaderX.points_1[8] = (_buf2[19] & 0xFF) * 1000;
-
-			HoTTbinReaderX.points_1[23] = (_buf4[17] & 0xFF) * 1000;
-			HoTTbinReaderX.points_1[24] = (_buf4[19] & 0xFF) * 1000;
-			HoTTbinReaderX.points_1[25] = (_buf4[18] & 0xFF) * 1000;
-			HoTTbinReaderX.points_1[26] = (_buf4[20] & 0xFF) * 1000;
+		this.tmpVoltageRx = (_buf2[18] & 0xFF);
+		this.tmpTemperatureRx = (_buf2[20] & 0xFF);
+		this.points_1[1] = (_buf2[17] & 0xFF) * 1000;
+		this.points_1[3] = DataParser.parse2Short(_buf1, 17) * 1000;
+		if (!pickerParameters.isFilterEnabled || this.tmpVoltageRx > -1 && this.tmpVoltageRx < 100 && this.tmpTemperatureRx < 120) {
+			this.points_1[2] = (convertRxDbm2Strength(_bufD[4] & 0xFF)) * 1000;
+			this.points_1[4] = (_bufD[3] & 0xFF) * -1000;
+			this.points_1[5] = (_bufD[4] & 0xFF) * -1000;
+			this.points_1[6] = (_buf2[18] & 0xFF) * 1000;
+			this.points_1[7] = (_buf2[20] & 0xFF) * 1000;
+			this.points_1[8] = (_buf2[19] & 0xFF) * 1000;
+
+			this.points_1[23] = (_buf4[17] & 0xFF) * 1000;
+			this.points_1[24] = (_buf4[19] & 0xFF) * 1000;
+			this.points_1[25] = (_buf4[18] & 0xFF) * 1000;
+			this.points_1[26] = (_buf4[20] & 0xFF) * 1000;
 		}
 
 		//printByteValues(_timeStep_ms, _buf);
-		//if (HoTTbinReaderX.points_1[3] > 2000000)
+		//if (this.points_1[3] > 2000000)
 		//	System.out.println();
 
-		HoTTbinReaderX.recordSetReceiver.addPoints(HoTTbinReaderX.points_1, HoTTbinReaderX.timeStep_ms);
+		this.recordSetReceiver.addPoints(this.points_1, this.timeStep_ms);
 	}
 
 	/**
@@ -477,21 +480,21 @@ public class HoTTbinReaderX extends HoTTbinReader {
 	 * @param _buf
 	 * @throws DataInconsitsentException
 	 */
-	protected static void parseAddChannel(byte[] _buf) throws DataInconsitsentException {
+	protected void parseAddChannel(byte[] _buf) throws DataInconsitsentException {
 
 		//0=FreCh, 1=Tx, 2=Rx, 3=Ch 1, 4=Ch 2 .. 10=Ch 8
 		//119=PowerOff, 12=BattLow, 13=Reset, 14=reserved
-		HoTTbinReaderX.pointsChannel[0] = (_buf[1] & 0xFF) * 1000;
-		HoTTbinReaderX.pointsChannel[1] = (_buf[3] & 0xFF) * -1000;
-		HoTTbinReaderX.pointsChannel[2] = (_buf[4] & 0xFF) * -1000;
-		HoTTbinReaderX.pointsChannel[3] = (DataParser.parse2UnsignedShort(_buf, 8) / 2) * 1000;
-		HoTTbinReaderX.pointsChannel[4] = (DataParser.parse2UnsignedShort(_buf, 10) / 2) * 1000;
-		HoTTbinReaderX.pointsChannel[5] = (DataParser.parse2UnsignedShort(_buf, 12) / 2) * 1000;
-		HoTTbinReaderX.pointsChannel[6] = (DataParser.parse2UnsignedShort(_buf, 14) / 2) * 1000;
+		this.pointsChannel[0] = (_buf[1] & 0xFF) * 1000;
+		this.pointsChannel[1] = (_buf[3] & 0xFF) * -1000;
+		this.pointsChannel[2] = (_buf[4] & 0xFF) * -1000;
+		this.pointsChannel[3] = (DataParser.parse2UnsignedShort(_buf, 8) / 2) * 1000;
+		this.pointsChannel[4] = (DataParser.parse2UnsignedShort(_buf, 10) / 2) * 1000;
+		this.pointsChannel[5] = (DataParser.parse2UnsignedShort(_buf, 12) / 2) * 1000;
+		this.pointsChannel[6] = (DataParser.parse2UnsignedShort(_buf, 14) / 2) * 1000;
 
 		//printByteValues(_timeStep_ms, _buf);
 
-		HoTTbinReaderX.recordSetChannel.addPoints(HoTTbinReaderX.pointsChannel, HoTTbinReaderX.timeStep_ms);
+		this.recordSetChannel.addPoints(this.pointsChannel, this.timeStep_ms);
 	}
 
 	/**
@@ -506,41 +509,41 @@ public class HoTTbinReaderX extends HoTTbinReader {
 	 * @param _bufA
 	 * @throws DataInconsitsentException
 	 */
-	private static void parseESC(byte[] _buf3, byte[] _buf4, byte[] _buf5, byte[] _buf6, byte[] _buf7, byte[] _buf8, byte[] _buf9, byte[] _bufA) throws DataInconsitsentException {
+	private void parseESC(byte[] _buf3, byte[] _buf4, byte[] _buf5, byte[] _buf6, byte[] _buf7, byte[] _buf8, byte[] _buf9, byte[] _bufA) throws DataInconsitsentException {
 		//0=Rx->Tx-PLoss, 1=RXSQ, 2=Strength, 3=VPacks, 4=Tx, 5=Rx, 6=VoltageRx, 7=TemperatureRx 8=VoltageRxMin
 		//9=SpannungM, 10=SpannungM_min, 11=CurrentM, 12=CurrentM_max, 13=CapacityM, 14=PowerM, 15=RevolutionM, 16=RevolutionM_max
 		//17=Temperature, 18=Temperature_max, 19=TemperatureM, 20=TemperatureM_max, 21=Speed, 22=Speed_max
 		//23=VoltageExt, 24=VoltageExt_min, 25=TemperatureExt, 26=TemperatureExt_max
-		HoTTbinReader.tmpVoltage = DataParser.parse2Short(_buf4, 20);
-		HoTTbinReader.tmpCurrent = DataParser.parse2Short(_buf6, 20);
-		HoTTbinReader.tmpCapacity = DataParser.parse2Short(_buf5, 20);
-		HoTTbinReader.tmpRevolution = DataParser.parse2Short(_buf7[20], _buf8[17]);
-		HoTTbinReader.tmpTemperatureFet = _buf8[20] - 20;
-		if (!pickerParameters.isFilterEnabled || HoTTbinReader.tmpVoltage > 0 && HoTTbinReader.tmpVoltage < 1000 && HoTTbinReader.tmpCurrent < 4000 && HoTTbinReader.tmpCurrent > -10
-				&& HoTTbinReader.tmpRevolution > -1 && HoTTbinReader.tmpRevolution < 20000
-				&& !(HoTTbinReaderX.points_1[19] != 0 && HoTTbinReaderX.points_1[19] / 1000 - HoTTbinReader.tmpTemperatureFet > 20)) {
-			HoTTbinReaderX.points_1[9] = HoTTbinReader.tmpVoltage * 1000;
-			HoTTbinReaderX.points_1[10] = DataParser.parse2Short(_buf5, 18) * 1000;
-			HoTTbinReaderX.points_1[11] = HoTTbinReader.tmpCurrent * 1000;
-			HoTTbinReaderX.points_1[12] = DataParser.parse2Short(_buf7, 18) * 1000;
-			HoTTbinReaderX.points_1[14] = Double.valueOf(HoTTbinReaderX.points_1[9] / 1000.0 * HoTTbinReaderX.points_1[11] / 100.0).intValue();
+		this.tmpVoltage = DataParser.parse2Short(_buf4, 20);
+		this.tmpCurrent = DataParser.parse2Short(_buf6, 20);
+		this.tmpCapacity = DataParser.parse2Short(_buf5, 20);
+		this.tmpRevolution = DataParser.parse2Short(_buf7[20], _buf8[17]);
+		this.tmpTemperatureFet = _buf8[20] - 20;
+		if (!pickerParameters.isFilterEnabled || this.tmpVoltage > 0 && this.tmpVoltage < 1000 && this.tmpCurrent < 4000 && this.tmpCurrent > -10
+				&& this.tmpRevolution > -1 && this.tmpRevolution < 20000
+				&& !(this.points_1[19] != 0 && this.points_1[19] / 1000 - this.tmpTemperatureFet > 20)) {
+			this.points_1[9] = this.tmpVoltage * 1000;
+			this.points_1[10] = DataParser.parse2Short(_buf5, 18) * 1000;
+			this.points_1[11] = this.tmpCurrent * 1000;
+			this.points_1[12] = DataParser.parse2Short(_buf7, 18) * 1000;
+			this.points_1[14] = Double.valueOf(this.points_1[9] / 1000.0 * this.points_1[11] / 100.0).intValue();
 			if (!pickerParameters.isFilterEnabled
-					|| (HoTTbinReader.tmpCapacity != 0 && Math.abs(HoTTbinReader.tmpCapacity) <= (HoTTbinReaderX.points_1[13] / 1000 + HoTTbinReader.tmpVoltage * HoTTbinReader.tmpCurrent / 2500 + 2))) {
-				HoTTbinReaderX.points_1[13] = HoTTbinReader.tmpCapacity * 1000;
+					|| (this.tmpCapacity != 0 && Math.abs(this.tmpCapacity) <= (this.points_1[13] / 1000 + this.tmpVoltage * this.tmpCurrent / 2500 + 2))) {
+				this.points_1[13] = this.tmpCapacity * 1000;
 			}
 			else {
-				if (HoTTbinReader.tmpCapacity != 0)
-					HoTTbinReader.log.log(Level.WARNING, StringHelper.getFormatedTime("mm:ss.SSS", HoTTbinReader.timeStep_ms) + " - " + HoTTbinReader.tmpCapacity + " - "
-						+ (HoTTbinReaderX.points_1[13] / 1000) + " + " + (HoTTbinReader.tmpVoltage * HoTTbinReader.tmpCurrent / 2500 + 2));
+				if (this.tmpCapacity != 0)
+					HoTTbinReader.log.log(Level.WARNING, StringHelper.getFormatedTime("mm:ss.SSS", this.timeStep_ms) + " - " + this.tmpCapacity + " - "
+						+ (this.points_1[13] / 1000) + " + " + (this.tmpVoltage * this.tmpCurrent / 2500 + 2));
 			}
-			HoTTbinReaderX.points_1[15] = HoTTbinReader.tmpRevolution * 1000;
-			HoTTbinReaderX.points_1[16] = DataParser.parse2Short(_buf8, 18) * 1000;
-			HoTTbinReaderX.points_1[17] = (_buf6[18] - 20) * 1000;
-			HoTTbinReaderX.points_1[18] = (_buf6[19] - 20) * 1000;
-			HoTTbinReaderX.points_1[19] = HoTTbinReader.tmpTemperatureFet * 1000;
-			HoTTbinReaderX.points_1[20] = (_buf9[17] - 20) * 1000;
-			HoTTbinReaderX.points_1[21] = _buf9[19] * 1000;
-			HoTTbinReaderX.points_1[22] = _bufA[17] * 1000;
+			this.points_1[15] = this.tmpRevolution * 1000;
+			this.points_1[16] = DataParser.parse2Short(_buf8, 18) * 1000;
+			this.points_1[17] = (_buf6[18] - 20) * 1000;
+			this.points_1[18] = (_buf6[19] - 20) * 1000;
+			this.points_1[19] = this.tmpTemperatureFet * 1000;
+			this.points_1[20] = (_buf9[17] - 20) * 1000;
+			this.points_1[21] = _buf9[19] * 1000;
+			this.points_1[22] = _bufA[17] * 1000;
 		}
 	}
 
@@ -45,22 +45,24 @@ import gde.utils.StringHelper;
  */
 public class HoTTlogReaderD extends HoTTlogReader2 {
 	final static Logger	log					= Logger.getLogger(HoTTlogReaderD.class.getName());
-	static int[]				points;
-	static RecordSet		recordSet;
-	static boolean			isJustMigrated	= false;
+	int[]						points;
+	RecordSet				recordSet;
+	boolean					isJustMigrated	= false;
+
+	public HoTTlogReaderD(PickerParameters pickerParameters) {
+		super(pickerParameters);
+	}
 
 	/**
 	* read log data according to version 0
 	* @param filePath
-	* @param newPickerParameters
 	* @throws IOException
 	* @throws DataInconsitsentException
 	*/
-	public static synchronized void read(String filePath, PickerParameters newPickerParameters) throws Exception {
+	public void read(String filePath) throws Exception {
 		final String $METHOD_NAME = "read";
-		HoTTlogReaderD.pickerParameters = newPickerParameters;
-		HashMap<String, String> fileInfoHeader = getFileInfo(new File(filePath), newPickerParameters);
-		HoTTlogReader.detectedSensors = Sensor.getSetFromDetected(fileInfoHeader.get(HoTTAdapter.DETECTED_SENSOR));
+		HashMap<String, String> fileInfoHeader = getFileInfo(new File(filePath));
+		this.detectedSensors = Sensor.getSetFromDetected(fileInfoHeader.get(HoTTAdapter.DETECTED_SENSOR));
 
 		final File file = new File(fileInfoHeader.get(HoTTAdapter.FILE_PATH));
 		long startTime = System.nanoTime() / 1000000;
@@ -78,8 +80,8 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 		boolean isGeneralData = false;
 		boolean isElectricData = false;
 		boolean isMotorDriverData = false;
-		HoTTlogReaderD.recordSet = null;
-		HoTTlogReaderD.isJustMigrated = false;
+		this.recordSet = null;
+		this.isJustMigrated = false;
 		//0=RF_RXSQ, 1=RXSQ, 2=Strength, 3=PackageLoss, 4=Tx_dbm, 5=Rx_dbm, 6=VoltageRx, 7=TemperatureRx
 		//8=Altitude, 9=Climb 1, 10=Climb 3, 11=Climb 10
 		//12=Latitude, 13=Longitude, 14=Velocity, 15=Distance, 16=Direction, 17=TripDistance
@@ -93,11 +95,11 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 		//114=VoltageRx_min 115=Speed G, 116=CellVoltage_min G 117=CellNumber_min G 118=Pressure 119=MotorRuntime E 120=Speed E
 		//121=Temperature M2 122=Voltage Mmin 123=Current Mmax 124=RPM Mmax 125=Temperatire M1max 126=Temperature M2max
 		//127=EventRx 128=EventVario 129=EventGPS 130=EventGAM 131=EventEAM 132=EventESC
-		HoTTlogReaderD.points = new int[device.getNumberOfMeasurements(1)];
-		HoTTbinReader.timeStep_ms = 0;
+		this.points = new int[device.getNumberOfMeasurements(1)];
+		this.timeStep_ms = 0;
 		int numberLogChannels = Integer.valueOf(fileInfoHeader.get("LOG NOB CHANNEL"));
-		HoTTbinReader.dataBlockSize = 66 + numberLogChannels * 2;
-		HoTTbinReader.buf = new byte[HoTTbinReader.dataBlockSize];
+		this.dataBlockSize = 66 + numberLogChannels * 2;
+		this.buf = new byte[this.dataBlockSize];
 		int[] valuesChannel = new int[23];
 		int[] valuesVario = new int[21];
 		valuesVario[2] = 100000;
@@ -107,10 +109,10 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 		int[] valuesESC = new int[14];
 		int logTimeStep = 1000/Integer.valueOf(fileInfoHeader.get("COUNTER").split("/")[1].split(GDE.STRING_BLANK)[0]);
 		PackageLossDeque reverseChannelPackageLossCounter = new PackageLossDeque(logTimeStep);
-		HoTTbinReader.isTextModusSignaled = false;
+		this.isTextModusSignaled = false;
 		int countPackageLoss = 0;
 		int logDataOffset = Integer.valueOf(fileInfoHeader.get("LOG DATA OFFSET"));
-		long numberDatablocks = (fileSize - logDataOffset) / HoTTbinReader.dataBlockSize;
+		long numberDatablocks = (fileSize - logDataOffset) / this.dataBlockSize;
 		long startTimeStamp_ms = getStartTimeStamp(fileInfoHeader.get("LOG START TIME"), getStartTimeStamp(file.getName(), file.lastModified(), numberDatablocks));
 		String date = StringHelper.getDate();
 		String dateTime = new SimpleDateFormat("yyyy-MM-dd, HH:mm:ss").format(startTimeStamp_ms); //$NON-NLS-1$
@@ -124,8 +126,8 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 			channel = HoTTbinReader.channels.get(1);
 			channel.setFileDescription(HoTTbinReader.application.isObjectoriented() ? date + GDE.STRING_BLANK + HoTTbinReader.application.getObjectKey() : date);
 			recordSetName = recordSetNumber + device.getRecordSetStemNameReplacement() + recordSetNameExtend;
-			HoTTlogReaderD.recordSet = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
-			channel.put(recordSetName, HoTTlogReaderD.recordSet);
+			this.recordSet = RecordSet.createRecordSet(recordSetName, device, 1, true, true, true);
+			channel.put(recordSetName, this.recordSet);
 			tmpRecordSet = channel.get(recordSetName);
 			tmpRecordSet.setRecordSetDescription(device.getName() + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGT0129) + dateTime);
 			tmpRecordSet.setStartTimeStamp(startTimeStamp_ms);
@@ -134,75 +136,75 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 			//read all the data blocks from the file and parse
 			data_in.skip(logDataOffset);
 			for (int i = 0; i < numberDatablocks; i++) {
-				data_in.read(HoTTbinReader.buf);
+				data_in.read(this.buf);
 				if (log.isLoggable(Level.FINE)) {
-					log.logp(Level.FINE, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.byte2Hex4CharString(HoTTbinReader.buf, HoTTbinReader.buf.length));
+					log.logp(Level.FINE, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, StringHelper.byte2Hex4CharString(this.buf, this.buf.length));
 				}
 
 				//Ph(D)[4], Evt1(H)[5], Evt2(D)[6], Fch(D)[7], TXdBm(-D)[8], RXdBm(-D)[9], RfRcvRatio(D)[10], TrnRcvRatio(D)[11]
 				//STATUS : Ph(D)[4], Evt1(H)[5], Evt2(D)[6], Fch(D)[7], TXdBm(-D)[8], RXdBm(-D)[9], RfRcvRatio(D)[10], TrnRcvRatio(D)[11]
 				//S.INFOR : DEV(D)[22], CH(D)[23], SID(H)[24], WARN(H)[25]
-				//if (!HoTTAdapter.isFilterTextModus || (HoTTbinReader.buf[6] & 0x01) == 0) { //switch into text modus
-				if (HoTTbinReader.buf[8] != 0 && HoTTbinReader.buf[9] != 0) { //buf 8, 9, tx,rx, rx sensitivity data
-					if (HoTTbinReader.buf[24] != 0x1F) {//rx sensitivity data
+				//if (!HoTTAdapter.isFilterTextModus || (this.buf[6] & 0x01) == 0) { //switch into text modus
+				if (this.buf[8] != 0 && this.buf[9] != 0) { //buf 8, 9, tx,rx, rx sensitivity data
+					if (this.buf[24] != 0x1F) {//rx sensitivity data
 						if (log.isLoggable(Level.FINE)) {
-							log.log(Level.FINE, String.format("Sensor %02X", HoTTbinReader.buf[26]));
+							log.log(Level.FINE, String.format("Sensor %02X", this.buf[26]));
 						}
 					}
 					reverseChannelPackageLossCounter.add(1);
-					HoTTlogReaderD.points[0] = reverseChannelPackageLossCounter.getPercentage() * 1000;
+					this.points[0] = reverseChannelPackageLossCounter.getPercentage() * 1000;
 					//create and fill sensor specific data record sets
 					if (log.isLoggable(Level.FINEST)) {
 						log.logp(Level.FINEST, HoTTbinReader.$CLASS_NAME, $METHOD_NAME,
-								StringHelper.byte2Hex2CharString(new byte[] { HoTTbinReader.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(HoTTbinReader.buf[7], false));
+								StringHelper.byte2Hex2CharString(new byte[] { this.buf[7] }, 1) + GDE.STRING_MESSAGE_CONCAT + StringHelper.printBinary(this.buf[7], false));
 					}
 
 					//fill receiver data
-					if (HoTTbinReader.buf[24] != 0x1F) { //receiver sensitive data
+					if (this.buf[24] != 0x1F) { //receiver sensitive data
 						//in 0=RX-TX-VPacks, 1=RXSQ, 2=Strength, 3=VPacks, 4=Tx, 5=Rx, 6=VoltageRx, 7=TemperatureRx 8=VoltageRxMin 9=EventRx
-						isReceiverData = parseReceiver(HoTTbinReader.buf, HoTTlogReaderD.points);
-						HoTTlogReaderD.points[114] = HoTTlogReaderD.points[8]; //114=VoltageRx_min
-						HoTTlogReaderD.points[8] = 0;
-						HoTTlogReaderD.points[127] = HoTTlogReaderD.points[9]; //127=EventRx
-						HoTTlogReaderD.points[9] = 0;
+						isReceiverData = parseReceiver(this.buf, this.points);
+						this.points[114] = this.points[8]; //114=VoltageRx_min
+						this.points[8] = 0;
+						this.points[127] = this.points[9]; //127=EventRx
+						this.points[9] = 0;
 					}
 
-					parseChannel(HoTTbinReader.buf, valuesChannel, numberLogChannels);
+					parseChannel(this.buf, valuesChannel, numberLogChannels);
 					//in 0=FreCh, 1=Tx, 2=Rx, 3=Ch 1, 4=Ch 2 .. 18=Ch 16 19=PowerOff 20=BattLow 21=Reset 22=Warning
 					//out 76=Ch 1, 77=Ch 2 , 78=Ch 3 .. 91=Ch 16 92=PowerOff, 93=BattLow, 94=Reset, 95=warning
-					System.arraycopy(valuesChannel, 3, HoTTlogReaderD.points, 76, 20); //copy channel data and events, warning
+					System.arraycopy(valuesChannel, 3, this.points, 76, 20); //copy channel data and events, warning
 
-					switch ((byte) (HoTTbinReader.buf[26] & 0xFF)) { //actual sensor
+					switch ((byte) (this.buf[26] & 0xFF)) { //actual sensor
 					case HoTTAdapter.ANSWER_SENSOR_VARIO_19200:
-						isVarioData = parseVario(HoTTbinReader.buf, valuesVario, true);
+						isVarioData = parseVario(this.buf, valuesVario, true);
 						if (isVarioData && isReceiverData) {
 							migrateAddPoints(isVarioData, isGPSData, isGeneralData, isElectricData, isMotorDriverData, 1, valuesVario, valuesGPS, valuesGAM, valuesEAM, valuesESC);
 							isReceiverData = false;
 						}
 						break;
 					case HoTTAdapter.ANSWER_SENSOR_GPS_19200:
-						isGPSData = parseGPS(HoTTbinReader.buf, valuesGPS, true);
+						isGPSData = parseGPS(this.buf, valuesGPS, true);
 						if (isGPSData && isReceiverData) {
 							migrateAddPoints(isVarioData, isGPSData, isGeneralData, isElectricData, isMotorDriverData, 1, valuesVario, valuesGPS, valuesGAM, valuesEAM, valuesESC);
 							isReceiverData = false;
 						}
 						break;
 					case HoTTAdapter.ANSWER_SENSOR_GENERAL_19200:
-						isGeneralData = parseGAM(HoTTbinReader.buf, valuesGAM, HoTTlogReaderD.recordSet, true);
+						isGeneralData = parseGAM(this.buf, valuesGAM, this.recordSet, true);
 						if (isGeneralData && isReceiverData) {
 							migrateAddPoints(isVarioData, isGPSData, isGeneralData, isElectricData, isMotorDriverData, 1, valuesVario, valuesGPS, valuesGAM, valuesEAM, valuesESC);
 							isReceiverData = false;
 						}
 						break;
 					case HoTTAdapter.ANSWER_SENSOR_ELECTRIC_19200:
-						isElectricData = parseEAM(HoTTbinReader.buf, valuesEAM, HoTTlogReaderD.recordSet, true);
+						isElectricData = parseEAM(this.buf, valuesEAM, this.recordSet, true);
 						if (isElectricData && isReceiverData) {
 							migrateAddPoints(isVarioData, isGPSData, isGeneralData, isElectricData, isMotorDriverData, 1, valuesVario, valuesGPS, valuesGAM, valuesEAM, valuesESC);
 							isReceiverData = false;
 						}
 						break;
 					case HoTTAdapter.ANSWER_SENSOR_MOTOR_DRIVER_19200:
-						isMotorDriverData = parseESC(HoTTbinReader.buf, valuesESC, HoTTlogReaderD.recordSet);
+						isMotorDriverData = parseESC(this.buf, valuesESC, this.recordSet);
 						if (isMotorDriverData && isReceiverData) {
 							migrateAddPoints(isVarioData, isGPSData, isGeneralData, isElectricData, isMotorDriverData, 1, valuesVario, valuesGPS, valuesGAM, valuesEAM, valuesESC);
 							isReceiverData = false;
@@ -213,21 +215,21 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 						break;
 					}
 
-					if (HoTTlogReaderD.isJustMigrated && countPackageLoss > 0) {
-						HoTTbinReader.lostPackages.add(countPackageLoss * 10);
+					if (this.isJustMigrated && countPackageLoss > 0) {
+						this.lostPackages.add(countPackageLoss * 10);
 						countPackageLoss = 0;
 					}
 
 					if (isReceiverData) { //this will only be true if no other sensor is connected
-						HoTTlogReaderD.recordSet.addPoints(HoTTlogReaderD.points, HoTTbinReader.timeStep_ms);
+						this.recordSet.addPoints(this.points, this.timeStep_ms);
 						isReceiverData = false;
 					}
-					else if (!HoTTlogReaderD.isJustMigrated) { //this will only be true if no other sensor is connected and channel 4
-						HoTTlogReaderD.recordSet.addPoints(HoTTlogReaderD.points, HoTTbinReader.timeStep_ms);
+					else if (!this.isJustMigrated) { //this will only be true if no other sensor is connected and channel 4
+						this.recordSet.addPoints(this.points, this.timeStep_ms);
 					}
-					HoTTlogReaderD.isJustMigrated = false;
+					this.isJustMigrated = false;
 
-					HoTTbinReader.timeStep_ms += logTimeStep;// add default time step from log record of 100 msec
+					this.timeStep_ms += logTimeStep;// add default time step from log record of 100 msec
 
 					if (i % progressIndicator == 0) GDE.getUiNotification().setProgress((int) (i * 100 / numberDatablocks));
 				}
@@ -235,40 +237,40 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 						if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "-->> Found tx=rx=0 dBm");
 
 						reverseChannelPackageLossCounter.add(0);
-						HoTTlogReaderD.points[0] = reverseChannelPackageLossCounter.getPercentage() * 1000;
+						this.points[0] = reverseChannelPackageLossCounter.getPercentage() * 1000;
 						countPackageLoss+=1; // add up lost packages in telemetry data
 
-						parseChannel(HoTTbinReader.buf, valuesChannel, numberLogChannels);
+						parseChannel(this.buf, valuesChannel, numberLogChannels);
 						//in 0=FreCh, 1=Tx, 2=Rx, 3=Ch 1, 4=Ch 2 .. 18=Ch 16 19=PowerOff 20=BattLow 21=Reset 22=Warning
 						//out 76=Ch 1, 77=Ch 2 , 78=Ch 3 .. 91=Ch 16 92=PowerOff, 93=BattLow, 94=Reset, 95=warning
-						System.arraycopy(valuesChannel, 3, HoTTlogReaderD.points, 76, 20); //copy channel data and events, warning
-						HoTTlogReaderD.recordSet.addPoints(HoTTlogReaderD.points, HoTTbinReader.timeStep_ms);
+						System.arraycopy(valuesChannel, 3, this.points, 76, 20); //copy channel data and events, warning
+						this.recordSet.addPoints(this.points, this.timeStep_ms);
 
-						HoTTbinReader.timeStep_ms += logTimeStep;
+						this.timeStep_ms += logTimeStep;
 						//reset buffer to avoid mixing data >> 20 Jul 14, not any longer required due to protocol change requesting next sensor data block
 						//logCountVario = logCountGPS = logCountGeneral = logCountElectric = logCountMotorDriver = 0;
 					}
 //				} //switch into text modus - telemetry menu
-//				else if (!HoTTbinReader.isTextModusSignaled) {
-//					HoTTbinReader.isTextModusSignaled = true;
+//				else if (!this.isTextModusSignaled) {
+//					this.isTextModusSignaled = true;
 //					HoTTbinReader.application.openMessageDialogAsync(Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGW2404));
 //				}
 			}
 			String packageLossPercentage = tmpRecordSet.getRecordDataSize(true) > 0 ? String.format("%.1f", (countPackageLoss / tmpRecordSet.getTime_ms(tmpRecordSet.getRecordDataSize(true) - 1) * 1000)) : "100";
 			tmpRecordSet.setRecordSetDescription(tmpRecordSet.getRecordSetDescription()
-					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] { countPackageLoss, packageLossPercentage, HoTTbinReader.lostPackages.getStatistics() })
-					+ Sensor.getSetAsSignature(HoTTbinReader.detectedSensors));
+					+ Messages.getString(gde.device.graupner.hott.MessageIds.GDE_MSGI2404, new Object[] { countPackageLoss, packageLossPercentage, this.lostPackages.getStatistics() })
+					+ Sensor.getSetAsSignature(this.detectedSensors));
 			log.logp(Level.WARNING, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "skipped number receiver data due to package loss = " + countPackageLoss); //$NON-NLS-1$
 			log.logp(Level.TIME, HoTTbinReader.$CLASS_NAME, $METHOD_NAME, "read time = " + StringHelper.getFormatedTime("mm:ss:SSS", (System.nanoTime() / 1000000 - startTime))); //$NON-NLS-1$ //$NON-NLS-2$
 
 			if (GDE.isWithUi()) {
 				GDE.getUiNotification().setProgress(99);
-				device.makeInActiveDisplayable(HoTTlogReaderD.recordSet);
-				device.updateVisibilityStatus(HoTTlogReaderD.recordSet, true);
+				device.makeInActiveDisplayable(this.recordSet);
+				device.updateVisibilityStatus(this.recordSet, true);
 				channel.applyTemplate(recordSetName, false);
 
 				//write filename after import to record description
-				HoTTlogReaderD.recordSet.descriptionAppendFilename(file.getName());
+				this.recordSet.descriptionAppendFilename(file.getName());
 
 				menuToolBar.updateChannelSelector();
 				menuToolBar.updateRecordSetSelectCombo();
@@ -285,21 +287,21 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 	 * parse the buffered data to vario values
 	 * @param _buf
 	 */
-	protected static boolean parseVario(byte[] _buf, int[] values, boolean isHoTTAdapter2) {
+	protected boolean parseVario(byte[] _buf, int[] values, boolean isHoTTAdapter2) {
 		//0=RXSQ, 1=Altitude, 2=Climb 1, 3=Climb 3, 4=Climb 10, 5=VoltageRx, 6=TemperatureRx 7=EventVario
 		//10=Altitude, 11=Climb 1, 12=Climb 3, 13=Climb 10 14=EventVario
 		//sensor byte: 26=sensor byte
 		//27=inverseBits 28,29=altitude 30,31=altitude_max 32,33=altitude_min 34,35=climb1 36,37=climb3 38,39=climb10
-		HoTTlogReader.parseVario(_buf, values, isHoTTAdapter2);
+		super.parseVario(_buf, values, isHoTTAdapter2);
 //		values[0] = (_buf[16] & 0xFF) * 1000;
-//		HoTTbinReader.tmpHeight = isHoTTAdapter2 ? DataParser.parse2Short(_buf, 28) - 500 : DataParser.parse2Short(_buf, 28);
-//		values[1] = HoTTbinReader.tmpHeight * 1000;
+//		this.tmpHeight = isHoTTAdapter2 ? DataParser.parse2Short(_buf, 28) - 500 : DataParser.parse2Short(_buf, 28);
+//		values[1] = this.tmpHeight * 1000;
 //		//pointsVarioMax = DataParser.parse2Short(buf1, 30) * 1000;
 //		//pointsVarioMin = DataParser.parse2Short(buf1, 32) * 1000;
 //		values[2] = (DataParser.parse2UnsignedShort(_buf, 34) - 30000) * 10;
-//		HoTTbinReader.tmpClimb10 = isHoTTAdapter2 ? (DataParser.parse2UnsignedShort(_buf , 38) - 30000) * 10 : DataParser.parse2UnsignedShort(_buf , 38) + 1000;
+//		this.tmpClimb10 = isHoTTAdapter2 ? (DataParser.parse2UnsignedShort(_buf , 38) - 30000) * 10 : DataParser.parse2UnsignedShort(_buf , 38) + 1000;
 //		values[3] = isHoTTAdapter2 ? (DataParser.parse2UnsignedShort(_buf, 36) - 30000) * 10 : DataParser.parse2UnsignedShort(_buf, 36) * 1000;
-//		values[4] = HoTTbinReader.tmpClimb10;
+//		values[4] = this.tmpClimb10;
 //		values[5] = (_buf[13] & 0xFF) * 1000;				//voltageRx
 //		values[6] = ((_buf[14] & 0xFF) - 20) * 1000;//temperaturRx
 //		values[7] = (_buf[27] & 0x3F) * 1000; 			//inverse event
@@ -320,7 +322,7 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 	 * parse the buffered data to GPS values
 	 * @param _buf
 	 */
-	protected static boolean parseGPS(byte[] _buf, int[] values, boolean isHoTTAdapter2) {
+	protected boolean parseGPS(byte[] _buf, int[] values, boolean isHoTTAdapter2) {
 		//0=RXSQ, 1=Latitude, 2=Longitude, 3=Altitude, 4=Climb 1, 5=Climb 3, 6=Velocity, 7=Distance, 8=Direction, 9=TripLength, 10=VoltageRx, 11=TemperatureRx 12=satellites 13=GPS-fix 14=EventGPS
 		//10=Altitude, 11=Climb 1, 12=Climb 3
 		//12=Latitude, 13=Longitude, 14=Velocity, 15=Distance, 16=Direction, 17=TripDistance 18=Satellites 19=Fix
@@ -330,7 +332,7 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 		//27,28=InverseBits 29=moveDirection 30,31=speed 32,33,34,35,36=latitude 37,38,39,40,41=longitude 42,43=distanceStart 44,45=altitude
 		//46,47=climb1 48=climb3 49=#satellites 50=GPS-Fix 51=homeDirection 52=Roll 53=Pitch 54=Yaw 55,56=GyroX 57,58=GyroY 59,60=GyroZ
 		//61=Vibration 62-65=freeChars 66=Version
-		HoTTlogReader.parseGPS(_buf, values, isHoTTAdapter2);
+		super.parseGPS(_buf, values, isHoTTAdapter2);
 
 		if (log.isLoggable(Level.FINER)) {
 			printSensorValues(_buf, values, 24);
@@ -348,7 +350,7 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 	 * @param channelNumber
 	 * @throws DataInconsitsentException
 	 */
-	public static void migrateAddPoints(boolean isVarioData, boolean isGPSData, boolean isGeneralData, boolean isElectricData, boolean isMotorDriverData, int channelNumber,
+	public void migrateAddPoints(boolean isVarioData, boolean isGPSData, boolean isGeneralData, boolean isElectricData, boolean isMotorDriverData, int channelNumber,
 			int[] valuesVario, int[] valuesGPS, int[] valuesGAM, int[] valuesEAM, int[] valuesESC)
 			throws DataInconsitsentException {
 		//receiver data gets integrated each cycle
@@ -372,22 +374,22 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 		if (isElectricData) {
 			//out 10=Altitude, 11=Climb 1, 12=Climb 3
 			for (int j = 0; !isVarioData && !isGPSData && !isGeneralData && j < 3; j++) { //0=altitude 1=climb1 2=climb3
-				HoTTlogReaderD.points[j+8] = valuesEAM[j+20];
+				this.points[j+8] = valuesEAM[j+20];
 			}
 			//out 46=VoltageE, 47=CurrentE, 48=CapacityE, 49=PowerE, 50=BalanceE, 51=CellVoltageE 1, 52=CellVoltageE 2 .... 64=CellVoltageE 14,
 			for (int k = 0; k < 19; k++) {
-				HoTTlogReaderD.points[k+46] = valuesEAM[k+1];
+				this.points[k+46] = valuesEAM[k+1];
 			}
 			//out 65=Revolution,
-			HoTTlogReaderD.points[65] = valuesEAM[27];
+			this.points[65] = valuesEAM[27];
 			//out 66=VoltageE 1, 67=VoltageE 2, 68=TemperatureE 1, 69=TemperatureE 2
 			for (int k = 0; k < 4; k++) {
-				HoTTlogReaderD.points[k+66] = valuesEAM[k+23];
+				this.points[k+66] = valuesEAM[k+23];
 			}
 			//out 119=MotorRuntime E 120=Speed E 131=EventEAM
-			HoTTlogReaderD.points[119] = valuesEAM[28];
-			HoTTlogReaderD.points[120] = valuesEAM[29];
-			HoTTlogReaderD.points[131] = valuesEAM[30];
+			this.points[119] = valuesEAM[28];
+			this.points[120] = valuesEAM[29];
+			this.points[131] = valuesEAM[30];
 		}
 		//in 0=RF_RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Balance, 6=CellVoltage 1, 7=CellVoltage 2 .... 11=CellVoltage 6, 12=Revolution,
 		//in 13=Altitude, 14=Climb, 15=Climb3, 16=FuelLevel, 17=Voltage 1, 18=Voltage 2, 19=Temperature 1, 20=Temperature 2
@@ -395,21 +397,21 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 		if (isGeneralData) {
 			//out 8=Altitude, 9=Climb 1, 10=Climb 3
 			for (int k = 0; !isVarioData && !isGPSData && k < 3; k++) {
-				HoTTlogReaderD.points[k+8] = valuesGAM[k+13];
+				this.points[k+8] = valuesGAM[k+13];
 			}
 			//out 29=VoltageG, 30=CurrentG, 31=CapacityG, 32=PowerG, 33=BalanceG, 34=CellVoltageG 1, 35=CellVoltageG 2 .... 39=CellVoltageG 6, 40=Revolution,
 			for (int j = 0; j < 12; j++) {
-				HoTTlogReaderD.points[j+29] = valuesGAM[j+1];
+				this.points[j+29] = valuesGAM[j+1];
 			}
 			//out 41=FuelLevel, 42=VoltageG 1, 43=VoltageG 2, 44=TemperatureG 1, 45=TemperatureG 2
 			for (int j = 0; j < 5; j++) {
-				HoTTlogReaderD.points[j+41] = valuesGAM[j+16];
+				this.points[j+41] = valuesGAM[j+16];
 			}
 			//out 115=Speed G, 116=CellVoltage_min G 117=CellNumber_min G 118=Pressure
 			for (int j = 0; j < 4; j++) {
-				HoTTlogReaderD.points[j+115] = valuesGAM[j+21];
+				this.points[j+115] = valuesGAM[j+21];
 			}
-			HoTTlogReaderD.points[130] = valuesGAM[24]; //130=EventGAM
+			this.points[130] = valuesGAM[24]; //130=EventGAM
 		}
 		//in 0=RXSQ, 1=Latitude, 2=Longitude, 3=Altitude, 4=Climb 1, 5=Climb 3, 6=Velocity, 7=Distance, 8=Direction, 9=TripLength, 10=VoltageRx, 11=TemperatureRx
 		//in 12=satellites 13=GPS-fix 14=EventGPS
@@ -417,37 +419,37 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 		if (isGPSData) {
 			//out 8=Altitude, 9=Climb 1, 10=Climb 3
 			for (int j = 0; !isVarioData && j < 3; j++) {
-				HoTTlogReaderD.points[j+8] = valuesGPS[j+3];
+				this.points[j+8] = valuesGPS[j+3];
 			}
 			//out 12=Latitude, 13=Longitude,
-			HoTTlogReaderD.points[12] = valuesGPS[1];
-			HoTTlogReaderD.points[13] = valuesGPS[2];
+			this.points[12] = valuesGPS[1];
+			this.points[13] = valuesGPS[2];
 			//out 14=Velocity, 15=Distance, 16=Direction, 17=TripDistance
 			for (int k = 0; k < 4; k++) {
-				HoTTlogReaderD.points[k+14] = valuesGPS[k+6];
+				this.points[k+14] = valuesGPS[k+6];
 			}
 			//out 18=GPS.Satelites, 19=GPS.Fix,
-			HoTTlogReaderD.points[18] = valuesGPS[12];
-			HoTTlogReaderD.points[19] = valuesGPS[13];
+			this.points[18] = valuesGPS[12];
+			this.points[19] = valuesGPS[13];
 			//out 20=HomeDirection, 21=Roll, 22=Pitch, 23=Yaw, 24=GyroX, 25=GyroY, 26=GyroZ, 27=Vibration, 28=Version
 			for (int k = 0; k < 9; k++) {
-				HoTTlogReaderD.points[k+20] = valuesGPS[k+15];
+				this.points[k+20] = valuesGPS[k+15];
 			}
 			//out 129=EventGPS
-			HoTTlogReaderD.points[129] = valuesGPS[14]; 
+			this.points[129] = valuesGPS[14]; 
 		}
 		//in 0=RXSQ, 1=Altitude, 2=Climb 1, 3=Climb 3, 4=Climb 10, 5=VoltageRx, 6=TemperatureRx	7=EventVario
 		if (isVarioData) {
 			//out 8=Altitude, 9=Climb 1, 10=Climb 3, 11=Climb 10
 			for (int j = 0; j < 4; j++) {
-				HoTTlogReaderD.points[j+8] = valuesVario[j+1];
+				this.points[j+8] = valuesVario[j+1];
 			}
-			HoTTlogReaderD.points[128] = valuesVario[7]; //128=EventVario
+			this.points[128] = valuesVario[7]; //128=EventVario
 
 			//special test data of FBL receivers
 			//96=Test 00, 97=Test 01, 98=Test 02, ... , 108=Test 12
 			for (int j = 0; j < 13; j++) {
-				HoTTlogReaderD.points[j + 96] = valuesVario[j + 8];
+				this.points[j + 96] = valuesVario[j + 8];
 			}
 		}
 		//in 0=RF_RXSQ, 1=Voltage, 2=Current, 3=Capacity, 4=Power, 5=Revolution, 6=Temperature1,
@@ -455,54 +457,54 @@ public class HoTTlogReaderD extends HoTTlogReader2 {
 		if (isMotorDriverData) {
 			//out 70=VoltageM, 71=CurrentM, 72=CapacityM, 73=PowerM, 74=RevolutionM, 75=TemperatureM
 			for (int j = 0; j < 6; j++) {
-				HoTTlogReaderD.points[j+70] = valuesESC[j+1];
+				this.points[j+70] = valuesESC[j+1];
 			}
 			//121=Temperature M2 122=Voltage Mmin 123=Current Mmax 124=RPM Mmax 125=Temperatire M1max 126=Temperature M2max
 			for (int j = 0; j < 6; j++) {
-				HoTTlogReaderD.points[j+121] = valuesESC[j+7];
+				this.points[j+121] = valuesESC[j+7];
 			}
-			HoTTlogReaderD.points[132] = valuesESC[13]; //132=EventESC
+			this.points[132] = valuesESC[13]; //132=EventESC
 		}
 				
 		//add altitude and climb values from selected sensor
 		//log.log(Level.OFF, String.format("pickerParameters.altitudeClimbSensorSelection = %s", pickerParameters.altitudeClimbSensorSelection));
-		switch (Sensor.VALUES[HoTTbinReader.pickerParameters.altitudeClimbSensorSelection]) {
+		switch (Sensor.VALUES[this.pickerParameters.altitudeClimbSensorSelection]) {
 		case VARIO:
 			//8=Altitude, 9=Climb 1, 10=Climb 3, 11=Climb 10
 			if (isVarioData)
 				for (int j = 0; j < 4; j++) {
-					HoTTlogReaderD.points[j+8] = valuesVario[j+1];
+					this.points[j+8] = valuesVario[j+1];
 				}
 			break;
 		case GPS:
 			//8=Altitude, 9=Climb 1, 10=Climb 3
 			if (isGPSData)
 				for (int j = 0; j < 3; j++) {
-					HoTTlogReaderD.points[j+8] = valuesGPS[j+3];
+					this.points[j+8] = valuesGPS[j+3];
 				}
-			HoTTlogReaderD.points[11] = 0;
+			this.points[11] = 0;
 			break;
 		case GAM:
 			//8=Altitude, 9=Climb 1, 10=Climb 3
 			if (isGeneralData)
 				for (int j = 0; j < 3; j++) {
-					HoTTlogReaderD.points[j+8] = valuesGAM[j+13];
+					this.points[j+8] = valuesGAM[j+13];
 				}
-			HoTTlogReaderD.points[11] = 0;
+			this.points[11] = 0;
 			break;
 		case EAM:
 			//8=Altitude, 9=Climb 1, 10=Climb 3
 			if (isElectricData)
 				for (int j = 0; j < 3; j++) { //0=altitude 1=climb1 2=climb3
-					HoTTlogReaderD.points[j+8] = valuesEAM[j+20];
+					this.points[j+8] = valuesEAM[j+20];
 				}
-			HoTTlogReaderD.points[11] = 0;
+			this.points[11] = 0;
 			break;
 		default:
 			break;
 		}
 
-		HoTTlogReaderD.recordSet.addPoints(HoTTlogReaderD.points, HoTTbinReader.timeStep_ms);
-		HoTTlogReaderD.isJustMigrated = true;
+		this.recordSet.addPoints(this.points, this.timeStep_ms);
+		this.isJustMigrated = true;
 	}
 }
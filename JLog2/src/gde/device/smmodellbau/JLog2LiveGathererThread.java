@@ -126,7 +126,7 @@ public class JLog2LiveGathererThread extends Thread {
 					recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer), System.nanoTime() / 1000000 - startTime);
 
 					if (recordSet.size() > 0 && recordSet.isChildOfActiveChannel() && recordSet.equals(this.channels.getActiveChannel().getActiveRecordSet())) {
-						JLog2LiveGathererThread.this.application.updateAllTabs(false);
+						JLog2LiveGathererThread.this.application.updateLiveTabs();
 					}
 					++measurementCount;
 
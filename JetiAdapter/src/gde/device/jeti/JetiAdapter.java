@@ -19,7 +19,10 @@
 package gde.device.jeti;
 
 import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.StringTokenizer;
 import java.util.Vector;
 import java.util.logging.Logger;
@@ -48,6 +51,7 @@ import gde.device.MeasurementPropertyTypes;
 import gde.device.MeasurementType;
 import gde.device.PropertyType;
 import gde.exception.DataInconsitsentException;
+import gde.histo.utils.PathUtils;
 import gde.io.FileHandler;
 import gde.io.LogViewReader;
 import gde.io.NMEAParser;
@@ -523,6 +527,26 @@ public class JetiAdapter extends DeviceConfiguration implements IDevice {
 		reader.start();
 	}
 
+	/**
+	 * @return the *.log and *.jml extentions
+	 */
+	@Override
+	public List<String> getReadableImportExtentions() {
+		return Arrays.asList(GDE.FILE_ENDING_DOT_LOG, GDE.FILE_ENDING_DOT_JML);
+	}
+
+	/**
+	 * read a Jeti *.log or *.jml data file into the active channel without any user interaction
+	 * @param filePath
+	 */
+	@Override
+	public void readImportFile(Path filePath) throws Exception {
+		if (!getReadableImportExtentions().contains(PathUtils.getFileExtention(filePath))) throw new UnsupportedOperationException(filePath.toString());
+
+		String fileName = filePath.getFileName().toString();
+		JetiDataReader.read(filePath.toString(), this, fileName.substring(0, fileName.lastIndexOf(GDE.CHAR_DOT)), null, true);
+	}
+
 	/**
 	 * update the file menu by adding two new entries to export KML/GPX files
 	 * @param exportMenue
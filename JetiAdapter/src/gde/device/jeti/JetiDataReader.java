@@ -393,7 +393,10 @@ public class JetiDataReader {
 			// now display the error message
 			String msg = filePath + GDE.STRING_MESSAGE_CONCAT + Messages.getString(MessageIds.GDE_MSGE0045, new Object[] { e.getMessage(), lineNumber });
 			JetiDataReader.log.log(Level.WARNING, msg, e);
-			JetiDataReader.application.openMessageDialog(msg);
+			if (GDE.isWithUi())
+				JetiDataReader.application.openMessageDialog(msg);
+			else
+				throw new IOException(msg, e);
 		}
 
 		return recordSet;
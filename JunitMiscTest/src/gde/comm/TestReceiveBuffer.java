@@ -0,0 +1,240 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.comm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+import junit.framework.TestCase;
+
+/**
+ * checks the receive buffer against a simulated serial port stream
+ */
+public class TestReceiveBuffer extends TestCase {
+
+	/**
+	 * serial port input stream which delivers the bytes supplied by the test
+	 */
+	static class PortStream extends InputStream {
+		private byte[]	bytes	= new byte[0];
+		private int			position;
+		private byte		nextValue;
+
+		/**
+		 * append bytes with consecutive values
+		 */
+		synchronized void supply(int numBytes) {
+			byte[] newBytes = new byte[this.bytes.length - this.position + numBytes];
+			System.arraycopy(this.bytes, this.position, newBytes, 0, this.bytes.length - this.position);
+			for (int i = this.bytes.length - this.position; i < newBytes.length; i++) {
+				newBytes[i] = this.nextValue++;
+			}
+			this.bytes = newBytes;
+			this.position = 0;
+		}
+
+		@Override
+		public synchronized int available() {
+			return this.bytes.length - this.position;
+		}
+
+		@Override
+		public synchronized int read() {
+			return available() > 0 ? this.bytes[this.position++] & 0xFF : -1;
+		}
+
+		@Override
+		public synchronized int read(byte[] buffer, int offset, int length) {
+			int numBytes = Math.min(length, available());
+			System.arraycopy(this.bytes, this.position, buffer, offset, numBytes);
+			this.position += numBytes;
+			return numBytes;
+		}
+	}
+
+	private PortStream		port;
+	private ReceiveBuffer	receiveBuffer;
+	private byte					expectedValue;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.port = new PortStream();
+		this.receiveBuffer = new ReceiveBuffer(this.port);
+		this.expectedValue = 0;
+	}
+
+	/**
+	 * bytes written across the end of the ring and a capacity increase of a wrapped ring keep their order
+	 */
+	public void testWraparound() throws IOException {
+		this.port.supply(3000);
+		this.receiveBuffer.fill();
+		assertRead(2500);
+
+		this.port.supply(3000); // the tail wraps to the ring start
+		this.receiveBuffer.fill();
+		assertEquals(3500, this.receiveBuffer.available());
+		assertRead(1000);
+
+		this.port.supply(ReceiveBuffer.INITIAL_CAPACITY); // the wrapped ring grows
+		this.receiveBuffer.fill();
+		assertEquals(2500 + ReceiveBuffer.INITIAL_CAPACITY, this.receiveBuffer.available());
+		assertRead(2500 + ReceiveBuffer.INITIAL_CAPACITY - 1);
+		assertEquals(this.expectedValue, (byte) this.receiveBuffer.read());
+		assertEquals(0, this.receiveBuffer.available());
+	}
+
+	/**
+	 * readers return the bytes received within the time out
+	 */
+	public void testTimeout() throws IOException {
+		this.port.supply(3);
+		this.receiveBuffer.fill();
+		long startTime_ms = System.currentTimeMillis();
+		assertEquals(3, this.receiveBuffer.awaitAvailable(10, 50));
+		assertTrue(System.currentTimeMillis() - startTime_ms >= 45);
+
+		byte[] buffer = new byte[10];
+		assertEquals(3, this.receiveBuffer.read(buffer, 0, 10, 50));
+		this.receiveBuffer.setReadTimeout(50);
+		try {
+			this.receiveBuffer.read();
+			fail("a time out is not the end of stream");
+		}
+		catch (InterruptedIOException e) {
+			// expected
+		}
+		assertEquals(0, this.receiveBuffer.read(buffer, 0, 10));
+		assertEquals(-1, this.receiveBuffer.awaitStable(10, 0, 5, 50));
+	}
+
+	/**
+	 * bytes received without event are taken by the reader itself as long as no event arrived
+	 */
+	public void testWithoutEvent() throws IOException {
+		new Thread(() -> {
+			sleep(30);
+			this.port.supply(5);
+		}).start();
+		long startTime_ms = System.currentTimeMillis();
+		assertEquals(5, this.receiveBuffer.awaitAvailable(5, 2000));
+		assertTrue(System.currentTimeMillis() - startTime_ms < 1000);
+	}
+
+	/**
+	 * the event wakes up the waiting reader
+	 */
+	public void testEvent() throws IOException {
+		this.receiveBuffer.fill(); // events are working
+		new Thread(() -> {
+			sleep(30);
+			this.port.supply(5);
+			this.receiveBuffer.fill();
+		}).start();
+		long startTime_ms = System.currentTimeMillis();
+		assertEquals(5, this.receiveBuffer.awaitAvailable(5, 2000));
+		assertTrue(System.currentTimeMillis() - startTime_ms < 1000);
+	}
+
+	/**
+	 * the telegram is finished after the caller's stable time without bytes
+	 */
+	public void testStableTime() throws IOException {
+		final long stable_ms = 40;
+		this.receiveBuffer.fill();
+		new Thread(() -> {
+			for (int i = 0; i < 3; i++) {
+				this.port.supply(10);
+				this.receiveBuffer.fill();
+				sleep(stable_ms / 4); // chunks in shorter intervals than the stable time belong to the same telegram
+			}
+		}).start();
+		long startTime_ms = System.currentTimeMillis();
+		assertEquals(30, this.receiveBuffer.awaitStable(100, 0, stable_ms, 2000));
+		long elapsed_ms = System.currentTimeMillis() - startTime_ms;
+		assertTrue("elapsed " + elapsed_ms, elapsed_ms >= stable_ms + stable_ms / 2);
+		assertTrue("elapsed " + elapsed_ms, elapsed_ms < 1000);
+
+		this.port.supply(50);
+		this.receiveBuffer.fill();
+		startTime_ms = System.currentTimeMillis();
+		assertEquals(80, this.receiveBuffer.awaitStable(80, 0, 1000, 2000)); // expected bytes end the wait immediately
+		assertTrue(System.currentTimeMillis() - startTime_ms < 500);
+		assertEquals(80, this.receiveBuffer.clear());
+	}
+
+	/**
+	 * a short stable time is not extended
+	 */
+	public void testShortStableTime() throws IOException {
+		this.port.supply(10);
+		this.receiveBuffer.fill();
+		sleep(5);
+		long startTime_ms = System.currentTimeMillis();
+		assertEquals(10, this.receiveBuffer.awaitStable(100, 0, 2, 2000));
+		long elapsed_ms = System.currentTimeMillis() - startTime_ms;
+		assertTrue("elapsed " + elapsed_ms, elapsed_ms < 15);
+	}
+
+	/**
+	 * the minimum count postpones the stable decision
+	 */
+	public void testMinCount() throws IOException {
+		this.port.supply(4);
+		this.receiveBuffer.fill();
+		assertEquals(-1, this.receiveBuffer.awaitStable(100, 4, 1, 100));
+	}
+
+	/**
+	 * closing releases the waiting readers
+	 */
+	public void testClose() throws Exception {
+		this.receiveBuffer.fill();
+		Thread closer = new Thread(() -> {
+			sleep(30);
+			this.receiveBuffer.close();
+		});
+		closer.start();
+		long startTime_ms = System.currentTimeMillis();
+		assertEquals(0, this.receiveBuffer.awaitAvailable(1, 5000));
+		assertTrue(System.currentTimeMillis() - startTime_ms < 2000);
+		closer.join();
+		assertEquals(-1, this.receiveBuffer.read());
+		assertEquals(-1, this.receiveBuffer.read(new byte[10], 0, 10));
+	}
+
+	private void assertRead(int numBytes) throws IOException {
+		byte[] buffer = new byte[numBytes];
+		assertEquals(numBytes, this.receiveBuffer.read(buffer, 0, numBytes, 100));
+		for (int i = 0; i < numBytes; i++) {
+			assertEquals("index " + i, this.expectedValue++, buffer[i]);
+		}
+	}
+
+	private static void sleep(long milliSeconds) {
+		try {
+			Thread.sleep(milliSeconds);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.data;
+
+import java.util.Random;
+import java.util.Vector;
+
+import junit.framework.TestCase;
+
+/**
+ * compares the drop area index with the sequential scan of the drop areas formerly done in Record.get(int)
+ */
+public class TestDropAreaIndex extends TestCase {
+
+	public void testOverlappingAreas() {
+		Random random = new Random(815);
+		Vector<Integer[]> dropAreas = new Vector<>();
+		DropAreaIndex dropAreaIndex = new DropAreaIndex(dropAreas);
+		for (int round = 0; round < 3; round++) {
+			for (int k = 0; k < 200; k++) {
+				int start = random.nextInt(10000);
+				dropAreas.add(new Integer[] { start, start + random.nextInt(50) });
+			}
+			for (int index = -1; index < 10100; index++) {
+				Integer[] expected = null;
+				for (Integer[] dropArea : dropAreas) { // the last matching area wins as formerly in Record.get(int)
+					if (dropArea[0] <= index && dropArea[1] >= index) expected = dropArea;
+				}
+				assertSame(expected, dropAreaIndex.find(index));
+			}
+		}
+		dropAreas.clear();
+		dropAreaIndex.invalidate();
+		assertNull(dropAreaIndex.find(100));
+	}
+}
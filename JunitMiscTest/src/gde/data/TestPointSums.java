@@ -0,0 +1,270 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.data;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.Vector;
+
+import gde.data.Record.TriggerRange;
+import gde.device.IDevice;
+import junit.framework.TestCase;
+
+/**
+ * compares the prefix sums and the record statistics based on them with naive loops over the points
+ */
+public class TestPointSums extends TestCase {
+
+	private final Random random = new Random(4711);
+
+	public void testRandomRanges() {
+		PointStore store = new PointStore(0);
+		PointSums sums = new PointSums(store);
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < 10000; i++) {
+				store.add(i % 7 == 0 ? 0 : this.random.nextInt(2000000) - 1000000);
+			}
+			for (int k = 0; k < 500; k++) {
+				int from = this.random.nextInt(store.size() + 1);
+				int to = from + this.random.nextInt(store.size() - from + 1);
+				assertRange(store, sums, from, to);
+			}
+		}
+	}
+
+	/**
+	 * queries starting or ending at and next to the 32 point block boundaries while the points are appended one by one
+	 */
+	public void testBlockBoundaries() {
+		PointStore store = new PointStore(0);
+		PointSums sums = new PointSums(store);
+		for (int size = 0; size <= 4 * PointSums.BLOCK_SIZE + 1; size++) {
+			for (int from = 0; from <= size; from++) {
+				for (int to = from; to <= size; to++) {
+					boolean isNearBoundary = isNearBoundary(from) || isNearBoundary(to) || to == size;
+					if (isNearBoundary) assertRange(store, sums, from, to);
+				}
+			}
+			store.add(size % 5 == 0 ? 0 : this.random.nextInt(100000));
+		}
+		sums.update();
+		assertEquals(store.size(), sums.size());
+	}
+
+	/**
+	 * a point replaced after the aggregation causes a rebuild
+	 */
+	public void testRewrite() {
+		PointStore store = new PointStore(0);
+		PointSums sums = new PointSums(store);
+		for (int i = 0; i < 100; i++) {
+			store.add(i + 1);
+		}
+		assertEquals(5050, sums.getSum(0, 100));
+		store.set(40, 0);
+		assertEquals(5050 - 41, sums.getSum(0, 100));
+		assertEquals(99, sums.getNonZeroCount(0, 100));
+		assertRange(store, sums, 33, 64);
+	}
+
+	public void testOutOfRange() {
+		PointStore store = new PointStore(0);
+		PointSums sums = new PointSums(store);
+		store.add(1);
+		try {
+			sums.getSum(0, 2);
+			fail("Should throw an exception");
+		} catch (ArrayIndexOutOfBoundsException e) {
+			//
+		}
+	}
+
+	/**
+	 * short ranges of GPS like coordinates with small deviations far away from the first point must not cancel out
+	 */
+	public void testLargeMagnitude() {
+		PointStore store = new PointStore(0);
+		PointSums sums = new PointSums(store);
+		for (int i = 0; i < 20000; i++) {
+			store.add(i < 10 ? 0 : 48123456 + i * 50 + this.random.nextInt(7) - 3); // a long drift with small noise
+		}
+		for (int k = 0; k < 300; k++) {
+			int from = 10 + this.random.nextInt(store.size() - 10);
+			int to = Math.min(store.size(), from + 2 + this.random.nextInt(30));
+			assertRange(store, sums, from, to);
+		}
+		for (int i = 0; i < 2000; i++) {
+			store.add(-1000000000 + (i & 1)); // constant far away from the reference
+		}
+		assertRange(store, sums, store.size() - 100, store.size());
+		assertDeviations("constant", store, sums, store.size() - 2, store.size(), -1000000000);
+	}
+
+	/**
+	 * the sigma of absolute altitudes matches the point by point formula of the former record loop
+	 */
+	public void testRecordSigmaOfLargeValues() {
+		Record record = createRecord();
+		for (int i = 0; i < 5000; i++) {
+			record.add(i % 13 == 0 ? 0 : 2100000000 - i * 1000 + this.random.nextInt(5));
+		}
+		double average = record.getAvgValue() / 1000.;
+		double sumPoweredValues = 0;
+		int nonZeroCount = 0;
+		for (int i = 0; i < record.realSize(); i++) {
+			if (record.realGet(i) != 0) {
+				sumPoweredValues += (record.realGet(i) / 1000. - average) * (record.realGet(i) / 1000. - average);
+				nonZeroCount++;
+			}
+		}
+		assertEquals((int) (Math.sqrt(sumPoweredValues / (nonZeroCount - 1)) * 1000), record.getSigmaValue(), 1);
+
+		Vector<TriggerRange> triggerRanges = new Vector<>();
+		triggerRanges.add(new TriggerRange(100, 104));
+		triggerRanges.add(new TriggerRange(4000, 4003));
+		record.setTriggerRanges(triggerRanges);
+		record.setAvgValueTriggered();
+		double averageTriggered = record.getAvgValueTriggered() / 1000.;
+		double sumPoweredDeviations = 0;
+		int numPoints = 0;
+		for (TriggerRange range : triggerRanges) {
+			for (int i = range.in; i < range.out; i++) {
+				sumPoweredDeviations += Math.pow(record.realGet(i) / 1000.0 - averageTriggered, 2);
+				numPoints++;
+			}
+		}
+		record.setSigmaValueTriggered();
+		assertEquals((int) (Math.sqrt(sumPoweredDeviations / (numPoints - 1)) * 1000), record.getSigmaValueTriggered(), 1);
+	}
+
+	/**
+	 * the record average and sigma discard zero points
+	 */
+	public void testRecordAverageSigma() {
+		Record record = createRecord();
+		for (int i = 0; i < 5000; i++) {
+			record.add(i % 11 == 0 ? 0 : 12000 + this.random.nextInt(2000));
+		}
+
+		long sum = 0;
+		int nonZeroCount = 0;
+		for (int i = 0; i < record.realSize(); i++) {
+			sum += record.realGet(i);
+			if (record.realGet(i) != 0) nonZeroCount++;
+		}
+		int avgValue = (int) (sum / nonZeroCount);
+		assertEquals(avgValue, record.getAvgValue());
+
+		double average = avgValue / 1000.;
+		double sumPoweredValues = 0;
+		for (int i = 0; i < record.realSize(); i++) {
+			if (record.realGet(i) != 0) sumPoweredValues += (record.realGet(i) / 1000. - average) * (record.realGet(i) / 1000. - average);
+		}
+		assertEquals((int) (Math.sqrt(sumPoweredValues / (nonZeroCount - 1)) * 1000), record.getSigmaValue(), 1);
+
+		for (int k = 0; k < 200; k++) {
+			int indexStart = this.random.nextInt(record.realSize()) - 10;
+			int indexEnd = indexStart + this.random.nextInt(200);
+			long rangeSum = 0;
+			int zeroCount = 0;
+			for (int i = Math.max(0, indexStart); i <= indexEnd && i < record.realSize(); ++i) {
+				rangeSum += record.realGet(i);
+				if (record.realGet(i) == 0) zeroCount++;
+			}
+			int indexDelta = indexEnd - indexStart + 1;
+			int expected = (indexDelta - zeroCount) > 0 ? (int) (rangeSum / (indexDelta - zeroCount)) : 0;
+			assertEquals(expected, record.getAvgValue(indexStart, indexEnd));
+		}
+	}
+
+	/**
+	 * an empty trigger range adds the min/max delta of the preceding range once more, as the former point loop did
+	 */
+	public void testCalculateSumOfEmptyRange() {
+		Record record = createRecord();
+		for (int i = 0; i < 100; i++) {
+			record.add(1000 + i * i);
+		}
+		Vector<TriggerRange> triggerRanges = new Vector<>();
+		triggerRanges.add(new TriggerRange(10, 20));
+		triggerRanges.add(new TriggerRange(50, 50));
+		triggerRanges.add(new TriggerRange(60, 70));
+		triggerRanges.add(new TriggerRange(99, 150)); // beyond the record size
+		record.setTriggerRanges(triggerRanges);
+
+		int expected = 0;
+		int min = 0, max = 0;
+		for (TriggerRange range : triggerRanges) {
+			for (int i = range.in; i < range.out && i < record.realSize(); i++) {
+				if (i == range.in)
+					min = max = record.realGet(i);
+				else {
+					min = Math.min(min, record.realGet(i));
+					max = Math.max(max, record.realGet(i));
+				}
+			}
+			expected += max - min;
+		}
+		assertEquals(2 * (19 * 19 - 10 * 10) + 69 * 69 - 60 * 60, expected);
+		assertEquals(expected, record.calculateSum());
+	}
+
+	private static boolean isNearBoundary(int index) {
+		int offset = index & PointSums.BLOCK_MASK;
+		return offset <= 1 || offset == PointSums.BLOCK_MASK;
+	}
+
+	private static void assertRange(PointStore store, PointSums sums, int from, int to) {
+		long sum = 0;
+		int nonZeroCount = 0;
+		for (int i = from; i < to; i++) {
+			int value = store.getInt(i);
+			sum += value;
+			if (value != 0) nonZeroCount++;
+		}
+		double average = nonZeroCount > 0 ? (double) sum / nonZeroCount : 0.;
+		String range = from + ".." + to;
+		assertEquals(range, sum, sums.getSum(from, to));
+		assertDeviations(range, store, sums, from, to, average);
+		assertDeviations(range, store, sums, from, to, average + 1234.5);
+		assertEquals(range, nonZeroCount, sums.getNonZeroCount(from, to));
+	}
+
+	private static void assertDeviations(String range, PointStore store, PointSums sums, int from, int to, double value) {
+		double deviations = 0.;
+		for (int i = from; i < to; i++) {
+			if (store.getInt(i) != 0) deviations += (store.getInt(i) - value) * (store.getInt(i) - value);
+		}
+		assertEquals(range + " @" + value, deviations, sums.getSumOfSquaredDeviations(from, to, value), Math.max(1e-6, deviations * 1e-9));
+	}
+
+	/**
+	 * @return a record without parent whose device only provides the default smoothing
+	 */
+	private static Record createRecord() {
+		IDevice device = (IDevice) Proxy.newProxyInstance(IDevice.class.getClassLoader(), new Class<?>[] { IDevice.class }, (proxy, method, args) -> {
+			Class<?> returnType = method.getReturnType();
+			return returnType.isPrimitive() && returnType != void.class ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+		});
+		return new Record(device, 0, "Spannung", "U", "V", true, null, new ArrayList<>(), 100);
+	}
+
+}
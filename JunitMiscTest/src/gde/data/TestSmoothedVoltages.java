@@ -0,0 +1,61 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.data;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * compares the smoothed voltages with the window smoothing formerly done in Record.get(int)
+ */
+public class TestSmoothedVoltages extends TestCase {
+
+	public void testPulsedVoltage() {
+		Random random = new Random(4711);
+		PointStore store = new PointStore(0);
+		int windowSize = 9;
+		SmoothedVoltages smoothed = new SmoothedVoltages(store, windowSize);
+		int[] window = new int[windowSize];
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < 5000; i++) {
+				store.add(4000000 + random.nextInt(200000) - (i % 5 == 0 ? 300000 : 0)); // pulsed voltage
+			}
+			for (int index = 0; index < store.size(); index++) {
+				int expected = store.getInt(index);
+				if (index >= windowSize) { // smoothing as formerly done in Record.get(int)
+					int average = 0;
+					for (int i = index - windowSize + 1, j = 0; i <= index; ++i, ++j) {
+						window[j] = store.getInt(i);
+						average += window[j];
+					}
+					average /= windowSize;
+					int i = windowSize - 1;
+					while (i >= 0 && window[i] > average)
+						--i;
+					expected = window[i];
+				}
+				assertEquals(expected, smoothed.getInt(index));
+			}
+			int index = windowSize + random.nextInt(store.size() - windowSize);
+			store.set(index, 0); // forces a rebuild
+			assertEquals(0, smoothed.getInt(index));
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.device.ardupilot;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import gde.io.CSVTokenizer;
+import junit.framework.TestCase;
+
+/**
+ * compares the tokenizer based point values of the log reader with the former string based conversion
+ * {@code Integer.parseInt("" + ArduPilot.parseValue(fmt, value))} for all format characters
+ */
+public class TestArduPilotParseValue extends TestCase {
+
+	private static final String	FORMATS	= "abBMhHiIfdnNZcCeELqQ";
+
+	private static final String[]	COMMON_VALUES	= { "0", "1", "-1", "+5", "127", "-128", "128", "-129", "255", "32767", "-32768", "32768", "65535", "2147483", "-2147483", "2147484",
+			"-2147484", "2147483647", "-2147483648", "2147483648", "9223372036854775", "9223372036854775807", "-9223372036854775808", "9223372036854775808", "1.5", "-0.5", "12.34",
+			"-327.68", "327.67", "327.68", "52.1234567", "-180.0000000", "21474.83647", "21474.83648", "1.2.3", "1e3", "NaN", "-", ".", "abc", "abcdefghijklmnopq" };
+
+	private final Random				random	= new Random(4711);
+
+	public void testCommonValues() throws IOException {
+		for (char fmt : FORMATS.toCharArray()) {
+			assertEquivalent(fmt, COMMON_VALUES);
+		}
+	}
+
+	/**
+	 * float values next to integers where the rounding of the double value to float might differ from the float parsing
+	 */
+	public void testFloatNearIntegers() throws IOException {
+		List<String> values = new ArrayList<>();
+		for (int i = -2000; i <= 2000; i++) {
+			float integer = i;
+			for (float value : new float[] { Math.nextDown(integer), integer, Math.nextUp(integer), Math.nextDown(Math.nextDown(integer)), Math.nextUp(Math.nextUp(integer)) }) {
+				values.add(Float.toString(value));
+				values.add(Double.toString(value));
+				values.add(String.format(Locale.ENGLISH, "%.9f", (double) value));
+			}
+			values.add(String.format(Locale.ENGLISH, "%.9f", i - 1e-9));
+			values.add(String.format(Locale.ENGLISH, "%.9f", i + 1e-9));
+			values.add(i + ".99999997");
+			values.add(i + ".99999999");
+		}
+		for (float integer : new float[] { 16777215f, 16777216f, 16777217f, 33554431f, 2147483520f, 2147483647f, 1e10f }) {
+			values.add(Float.toString(Math.nextDown(integer)));
+			values.add(String.format(Locale.ENGLISH, "%.1f", (double) integer - 0.5));
+			values.add(String.format(Locale.ENGLISH, "%.1f", (double) integer + 0.5));
+			values.add(String.format(Locale.ENGLISH, "%.6f", (double) integer + 0.9999999));
+		}
+		assertEquivalent('f', values.toArray(new String[0]));
+	}
+
+	/**
+	 * random values of the formats which are scaled by 1000, including values which exceed the int range after scaling
+	 */
+	public void testRandomValues() throws IOException {
+		List<String> values = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			values.add(Long.toString(this.random.nextLong() >> this.random.nextInt(64)));
+			values.add(String.format(Locale.ENGLISH, "%." + this.random.nextInt(8) + "f", (this.random.nextDouble() - 0.5) * Math.pow(10, this.random.nextInt(12))));
+			values.add(Float.toString((this.random.nextFloat() - 0.5f) * (float) Math.pow(10, this.random.nextInt(10))));
+		}
+		for (char fmt : FORMATS.toCharArray()) {
+			assertEquivalent(fmt, values.toArray(new String[0]));
+		}
+	}
+
+	/**
+	 * 'q' and 'Q' values whose scaling by 1000 exceeds the int range or wraps around the long range
+	 */
+	public void testInt64Overflow() throws IOException {
+		List<String> values = new ArrayList<>();
+		for (long value : new long[] { Integer.MAX_VALUE / 1000, Integer.MAX_VALUE / 1000 + 1, Integer.MIN_VALUE / 1000, Integer.MIN_VALUE / 1000 - 1, Long.MAX_VALUE / 1000,
+				Long.MAX_VALUE / 1000 + 1, Long.MIN_VALUE / 1000 - 1, Long.MAX_VALUE, Long.MIN_VALUE, 0x4000000000000000L, 0x8000000000000L, 0x8000000000000L + 1 }) {
+			values.add(Long.toString(value));
+			values.add(Long.toString(-value));
+		}
+		for (int i = 0; i < 64; i++) { // values wrapping to the int range after the long overflow
+			values.add(Long.toString(Long.MAX_VALUE / 500 * i / 64 + i));
+		}
+		values.add("18446744073709551615");
+		assertEquivalent('q', values.toArray(new String[0]));
+		assertEquivalent('Q', values.toArray(new String[0]));
+	}
+
+	/**
+	 * parse one log line with all values in the format like the log reader does and compare each value with the former conversion
+	 */
+	private static void assertEquivalent(char fmt, String[] values) throws IOException {
+		StringBuilder sb = new StringBuilder("TEST");
+		for (String value : values) {
+			sb.append(", ").append(value);
+		}
+		String line = sb.toString();
+
+		try (CSVTokenizer reader = new CSVTokenizer(new ByteArrayInputStream(line.getBytes(StandardCharsets.ISO_8859_1)), ',')) {
+			assertTrue(reader.nextLine());
+			String[] fields = line.split(", ");
+			assertEquals(fields.length, reader.getFieldCount());
+			for (int i = 1; i < fields.length; i++) {
+				String message = fmt + " " + fields[i];
+				Integer expected;
+				try {
+					expected = Integer.parseInt("" + ArduPilot.parseValue(String.valueOf(fmt), fields[i]));
+				}
+				catch (NumberFormatException | IndexOutOfBoundsException e) {
+					expected = null; // the former reader skipped the value
+				}
+				try {
+					int value = ArduPilotLogReader.parseValue(fmt, reader, i);
+					assertNotNull(message + " -> " + value, expected);
+					assertEquals(message, expected.intValue(), value);
+				}
+				catch (NumberFormatException e) {
+					assertNull(message, expected);
+				}
+			}
+		}
+	}
+}
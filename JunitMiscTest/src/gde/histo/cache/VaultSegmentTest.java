@@ -0,0 +1,337 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+
+package gde.histo.cache;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gde.DataAccess;
+import gde.GDE;
+import gde.config.Settings;
+import gde.device.ScoreLabelTypes;
+import gde.device.TrailTypes;
+import gde.histo.base.BasicTestCase;
+
+/**
+ * Round trip, corruption and concurrency checks of the binary vault segment in a temporary cache directory.
+ * @author agent
+ */
+class VaultSegmentTest extends BasicTestCase {
+
+	private final DataAccess	dataAccess	= DataAccess.getInstance();
+	private String						vaultDirectoryName;
+
+	@Override
+	@BeforeEach
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.vaultDirectoryName = VaultSegmentTest.class.getSimpleName() + System.nanoTime();
+	}
+
+	@Override
+	@AfterEach
+	protected void tearDown() throws Exception {
+		Path directory = getCachePath();
+		if (Files.exists(directory)) {
+			try (Stream<Path> files = Files.list(directory)) {
+				for (Path file : files.collect(Collectors.toList())) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(directory);
+		}
+		super.tearDown();
+	}
+
+	@Test
+	void testEncodeDecode() throws IOException {
+		for (int i = 0; i < 10; i++) {
+			HistoVault vault = createVault(i);
+			byte[] entry = VaultSegment.encode(vault);
+			assertTrue(Arrays.equals(entry, VaultSegment.encode(VaultSegment.decode(ByteBuffer.wrap(entry)))));
+		}
+		HistoVault emptyVault = new HistoVault();
+		byte[] entry = VaultSegment.encode(emptyVault);
+		HistoVault decodedVault = VaultSegment.decode(ByteBuffer.wrap(entry));
+		assertNull(decodedVault.vaultName);
+		assertTrue(Arrays.equals(entry, VaultSegment.encode(decodedVault)));
+	}
+
+	@Test
+	void testStoreLoad() throws IOException {
+		VaultSegment segment = new VaultSegment(dataAccess, vaultDirectoryName);
+		assertFalse(segment.exists());
+		assertTrue(segment.load(null).isEmpty());
+
+		List<HistoVault> vaults = createVaults(0, 20);
+		segment.store(vaults.subList(0, 12));
+		segment.store(vaults.subList(12, 20));
+		assertTrue(segment.exists());
+		assertEquals(getNames(vaults), new ArrayList<>(segment.getVaultNames()));
+		assertVaults(vaults, segment.load(null));
+
+		List<String> selectedNames = Arrays.asList(vaults.get(3).vaultName, vaults.get(15).vaultName, "unknown");
+		Map<String, HistoVault> selectedVaults = new VaultSegment(dataAccess, vaultDirectoryName).load(selectedNames);
+		assertVaults(Arrays.asList(vaults.get(3), vaults.get(15)), selectedVaults);
+	}
+
+	@Test
+	void testStoreAgain() throws IOException {
+		VaultSegment segment = new VaultSegment(dataAccess, vaultDirectoryName);
+		List<HistoVault> vaults = createVaults(0, 10);
+		segment.store(vaults);
+		HistoVault changedVault = createVault(4);
+		changedVault.logFileLength = 4711;
+		segment.store(Arrays.asList(changedVault));
+
+		vaults.set(4, changedVault);
+		assertEquals(10, segment.getVaultNames().size());
+		assertVaults(vaults, segment.load(null));
+	}
+
+	@Test
+	void testCompact() throws IOException {
+		VaultSegment segment = new VaultSegment(dataAccess, vaultDirectoryName);
+		List<HistoVault> vaults = createVaults(0, 10);
+		for (int i = 0; i < 5; i++) {
+			segment.store(vaults);
+		}
+		long liveLength = getEncodedLength(vaults);
+		assertEquals(5 * liveLength, Files.size(getCachePath().resolve(VaultSegment.SEGMENT_FILE_NAME)));
+
+		segment.compact();
+		assertEquals(liveLength, Files.size(getCachePath().resolve(VaultSegment.SEGMENT_FILE_NAME)));
+		assertEquals(getNames(vaults), new ArrayList<>(segment.getVaultNames()));
+		assertVaults(vaults, segment.load(null));
+	}
+
+	/**
+	 * Storing the same vaults again and again keeps the garbage below the size of the live entries or the compaction threshold.
+	 */
+	@Test
+	void testCompactOnStore() throws IOException {
+		VaultSegment segment = new VaultSegment(dataAccess, vaultDirectoryName);
+		List<HistoVault> vaults = createVaults(0, 100);
+		long liveLength = getEncodedLength(vaults);
+		int storeCount = (int) (3 * VaultSegment.COMPACTION_MIN_GARBAGE / liveLength) + 2;
+		for (int i = 0; i < storeCount; i++) {
+			segment.store(vaults);
+			long segmentSize = Files.size(getCachePath().resolve(VaultSegment.SEGMENT_FILE_NAME));
+			assertTrue("segment not compacted " + segmentSize, segmentSize <= liveLength + Math.max(liveLength, VaultSegment.COMPACTION_MIN_GARBAGE));
+		}
+		assertVaults(vaults, segment.load(null));
+	}
+
+	/**
+	 * An incomplete index entry left by an interrupted store loses this entry only and is overwritten by the next store.
+	 */
+	@Test
+	void testTruncatedIndex() throws IOException {
+		VaultSegment segment = new VaultSegment(dataAccess, vaultDirectoryName);
+		List<HistoVault> vaults = createVaults(0, 5);
+		segment.store(vaults);
+		try (FileChannel channel = dataAccess.getCacheFileChannel(vaultDirectoryName, VaultSegment.INDEX_FILE_NAME, WRITE)) {
+			channel.truncate(channel.size() - 3);
+		}
+		assertVaults(vaults.subList(0, 4), segment.load(null));
+
+		List<HistoVault> moreVaults = createVaults(5, 7);
+		segment.store(moreVaults);
+		List<HistoVault> expectedVaults = new ArrayList<>(vaults.subList(0, 4));
+		expectedVaults.addAll(moreVaults);
+		assertVaults(expectedVaults, segment.load(null));
+	}
+
+	/**
+	 * An index without the header is not read and the next store starts a new segment.
+	 */
+	@Test
+	void testUnsupportedIndex() throws IOException {
+		VaultSegment segment = new VaultSegment(dataAccess, vaultDirectoryName);
+		segment.store(createVaults(0, 5));
+		try (FileChannel channel = dataAccess.getCacheFileChannel(vaultDirectoryName, VaultSegment.INDEX_FILE_NAME, WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 0, 8 }), 0);
+		}
+		assertTrue(segment.load(null).isEmpty());
+
+		List<HistoVault> vaults = createVaults(5, 8);
+		segment.store(vaults);
+		assertEquals(getEncodedLength(vaults), Files.size(getCachePath().resolve(VaultSegment.SEGMENT_FILE_NAME)));
+		assertVaults(vaults, segment.load(null));
+	}
+
+	/**
+	 * Corrupt entries are skipped, entries beyond the segment end are not loaded.
+	 */
+	@Test
+	void testCorruptSegment() throws IOException {
+		VaultSegment segment = new VaultSegment(dataAccess, vaultDirectoryName);
+		List<HistoVault> vaults = createVaults(0, 5);
+		segment.store(vaults);
+		long lastEntryLength = VaultSegment.encode(vaults.get(4)).length;
+		try (FileChannel channel = dataAccess.getCacheFileChannel(vaultDirectoryName, VaultSegment.SEGMENT_FILE_NAME, WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 0 }), 0);
+			channel.truncate(channel.size() - lastEntryLength / 2);
+		}
+		assertEquals(4, segment.loadEntries(null).size());
+		assertVaults(vaults.subList(1, 4), segment.load(null));
+	}
+
+	/**
+	 * Random bytes following a valid entry header must be rejected and must not trigger huge allocations.
+	 */
+	@Test
+	void testDecodeGarbage() throws IOException {
+		Random random = new Random(4711);
+		byte[] validEntry = VaultSegment.encode(createVault(1));
+		for (int i = 0; i < 10000; i++) {
+			byte[] entry = Arrays.copyOf(validEntry, random.nextInt(validEntry.length));
+			int garbageStart = Math.min(entry.length, 5 + random.nextInt(validEntry.length));
+			for (int j = garbageStart; j < entry.length; j++) {
+				entry[j] = (byte) random.nextInt();
+			}
+			try {
+				VaultSegment.decode(ByteBuffer.wrap(entry));
+			} catch (BufferUnderflowException | IllegalArgumentException e) {
+				// expected for almost all entries
+			}
+		}
+	}
+
+	/**
+	 * Parallel stores and loads of independent segment instances for the same vault directory.
+	 */
+	@Test
+	void testConcurrentStoreLoad() throws Exception {
+		List<HistoVault> vaults = createVaults(0, 200);
+		ExecutorService executor = Executors.newFixedThreadPool(6);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int k = 0; k < 4; k++) {
+				List<HistoVault> threadVaults = vaults.subList(k * 50, (k + 1) * 50);
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < threadVaults.size(); i += 5) {
+						new VaultSegment(dataAccess, vaultDirectoryName).store(threadVaults.subList(i, i + 5));
+					}
+					return null;
+				}));
+			}
+			for (int k = 0; k < 2; k++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 20; i++) {
+						for (HistoVault loadedVault : new VaultSegment(dataAccess, vaultDirectoryName).load(null).values()) {
+							int ordinal = Integer.parseInt(loadedVault.vaultName.substring(5));
+							assertTrue(Arrays.equals(VaultSegment.encode(vaults.get(ordinal)), VaultSegment.encode(loadedVault)));
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertVaults(vaults, new VaultSegment(dataAccess, vaultDirectoryName).load(null));
+	}
+
+	private Path getCachePath() {
+		return Paths.get(GDE.APPL_HOME_PATH, Settings.HISTO_CACHE_ENTRIES_DIR_NAME, vaultDirectoryName);
+	}
+
+	private static void assertVaults(List<HistoVault> expectedVaults, Map<String, HistoVault> loadedVaults) throws IOException {
+		assertEquals(expectedVaults.size(), loadedVaults.size());
+		for (HistoVault vault : expectedVaults) {
+			HistoVault loadedVault = loadedVaults.get(vault.vaultName);
+			assertNotNull(vault.vaultName + " not loaded", loadedVault);
+			assertTrue(vault.vaultName, Arrays.equals(VaultSegment.encode(vault), VaultSegment.encode(loadedVault)));
+		}
+	}
+
+	private static List<String> getNames(List<HistoVault> vaults) {
+		return vaults.stream().map(v -> v.vaultName).collect(Collectors.toList());
+	}
+
+	private static long getEncodedLength(List<HistoVault> vaults) throws IOException {
+		long length = 0;
+		for (HistoVault vault : vaults) {
+			length += VaultSegment.encode(vault).length;
+		}
+		return length;
+	}
+
+	private static List<HistoVault> createVaults(int fromOrdinal, int toOrdinal) {
+		return IntStream.range(fromOrdinal, toOrdinal).mapToObj(VaultSegmentTest::createVault).collect(Collectors.toList());
+	}
+
+	/**
+	 * @return a vault with measurements, settlements and scores and a name with non ASCII characters
+	 */
+	private static HistoVault createVault(int ordinal) {
+		HistoVault vault = new HistoVault();
+		vault.vaultName = "vault" + ordinal;
+		vault.vaultDirectory = "Gerät_Übersicht";
+		vault.vaultCreated_ms = 1_500_000_000_000L + ordinal;
+		vault.vaultDeviceName = "HoTTAdapter";
+		vault.vaultChannelNumber = 1 + ordinal % 3;
+		vault.logFilePath = "/data/flüge/" + ordinal + ".bin";
+		vault.logFileLength = 100_000L * ordinal;
+		vault.logRecordSetOrdinal = ordinal;
+		for (int i = 0; i < 6; i++) {
+			CompartmentType measurement = new CompartmentType(i, "Spannung " + i, i % 2 == 0 ? DataTypes.VOLTAGE : null);
+			for (TrailTypes trailType : TrailTypes.VALUES) {
+				measurement.addPoint(trailType, ordinal * 1000 + i * 10 + trailType.ordinal());
+			}
+			if (i == 2) measurement.outlierPoints = "1,2,3";
+			vault.getMeasurements().put(i, measurement);
+		}
+		CompartmentType settlement = new CompartmentType(101, "Transition", DataTypes.DEFAULT);
+		settlement.addPoint(TrailTypes.AVG, -ordinal);
+		vault.getSettlements().put(101, settlement);
+		for (ScoreLabelTypes scoreLabelType : ScoreLabelTypes.VALUES) {
+			vault.getScores().put(scoreLabelType.ordinal(), new PointType(scoreLabelType.ordinal(), scoreLabelType.name(), ordinal + scoreLabelType.ordinal()));
+		}
+		return vault;
+	}
+
+}
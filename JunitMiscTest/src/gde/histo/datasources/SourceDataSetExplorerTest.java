@@ -19,16 +19,26 @@
 
 package gde.histo.datasources;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import gde.histo.base.NonUiTestCase;
+import gde.histo.cache.VaultCollector;
 import gde.histo.datasources.HistoSet.RebuildStep;
+import gde.histo.datasources.SourceFolders.DirectoryType;
 
 /**
  *
@@ -105,4 +115,50 @@ class SourceDataSetExplorerTest extends NonUiTestCase {
 			fail("directory not accessible");
 		}
 	}
+
+	/**
+	 * Patch the trusses with a deleted and a recreated log file.
+	 * The patched trusses match the trusses of a full screening.
+	 */
+	@Test
+	public void testPatch4Trusses() throws Exception {
+		setDeviceChannelObject("HoTTAdapter", 3, "");
+
+		DirectoryScanner directoryScanner = new DirectoryScanner(analyzer);
+		directoryScanner.isValidated(RebuildStep.F_FILE_CHECK);
+		Map<Path, Set<DirectoryType>> pathsWithPermissions = directoryScanner.getSourceFolders().getMap();
+		SourceDataSetExplorer sourceDataSetExplorer = new SourceDataSetExplorer(analyzer, directoryScanner.getSourceFolders(), false);
+		sourceDataSetExplorer.screen4Trusses(pathsWithPermissions, true);
+
+		Path logFile = sourceDataSetExplorer.getTrusses().stream().map(VaultCollector::getVault) //
+				.filter(v -> v.getLoadLinkPath().toString().isEmpty()).map(v -> v.getLoadFileAsPath()) //
+				.findFirst().orElseThrow(() -> new AssertionError("no log file with trusses"));
+		Path movedFile = Files.createTempDirectory("patch4Trusses").resolve(logFile.getFileName());
+		Files.move(logFile, movedFile);
+		try {
+			List<VaultCollector> trusses = sourceDataSetExplorer.patch4Trusses(pathsWithPermissions, Collections.emptySet(), Collections.singleton(logFile));
+			Assertions.assertTrue(trusses.isEmpty(), "trusses of the deleted file");
+			Assertions.assertEquals(getScreenedVaultNames(directoryScanner), getVaultNames(sourceDataSetExplorer.getTrusses()), "trusses after delete");
+		} finally {
+			Files.move(movedFile, logFile);
+			Files.delete(movedFile.getParent());
+		}
+
+		List<VaultCollector> trusses = sourceDataSetExplorer.patch4Trusses(pathsWithPermissions, Collections.singleton(logFile), Collections.emptySet());
+		Assertions.assertFalse(trusses.isEmpty(), "trusses of the recreated file");
+		Assertions.assertEquals(getScreenedVaultNames(directoryScanner), getVaultNames(sourceDataSetExplorer.getTrusses()), "trusses after create");
+	}
+
+	/**
+	 * @return the vault names of a full screening
+	 */
+	private Set<String> getScreenedVaultNames(DirectoryScanner directoryScanner) {
+		SourceDataSetExplorer sourceDataSetExplorer = new SourceDataSetExplorer(analyzer, directoryScanner.getSourceFolders(), false);
+		sourceDataSetExplorer.screen4Trusses(directoryScanner.getSourceFolders().getMap(), true);
+		return getVaultNames(sourceDataSetExplorer.getTrusses());
+	}
+
+	private static Set<String> getVaultNames(List<VaultCollector> trusses) {
+		return trusses.stream().map(t -> t.getVault().getVaultName() + t.getVault().getLoadLinkPath()).collect(Collectors.toSet());
+	}
 }
@@ -0,0 +1,129 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+
+package gde.histo.datasources;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gde.GDE;
+import gde.histo.base.NonUiTestCase;
+import gde.histo.datasources.HistoSet.RebuildStep;
+import gde.histo.utils.PathUtils;
+
+/**
+ * Incremental update of the picked vaults with the log file changes of the directory watcher.
+ * @author agent
+ */
+class VaultPickerTest extends NonUiTestCase {
+	private final static String				$CLASS_NAME			= VaultPickerTest.class.getName();
+	private final static Logger				log							= Logger.getLogger($CLASS_NAME);
+
+	private final static List<String>	LOG_EXTENTIONS	= Arrays.asList(GDE.FILE_ENDING_DOT_BIN, GDE.FILE_ENDING_DOT_OSD);
+
+	@Override
+	@BeforeEach
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+	}
+
+	@Override
+	@AfterEach
+	public void tearDown() throws Exception {
+		DirectoryScanner.closeWatchDir();
+		super.tearDown();
+	}
+
+	/**
+	 * Patch the vaults with a deleted and a recreated log file.
+	 * The patched vaults match the vaults of a full rescan.
+	 */
+	@Test
+	void testPatchVaults() throws Exception {
+		settings.setSourceFileListenerActive(true);
+		setDeviceChannelObject("HoTTAdapter", 3, "");
+
+		VaultPicker vaultPicker = new VaultPicker();
+		vaultPicker.rebuild4Screening(RebuildStep.B_HISTOVAULTS);
+		VaultPicker fullPicker = rescan();
+		assertEqualVaults("initial", fullPicker, vaultPicker);
+
+		Path logFile = null;
+		try (Stream<Path> files = vaultPicker.getSourceFolders().values().stream().flatMap(Collection::stream).flatMap(VaultPickerTest::walk)) {
+			logFile = files.filter(p -> LOG_EXTENTIONS.contains(PathUtils.getFileExtention(p))).findFirst().orElseThrow(() -> new AssertionError("no log file"));
+		}
+		Path movedFile = Files.createTempDirectory("patchVaults").resolve(logFile.getFileName());
+		Files.move(logFile, movedFile);
+		try {
+			Thread.sleep(WatchDir.DELAY * 11 / 10); // wait 10% longer than the DELAY
+			assertTrue("vaults patched after delete", vaultPicker.rebuild4Screening(RebuildStep.F_FILE_CHECK));
+			assertEqualVaults("after delete", rescan(), vaultPicker);
+		} finally {
+			Files.move(movedFile, logFile);
+			Files.delete(movedFile.getParent());
+		}
+
+		Thread.sleep(WatchDir.DELAY * 11 / 10);
+		assertTrue("vaults patched after create", vaultPicker.rebuild4Screening(RebuildStep.F_FILE_CHECK));
+		assertEqualVaults("after create", fullPicker, vaultPicker);
+	}
+
+	/**
+	 * @return the vault picker after a full rescan which does not use the directory watcher
+	 */
+	private VaultPicker rescan() throws Exception {
+		settings.setSourceFileListenerActive(false);
+		try {
+			VaultPicker vaultPicker = new VaultPicker();
+			vaultPicker.rebuild4Screening(RebuildStep.B_HISTOVAULTS);
+			return vaultPicker;
+		} finally {
+			settings.setSourceFileListenerActive(true);
+		}
+	}
+
+	private static void assertEqualVaults(String message, VaultPicker expected, VaultPicker actual) {
+		assertEquals(message + " trusses", expected.getTrussesCount(), actual.getTrussesCount());
+		assertEquals(message + " matching files", expected.getMatchingFilesCount(), actual.getMatchingFilesCount());
+		assertEquals(message + " time steps", expected.getTimeStepSize(), actual.getTimeStepSize());
+		assertEquals(message + " record set bytes", expected.getRecordSetBytesSum(), actual.getRecordSetBytesSum());
+	}
+
+	private static Stream<Path> walk(Path directory) {
+		try {
+			return Files.walk(directory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+
+package gde.histo.datasources;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gde.GDE;
+import gde.histo.base.BasicTestCase;
+import gde.histo.datasources.WatchDir.LogFileChanges;
+
+/**
+ * Log file changes collected by the directory watcher for the incremental update of the histo vaults.
+ * @author agent
+ */
+class WatchDirTest extends BasicTestCase {
+	private final static String	$CLASS_NAME			= WatchDirTest.class.getName();
+	private final static Logger	log							= Logger.getLogger($CLASS_NAME);
+
+	private final static long		TIMEOUT_MS			= 10000;
+	private final static int		OVERFLOW_EVENTS	= 600;													// the watch key signals OVERFLOW beyond 512 pending events
+
+	private Path								rootDir;
+	private Path								subDir;
+	private WatchDir						watchDir;
+	private Thread							watchDirThread;
+
+	@Override
+	@BeforeEach
+	public void setUp() throws Exception {
+		super.setUp();
+		log.setLevel(Level.INFO);
+		log.setUseParentHandlers(true);
+
+		this.rootDir = Files.createTempDirectory("WatchDirTest");
+		this.subDir = Files.createDirectory(this.rootDir.resolve("sub"));
+		this.watchDir = new WatchDir(Arrays.asList(this.rootDir), true, p -> p.getFileName().toString().endsWith(GDE.FILE_ENDING_DOT_OSD));
+	}
+
+	@Override
+	@AfterEach
+	public void tearDown() throws Exception {
+		if (this.watchDirThread != null) {
+			this.watchDirThread.interrupt();
+			this.watchDirThread.join();
+		}
+		try (Stream<Path> walk = Files.walk(this.rootDir)) {
+			for (Path path : walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+				Files.delete(path);
+			}
+		}
+		super.tearDown();
+	}
+
+	/**
+	 * Created, modified and deleted log files are collected, other files are ignored.
+	 */
+	@Test
+	void testCreateModifyDelete() throws Exception {
+		startWatching();
+		assertSame(LogFileChanges.EMPTY, this.watchDir.pollLogFileChanges());
+
+		Path logFile = this.subDir.resolve("UnitTest.osd");
+		Path otherFile = this.subDir.resolve("UnitTest.txt");
+		Files.write(logFile, new byte[] { 1 });
+		Files.write(otherFile, new byte[] { 1 });
+		LogFileChanges changes = awaitChanges(c -> c.getChangedLogFiles().contains(logFile));
+		assertFalse("file is not a log file", changes.getChangedLogFiles().contains(otherFile));
+		assertFalse("full scan", changes.isFullScanRequired());
+		drain();
+
+		Files.write(logFile, new byte[] { 2 }, StandardOpenOption.APPEND);
+		changes = awaitChanges(c -> c.getChangedLogFiles().contains(logFile));
+		assertTrue("deleted paths " + changes, changes.getDeletedPaths().isEmpty());
+		drain();
+
+		Files.delete(logFile);
+		changes = awaitChanges(c -> c.getDeletedPaths().contains(logFile));
+		assertFalse("deleted file is not changed", changes.getChangedLogFiles().contains(logFile));
+		assertFalse("full scan", changes.isFullScanRequired());
+	}
+
+	/**
+	 * A deleted directory is reported as a deleted path which covers the log files of the directory.
+	 */
+	@Test
+	void testDeletedDirectory() throws Exception {
+		Path logFile = this.subDir.resolve("UnitTest.osd");
+		Files.write(logFile, new byte[] { 1 });
+		startWatching();
+		awaitChanges(c -> c.getChangedLogFiles().contains(logFile));
+		drain();
+
+		Files.delete(logFile);
+		Files.delete(this.subDir);
+		LogFileChanges changes = awaitChanges(c -> c.getDeletedPaths().contains(this.subDir));
+		assertTrue("log file is covered " + changes, changes.getDeletedPaths().stream().anyMatch(logFile::startsWith));
+		assertFalse("full scan", changes.isFullScanRequired());
+	}
+
+	/**
+	 * A new directory might have received files prior to its registration and requires a full scan.
+	 */
+	@Test
+	void testNewDirectory() throws Exception {
+		startWatching();
+		Path newDir = Files.createDirectory(this.rootDir.resolve("new"));
+		Files.write(newDir.resolve("UnitTest.osd"), new byte[] { 1 });
+		awaitChanges(LogFileChanges::isFullScanRequired);
+		assertTrue("new directory is watched", this.watchDir.toString().contains(newDir.toString()));
+	}
+
+	/**
+	 * Lost events require a full scan.
+	 */
+	@Test
+	void testOverflow() throws Exception {
+		for (int i = 0; i < OVERFLOW_EVENTS; i++) { // the events pile up as long as the watcher is not started
+			Files.write(this.subDir.resolve("UnitTest" + i + ".txt"), new byte[] { 1 });
+		}
+		startWatching();
+		LogFileChanges changes = awaitChanges(LogFileChanges::isFullScanRequired);
+		assertFalse("not empty", changes.isEmpty());
+	}
+
+	private void startWatching() {
+		this.watchDirThread = new Thread(this.watchDir::processEvents, "watchDir");
+		this.watchDirThread.start();
+	}
+
+	/**
+	 * Discard the remaining events of the last file operations.
+	 */
+	private void drain() throws InterruptedException {
+		Thread.sleep(WatchDir.DELAY);
+		this.watchDir.pollLogFileChanges();
+	}
+
+	/**
+	 * Poll the watcher until the changes collected since the last call fulfill the condition.
+	 */
+	private LogFileChanges awaitChanges(Predicate<LogFileChanges> condition) throws InterruptedException {
+		Set<Path> changedLogFiles = new HashSet<>();
+		Set<Path> deletedPaths = new HashSet<>();
+		boolean isFullScanRequired = false;
+		long deadline_ms = System.currentTimeMillis() + TIMEOUT_MS;
+		while (System.currentTimeMillis() < deadline_ms) {
+			LogFileChanges changes = this.watchDir.pollLogFileChanges();
+			changedLogFiles.removeAll(changes.getDeletedPaths());
+			deletedPaths.removeAll(changes.getChangedLogFiles());
+			changedLogFiles.addAll(changes.getChangedLogFiles());
+			deletedPaths.addAll(changes.getDeletedPaths());
+			isFullScanRequired |= changes.isFullScanRequired();
+
+			LogFileChanges collectedChanges = new LogFileChanges(changedLogFiles, deletedPaths, isFullScanRequired);
+			if (condition.test(collectedChanges)) return collectedChanges;
+			Thread.sleep(WatchDir.DELAY / 10);
+		}
+		fail("no matching log file changes within " + TIMEOUT_MS + " ms");
+		return LogFileChanges.EMPTY;
+	}
+}
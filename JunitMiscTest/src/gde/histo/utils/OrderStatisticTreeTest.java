@@ -0,0 +1,79 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.histo.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import gde.histo.base.BasicTestCase;
+
+class OrderStatisticTreeTest extends BasicTestCase {
+
+	/**
+	 * compare the ranks with a sorted copy of a sliding window which is modified at both ends
+	 */
+	@Test
+	void testSlidingWindow() {
+		Random random = new Random(3);
+		OrderStatisticTree tree = new OrderStatisticTree(2);
+		ArrayDeque<Double> window = new ArrayDeque<>();
+		for (int i = 0; i < 100000; i++) {
+			double value = random.nextInt(5) == 0 ? random.nextInt(10) : random.nextInt(7) == 0 ? -0. : random.nextGaussian();
+			if (window.size() < 50 || random.nextBoolean()) {
+				window.addLast(value);
+				tree.add(value);
+			} else {
+				assertTrue(tree.remove(random.nextBoolean() ? window.pollFirst() : window.pollLast()));
+			}
+			if (i % 97 == 0) {
+				List<Double> sortedValues = new ArrayList<>(window);
+				Collections.sort(sortedValues);
+				assertEquals(sortedValues.size(), tree.size());
+				double[] values = tree.toArray();
+				for (int j = 0; j < sortedValues.size(); j++) {
+					assertEquals(Double.doubleToLongBits(sortedValues.get(j)), Double.doubleToLongBits(tree.get(j)));
+					assertEquals(Double.doubleToLongBits(sortedValues.get(j)), Double.doubleToLongBits(values[j]));
+				}
+			}
+		}
+		assertFalse(tree.remove(12345.));
+	}
+
+	@Test
+	void testClear() {
+		OrderStatisticTree tree = new OrderStatisticTree(4);
+		for (int i = 0; i < 10; i++) {
+			tree.add(10 - i);
+		}
+		assertEquals(1., tree.get(0));
+		assertEquals(10., tree.get(9));
+		tree.clear();
+		assertTrue(tree.isEmpty());
+		assertEquals(0, tree.size());
+		tree.add(3.);
+		tree.add(3.);
+		assertEquals(2, tree.size());
+		assertEquals(3., tree.get(1));
+	}
+}
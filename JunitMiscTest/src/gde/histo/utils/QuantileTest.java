@@ -23,9 +23,11 @@ import java.awt.Point;
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.TimeUnit;
@@ -462,4 +464,99 @@ class QuantileTest extends BasicTestCase {
 			//
 		}
 	}
+
+	@Test
+	void testStreamingQuantileSmallPopulation() {
+		Settings settings = Settings.getInstance();
+		List<Double> values = new ArrayList<>();
+		StreamingQuantile streamingQuantile = new StreamingQuantile(true, true, settings);
+		for (Integer value : recordArray) {
+			if (value != null) {
+				values.add(value.doubleValue());
+				streamingQuantile.accept(value.doubleValue());
+			}
+		}
+		UniversalQuantile<Double> universalQuantile = new UniversalQuantile<>(values, true, true, false, settings);
+		assertEquals("size", universalQuantile.getSize(), streamingQuantile.getSize());
+		assertEquals("q0", universalQuantile.getQuartile0(), streamingQuantile.getQuartile0(), DELTA);
+		assertEquals("q1", universalQuantile.getQuartile1(), streamingQuantile.getQuartile1(), DELTA);
+		assertEquals("q2", universalQuantile.getQuartile2(), streamingQuantile.getQuartile2(), DELTA);
+		assertEquals("q3", universalQuantile.getQuartile3(), streamingQuantile.getQuartile3(), DELTA);
+		assertEquals("q4", universalQuantile.getQuartile4(), streamingQuantile.getQuartile4(), DELTA);
+		assertEquals("lowerWhisker", universalQuantile.getQuantileLowerWhisker(), streamingQuantile.getQuantileLowerWhisker(), DELTA);
+		assertEquals("upperWhisker", universalQuantile.getQuantileUpperWhisker(), streamingQuantile.getQuantileUpperWhisker(), DELTA);
+		assertEquals("avg", universalQuantile.getAvgFigure(), streamingQuantile.getAvgFigure(), DELTA);
+		assertEquals("first", universalQuantile.getFirstFigure(), streamingQuantile.getFirstFigure(), DELTA);
+		assertEquals("last", universalQuantile.getLastFigure(), streamingQuantile.getLastFigure(), DELTA);
+	}
+
+	@Test
+	void testStreamingQuantileRankError() {
+		Settings settings = Settings.getInstance();
+		Random random = new Random(4711);
+		List<Double> values = new ArrayList<>();
+		StreamingQuantile streamingQuantile = new StreamingQuantile(true, true, settings);
+		StreamingQuantile secondHalf = new StreamingQuantile(true, true, settings);
+		for (int i = 0; i < 100000; i++) {
+			double value = random.nextGaussian() * 10. + 50.;
+			if (i % 997 == 3) value = 10000.; // constant sensor failure value
+			values.add(value);
+			if (i < 50000)
+				streamingQuantile.accept(value);
+			else
+				secondHalf.accept(value);
+		}
+		streamingQuantile.combine(secondHalf);
+		UniversalQuantile<Double> universalQuantile = new UniversalQuantile<>(values, true, true, false, settings);
+		List<Double> sorted = new ArrayList<>(values);
+		Collections.sort(sorted);
+		for (double probability : new double[] { .025, .25, .5, .75, .975 }) {
+			double value = streamingQuantile.getQuantile(probability);
+			int rank = Collections.binarySearch(sorted, value);
+			double rankError = Math.abs((rank < 0 ? -rank - 1 : rank) - probability * universalQuantile.getSize()) / universalQuantile.getSize();
+			assertTrue("rank error at " + probability + " = " + rankError, rankError < 2. / QuantileSketch.DEFAULT_K);
+		}
+		assertEquals("q0", universalQuantile.getQuartile0(), streamingQuantile.getQuartile0(), DELTA);
+		assertEquals("q4", universalQuantile.getQuartile4(), streamingQuantile.getQuartile4(), DELTA);
+		assertEquals("avg", universalQuantile.getAvgFigure(), streamingQuantile.getAvgFigure(), 1e-6);
+		assertEquals("sigma", universalQuantile.getSigmaFigure(), streamingQuantile.getSigmaFigure(), 1e-6);
+		assertEquals("max", universalQuantile.getPopulationMaxFigure(), streamingQuantile.getPopulationMaxFigure(), DELTA);
+	}
+
+	/**
+	 * Outliers in both tails shift the upper quantile of the trunk which determines the upper outlier limit.
+	 */
+	@Test
+	void testStreamingQuantileBothTails() {
+		Settings settings = Settings.getInstance();
+		Random random = new Random(4711);
+		List<Double> values = new ArrayList<>();
+		StreamingQuantile streamingQuantile = new StreamingQuantile(true, true, settings);
+		for (int i = 0; i < 5000; i++) {
+			double value = random.nextGaussian() * 10. + 50.;
+			if (i % 7 == 3) value = -10000. - i; // sensor failures on the low side
+			if (i % 101 == 5) value = 10000. + i; // sensor failures on the high side
+			values.add(value);
+			streamingQuantile.accept(value);
+		}
+		UniversalQuantile<Double> universalQuantile = new UniversalQuantile<>(values, true, true, false, settings);
+		assertEquals("size", universalQuantile.getSize(), streamingQuantile.getSize());
+		assertEquals("q0", universalQuantile.getQuartile0(), streamingQuantile.getQuartile0(), DELTA);
+		assertEquals("q4", universalQuantile.getQuartile4(), streamingQuantile.getQuartile4(), DELTA);
+		assertEquals("avg", universalQuantile.getAvgFigure(), streamingQuantile.getAvgFigure(), 1e-6);
+		assertEquals("sigma", universalQuantile.getSigmaFigure(), streamingQuantile.getSigmaFigure(), 1e-6);
+	}
+
+	@Test
+	void testEmptySketch() {
+		QuantileSketch sketch = new QuantileSketch();
+		assertEquals(0, sketch.getRankBelow(1.));
+		assertEquals(0, sketch.getRankAbove(1.));
+		try {
+			sketch.getValueAtRank(1);
+			fail("Should throw an exception");
+		} catch (IllegalStateException e) {
+			//
+		}
+	}
 }
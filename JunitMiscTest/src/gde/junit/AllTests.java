@@ -18,6 +18,14 @@
 ****************************************************************************************/
 package gde.junit;
 
+import gde.comm.TestReceiveBuffer;
+import gde.data.TestDropAreaIndex;
+import gde.data.TestPointSums;
+import gde.data.TestSmoothedVoltages;
+import gde.device.ardupilot.TestArduPilotParseValue;
+import gde.utils.TestGPSKernel;
+import gde.utils.TestSlidingWindowRegression;
+
 import junit.framework.Test;
 import junit.framework.TestSuite;
 
@@ -29,11 +37,27 @@ public class AllTests {
 		suite.addTestSuite(CleanupTestTemp.class);
 		suite.addTestSuite(TestFileReaderOsdWriter.class);
 		suite.addTestSuite(TestOsdReaderWriter.class);
+		suite.addTestSuite(TestRecordSetMemoryBudget.class);
+		suite.addTestSuite(TestBatchConverter.class);
 		suite.addTestSuite(TestMathUtils.class);
+		suite.addTestSuite(TestPointStore.class);
+		suite.addTestSuite(TestPointSums.class);
+		suite.addTestSuite(TestSmoothedVoltages.class);
+		suite.addTestSuite(TestDropAreaIndex.class);
+		suite.addTestSuite(TestMinMaxPyramid.class);
+		suite.addTestSuite(TestCSVTokenizer.class);
+		suite.addTestSuite(TestArduPilotParseValue.class);
+		suite.addTestSuite(TestTimeSteps.class);
+		suite.addTestSuite(TestOsdDataSection.class);
+		suite.addTestSuite(TestOsdColumn.class);
 		suite.addTestSuite(JarInspectAndExportTest.class);
 		suite.addTestSuite(LogViewReaderTester.class);
 		suite.addTestSuite(TestQuadraticRegression.class);
+		suite.addTestSuite(TestSlidingWindowRegression.class);
+		suite.addTestSuite(TestGPSKernel.class);
+		suite.addTestSuite(TestReceiveBuffer.class);
 		suite.addTestSuite(ObjectKeyComplianceTest.class);
+		suite.addTestSuite(TestOsdHeaderIndex.class);
 		suite.addTestSuite(TestObjectKeyScanner.class);
 		suite.addTestSuite(CleanupTestTemp.class);
 
@@ -0,0 +1,87 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import gde.io.CSVTokenizer;
+
+/**
+ * Measures the split based parsing of the OpenTx reader against the tokenizer on a generated OpenTx log.
+ * Not part of the test suite, run it manually with the log size in MB as argument, e.g. 1024 for a 1 GB log.
+ */
+public class CSVTokenizerBenchmark {
+
+	/**
+	 * @param args the size of the generated log in MB, default 16
+	 */
+	public static void main(String[] args) throws IOException {
+		int size_MB = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+		File file = File.createTempFile("OpenTxBenchmark", ".csv");
+		file.deleteOnExit();
+		try {
+			long lines = TestCSVTokenizer.writeOpenTxLog(file, size_MB * 1024L * 1024L);
+
+			long startTime = System.nanoTime();
+			long splitChecksum = 0;
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.ISO_8859_1))) {
+				String line = reader.readLine(); // header
+				int[] points = new int[line.split(",").length - 2];
+				while ((line = reader.readLine()) != null) {
+					String[] dataStr = line.split(" |,");
+					int millis = Integer.parseInt(dataStr[1].trim().substring(9, 12));
+					for (int i = 0; i < points.length; i++) {
+						points[i] = (int) (Double.valueOf(dataStr[i + 2].trim().replace(" ", "")) * 1000.0);
+						splitChecksum += points[i];
+					}
+					splitChecksum += millis;
+				}
+			}
+			long splitTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			long tokenizerChecksum = 0;
+			try (CSVTokenizer tokenizer = new CSVTokenizer(new FileInputStream(file), ',', true)) {
+				tokenizer.nextLine(); // header
+				int[] points = new int[tokenizer.getFieldCount() - 2];
+				while (tokenizer.nextLine()) {
+					int millis = tokenizer.parseInt(1, 9, 3);
+					for (int i = 0; i < points.length; i++) {
+						points[i] = tokenizer.parseFixedPoint(i + 2);
+						tokenizerChecksum += points[i];
+					}
+					tokenizerChecksum += millis;
+				}
+			}
+			long tokenizerTime = System.nanoTime() - startTime;
+
+			System.out.println(String.format(Locale.ENGLISH, "%d MB OpenTx log with %d lines: split %d ms, tokenizer %d ms, checksums %s", size_MB, lines, splitTime / 1000000, tokenizerTime / 1000000,
+					splitChecksum == tokenizerChecksum ? "equal" : "DIFFERENT"));
+		}
+		finally {
+			file.delete();
+		}
+	}
+}
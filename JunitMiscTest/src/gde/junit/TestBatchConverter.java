@@ -0,0 +1,132 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import gde.GDE;
+import gde.io.OsdReaderWriter;
+import gde.tools.BatchConverter;
+import gde.tools.BatchConverter.Format;
+
+/**
+ * converts a HoTT sample log into OSD and CSV files like the command line batch conversion does
+ */
+public class TestBatchConverter extends TestSuperClass {
+
+	static final String	DEVICE_NAME	= "HoTTAdapter";
+	static final String	FILE_PATH		= "_ET_Exzerpt/Kranich/0007_2011-10-13.bin";
+
+	private Path				sourceDir;
+	private Path				targetDir;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		this.sourceDir = Files.createTempDirectory("BatchSource");
+		this.targetDir = Files.createTempDirectory("BatchTarget");
+		Path samplePath = DataSource.TESTDATA.getDataPath(Paths.get(FILE_PATH));
+		Files.copy(samplePath, this.sourceDir.resolve(samplePath.getFileName()));
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		for (Path dir : new Path[] { this.sourceDir, this.targetDir }) {
+			try (Stream<Path> walk = Files.walk(dir)) {
+				for (Path path : walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+					Files.delete(path);
+				}
+			}
+		}
+		super.tearDown();
+	}
+
+	/**
+	 * the conversion and the histo vaults select the HoTT *.bin and *.log files but no other files
+	 */
+	public void testScan() throws IOException {
+		Files.write(this.sourceDir.resolve("0008_2011-10-13.log"), new byte[0]);
+		Files.write(this.sourceDir.resolve("0009_2011-10-13.txt"), new byte[0]);
+		BatchConverter converter = new BatchConverter(DEVICE_NAME, 1, GDE.STRING_EMPTY, EnumSet.of(Format.OSD), Optional.of(this.targetDir), 1);
+		try {
+			List<Path> files = converter.scan(Arrays.asList(this.sourceDir), converter.getConversionExtentions());
+			assertEquals(2, files.size());
+			assertTrue(files.get(0).toString().endsWith(GDE.FILE_ENDING_DOT_BIN));
+			assertTrue(files.get(1).toString().endsWith(GDE.FILE_ENDING_DOT_LOG));
+
+			assertEquals(2, converter.scan(Arrays.asList(this.sourceDir), converter.getVaultExtentions()).size());
+		}
+		finally {
+			converter.shutdown();
+		}
+	}
+
+	/**
+	 * the sample log results in OSD and CSV files which hold the device's data
+	 */
+	public void testConvertToOsdAndCsv() throws Exception {
+		BatchConverter converter = new BatchConverter(DEVICE_NAME, 1, GDE.STRING_EMPTY, EnumSet.of(Format.OSD, Format.CSV), Optional.of(this.targetDir), 1);
+		try {
+			converter.convert(converter.scan(Arrays.asList(this.sourceDir), converter.getConversionExtentions()));
+			assertEquals(converter.getStatistics(), 0, converter.getFailures());
+		}
+		finally {
+			converter.shutdown();
+		}
+
+		List<Path> osdFiles = listFiles(GDE.FILE_ENDING_DOT_OSD);
+		assertFalse(osdFiles.isEmpty());
+		for (Path osdFile : osdFiles) {
+			assertTrue(osdFile.getFileName().toString().startsWith("0007_2011-10-13"));
+			HashMap<String, String> fileHeader = OsdReaderWriter.getHeader(osdFile.toString());
+			assertEquals(DEVICE_NAME, fileHeader.get(GDE.DEVICE_NAME));
+			assertTrue(Integer.parseInt(fileHeader.get(GDE.RECORD_SET_SIZE).trim()) > 0);
+		}
+
+		List<Path> csvFiles = listFiles(GDE.FILE_ENDING_DOT_CSV);
+		assertFalse(csvFiles.isEmpty());
+		for (Path csvFile : csvFiles) {
+			List<String> lines = Files.readAllLines(csvFile, StandardCharsets.UTF_8);
+			assertTrue(csvFile + " has no data lines", lines.size() > 2);
+		}
+	}
+
+	private List<Path> listFiles(String extention) throws IOException {
+		List<Path> files = new ArrayList<>();
+		try (Stream<Path> list = Files.list(this.targetDir)) {
+			list.filter(p -> p.getFileName().toString().endsWith(extention)).forEach(files::add);
+		}
+		Collections.sort(files);
+		return files;
+	}
+}
@@ -0,0 +1,237 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import gde.io.CSVTokenizer;
+import junit.framework.TestCase;
+
+/**
+ * checks that the tokenizer yields the same fields and values as the line split based parsing of the readers
+ */
+public class TestCSVTokenizer extends TestCase {
+
+	private static CSVTokenizer tokenizer(String text, char separator, boolean isBlankAlsoSeparator) {
+		return new CSVTokenizer(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1)), separator, isBlankAlsoSeparator);
+	}
+
+	public void testSplitLikeString() throws IOException {
+		String text = "a; b ;;c;;\r\n\n;;\r ;x\n single \r\n1;2";
+		try (CSVTokenizer tokenizer = tokenizer(text, ';', false); BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1)), StandardCharsets.ISO_8859_1))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				assertTrue(tokenizer.nextLine());
+				assertEquals(line, tokenizer.getLine());
+				String[] fields = line.split(";");
+				assertEquals(line, fields.length, tokenizer.getFieldCount());
+				for (int i = 0; i < fields.length; i++) {
+					assertEquals(fields[i].trim(), tokenizer.getString(i));
+				}
+			}
+			assertFalse(tokenizer.nextLine());
+		}
+	}
+
+	public void testBlankSeparator() throws IOException {
+		String line = "2019-06-01 12:34:56.789,12.5,,N 52.1234";
+		try (CSVTokenizer tokenizer = tokenizer(line, ',', true)) {
+			assertTrue(tokenizer.nextLine());
+			String[] fields = line.split(" |,");
+			assertEquals(fields.length, tokenizer.getFieldCount());
+			for (int i = 0; i < fields.length; i++) {
+				assertEquals(fields[i].trim(), tokenizer.getString(i));
+			}
+			assertEquals(2019, tokenizer.parseInt(0, 0, 4));
+			assertEquals(789, tokenizer.parseInt(1, 9, 3));
+			assertEquals(8, tokenizer.lastIndexOfDecimalSeparator(1));
+		}
+	}
+
+	public void testParseDouble() throws IOException {
+		Random random = new Random(17);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12) - 4);
+			sb.append(String.format(Locale.ENGLISH, "%." + random.nextInt(9) + "f", value)).append(';');
+			sb.append(random.nextBoolean() ? "1,5" : "1e3").append(';').append(Long.toString(random.nextLong())).append('\n');
+		}
+		sb.append("-;.;0.1234567890123456789;- 12 345,6\n");
+		try (CSVTokenizer tokenizer = tokenizer(sb.toString(), ';', false)) {
+			while (tokenizer.nextLine()) {
+				for (int i = 0; i < tokenizer.getFieldCount(); i++) {
+					String data = tokenizer.getString(i).replace(',', '.').replace(" ", "");
+					Double expected;
+					try {
+						expected = Double.parseDouble(data);
+					}
+					catch (NumberFormatException e) {
+						expected = null;
+					}
+					try {
+						double value = tokenizer.parseDouble(i);
+						assertNotNull(data, expected);
+						assertEquals(data, Double.doubleToLongBits(expected), Double.doubleToLongBits(value));
+						assertEquals(data, (int) (expected * 1000.0), tokenizer.parseFixedPoint(i));
+					}
+					catch (NumberFormatException e) {
+						assertNull(data, expected);
+					}
+				}
+			}
+		}
+	}
+
+	public void testParseLong() throws IOException {
+		Random random = new Random(7);
+		StringBuilder sb = new StringBuilder("GPS, -, +, 9223372036854775807, -9223372036854775808, 9223372036854775808, 1.2.3, 4.68\n");
+		for (int i = 0; i < 10000; i++) {
+			sb.append("GPS, ").append(random.nextLong() >> random.nextInt(64)).append(", ").append(String.format(Locale.ENGLISH, "%.7f", (random.nextDouble() - 0.5) * 360)).append('\n');
+		}
+		try (CSVTokenizer tokenizer = tokenizer(sb.toString(), ',', false)) {
+			while (tokenizer.nextLine()) {
+				assertTrue(tokenizer.isEqual(0, "GPS"));
+				assertFalse(tokenizer.isEqual(0, "GPA"));
+				for (int i = 1; i < tokenizer.getFieldCount(); i++) {
+					String data = tokenizer.getString(i);
+					for (boolean isDecimalPointIgnored : new boolean[] { false, true }) {
+						Long expected;
+						try {
+							expected = Long.parseLong(isDecimalPointIgnored ? data.replace(".", "") : data);
+						}
+						catch (NumberFormatException e) {
+							expected = null;
+						}
+						try {
+							assertEquals(data, expected, Long.valueOf(tokenizer.parseLong(i, isDecimalPointIgnored)));
+						}
+						catch (NumberFormatException e) {
+							assertNull(data, expected);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	public void testSampleFiles() throws IOException {
+		File samples = new File(System.getProperty("user.dir")).getParentFile().toPath().resolve("DataFilesTestSamples").toFile();
+		if (!samples.exists()) return;
+		java.util.List<File> files = new java.util.ArrayList<>();
+		collectCsvFiles(samples, files);
+		for (File file : files) {
+			try (CSVTokenizer tokenizer = new CSVTokenizer(new FileInputStream(file), ';');
+					BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.ISO_8859_1))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					assertTrue(file.getPath(), tokenizer.nextLine());
+					assertEquals(file.getPath(), line.split(";").length, tokenizer.getFieldCount());
+				}
+				assertFalse(tokenizer.nextLine());
+			}
+		}
+	}
+
+	private static void collectCsvFiles(File directory, java.util.List<File> files) {
+		File[] entries = directory.listFiles();
+		if (entries == null) return;
+		for (File entry : entries) {
+			if (entry.isDirectory())
+				collectCsvFiles(entry, files);
+			else if (entry.getName().toLowerCase().endsWith(".csv")) files.add(entry);
+		}
+	}
+
+	/**
+	 * Compare the split based parsing of the OpenTx reader with the tokenizer on a generated OpenTx log.
+	 * The parsing times for large logs are measured by {@link CSVTokenizerBenchmark}.
+	 */
+	public void testOpenTxLog() throws IOException {
+		File file = File.createTempFile("OpenTxLog", ".csv");
+		file.deleteOnExit();
+		try {
+			long lines = writeOpenTxLog(file, 256 * 1024);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.ISO_8859_1));
+					CSVTokenizer tokenizer = new CSVTokenizer(new FileInputStream(file), ',', true)) {
+				String line = reader.readLine(); // header
+				assertTrue(tokenizer.nextLine());
+				int pointsSize = line.split(",").length - 2;
+				assertEquals(pointsSize, tokenizer.getFieldCount() - 2);
+				long lineCount = 0;
+				while ((line = reader.readLine()) != null) {
+					assertTrue(line, tokenizer.nextLine());
+					String[] dataStr = line.split(" |,");
+					assertEquals(line, Integer.parseInt(dataStr[1].trim().substring(9, 12)), tokenizer.parseInt(1, 9, 3));
+					for (int i = 0; i < pointsSize; i++) {
+						assertEquals(line, (int) (Double.valueOf(dataStr[i + 2].trim().replace(" ", "")) * 1000.0), tokenizer.parseFixedPoint(i + 2));
+					}
+					++lineCount;
+				}
+				assertFalse(tokenizer.nextLine());
+				assertEquals(lines, lineCount);
+			}
+		}
+		finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * @return the number of data lines written until the file reaches the size
+	 */
+	static long writeOpenTxLog(File file, long size) throws IOException {
+		Random random = new Random(42);
+		String header = "Date,Time,1RSS(dB),2RSS(dB),RQly(%),RSNR(dB),TPWR(mW),RxBt(V),Curr(A),Capa(mAh),GSpd(kmh),Alt(m),Rud,Ele,Thr,Ail\n";
+		long lines = 0;
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file), 1 << 16)) {
+			byte[] bytes = header.getBytes(StandardCharsets.ISO_8859_1);
+			out.write(bytes);
+			long written = bytes.length;
+			StringBuilder sb = new StringBuilder(256);
+			while (written < size) {
+				long millis = lines * 100;
+				sb.setLength(0);
+				sb.append(String.format(Locale.ENGLISH, "2026-05-01,%02d:%02d:%02d.%03d", (millis / 3600000) % 24, (millis / 60000) % 60, (millis / 1000) % 60, millis % 1000));
+				sb.append(',').append(-40 - random.nextInt(60)).append(',').append(-40 - random.nextInt(60)).append(',').append(random.nextInt(101));
+				sb.append(',').append(random.nextInt(20) - 5).append(',').append(25 * random.nextInt(5));
+				sb.append(String.format(Locale.ENGLISH, ",%.2f,%.1f,%d,%.2f,%.1f", 7 + random.nextDouble(), 60 * random.nextDouble(), random.nextInt(5000), 120 * random.nextDouble(), 300 * random.nextDouble() - 2));
+				for (int i = 0; i < 4; i++) {
+					sb.append(',').append(random.nextInt(2049) - 1024);
+				}
+				sb.append('\n');
+				bytes = sb.toString().getBytes(StandardCharsets.ISO_8859_1);
+				out.write(bytes);
+				written += bytes.length;
+				++lines;
+			}
+		}
+		return lines;
+	}
+}
@@ -1819,7 +1819,7 @@ public class TestFileReaderOsdWriter extends TestSuperClass {
 						activeChannel.setFileDescription(StringHelper.getDateAndTime() + " - imported from bin log file");
 						activeChannel.setSaved(true);
 
-						HoTTbinReader.read(file.getAbsolutePath(), ((HoTTAdapter) device).getPickerParameters());
+						new HoTTbinReader(((HoTTAdapter) device).getPickerParameters()).read(file.getAbsolutePath());
 						RecordSet recordSet = activeChannel.getActiveRecordSet();
 
 						if (recordSet != null) {
@@ -1890,7 +1890,7 @@ public class TestFileReaderOsdWriter extends TestSuperClass {
 						activeChannel.setFileDescription(StringHelper.getDateAndTime() + " - imported from bin log file");
 						activeChannel.setSaved(true);
 
-						HoTTbinReader2.read(file.getAbsolutePath(), ((HoTTAdapter) device).getPickerParameters());
+						new HoTTbinReader2(((HoTTAdapter) device).getPickerParameters()).read(file.getAbsolutePath());
 						RecordSet recordSet = activeChannel.getActiveRecordSet();
 
 						if (recordSet != null) {
@@ -1965,7 +1965,7 @@ public class TestFileReaderOsdWriter extends TestSuperClass {
 						activeChannel.setSaved(true);
 
 						try {
-							HoTTlogReader.read(file.getAbsolutePath(), ((HoTTAdapter) device).getPickerParameters());
+							new HoTTlogReader(((HoTTAdapter) device).getPickerParameters()).read(file.getAbsolutePath());
 						}
 						catch (DataTypeException e) {
 							// ignore not supported log files
@@ -2045,7 +2045,7 @@ public class TestFileReaderOsdWriter extends TestSuperClass {
 						activeChannel.setSaved(true);
 
 						try {
-							HoTTlogReader2.read(file.getAbsolutePath(), ((HoTTAdapter) device).getPickerParameters());
+							new HoTTlogReader2(((HoTTAdapter) device).getPickerParameters()).read(file.getAbsolutePath());
 						}
 						catch (DataTypeException e) {
 							// ignore not supported log files
@@ -2122,7 +2122,7 @@ public class TestFileReaderOsdWriter extends TestSuperClass {
 						activeChannel.setSaved(true);
 
 						try {
-							GeniusWizardLogReader.read(file.getAbsolutePath());
+							new GeniusWizardLogReader().read(file.getAbsolutePath());
 						}
 						catch (DataTypeException e) {
 							// ignore not supported log files
@@ -0,0 +1,55 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.util.Random;
+
+import gde.data.MinMaxPyramid;
+import gde.data.PointStore;
+import junit.framework.TestCase;
+
+public class TestMinMaxPyramid extends TestCase {
+
+	public void testMinMaxPyramid() {
+		Random random = new Random(1234);
+		PointStore store = new PointStore(0);
+		MinMaxPyramid pyramid = new MinMaxPyramid(store);
+		int[] minMax = new int[2];
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < 20000; i++) {
+				store.add(random.nextInt(100000) - 50000 + (i % 997 == 0 ? 1000000 : 0)); // spikes
+			}
+			for (int k = 0; k < 500; k++) {
+				int from = random.nextInt(store.size());
+				int to = from + 1 + random.nextInt(store.size() - from);
+				pyramid.getMinMax(from, to, minMax);
+				int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+				for (int i = from; i < to; i++) {
+					min = Math.min(min, store.getInt(i));
+					max = Math.max(max, store.getInt(i));
+				}
+				assertEquals(min, minMax[0]);
+				assertEquals(max, minMax[1]);
+			}
+			store.set(random.nextInt(store.size()), 2000000); // forces a rebuild
+			pyramid.getMinMax(0, store.size(), minMax);
+			assertEquals(2000000, minMax[1]);
+		}
+	}
+}
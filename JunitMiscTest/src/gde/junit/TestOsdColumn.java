@@ -0,0 +1,220 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import gde.data.PointStore;
+import gde.io.OsdColumn;
+import gde.io.OsdDataSection;
+import junit.framework.TestCase;
+
+/**
+ * checks the columnar OSD data section (file version 5) against the row layout decoded by the devices
+ */
+public class TestOsdColumn extends TestCase {
+
+	static final int	RECORD_DATA_SIZE	= 20000;
+	static final int	POINTS_LENGTH			= 5;
+	static final int	HEADER_SIZE				= 123;
+
+	private int[]			timeStamps;
+	private int[][]		points;
+	private byte[]		sectionBytes;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		this.timeStamps = new int[RECORD_DATA_SIZE];
+		this.points = new int[POINTS_LENGTH][RECORD_DATA_SIZE];
+		OsdColumn.Encoder timeStampEncoder = new OsdColumn.Encoder();
+		OsdColumn.Encoder[] pointEncoders = new OsdColumn.Encoder[POINTS_LENGTH];
+		for (int j = 0; j < POINTS_LENGTH; j++)
+			pointEncoders[j] = new OsdColumn.Encoder();
+		for (int i = 0; i < RECORD_DATA_SIZE; i++) {
+			this.timeStamps[i] = i * 100 + (i % 3);
+			timeStampEncoder.add(this.timeStamps[i]);
+			this.points[0][i] = i * 7;
+			this.points[1][i] = (int) (10000 * Math.sin(i / 100.));
+			this.points[2][i] = i % 2 == 0 ? Integer.MAX_VALUE : Integer.MIN_VALUE; // delta wraps around
+			this.points[3][i] = 4711;
+			this.points[4][i] = i == 1234 ? -99 : i == 4321 ? 99 : 0;
+			for (int j = 0; j < POINTS_LENGTH; j++)
+				pointEncoders[j].add(this.points[j][i]);
+		}
+		this.sectionBytes = OsdDataSection.encodeColumnar(timeStampEncoder, pointEncoders);
+		assertTrue(this.sectionBytes.length < OsdDataSection.getSectionBytesSize(RECORD_DATA_SIZE, POINTS_LENGTH, false) / 2);
+	}
+
+	public void testStreamedColumnarSection() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream data_out = new DataOutputStream(bytes);
+		data_out.write(this.sectionBytes);
+		data_out.writeInt(4711); // trailing data of the next record set
+		data_out.close();
+
+		DataInputStream data_in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		OsdDataSection dataSection = OsdDataSection.readColumnar(data_in, RECORD_DATA_SIZE, POINTS_LENGTH, false);
+		assertTrue(dataSection.isColumnar());
+		assertEquals(4711, data_in.readInt());
+		int[] values = new int[POINTS_LENGTH];
+		for (int i = 0; i < RECORD_DATA_SIZE; i++) {
+			dataSection.readPoints(values);
+			assertEquals(this.timeStamps[i], dataSection.getTimeStamp(i));
+			for (int j = 0; j < POINTS_LENGTH; j++)
+				assertEquals(this.points[j][i], values[j]);
+		}
+	}
+
+	public void testRowLayout() throws IOException {
+		OsdDataSection dataSection = OsdDataSection.readColumnar(new DataInputStream(new ByteArrayInputStream(this.sectionBytes)), RECORD_DATA_SIZE, POINTS_LENGTH, false);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream data_out = new DataOutputStream(bytes);
+		for (int i = 0; i < RECORD_DATA_SIZE; i++)
+			data_out.writeInt(this.timeStamps[i]);
+		for (int i = 0; i < RECORD_DATA_SIZE; i++)
+			for (int j = 0; j < POINTS_LENGTH; j++)
+				data_out.writeInt(this.points[j][i]);
+		data_out.close();
+		assertTrue(Arrays.equals(bytes.toByteArray(), dataSection.toByteArray()));
+	}
+
+	public void testLazyColumns() throws IOException {
+		File file = File.createTempFile("TestOsdColumn", ".osd");
+		try {
+			byte[] fileBytes = new byte[HEADER_SIZE + this.sectionBytes.length];
+			System.arraycopy(this.sectionBytes, 0, fileBytes, HEADER_SIZE, this.sectionBytes.length);
+			Files.write(file.toPath(), fileBytes);
+
+			boolean[] isLazyColumn = new boolean[] { false, true, false, false, true };
+			OsdDataSection dataSection = OsdDataSection.readColumnar(file.getPath(), HEADER_SIZE, RECORD_DATA_SIZE, POINTS_LENGTH, false, isLazyColumn);
+			assertNull(dataSection.getLazyColumn(0));
+			OsdColumn column = dataSection.getLazyColumn(4);
+			assertEquals(-99, column.getMinValue());
+			assertEquals(99, column.getMaxValue());
+			assertEquals(1234, column.getMinValueIndex());
+			assertEquals(4321, column.getMaxValueIndex());
+
+			// placeholders keep min and max of the lazy records
+			int[] values = new int[POINTS_LENGTH];
+			int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+			for (int i = 0; i < RECORD_DATA_SIZE; i++) {
+				dataSection.readPoints(values);
+				assertEquals(this.points[0][i], values[0]);
+				assertEquals(this.points[2][i], values[2]);
+				min = Math.min(min, values[4]);
+				max = Math.max(max, values[4]);
+			}
+			assertEquals(-99, min);
+			assertEquals(99, max);
+
+			PointStore store = new PointStore(0);
+			store.setLoader(RECORD_DATA_SIZE, dataSection.getLazyColumn(1));
+			assertFalse(store.isLoaded());
+			assertEquals(RECORD_DATA_SIZE, store.size());
+			assertEquals(this.points[1][RECORD_DATA_SIZE / 2], store.getInt(RECORD_DATA_SIZE / 2));
+			assertTrue(store.isLoaded());
+			for (int i = 0; i < RECORD_DATA_SIZE; i++)
+				assertEquals(this.points[1][i], store.getInt(i));
+		}
+		finally {
+			file.delete();
+		}
+	}
+
+	public void testLazyColumnOfChangedFile() throws IOException {
+		File file = File.createTempFile("TestOsdColumn", ".osd");
+		try {
+			byte[] fileBytes = new byte[HEADER_SIZE + this.sectionBytes.length];
+			System.arraycopy(this.sectionBytes, 0, fileBytes, HEADER_SIZE, this.sectionBytes.length);
+			Files.write(file.toPath(), fileBytes);
+
+			long lastModified = file.lastModified();
+			boolean[] isLazyColumn = new boolean[] { true, false, false, false, false };
+			OsdDataSection dataSection = OsdDataSection.readColumnar(file.getPath(), HEADER_SIZE, RECORD_DATA_SIZE, POINTS_LENGTH, false, isLazyColumn);
+			Files.write(file.toPath(), Arrays.copyOf(fileBytes, fileBytes.length + 4)); // file overwritten after reading the directory
+
+			PointStore store = new PointStore(0);
+			store.setLoader(RECORD_DATA_SIZE, dataSection.getLazyColumn(0));
+			try {
+				store.getInt(0);
+				fail("lazy load from a changed file must fail");
+			}
+			catch (UncheckedIOException e) {
+				// expected
+			}
+			// the failure is signaled once, the store keeps its size with null points
+			assertTrue(store.isLoadFailed());
+			assertEquals(RECORD_DATA_SIZE, store.size());
+			assertNull(store.get(RECORD_DATA_SIZE - 1));
+			try {
+				store.retryFailedLoad();
+				fail("retry from a changed file must fail");
+			}
+			catch (UncheckedIOException e) {
+				// expected
+			}
+
+			Files.write(file.toPath(), fileBytes); // original file restored
+			assertTrue(file.setLastModified(lastModified));
+			store.retryFailedLoad();
+			assertFalse(store.isLoadFailed());
+			for (int i = 0; i < RECORD_DATA_SIZE; i++)
+				assertEquals(this.points[0][i], store.getInt(i));
+		}
+		finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * the lazy column follows its data into the *.bak file which is created prior to overwrite the file
+	 */
+	public void testLazyColumnOfRenamedFile() throws IOException {
+		File file = File.createTempFile("TestOsdColumn", ".osd");
+		File backupFile = new File(file.getPath().substring(0, file.getPath().lastIndexOf('.')) + ".bak");
+		try {
+			byte[] fileBytes = new byte[HEADER_SIZE + this.sectionBytes.length];
+			System.arraycopy(this.sectionBytes, 0, fileBytes, HEADER_SIZE, this.sectionBytes.length);
+			Files.write(file.toPath(), fileBytes);
+
+			boolean[] isLazyColumn = new boolean[] { false, false, true, false, false };
+			OsdDataSection dataSection = OsdDataSection.readColumnar(file.getPath(), HEADER_SIZE, RECORD_DATA_SIZE, POINTS_LENGTH, false, isLazyColumn);
+			assertTrue(file.renameTo(backupFile));
+			Files.write(file.toPath(), new byte[HEADER_SIZE]); // the new file is being written
+
+			PointStore store = new PointStore(0);
+			store.setLoader(RECORD_DATA_SIZE, dataSection.getLazyColumn(2));
+			for (int i = 0; i < RECORD_DATA_SIZE; i++)
+				assertEquals(this.points[2][i], store.getInt(i));
+		}
+		finally {
+			file.delete();
+			backupFile.delete();
+		}
+	}
+}
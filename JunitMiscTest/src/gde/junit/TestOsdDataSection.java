@@ -0,0 +1,136 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import gde.io.OsdDataSection;
+import junit.framework.TestCase;
+
+/**
+ * checks the OSD data section streamed from the file channel or an input stream against the byte array layout decoded by the devices
+ */
+public class TestOsdDataSection extends TestCase {
+
+	static final int	RECORD_DATA_SIZE	= 20000;
+	static final int	POINTS_LENGTH			= 7;
+	static final int	HEADER_SIZE				= 123;
+
+	private byte[]		fileBytes;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream data_out = new DataOutputStream(bytes);
+		data_out.write(new byte[HEADER_SIZE]);
+		for (int i = 0; i < RECORD_DATA_SIZE; i++)
+			data_out.writeInt(i * 100);
+		for (int i = 0; i < RECORD_DATA_SIZE; i++)
+			for (int j = 0; j < POINTS_LENGTH; j++)
+				data_out.writeInt(j % 2 == 0 ? i * j : -i - j);
+		data_out.writeInt(4711); // trailing data of the next record set
+		data_out.close();
+		this.fileBytes = bytes.toByteArray();
+	}
+
+	/**
+	 * the uncompressed section is streamed from the channel in bounded blocks and the file is free for renaming after the channel was closed
+	 */
+	public void testChannelSection() throws IOException {
+		File file = File.createTempFile("TestOsdDataSection", ".osd");
+		File renamedFile = new File(file.getPath() + ".bak");
+		try {
+			Files.write(file.toPath(), this.fileBytes);
+			try (RandomAccessFile random_in = new RandomAccessFile(file, "r")) {
+				OsdDataSection dataSection = OsdDataSection.read(random_in.getChannel(), HEADER_SIZE, RECORD_DATA_SIZE, POINTS_LENGTH, false);
+				checkSection(dataSection);
+				dataSection.skipUnread();
+				assertEquals(4711, random_in.readInt());
+			}
+			assertTrue(file.renameTo(renamedFile));
+		}
+		finally {
+			file.delete();
+			renamedFile.delete();
+		}
+	}
+
+	public void testTruncatedFile() throws IOException {
+		File file = File.createTempFile("TestOsdDataSection", ".osd");
+		try {
+			Files.write(file.toPath(), Arrays.copyOf(this.fileBytes, this.fileBytes.length - 8));
+			try (RandomAccessFile random_in = new RandomAccessFile(file, "r")) {
+				OsdDataSection.read(random_in.getChannel(), HEADER_SIZE, RECORD_DATA_SIZE, POINTS_LENGTH, false);
+				fail("the section exceeds the file");
+			}
+			catch (EOFException e) {
+				// expected
+			}
+		}
+		finally {
+			file.delete();
+		}
+	}
+
+	public void testStreamedSection() throws IOException {
+		DataInputStream data_in = new DataInputStream(new ByteArrayInputStream(this.fileBytes));
+		data_in.skipBytes(HEADER_SIZE);
+		OsdDataSection dataSection = OsdDataSection.stream(data_in, RECORD_DATA_SIZE, POINTS_LENGTH, false);
+		checkSection(dataSection);
+		dataSection.skipUnread();
+		assertEquals(4711, data_in.readInt());
+	}
+
+	public void testPartialReadAndByteArray() throws IOException {
+		DataInputStream data_in = new DataInputStream(new ByteArrayInputStream(this.fileBytes));
+		data_in.skipBytes(HEADER_SIZE);
+		OsdDataSection dataSection = OsdDataSection.stream(data_in, RECORD_DATA_SIZE, POINTS_LENGTH, false);
+		dataSection.readPoints(new int[POINTS_LENGTH]);
+		dataSection.skipUnread();
+		assertEquals(4711, data_in.readInt());
+
+		data_in = new DataInputStream(new ByteArrayInputStream(this.fileBytes));
+		data_in.skipBytes(HEADER_SIZE);
+		dataSection = OsdDataSection.stream(data_in, RECORD_DATA_SIZE, POINTS_LENGTH, false);
+		byte[] expected = Arrays.copyOfRange(this.fileBytes, HEADER_SIZE, this.fileBytes.length - 4);
+		assertTrue(Arrays.equals(expected, dataSection.toByteArray()));
+		assertEquals(4711, data_in.readInt());
+	}
+
+	private void checkSection(OsdDataSection dataSection) throws IOException {
+		int[] points = new int[POINTS_LENGTH + 1];
+		for (int i = 0; i < RECORD_DATA_SIZE; i++) {
+			dataSection.readPoints(points);
+			assertEquals(i * 100, dataSection.getTimeStamp(i));
+			for (int j = 0; j < POINTS_LENGTH; j++) {
+				assertEquals(j % 2 == 0 ? i * j : -i - j, points[j]);
+			}
+		}
+	}
+}
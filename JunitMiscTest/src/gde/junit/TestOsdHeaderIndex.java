@@ -0,0 +1,119 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import gde.GDE;
+import gde.exception.NotSupportedFileFormatException;
+import gde.utils.OsdHeaderIndex;
+import junit.framework.TestCase;
+
+public class TestOsdHeaderIndex extends TestCase {
+
+	private Path					tmpDir;
+	private final AtomicInteger	readCount	= new AtomicInteger();
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.tmpDir = Files.createTempDirectory("OsdHeaderIndex");
+		this.readCount.set(0);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		File[] files = this.tmpDir.toFile().listFiles();
+		if (files != null) for (File file : files) file.delete();
+		this.tmpDir.toFile().delete();
+		super.tearDown();
+	}
+
+	/**
+	 * the fake OSD files hold the object key in the first line and the record set names in the following lines, "link" marks a link
+	 */
+	private Map<String, String> readHeader(File file) throws IOException, NotSupportedFileFormatException {
+		this.readCount.incrementAndGet();
+		List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+		if (lines.get(0).equals("link")) return null;
+		if (lines.get(0).equals("invalid")) throw new NotSupportedFileFormatException(file.getPath());
+		Map<String, String> header = new HashMap<>();
+		header.put(GDE.OBJECT_KEY, lines.get(0));
+		header.put(GDE.RECORD_SET_SIZE, String.valueOf(lines.size() - 1));
+		for (int i = 1; i < lines.size(); i++) {
+			header.put(i + GDE.STRING_BLANK + GDE.RECORD_SET_NAME, lines.get(i) + GDE.DATA_DELIMITER + "RecordSetComment : ");
+		}
+		return header;
+	}
+
+	private File createFile(String name, String... lines) throws IOException {
+		return Files.write(this.tmpDir.resolve(name), Arrays.asList(lines), StandardCharsets.UTF_8).toFile();
+	}
+
+	private OsdHeaderIndex createIndex() {
+		return new OsdHeaderIndex(this.tmpDir.resolve("index.csv"), this::readHeader);
+	}
+
+	public void testIncrementalUpdate() throws IOException {
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			files.add(createFile(String.format("%03d.osd", i), "Object" + (i % 3), "1) Flight", "2) Flight"));
+		}
+		files.add(createFile("link.osd", "link"));
+		files.add(createFile("invalid.osd", "invalid"));
+
+		List<OsdHeaderIndex.Entry> entries = createIndex().update(files);
+		assertEquals(files.size(), this.readCount.get());
+		assertEquals(files.size(), entries.size());
+		assertEquals("Object1", entries.get(1).getObjectKey());
+		assertEquals(Arrays.asList("1) Flight", "2) Flight"), entries.get(1).getRecordSetNames());
+		assertTrue(entries.get(100).isLink());
+		assertFalse(entries.get(101).isLink());
+		assertEquals(GDE.STRING_EMPTY, entries.get(101).getObjectKey());
+
+		// a new index instance loads the persisted entries and reads only the modified file
+		this.readCount.set(0);
+		File modifiedFile = createFile("007.osd", "Object9", "1) Flight");
+		modifiedFile.setLastModified(modifiedFile.lastModified() + 2000);
+		entries = createIndex().update(files);
+		assertEquals(1, this.readCount.get());
+		assertEquals("Object9", entries.get(7).getObjectKey());
+		assertEquals(Arrays.asList("1) Flight"), entries.get(7).getRecordSetNames());
+		assertEquals("Object2", entries.get(8).getObjectKey());
+		assertTrue(entries.get(100).isLink());
+
+		// deleted files are removed from the index
+		this.readCount.set(0);
+		OsdHeaderIndex index = createIndex();
+		assertTrue(files.remove(0).delete());
+		assertEquals(files.size(), index.update(files).size());
+		assertEquals(0, this.readCount.get());
+		assertEquals(files.size(), createIndex().size());
+	}
+}
@@ -0,0 +1,91 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.util.Vector;
+
+import gde.data.PointStore;
+import junit.framework.TestCase;
+
+public class TestPointStore extends TestCase {
+
+	public void testAddGetAcrossChunks() {
+		PointStore store = new PointStore(10);
+		Vector<Integer> reference = new Vector<Integer>();
+		for (int i = 0; i < 3 * 4096 + 17; i++) {
+			Integer point = i % 1000 == 7 ? null : i * 3 - 5000;
+			store.add(point);
+			reference.add(point);
+		}
+		assertEquals(reference.size(), store.size());
+		assertTrue(store.hasNulls());
+		for (int i = 0; i < reference.size(); i++) {
+			assertEquals(reference.get(i), store.get(i));
+			assertEquals(reference.get(i) == null, store.isNull(i));
+			assertEquals(reference.get(i) == null ? 0 : reference.get(i).intValue(), store.getInt(i));
+		}
+	}
+
+	public void testSetInsertRemove() {
+		PointStore store = new PointStore(0);
+		Vector<Integer> reference = new Vector<Integer>();
+		for (int i = 0; i < 5000; i++) {
+			store.add(i);
+			reference.add(i);
+		}
+		assertEquals(reference.set(4100, null), store.set(4100, null));
+		assertEquals(reference.set(7, -7), store.set(7, -7));
+		reference.add(4000, null);
+		store.insert(4000, null);
+		assertEquals(reference.remove(10), store.remove(10));
+		assertEquals(reference.remove(4099), store.remove(4099));
+		assertEquals(reference.size(), store.size());
+		for (int i = 0; i < reference.size(); i++) {
+			assertEquals(reference.get(i), store.get(i));
+		}
+		for (int i = 0; i < reference.size(); i++) {
+			if (reference.get(i) == null) store.set(i, 1);
+		}
+		assertFalse(store.isNull(3999));
+		assertFalse(store.hasNulls());
+	}
+
+	public void testCopyAndBounds() {
+		PointStore store = new PointStore(4);
+		for (int i = 0; i < 9000; i++) {
+			store.add(i);
+		}
+		PointStore copy = new PointStore(store);
+		copy.set(0, 42);
+		assertEquals(0, store.getInt(0));
+		int[] values = copy.toIntArray();
+		assertEquals(9000, values.length);
+		assertEquals(42, values[0]);
+		assertEquals(8999, values[8999]);
+		try {
+			store.getInt(9000);
+			fail("out of bounds access must fail like a Vector");
+		}
+		catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+		store.clear();
+		assertEquals(0, store.size());
+	}
+}
@@ -0,0 +1,121 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.HashMap;
+
+import gde.GDE;
+import gde.data.Channel;
+import gde.data.RecordSet;
+import gde.device.DeviceConfiguration;
+import gde.device.IDevice;
+import gde.io.OsdReaderWriter;
+
+/**
+ * checks the release and the reload of record set data above the record set memory budget
+ * using a file with six record sets of more than 1 MB data each
+ */
+public class TestRecordSetMemoryBudget extends TestSuperClass {
+
+	static final String	FILE_PATH	= "Picolario/2008-07-24-MultipleBigRecords-2.osd";
+
+	private int					budget_MB;
+	private Channel			activeChannel;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		this.budget_MB = this.settings.getRecordSetMemoryBudget_MB();
+		this.settings.setRecordSetMemoryBudget_MB(1);
+
+		File file = DataSource.TESTDATA.getDataPath(Paths.get(FILE_PATH)).toFile();
+		HashMap<String, String> fileHeader = OsdReaderWriter.getHeader(file.getAbsolutePath());
+		DeviceConfiguration deviceConfig = this.deviceConfigurations.get(fileHeader.get(GDE.DEVICE_NAME));
+		IDevice device = this.getInstanceOfDevice(deviceConfig);
+		this.analyzer.setActiveDevice(device);
+		setupDataChannels(device);
+
+		OsdReaderWriter.read(file.getAbsolutePath());
+		this.activeChannel = this.channels.getActiveChannel();
+		this.activeChannel.setFileName(file.getAbsolutePath());
+		this.activeChannel.setFileDescription(fileHeader.get(GDE.FILE_COMMENT));
+		this.activeChannel.setSaved(true);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		this.settings.setRecordSetMemoryBudget_MB(this.budget_MB);
+		super.tearDown();
+	}
+
+	/**
+	 * the record set loaded while opening the file takes part in the least recently used order and gets released like the others
+	 */
+	public void testEvictionOfFirstLoadedRecordSet() {
+		String[] recordSetNames = this.activeChannel.getRecordSetNames();
+		assertTrue(recordSetNames.length > 2);
+		RecordSet firstRecordSet = this.activeChannel.getActiveRecordSet() != null ? this.activeChannel.getActiveRecordSet() : this.activeChannel.get(recordSetNames[0]);
+		assertTrue(firstRecordSet.hasDisplayableData());
+
+		for (String recordSetName : recordSetNames) {
+			if (!recordSetName.equals(firstRecordSet.getName())) switchRecordSet(recordSetName);
+		}
+		assertFalse(firstRecordSet.getName() + " data not released", firstRecordSet.hasDisplayableData());
+		RecordSet activeRecordSet = this.activeChannel.getActiveRecordSet();
+		assertTrue(activeRecordSet.hasDisplayableData());
+		assertEquals(activeRecordSet.getDataMemorySize(), this.activeChannel.getDataMemorySize());
+	}
+
+	/**
+	 * released record sets reload identical data from file
+	 */
+	public void testReload() {
+		String[] recordSetNames = this.activeChannel.getRecordSetNames();
+		RecordSet recordSet = switchRecordSet(recordSetNames[1]);
+		int recordDataSize = recordSet.getRecordDataSize(true);
+		int[] points = new int[recordSet.getNoneCalculationRecordNames().length];
+		for (int j = 0; j < points.length; j++) {
+			points[j] = recordSet.get(recordSet.getNoneCalculationRecordNames()[j]).realGet(recordDataSize / 2);
+		}
+
+		switchRecordSet(recordSetNames[2]);
+		switchRecordSet(recordSetNames[3]);
+		assertFalse(recordSet.hasDisplayableData());
+
+		assertSame(recordSet, switchRecordSet(recordSetNames[1]));
+		assertTrue(recordSet.hasDisplayableData());
+		assertEquals(recordDataSize, recordSet.getRecordDataSize(true));
+		for (int j = 0; j < points.length; j++) {
+			assertEquals(points[j], recordSet.get(recordSet.getNoneCalculationRecordNames()[j]).realGet(recordDataSize / 2).intValue());
+		}
+	}
+
+	/**
+	 * activate a record set like the record set selection does
+	 */
+	private RecordSet switchRecordSet(String recordSetName) {
+		this.activeChannel.setActiveRecordSet(recordSetName);
+		RecordSet recordSet = this.activeChannel.get(recordSetName);
+		if (!recordSet.hasDisplayableData()) recordSet.loadFileData(this.activeChannel.getFullQualifiedFileName(), false);
+		this.activeChannel.checkRecordSetMemoryBudget(recordSet);
+		return recordSet;
+	}
+}
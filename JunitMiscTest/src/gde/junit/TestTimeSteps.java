@@ -0,0 +1,122 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.Vector;
+
+import gde.data.TimeSteps;
+import junit.framework.TestCase;
+
+/**
+ * compares the time lookup of the primitive time steps with the former linear Vector<Long> implementation
+ * using a HoTT like time base with time steps of 10 ms and randomly lost packages.
+ */
+public class TestTimeSteps extends TestCase {
+	static final int			POINTS		= 100000;
+	static final int			LOOKUPS		= 200;
+
+	private TimeSteps			timeSteps;
+	private Vector<Long>	reference;
+	private double[]			lookupTimes_ms;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		Random random = new Random(4711);
+		this.timeSteps = new TimeSteps(-1.0, POINTS);
+		this.reference = new Vector<Long>(POINTS);
+		long time_100ns = 0;
+		for (int i = 0; i < POINTS; i++) {
+			this.timeSteps.addRaw(time_100ns);
+			this.reference.add(time_100ns);
+			time_100ns += random.nextInt(20) == 0 ? 100 * (1 + random.nextInt(50)) : 100; // lost packages
+		}
+		this.lookupTimes_ms = new double[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			this.lookupTimes_ms[i] = random.nextDouble() * (time_100ns / 10.0 + 100.);
+		}
+		this.lookupTimes_ms[0] = this.reference.get(POINTS / 2) / 10.0; // exact match
+		this.lookupTimes_ms[1] = this.reference.lastElement() / 10.0;
+		this.lookupTimes_ms[2] = 0.05;
+	}
+
+	public void testFindBoundingIndexes() {
+		for (double time_ms : this.lookupTimes_ms) {
+			int[] expected = findBoundingIndexesLinear(this.reference, time_ms);
+			int[] actual = this.timeSteps.findBoundingIndexes(time_ms);
+			assertEquals("index1 @" + time_ms, expected[0], actual[0]);
+			assertEquals("index2 @" + time_ms, expected[1], actual[1]);
+		}
+	}
+
+	public void testFindBestIndex() {
+		for (double time_ms : this.lookupTimes_ms) {
+			assertEquals("best index @" + time_ms, findBestIndexLinear(this.reference, time_ms), this.timeSteps.findBestIndex(time_ms));
+		}
+	}
+
+	public void testGetBestIndex() {
+		for (double time_ms : this.lookupTimes_ms) {
+			int index = this.timeSteps.getBestIndex(time_ms, Comparator.naturalOrder());
+			int linearIndex = findBestIndexLinear(this.reference, time_ms);
+			assertEquals("best index @" + time_ms, Math.min(linearIndex, POINTS - 1), index, 1);
+		}
+	}
+
+	/**
+	 * former linear implementation of TimeSteps.findBoundingIndexes for individual time steps
+	 */
+	static int[] findBoundingIndexesLinear(Vector<Long> steps, double time_ms) {
+		int index1 = 0, index2 = 0;
+		int elementCount = steps.size();
+		if (time_ms > 0 && elementCount > 0) {
+			long value = (long) (time_ms * 10.0);
+			for (; index2 < elementCount - 1; index2++) {
+				if (value == steps.get(index2)) {
+					index1 = index2;
+					break;
+				}
+				else if (value < steps.get(index2)) {
+					index1 = index2 > 0 ? index2 - 1 : 0;
+					break;
+				}
+				index1 = index2 + 1;
+			}
+		}
+		return new int[] { index1, index2 };
+	}
+
+	/**
+	 * linear search starting at index 0 for TimeSteps.findBestIndex with individual time steps
+	 */
+	static int findBestIndexLinear(Vector<Long> steps, double time_ms) {
+		int index = 0;
+		int elementCount = steps.size();
+		if (time_ms > 0) {
+			long value = (long) (time_ms * 10.0);
+			for (; index < elementCount; index++) {
+				if (value <= steps.get(index)) break;
+			}
+			if (index + 1 <= elementCount && (index > 0 && value <= (steps.get(index) + steps.get(index - 1)) / 2)) index = index - 1;
+		}
+		return index;
+	}
+}
@@ -0,0 +1,76 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.junit;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.Vector;
+
+import gde.data.TimeSteps;
+
+/**
+ * Measures the logarithmic time lookup of the primitive time steps against the former linear Vector<Long> lookup
+ * on a HoTT like time base with time steps of 10 ms and randomly lost packages.
+ * Not part of the test suite, run it manually with the number of time steps and lookups as arguments, e.g. 1000000 100.
+ */
+public class TimeStepsBenchmark {
+
+	/**
+	 * @param args the number of time steps, default 1000000, and the number of lookups, default 100
+	 */
+	public static void main(String[] args) {
+		int points = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+		Random random = new Random(4711);
+		TimeSteps timeSteps = new TimeSteps(-1.0, points);
+		Vector<Long> reference = new Vector<Long>(points);
+		long time_100ns = 0;
+		for (int i = 0; i < points; i++) {
+			timeSteps.addRaw(time_100ns);
+			reference.add(time_100ns);
+			time_100ns += random.nextInt(20) == 0 ? 100 * (1 + random.nextInt(50)) : 100; // lost packages
+		}
+		double[] lookupTimes_ms = new double[lookups];
+		for (int i = 0; i < lookups; i++) {
+			lookupTimes_ms[i] = random.nextDouble() * time_100ns / 10.0;
+		}
+
+		for (int run = 0; run < 3; run++) { // the first runs warm up the JIT
+			long startTime = System.nanoTime();
+			long linearChecksum = 0;
+			for (double time_ms : lookupTimes_ms) {
+				int[] indexes = TestTimeSteps.findBoundingIndexesLinear(reference, time_ms);
+				linearChecksum += indexes[0] + indexes[1] + TestTimeSteps.findBestIndexLinear(reference, time_ms);
+			}
+			long linearTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			long indexChecksum = 0;
+			for (double time_ms : lookupTimes_ms) {
+				int[] indexes = timeSteps.findBoundingIndexes(time_ms);
+				indexChecksum += indexes[0] + indexes[1] + timeSteps.findBestIndex(time_ms);
+			}
+			long indexTime = System.nanoTime() - startTime;
+
+			System.out.println(String.format(Locale.ENGLISH, "%d time steps, %d lookups: linear Vector<Long> %d ms, long[] index %.3f ms, checksums %s", points, lookups,
+					linearTime / 1000000, indexTime / 1000000., linearChecksum == indexChecksum ? "equal" : "DIFFERENT"));
+		}
+	}
+}
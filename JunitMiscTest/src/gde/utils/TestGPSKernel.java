@@ -0,0 +1,164 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.utils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Random;
+
+import gde.data.Record;
+import gde.device.IDevice;
+import junit.framework.TestCase;
+
+/**
+ * compares the kernel calculations with the point by point formulas GPSHelper used before the kernel
+ */
+public class TestGPSKernel extends TestCase {
+
+	private static final double	RAD			= Math.PI / 180;
+
+	private final Random				random	= new Random(4711);
+
+	/**
+	 * central angle and course between consecutive points and between the start point and each point
+	 */
+	public void testCentralAngleAndCourse() {
+		double[] latitudes = new double[2000];
+		double[] longitudes = new double[2000];
+		latitudes[0] = 48.5;
+		longitudes[0] = 9.1;
+		for (int i = 1; i < latitudes.length; i++) {
+			double step = i % 500 == 0 ? 5. : 0.001; // includes points farther than PI degrees from the start
+			latitudes[i] = latitudes[i - 1] + (this.random.nextDouble() - 0.5) * step;
+			longitudes[i] = longitudes[i - 1] + (this.random.nextDouble() - 0.5) * step;
+		}
+		GPSKernel kernel = new GPSKernel(latitudes, longitudes);
+		assertEquals(latitudes.length, kernel.size());
+
+		for (int i = 1; i < latitudes.length; i++) {
+			for (int indexA : new int[] { i - 1, 0 }) {
+				double zeta_rad = getLegacyCentralAngle_rad(latitudes[indexA], longitudes[indexA], latitudes[i], longitudes[i]);
+				assertEquals("zeta " + indexA + ".." + i, zeta_rad, kernel.getCentralAngle_rad(indexA, i), 1e-12);
+
+				boolean isWestward = longitudes[indexA] > longitudes[i];
+				double alpha = getLegacyCourse_deg(latitudes[indexA], latitudes[i], zeta_rad, isWestward);
+				assertEquals("alpha " + indexA + ".." + i, alpha, kernel.getCourse_deg(indexA, i, zeta_rad, isWestward), 1e-9);
+			}
+		}
+	}
+
+	/**
+	 * distances and the speeds derived from them match the scalar GPSHelper methods
+	 */
+	public void testDistances() {
+		double[] latitudes = new double[500];
+		double[] longitudes = new double[500];
+		double[] altitudes = new double[500];
+		for (int i = 0; i < latitudes.length; i++) {
+			latitudes[i] = 47. + this.random.nextDouble() * 0.1;
+			longitudes[i] = 8. + this.random.nextDouble() * 0.1;
+			altitudes[i] = 400. + this.random.nextDouble() * 200.;
+		}
+		GPSKernel kernel = new GPSKernel(latitudes, longitudes);
+
+		for (int i = 5; i < latitudes.length; i++) {
+			double distance2D = GPSHelper.getDistance2D_m(latitudes[i - 5], longitudes[i - 5], latitudes[i], longitudes[i]);
+			assertEquals(distance2D, kernel.getDistance2D_m(i - 5, i), 1e-6);
+			double distance3D = GPSHelper.getDistance3D_m(latitudes[i - 4], longitudes[i - 4], altitudes[i - 4], latitudes[i], longitudes[i], altitudes[i]);
+			assertEquals(distance3D, kernel.getDistance3D_m(i - 4, i, altitudes), 1e-6);
+			assertEquals(GPSHelper.getSpeed2D_kmh(latitudes[i - 5], longitudes[i - 5], 0, latitudes[i], longitudes[i], 10000), //
+					kernel.getDistance2D_m(i - 5, i) / 1000 * 3600., 1e-6);
+		}
+	}
+
+	/**
+	 * records shorter than the latitude record are padded with their last point as the former Record.get(int) access did
+	 */
+	public void testShorterRecords() {
+		IDevice device = createDevice();
+		Record recordLatitude = createRecord(device, 0, "Latitude");
+		Record recordLongitude = createRecord(device, 1, "Longitude");
+		Record recordAltitude = createRecord(device, 2, "Altitude");
+		for (int i = 0; i < 10; i++) {
+			recordLatitude.add(48000000 + i * 100);
+			if (i < 7) recordLongitude.add(9000000 + i * 100);
+			if (i < 4) recordAltitude.add(500000 + i * 1000);
+		}
+
+		GPSKernel kernel = GPSKernel.of(device, recordLatitude, recordLongitude);
+		assertEquals(10, kernel.size());
+		for (int i = 0; i < 10; i++) {
+			double latitude = (48000000 + i * 100) / 1000.;
+			double longitude = (9000000 + Math.min(i, 6) * 100) / 1000.;
+			assertEquals(latitude, kernel.getLatitude(i), 0.);
+			assertEquals(longitude, kernel.getLongitude(i), 0.);
+			if (i > 0) assertEquals(getLegacyCentralAngle_rad(kernel.getLatitude(i - 1), kernel.getLongitude(i - 1), latitude, longitude), kernel.getCentralAngle_rad(i - 1, i), 1e-12);
+		}
+
+		double[] altitudes_m = GPSKernel.translate(device, recordAltitude, recordLatitude.realSize());
+		assertEquals(10, altitudes_m.length);
+		for (int i = 0; i < 10; i++) {
+			assertEquals((500000 + Math.min(i, 3) * 1000) / 1000., altitudes_m[i], 0.);
+		}
+
+		Record emptyRecord = createRecord(device, 3, "Empty");
+		assertEquals(10, GPSKernel.toIntArray(emptyRecord, 10).length);
+		assertEquals(0, GPSKernel.toIntArray(emptyRecord, 10)[9]);
+	}
+
+	/**
+	 * the central angle formula of the former GPSHelper calculations
+	 */
+	private static double getLegacyCentralAngle_rad(double latitudeA, double longitudeA, double latitudeB, double longitudeB) {
+		double phi_A_rad = latitudeA * RAD;
+		double phi_B_rad = latitudeB * RAD;
+		double prod = (Math.sin(phi_A_rad) * Math.sin(phi_B_rad)) + (Math.cos(phi_A_rad) * Math.cos(phi_B_rad) * Math.cos((longitudeB - longitudeA) * RAD));
+		prod = prod > 1.0 ? 1.0 : prod < -1.0 ? -1.0 : prod;
+		double zeta_rad = Math.acos(prod);
+		return zeta_rad <= 0.0 ? 0.0 : zeta_rad >= Math.PI ? Math.PI : zeta_rad;
+	}
+
+	/**
+	 * the course angle formula of the former GPSHelper azimuth calculation
+	 */
+	private static double getLegacyCourse_deg(double latitudeA, double latitudeB, double zeta_rad, boolean isWestward) {
+		double phi_A_rad = latitudeA * RAD;
+		double phi_B_rad = latitudeB * RAD;
+		double prod_alpha = zeta_rad <= 0.0 ? -1.0 : zeta_rad >= Math.PI ? Math.PI : (Math.sin(phi_B_rad) - (Math.sin(phi_A_rad) * Math.cos(zeta_rad))) / (Math.cos(phi_A_rad) * Math.sin(zeta_rad));
+		double alpha = Math.acos(prod_alpha < -1.0 ? -1.0 : prod_alpha > 1.0 ? 1.0 : prod_alpha) / RAD;
+		return isWestward ? 360.0 - alpha : alpha;
+	}
+
+	/**
+	 * @return a device which translates the values unchanged and provides the defaults otherwise
+	 */
+	private static IDevice createDevice() {
+		return (IDevice) Proxy.newProxyInstance(IDevice.class.getClassLoader(), new Class<?>[] { IDevice.class }, (proxy, method, args) -> {
+			if (method.getName().equals("translateValue")) return args[1];
+			Class<?> returnType = method.getReturnType();
+			return returnType.isPrimitive() && returnType != void.class ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+		});
+	}
+
+	private static Record createRecord(IDevice device, int ordinal, String name) {
+		return new Record(device, ordinal, name, name, "°", true, null, new ArrayList<>(), 10);
+	}
+
+}
@@ -0,0 +1,114 @@
+/**************************************************************************************
+  	This file is part of GNU DataExplorer.
+
+    GNU DataExplorer is free software: you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    GNU DataExplorer is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with GNU DataExplorer.  If not, see <https://www.gnu.org/licenses/>.
+
+    Copyright (c) 2026 agent
+****************************************************************************************/
+package gde.utils;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * compares the sliding window sums with the nested loops over the regression window
+ * which the linear regression classes used before
+ */
+public class TestSlidingWindowRegression extends TestCase {
+
+	private static final int	POINT_INTERVAL	= 3;
+
+	private final Random			random					= new Random(4711);
+
+	public void testLinearRegressionWindow() {
+		for (int windowSize : new int[] { 4, 5, 17, 80, 400 }) {
+			int[] points = createPoints(5000);
+			double timeStep_sec = .05;
+			assertEqualWindows(points, windowSize, timeStep_sec, timeStep_sec);
+		}
+	}
+
+	public void testQuasiLinearRegressionWindow() {
+		for (int windowSize : new int[] { 4, 5, 17, 80, 400 }) {
+			int[] points = createPoints(5000);
+			double timeStep_sec = .2;
+			double avgX = 0;
+			for (int i = 0; i < windowSize; i++) {
+				avgX = avgX + (1 / timeStep_sec * i);
+			}
+			avgX = avgX / windowSize;
+			assertEqualWindows(points, windowSize, 1 / timeStep_sec, avgX);
+		}
+	}
+
+	/**
+	 * a record which is only a few points longer than the window
+	 */
+	public void testShortRecord() {
+		int windowSize = 10;
+		int[] points = createPoints(windowSize + 7);
+		assertEqualWindows(points, windowSize, 1., 1.);
+	}
+
+	/**
+	 * slide the window with the point interval of the regression classes and compare each position
+	 */
+	private void assertEqualWindows(int[] points, int windowSize, double xFactor, double avgX) {
+		int pointsPerInterval = windowSize + 1;
+		int modCounter = (points.length - (pointsPerInterval - POINT_INTERVAL)) / POINT_INTERVAL;
+		SlidingWindowRegression window = new SlidingWindowRegression(points, windowSize);
+		int startPosition = 0;
+		for (--modCounter; modCounter > 0; --modCounter) {
+			double[] expected = getNestedLoopsAvgYSsXY(points, startPosition, windowSize, xFactor, avgX);
+			assertEquals("avgY at " + startPosition, expected[0], window.getAvgY(), Math.abs(expected[0]) * 1e-12);
+			double ssXY = window.getSsXY(xFactor, avgX);
+			assertEquals("ssXY at " + startPosition, expected[1], ssXY, Math.max(1e-6, Math.abs(expected[1]) * 1e-9));
+			startPosition += POINT_INTERVAL;
+			window.slide(POINT_INTERVAL);
+		}
+	}
+
+	/**
+	 * @return the average y and the ssXY value calculated with the loops of the former regression implementation
+	 */
+	private static double[] getNestedLoopsAvgYSsXY(int[] points, int startPosition, int windowSize, double xFactor, double avgX) {
+		double avgY = 0.0;
+		for (int i = 1; i <= windowSize; i++) {
+			avgY = avgY + points[i + startPosition];
+		}
+		avgY = avgY / windowSize;
+
+		double ssXY = 0.0;
+		for (int i = 1; i <= windowSize; i++) {
+			ssXY = ssXY + (((xFactor * i) - avgX) * (points[i + startPosition] - avgY));
+		}
+		ssXY = ssXY / windowSize;
+		return new double[] { avgY, ssXY };
+	}
+
+	/**
+	 * @return an altitude like curve with noise in the range of a few hundred meters (scaled by 1000)
+	 */
+	private int[] createPoints(int size) {
+		int[] points = new int[size];
+		int value = 150000;
+		for (int i = 0; i < size; i++) {
+			value += this.random.nextInt(2001) - 1000;
+			points[i] = value;
+		}
+		return points;
+	}
+
+}
@@ -179,7 +179,7 @@ public class LiPoWatchLiveGatherer extends Thread {
 						}
 
 						if (recordSet.isChildOfActiveChannel() && recordSet.equals(LiPoWatchLiveGatherer.this.channels.getActiveChannel().getActiveRecordSet())) {
-							LiPoWatchLiveGatherer.this.application.updateAllTabs(false);
+							LiPoWatchLiveGatherer.this.application.updateLiveTabs();
 						}
 					}
 				}
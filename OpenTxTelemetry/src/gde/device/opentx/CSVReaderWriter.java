@@ -48,12 +48,12 @@ import gde.data.Record;
 import gde.data.RecordSet;
 import gde.device.DeviceConfiguration;
 import gde.device.IDevice;
-import gde.device.InputTypes;
 import gde.device.MeasurementType;
 import gde.exception.DataInconsitsentException;
 import gde.exception.DataTypeException;
 import gde.exception.MissMatchDeviceException;
 import gde.exception.NotSupportedFileFormatException;
+import gde.io.CSVTokenizer;
 import gde.log.Level;
 import gde.messages.MessageIds;
 import gde.messages.Messages;
@@ -217,11 +217,9 @@ public class CSVReaderWriter {
 	 */
 	public static RecordSet read(char separator, String filePath, String recordSetNameExtend) throws NotSupportedFileFormatException, MissMatchDeviceException, IOException, DataInconsitsentException,
 			DataTypeException {
-		String line = GDE.STRING_STAR;
 		RecordSet recordSet = null;
 		long inputFileSize = new File(filePath).length();
-		int progressLineLength = Math.abs(CSVReaderWriter.application.getActiveDevice().getDataBlockSize(InputTypes.FILE_IO));
-		BufferedReader reader; // to read the data
+		CSVTokenizer tokenizer; // to read the data
 		IDevice device = CSVReaderWriter.application.getActiveDevice();
 		Channel activeChannel = null;
 		Vector<String> createdRecordSets = new Vector<>();
@@ -246,11 +244,12 @@ public class CSVReaderWriter {
 				fileHeader = CSVReaderWriter.evaluateType(separator, fileHeader, (DeviceConfiguration) device);
 				CSVReaderWriter.log.log(Level.FINE, "device name check ok, channel/configuration ok"); //$NON-NLS-1$
 
-				reader = new BufferedReader(new InputStreamReader(new FileInputStream(filePath), "ISO-8859-1")); //$NON-NLS-1$
+				tokenizer = new CSVTokenizer(new FileInputStream(filePath), separator, true);
 				int lineNumber = 0;
-				while (!(line.startsWith("Date,Time")) && ((line = reader.readLine()) != null)) {
+				while (tokenizer.nextLine()) {
 					// read until Date,Time,SWR,RSSI,A1,A2,A3,A4,GPS Date,GPS Time,Long,Lat,Course,GPS Speed(kts),GPS Alt,Baro Alt(m),Vertical Speed,Air Speed(kts),Temp1,Temp2,RPM,Fuel,Cell volts,Cell 1,Cell 2,Cell 3,Cell 4,Cell 5,Cell 6,Cell 7,Cell 8,Cell 9,Cell 10,Cell 11,Cell 12,Current,Consumption,Vfas,AccelX,AccelY,AccelZ,Rud,Ele,Thr,Ail,S1,S2,S3,LS,RS,SA,SB,SC,SD,SE,SF,SG,SH
 					++lineNumber;
+					if (tokenizer.startsWith("Date,Time")) break;
 				}
 
 				if (GDE.isWithUi()) {
@@ -269,26 +268,7 @@ public class CSVReaderWriter {
 				String recordSetName = recordSet.getName(); // cut length
 				createdRecordSets.add(recordSetName);
 
-				//find GPS related records and try to assign data type
-				for (int i = 0; i < recordSet.size(); i++) {
-					Record record = recordSet.get(i);
-					if (record.getName().toLowerCase().contains("gps") && record.getName().toLowerCase().contains("speed") || record.getName().startsWith("GSpd"))
-						record.setDataType(Record.DataType.GPS_SPEED);
-					else if ((record.getName().toLowerCase().contains("gps") && (record.getName().toLowerCase().contains("alt") || record.getName().toLowerCase().contains("höhe"))) || record.getName().startsWith("GAlt"))
-						record.setDataType(Record.DataType.GPS_ALTITUDE);
-					else if ((record.getUnit().contains("°") && record.getUnit().contains("'") && (record.getName().toLowerCase().contains("long") || record.getName().toLowerCase().contains("länge")))
-							|| (record.getName().toLowerCase().contains("gps") && (record.getName().toLowerCase().contains("long") || record.getName().toLowerCase().contains("länge"))))
-						record.setDataType(Record.DataType.GPS_LONGITUDE);
-					else if (record.getUnit().contains("°") && record.getUnit().contains("'") && (record.getName().toLowerCase().contains("lat") || record.getName().toLowerCase().contains("breit"))
-							|| (record.getName().toLowerCase().contains("gps") && (record.getName().toLowerCase().contains("lat") || record.getName().toLowerCase().contains("breit"))))
-						record.setDataType(Record.DataType.GPS_LATITUDE);
-
-					MeasurementType measurement = device.getMeasurement(activeChannel.getNumber(), i);
-					if (log.isLoggable(Level.FINE)) log.log(Level.FINE, tmpRecordNames[i]);
-					measurement.setName(tmpRecordNames[i]);
-					measurement.setSymbol(tmpRecordSymbols[i]);
-					measurement.setUnit(tmpRecordUnits[i]);
-				}
+				assignDataTypes(recordSet, device, activeChannel, tmpRecordNames, tmpRecordUnits, tmpRecordSymbols);
 
 				long startTimeStamp = 0;
 				long lastTimeStamp = 0;
@@ -296,26 +276,34 @@ public class CSVReaderWriter {
 				// now get all data   0; 14,780;  0,598;  1,000;  8,838;  0,002
 				String[] updateRecordNames = recordSet.getRecordNames();
 				int[] points = new int[updateRecordNames.length];
-				while ((line = reader.readLine()) != null) {
+				// data field index of each record, date and time fields are followed by the record values except the ignored columns
+				int[] fieldIndices = new int[updateRecordNames.length];
+				List<String> skipIndexList = fileHeader.get(GDE.CSV_DATA_IGNORE_INDEX) != null ? StringHelper.stringToList(fileHeader.get(GDE.CSV_DATA_IGNORE_INDEX), separator) : new ArrayList<String>();
+				for (int i = 0, j = 0; i < updateRecordNames.length; i++, j++) {
+					while (skipIndexList.size() > 0 && j + 2 == Integer.valueOf(skipIndexList.get(0))) {
+						skipIndexList = skipIndexList.subList(1, skipIndexList.size());
+						++j;
+					}
+					fieldIndices[i] = j + 2;
+				}
+				while (tokenizer.nextLine()) {
 					++lineNumber;
-					if (line.startsWith("#")) {
+					if (tokenizer.startsWith('#')) {
+						String line = tokenizer.getLine();
 						if (recordSet.getRecordSetDescription().endsWith(GDE.LINE_SEPARATOR))
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line.substring(1) + GDE.LINE_SEPARATOR);
 						else
 							recordSet.setRecordSetDescription(recordSet.getRecordSetDescription() + line.replace('#', GDE.CHAR_BLANK) + GDE.LINE_SEPARATOR);
 						continue;
 					}
-					String[] dataStr = line.split(" |"+separator);
-					String data = dataStr[0].trim();
-					int year = Integer.parseInt(data.substring(0, 4));
-					int month = Integer.parseInt(data.substring(5, 7));
-					int day = Integer.parseInt(data.substring(8, 10));
-
-					data = dataStr[1].trim();
-					int hour = Integer.parseInt(data.substring(0, 2));
-					int minute = Integer.parseInt(data.substring(3, 5));
-					int second = Integer.parseInt(data.substring(6, 8));
-					int millis = Integer.parseInt(data.substring(9, 12));
+					int year = tokenizer.parseInt(0, 0, 4);
+					int month = tokenizer.parseInt(0, 5, 2);
+					int day = tokenizer.parseInt(0, 8, 2);
+
+					int hour = tokenizer.parseInt(1, 0, 2);
+					int minute = tokenizer.parseInt(1, 3, 2);
+					int second = tokenizer.parseInt(1, 6, 2);
+					int millis = tokenizer.parseInt(1, 9, 3);
 
 					Calendar calendar = new GregorianCalendar(year, month - 1, day, hour, minute, second);
 					long timeStamp = calendar.getTimeInMillis() + millis;
@@ -338,6 +326,7 @@ public class CSVReaderWriter {
 
 							recordSet = createRecordSet(recordSetNameExtend, device, activeChannel, tmpRecordNames, tmpRecordUnits, tmpRecordSymbols);
 							recordSetName = recordSet.getName(); // cut length
+							assignDataTypes(recordSet, device, activeChannel, tmpRecordNames, tmpRecordUnits, tmpRecordSymbols);
 							lastTimeStamp = startTimeStamp = 0;
 							if (!createdRecordSets.contains(recordSetName))
 								createdRecordSets.add(recordSetName);
@@ -353,49 +342,22 @@ public class CSVReaderWriter {
 							recordSet.descriptionAppendFilename(filePath);
 							activeChannel.setFileDescription((new SimpleDateFormat("yyyy-MM-dd").format(startTimeStamp)).substring(0, 10) + activeChannel.getFileDescription().substring(10));
 						}
-						
-						//find GPS related records and try to assign data type
-						for (int i = 0; i < recordSet.size(); i++) {
-							Record record = recordSet.get(i);
-							if (record.getName().toLowerCase().contains("gps") && record.getName().toLowerCase().contains("speed") || record.getName().startsWith("GSpd"))
-								record.setDataType(Record.DataType.GPS_SPEED);
-							else if ((record.getName().toLowerCase().contains("gps") && (record.getName().toLowerCase().contains("alt") || record.getName().toLowerCase().contains("höhe"))) || record.getName().startsWith("GAlt"))
-								record.setDataType(Record.DataType.GPS_ALTITUDE);
-							else if ((record.getUnit().contains("°") && record.getUnit().contains("'") && (record.getName().toLowerCase().contains("long") || record.getName().toLowerCase().contains("länge")))
-									|| (record.getName().toLowerCase().contains("gps") && (record.getName().toLowerCase().contains("long") || record.getName().toLowerCase().contains("länge"))))
-								record.setDataType(Record.DataType.GPS_LONGITUDE);
-							else if (record.getUnit().contains("°") && record.getUnit().contains("'") && (record.getName().toLowerCase().contains("lat") || record.getName().toLowerCase().contains("breit"))
-									|| (record.getName().toLowerCase().contains("gps") && (record.getName().toLowerCase().contains("lat") || record.getName().toLowerCase().contains("breit"))))
-								record.setDataType(Record.DataType.GPS_LATITUDE);
-
-							if (log.isLoggable(Level.FINE)) log.log(Level.FINE, record.getName() + " - " + record.getDataType());
-							MeasurementType measurement = device.getMeasurement(activeChannel.getNumber(), i);
-							measurement.setName(tmpRecordNames[i]);
-							measurement.setSymbol(tmpRecordSymbols[i]);
-							measurement.setUnit(tmpRecordUnits[i]);
-						}
 					}
 					else
 						continue;
 
-					List<String> skipIndexList = fileHeader.get(GDE.CSV_DATA_IGNORE_INDEX) != null ? StringHelper.stringToList(fileHeader.get(GDE.CSV_DATA_IGNORE_INDEX), separator) : new ArrayList<String>();
-					for (int i = 0, j = 0; i < updateRecordNames.length; i++, j++) { // only iterate over record names found in file
-						while (skipIndexList.size() > 0 && j + 2 == Integer.valueOf(skipIndexList.get(0))) {
-							skipIndexList = skipIndexList.subList(1, skipIndexList.size());
-							++j;
-						}
-						try {
-							data = dataStr[j + 2].trim().replace(GDE.STRING_BLANK, GDE.STRING_EMPTY);
-							//log.log(Level.OFF, String.format("%s i=%d j=%d %s", recordSet.get(i).getName(), i, j, data));
-						}
-						catch (Exception e) {
-							data = "0";
-							CSVReaderWriter.log.log(Level.WARNING, String.format("Check line = %s", line));
+					for (int i = 0; i < updateRecordNames.length; i++) { // only iterate over record names found in file
+						int fieldIndex = fieldIndices[i];
+						if (fieldIndex >= tokenizer.getFieldCount()) {
+							points[i] = 0;
+							CSVReaderWriter.log.log(Level.WARNING, String.format("Check line = %s", tokenizer.getLine()));
+							continue;
 						}
 
 						switch (recordSet.get(i).getDataType()) {
 						case GPS_LONGITUDE:
 						case GPS_LATITUDE:
+							String data = tokenizer.getString(fieldIndex);
 							if (data.contains(GDE.STRING_MINUS))
 								points[i] = 0;
 							else { //normalize GPS coordinate to enable %9.6f
@@ -421,9 +383,9 @@ public class CSVReaderWriter {
 
 						default:
 							try {
-								double value = Double.valueOf(data);
+								double value = tokenizer.parseDouble(fieldIndex);
 								if (value <= Integer.MIN_VALUE/1000 || value >= Integer.MAX_VALUE/1000)
-									log.log(Level.WARNING, String.format("Check line %d, found misterious value %s", lineNumber, data));
+									log.log(Level.WARNING, String.format("Check line %d, found misterious value %s", lineNumber, tokenizer.getString(fieldIndex)));
 								else
 									points[i] = (int) (value * 1000.0);
 								
@@ -436,8 +398,7 @@ public class CSVReaderWriter {
 					}
 					recordSet.addPoints(points, time_ms);
 
-					progressLineLength = progressLineLength > line.length() ? progressLineLength : line.length();
-					int progress = progressLineLength > 0 && inputFileSize > 0 ? (int) (lineNumber * 100 / (inputFileSize / progressLineLength)) : 50;
+					int progress = inputFileSize > 0 ? (int) (tokenizer.getBytePosition() * 100 / inputFileSize) : 50;
 					if (progress <= 90 && progress > GDE.getUiNotification().getProgressPercentage() && progress % 10 == 0) {
 						GDE.getUiNotification().setProgress(progress);
 						try {
@@ -466,8 +427,8 @@ public class CSVReaderWriter {
 				if (GDE.isWithUi() && createdRecordSets.size() > 0) 
 					activeChannel.switchRecordSet(createdRecordSets.firstElement()); //recordSetName);
 
-				reader.close();
-				reader = null;
+				tokenizer.close();
+				tokenizer = null;
 			}
 		}
 		catch (UnsupportedEncodingException e) {
@@ -510,6 +471,37 @@ public class CSVReaderWriter {
 		return recordSet;
 	}
 
+	/**
+	 * find GPS related records and try to assign data type, update the measurements with the record names
+	 * @param recordSet
+	 * @param device
+	 * @param activeChannel
+	 * @param tmpRecordNames
+	 * @param tmpRecordUnits
+	 * @param tmpRecordSymbols
+	 */
+	private static void assignDataTypes(RecordSet recordSet, IDevice device, Channel activeChannel, String[] tmpRecordNames, String[] tmpRecordUnits, String[] tmpRecordSymbols) {
+		for (int i = 0; i < recordSet.size(); i++) {
+			Record record = recordSet.get(i);
+			if (record.getName().toLowerCase().contains("gps") && record.getName().toLowerCase().contains("speed") || record.getName().startsWith("GSpd"))
+				record.setDataType(Record.DataType.GPS_SPEED);
+			else if ((record.getName().toLowerCase().contains("gps") && (record.getName().toLowerCase().contains("alt") || record.getName().toLowerCase().contains("höhe"))) || record.getName().startsWith("GAlt"))
+				record.setDataType(Record.DataType.GPS_ALTITUDE);
+			else if ((record.getUnit().contains("°") && record.getUnit().contains("'") && (record.getName().toLowerCase().contains("long") || record.getName().toLowerCase().contains("länge")))
+					|| (record.getName().toLowerCase().contains("gps") && (record.getName().toLowerCase().contains("long") || record.getName().toLowerCase().contains("länge"))))
+				record.setDataType(Record.DataType.GPS_LONGITUDE);
+			else if (record.getUnit().contains("°") && record.getUnit().contains("'") && (record.getName().toLowerCase().contains("lat") || record.getName().toLowerCase().contains("breit"))
+					|| (record.getName().toLowerCase().contains("gps") && (record.getName().toLowerCase().contains("lat") || record.getName().toLowerCase().contains("breit"))))
+				record.setDataType(Record.DataType.GPS_LATITUDE);
+
+			if (log.isLoggable(Level.FINE)) log.log(Level.FINE, record.getName() + " - " + record.getDataType());
+			MeasurementType measurement = device.getMeasurement(activeChannel.getNumber(), i);
+			measurement.setName(tmpRecordNames[i]);
+			measurement.setSymbol(tmpRecordSymbols[i]);
+			measurement.setUnit(tmpRecordUnits[i]);
+		}
+	}
+
 	/**
 	 * write data CVS file
 	 * @throws Exception
@@ -399,7 +399,7 @@ public class PolaronGathererThread extends Thread {
 
 			recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));
 
-			PolaronGathererThread.this.application.updateAllTabs(false);
+			PolaronGathererThread.this.application.updateLiveTabs();
 
 			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);
@@ -185,7 +185,7 @@ public class PulsarGathererThread extends Thread {
 
 					if (recordSet != null) {
 						if (recordSet.size() > 0 && recordSet.isChildOfActiveChannel() && recordSet.equals(this.channels.getActiveChannel().getActiveRecordSet())) {
-							PulsarGathererThread.this.application.updateAllTabs(false);
+							PulsarGathererThread.this.application.updateLiveTabs();
 						}
 						if (measurementCount > 0 && measurementCount % 2 == 0) {
 							this.device.updateVisibilityStatus(recordSet, true);
@@ -156,7 +156,7 @@ public class GathererThread extends Thread {
 					if (log.isLoggable(Level.TIME)) log.logp(Level.TIME, GathererThread.$CLASS_NAME, $METHOD_NAME, "time = " + TimeLine.getFomatedTimeWithUnit(tmpCycleTime - startCycleTime)); //$NON-NLS-1$
 
 					if (recordSet.isChildOfActiveChannel() && recordSet.equals(this.channels.getActiveChannel().getActiveRecordSet())) {
-						GathererThread.this.application.updateAllTabs(false);
+						GathererThread.this.application.updateLiveTabs();
 					}
 				}
 			}
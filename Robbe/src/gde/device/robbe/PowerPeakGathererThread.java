@@ -321,7 +321,7 @@ public class PowerPeakGathererThread extends Thread {
 				
 			recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));
 
-			PowerPeakGathererThread.this.application.updateAllTabs(false);
+			PowerPeakGathererThread.this.application.updateLiveTabs();
 
 			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);
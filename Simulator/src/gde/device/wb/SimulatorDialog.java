@@ -446,7 +446,7 @@ public class SimulatorDialog extends DeviceDialog {
 											recordSet.addPoints(points);
 										}
 
-										SimulatorDialog.this.application.updateAllTabs(false);
+										SimulatorDialog.this.application.updateLiveTabs();
 									}
 									catch (DataInconsitsentException e) {
 										if (SimulatorDialog.this.timerTask != null) SimulatorDialog.this.timerTask.cancel();
@@ -349,7 +349,7 @@ public class D100GathererThread extends Thread {
 			dataBuffer[0] = (byte) this.device.getBatteryType(channelBuffer); //flag buffer contains Ni or PB battery data
 			recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));
 
-			D100GathererThread.this.application.updateAllTabs(false);
+			D100GathererThread.this.application.updateLiveTabs();
 
 			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);
@@ -310,7 +310,7 @@ public class HitecX1RedGathererThread extends Thread {
 
 			recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));
 
-			HitecX1RedGathererThread.this.application.updateAllTabs(false);
+			HitecX1RedGathererThread.this.application.updateLiveTabs();
 
 			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);
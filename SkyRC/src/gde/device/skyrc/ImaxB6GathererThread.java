@@ -310,7 +310,7 @@ public class ImaxB6GathererThread extends Thread {
 			dataBuffer[0] = (byte) this.device.getBatteryType(channelBuffer); //flag buffer contains Ni or PB battery data
 			recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));
 
-			ImaxB6GathererThread.this.application.updateAllTabs(false);
+			ImaxB6GathererThread.this.application.updateLiveTabs();
 
 			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);
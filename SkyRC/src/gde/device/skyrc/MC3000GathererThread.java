@@ -274,7 +274,7 @@ public class MC3000GathererThread extends Thread {
 								}
 							}
 							
-							MC3000GathererThread.this.application.updateAllTabs(false);
+							MC3000GathererThread.this.application.updateLiveTabs();
 							this.application.setStatusMessage(GDE.STRING_EMPTY);
 							
 							//check for all processing finished and stop gathering after 15 min
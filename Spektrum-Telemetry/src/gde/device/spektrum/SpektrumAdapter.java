@@ -19,8 +19,11 @@
 package gde.device.spektrum;
 
 import java.io.FileNotFoundException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javax.xml.bind.JAXBException;
@@ -45,6 +48,7 @@ import gde.device.IDevice;
 import gde.device.MeasurementType;
 import gde.device.resource.DeviceXmlResource;
 import gde.exception.DataInconsitsentException;
+import gde.histo.utils.PathUtils;
 import gde.io.FileHandler;
 import gde.log.Level;
 import gde.messages.Messages;
@@ -274,6 +278,25 @@ public class SpektrumAdapter extends DeviceConfiguration implements IDevice {
 		reader.start();
 	}
 
+	/**
+	 * @return the *.tlm extention, *.log files are not supported by the import either
+	 */
+	@Override
+	public List<String> getReadableImportExtentions() {
+		return Arrays.asList(GDE.FILE_ENDING_DOT_TLM);
+	}
+
+	/**
+	 * read a Spektrum *.tlm data file into the channels without any user interaction
+	 * @param filePath
+	 */
+	@Override
+	public void readImportFile(Path filePath) throws Exception {
+		if (!getReadableImportExtentions().contains(PathUtils.getFileExtention(filePath))) throw new UnsupportedOperationException(filePath.toString());
+
+		TlmReader.read(filePath.toString());
+	}
+
 	@Override
 	public HashMap<String, String> getLovKeyMappings(HashMap<String, String> lov2osdMap) {
 		return null;
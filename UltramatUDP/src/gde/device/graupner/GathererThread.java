@@ -494,7 +494,7 @@ public class GathererThread extends Thread {
 				
 			recordSet.addPoints(this.device.convertDataBytes(points, dataBuffer));
 
-			GathererThread.this.application.updateAllTabs(false);
+			GathererThread.this.application.updateLiveTabs();
 
 			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);
@@ -192,7 +192,7 @@ public class UniLogLiveGatherer extends Thread {
 								UniLogLiveGatherer.this.device.updateVisibilityStatus(recordSet, true);
 							}
 							if (recordSet.isChildOfActiveChannel() && recordSet.equals(UniLogLiveGatherer.this.channels.getActiveChannel().getActiveRecordSet())) {
-								UniLogLiveGatherer.this.application.updateAllTabs(false);
+								UniLogLiveGatherer.this.application.updateLiveTabs();
 							}
 						}
 					}
@@ -186,7 +186,7 @@ public class UniLog2LiveGatherer extends Thread {
 						UniLog2LiveGatherer.this.device.updateVisibilityStatus(recordSet, true);
 					}
 					if (recordSet.isChildOfActiveChannel() && recordSet.equals(UniLog2LiveGatherer.this.channels.getActiveChannel().getActiveRecordSet())) {
-						UniLog2LiveGatherer.this.application.updateAllTabs(false);
+						UniLog2LiveGatherer.this.application.updateLiveTabs();
 					}
 				}
 				catch (DataInconsitsentException e) {
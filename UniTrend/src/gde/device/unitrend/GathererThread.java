@@ -176,7 +176,7 @@ public class GathererThread extends Thread {
 					}
 
 					if (recordSet.isChildOfActiveChannel() && recordSet.equals(this.channels.getActiveChannel().getActiveRecordSet())) {
-						GathererThread.this.application.updateAllTabs(false);
+						GathererThread.this.application.updateLiveTabs();
 					}
 				}
 			}
@@ -169,7 +169,7 @@ public class GathererThread extends Thread {
 						}
 					}
 
-					GathererThread.this.application.updateAllTabs(false);
+					GathererThread.this.application.updateLiveTabs();
 					
 					if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
 						this.device.updateVisibilityStatus(recordSet, true);
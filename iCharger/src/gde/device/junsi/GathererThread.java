@@ -165,7 +165,7 @@ public class GathererThread extends Thread {
 
 					if (recordSet != null) {
 						if (recordSet.size() > 0 && recordSet.isChildOfActiveChannel() && recordSet.equals(this.channels.getActiveChannel().getActiveRecordSet())) {
-							GathererThread.this.application.updateAllTabs(false);
+							GathererThread.this.application.updateLiveTabs();
 						}
 						if (measurementCount > 0 && measurementCount % 5 == 0) {
 							this.numberBatteryCells = 0;
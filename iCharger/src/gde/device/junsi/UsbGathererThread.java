@@ -418,7 +418,7 @@ public class UsbGathererThread extends Thread {
 				break;
 			}
 
-			UsbGathererThread.this.application.updateAllTabs(false);
+			UsbGathererThread.this.application.updateLiveTabs();
 
 			if (recordSet.get(0).realSize() < 3 || recordSet.get(0).realSize() % 10 == 0) {
 				this.device.updateVisibilityStatus(recordSet, true);